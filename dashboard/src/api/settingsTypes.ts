@@ -75,10 +75,10 @@ export interface SelfEvolvingPromotionConfig { mode: 'approval_gate' | 'auto_acc
 export interface SelfEvolvingBenchmarkConfig { enabled: boolean | null; harvestProductionRuns: boolean | null; autoCreateRegressionCases: boolean | null; }
 export interface SelfEvolvingHiveConfig { publishInspectionProjection: boolean | null; readonlyInspection: boolean | null; }
 export interface AutoModeConfig { enabled: boolean | null; tickIntervalSeconds: number | null; taskTimeLimitMinutes: number | null; autoStart: boolean | null; modelTier: string | null; reflectionEnabled: boolean | null; reflectionFailureThreshold: number | null; reflectionModelTier: string | null; reflectionTierPriority: boolean | null; notifyMilestones: boolean | null; }
-export interface TracingConfig { enabled: boolean | null; payloadSnapshotsEnabled: boolean | null; sessionTraceBudgetMb: number | null; maxSnapshotSizeKb: number | null; maxSnapshotsPerSpan: number | null; maxTracesPerSession: number | null; captureInboundPayloads: boolean | null; captureOutboundPayloads: boolean | null; captureToolPayloads: boolean | null; captureLlmPayloads: boolean | null; }
+export interface TracingConfig { enabled: boolean | null; payloadSnapshotsEnabled: boolean | null; sessionTraceBudgetMb: number | null; maxSnapshotSizeKb: number | null; maxSnapshotsPerSpan: number | null; maxTracesPerSession: number | null; captureInboundPayloads: boolean | null; captureOutboundPayloads: boolean | null; captureToolPayloads: boolean | null; captureLlmPayloads: boolean | null; llmPayloadSampleInterval: number | null; }
 export interface RateLimitConfig { enabled: boolean | null; userRequestsPerMinute: number | null; userRequestsPerHour: number | null; userRequestsPerDay: number | null; }
 export interface SecurityConfig { sanitizeInput: boolean | null; detectPromptInjection: boolean | null; detectCommandInjection: boolean | null; maxInputLength: number | null; allowlistEnabled: boolean | null; toolConfirmationEnabled: boolean | null; toolConfirmationTimeoutSeconds: number | null; }
-export interface McpCatalogEntry { name: string; description: string | null; command: string; env: Record<string, string>; startupTimeoutSeconds: number | null; idleTimeoutMinutes: number | null; enabled: boolean | null; }
+export interface McpCatalogEntry { name: string; description: string | null; command: string; env: Record<string, string>; startupTimeoutSeconds: number | null; idleTimeoutMinutes: number | null; poolSize: number | null; prewarm: boolean | null; enabled: boolean | null; }
 export interface McpConfig { enabled: boolean | null; defaultStartupTimeout: number | null; defaultIdleTimeout: number | null; catalog: McpCatalogEntry[]; }
 export interface CompactionConfig { enabled: boolean | null; triggerMode: 'model_ratio' | 'token_threshold' | null; modelThresholdRatio: number | null; maxContextTokens: number | null; keepLastMessages: number | null; }
 export interface ResilienceConfig { enabled: boolean | null; hotRetryMaxAttempts: number | null; hotRetryBaseDelayMs: number | null; hotRetryCapMs: number | null; l2ProviderFallbackMaxAttempts: number | null; circuitBreakerFailureThreshold: number | null; circuitBreakerWindowSeconds: number | null; circuitBreakerOpenDurationSeconds: number | null; degradationCompactContext: boolean | null; degradationCompactMinMessages: number | null; degradationDowngradeModel: boolean | null; degradationFallbackModelTier: string | null; degradationStripTools: boolean | null; coldRetryEnabled: boolean | null; coldRetryMaxAttempts: number | null; followThrough: FollowThroughConfig | null; autoProceed: AutoProceedConfig | null; }
@@ -106,6 +106,33 @@ export function McpCatalogEntryEditor({
               />
             </Form.Group>
           </Col>
+          <Col md={6}>
+            <Form.Group className="mb-2">
+              <Form.Label className="small fw-medium">Pool Size</Form.Label>
+              <Form.Control
+                size="sm"
+                type="number"
+                min={1}
+                max={8}
+                value={form.poolSize ?? 1}
+                onChange={(e) => onFormChange({ ...form, poolSize: toNullableInt(e.target.value) })}
+              />
+              <Form.Text className="text-body-secondary">
+                Server instances that may serve concurrent tool calls.
+              </Form.Text>
+            </Form.Group>
+          </Col>
+          <Col md={6}>
+            <Form.Group className="mb-2">
+              <Form.Label className="small fw-medium">Startup</Form.Label>
+              <Form.Check
+                type="switch"
+                label="Prewarm on application start"
+                checked={form.prewarm ?? false}
+                onChange={(e) => onFormChange({ ...form, prewarm: e.target.checked })}
+              />
+            </Form.Group>
+          </Col>
           <Col md={12}>
             <Form.Group className="mb-2">
               <Form.Label className="small fw-medium">Environment Variables</Form.Label>
@@ -20,6 +20,8 @@ function buildDefaultEntry(name: string): McpCatalogEntry {
     env: {},
     startupTimeoutSeconds: 30,
     idleTimeoutMinutes: 5,
+    poolSize: 1,
+    prewarm: false,
     enabled: true,
   };
 }
@@ -22,6 +22,7 @@ const config: TracingConfig = {
   captureOutboundPayloads: true,
   captureToolPayloads: true,
   captureLlmPayloads: true,
+  llmPayloadSampleInterval: 1,
 };
 
 describe('TracingTab', () => {
@@ -45,6 +46,7 @@ describe('TracingTab', () => {
           maxSnapshotSizeKb: null,
           maxSnapshotsPerSpan: null,
           maxTracesPerSession: null,
+          llmPayloadSampleInterval: null,
         }}
       />,
     );
@@ -53,5 +55,6 @@ describe('TracingTab', () => {
     expect(html).toContain('placeholder="256"');
     expect(html).toContain('placeholder="10"');
     expect(html).toContain('placeholder="100"');
+    expect(html).toContain('placeholder="1"');
   });
 });
@@ -119,6 +119,22 @@ export default function TracingTab({ config }: TracingTabProps): ReactElement {
               />
             </Form.Group>
           </Col>
+          <Col md={4}>
+            <Form.Group>
+              <Form.Label className="small fw-medium">LLM payload sample interval</Form.Label>
+              <Form.Control
+                size="sm"
+                type="number"
+                min={1}
+                value={toInputValue(form.llmPayloadSampleInterval)}
+                placeholder="1"
+                onChange={(event) => setForm({ ...form, llmPayloadSampleInterval: toNullableInt(event.target.value) })}
+              />
+              <Form.Text className="text-body-secondary">
+                Capture 1 in N successful LLM calls. Failed calls are always captured.
+              </Form.Text>
+            </Form.Group>
+          </Col>
         </Row>
 
         <div className="small text-body-secondary mb-2">
@@ -0,0 +1,74 @@
+package me.golemcore.bot.adapter.inbound.runtime;
+
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.domain.component.SkillComponent;
+import me.golemcore.bot.domain.model.RuntimeConfig;
+import me.golemcore.bot.domain.model.Skill;
+import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
+import me.golemcore.bot.domain.skills.DynamicSkillFactory;
+import me.golemcore.bot.port.outbound.McpPort;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts MCP servers marked with {@code prewarm} once the application is ready,
+ * so the first activation of their skills does not wait for process startup.
+ *
+ * <p>
+ * Covers both skills declaring {@code mcp.prewarm: true} and enabled catalog
+ * entries with {@code prewarm} set. Servers start in parallel in the
+ * background; a failed prewarm only means the skill starts lazily as before.
+ * </p>
+ */
+@Component
+@Slf4j
+public class McpPrewarmLifecycle {
+
+    private final RuntimeConfigService runtimeConfigService;
+    private final SkillComponent skillComponent;
+    private final DynamicSkillFactory dynamicSkillFactory;
+    private final McpPort mcpPort;
+
+    public McpPrewarmLifecycle(
+            RuntimeConfigService runtimeConfigService,
+            SkillComponent skillComponent,
+            DynamicSkillFactory dynamicSkillFactory,
+            McpPort mcpPort) {
+        this.runtimeConfigService = runtimeConfigService;
+        this.skillComponent = skillComponent;
+        this.dynamicSkillFactory = dynamicSkillFactory;
+        this.mcpPort = mcpPort;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!runtimeConfigService.isMcpEnabled()) {
+            return;
+        }
+        List<Skill> prewarmSkills = new ArrayList<>();
+        for (Skill skill : skillComponent.getAvailableSkills()) {
+            if (skill.hasMcp() && skill.getMcpConfig().isPrewarm()) {
+                prewarmSkills.add(skill);
+            }
+        }
+        for (RuntimeConfig.McpCatalogEntry entry : runtimeConfigService.getMcpCatalog()) {
+            boolean enabled = entry.getEnabled() == null || entry.getEnabled();
+            String skillName = dynamicSkillFactory.toSkillName(entry.getName());
+            boolean alreadyCovered = prewarmSkills.stream().anyMatch(skill -> skillName.equals(skill.getName()));
+            if (enabled && Boolean.TRUE.equals(entry.getPrewarm()) && !alreadyCovered) {
+                prewarmSkills.add(dynamicSkillFactory.materialize(entry));
+            }
+        }
+        if (prewarmSkills.isEmpty()) {
+            return;
+        }
+        log.info("[McpManager] Prewarming {} MCP servers", prewarmSkills.size());
+        for (Skill skill : prewarmSkills) {
+            mcpPort.prewarm(skill);
+        }
+    }
+}
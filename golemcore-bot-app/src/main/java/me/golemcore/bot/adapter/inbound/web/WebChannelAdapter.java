@@ -8,11 +8,11 @@ import me.golemcore.bot.domain.model.ProgressUpdate;
 import me.golemcore.bot.domain.model.RuntimeEvent;
 import me.golemcore.bot.domain.model.hive.HiveRuntimeContracts;
 import me.golemcore.bot.domain.support.StringValueSupport;
+import me.golemcore.bot.infrastructure.config.BotProperties;
 import me.golemcore.bot.port.channel.ChannelPort;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.socket.WebSocketSession;
-import reactor.core.publisher.Mono;
 
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -26,6 +26,12 @@ import java.util.function.Consumer;
 /**
  * Web ChannelPort adapter backed by reactive WebSocket sessions. Maintains a
  * registry of active WebSocket connections keyed by chatId.
+ *
+ * <p>
+ * Every connection writes through its own {@link WebSocketOutboundQueue}, so
+ * frames reach the dashboard in send order, pending frames are flushed in
+ * batches, and superseded progress and typing frames are coalesced while the
+ * socket is busy.
  */
 @Component
 @Slf4j
@@ -37,20 +43,27 @@ public class WebChannelAdapter implements ChannelPort {
     private static final String VALUE_ASSISTANT_CHUNK = "assistant_chunk";
     private static final String VALUE_ASSISTANT_DONE = "assistant_done";
     private static final String VALUE_SYSTEM_EVENT = "system_event";
+    private static final String KEY_EVENT_TYPE = "eventType";
+    private static final String EVENT_TYPE_TYPING = "typing";
+    private static final String EVENT_TYPE_PROGRESS_UPDATE = "progress_update";
 
     private final ObjectMapper objectMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final BotProperties botProperties;
 
-    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    /** Maps connectionId and bound chatIds -> outbound queue of the socket. */
+    private final Map<String, WebSocketOutboundQueue> sessions = new ConcurrentHashMap<>();
     /** Maps connectionId -> all chatIds bound during socket lifetime. */
     private final Map<String, Set<String>> connectionToChatIds = new ConcurrentHashMap<>();
     private volatile boolean running = false;
 
     public WebChannelAdapter(
             ObjectMapper objectMapper,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            BotProperties botProperties) {
         this.objectMapper = objectMapper;
         this.eventPublisher = eventPublisher;
+        this.botProperties = botProperties;
     }
 
     @Override
@@ -67,7 +80,10 @@ public class WebChannelAdapter implements ChannelPort {
     @Override
     public void stop() {
         running = false;
-        sessions.values().forEach(session -> session.close().subscribe());
+        sessions.values().stream().distinct().forEach(queue -> {
+            queue.close();
+            queue.session().close().subscribe();
+        });
         sessions.clear();
         connectionToChatIds.clear();
         log.info("[WebChannel] Stopped");
@@ -130,7 +146,7 @@ public class WebChannelAdapter implements ChannelPort {
     public CompletableFuture<Void> sendRuntimeEvent(String chatId, RuntimeEvent event) {
         Map<String, Object> payload = new LinkedHashMap<>();
         payload.put(KEY_TYPE, VALUE_SYSTEM_EVENT);
-        payload.put("eventType", HiveRuntimeContracts.EVENT_TYPE_RUNTIME_EVENT);
+        payload.put(KEY_EVENT_TYPE, HiveRuntimeContracts.EVENT_TYPE_RUNTIME_EVENT);
         payload.put("runtimeEventType", event.type().name());
         payload.put("runtimeEventTimestamp", event.timestamp().toString());
         payload.put("runtimeEventPayload", event.payload());
@@ -142,12 +158,12 @@ public class WebChannelAdapter implements ChannelPort {
     public CompletableFuture<Void> sendProgressUpdate(String chatId, ProgressUpdate update) {
         Map<String, Object> payload = new LinkedHashMap<>();
         payload.put(KEY_TYPE, VALUE_SYSTEM_EVENT);
-        payload.put("eventType", "progress_update");
+        payload.put(KEY_EVENT_TYPE, EVENT_TYPE_PROGRESS_UPDATE);
         payload.put("progressType", update.type().name().toLowerCase(java.util.Locale.ROOT));
         payload.put(KEY_TEXT, update.text());
         payload.put("progressMetadata", update.metadata());
         payload.put(KEY_SESSION_ID, chatId);
-        return sendJsonToChat(chatId, payload);
+        return sendJsonToChat(chatId, payload, EVENT_TYPE_PROGRESS_UPDATE + ":" + chatId);
     }
 
     @Override
@@ -165,24 +181,31 @@ public class WebChannelAdapter implements ChannelPort {
     public void showTyping(String chatId) {
         sendJsonToChat(chatId, Map.of(
                 KEY_TYPE, VALUE_SYSTEM_EVENT,
-                "eventType", "typing",
-                KEY_SESSION_ID, chatId));
+                KEY_EVENT_TYPE, EVENT_TYPE_TYPING,
+                KEY_SESSION_ID, chatId), EVENT_TYPE_TYPING + ":" + chatId);
     }
 
     public void registerSession(String connectionId, WebSocketSession session) {
-        sessions.put(connectionId, session);
+        BotProperties.DashboardProperties dashboard = botProperties.getDashboard();
+        sessions.put(connectionId, new WebSocketOutboundQueue(
+                session,
+                dashboard.getWebSocketOutboundQueueCapacity(),
+                dashboard.getWebSocketOutboundBatchFrames()));
     }
 
     public void deregisterSession(String connectionId) {
-        WebSocketSession disconnectedSession = sessions.remove(connectionId);
+        WebSocketOutboundQueue disconnectedQueue = sessions.remove(connectionId);
+        if (disconnectedQueue != null) {
+            disconnectedQueue.close();
+        }
         Set<String> chatIds = connectionToChatIds.remove(connectionId);
-        if (chatIds == null || chatIds.isEmpty() || disconnectedSession == null) {
+        if (chatIds == null || chatIds.isEmpty() || disconnectedQueue == null) {
             return;
         }
         for (String chatId : chatIds) {
-            WebSocketSession mappedSession = sessions.get(chatId);
-            if (Objects.equals(mappedSession, disconnectedSession)) {
-                sessions.remove(chatId, disconnectedSession);
+            WebSocketOutboundQueue mappedQueue = sessions.get(chatId);
+            if (Objects.equals(mappedQueue, disconnectedQueue)) {
+                sessions.remove(chatId, disconnectedQueue);
             }
         }
     }
@@ -191,20 +214,20 @@ public class WebChannelAdapter implements ChannelPort {
         if (StringValueSupport.isBlank(connectionId) || StringValueSupport.isBlank(chatId)) {
             return;
         }
-        WebSocketSession wsSession = sessions.get(connectionId);
-        if (wsSession == null) {
+        WebSocketOutboundQueue queue = sessions.get(connectionId);
+        if (queue == null) {
             return;
         }
         connectionToChatIds.computeIfAbsent(connectionId, key -> ConcurrentHashMap.newKeySet()).add(chatId);
-        sessions.put(chatId, wsSession);
+        sessions.put(chatId, queue);
     }
 
     public boolean hasActiveSession(String chatId) {
         if (StringValueSupport.isBlank(chatId)) {
             return false;
         }
-        WebSocketSession session = sessions.get(chatId);
-        return session != null && session.isOpen();
+        WebSocketOutboundQueue queue = sessions.get(chatId);
+        return queue != null && queue.session().isOpen();
     }
 
     @Override
@@ -218,6 +241,10 @@ public class WebChannelAdapter implements ChannelPort {
     }
 
     private CompletableFuture<Void> sendJsonToChat(String chatId, Map<String, Object> payload) {
+        return sendJsonToChat(chatId, payload, null);
+    }
+
+    private CompletableFuture<Void> sendJsonToChat(String chatId, Map<String, Object> payload, String coalesceKey) {
         if (StringValueSupport.isBlank(chatId)) {
             log.debug("[WebChannel] Skip send without chatId");
             return CompletableFuture.completedFuture(null);
@@ -228,20 +255,17 @@ public class WebChannelAdapter implements ChannelPort {
             return CompletableFuture.completedFuture(null);
         }
 
-        WebSocketSession session = sessions.get(chatId);
-        if (session == null || !session.isOpen()) {
+        WebSocketOutboundQueue queue = sessions.get(chatId);
+        if (queue == null || !queue.session().isOpen()) {
             log.debug("[WebChannel] No active session for chatId: {}", chatId);
             return CompletableFuture.completedFuture(null);
         }
 
         try {
             String json = objectMapper.writeValueAsString(payload);
-            Mono<Void> sendMono = session.send(
-                    Mono.just(session.textMessage(json)));
-            sendMono.subscribe(
-                    unused -> {
-                    },
-                    error -> log.warn("[WebChannel] Failed to send message to {}: {}", chatId, error.getMessage()));
+            if (!queue.enqueue(json, coalesceKey)) {
+                log.debug("[WebChannel] Outbound queue closed for chatId: {}", chatId);
+            }
             return CompletableFuture.completedFuture(null);
         } catch (Exception e) { // NOSONAR
             log.warn("[WebChannel] Failed to serialize message for {}: {}", chatId, e.getMessage());
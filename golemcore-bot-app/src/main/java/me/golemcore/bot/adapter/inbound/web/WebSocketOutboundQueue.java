@@ -0,0 +1,159 @@
+package me.golemcore.bot.adapter.inbound.web;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Ordered outbound frame queue for one dashboard WebSocket connection.
+ *
+ * <p>
+ * Frames are written by a single drain loop: while one {@code session.send} is
+ * in flight, new frames wait in a bounded buffer and are flushed together by
+ * the next send, so frames are never reordered or written concurrently. A frame
+ * with a coalescing key (progress updates, typing indicators) supersedes a
+ * pending frame with the same key and takes its place at the tail, so the
+ * latest state still follows every frame enqueued before it.
+ *
+ * <p>
+ * When the buffer is full, the oldest coalescible frame is dropped first; if
+ * every pending frame is a message or runtime event, the connection is closed
+ * as overloaded and the client reconnects instead of silently missing frames.
+ */
+@Slf4j
+final class WebSocketOutboundQueue {
+
+    private final WebSocketSession session;
+    private final int capacity;
+    private final int maxBatchFrames;
+    private final ArrayDeque<Frame> pending = new ArrayDeque<>();
+    private boolean draining;
+    private boolean closed;
+    private long coalescedFrames;
+
+    WebSocketOutboundQueue(WebSocketSession session, int capacity, int maxBatchFrames) {
+        this.session = session;
+        this.capacity = Math.max(1, capacity);
+        this.maxBatchFrames = Math.max(1, maxBatchFrames);
+    }
+
+    WebSocketSession session() {
+        return session;
+    }
+
+    /**
+     * Accepts a serialized frame for delivery after every frame enqueued before it.
+     *
+     * @param coalesceKey
+     *            key of the state the frame describes, or {@code null} when the
+     *            frame must always be delivered
+     * @return {@code false} when the queue is closed or had to be closed because it
+     *         overflowed
+     */
+    boolean enqueue(String json, String coalesceKey) {
+        boolean startDrain = false;
+        boolean overflow = false;
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+            if (coalesceKey != null && removePending(coalesceKey)) {
+                coalescedFrames++;
+            }
+            if (pending.size() >= capacity && !evictOldestCoalescible()) {
+                closed = true;
+                overflow = true;
+                pending.clear();
+            } else {
+                pending.addLast(new Frame(json, coalesceKey));
+                if (!draining) {
+                    draining = true;
+                    startDrain = true;
+                }
+            }
+        }
+        if (overflow) {
+            log.warn("[WebChannel] Outbound queue overflow ({} frames), closing connection {}", capacity,
+                    session.getId());
+            session.close(CloseStatus.SERVICE_OVERLOAD).subscribe();
+            return false;
+        }
+        if (startDrain) {
+            drain();
+        }
+        return true;
+    }
+
+    synchronized void close() {
+        closed = true;
+        pending.clear();
+    }
+
+    synchronized int pendingFrames() {
+        return pending.size();
+    }
+
+    synchronized long coalescedFrames() {
+        return coalescedFrames;
+    }
+
+    private void drain() {
+        List<String> batch;
+        synchronized (this) {
+            if (closed || pending.isEmpty()) {
+                draining = false;
+                return;
+            }
+            batch = new ArrayList<>(Math.min(pending.size(), maxBatchFrames));
+            while (!pending.isEmpty() && batch.size() < maxBatchFrames) {
+                batch.add(pending.pollFirst().json());
+            }
+        }
+        List<WebSocketMessage> messages = new ArrayList<>(batch.size());
+        for (String json : batch) {
+            messages.add(session.textMessage(json));
+        }
+        session.send(Flux.fromIterable(messages)).subscribe(
+                unused -> {
+                },
+                error -> {
+                    log.warn("[WebChannel] Failed to send {} frames to {}: {}", messages.size(), session.getId(),
+                            error.getMessage());
+                    drain();
+                },
+                this::drain);
+    }
+
+    private boolean removePending(String coalesceKey) {
+        Iterator<Frame> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            if (coalesceKey.equals(iterator.next().coalesceKey())) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean evictOldestCoalescible() {
+        Iterator<Frame> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().coalesceKey() != null) {
+                iterator.remove();
+                coalescedFrames++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Frame(String json, String coalesceKey) {
+    }
+}
@@ -51,9 +51,12 @@ public class WebSocketConfig {
     @Bean
     public WebSocketHandlerAdapter webSocketHandlerAdapter() {
         int maxFramePayloadLength = botProperties.getDashboard().getWebSocketMaxFramePayloadLength();
+        boolean compress = botProperties.getDashboard().isWebSocketCompressionEnabled();
         HandshakeWebSocketService service = new HandshakeWebSocketService(
                 new ReactorNettyRequestUpgradeStrategy(
-                        () -> WebsocketServerSpec.builder().maxFramePayloadLength(maxFramePayloadLength)));
+                        () -> WebsocketServerSpec.builder()
+                                .maxFramePayloadLength(maxFramePayloadLength)
+                                .compress(compress)));
         return new WebSocketHandlerAdapter(service);
     }
 }
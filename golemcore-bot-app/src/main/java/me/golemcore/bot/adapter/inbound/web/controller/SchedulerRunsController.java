@@ -2,10 +2,12 @@ package me.golemcore.bot.adapter.inbound.web.controller;
 
 import me.golemcore.bot.domain.auto.AutoRunHistoryService;
 import me.golemcore.bot.domain.support.StringValueSupport;
+import me.golemcore.bot.port.outbound.AutoRunHistoryPort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -34,7 +36,7 @@ public class SchedulerRunsController {
             @RequestParam(required = false) String taskId,
             @RequestParam(defaultValue = "20") int limit) {
         int normalizedLimit = Math.max(1, Math.min(limit, 100));
-        List<AutoRunHistoryService.RunSummary> summaries = autoRunHistoryService.listRuns(
+        List<AutoRunHistoryPort.RunSummary> summaries = autoRunHistoryService.listRuns(
                 scheduleId,
                 goalId,
                 taskId,
@@ -43,16 +45,24 @@ public class SchedulerRunsController {
     }
 
     @GetMapping("/runs/{runId}")
-    public Mono<ResponseEntity<AutoRunHistoryService.RunDetail>> getRun(@PathVariable String runId) {
+    public Mono<ResponseEntity<AutoRunHistoryPort.RunDetail>> getRun(@PathVariable String runId) {
         if (StringValueSupport.isBlank(runId)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "runId is required");
         }
 
-        AutoRunHistoryService.RunDetail detail = autoRunHistoryService.getRun(runId)
+        AutoRunHistoryPort.RunDetail detail = autoRunHistoryService.getRun(runId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Run not found"));
         return Mono.just(ResponseEntity.ok(detail));
     }
 
-    public record RunListResponse(List<AutoRunHistoryService.RunSummary> runs) {
+    @PostMapping("/runs/reindex")
+    public Mono<ResponseEntity<ReindexResponse>> reindexRuns() {
+        return Mono.just(ResponseEntity.ok(new ReindexResponse(autoRunHistoryService.rebuildIndex())));
+    }
+
+    public record RunListResponse(List<AutoRunHistoryPort.RunSummary> runs) {
+    }
+
+    public record ReindexResponse(int indexedRuns) {
     }
 }
@@ -165,10 +165,14 @@ public class SkillsController {
         if (!status.hasMcp()) {
             return Mono.just(ResponseEntity.ok(Map.of("hasMcp", false)));
         }
-        return Mono.just(ResponseEntity.ok(Map.of(
-                "hasMcp", true,
-                "running", status.running(),
-                "tools", status.tools())));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("hasMcp", true);
+        body.put("running", status.running());
+        body.put("tools", status.tools());
+        if (status.server() != null) {
+            body.put("server", status.server());
+        }
+        return Mono.just(ResponseEntity.ok(body));
     }
 
     private SkillDto toDto(Skill skill) {
@@ -9,8 +9,12 @@ import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.infrastructure.config.BotProperties;
 import me.golemcore.bot.plugin.runtime.ChannelRegistry;
 import me.golemcore.bot.port.channel.ChannelPort;
+import me.golemcore.bot.port.outbound.EmbeddingCacheStatsPort;
+import me.golemcore.bot.port.outbound.RagIngestionStatsPort;
 import me.golemcore.bot.port.outbound.RagPort;
+import me.golemcore.bot.port.outbound.RagQueryCacheStatsPort;
 import me.golemcore.bot.port.outbound.StoragePort;
+import me.golemcore.bot.port.outbound.ToolResultCacheStatsPort;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.info.BuildProperties;
 import org.springframework.boot.info.GitProperties;
@@ -44,6 +48,10 @@ public class SystemController {
     private final ObjectProvider<GitProperties> gitPropertiesProvider;
     private final DashboardLogService dashboardLogService;
     private final SelfEvolvingTacticSearchStatusPort tacticSearchStatusPort;
+    private final EmbeddingCacheStatsPort embeddingCacheStatsPort;
+    private final ToolResultCacheStatsPort toolResultCacheStatsPort;
+    private final RagIngestionStatsPort ragIngestionStatsPort;
+    private final RagQueryCacheStatsPort ragQueryCacheStatsPort;
 
     public SystemController(ChannelRegistry channelRegistry,
             BotProperties botProperties,
@@ -53,7 +61,11 @@ public class SystemController {
             ObjectProvider<BuildProperties> buildPropertiesProvider,
             ObjectProvider<GitProperties> gitPropertiesProvider,
             DashboardLogService dashboardLogService,
-            SelfEvolvingTacticSearchStatusPort tacticSearchStatusPort) {
+            SelfEvolvingTacticSearchStatusPort tacticSearchStatusPort,
+            EmbeddingCacheStatsPort embeddingCacheStatsPort,
+            ToolResultCacheStatsPort toolResultCacheStatsPort,
+            RagIngestionStatsPort ragIngestionStatsPort,
+            RagQueryCacheStatsPort ragQueryCacheStatsPort) {
         this.channelRegistry = channelRegistry;
         this.botProperties = botProperties;
         this.runtimeConfigService = runtimeConfigService;
@@ -63,6 +75,10 @@ public class SystemController {
         this.gitPropertiesProvider = gitPropertiesProvider;
         this.dashboardLogService = dashboardLogService;
         this.tacticSearchStatusPort = tacticSearchStatusPort;
+        this.embeddingCacheStatsPort = embeddingCacheStatsPort;
+        this.toolResultCacheStatsPort = toolResultCacheStatsPort;
+        this.ragIngestionStatsPort = ragIngestionStatsPort;
+        this.ragQueryCacheStatsPort = ragQueryCacheStatsPort;
     }
 
     @GetMapping("/health")
@@ -147,14 +163,65 @@ public class SystemController {
         runtime.put("userHome", System.getProperty("user.home"));
         diagnostics.put("runtime", runtime);
 
+        EmbeddingCacheStatsPort.Stats embeddingCacheStats = embeddingCacheStatsPort.stats();
+        Map<String, Object> embeddingCache = new LinkedHashMap<>();
+        embeddingCache.put("enabled", embeddingCacheStats.enabled());
+        embeddingCache.put("hits", embeddingCacheStats.hits());
+        embeddingCache.put("misses", embeddingCacheStats.misses());
+        embeddingCache.put("hitRate", embeddingCacheStats.hitRate());
+        embeddingCache.put("stores", embeddingCacheStats.stores());
+        embeddingCache.put("evictions", embeddingCacheStats.evictions());
+        embeddingCache.put("entries", embeddingCacheStats.entries());
+        embeddingCache.put("bytes", embeddingCacheStats.bytes());
+        diagnostics.put("embeddingCache", embeddingCache);
+
+        ToolResultCacheStatsPort.Stats toolResultCacheStats = toolResultCacheStatsPort.stats();
+        Map<String, Object> toolResultCache = new LinkedHashMap<>();
+        toolResultCache.put("enabled", toolResultCacheStats.enabled());
+        toolResultCache.put("hits", toolResultCacheStats.hits());
+        toolResultCache.put("misses", toolResultCacheStats.misses());
+        toolResultCache.put("hitRate", toolResultCacheStats.hitRate());
+        toolResultCache.put("stores", toolResultCacheStats.stores());
+        toolResultCache.put("invalidations", toolResultCacheStats.invalidations());
+        toolResultCache.put("expirations", toolResultCacheStats.expirations());
+        toolResultCache.put("entries", toolResultCacheStats.entries());
+        diagnostics.put("toolResultCache", toolResultCache);
+
+        RagIngestionStatsPort.Stats ragIngestionStats = ragIngestionStatsPort.stats();
+        Map<String, Object> ragIngestion = new LinkedHashMap<>();
+        ragIngestion.put("pending", ragIngestionStats.pending());
+        ragIngestion.put("inFlightBatches", ragIngestionStats.inFlightBatches());
+        ragIngestion.put("indexedDocuments", ragIngestionStats.indexedDocuments());
+        ragIngestion.put("indexedBatches", ragIngestionStats.indexedBatches());
+        ragIngestion.put("deduplicated", ragIngestionStats.deduplicated());
+        ragIngestion.put("failedBatches", ragIngestionStats.failedBatches());
+        ragIngestion.put("dropped", ragIngestionStats.dropped());
+        diagnostics.put("ragIngestion", ragIngestion);
+
+        RagQueryCacheStatsPort.Stats ragQueryCacheStats = ragQueryCacheStatsPort.stats();
+        Map<String, Object> ragQueryCache = new LinkedHashMap<>();
+        ragQueryCache.put("enabled", ragQueryCacheStats.enabled());
+        ragQueryCache.put("hits", ragQueryCacheStats.hits());
+        ragQueryCache.put("similarHits", ragQueryCacheStats.similarHits());
+        ragQueryCache.put("misses", ragQueryCacheStats.misses());
+        ragQueryCache.put("hitRate", ragQueryCacheStats.hitRate());
+        ragQueryCache.put("stores", ragQueryCacheStats.stores());
+        ragQueryCache.put("invalidations", ragQueryCacheStats.invalidations());
+        ragQueryCache.put("expirations", ragQueryCacheStats.expirations());
+        ragQueryCache.put("embeddingFailures", ragQueryCacheStats.embeddingFailures());
+        ragQueryCache.put("entries", ragQueryCacheStats.entries());
+        diagnostics.put("ragQueryCache", ragQueryCache);
+
         return Mono.just(ResponseEntity.ok(diagnostics));
     }
 
     @GetMapping("/logs")
     public Mono<ResponseEntity<LogsPageResponse>> getLogs(
             @RequestParam(required = false) Long beforeSeq,
-            @RequestParam(required = false) Integer limit) {
-        DashboardLogService.LogsSlice slice = dashboardLogService.getLogsPage(beforeSeq, limit);
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String level,
+            @RequestParam(required = false) String logger) {
+        DashboardLogService.LogsSlice slice = dashboardLogService.getLogsPage(beforeSeq, limit, level, logger);
         LogsPageResponse response = LogsPageResponse.builder()
                 .items(slice.items())
                 .oldestSeq(slice.oldestSeq())
@@ -3,7 +3,7 @@ package me.golemcore.bot.adapter.inbound.web.logstream;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import org.slf4j.LoggerFactory;
@@ -15,7 +15,7 @@ public class DashboardLogAppenderRegistrar {
     private static final String APPENDER_NAME = "DASHBOARD_LOG_STREAM";
 
     private final DashboardLogService dashboardLogService;
-    private AppenderBase<ILoggingEvent> appender;
+    private UnsynchronizedAppenderBase<ILoggingEvent> appender;
 
     public DashboardLogAppenderRegistrar(DashboardLogService dashboardLogService) {
         this.dashboardLogService = dashboardLogService;
@@ -33,7 +33,9 @@ public class DashboardLogAppenderRegistrar {
             return;
         }
 
-        appender = new AppenderBase<>() {
+        // DashboardLogService.append is lock-free, so logging threads need not
+        // serialize on the appender.
+        appender = new UnsynchronizedAppenderBase<>() {
             @Override
             protected void append(ILoggingEvent eventObject) {
                 dashboardLogService.append(eventObject);
@@ -1,5 +1,6 @@
 package me.golemcore.bot.adapter.inbound.web.logstream;
 
+import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.spi.IThrowableProxy;
 import ch.qos.logback.classic.spi.ThrowableProxyUtil;
@@ -9,29 +10,44 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Sinks;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.regex.Pattern;
 
+/**
+ * In-memory log history and live stream for the dashboard.
+ *
+ * <p>
+ * Entries live in a fixed-size ring indexed by sequence number: appending
+ * claims the next sequence and publishes the record into its slot without
+ * locking, pages are sliced by walking sequence numbers from the requested
+ * position, and live subscribers read the same ring through a per-subscriber
+ * cursor, so history and replay share one copy of every entry. Appending only
+ * bounds the raw message and exception text; secret redaction and DTO
+ * conversion run once, on the first read of an entry.
+ */
 @Service
 public class DashboardLogService {
 
     private static final int MIN_PAGE_SIZE = 1;
     private static final String TRUNCATED_SUFFIX = "... [truncated]";
+    private static final Duration LIVE_POLL_INTERVAL = Duration.ofMillis(250);
     private static final Pattern BEARER_TOKEN_PATTERN = Pattern.compile("(?i)(Bearer\\s+)[A-Za-z0-9._\\-+/=]+");
+    // A truncated entry may end inside a JSON secret value, so the closing quote
+    // is optional at the end of the text.
     private static final Pattern JSON_SECRET_PATTERN = Pattern.compile(
-            "(?i)(\"(?:api[_-]?key|token|password|secret)\"\\s*:\\s*\")([^\"]+)(\")");
+            "(?i)(\"(?:api[_-]?key|token|password|secret)\"\\s*:\\s*\")([^\"]+)(\"|$)");
     private static final Pattern KEY_VALUE_SECRET_PATTERN = Pattern.compile(
             "(?i)((?:api[_-]?key|token|password|secret)\\s*[:=]\\s*)([^\\s,;]+)");
 
-    private final Object lock = new Object();
-    private final Deque<LogEntryDto> ringBuffer;
+    private final AtomicReferenceArray<LogRecord> slots;
     private final AtomicLong sequence = new AtomicLong(0);
-    private final Sinks.Many<LogEntryDto> liveStream;
+    private final Sinks.Many<Long> appended = Sinks.many().multicast().directBestEffort();
     private final boolean enabled;
     private final int maxEntries;
     private final int defaultPageSize;
@@ -47,8 +63,7 @@ public class DashboardLogService {
         this.maxPageSize = normalizePositive(logsProperties.getMaxPageSize(), 1000);
         this.maxMessageChars = normalizePositive(logsProperties.getMaxMessageChars(), 8000);
         this.maxExceptionChars = normalizePositive(logsProperties.getMaxExceptionChars(), 16000);
-        this.ringBuffer = new ArrayDeque<>(this.maxEntries);
-        this.liveStream = Sinks.many().replay().limit(this.maxEntries);
+        this.slots = new AtomicReferenceArray<>(this.maxEntries);
     }
 
     public boolean isEnabled() {
@@ -60,44 +75,69 @@ public class DashboardLogService {
     }
 
     public LogsSlice getLogsPage(Long beforeSeq, Integer limit) {
+        return getLogsPage(beforeSeq, limit, null, null);
+    }
+
+    /**
+     * Returns up to {@code limit} entries older than {@code beforeSeq} (or the
+     * newest entries), oldest first.
+     *
+     * @param minLevel
+     *            lowest level to include, e.g. {@code WARN}; {@code null} or an
+     *            unknown level includes all entries
+     * @param loggerPrefix
+     *            logger name prefix to include; {@code null} or blank includes all
+     *            loggers
+     */
+    public LogsSlice getLogsPage(Long beforeSeq, Integer limit, String minLevel, String loggerPrefix) {
         if (!enabled) {
             return new LogsSlice(List.of(), null, null, false);
         }
 
-        int pageSize = normalizePageSize(limit);
-
-        List<LogEntryDto> snapshot;
-        synchronized (lock) {
-            snapshot = new ArrayList<>(ringBuffer);
-        }
-
-        if (snapshot.isEmpty()) {
+        long newestSeq = sequence.get();
+        long oldestSeq = oldestAvailableSeq(newestSeq);
+        if (oldestSeq > newestSeq) {
             return new LogsSlice(List.of(), null, null, false);
         }
 
-        Long oldestSeq = snapshot.get(0).getSeq();
-        Long newestSeq = snapshot.get(snapshot.size() - 1).getSeq();
+        int pageSize = normalizePageSize(limit);
+        int minLevelInt = minLevelInt(minLevel);
+        String prefix = loggerPrefix != null && !loggerPrefix.isBlank() ? loggerPrefix.trim() : null;
+        long start = beforeSeq != null ? Math.min(beforeSeq - 1, newestSeq) : newestSeq;
 
-        Deque<LogEntryDto> page = new ArrayDeque<>();
-        for (int i = snapshot.size() - 1; i >= 0 && page.size() < pageSize; i--) {
-            LogEntryDto entry = snapshot.get(i);
-            if (beforeSeq != null && entry.getSeq() >= beforeSeq) {
-                continue;
+        List<LogEntryDto> page = new ArrayList<>(Math.min(pageSize, maxEntries));
+        long seq = start;
+        for (; seq >= oldestSeq && page.size() < pageSize; seq--) {
+            LogRecord logRecord = read(seq);
+            if (logRecord != null && logRecord.matches(minLevelInt, prefix)) {
+                page.add(render(logRecord));
             }
-            page.addFirst(entry);
         }
+        Collections.reverse(page);
 
-        List<LogEntryDto> items = List.copyOf(page);
-        boolean hasMore = computeHasMore(beforeSeq, oldestSeq, items);
-        return new LogsSlice(items, oldestSeq, newestSeq, hasMore);
+        boolean hasMore = page.size() == pageSize && seq >= oldestSeq;
+        return new LogsSlice(List.copyOf(page), oldestSeq, newestSeq, hasMore);
     }
 
+    /**
+     * Streams entries with a sequence greater than {@code afterSeq}: first the ones
+     * still in the ring, then new ones as they are appended. A subscriber that
+     * falls more than a full ring behind resumes at the oldest entry still
+     * available.
+     */
     public Flux<LogEntryDto> streamAfter(long afterSeq) {
         if (!enabled) {
             return Flux.empty();
         }
-        return liveStream.asFlux()
-                .filter(entry -> entry.getSeq() > afterSeq);
+        return Flux.defer(() -> {
+            AtomicLong cursor = new AtomicLong(Math.max(0L, afterSeq));
+            Flux<Long> wakeups = Flux.merge(
+                    Flux.just(0L),
+                    appended.asFlux(),
+                    Flux.interval(LIVE_POLL_INTERVAL))
+                    .onBackpressureLatest();
+            return wakeups.concatMapIterable(ignored -> drainAfter(cursor), 1);
+        });
     }
 
     public void append(ILoggingEvent event) {
@@ -110,31 +150,93 @@ public class DashboardLogService {
             return;
         }
 
-        LogEntryDto entry = LogEntryDto.builder()
-                .seq(sequence.incrementAndGet())
-                .timestamp(Instant.ofEpochMilli(event.getTimeStamp()).toString())
-                .level(event.getLevel() != null ? event.getLevel().toString() : "INFO")
-                .logger(loggerName)
-                .thread(event.getThreadName())
-                .message(truncate(sanitize(event.getFormattedMessage()), maxMessageChars))
-                .exception(extractException(event.getThrowableProxy()))
-                .build();
+        Level level = event.getLevel() != null ? event.getLevel() : Level.INFO;
+        long seq = sequence.incrementAndGet();
+        LogRecord logRecord = new LogRecord(
+                seq,
+                event.getTimeStamp(),
+                level.toInt(),
+                level.toString(),
+                loggerName,
+                event.getThreadName(),
+                truncate(event.getFormattedMessage(), maxMessageChars),
+                extractException(event.getThrowableProxy()));
+        publish(logRecord);
+        // Best effort: a wakeup lost to a concurrent emission is picked up by the
+        // subscribers' poll interval.
+        appended.tryEmitNext(seq);
+    }
+
+    private void publish(LogRecord logRecord) {
+        int index = slotIndex(logRecord.seq);
+        LogRecord current = slots.get(index);
+        // A writer delayed by a full lap must not overwrite a newer entry.
+        while (current == null || current.seq < logRecord.seq) {
+            if (slots.compareAndSet(index, current, logRecord)) {
+                return;
+            }
+            current = slots.get(index);
+        }
+    }
+
+    private LogRecord read(long seq) {
+        LogRecord logRecord = slots.get(slotIndex(seq));
+        return logRecord != null && logRecord.seq == seq ? logRecord : null;
+    }
 
-        synchronized (lock) {
-            if (ringBuffer.size() >= maxEntries) {
-                ringBuffer.removeFirst();
+    private List<LogEntryDto> drainAfter(AtomicLong cursor) {
+        long newestSeq = sequence.get();
+        long next = Math.max(cursor.get() + 1, oldestAvailableSeq(newestSeq));
+        List<LogEntryDto> batch = new ArrayList<>();
+        while (next <= newestSeq) {
+            LogRecord logRecord = slots.get(slotIndex(next));
+            if (logRecord == null || logRecord.seq < next) {
+                // Claimed but not yet published; resume from here on the next wakeup.
+                break;
             }
-            ringBuffer.addLast(entry);
+            if (logRecord.seq == next) {
+                batch.add(render(logRecord));
+                next++;
+            } else {
+                // Lapped by writers while this subscriber was behind.
+                next = oldestAvailableSeq(sequence.get());
+            }
+        }
+        cursor.set(next - 1);
+        return batch;
+    }
+
+    private LogEntryDto render(LogRecord logRecord) {
+        LogEntryDto rendered = logRecord.rendered;
+        if (rendered == null) {
+            rendered = LogEntryDto.builder()
+                    .seq(logRecord.seq)
+                    .timestamp(Instant.ofEpochMilli(logRecord.timestampMillis).toString())
+                    .level(logRecord.level)
+                    .logger(logRecord.logger)
+                    .thread(logRecord.thread)
+                    .message(truncate(sanitize(logRecord.message), maxMessageChars))
+                    .exception(truncate(sanitize(logRecord.exception), maxExceptionChars))
+                    .build();
+            logRecord.rendered = rendered;
         }
+        return rendered;
+    }
+
+    private long oldestAvailableSeq(long newestSeq) {
+        return Math.max(1L, newestSeq - maxEntries + 1);
+    }
 
-        liveStream.tryEmitNext(entry);
+    private int slotIndex(long seq) {
+        return (int) Math.floorMod(seq, (long) maxEntries);
     }
 
-    private boolean computeHasMore(Long beforeSeq, Long oldestSeq, List<LogEntryDto> items) {
-        if (items.isEmpty()) {
-            return beforeSeq != null && oldestSeq != null && oldestSeq < beforeSeq;
+    private int minLevelInt(String minLevel) {
+        if (minLevel == null || minLevel.isBlank()) {
+            return Level.ALL_INT;
         }
-        return oldestSeq != null && oldestSeq < items.get(0).getSeq();
+        Level level = Level.toLevel(minLevel.trim(), null);
+        return level != null ? level.toInt() : Level.ALL_INT;
     }
 
     private int normalizePageSize(Integer requested) {
@@ -153,7 +255,7 @@ public class DashboardLogService {
         if (throwableProxy == null) {
             return null;
         }
-        return truncate(sanitize(ThrowableProxyUtil.asString(throwableProxy)), maxExceptionChars);
+        return truncate(ThrowableProxyUtil.asString(throwableProxy), maxExceptionChars);
     }
 
     private String sanitize(String input) {
@@ -176,4 +278,38 @@ public class DashboardLogService {
 
     public record LogsSlice(List<LogEntryDto> items, Long oldestSeq, Long newestSeq, boolean hasMore) {
     }
+
+    /**
+     * One ring slot: the raw, size-bounded event fields plus the redacted DTO,
+     * rendered on first read.
+     */
+    private static final class LogRecord {
+
+        private final long seq;
+        private final long timestampMillis;
+        private final int levelInt;
+        private final String level;
+        private final String logger;
+        private final String thread;
+        private final String message;
+        private final String exception;
+        private volatile LogEntryDto rendered;
+
+        private LogRecord(long seq, long timestampMillis, int levelInt, String level, String logger, String thread,
+                String message, String exception) {
+            this.seq = seq;
+            this.timestampMillis = timestampMillis;
+            this.levelInt = levelInt;
+            this.level = level;
+            this.logger = logger;
+            this.thread = thread;
+            this.message = message;
+            this.exception = exception;
+        }
+
+        private boolean matches(int minLevelInt, String loggerPrefix) {
+            return levelInt >= minLevelInt
+                    && (loggerPrefix == null || (logger != null && logger.startsWith(loggerPrefix)));
+        }
+    }
 }
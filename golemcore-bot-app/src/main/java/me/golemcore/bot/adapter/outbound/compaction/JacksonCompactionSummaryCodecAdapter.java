@@ -0,0 +1,48 @@
+package me.golemcore.bot.adapter.outbound.compaction;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.port.outbound.CompactionSummaryCodecPort;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JacksonCompactionSummaryCodecAdapter implements CompactionSummaryCodecPort {
+
+    private static final TypeReference<List<Message>> MESSAGE_LIST = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    public JacksonCompactionSummaryCodecAdapter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String encode(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception exception) {
+            throw new IllegalStateException("Failed to encode compaction summary", exception);
+        }
+    }
+
+    @Override
+    public <T> T decode(String payload, Class<T> targetType) {
+        try {
+            return objectMapper.readValue(payload, targetType);
+        } catch (Exception exception) {
+            throw new IllegalArgumentException("Failed to decode compaction summary", exception);
+        }
+    }
+
+    @Override
+    public List<Message> decodeMessages(String payload) {
+        try {
+            return objectMapper.readValue(payload, MESSAGE_LIST);
+        } catch (Exception exception) {
+            throw new IllegalArgumentException("Failed to decode compacted messages", exception);
+        }
+    }
+}
@@ -35,6 +35,24 @@ public class BotPropertiesSettingsAdapter
         return new MemorySettings(properties != null ? properties.getDirectory() : null);
     }
 
+    @Override
+    public VectorSettings vector() {
+        BotProperties.MemoryProperties properties = botProperties.getMemory();
+        if (properties == null || properties.getVector() == null) {
+            return VectorSettings.disabled();
+        }
+        BotProperties.MemoryVectorProperties vector = properties.getVector();
+        return new VectorSettings(
+                vector.isEnabled(),
+                vector.getEmbeddingProvider(),
+                vector.getEmbeddingBaseUrl(),
+                vector.getEmbeddingApiKey(),
+                vector.getEmbeddingModel(),
+                vector.getEmbeddingDimensions(),
+                vector.getEmbeddingTimeoutMs(),
+                vector.getMaxCandidates());
+    }
+
     @Override
     public SkillSettings skills() {
         BotProperties.SkillsProperties properties = botProperties.getSkills();
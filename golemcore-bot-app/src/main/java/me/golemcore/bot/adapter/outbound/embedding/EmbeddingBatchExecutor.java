@@ -0,0 +1,152 @@
+package me.golemcore.bot.adapter.outbound.embedding;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import me.golemcore.bot.domain.context.layer.TokenEstimator;
+import me.golemcore.bot.port.outbound.EmbeddingPort;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Splits large embedding inputs into sub-batches bounded by input count and
+ * estimated tokens, runs them on a small shared pool and reassembles the
+ * vectors in input order.
+ *
+ * <p>
+ * The pool size caps how many sub-batch requests a client has in flight across
+ * all callers. A request that fits a single batch runs on the caller thread.
+ */
+final class EmbeddingBatchExecutor implements AutoCloseable {
+
+    static final int DEFAULT_MAX_INPUTS_PER_BATCH = 64;
+    static final int DEFAULT_MAX_TOKENS_PER_BATCH = 8000;
+    static final int DEFAULT_MAX_CONCURRENT_BATCHES = 4;
+
+    private final int maxInputsPerBatch;
+    private final int maxTokensPerBatch;
+    private final ExecutorService executor;
+
+    EmbeddingBatchExecutor(String threadName) {
+        this(threadName, DEFAULT_MAX_INPUTS_PER_BATCH, DEFAULT_MAX_TOKENS_PER_BATCH,
+                DEFAULT_MAX_CONCURRENT_BATCHES);
+    }
+
+    EmbeddingBatchExecutor(String threadName, int maxInputsPerBatch, int maxTokensPerBatch,
+            int maxConcurrentBatches) {
+        if (maxInputsPerBatch < 1 || maxTokensPerBatch < 1 || maxConcurrentBatches < 1) {
+            throw new IllegalArgumentException("Embedding batch limits must be positive");
+        }
+        this.maxInputsPerBatch = maxInputsPerBatch;
+        this.maxTokensPerBatch = maxTokensPerBatch;
+        this.executor = Executors.newFixedThreadPool(maxConcurrentBatches, runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Embeds {@code inputs}, issuing one {@code call} per sub-batch.
+     */
+    EmbeddingPort.EmbeddingResponse execute(List<String> inputs, BatchCall call) throws IOException {
+        List<List<String>> batches = partition(inputs);
+        if (batches.size() <= 1) {
+            return call.embed(inputs);
+        }
+        List<Future<EmbeddingPort.EmbeddingResponse>> futures = new ArrayList<>(batches.size());
+        for (List<String> batch : batches) {
+            futures.add(executor.submit(() -> call.embed(batch)));
+        }
+        String model = null;
+        List<float[]> vectors = new ArrayList<>(inputs.size());
+        try {
+            for (int i = 0; i < batches.size(); i++) {
+                EmbeddingPort.EmbeddingResponse response = await(futures.get(i));
+                if (response.vectors().size() != batches.get(i).size()) {
+                    throw new IllegalStateException("Embedding response size mismatch");
+                }
+                if (model == null) {
+                    model = response.model();
+                }
+                vectors.addAll(response.vectors());
+            }
+        } finally {
+            for (Future<EmbeddingPort.EmbeddingResponse> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return new EmbeddingPort.EmbeddingResponse(model, vectors);
+    }
+
+    List<List<String>> partition(List<String> inputs) {
+        List<List<String>> batches = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int currentTokens = 0;
+        for (String input : inputs) {
+            int tokens = TokenEstimator.estimate(input);
+            boolean full = current.size() >= maxInputsPerBatch || currentTokens + tokens > maxTokensPerBatch;
+            if (!current.isEmpty() && full) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(input);
+            currentTokens += tokens;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private EmbeddingPort.EmbeddingResponse await(Future<EmbeddingPort.EmbeddingResponse> future)
+            throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for embeddings", exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Embedding batch failed", cause);
+        }
+    }
+
+    @FunctionalInterface
+    interface BatchCall {
+        EmbeddingPort.EmbeddingResponse embed(List<String> inputs) throws IOException;
+    }
+}
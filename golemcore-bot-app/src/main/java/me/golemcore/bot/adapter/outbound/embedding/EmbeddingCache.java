@@ -0,0 +1,265 @@
+package me.golemcore.bot.adapter.outbound.embedding;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.infrastructure.config.BotProperties;
+import me.golemcore.bot.port.outbound.EmbeddingCacheStatsPort;
+import me.golemcore.bot.port.outbound.EmbeddingPort;
+import me.golemcore.bot.port.outbound.StoragePort;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Content-addressed cache of embedding vectors shared by the embedding clients.
+ *
+ * <p>
+ * Entries are keyed by a SHA-256 of the provider, model, requested dimensions
+ * and input text, so identical text is embedded once no matter which subsystem
+ * asks for it. Vectors are kept in an LRU map bounded by
+ * {@code bot.embeddings.cache.max-size-mb} and appended to
+ * {@code cache/embeddings/vectors.log}; the log is replayed lazily on first use
+ * and rewritten once it holds mostly evicted or superseded lines. A restart
+ * therefore only pays for text that changed.
+ */
+@Component
+@Slf4j
+public class EmbeddingCache implements EmbeddingCacheStatsPort {
+
+    static final String CACHE_DIR = "cache";
+    static final String LOG_PATH = "embeddings/vectors.log";
+
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+    private static final int MIN_COMPACT_LINES = 1024;
+
+    private final StoragePort storagePort;
+    private final BotProperties.EmbeddingCacheProperties properties;
+
+    private final LinkedHashMap<String, float[]> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long residentBytes;
+    private int logLines;
+    private boolean loaded;
+    private long hits;
+    private long misses;
+    private long stores;
+    private long evictions;
+
+    public EmbeddingCache(StoragePort storagePort, BotProperties botProperties) {
+        this.storagePort = storagePort;
+        this.properties = botProperties.getEmbeddings().getCache();
+    }
+
+    /**
+     * Returns vectors for {@code request}, calling {@code loader} only for inputs
+     * that are not cached. Duplicate misses are embedded once and the result keeps
+     * the input order.
+     */
+    EmbeddingPort.EmbeddingResponse embed(String provider, EmbeddingPort.EmbeddingRequest request,
+            EmbeddingBatchExecutor.BatchCall loader) throws IOException {
+        List<String> inputs = request.inputs();
+        if (!properties.isEnabled() || inputs == null || inputs.isEmpty()) {
+            return loader.embed(inputs);
+        }
+        String namespace = provider + '\n' + request.model() + '\n' + request.dimensions() + '\n';
+        List<String> keys = new ArrayList<>(inputs.size());
+        for (String input : inputs) {
+            keys.add(key(namespace, input));
+        }
+
+        float[][] vectors = new float[inputs.size()][];
+        Map<String, Integer> missIndexes = new LinkedHashMap<>();
+        List<String> missInputs = new ArrayList<>();
+        synchronized (this) {
+            ensureLoaded();
+            for (int i = 0; i < inputs.size(); i++) {
+                float[] cached = entries.get(keys.get(i));
+                if (cached != null) {
+                    vectors[i] = cached.clone();
+                    hits++;
+                    continue;
+                }
+                misses++;
+                if (missIndexes.putIfAbsent(keys.get(i), missInputs.size()) == null) {
+                    missInputs.add(inputs.get(i));
+                }
+            }
+        }
+        if (missInputs.isEmpty()) {
+            return new EmbeddingPort.EmbeddingResponse(request.model(), Arrays.asList(vectors));
+        }
+
+        EmbeddingPort.EmbeddingResponse fetched = loader.embed(missInputs);
+        if (fetched == null || fetched.vectors() == null || fetched.vectors().size() != missInputs.size()) {
+            throw new IllegalStateException("Embedding response size mismatch");
+        }
+        for (int i = 0; i < inputs.size(); i++) {
+            if (vectors[i] == null) {
+                vectors[i] = fetched.vectors().get(missIndexes.get(keys.get(i)));
+            }
+        }
+        List<String> missKeys = new ArrayList<>(missIndexes.keySet());
+        store(missKeys, fetched.vectors());
+        return new EmbeddingPort.EmbeddingResponse(fetched.model(), Arrays.asList(vectors));
+    }
+
+    @Override
+    public synchronized Stats stats() {
+        return new Stats(properties.isEnabled(), hits, misses, stores, evictions, entries.size(), residentBytes);
+    }
+
+    private synchronized void store(List<String> keys, List<float[]> vectors) {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < keys.size(); i++) {
+            float[] vector = vectors.get(i);
+            if (vector == null || vector.length == 0) {
+                continue;
+            }
+            put(keys.get(i), vector.clone());
+            lines.append(keys.get(i)).append('\t').append(encode(vector)).append('\n');
+            logLines++;
+            stores++;
+        }
+        evictOverflow();
+        if (lines.isEmpty()) {
+            return;
+        }
+        try {
+            if (logLines > Math.max(MIN_COMPACT_LINES, entries.size() * 2)) {
+                compact();
+            } else {
+                storagePort.appendText(CACHE_DIR, LOG_PATH, lines.toString()).join();
+            }
+        } catch (RuntimeException e) { // NOSONAR - the cache is an optimization, never fail an embedding call
+            log.warn("[Embeddings] Failed to persist embedding cache: {}", e.getMessage());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        try {
+            String content = storagePort.getText(CACHE_DIR, LOG_PATH).join();
+            if (content == null || content.isEmpty()) {
+                return;
+            }
+            replay(content);
+        } catch (RuntimeException e) { // NOSONAR - an unreadable cache only costs re-embedding
+            entries.clear();
+            residentBytes = 0;
+            log.debug("[Embeddings] Ignoring unreadable embedding cache: {}", e.getMessage());
+        }
+    }
+
+    private void replay(String content) {
+        int start = 0;
+        while (start < content.length()) {
+            int end = content.indexOf('\n', start);
+            if (end < 0) {
+                break; // torn tail from an interrupted append
+            }
+            int tab = content.indexOf('\t', start);
+            if (tab > start && tab < end) {
+                float[] vector = decode(content.substring(tab + 1, end));
+                if (vector != null) {
+                    put(content.substring(start, tab), vector);
+                }
+            }
+            logLines++;
+            start = end + 1;
+        }
+        evictOverflow();
+    }
+
+    private void compact() {
+        StringBuilder content = new StringBuilder();
+        for (Map.Entry<String, float[]> entry : entries.entrySet()) {
+            content.append(entry.getKey()).append('\t').append(encode(entry.getValue())).append('\n');
+        }
+        storagePort.putTextAtomic(CACHE_DIR, LOG_PATH, content.toString(), false).join();
+        logLines = entries.size();
+    }
+
+    private void put(String key, float[] vector) {
+        float[] previous = entries.put(key, vector);
+        if (previous != null) {
+            residentBytes -= entryBytes(previous);
+        }
+        residentBytes += entryBytes(vector);
+    }
+
+    private void evictOverflow() {
+        long maxBytes = Math.max(0L, properties.getMaxSizeMb()) * 1024L * 1024L;
+        Iterator<Map.Entry<String, float[]>> iterator = entries.entrySet().iterator();
+        while (residentBytes > maxBytes && iterator.hasNext()) {
+            residentBytes -= entryBytes(iterator.next().getValue());
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    private static long entryBytes(float[] vector) {
+        return ENTRY_OVERHEAD_BYTES + (long) vector.length * Float.BYTES;
+    }
+
+    private static String encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES);
+        buffer.asFloatBuffer().put(vector);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    private static float[] decode(String encoded) {
+        try {
+            byte[] bytes = Base64.getDecoder().decode(encoded);
+            if (bytes.length == 0 || bytes.length % Float.BYTES != 0) {
+                return null;
+            }
+            float[] vector = new float[bytes.length / Float.BYTES];
+            ByteBuffer.wrap(bytes).asFloatBuffer().get(vector);
+            return vector;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String key(String namespace, String input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(namespace.getBytes(StandardCharsets.UTF_8));
+            digest.update(String.valueOf(input).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package me.golemcore.bot.adapter.outbound.embedding;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import me.golemcore.bot.port.outbound.EmbeddingPort;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streams embedding responses straight into {@code float[]} vectors without
+ * building a JSON tree or boxing components.
+ */
+final class EmbeddingResponseParser {
+
+    private static final int INITIAL_VECTOR_CAPACITY = 256;
+
+    private EmbeddingResponseParser() {
+    }
+
+    /**
+     * Parses an Ollama {@code /api/embed} response:
+     * {@code {"model": ..., "embeddings": [[...], ...]}}.
+     */
+    static EmbeddingPort.EmbeddingResponse parseOllama(JsonParser parser, String fallbackModel) throws IOException {
+        requireObjectStart(parser);
+        String model = fallbackModel;
+        List<float[]> vectors = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("model".equals(field) && value == JsonToken.VALUE_STRING) {
+                model = parser.getText();
+            } else if ("embeddings".equals(field) && value == JsonToken.START_ARRAY) {
+                int capacity = INITIAL_VECTOR_CAPACITY;
+                while (parser.nextToken() == JsonToken.START_ARRAY) {
+                    float[] vector = readVector(parser, capacity);
+                    capacity = Math.max(vector.length, 1);
+                    vectors.add(vector);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new EmbeddingPort.EmbeddingResponse(model, vectors);
+    }
+
+    /**
+     * Parses an OpenAI-compatible {@code /embeddings} response:
+     * {@code {"model": ..., "data": [{"index": 0, "embedding": [...]}, ...]}}.
+     * Items are returned in {@code index} order when every item carries one.
+     */
+    static EmbeddingPort.EmbeddingResponse parseOpenAi(JsonParser parser, String fallbackModel) throws IOException {
+        requireObjectStart(parser);
+        String model = fallbackModel;
+        List<IndexedVector> items = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("model".equals(field) && value == JsonToken.VALUE_STRING) {
+                model = parser.getText();
+            } else if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                readOpenAiItems(parser, items);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        boolean indexed = items.stream().allMatch(item -> item.index() >= 0);
+        if (indexed) {
+            items.sort((left, right) -> Integer.compare(left.index(), right.index()));
+        }
+        List<float[]> vectors = new ArrayList<>(items.size());
+        for (IndexedVector item : items) {
+            vectors.add(item.vector());
+        }
+        return new EmbeddingPort.EmbeddingResponse(model, vectors);
+    }
+
+    private static void readOpenAiItems(JsonParser parser, List<IndexedVector> items) throws IOException {
+        int capacity = INITIAL_VECTOR_CAPACITY;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            int index = -1;
+            float[] vector = new float[0];
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("index".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                    index = parser.getIntValue();
+                } else if ("embedding".equals(field) && value == JsonToken.START_ARRAY) {
+                    vector = readVector(parser, capacity);
+                    capacity = Math.max(vector.length, 1);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            items.add(new IndexedVector(index, vector));
+        }
+    }
+
+    /**
+     * Reads the numeric array the parser is positioned on. {@code capacity} is the
+     * expected length; vectors of one response share it, so the buffer is
+     * normally returned as is.
+     */
+    private static float[] readVector(JsonParser parser, int capacity) throws IOException {
+        float[] values = new float[capacity];
+        int size = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.VALUE_NUMBER_FLOAT && token != JsonToken.VALUE_NUMBER_INT) {
+                throw new IllegalStateException("Unexpected embedding component: " + token);
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size++] = parser.getFloatValue();
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    private static void requireObjectStart(JsonParser parser) throws IOException {
+        JsonToken first = parser.nextToken();
+        if (first == null) {
+            throw new IllegalStateException("Embedding response body is empty");
+        }
+        if (first != JsonToken.START_OBJECT) {
+            throw new IllegalStateException("Embedding response is not a JSON object");
+        }
+    }
+
+    private record IndexedVector(int index, float[] vector) {
+    }
+}
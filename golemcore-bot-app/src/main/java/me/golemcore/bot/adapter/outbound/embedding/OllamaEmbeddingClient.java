@@ -18,10 +18,13 @@ package me.golemcore.bot.adapter.outbound.embedding;
  * Contact: alex@kuleshov.tech
  */
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
+import me.golemcore.bot.infrastructure.config.BotProperties;
 import me.golemcore.bot.port.outbound.EmbeddingPort;
+import me.golemcore.bot.port.outbound.EmbeddingProviderIds;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -30,12 +33,12 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Embedding client for Ollama `/api/embed`.
+ * Embedding client for Ollama `/api/embed`. Large inputs are split into
+ * sub-batches and responses are stream-parsed into {@code float[]} vectors.
  */
 @Component
 public class OllamaEmbeddingClient implements EmbeddingPort {
@@ -44,44 +47,54 @@ public class OllamaEmbeddingClient implements EmbeddingPort {
 
     private final OkHttpClient okHttpClient;
     private final ObjectMapper objectMapper;
+    private final EmbeddingCache embeddingCache;
+    private final EmbeddingBatchExecutor batchExecutor;
 
-    public OllamaEmbeddingClient(OkHttpClient okHttpClient, ObjectMapper objectMapper) {
+    public OllamaEmbeddingClient(OkHttpClient okHttpClient, ObjectMapper objectMapper, BotProperties botProperties,
+            EmbeddingCache embeddingCache) {
+        BotProperties.EmbeddingBatchProperties batch = botProperties.getEmbeddings().getBatch();
         this.okHttpClient = okHttpClient;
         this.objectMapper = objectMapper;
+        this.embeddingCache = embeddingCache;
+        this.batchExecutor = new EmbeddingBatchExecutor("ollama-embed", batch.getMaxInputs(), batch.getMaxTokens(),
+                batch.getMaxConcurrent());
     }
 
     @Override
     public EmbeddingResponse embed(EmbeddingRequest request) {
         try {
-            Map<String, Object> body = Map.of(
-                    "model", request.model(),
-                    "input", request.inputs());
-            Request httpRequest = new Request.Builder()
-                    .url(joinUrl(request.baseUrl(), "/api/embed"))
-                    .post(RequestBody.create(objectMapper.writeValueAsBytes(body), JSON))
-                    .build();
-            try (Response response = okHttpClient.newCall(httpRequest).execute()) {
-                if (!response.isSuccessful()) {
-                    throw new IllegalStateException("Embedding request failed with status " + response.code());
-                }
-                try (ResponseBody responseBody = response.body()) {
-                    JsonNode json = objectMapper.readTree(responseBody.bytes());
-                    List<List<Double>> vectors = new ArrayList<>();
-                    for (JsonNode item : json.path("embeddings")) {
-                        List<Double> vector = new ArrayList<>();
-                        for (JsonNode value : item) {
-                            vector.add(value.asDouble());
-                        }
-                        vectors.add(vector);
-                    }
-                    return new EmbeddingResponse(json.path("model").asText(request.model()), vectors);
-                }
-            }
+            return embeddingCache.embed(EmbeddingProviderIds.OLLAMA, request, misses -> batchExecutor.execute(misses,
+                    inputs -> executeEmbeddingRequest(request, inputs)));
         } catch (IOException | RuntimeException exception) {
             throw new IllegalStateException("Failed to fetch Ollama embeddings", exception);
         }
     }
 
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.close();
+    }
+
+    private EmbeddingResponse executeEmbeddingRequest(EmbeddingRequest request, List<String> inputs)
+            throws IOException {
+        Map<String, Object> body = Map.of(
+                "model", request.model(),
+                "input", inputs);
+        Request httpRequest = new Request.Builder()
+                .url(joinUrl(request.baseUrl(), "/api/embed"))
+                .post(RequestBody.create(objectMapper.writeValueAsBytes(body), JSON))
+                .build();
+        try (Response response = okHttpClient.newCall(httpRequest).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IllegalStateException("Embedding request failed with status " + response.code());
+            }
+            try (ResponseBody responseBody = response.body();
+                    JsonParser parser = objectMapper.getFactory().createParser(responseBody.byteStream())) {
+                return EmbeddingResponseParser.parseOllama(parser, request.model());
+            }
+        }
+    }
+
     private String joinUrl(String baseUrl, String path) {
         String normalizedBase = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
         return normalizedBase + path;
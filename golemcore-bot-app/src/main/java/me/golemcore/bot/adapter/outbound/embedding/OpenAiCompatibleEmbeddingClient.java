@@ -18,9 +18,12 @@ package me.golemcore.bot.adapter.outbound.embedding;
  * Contact: alex@kuleshov.tech
  */
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import me.golemcore.bot.infrastructure.config.BotProperties;
 import me.golemcore.bot.port.outbound.EmbeddingPort;
+import me.golemcore.bot.port.outbound.EmbeddingProviderIds;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -30,12 +33,13 @@ import okhttp3.ResponseBody;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Embedding client for OpenAI-compatible `/embeddings` APIs.
+ * Embedding client for OpenAI-compatible `/embeddings` APIs. Large inputs are
+ * split into sub-batches and responses are stream-parsed into {@code float[]}
+ * vectors.
  */
 @Component
 public class OpenAiCompatibleEmbeddingClient implements EmbeddingPort {
@@ -44,25 +48,39 @@ public class OpenAiCompatibleEmbeddingClient implements EmbeddingPort {
 
     private final OkHttpClient okHttpClient;
     private final ObjectMapper objectMapper;
+    private final EmbeddingCache embeddingCache;
+    private final EmbeddingBatchExecutor batchExecutor;
 
-    public OpenAiCompatibleEmbeddingClient(OkHttpClient okHttpClient, ObjectMapper objectMapper) {
+    public OpenAiCompatibleEmbeddingClient(OkHttpClient okHttpClient, ObjectMapper objectMapper,
+            BotProperties botProperties, EmbeddingCache embeddingCache) {
+        BotProperties.EmbeddingBatchProperties batch = botProperties.getEmbeddings().getBatch();
         this.okHttpClient = okHttpClient;
         this.objectMapper = objectMapper;
+        this.embeddingCache = embeddingCache;
+        this.batchExecutor = new EmbeddingBatchExecutor("openai-embed", batch.getMaxInputs(), batch.getMaxTokens(),
+                batch.getMaxConcurrent());
     }
 
     @Override
     public EmbeddingResponse embed(EmbeddingRequest request) {
         try {
-            return executeEmbeddingRequest(request);
+            return embeddingCache.embed(EmbeddingProviderIds.OPENAI, request, misses -> batchExecutor.execute(misses,
+                    inputs -> executeEmbeddingRequest(request, inputs)));
         } catch (IOException exception) {
             throw new IllegalStateException("Failed to fetch OpenAI-compatible embeddings", exception);
         }
     }
 
-    private EmbeddingResponse executeEmbeddingRequest(EmbeddingRequest request) throws IOException {
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.close();
+    }
+
+    private EmbeddingResponse executeEmbeddingRequest(EmbeddingRequest request, List<String> inputs)
+            throws IOException {
         Map<String, Object> body = new java.util.LinkedHashMap<>();
         body.put("model", request.model());
-        body.put("input", request.inputs());
+        body.put("input", inputs);
         if (request.dimensions() != null) {
             body.put("dimensions", request.dimensions());
         }
@@ -76,21 +94,9 @@ public class OpenAiCompatibleEmbeddingClient implements EmbeddingPort {
             if (!response.isSuccessful()) {
                 throw new IllegalStateException("Embedding request failed with status " + response.code());
             }
-            try (ResponseBody responseBody = response.body()) {
-                byte[] responseBytes = responseBody.bytes();
-                if (responseBytes.length == 0) {
-                    throw new IllegalStateException("Embedding response body is empty");
-                }
-                JsonNode json = objectMapper.readTree(responseBytes);
-                List<List<Double>> vectors = new ArrayList<>();
-                for (JsonNode item : json.path("data")) {
-                    List<Double> vector = new ArrayList<>();
-                    for (JsonNode value : item.path("embedding")) {
-                        vector.add(value.asDouble());
-                    }
-                    vectors.add(vector);
-                }
-                return new EmbeddingResponse(json.path("model").asText(request.model()), vectors);
+            try (ResponseBody responseBody = response.body();
+                    JsonParser parser = objectMapper.getFactory().createParser(responseBody.byteStream())) {
+                return EmbeddingResponseParser.parseOpenAi(parser, request.model());
             }
         }
     }
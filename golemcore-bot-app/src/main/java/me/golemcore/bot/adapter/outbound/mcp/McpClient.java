@@ -387,6 +387,13 @@ public class McpClient implements Closeable {
         return lastActivityTimestamp.get();
     }
 
+    /**
+     * Number of requests sent to the server that are still awaiting a response.
+     */
+    public int getInFlightRequests() {
+        return pendingRequests.size();
+    }
+
     public List<ToolDefinition> getCachedTools() {
         return cachedTools != null ? cachedTools : List.of();
     }
@@ -20,6 +20,7 @@ package me.golemcore.bot.adapter.outbound.mcp;
 
 import me.golemcore.bot.domain.component.ToolComponent;
 import me.golemcore.bot.domain.model.McpConfig;
+import me.golemcore.bot.domain.model.McpServerStatus;
 import me.golemcore.bot.domain.model.Skill;
 import me.golemcore.bot.domain.model.ToolDefinition;
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
@@ -29,23 +30,38 @@ import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Manages MCP client lifecycles — pool of McpClient instances keyed by skill
- * name.
+ * Manages MCP client lifecycles — a pool of McpClient instances per skill.
  *
  * <p>
  * This manager provides:
  * <ul>
- * <li>Lazy startup: MCP servers are only started when a skill is activated
- * <li>Idle timeout: Servers are stopped after N minutes of inactivity
+ * <li>Lazy startup: MCP servers are started when a skill is activated, or at
+ * application start for skills with {@code prewarm} enabled
+ * <li>Per-skill startup: servers of different skills start concurrently, and
+ * concurrent activations of one skill share a single start
+ * <li>Tool list cache: {@code tools/list} results are persisted by
+ * {@link McpToolListCache}; on a hit the skill's tools are returned at once
+ * while the server starts in the background
+ * <li>Instance pools: tool calls go to the least busy instance, and a new
+ * instance is started in the background while every instance is busy, up to
+ * {@code pool_size}
+ * <li>Startup metrics: start latency, failures and cache hits per skill
+ * <li>Idle timeout: Servers are stopped after N minutes of inactivity, except
+ * prewarmed ones, which stay up until they exit or the skill is stopped
  * <li>Tool name tracking: Maps skill names to MCP tool names for cleanup
  * <li>@PreDestroy shutdown: Stops all clients on application shutdown
  * </ul>
@@ -71,6 +87,7 @@ import java.util.concurrent.TimeUnit;
  * </ul>
  *
  * @see McpClient
+ * @see McpServerPool
  * @see McpToolAdapter
  * @see me.golemcore.bot.domain.system.ContextBuildingSystem
  */
@@ -80,25 +97,37 @@ public class McpClientManager implements McpPort {
 
     private final RuntimeConfigService runtimeConfigService;
     private final ObjectMapper objectMapper;
+    private final McpToolListCache toolListCache;
 
-    private final Map<String, McpClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, McpServerPool> pools = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<McpServerPool>> startups = new ConcurrentHashMap<>();
     private final Map<String, List<String>> skillToolNames = new ConcurrentHashMap<>();
+    private final Map<String, StartupMetrics> metrics = new ConcurrentHashMap<>();
+    private final Map<String, Long> stopGenerations = new ConcurrentHashMap<>();
+    // Guards publishing pools and instances against a concurrent stopClient
+    private final Object lifecycleLock = new Object();
     private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
         Thread t = new Thread(r, "mcp-idle-check");
         t.setDaemon(true);
         return t;
     });
+    private final ExecutorService startExecutor = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "mcp-start");
+        t.setDaemon(true);
+        return t;
+    });
 
-    public McpClientManager(RuntimeConfigService runtimeConfigService, ObjectMapper objectMapper) {
+    public McpClientManager(RuntimeConfigService runtimeConfigService, ObjectMapper objectMapper,
+            McpToolListCache toolListCache) {
         this.runtimeConfigService = runtimeConfigService;
         this.objectMapper = objectMapper;
+        this.toolListCache = toolListCache;
 
         // Schedule idle check every 60 seconds
         scheduler.scheduleAtFixedRate(this::checkIdleClients, 60, 60, TimeUnit.SECONDS);
     }
 
     @Override
-    @SuppressWarnings("PMD.CloseResource")
     public List<ToolDefinition> getOrStartClient(Skill skill) {
         if (!runtimeConfigService.isMcpEnabled()) {
             return List.of();
@@ -108,52 +137,84 @@ public class McpClientManager implements McpPort {
             return List.of();
         }
 
-        McpClient existing = clients.get(skill.getName());
-        if (existing != null && existing.isRunning()) {
-            return existing.getCachedTools();
+        String skillName = skill.getName();
+        McpServerPool existing = pools.get(skillName);
+        if (existing != null && existing.hasRunningInstance()) {
+            return existing.tools();
         }
 
-        // Start a new client
-        synchronized (this) {
-            // Double-check after lock
-            existing = clients.get(skill.getName());
-            if (existing != null && existing.isRunning()) {
-                return existing.getCachedTools();
-            }
-
-            // Close stale client if it exists but isn't running
-            if (existing != null) {
-                existing.close();
-                clients.remove(skill.getName());
-            }
+        McpConfig config = applyDefaults(skill.getMcpConfig());
+        String fingerprint = toolListCache.fingerprint(config);
+        Optional<List<ToolDefinition>> cachedTools = toolListCache.get(fingerprint);
+        CompletableFuture<McpServerPool> startup = startAsync(skillName, config, fingerprint);
+        if (cachedTools.isPresent()) {
+            List<ToolDefinition> tools = cachedTools.get();
+            skillToolNames.put(skillName, tools.stream().map(ToolDefinition::getName).toList());
+            metricsFor(skillName).cacheHits.incrementAndGet();
+            log.info("[McpManager] Activated skill '{}' from cached tool list ({} tools), server starting",
+                    skillName, tools.size());
+            return tools;
+        }
 
-            McpConfig config = applyDefaults(skill.getMcpConfig());
-            McpClient client = new McpClient(skill.getName(), config, objectMapper);
+        try {
+            return startup.join().tools();
+        } catch (CompletionException e) {
+            return List.of();
+        }
+    }
 
-            try {
-                List<ToolDefinition> tools = client.start();
-                clients.put(skill.getName(), client);
-                skillToolNames.put(skill.getName(), tools.stream().map(ToolDefinition::getName).toList());
-                log.info("[McpManager] Started client for skill '{}', {} tools", skill.getName(), tools.size());
-                return tools;
-            } catch (Exception e) {
-                log.error("[McpManager] Failed to start MCP client for skill '{}': {}", skill.getName(), e.getMessage(),
-                        e);
-                client.close();
-                return List.of();
-            }
+    @Override
+    public void prewarm(Skill skill) {
+        if (!runtimeConfigService.isMcpEnabled() || !skill.hasMcp()) {
+            return;
+        }
+        McpServerPool existing = pools.get(skill.getName());
+        if (existing != null && existing.hasRunningInstance()) {
+            return;
         }
+        McpConfig config = applyDefaults(skill.getMcpConfig());
+        log.info("[McpManager] Prewarming MCP server for skill '{}'", skill.getName());
+        startAsync(skill.getName(), config, toolListCache.fingerprint(config));
     }
 
     /**
-     * Get a running client by skill name.
+     * Get the least busy running client by skill name.
      */
     public Optional<McpClient> getClient(String skillName) {
-        McpClient client = clients.get(skillName);
-        if (client != null && client.isRunning()) {
-            return Optional.of(client);
+        McpServerPool pool = pools.get(skillName);
+        if (pool == null) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        Optional<McpClient> client = pool.leastBusy();
+        if (client.isPresent() && pool.tryBeginGrowth()) {
+            growAsync(pool);
+        }
+        return client;
+    }
+
+    /**
+     * Get a client for a tool call, waiting for a server start that is in progress
+     * (e.g. after activation from the cached tool list).
+     */
+    CompletableFuture<Optional<McpClient>> acquireClient(String skillName) {
+        Optional<McpClient> ready = getClient(skillName);
+        if (ready.isPresent()) {
+            return CompletableFuture.completedFuture(ready);
+        }
+        CompletableFuture<McpServerPool> startup = startups.get(skillName);
+        if (startup == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return startup.handle((pool, error) -> error != null ? Optional.empty() : getClient(skillName));
+    }
+
+    /**
+     * Whether tool calls for the skill can be served now or once its server start
+     * completes.
+     */
+    boolean isAvailable(String skillName) {
+        McpServerPool pool = pools.get(skillName);
+        return (pool != null && pool.hasRunningInstance()) || startups.containsKey(skillName);
     }
 
     @Override
@@ -162,13 +223,19 @@ public class McpClientManager implements McpPort {
     }
 
     @Override
-    @SuppressWarnings("PMD.CloseResource")
     public List<String> stopClient(String skillName) {
-        McpClient client = clients.remove(skillName);
-        List<String> toolNames = skillToolNames.remove(skillName);
+        McpServerPool pool;
+        List<String> toolNames;
+        synchronized (lifecycleLock) {
+            // A start that is still in flight sees the new generation and discards its pool
+            stopGenerations.merge(skillName, 1L, Long::sum);
+            startups.remove(skillName);
+            pool = pools.remove(skillName);
+            toolNames = skillToolNames.remove(skillName);
+        }
 
-        if (client != null) {
-            client.close();
+        if (pool != null) {
+            pool.close();
             log.info("[McpManager] Stopped client for skill '{}'", skillName);
         }
 
@@ -180,42 +247,185 @@ public class McpClientManager implements McpPort {
         return skillToolNames.getOrDefault(skillName, List.of());
     }
 
+    @Override
+    public Optional<McpServerStatus> getServerStatus(String skillName) {
+        StartupMetrics skillMetrics = metrics.get(skillName);
+        McpServerPool pool = pools.get(skillName);
+        if (skillMetrics == null && pool == null) {
+            return Optional.empty();
+        }
+        StartupMetrics snapshot = skillMetrics != null ? skillMetrics : new StartupMetrics();
+        long starts = snapshot.starts.get();
+        return Optional.of(new McpServerStatus(
+                pool != null && pool.hasRunningInstance(),
+                startups.containsKey(skillName) || (pool != null && pool.isGrowing()),
+                pool != null ? pool.runningInstances() : 0,
+                pool != null ? pool.poolSize() : 0,
+                pool != null ? pool.inFlightRequests() : 0,
+                starts,
+                snapshot.failures.get(),
+                snapshot.cacheHits.get(),
+                snapshot.lastStartupMillis.get(),
+                starts > 0 ? snapshot.totalStartupMillis.get() / starts : 0));
+    }
+
     @PreDestroy
     public void shutdown() {
         log.info("[McpManager] Shutting down all MCP clients");
         scheduler.shutdownNow();
+        startExecutor.shutdownNow();
         try {
             scheduler.awaitTermination(2, TimeUnit.SECONDS);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
-        for (Map.Entry<String, McpClient> entry : clients.entrySet()) {
+        for (Map.Entry<String, McpServerPool> entry : pools.entrySet()) {
             try {
                 entry.getValue().close();
             } catch (Exception e) {
                 log.warn("[McpManager] Error closing client '{}': {}", entry.getKey(), e.getMessage());
             }
         }
-        clients.clear();
+        pools.clear();
         skillToolNames.clear();
     }
 
+    /**
+     * Creates an unstarted client. Overridden in tests to avoid real processes.
+     */
+    McpClient createClient(String skillName, McpConfig config) {
+        return new McpClient(skillName, config, objectMapper);
+    }
+
+    private CompletableFuture<McpServerPool> startAsync(String skillName, McpConfig config, String fingerprint) {
+        CompletableFuture<McpServerPool> startup;
+        synchronized (lifecycleLock) {
+            long generation = stopGeneration(skillName);
+            startup = startups.computeIfAbsent(skillName, key -> CompletableFuture.supplyAsync(
+                    () -> startPool(key, config, fingerprint, generation), startExecutor));
+        }
+        startup.whenComplete((pool, error) -> {
+            startups.remove(skillName, startup);
+            if (error != null && !pools.containsKey(skillName) && !startups.containsKey(skillName)) {
+                // Drop tool names announced from the cached tool list
+                skillToolNames.remove(skillName);
+            }
+        });
+        return startup;
+    }
+
+    private McpServerPool startPool(String skillName, McpConfig config, String fingerprint, long generation) {
+        McpServerPool existing = pools.get(skillName);
+        if (existing != null && existing.hasRunningInstance()) {
+            return existing;
+        }
+        if (existing != null) {
+            // Close stale pool whose instances have all exited
+            pools.remove(skillName, existing);
+            existing.close();
+        }
+
+        McpServerPool pool = new McpServerPool(skillName, config, startInstance(skillName, config));
+        boolean stopped;
+        synchronized (lifecycleLock) {
+            stopped = stopGeneration(skillName) != generation;
+            if (!stopped) {
+                pools.put(skillName, pool);
+                skillToolNames.put(skillName, pool.tools().stream().map(ToolDefinition::getName).toList());
+            }
+        }
+        if (stopped) {
+            pool.close();
+            log.info("[McpManager] Discarded MCP server for skill '{}' stopped while starting", skillName);
+            throw new IllegalStateException("MCP server for skill " + skillName + " was stopped while starting");
+        }
+        toolListCache.put(fingerprint, pool.tools());
+        log.info("[McpManager] Started client for skill '{}', {} tools", skillName, pool.tools().size());
+        return pool;
+    }
+
+    private void growAsync(McpServerPool pool) {
+        startExecutor.execute(() -> {
+            try {
+                McpClient instance = startInstance(pool.skillName(), pool.config());
+                boolean stopped;
+                synchronized (lifecycleLock) {
+                    stopped = pools.get(pool.skillName()) != pool;
+                    if (!stopped) {
+                        pool.add(instance);
+                    }
+                }
+                if (stopped) {
+                    // The pool was stopped while the instance was starting
+                    instance.close();
+                    pool.growthFailed();
+                    return;
+                }
+                log.info("[McpManager] Added instance to pool of skill '{}' ({}/{})", pool.skillName(),
+                        pool.runningInstances(), pool.poolSize());
+            } catch (RuntimeException e) { // NOSONAR - keep serving from existing instances
+                pool.growthFailed();
+            }
+        });
+    }
+
     @SuppressWarnings("PMD.CloseResource")
-    private void checkIdleClients() {
+    private McpClient startInstance(String skillName, McpConfig config) {
+        StartupMetrics skillMetrics = metricsFor(skillName);
+        McpClient client = createClient(skillName, config);
+        long startedAt = System.nanoTime();
+        try {
+            client.start();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            skillMetrics.failures.incrementAndGet();
+            client.close();
+            throw new IllegalStateException("Interrupted while starting MCP server for skill " + skillName, e);
+        } catch (Exception e) {
+            skillMetrics.failures.incrementAndGet();
+            log.error("[McpManager] Failed to start MCP client for skill '{}': {}", skillName, e.getMessage(), e);
+            client.close();
+            throw new IllegalStateException("Failed to start MCP server for skill " + skillName, e);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        skillMetrics.starts.incrementAndGet();
+        skillMetrics.lastStartupMillis.set(elapsedMillis);
+        skillMetrics.totalStartupMillis.addAndGet(elapsedMillis);
+        log.info("[McpManager] MCP server for skill '{}' ready in {} ms", skillName, elapsedMillis);
+        return client;
+    }
+
+    private long stopGeneration(String skillName) {
+        return stopGenerations.getOrDefault(skillName, 0L);
+    }
+
+    private StartupMetrics metricsFor(String skillName) {
+        return metrics.computeIfAbsent(skillName, key -> new StartupMetrics());
+    }
+
+    /**
+     * Stops pools whose instances have exited or that have been idle longer than
+     * the idle timeout. Runs every 60 seconds; package-private for tests.
+     */
+    void checkIdleClients() {
         long now = System.currentTimeMillis();
         long idleTimeoutMs = TimeUnit.MINUTES.toMillis(runtimeConfigService.getMcpDefaultIdleTimeout());
 
         // Collect keys to remove to avoid ConcurrentModificationException
-        List<String> toRemove = new java.util.ArrayList<>();
+        List<String> toRemove = new ArrayList<>();
 
-        for (Map.Entry<String, McpClient> entry : clients.entrySet()) {
-            McpClient client = entry.getValue();
-            if (!client.isRunning()) {
+        for (Map.Entry<String, McpServerPool> entry : pools.entrySet()) {
+            McpServerPool pool = entry.getValue();
+            if (!pool.hasRunningInstance()) {
                 toRemove.add(entry.getKey());
                 continue;
             }
+            if (pool.config().isPrewarm()) {
+                // Prewarmed servers are kept warm for the next activation
+                continue;
+            }
 
-            long idleMs = now - client.getLastActivityTimestamp();
+            long idleMs = now - pool.lastActivityTimestamp();
             if (idleMs > idleTimeoutMs) {
                 log.info("[McpManager] Stopping idle client '{}' (idle for {}s)", entry.getKey(), idleMs / 1000);
                 toRemove.add(entry.getKey());
@@ -238,6 +448,16 @@ public class McpClientManager implements McpPort {
                 .idleTimeoutMinutes(config.getIdleTimeoutMinutes() > 0
                         ? config.getIdleTimeoutMinutes()
                         : runtimeConfigService.getMcpDefaultIdleTimeout())
+                .poolSize(config.getPoolSize())
+                .prewarm(config.isPrewarm())
                 .build();
     }
+
+    private static final class StartupMetrics {
+        private final AtomicLong starts = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong cacheHits = new AtomicLong();
+        private final AtomicLong lastStartupMillis = new AtomicLong();
+        private final AtomicLong totalStartupMillis = new AtomicLong();
+    }
 }
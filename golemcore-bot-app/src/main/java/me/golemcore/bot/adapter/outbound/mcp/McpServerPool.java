@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+package me.golemcore.bot.adapter.outbound.mcp;
+
+import me.golemcore.bot.domain.model.McpConfig;
+import me.golemcore.bot.domain.model.ToolDefinition;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Running instances of one skill's MCP server.
+ *
+ * <p>
+ * Every instance pipelines requests over its own stdio connection; the pool
+ * spreads tool calls across instances by picking the one with the fewest
+ * requests in flight, and asks {@link McpClientManager} for one more instance
+ * (up to {@link McpConfig#getPoolSize()}) when every instance is busy.
+ */
+final class McpServerPool {
+
+    static final int MAX_POOL_SIZE = 8;
+
+    private final String skillName;
+    private final McpConfig config;
+    private final List<ToolDefinition> tools;
+    private final List<McpClient> instances = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean growing = new AtomicBoolean();
+
+    McpServerPool(String skillName, McpConfig config, McpClient first) {
+        this.skillName = skillName;
+        this.config = config;
+        this.tools = first.getCachedTools();
+        this.instances.add(first);
+    }
+
+    String skillName() {
+        return skillName;
+    }
+
+    McpConfig config() {
+        return config;
+    }
+
+    List<ToolDefinition> tools() {
+        return tools;
+    }
+
+    int poolSize() {
+        return Math.clamp(config.getPoolSize(), 1, MAX_POOL_SIZE);
+    }
+
+    /**
+     * The running instance with the fewest requests in flight.
+     */
+    Optional<McpClient> leastBusy() {
+        McpClient selected = null;
+        int selectedInFlight = Integer.MAX_VALUE;
+        for (McpClient instance : instances) {
+            if (!instance.isRunning()) {
+                continue;
+            }
+            int inFlight = instance.getInFlightRequests();
+            if (inFlight < selectedInFlight) {
+                selected = instance;
+                selectedInFlight = inFlight;
+            }
+        }
+        return Optional.ofNullable(selected);
+    }
+
+    /**
+     * Claims the right to start one more instance when every running instance is
+     * busy and the pool has room. The caller must call {@link #add} or
+     * {@link #growthFailed} afterwards.
+     */
+    boolean tryBeginGrowth() {
+        int running = 0;
+        for (McpClient instance : instances) {
+            if (instance.isRunning()) {
+                if (instance.getInFlightRequests() == 0) {
+                    return false;
+                }
+                running++;
+            }
+        }
+        return running > 0 && running < poolSize() && growing.compareAndSet(false, true);
+    }
+
+    void add(McpClient instance) {
+        instances.removeIf(existing -> !existing.isRunning());
+        instances.add(instance);
+        growing.set(false);
+    }
+
+    void growthFailed() {
+        growing.set(false);
+    }
+
+    boolean isGrowing() {
+        return growing.get();
+    }
+
+    boolean hasRunningInstance() {
+        return instances.stream().anyMatch(McpClient::isRunning);
+    }
+
+    int runningInstances() {
+        return (int) instances.stream().filter(McpClient::isRunning).count();
+    }
+
+    int inFlightRequests() {
+        return instances.stream().mapToInt(McpClient::getInFlightRequests).sum();
+    }
+
+    long lastActivityTimestamp() {
+        return instances.stream().mapToLong(McpClient::getLastActivityTimestamp).max().orElse(0L);
+    }
+
+    void close() {
+        for (McpClient instance : instances) {
+            instance.close();
+        }
+        instances.clear();
+    }
+}
@@ -39,7 +39,9 @@ import java.util.concurrent.CompletableFuture;
  * <li>For each tool, creates McpToolAdapter instance
  * <li>{@link me.golemcore.bot.domain.system.ContextBuildingSystem} registers
  * adapters in the tool execution registry
- * <li>LLM calls tool → adapter delegates to {@link McpClient#callTool}
+ * <li>LLM calls tool → adapter delegates to {@link McpClient#callTool} on the
+ * least busy instance of the skill's server pool, waiting for a server start
+ * that is still in progress
  * <li>When skill changes, the tool execution registry unregisters adapters
  * </ol>
  *
@@ -65,17 +67,16 @@ public class McpToolAdapter implements ToolComponent {
 
     @Override
     public CompletableFuture<ToolResult> execute(Map<String, Object> parameters) {
-        return clientManager.getClient(skillName)
-                .map(client -> client.callTool(definition.getName(), parameters))
-                .orElse(CompletableFuture.completedFuture(
-                        ToolResult.failure("MCP server not running for skill: " + skillName)));
+        return clientManager.acquireClient(skillName)
+                .thenCompose(client -> client
+                        .map(running -> running.callTool(definition.getName(), parameters))
+                        .orElse(CompletableFuture.completedFuture(
+                                ToolResult.failure("MCP server not running for skill: " + skillName))));
     }
 
     @Override
     public boolean isEnabled() {
-        return clientManager.getClient(skillName)
-                .map(McpClient::isRunning)
-                .orElse(false);
+        return clientManager.isAvailable(skillName);
     }
 
     public String getSkillName() {
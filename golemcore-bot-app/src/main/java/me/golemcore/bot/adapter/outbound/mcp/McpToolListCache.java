@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+package me.golemcore.bot.adapter.outbound.mcp;
+
+import me.golemcore.bot.domain.model.McpConfig;
+import me.golemcore.bot.domain.model.ToolDefinition;
+import me.golemcore.bot.port.outbound.StoragePort;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persists {@code tools/list} results of MCP servers across restarts.
+ *
+ * <p>
+ * Entries are keyed by a fingerprint of the server command and environment, so
+ * a changed command, package version or token yields a fresh handshake instead
+ * of a stale tool list. Only the SHA-256 fingerprint and the tool definitions
+ * are stored; the command and environment values never reach the cache file. A
+ * cache hit lets {@link McpClientManager} expose a skill's tools immediately
+ * while the server process starts in the background.
+ */
+@Component
+@Slf4j
+public class McpToolListCache {
+
+    private static final String CACHE_DIR = "cache";
+    private static final String CACHE_PREFIX = "mcp-tools/";
+    private static final String CACHE_SUFFIX = ".json";
+
+    private final StoragePort storagePort;
+    private final ObjectMapper objectMapper;
+    private final Map<String, List<ToolDefinition>> memory = new ConcurrentHashMap<>();
+
+    public McpToolListCache(StoragePort storagePort, ObjectMapper objectMapper) {
+        this.storagePort = storagePort;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Fingerprint of everything that determines the tools a server exposes.
+     */
+    public String fingerprint(McpConfig config) {
+        StringBuilder source = new StringBuilder(config.getCommand() != null ? config.getCommand() : "");
+        Map<String, String> env = config.getEnv() != null ? new TreeMap<>(config.getEnv()) : Map.of();
+        for (Map.Entry<String, String> entry : env.entrySet()) {
+            source.append('\n').append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return sha256Hex(source.toString());
+    }
+
+    public Optional<List<ToolDefinition>> get(String fingerprint) {
+        List<ToolDefinition> cached = memory.get(fingerprint);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        try {
+            String json = storagePort.getText(CACHE_DIR, cachePath(fingerprint)).join();
+            if (json == null || json.isBlank()) {
+                return Optional.empty();
+            }
+            CacheEntry entry = objectMapper.readValue(json, CacheEntry.class);
+            if (!fingerprint.equals(entry.getFingerprint()) || entry.getTools() == null) {
+                return Optional.empty();
+            }
+            List<ToolDefinition> tools = entry.getTools().stream()
+                    .map(tool -> ToolDefinition.builder()
+                            .name(tool.getName())
+                            .description(tool.getDescription())
+                            .inputSchema(tool.getInputSchema())
+                            .build())
+                    .toList();
+            memory.put(fingerprint, tools);
+            return Optional.of(tools);
+        } catch (Exception e) { // NOSONAR - a broken cache entry only costs a handshake
+            log.debug("[McpManager] Ignoring unreadable tool list cache entry {}: {}", fingerprint, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(String fingerprint, List<ToolDefinition> tools) {
+        if (tools.equals(memory.get(fingerprint))) {
+            return;
+        }
+        memory.put(fingerprint, tools);
+        List<CachedTool> cachedTools = new ArrayList<>(tools.size());
+        for (ToolDefinition tool : tools) {
+            cachedTools.add(new CachedTool(tool.getName(), tool.getDescription(), tool.getInputSchema()));
+        }
+        try {
+            String json = objectMapper.writeValueAsString(new CacheEntry(fingerprint, Instant.now().toString(),
+                    cachedTools));
+            storagePort.putTextAtomic(CACHE_DIR, cachePath(fingerprint), json, false).join();
+        } catch (Exception e) { // NOSONAR - the cache is an optimization, never fail a server start
+            log.warn("[McpManager] Failed to persist tool list cache entry {}: {}", fingerprint, e.getMessage());
+        }
+    }
+
+    private String cachePath(String fingerprint) {
+        return CACHE_PREFIX + fingerprint + CACHE_SUFFIX;
+    }
+
+    private String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder builder = new StringBuilder(bytes.length * 2);
+            for (byte current : bytes) {
+                builder.append(String.format("%02x", current & 0xff));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class CacheEntry {
+        private String fingerprint;
+        private String cachedAt;
+        private List<CachedTool> tools;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class CachedTool {
+        private String name;
+        private String description;
+        private Map<String, Object> inputSchema;
+    }
+}
@@ -0,0 +1,330 @@
+package me.golemcore.bot.adapter.outbound.storage;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.domain.support.StringValueSupport;
+import me.golemcore.bot.port.outbound.AutoRunHistoryPort;
+import me.golemcore.bot.port.outbound.AutoRunHistoryPort.RunDetail;
+import me.golemcore.bot.port.outbound.AutoRunHistoryPort.RunSummary;
+import me.golemcore.bot.port.outbound.SessionCleanupPort;
+import me.golemcore.bot.port.outbound.StoragePort;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Storage-backed {@link AutoRunHistoryPort} under {@code auto/run-history}.
+ *
+ * <p>
+ * Summaries are kept in an append-only log, one JSON entry per line: an upsert
+ * carries the run summary, a removal only the run id. The log is replayed on
+ * first use and rewritten in compacted form once it holds more than twice as
+ * many entries as live runs. Each run also has a detail file under
+ * {@code run-history/runs/}. Runs of deleted sessions are removed through
+ * {@link SessionCleanupPort}.
+ */
+@Component
+@Slf4j
+public class JsonAutoRunHistoryAdapter implements AutoRunHistoryPort, SessionCleanupPort {
+
+    static final int MAX_INDEXED_RUNS = 5_000;
+
+    private static final int MIN_COMPACTION_ENTRIES = 256;
+    private static final String AUTO_DIR = "auto";
+    private static final String LOG_PATH = "run-history/index.jsonl";
+    private static final String RUNS_DIR = "run-history/runs/";
+    private static final String FILE_EXTENSION = ".json";
+    private static final Pattern UNSAFE_RUN_ID_CHARS = Pattern.compile("[^A-Za-z0-9._-]");
+    private static final Comparator<RunSummary> NEWEST_FIRST = Comparator.comparing(
+            JsonAutoRunHistoryAdapter::sortInstant, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final StoragePort storagePort;
+    private final ObjectMapper objectMapper;
+
+    private Map<String, RunSummary> summariesByRunId;
+    private int logEntries;
+
+    public JsonAutoRunHistoryAdapter(StoragePort storagePort, ObjectMapper objectMapper) {
+        this.storagePort = storagePort;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized boolean load() {
+        if (summariesByRunId != null) {
+            return true;
+        }
+        Map<String, RunSummary> stored = readLog();
+        if (stored == null) {
+            return false;
+        }
+        summariesByRunId = stored;
+        return true;
+    }
+
+    @Override
+    public synchronized List<RunSummary> list(Predicate<RunSummary> filter, int limit) {
+        return summaries().values().stream()
+                .filter(filter)
+                .sorted(NEWEST_FIRST)
+                .limit(Math.max(1, limit))
+                .toList();
+    }
+
+    @Override
+    public Optional<RunDetail> find(String runId) {
+        synchronized (this) {
+            if (!summaries().containsKey(runId)) {
+                return Optional.empty();
+            }
+        }
+        try {
+            String json = storagePort.getText(AUTO_DIR, buildRunPath(runId)).join();
+            if (json == null || json.isBlank()) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(objectMapper.readValue(json, RunDetail.class));
+        } catch (IOException | RuntimeException exception) { // NOSONAR - unreadable runs are reported as missing
+            log.warn("[AutoRunHistory] Failed to read run {}: {}", runId, exception.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public synchronized void put(RunDetail run) {
+        Map<String, RunSummary> index = summaries();
+        writeRun(run);
+        RunSummary summary = toSummary(run);
+        index.put(summary.runId(), summary);
+        List<IndexEntry> entries = new ArrayList<>();
+        entries.add(IndexEntry.upsert(summary));
+        evictOldestRuns(index).forEach(runId -> entries.add(IndexEntry.removal(runId)));
+        appendEntries(entries);
+        compactIfNeeded();
+    }
+
+    @Override
+    public synchronized void putIfAbsent(RunDetail run) {
+        if (!summaries().containsKey(run.runId())) {
+            put(run);
+        }
+    }
+
+    @Override
+    public synchronized int replaceAll(List<RunDetail> runs) {
+        Map<String, RunSummary> previous = summariesByRunId != null ? summariesByRunId : readLog();
+        Map<String, RunSummary> index = new LinkedHashMap<>();
+        for (RunDetail run : runs) {
+            writeRun(run);
+            index.put(run.runId(), toSummary(run));
+        }
+        evictOldestRuns(index);
+        if (previous != null) {
+            for (String runId : previous.keySet()) {
+                if (!index.containsKey(runId)) {
+                    deleteRun(runId);
+                }
+            }
+        }
+        summariesByRunId = index;
+        writeCompactedLog();
+        return index.size();
+    }
+
+    @Override
+    public synchronized void deleteSessionData(String sessionId) {
+        if (StringValueSupport.isBlank(sessionId) || !load()) {
+            return;
+        }
+        List<String> removed = summariesByRunId.values().stream()
+                .filter(run -> sessionId.equals(run.sessionId()))
+                .map(RunSummary::runId)
+                .toList();
+        if (removed.isEmpty()) {
+            return;
+        }
+        try {
+            for (String runId : removed) {
+                summariesByRunId.remove(runId);
+                deleteRun(runId);
+            }
+            appendEntries(removed.stream().map(IndexEntry::removal).toList());
+            compactIfNeeded();
+        } catch (RuntimeException exception) { // NOSONAR - session deletion must not fail on history cleanup
+            log.warn("[AutoRunHistory] Failed to remove runs of session {}: {}", sessionId, exception.getMessage());
+        }
+    }
+
+    private Map<String, RunSummary> summaries() {
+        if (summariesByRunId == null && !load()) {
+            summariesByRunId = new LinkedHashMap<>();
+        }
+        return summariesByRunId;
+    }
+
+    private Map<String, RunSummary> readLog() {
+        String content;
+        try {
+            content = storagePort.getText(AUTO_DIR, LOG_PATH).join();
+        } catch (RuntimeException exception) { // NOSONAR - a broken index is rebuilt
+            log.warn("[AutoRunHistory] Failed to read run index, rebuilding: {}", exception.getMessage());
+            return null;
+        }
+        if (content == null) {
+            return null;
+        }
+        Map<String, RunSummary> index = new LinkedHashMap<>();
+        int entries = 0;
+        for (String line : content.split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                IndexEntry entry = objectMapper.readValue(line, IndexEntry.class);
+                if (entry.run() != null) {
+                    index.put(entry.run().runId(), entry.run());
+                } else if (entry.removedRunId() != null) {
+                    index.remove(entry.removedRunId());
+                }
+                entries++;
+            } catch (IOException exception) {
+                // A torn trailing line from an interrupted append; earlier entries stay valid.
+                log.debug("[AutoRunHistory] Skipping unreadable index entry: {}", exception.getMessage());
+            }
+        }
+        logEntries = entries;
+        return index;
+    }
+
+    private void appendEntries(List<IndexEntry> entries) {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (IndexEntry entry : entries) {
+                lines.append(objectMapper.writeValueAsString(entry)).append('\n');
+            }
+            storagePort.appendText(AUTO_DIR, LOG_PATH, lines.toString()).join();
+        } catch (IOException | RuntimeException exception) { // NOSONAR
+            throw new IllegalStateException("Failed to append to auto run index", exception);
+        }
+        logEntries += entries.size();
+    }
+
+    private void compactIfNeeded() {
+        if (logEntries > Math.max(MIN_COMPACTION_ENTRIES, 2 * summariesByRunId.size())) {
+            writeCompactedLog();
+        }
+    }
+
+    private void writeCompactedLog() {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (RunSummary summary : summariesByRunId.values()) {
+                lines.append(objectMapper.writeValueAsString(IndexEntry.upsert(summary))).append('\n');
+            }
+            storagePort.putTextAtomic(AUTO_DIR, LOG_PATH, lines.toString(), true).join();
+        } catch (IOException | RuntimeException exception) { // NOSONAR
+            throw new IllegalStateException("Failed to persist auto run index", exception);
+        }
+        logEntries = summariesByRunId.size();
+    }
+
+    private void writeRun(RunDetail run) {
+        try {
+            String json = objectMapper.writeValueAsString(run);
+            storagePort.putTextAtomic(AUTO_DIR, buildRunPath(run.runId()), json, true).join();
+        } catch (IOException | RuntimeException exception) { // NOSONAR
+            throw new IllegalStateException("Failed to persist auto run " + run.runId(), exception);
+        }
+    }
+
+    private void deleteRun(String runId) {
+        try {
+            storagePort.deleteObject(AUTO_DIR, buildRunPath(runId)).join();
+        } catch (RuntimeException exception) { // NOSONAR - stale run files are harmless
+            log.debug("[AutoRunHistory] Failed to delete run {}: {}", runId, exception.getMessage());
+        }
+    }
+
+    private List<String> evictOldestRuns(Map<String, RunSummary> index) {
+        if (index.size() <= MAX_INDEXED_RUNS) {
+            return List.of();
+        }
+        List<RunSummary> newestFirst = index.values().stream().sorted(NEWEST_FIRST).toList();
+        List<String> evicted = new ArrayList<>();
+        for (RunSummary run : newestFirst.subList(MAX_INDEXED_RUNS, newestFirst.size())) {
+            index.remove(run.runId());
+            deleteRun(run.runId());
+            evicted.add(run.runId());
+        }
+        return evicted;
+    }
+
+    private String buildRunPath(String runId) {
+        return RUNS_DIR + UNSAFE_RUN_ID_CHARS.matcher(runId).replaceAll("_") + FILE_EXTENSION;
+    }
+
+    private static RunSummary toSummary(RunDetail run) {
+        return new RunSummary(
+                run.runId(),
+                run.sessionId(),
+                run.channelType(),
+                run.conversationKey(),
+                run.transportChatId(),
+                run.scheduleId(),
+                run.scheduleTargetType(),
+                run.scheduleTargetId(),
+                run.scheduleTargetLabel(),
+                run.scheduledTaskId(),
+                run.scheduledTaskLabel(),
+                run.goalId(),
+                run.goalLabel(),
+                run.taskId(),
+                run.taskLabel(),
+                run.status(),
+                run.messages() != null ? run.messages().size() : 0,
+                run.startedAt(),
+                run.lastActivityAt());
+    }
+
+    private static Instant sortInstant(RunSummary run) {
+        return run.lastActivityAt() != null ? run.lastActivityAt() : run.startedAt();
+    }
+
+    record IndexEntry(RunSummary run, String removedRunId) {
+
+        static IndexEntry upsert(RunSummary run) {
+            return new IndexEntry(run, null);
+        }
+
+        static IndexEntry removal(String runId) {
+            return new IndexEntry(null, runId);
+        }
+    }
+}
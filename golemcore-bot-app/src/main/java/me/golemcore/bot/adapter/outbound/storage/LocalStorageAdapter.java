@@ -27,6 +27,7 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
@@ -133,6 +134,32 @@ public class LocalStorageAdapter implements StoragePort {
         });
     }
 
+    @Override
+    public CompletableFuture<byte[]> getObjectRange(String directory, String path, long offset, int length) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Path filePath = resolvePath(directory, path);
+                if (!Files.exists(filePath)) {
+                    return null;
+                }
+                try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                    if (offset < 0 || length < 0 || offset + length > channel.size()) {
+                        throw new IllegalArgumentException("Range outside of file: " + directory + "/" + path);
+                    }
+                    ByteBuffer buffer = ByteBuffer.allocate(length);
+                    while (buffer.hasRemaining()) {
+                        if (channel.read(buffer, offset + buffer.position()) < 0) {
+                            throw new IOException("Unexpected end of file");
+                        }
+                    }
+                    return buffer.array();
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read file range: " + directory + "/" + path, e);
+            }
+        });
+    }
+
     @Override
     public CompletableFuture<String> getText(String directory, String path) {
         return getObject(directory, path).thenApply(bytes -> {
@@ -143,6 +170,21 @@ public class LocalStorageAdapter implements StoragePort {
         });
     }
 
+    @Override
+    public CompletableFuture<Long> getLastModified(String directory, String path) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Path filePath = resolvePath(directory, path);
+                if (!Files.exists(filePath)) {
+                    return null;
+                }
+                return Files.getLastModifiedTime(filePath).toMillis();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to stat file: " + directory + "/" + path, e);
+            }
+        });
+    }
+
     @Override
     public CompletableFuture<Boolean> exists(String directory, String path) {
         return CompletableFuture.supplyAsync(() -> {
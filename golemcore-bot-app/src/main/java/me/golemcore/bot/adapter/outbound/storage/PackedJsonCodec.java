@@ -0,0 +1,225 @@
+package me.golemcore.bot.adapter.outbound.storage;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary form of the JSON-like maps stored on messages and tool calls.
+ *
+ * <p>
+ * The recursive {@code JsonValue} messages in {@code session.proto} cost a
+ * nested message, a map entry and a length prefix per value, and every value is
+ * materialized as a protobuf object before being converted again. This format
+ * writes a one-byte tag per value straight from the Java map and interns object
+ * keys: the first occurrence of a key is written inline, later ones as a varint
+ * reference, so arrays of similar objects (tool arguments, attachments) store
+ * each field name once.
+ *
+ * <p>
+ * Values map exactly like the {@code JsonValue} path: integral numbers become
+ * {@link Long}, other numbers {@link Double}, and big integers that do not fit
+ * a long as well as unknown types become strings.
+ */
+final class PackedJsonCodec {
+
+    static final int FORMAT_VERSION = 1;
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_FALSE = 1;
+    private static final int TAG_TRUE = 2;
+    private static final int TAG_INT = 3;
+    private static final int TAG_DOUBLE = 4;
+    private static final int TAG_STRING = 5;
+    private static final int TAG_OBJECT = 6;
+    private static final int TAG_ARRAY = 7;
+
+    private static final int NEW_KEY = 0;
+    private static final int LONG_BIT_LENGTH = 63;
+    private static final int MAX_DEPTH = 100;
+
+    private PackedJsonCodec() {
+    }
+
+    static ByteString encode(Map<String, Object> values) {
+        ByteString.Output buffer = ByteString.newOutput();
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+            output.writeUInt32NoTag(FORMAT_VERSION);
+            new Writer(output).writeObject(values);
+            output.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode packed JSON payload", e);
+        }
+        return buffer.toByteString();
+    }
+
+    static Map<String, Object> decode(ByteString bytes) {
+        try {
+            CodedInputStream input = bytes.newCodedInput();
+            int version = input.readUInt32();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported packed JSON format version: " + version);
+            }
+            Reader reader = new Reader(input);
+            if (input.readRawByte() != TAG_OBJECT) {
+                throw new IllegalStateException("Packed JSON payload is not an object");
+            }
+            return reader.readObject(0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to decode packed JSON payload", e);
+        }
+    }
+
+    private static final class Writer {
+
+        private final CodedOutputStream output;
+        private final Map<String, Integer> keyIndexes = new HashMap<>();
+
+        private Writer(CodedOutputStream output) {
+            this.output = output;
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                output.writeRawByte(TAG_NULL);
+            } else if (value instanceof Boolean bool) {
+                output.writeRawByte(bool ? TAG_TRUE : TAG_FALSE);
+            } else if (value instanceof Byte || value instanceof Short || value instanceof Integer
+                    || value instanceof Long) {
+                writeInt(((Number) value).longValue());
+            } else if (value instanceof BigInteger bigInteger) {
+                if (bigInteger.bitLength() <= LONG_BIT_LENGTH) {
+                    writeInt(bigInteger.longValue());
+                } else {
+                    writeString(bigInteger.toString());
+                }
+            } else if (value instanceof Number number) {
+                output.writeRawByte(TAG_DOUBLE);
+                output.writeDoubleNoTag(number.doubleValue());
+            } else if (value instanceof String string) {
+                writeString(string);
+            } else if (value instanceof Map<?, ?> map) {
+                writeObject(map);
+            } else if (value instanceof List<?> list) {
+                output.writeRawByte(TAG_ARRAY);
+                output.writeUInt32NoTag(list.size());
+                for (Object item : list) {
+                    writeValue(item);
+                }
+            } else {
+                writeString(String.valueOf(value));
+            }
+        }
+
+        private void writeObject(Map<?, ?> map) throws IOException {
+            int size = 0;
+            for (Object key : map.keySet()) {
+                if (key instanceof String) {
+                    size++;
+                }
+            }
+            output.writeRawByte(TAG_OBJECT);
+            output.writeUInt32NoTag(size);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (entry.getKey() instanceof String key) {
+                    writeKey(key);
+                    writeValue(entry.getValue());
+                }
+            }
+        }
+
+        private void writeKey(String key) throws IOException {
+            Integer index = keyIndexes.get(key);
+            if (index != null) {
+                output.writeUInt32NoTag(index + 1);
+                return;
+            }
+            keyIndexes.put(key, keyIndexes.size());
+            output.writeUInt32NoTag(NEW_KEY);
+            output.writeStringNoTag(key);
+        }
+
+        private void writeInt(long value) throws IOException {
+            output.writeRawByte(TAG_INT);
+            output.writeSInt64NoTag(value);
+        }
+
+        private void writeString(String value) throws IOException {
+            output.writeRawByte(TAG_STRING);
+            output.writeStringNoTag(value);
+        }
+    }
+
+    private static final class Reader {
+
+        private final CodedInputStream input;
+        private final List<String> keys = new ArrayList<>();
+
+        private Reader(CodedInputStream input) {
+            this.input = input;
+        }
+
+        private Object readValue(int depth) throws IOException {
+            int tag = input.readRawByte();
+            return switch (tag) {
+            case TAG_NULL -> null;
+            case TAG_FALSE -> Boolean.FALSE;
+            case TAG_TRUE -> Boolean.TRUE;
+            case TAG_INT -> input.readSInt64();
+            case TAG_DOUBLE -> input.readDouble();
+            case TAG_STRING -> input.readStringRequireUtf8();
+            case TAG_OBJECT -> readObject(depth + 1);
+            case TAG_ARRAY -> readArray(depth + 1);
+            default -> throw new IllegalStateException("Unknown packed JSON value tag: " + tag);
+            };
+        }
+
+        private Map<String, Object> readObject(int depth) throws IOException {
+            checkDepth(depth);
+            int size = input.readUInt32();
+            Map<String, Object> result = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                String key = readKey();
+                result.put(key, readValue(depth));
+            }
+            return result;
+        }
+
+        private List<Object> readArray(int depth) throws IOException {
+            checkDepth(depth);
+            int size = input.readUInt32();
+            List<Object> result = new ArrayList<>(Math.min(size, 1024));
+            for (int i = 0; i < size; i++) {
+                result.add(readValue(depth));
+            }
+            return result;
+        }
+
+        private String readKey() throws IOException {
+            int reference = input.readUInt32();
+            if (reference == NEW_KEY) {
+                String key = input.readStringRequireUtf8();
+                keys.add(key);
+                return key;
+            }
+            if (reference > keys.size()) {
+                throw new IllegalStateException("Unknown packed JSON key reference: " + reference);
+            }
+            return keys.get(reference - 1);
+        }
+
+        private static void checkDepth(int depth) {
+            if (depth > MAX_DEPTH) {
+                throw new IllegalStateException("Packed JSON payload is nested too deeply");
+            }
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package me.golemcore.bot.adapter.outbound.storage;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
 import me.golemcore.bot.domain.model.AgentSession;
+import me.golemcore.bot.domain.model.Message;
 import me.golemcore.bot.port.outbound.SessionRecordCodecPort;
 import me.golemcore.bot.proto.session.v1.AgentSessionRecord;
+import me.golemcore.bot.proto.session.v1.MessageRecord;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 @Component
 public class ProtoSessionRecordCodecAdapter implements SessionRecordCodecPort {
 
@@ -23,4 +32,40 @@ public class ProtoSessionRecordCodecAdapter implements SessionRecordCodecPort {
             throw new IllegalStateException("Failed to decode persisted session record", exception);
         }
     }
+
+    /**
+     * Walks the top-level fields of the record and reports where each
+     * {@code messages} entry starts, skipping everything else without parsing it.
+     */
+    @Override
+    public Optional<List<MessageSlice>> indexMessages(byte[] bytes) {
+        List<MessageSlice> slices = new ArrayList<>();
+        try {
+            CodedInputStream input = CodedInputStream.newInstance(bytes);
+            int tag = input.readTag();
+            while (tag != 0) {
+                if (tag == WireFormat.makeTag(AgentSessionRecord.MESSAGES_FIELD_NUMBER,
+                        WireFormat.WIRETYPE_LENGTH_DELIMITED)) {
+                    int length = input.readRawVarint32();
+                    slices.add(new MessageSlice(input.getTotalBytesRead(), length));
+                    input.skipRawBytes(length);
+                } else {
+                    input.skipField(tag);
+                }
+                tag = input.readTag();
+            }
+        } catch (IOException exception) {
+            throw new IllegalStateException("Failed to index persisted session record", exception);
+        }
+        return Optional.of(slices);
+    }
+
+    @Override
+    public Message decodeMessage(byte[] bytes) {
+        try {
+            return sessionProtoMapperSupport.fromProtoMessage(MessageRecord.parseFrom(bytes));
+        } catch (Exception exception) {
+            throw new IllegalStateException("Failed to decode persisted message record", exception);
+        }
+    }
 }
@@ -324,17 +324,19 @@ final class SessionProtoMapperSupport {
                 builder.addToolCalls(toProtoToolCall(toolCall));
             }
         }
-        if (message.getMetadata() != null) {
+        if (message.getMetadata() != null && !message.getMetadata().isEmpty()) {
+            // Legacy map is still written so that a rollback to an older build keeps the metadata
             for (Map.Entry<String, Object> entry : message.getMetadata().entrySet()) {
                 if (entry.getKey() != null) {
                     builder.putMetadata(entry.getKey(), toJsonValue(entry.getValue()));
                 }
             }
+            builder.setPackedMetadata(PackedJsonCodec.encode(message.getMetadata()));
         }
         return builder.build();
     }
 
-    private Message fromProtoMessage(MessageRecord record) {
+    Message fromProtoMessage(MessageRecord record) {
         Message.MessageBuilder builder = Message.builder()
                 .id(blankToNull(record.getId()))
                 .role(blankToNull(record.getRole()))
@@ -346,7 +348,9 @@ final class SessionProtoMapperSupport {
                 .toolName(blankToNull(record.getToolName()))
                 .voiceTranscription(blankToNull(record.getVoiceTranscription()))
                 .toolCalls(fromProtoToolCalls(record.getToolCallsList()))
-                .metadata(fromProtoMap(record.getMetadataMap()));
+                .metadata(record.getPackedMetadata().isEmpty()
+                        ? fromProtoMap(record.getMetadataMap())
+                        : PackedJsonCodec.decode(record.getPackedMetadata()));
 
         if (record.hasTimestamp()) {
             builder.timestamp(fromTimestamp(record.getTimestamp()));
@@ -364,12 +368,14 @@ final class SessionProtoMapperSupport {
         ToolCallRecord.Builder builder = ToolCallRecord.newBuilder();
         putIfNotBlank(toolCall.getId(), builder::setId);
         putIfNotBlank(toolCall.getName(), builder::setName);
-        if (toolCall.getArguments() != null) {
+        if (toolCall.getArguments() != null && !toolCall.getArguments().isEmpty()) {
+            // Legacy map is still written so that a rollback to an older build keeps the arguments
             for (Map.Entry<String, Object> entry : toolCall.getArguments().entrySet()) {
                 if (entry.getKey() != null) {
                     builder.putArguments(entry.getKey(), toJsonValue(entry.getValue()));
                 }
             }
+            builder.setPackedArguments(PackedJsonCodec.encode(toolCall.getArguments()));
         }
         return builder.build();
     }
@@ -380,7 +386,9 @@ final class SessionProtoMapperSupport {
             toolCalls.add(Message.ToolCall.builder()
                     .id(blankToNull(record.getId()))
                     .name(blankToNull(record.getName()))
-                    .arguments(fromProtoMap(record.getArgumentsMap()))
+                    .arguments(record.getPackedArguments().isEmpty()
+                            ? fromProtoMap(record.getArgumentsMap())
+                            : PackedJsonCodec.decode(record.getPackedArguments()))
                     .build());
         }
         return toolCalls;
@@ -433,6 +433,8 @@ public class RuntimeSettingsValidator {
         validateNullableInteger(tracingConfig.getMaxSnapshotSizeKb(), 1, 10240, "tracing.maxSnapshotSizeKb");
         validateNullableInteger(tracingConfig.getMaxSnapshotsPerSpan(), 1, 1000, "tracing.maxSnapshotsPerSpan");
         validateNullableInteger(tracingConfig.getMaxTracesPerSession(), 1, 10000, "tracing.maxTracesPerSession");
+        validateNullableInteger(tracingConfig.getLlmPayloadSampleInterval(), 1, 10000,
+                "tracing.llmPayloadSampleInterval");
         validateNullableDouble(tracingConfig.getResiliencePayloadSampleRate(), 0.0, 1.0,
                 "tracing.resiliencePayloadSampleRate");
     }
@@ -678,6 +680,10 @@ public class RuntimeSettingsValidator {
         if (idleTimeout != null && (idleTimeout < 1 || idleTimeout > 120)) {
             throw new IllegalArgumentException("idleTimeoutMinutes must be between 1 and 120");
         }
+        Integer poolSize = entry.getPoolSize();
+        if (poolSize != null && (poolSize < 1 || poolSize > 8)) {
+            throw new IllegalArgumentException("poolSize must be between 1 and 8");
+        }
     }
 
     public String normalizeCatalogEntryName(String value) {
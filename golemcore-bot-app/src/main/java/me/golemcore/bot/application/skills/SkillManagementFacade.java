@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import me.golemcore.bot.domain.model.McpServerStatus;
 import me.golemcore.bot.domain.model.ModelTierCatalog;
 import me.golemcore.bot.domain.model.Skill;
 import me.golemcore.bot.domain.model.SkillDocument;
@@ -116,10 +117,12 @@ public class SkillManagementFacade {
     public McpStatusView getMcpStatus(String name) {
         Optional<Skill> skill = skillService.findByName(name);
         if (skill.isEmpty() || !skill.get().hasMcp()) {
-            return new McpStatusView(false, false, List.of());
+            return new McpStatusView(false, false, List.of(), null);
         }
         List<String> tools = mcpPort.getToolNames(name);
-        return new McpStatusView(true, !tools.isEmpty(), tools);
+        McpServerStatus server = mcpPort.getServerStatus(name).orElse(null);
+        boolean running = server != null ? server.running() : !tools.isEmpty();
+        return new McpStatusView(true, running, tools, server);
     }
 
     private CompletableFuture<Skill> persistSkillAndReload(
@@ -249,6 +252,6 @@ public class SkillManagementFacade {
         return new LinkedHashMap<>(metadata);
     }
 
-    public record McpStatusView(boolean hasMcp, boolean running, List<String> tools) {
+    public record McpStatusView(boolean hasMcp, boolean running, List<String> tools, McpServerStatus server) {
     }
 }
@@ -25,6 +25,7 @@ import me.golemcore.bot.domain.model.Message;
 import me.golemcore.bot.domain.model.ScheduleEntry;
 import me.golemcore.bot.domain.model.ScheduledTask;
 import me.golemcore.bot.domain.auto.AutoModeService;
+import me.golemcore.bot.domain.auto.AutoRunHistoryService;
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.session.SessionRunCoordinator;
 import me.golemcore.bot.domain.support.StringValueSupport;
@@ -56,6 +57,7 @@ public class ScheduledRunExecutor {
     private final ScheduledRunMessageFactory scheduledRunMessageFactory;
     private final ScheduleReportSender reportSender;
     private final ScheduledTaskShellRunner scheduledTaskShellRunner;
+    private final AutoRunHistoryService autoRunHistoryService;
     private final java.util.Set<String> activeScheduledTaskIds = ConcurrentHashMap.newKeySet();
 
     public ScheduledRunExecutor(
@@ -65,7 +67,8 @@ public class ScheduledRunExecutor {
             SessionPort sessionPort,
             ScheduledRunMessageFactory scheduledRunMessageFactory,
             ScheduleReportSender reportSender,
-            ScheduledTaskShellRunner scheduledTaskShellRunner) {
+            ScheduledTaskShellRunner scheduledTaskShellRunner,
+            AutoRunHistoryService autoRunHistoryService) {
         this.autoModeService = autoModeService;
         this.sessionRunCoordinator = sessionRunCoordinator;
         this.runtimeConfigService = runtimeConfigService;
@@ -73,6 +76,7 @@ public class ScheduledRunExecutor {
         this.scheduledRunMessageFactory = scheduledRunMessageFactory;
         this.reportSender = reportSender;
         this.scheduledTaskShellRunner = scheduledTaskShellRunner;
+        this.autoRunHistoryService = autoRunHistoryService;
     }
 
     public ScheduledRunOutcome executeSchedule(
@@ -307,6 +311,7 @@ public class ScheduledRunExecutor {
                 deliveryContext,
                 UUID.randomUUID().toString());
         CompletableFuture<Void> completion = sessionRunCoordinator.submit(syntheticMessage);
+        indexRun(completion, syntheticMessage);
         completion.get(timeoutMinutes, TimeUnit.MINUTES);
 
         String runStatus = readStatus(syntheticMessage);
@@ -391,6 +396,7 @@ public class ScheduledRunExecutor {
                 deliveryContext,
                 UUID.randomUUID().toString());
         CompletableFuture<Void> completion = sessionRunCoordinator.submit(syntheticMessage);
+        indexRun(completion, syntheticMessage);
         completion.get(timeoutMinutes, TimeUnit.MINUTES);
 
         String runStatus = readStatus(syntheticMessage);
@@ -672,6 +678,18 @@ public class ScheduledRunExecutor {
             sessionPort.save(session);
         } catch (RuntimeException exception) { // NOSONAR - history write must not change shell run outcome
             log.warn("[ScheduledRunExecutor] Failed to persist shell run history: {}", exception.getMessage());
+            return;
+        }
+        autoRunHistoryService.recordRun(syntheticMessage);
+    }
+
+    private void indexRun(CompletableFuture<Void> completion, Message syntheticMessage) {
+        // Index the submitted run right away so it is listed while in progress,
+        // and re-index it on completion rather than after the bounded wait so
+        // that runs outliving the timeout still end up with their final state.
+        autoRunHistoryService.recordRunStarted(syntheticMessage);
+        if (completion != null) {
+            completion.whenComplete((ignored, failure) -> autoRunHistoryService.recordRun(syntheticMessage));
         }
     }
 
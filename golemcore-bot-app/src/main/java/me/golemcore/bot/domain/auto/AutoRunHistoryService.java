@@ -1,5 +1,6 @@
 package me.golemcore.bot.domain.auto;
 
+import lombok.extern.slf4j.Slf4j;
 import me.golemcore.bot.domain.autorun.AutoRunContextSupport;
 import me.golemcore.bot.domain.support.StringValueSupport;
 import me.golemcore.bot.domain.scheduling.ScheduleService;
@@ -10,68 +11,165 @@ import me.golemcore.bot.domain.model.ContextAttributes;
 import me.golemcore.bot.domain.model.Goal;
 import me.golemcore.bot.domain.model.Message;
 import me.golemcore.bot.domain.model.ScheduleEntry;
+import me.golemcore.bot.port.outbound.AutoRunHistoryPort;
+import me.golemcore.bot.port.outbound.AutoRunHistoryPort.RunDetail;
+import me.golemcore.bot.port.outbound.AutoRunHistoryPort.RunMessage;
+import me.golemcore.bot.port.outbound.AutoRunHistoryPort.RunSummary;
 import me.golemcore.bot.port.outbound.SessionPort;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * Builds dashboard-facing views of autonomous scheduler runs by grouping
  * persisted session messages by auto run identifier.
+ *
+ * <p>
+ * Runs are served from {@link AutoRunHistoryPort}, so listings and lookups
+ * never hydrate sessions. A run is indexed from its trigger message when it is
+ * submitted ({@link #recordRunStarted(Message)}) and re-indexed from its
+ * session once it finishes ({@link #recordRun(Message)}). The index is rebuilt
+ * from all sessions on first use and on {@link #rebuildIndex()}.
  */
 @Service
+@Slf4j
 public class AutoRunHistoryService {
 
+    private static final String SESSION_ID_SEPARATOR = ":";
+
     private final SessionPort sessionPort;
     private final ScheduleService scheduleService;
     private final AutoModeService autoModeService;
+    private final AutoRunHistoryPort runHistoryPort;
 
     public AutoRunHistoryService(
             SessionPort sessionPort,
             ScheduleService scheduleService,
-            AutoModeService autoModeService) {
+            AutoModeService autoModeService,
+            AutoRunHistoryPort runHistoryPort) {
         this.sessionPort = sessionPort;
         this.scheduleService = scheduleService;
         this.autoModeService = autoModeService;
+        this.runHistoryPort = runHistoryPort;
     }
 
     public List<RunSummary> listRuns(String scheduleId, String goalId, String taskId, int limit) {
-        List<RunAggregate> runs = collectRuns();
-        return runs.stream()
-                .filter(run -> matchesFilters(run, scheduleId, goalId, taskId))
-                .sorted(Comparator.comparing(RunAggregate::sortInstant,
-                        Comparator.nullsLast(Comparator.reverseOrder())))
-                .limit(Math.max(1, limit))
-                .map(RunAggregate::toSummary)
-                .toList();
+        ensureIndexLoaded();
+        return runHistoryPort.list(run -> matchesFilters(run, scheduleId, goalId, taskId), limit);
     }
 
     public Optional<RunDetail> getRun(String runId) {
         if (StringValueSupport.isBlank(runId)) {
             return Optional.empty();
         }
+        ensureIndexLoaded();
+        return runHistoryPort.find(runId);
+    }
 
-        return collectRuns().stream()
-                .filter(run -> runId.equals(run.runId))
-                .findFirst()
-                .map(RunAggregate::toDetail);
+    /**
+     * Index a run that was just submitted from its trigger message, so that it is
+     * listed while still in progress. Never overwrites a run that is already
+     * indexed.
+     */
+    public void recordRunStarted(Message runMessage) {
+        String runId = readRunId(runMessage);
+        if (runId == null) {
+            return;
+        }
+        try {
+            String sessionId = runMessage.getChannelType() + SESSION_ID_SEPARATOR + runMessage.getChatId();
+            AgentSession known = sessionPort.get(sessionId).orElse(null);
+            AgentSession pending = AgentSession.builder()
+                    .id(sessionId)
+                    .channelType(runMessage.getChannelType())
+                    .chatId(runMessage.getChatId())
+                    .metadata(known != null ? known.getMetadata() : null)
+                    .messages(List.of(runMessage))
+                    .build();
+            ensureIndexLoaded();
+            for (RunAggregate run : collectRuns(List.of(pending), runId::equals)) {
+                runHistoryPort.putIfAbsent(run.toDetail());
+            }
+        } catch (RuntimeException exception) { // NOSONAR - history indexing must not change run outcome
+            log.warn("[AutoRunHistory] Failed to index started run {}: {}", runId, exception.getMessage());
+        }
     }
 
-    private List<RunAggregate> collectRuns() {
+    /**
+     * Re-index the run that {@code runMessage} started from the messages of its
+     * session. Called once the run has finished; failures are logged and never
+     * affect the run itself.
+     */
+    public void recordRun(Message runMessage) {
+        String runId = readRunId(runMessage);
+        if (runId == null) {
+            return;
+        }
+        try {
+            String sessionId = runMessage.getChannelType() + SESSION_ID_SEPARATOR + runMessage.getChatId();
+            Optional<AgentSession> session = sessionPort.get(sessionId);
+            if (session.isEmpty()) {
+                log.debug("[AutoRunHistory] Session {} of run {} no longer exists", sessionId, runId);
+                return;
+            }
+            List<RunAggregate> runs = collectRuns(List.of(session.get()), runId::equals);
+            ensureIndexLoaded();
+            for (RunAggregate run : runs) {
+                runHistoryPort.put(run.toDetail());
+            }
+        } catch (RuntimeException exception) { // NOSONAR - history indexing must not change run outcome
+            log.warn("[AutoRunHistory] Failed to index run {}: {}", runId, exception.getMessage());
+        }
+    }
+
+    /**
+     * Replace the index with the runs found in all persisted sessions.
+     *
+     * @return number of indexed runs
+     */
+    public synchronized int rebuildIndex() {
+        List<RunDetail> runs = collectRuns(sessionPort.listAll(), runId -> true).stream()
+                .map(RunAggregate::toDetail)
+                .toList();
+        int indexed = runHistoryPort.replaceAll(runs);
+        log.info("[AutoRunHistory] Rebuilt run index with {} runs", indexed);
+        return indexed;
+    }
+
+    private synchronized void ensureIndexLoaded() {
+        if (!runHistoryPort.load()) {
+            rebuildIndex();
+        }
+    }
+
+    private static String readRunId(Message runMessage) {
+        if (runMessage == null
+                || StringValueSupport.isBlank(runMessage.getChannelType())
+                || StringValueSupport.isBlank(runMessage.getChatId())) {
+            return null;
+        }
+        String runId = AutoRunContextSupport.readMetadataString(runMessage.getMetadata(),
+                ContextAttributes.AUTO_RUN_ID);
+        return StringValueSupport.isBlank(runId) ? null : runId;
+    }
+
+    private List<RunAggregate> collectRuns(List<AgentSession> sessions, Predicate<String> runFilter) {
         Map<String, Goal> goalById = buildGoalById();
         Map<String, AutoTask> taskById = buildTaskById(goalById);
         Map<String, me.golemcore.bot.domain.model.ScheduledTask> scheduledTaskById = buildScheduledTaskById();
         Map<String, ScheduleEntry> scheduleById = buildScheduleById();
 
         Map<String, RunAggregate> runsById = new LinkedHashMap<>();
-        List<AgentSession> sessions = sessionPort.listAll();
         for (AgentSession session : sessions) {
+            if (session == null) {
+                continue;
+            }
             List<Message> messages = session.getMessages();
             if (messages == null || messages.isEmpty()) {
                 continue;
@@ -82,7 +180,7 @@ public class AutoRunHistoryService {
             for (Message message : messages) {
                 Map<String, Object> metadata = message.getMetadata();
                 String runId = AutoRunContextSupport.readMetadataString(metadata, ContextAttributes.AUTO_RUN_ID);
-                if (StringValueSupport.isBlank(runId)) {
+                if (StringValueSupport.isBlank(runId) || !runFilter.test(runId)) {
                     continue;
                 }
 
@@ -100,10 +198,10 @@ public class AutoRunHistoryService {
         return new ArrayList<>(runsById.values());
     }
 
-    private boolean matchesFilters(RunAggregate run, String scheduleId, String goalId, String taskId) {
-        boolean scheduleMatches = StringValueSupport.isBlank(scheduleId) || scheduleId.equals(run.scheduleId);
-        boolean goalMatches = StringValueSupport.isBlank(goalId) || goalId.equals(run.goalId);
-        boolean taskMatches = StringValueSupport.isBlank(taskId) || taskId.equals(run.taskId);
+    private boolean matchesFilters(RunSummary run, String scheduleId, String goalId, String taskId) {
+        boolean scheduleMatches = StringValueSupport.isBlank(scheduleId) || scheduleId.equals(run.scheduleId());
+        boolean goalMatches = StringValueSupport.isBlank(goalId) || goalId.equals(run.goalId());
+        boolean taskMatches = StringValueSupport.isBlank(taskId) || taskId.equals(run.taskId());
         return scheduleMatches && goalMatches && taskMatches;
     }
 
@@ -149,63 +247,6 @@ public class AutoRunHistoryService {
         return taskById;
     }
 
-    public record RunSummary(
-            String runId,
-            String sessionId,
-            String channelType,
-            String conversationKey,
-            String transportChatId,
-            String scheduleId,
-            String scheduleTargetType,
-            String scheduleTargetId,
-            String scheduleTargetLabel,
-            String scheduledTaskId,
-            String scheduledTaskLabel,
-            String goalId,
-            String goalLabel,
-            String taskId,
-            String taskLabel,
-            String status,
-            int messageCount,
-            Instant startedAt,
-            Instant lastActivityAt) {
-    }
-
-    public record RunDetail(
-            String runId,
-            String sessionId,
-            String channelType,
-            String conversationKey,
-            String transportChatId,
-            String scheduleId,
-            String scheduleTargetType,
-            String scheduleTargetId,
-            String scheduleTargetLabel,
-            String scheduledTaskId,
-            String scheduledTaskLabel,
-            String goalId,
-            String goalLabel,
-            String taskId,
-            String taskLabel,
-            String status,
-            Instant startedAt,
-            Instant lastActivityAt,
-            List<RunMessage> messages) {
-    }
-
-    public record RunMessage(
-            String id,
-            String role,
-            String content,
-            Instant timestamp,
-            boolean hasToolCalls,
-            boolean hasVoice,
-            String model,
-            String modelTier,
-            String skill,
-            String status) {
-    }
-
     private static final class RunAggregate {
 
         private final String runId;
@@ -303,36 +344,6 @@ public class AutoRunHistoryService {
                     status));
         }
 
-        private Instant sortInstant() {
-            if (lastActivityAt != null) {
-                return lastActivityAt;
-            }
-            return startedAt;
-        }
-
-        private RunSummary toSummary() {
-            return new RunSummary(
-                    runId,
-                    sessionId,
-                    channelType,
-                    conversationKey,
-                    transportChatId,
-                    scheduleId,
-                    scheduleTargetType,
-                    scheduleTargetId,
-                    scheduleTargetLabel,
-                    scheduledTaskId,
-                    scheduledTaskLabel,
-                    goalId,
-                    goalLabel,
-                    taskId,
-                    taskLabel,
-                    resolveStatus(),
-                    messages.size(),
-                    startedAt,
-                    lastActivityAt);
-        }
-
         private RunDetail toDetail() {
             return new RunDetail(
                     runId,
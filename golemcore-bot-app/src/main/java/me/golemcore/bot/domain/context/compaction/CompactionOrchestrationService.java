@@ -1,5 +1,6 @@
 package me.golemcore.bot.domain.context.compaction;
 
+import lombok.extern.slf4j.Slf4j;
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.model.AgentSession;
 import me.golemcore.bot.domain.model.CompactionDetails;
@@ -25,15 +26,19 @@ import java.util.Optional;
  * <p>
  * The service coordinates four collaborators: a
  * {@link CompactionPreparationService} that decides which messages to drop vs.
- * keep, a {@link CompactionService} that produces the summary text, a
- * {@link CompactionDetailsExtractor} that builds the structured audit trail,
- * and the {@link SessionPort} that persists the compacted session. The flow
- * produces a single {@link CompactionResult} whether the compaction removed
- * messages, became a no-op, or failed to locate the session, so callers can
- * record diagnostics from one result shape.
+ * keep, a {@link CompactionService} that produces the summary text (reusing a
+ * background summary from {@link SpeculativeCompactionService} when one covers
+ * the dropped messages), a {@link HierarchicalSummaryService} that folds each
+ * summary into the session's summary tree when hierarchical compaction is
+ * enabled, a {@link CompactionDetailsExtractor} that builds the structured
+ * audit trail, and the {@link SessionPort} that persists the compacted session.
+ * The flow produces a single {@link CompactionResult} whether the compaction
+ * removed messages, became a no-op, or failed to locate the session, so callers
+ * can record diagnostics from one result shape.
  * </p>
  */
 @Service
+@Slf4j
 public class CompactionOrchestrationService {
 
     private static final String METADATA_KEY_COMPACTION_DETAILS = "compactionDetails";
@@ -42,6 +47,8 @@ public class CompactionOrchestrationService {
     private final CompactionPreparationService preparationService;
     private final CompactionDetailsExtractor detailsExtractor;
     private final CompactionService compactionService;
+    private final SpeculativeCompactionService speculativeCompactionService;
+    private final HierarchicalSummaryService hierarchicalSummaryService;
     private final RuntimeConfigService runtimeConfigService;
     private final Clock clock;
 
@@ -49,12 +56,16 @@ public class CompactionOrchestrationService {
             CompactionPreparationService preparationService,
             CompactionDetailsExtractor detailsExtractor,
             CompactionService compactionService,
+            SpeculativeCompactionService speculativeCompactionService,
+            HierarchicalSummaryService hierarchicalSummaryService,
             RuntimeConfigService runtimeConfigService,
             Clock clock) {
         this.sessionPort = sessionPort;
         this.preparationService = preparationService;
         this.detailsExtractor = detailsExtractor;
         this.compactionService = compactionService;
+        this.speculativeCompactionService = speculativeCompactionService;
+        this.hierarchicalSummaryService = hierarchicalSummaryService;
         this.runtimeConfigService = runtimeConfigService;
         this.clock = clock;
     }
@@ -132,13 +143,24 @@ public class CompactionOrchestrationService {
         }
 
         long startedAt = clock.millis();
-        String summary = compactionService.summarize(preparation.messagesToCompact());
+        boolean hierarchical = hierarchicalSummaryService.isEnabled();
+        HierarchicalSummary hierarchicalSummary = hierarchical
+                ? summarizeHierarchically(sessionId, preparation.messagesToCompact())
+                : null;
+        String summary = hierarchical
+                ? hierarchicalSummary.text()
+                : summarize(sessionId, preparation.messagesToCompact());
         boolean usedSummary = summary != null && !summary.isBlank();
         boolean fallbackUsed = !usedSummary;
 
         Message summaryMessage = null;
         if (usedSummary) {
             summaryMessage = compactionService.createSummaryMessage(summary);
+            if (hierarchicalSummary != null && hierarchicalSummary.fromTree()) {
+                Map<String, Object> metadata = new LinkedHashMap<>();
+                metadata.put(HierarchicalSummaryService.SUMMARY_TREE_METADATA_KEY, true);
+                summaryMessage.setMetadata(metadata);
+            }
         }
 
         List<Message> keptMessages = Message.flattenToolMessages(new ArrayList<>(preparation.messagesToKeep()));
@@ -181,6 +203,70 @@ public class CompactionOrchestrationService {
         return result;
     }
 
+    /**
+     * Reuse a speculative summary computed in the background when it still covers a
+     * prefix of the messages being dropped; only the uncovered tail is summarized
+     * synchronously.
+     */
+    private String summarize(String sessionId, List<Message> messagesToCompact) {
+        Optional<SpeculativeCompactionService.PrecomputedSummary> precomputed = speculativeCompactionService
+                .claim(sessionId, messagesToCompact);
+        if (precomputed.isEmpty()) {
+            return compactionService.summarize(messagesToCompact);
+        }
+        int covered = precomputed.get().coveredMessages().size();
+        String precomputedSummary = precomputed.get().summary();
+        if (covered >= messagesToCompact.size()) {
+            return precomputedSummary;
+        }
+        String tailSummary = compactionService.summarize(messagesToCompact.subList(covered, messagesToCompact.size()));
+        if (tailSummary == null || tailSummary.isBlank()) {
+            return precomputedSummary;
+        }
+        return precomputedSummary + "\n\n" + tailSummary;
+    }
+
+    /**
+     * Summarize only the messages dropped since the previous compaction into a new
+     * tree leaf; an earlier tree summary at the head of the history is already
+     * represented by the tree and is replaced by the re-rendered roots.
+     */
+    private HierarchicalSummary summarizeHierarchically(String sessionId, List<Message> messagesToCompact) {
+        int priorSummaries = HierarchicalSummaryService.countLeadingTreeSummaries(messagesToCompact);
+        List<Message> newMessages = messagesToCompact.subList(priorSummaries, messagesToCompact.size());
+        if (newMessages.isEmpty()) {
+            return HierarchicalSummary.ofTree(hierarchicalSummaryService.renderCurrent(sessionId).orElse(null));
+        }
+        String leafSummary = summarize(sessionId, newMessages);
+        if (leafSummary == null || leafSummary.isBlank()) {
+            return HierarchicalSummary.ofTree(hierarchicalSummaryService.renderCurrent(sessionId).orElse(null));
+        }
+        try {
+            return HierarchicalSummary.ofTree(
+                    hierarchicalSummaryService.appendSegment(sessionId, new ArrayList<>(newMessages), leafSummary));
+        } catch (RuntimeException e) { // NOSONAR
+            log.warn("[Compaction] Failed to update summary tree for session {}: {}", sessionId, e.getMessage());
+            return new HierarchicalSummary(withPriorSummaries(messagesToCompact.subList(0, priorSummaries),
+                    leafSummary), false);
+        }
+    }
+
+    /**
+     * The tree summaries at the head of the history are dropped by this
+     * compaction, so when the tree cannot take the new leaf their text is carried
+     * over in front of it instead of being lost.
+     */
+    private String withPriorSummaries(List<Message> priorSummaries, String leafSummary) {
+        StringBuilder summary = new StringBuilder();
+        for (Message prior : priorSummaries) {
+            String content = compactionService.extractSummaryText(prior);
+            if (content != null && !content.isBlank()) {
+                summary.append(content).append("\n\n");
+            }
+        }
+        return summary.append(leafSummary).toString();
+    }
+
     private void persistDetails(AgentSession session, CompactionResult result) {
         if (session == null || result == null || result.details() == null) {
             return;
@@ -191,4 +277,11 @@ public class CompactionOrchestrationService {
         session.getMetadata().put(ContextAttributes.COMPACTION_LAST_DETAILS,
                 CompactionPayloadMapper.toPayload(result));
     }
+
+    private record HierarchicalSummary(String text, boolean fromTree) {
+
+        static HierarchicalSummary ofTree(String text) {
+            return new HierarchicalSummary(text, text != null);
+        }
+    }
 }
@@ -51,6 +51,7 @@ public class CompactionService {
     private final Clock clock;
 
     private static final int MAX_SUMMARY_TOKENS = 500;
+    private static final String SUMMARY_HEADER = "[Conversation summary]\n";
 
     /**
      * Continuation-oriented summary prompt optimized for resuming work after
@@ -74,6 +75,18 @@ public class CompactionService {
             Keep it factual. Write in the same language the conversation uses.
             Do NOT include greetings, apologies, or meta-commentary. Output only the summary.""";
 
+    /**
+     * Prompt used to fold consecutive segment summaries into one higher-level
+     * summary of the hierarchical summary tree.
+     */
+    private static final String MERGE_SYSTEM_PROMPT = """
+            Merge the consecutive conversation segment summaries below into one summary.
+            Preserve decisions, user preferences and constraints, referenced files, commands, settings and IDs/URLs,
+            and the latest state of open work. Drop details that later segments superseded.
+
+            Keep it factual and chronological. Write in the same language the summaries use.
+            Do NOT include greetings, apologies, or meta-commentary. Output only the merged summary.""";
+
     public CompactionService(
             LlmPort llmPort,
             RuntimeConfigService runtimeConfigService,
@@ -100,18 +113,46 @@ public class CompactionService {
 
         String conversation = formatConversation(messages);
 
+        // Continuation-oriented prompt: preserve enough context to resume work after
+        // compaction.
+        String prompt = "Provide a detailed but concise summary of our conversation above. "
+                + "Focus on information that would be helpful for continuing the conversation, "
+                + "including what we did, what we're doing, which files we're working on, and what we're going to do next.\n\n"
+                + conversation;
+        return requestSummary(SYSTEM_PROMPT, prompt, messages.size());
+    }
+
+    /**
+     * Merge consecutive segment summaries (oldest first) into one higher-level
+     * summary. The prompt only contains the given summaries, so the cost does not
+     * grow with the length of the underlying conversation.
+     *
+     * @return merged summary text, or null if LLM is unavailable
+     */
+    public String mergeSummaries(List<String> summaries) {
+        if (summaries == null || summaries.isEmpty()) {
+            return null;
+        }
+        if (llmPort == null || !llmPort.isAvailable()) {
+            log.warn("[Compaction] LLM not available, cannot merge summaries");
+            return null;
+        }
+
+        StringBuilder prompt = new StringBuilder("Merge these segment summaries, oldest first:\n");
+        for (int index = 0; index < summaries.size(); index++) {
+            prompt.append("\n--- Segment ").append(index + 1).append(" ---\n").append(summaries.get(index));
+        }
+        return requestSummary(MERGE_SYSTEM_PROMPT, prompt.toString(), summaries.size());
+    }
+
+    private String requestSummary(String systemPrompt, String prompt, int itemCount) {
         LlmRequest request = LlmRequest.builder()
                 .model(runtimeConfigService.getBalancedModel())
                 .reasoningEffort(runtimeConfigService.getBalancedModelReasoning())
-                .systemPrompt(SYSTEM_PROMPT)
+                .systemPrompt(systemPrompt)
                 .messages(List.of(Message.builder()
                         .role("user")
-                        // Continuation-oriented prompt: preserve enough context to resume work after
-                        // compaction.
-                        .content("Provide a detailed but concise summary of our conversation above. "
-                                + "Focus on information that would be helpful for continuing the conversation, "
-                                + "including what we did, what we're doing, which files we're working on, and what we're going to do next.\n\n"
-                                + conversation)
+                        .content(prompt)
                         .build()))
                 .maxTokens(MAX_SUMMARY_TOKENS)
                 .temperature(0.3)
@@ -128,8 +169,8 @@ public class CompactionService {
                 log.warn("[Compaction] LLM returned empty summary");
                 return null;
             }
-            log.info("[Compaction] Summarized {} messages in {}ms ({} chars)",
-                    messages.size(), elapsed, summary.length());
+            log.info("[Compaction] Summarized {} items in {}ms ({} chars)",
+                    itemCount, elapsed, summary.length());
             return summary;
 
         } catch (InterruptedException e) {
@@ -148,11 +189,23 @@ public class CompactionService {
     public Message createSummaryMessage(String summary) {
         return Message.builder()
                 .role("system")
-                .content("[Conversation summary]\n" + summary)
+                .content(SUMMARY_HEADER + summary)
                 .timestamp(clock.instant())
                 .build();
     }
 
+    /**
+     * Summary text of a message built by {@link #createSummaryMessage}, without
+     * its header.
+     */
+    public String extractSummaryText(Message summaryMessage) {
+        String content = summaryMessage != null ? summaryMessage.getContent() : null;
+        if (content == null) {
+            return null;
+        }
+        return content.startsWith(SUMMARY_HEADER) ? content.substring(SUMMARY_HEADER.length()) : content;
+    }
+
     private String formatConversation(List<Message> messages) {
         return messages.stream()
                 .filter(m -> m.getContent() != null && !m.getContent().isBlank())
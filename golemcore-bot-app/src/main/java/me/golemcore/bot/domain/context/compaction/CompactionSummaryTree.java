@@ -0,0 +1,86 @@
+package me.golemcore.bot.domain.context.compaction;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persisted summary hierarchy of one session's compacted history.
+ *
+ * <p>
+ * Leaves (level 0) summarize one compaction's worth of dropped messages and
+ * point at the archived raw messages. Once enough roots accumulate on one level
+ * they are merged into a parent one level up, so the number of roots rendered
+ * into the prompt stays logarithmic in the session length.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactionSummaryTree {
+
+    private String sessionId;
+
+    @Builder.Default
+    private int nextSegmentNumber = 1;
+
+    /**
+     * All segments in creation order; roots have no parent.
+     */
+    @Builder.Default
+    private List<Segment> segments = new ArrayList<>();
+
+    private Instant updatedAt;
+
+    public List<Segment> roots() {
+        List<Segment> roots = new ArrayList<>();
+        for (Segment segment : segments) {
+            if (segment.getParentId() == null) {
+                roots.add(segment);
+            }
+        }
+        return roots;
+    }
+
+    public Optional<Segment> find(String segmentId) {
+        if (segmentId == null) {
+            return Optional.empty();
+        }
+        return segments.stream()
+                .filter(segment -> segmentId.equals(segment.getId()))
+                .findFirst();
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Segment {
+
+        private String id;
+        private int level;
+        private String summary;
+        private int messageCount;
+        private Instant firstMessageAt;
+        private Instant lastMessageAt;
+        private String parentId;
+
+        @Builder.Default
+        private List<String> childIds = new ArrayList<>();
+
+        private Instant createdAt;
+
+        @JsonIgnore
+        public boolean isLeaf() {
+            return level == 0;
+        }
+    }
+}
@@ -42,6 +42,28 @@ public class ContextCompactionPolicy implements SystemPromptBudgetPolicy {
         return runtimeConfigService.isCompactionEnabled();
     }
 
+    /**
+     * Whether summaries may be pre-computed in the background before the history
+     * threshold is reached. Requires the global compaction switch.
+     */
+    public boolean isSpeculativeCompactionEnabled() {
+        return isCompactionEnabled() && runtimeConfigService.isCompactionSpeculativeEnabled();
+    }
+
+    /**
+     * Early-warning budget derived from the history threshold. Once estimated
+     * history crosses it, {@link SpeculativeCompactionService} starts summarizing
+     * the messages the next compaction would drop so the summary is ready before
+     * the real threshold fires.
+     */
+    public int resolveSpeculativeHistoryThreshold(int historyThreshold) {
+        if (historyThreshold == Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        double ratio = runtimeConfigService.getCompactionSpeculativeTriggerRatio();
+        return saturatingToPositiveInt((long) Math.floor(historyThreshold * ratio));
+    }
+
     /**
      * Keep-last policy shared by auto history compaction and provider
      * context-overflow recovery. Both paths currently retain the same number of
@@ -0,0 +1,427 @@
+package me.golemcore.bot.domain.context.compaction;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.domain.model.ToolNames;
+import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
+import me.golemcore.bot.port.outbound.CompactionSummaryCodecPort;
+import me.golemcore.bot.port.outbound.SessionCleanupPort;
+import me.golemcore.bot.port.outbound.StoragePort;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Maintains a per-session hierarchy of compaction summaries.
+ *
+ * <p>
+ * Each compaction appends one leaf that summarizes only the newly dropped
+ * messages; the raw messages are archived next to the tree so the segment can
+ * be re-expanded later. When {@code hierarchyFanout} roots exist on one level,
+ * the oldest of them are merged into a parent summary one level up. The prompt
+ * therefore carries only the current roots, and every compaction costs one
+ * summary over new messages plus occasional merges over a bounded number of
+ * child summaries.
+ * </p>
+ *
+ * <p>
+ * Merges run on a background thread, one session at a time, and the session
+ * lock is only held while the tree is read or written, never during the LLM
+ * call. Until a merge lands the prompt carries the unmerged roots. The tree is
+ * deleted together with its session and when the session's messages are
+ * cleared, so a reset conversation does not come back through its summaries.
+ * </p>
+ */
+@Slf4j
+public class HierarchicalSummaryService implements SessionCleanupPort {
+
+    /**
+     * Metadata flag set on summary messages rendered from the tree.
+     */
+    public static final String SUMMARY_TREE_METADATA_KEY = "compactionSummaryTree";
+
+    private static final String TREE_DIR = "compaction-summaries";
+    private static final String TREE_FILE = "tree.json";
+    private static final String SEGMENTS_DIR = "segments";
+    private static final String SEGMENT_ID_PREFIX = "seg-";
+
+    private final StoragePort storagePort;
+    private final CompactionSummaryCodecPort codec;
+    private final CompactionService compactionService;
+    private final RuntimeConfigService runtimeConfigService;
+    private final Clock clock;
+
+    private final Map<String, Object> sessionLocks = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Void>> pendingMerges = new ConcurrentHashMap<>();
+    private final ExecutorService mergeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "compaction-summary-merge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HierarchicalSummaryService(StoragePort storagePort,
+            CompactionSummaryCodecPort codec,
+            CompactionService compactionService,
+            RuntimeConfigService runtimeConfigService,
+            Clock clock) {
+        this.storagePort = storagePort;
+        this.codec = codec;
+        this.compactionService = compactionService;
+        this.runtimeConfigService = runtimeConfigService;
+        this.clock = clock;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        mergeExecutor.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return runtimeConfigService.isCompactionHierarchicalEnabled();
+    }
+
+    /**
+     * Whether the message is a summary rendered from a summary tree. Such messages
+     * are already represented by the tree and must not be summarized again.
+     */
+    public static boolean isTreeSummaryMessage(Message message) {
+        return message != null && message.getMetadata() != null
+                && Boolean.TRUE.equals(message.getMetadata().get(SUMMARY_TREE_METADATA_KEY));
+    }
+
+    /**
+     * Number of leading tree summary messages in {@code messages}.
+     */
+    public static int countLeadingTreeSummaries(List<Message> messages) {
+        int count = 0;
+        while (count < messages.size() && isTreeSummaryMessage(messages.get(count))) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Archive {@code compactedMessages} as a new leaf summarized by
+     * {@code leafSummary} and persist the tree. Levels that reached the fanout are
+     * merged in the background.
+     *
+     * @return summary text rendered from the resulting roots
+     */
+    public String appendSegment(String sessionId, List<Message> compactedMessages, String leafSummary) {
+        String rendered;
+        boolean mergeNeeded;
+        synchronized (lockFor(sessionId)) {
+            CompactionSummaryTree tree = loadTree(sessionId).orElseGet(() -> CompactionSummaryTree.builder()
+                    .sessionId(sessionId)
+                    .build());
+            Instant now = clock.instant();
+            CompactionSummaryTree.Segment leaf = CompactionSummaryTree.Segment.builder()
+                    .id(nextSegmentId(tree))
+                    .level(0)
+                    .summary(leafSummary)
+                    .messageCount(compactedMessages.size())
+                    .firstMessageAt(firstTimestamp(compactedMessages))
+                    .lastMessageAt(lastTimestamp(compactedMessages))
+                    .createdAt(now)
+                    .build();
+            writeJson(segmentPath(sessionId, leaf.getId()), compactedMessages);
+            tree.getSegments().add(leaf);
+            tree.setUpdatedAt(now);
+            writeJson(treePath(sessionId), tree);
+            log.debug("[Compaction] Appended segment {} to summary tree of session {} ({} roots)",
+                    leaf.getId(), sessionId, tree.roots().size());
+            rendered = render(tree);
+            mergeNeeded = findMergeCandidate(tree).isPresent();
+        }
+        if (mergeNeeded) {
+            scheduleMerge(sessionId);
+        }
+        return rendered;
+    }
+
+    /**
+     * Merge still queued or running for the session; already complete when there
+     * is none.
+     */
+    CompletableFuture<Void> pendingMerge(String sessionId) {
+        return pendingMerges.getOrDefault(sessionId, CompletableFuture.completedFuture(null));
+    }
+
+    @Override
+    public void deleteSessionData(String sessionId) {
+        if (sessionId == null || sessionId.isBlank()) {
+            return;
+        }
+        deleteTree(sessionId);
+        sessionLocks.remove(sessionId);
+    }
+
+    @Override
+    public void clearSessionHistory(String sessionId) {
+        if (sessionId == null || sessionId.isBlank()) {
+            return;
+        }
+        deleteTree(sessionId);
+    }
+
+    /**
+     * Summary text rendered from the session's current roots, if a tree exists.
+     */
+    public Optional<String> renderCurrent(String sessionId) {
+        return loadTree(sessionId)
+                .filter(tree -> !tree.roots().isEmpty())
+                .map(this::render);
+    }
+
+    /**
+     * Re-expand one segment: a merged segment yields its child summaries, a leaf
+     * yields the archived messages it summarizes.
+     */
+    public Optional<SegmentExpansion> expand(String sessionId, String segmentId) {
+        Optional<CompactionSummaryTree> tree = loadTree(sessionId);
+        if (tree.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<CompactionSummaryTree.Segment> segment = tree.get().find(segmentId);
+        if (segment.isEmpty()) {
+            return Optional.empty();
+        }
+        if (segment.get().isLeaf()) {
+            List<Message> messages = readJson(segmentPath(sessionId, segmentId), codec::decodeMessages)
+                    .orElse(List.of());
+            return Optional.of(new SegmentExpansion(segment.get(), List.of(), messages));
+        }
+        List<CompactionSummaryTree.Segment> children = new ArrayList<>();
+        for (String childId : segment.get().getChildIds()) {
+            tree.get().find(childId).ifPresent(children::add);
+        }
+        return Optional.of(new SegmentExpansion(segment.get(), children, List.of()));
+    }
+
+    public Optional<CompactionSummaryTree> loadTree(String sessionId) {
+        if (sessionId == null || sessionId.isBlank()) {
+            return Optional.empty();
+        }
+        return readJson(treePath(sessionId), json -> codec.decode(json, CompactionSummaryTree.class));
+    }
+
+    private void scheduleMerge(String sessionId) {
+        CompletableFuture<Void> merge = pendingMerges.compute(sessionId, (id, pending) -> {
+            CompletableFuture<Void> previous = pending != null ? pending : CompletableFuture.completedFuture(null);
+            return previous.exceptionally(ignored -> null).thenRunAsync(() -> mergeFullLevels(id), mergeExecutor);
+        });
+        merge.whenComplete((ignored, error) -> pendingMerges.remove(sessionId, merge));
+    }
+
+    /**
+     * Merges one full level at a time. The children are picked and the parent is
+     * stored under the session lock; the LLM call in between runs without it, so
+     * the tree is re-read before the parent is added.
+     */
+    private void mergeFullLevels(String sessionId) {
+        try {
+            while (true) {
+                Optional<List<CompactionSummaryTree.Segment>> candidate;
+                synchronized (lockFor(sessionId)) {
+                    candidate = loadTree(sessionId).flatMap(this::findMergeCandidate);
+                }
+                if (candidate.isEmpty()) {
+                    return;
+                }
+                List<CompactionSummaryTree.Segment> children = candidate.get();
+                String merged = compactionService.mergeSummaries(
+                        children.stream().map(CompactionSummaryTree.Segment::getSummary).toList());
+                if (merged == null || merged.isBlank()) {
+                    log.warn("[Compaction] Could not merge level {} summaries of session {}, keeping them as roots",
+                            children.getFirst().getLevel(), sessionId);
+                    return;
+                }
+                synchronized (lockFor(sessionId)) {
+                    Optional<CompactionSummaryTree> tree = loadTree(sessionId);
+                    if (tree.isEmpty() || !addParent(tree.get(), children, merged)) {
+                        return;
+                    }
+                    writeJson(treePath(sessionId), tree.get());
+                }
+            }
+        } catch (RuntimeException e) { // NOSONAR
+            log.warn("[Compaction] Failed to merge summary tree of session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    private void deleteTree(String sessionId) {
+        synchronized (lockFor(sessionId)) {
+            try {
+                List<String> paths = storagePort.listObjects(TREE_DIR, sessionId).join();
+                for (String path : paths) {
+                    storagePort.deleteObject(TREE_DIR, path).join();
+                }
+            } catch (RuntimeException e) { // NOSONAR
+                log.warn("[Compaction] Failed to delete summary tree of session {}: {}", sessionId, e.getMessage());
+            }
+        }
+    }
+
+    private Optional<List<CompactionSummaryTree.Segment>> findMergeCandidate(CompactionSummaryTree tree) {
+        int fanout = runtimeConfigService.getCompactionHierarchyFanout();
+        for (int level = 0; level <= maxRootLevel(tree); level++) {
+            List<CompactionSummaryTree.Segment> levelRoots = rootsAtLevel(tree, level);
+            if (levelRoots.size() >= fanout) {
+                return Optional.of(List.copyOf(levelRoots.subList(0, fanout)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean addParent(CompactionSummaryTree tree, List<CompactionSummaryTree.Segment> children,
+            String merged) {
+        List<CompactionSummaryTree.Segment> current = new ArrayList<>();
+        for (CompactionSummaryTree.Segment child : children) {
+            Optional<CompactionSummaryTree.Segment> stored = tree.find(child.getId());
+            // A tree rebuilt after a clear reuses segment ids, so compare the whole segment.
+            if (stored.isEmpty() || !stored.get().equals(child)) {
+                return false;
+            }
+            current.add(stored.get());
+        }
+        Instant now = clock.instant();
+        CompactionSummaryTree.Segment parent = CompactionSummaryTree.Segment.builder()
+                .id(nextSegmentId(tree))
+                .level(current.getFirst().getLevel() + 1)
+                .summary(merged)
+                .messageCount(current.stream().mapToInt(CompactionSummaryTree.Segment::getMessageCount).sum())
+                .firstMessageAt(current.getFirst().getFirstMessageAt())
+                .lastMessageAt(current.getLast().getLastMessageAt())
+                .childIds(new ArrayList<>(current.stream().map(CompactionSummaryTree.Segment::getId).toList()))
+                .createdAt(now)
+                .build();
+        for (CompactionSummaryTree.Segment child : current) {
+            child.setParentId(parent.getId());
+        }
+        tree.getSegments().add(parent);
+        tree.setUpdatedAt(now);
+        return true;
+    }
+
+    private int maxRootLevel(CompactionSummaryTree tree) {
+        return tree.roots().stream().mapToInt(CompactionSummaryTree.Segment::getLevel).max().orElse(-1);
+    }
+
+    private List<CompactionSummaryTree.Segment> rootsAtLevel(CompactionSummaryTree tree, int level) {
+        List<CompactionSummaryTree.Segment> roots = new ArrayList<>();
+        for (CompactionSummaryTree.Segment root : tree.roots()) {
+            if (root.getLevel() == level) {
+                roots.add(root);
+            }
+        }
+        return roots;
+    }
+
+    private String render(CompactionSummaryTree tree) {
+        List<CompactionSummaryTree.Segment> roots = new ArrayList<>(tree.roots());
+        roots.sort(Comparator.comparingInt(root -> firstLeafIndex(tree, root)));
+        StringBuilder rendered = new StringBuilder();
+        for (CompactionSummaryTree.Segment root : roots) {
+            if (!rendered.isEmpty()) {
+                rendered.append("\n\n");
+            }
+            rendered.append("[Segment ").append(root.getId())
+                    .append(", ").append(root.getMessageCount()).append(" messages")
+                    .append(root.isLeaf() ? "" : ", merged level " + root.getLevel())
+                    .append("]\n")
+                    .append(root.getSummary());
+        }
+        rendered.append("\n\n(Older detail is archived; call ")
+                .append(ToolNames.CONVERSATION_HISTORY)
+                .append(" with a segment id to re-expand it.)");
+        return rendered.toString();
+    }
+
+    /**
+     * Leaves are appended in conversation order, so a segment's position is the
+     * position of its first leaf.
+     */
+    private int firstLeafIndex(CompactionSummaryTree tree, CompactionSummaryTree.Segment segment) {
+        CompactionSummaryTree.Segment current = segment;
+        while (!current.isLeaf() && !current.getChildIds().isEmpty()) {
+            Optional<CompactionSummaryTree.Segment> firstChild = tree.find(current.getChildIds().getFirst());
+            if (firstChild.isEmpty()) {
+                break;
+            }
+            current = firstChild.get();
+        }
+        return tree.getSegments().indexOf(current);
+    }
+
+    private String nextSegmentId(CompactionSummaryTree tree) {
+        int number = tree.getNextSegmentNumber();
+        tree.setNextSegmentNumber(number + 1);
+        return SEGMENT_ID_PREFIX + number;
+    }
+
+    private Instant firstTimestamp(List<Message> messages) {
+        for (Message message : messages) {
+            if (message.getTimestamp() != null) {
+                return message.getTimestamp();
+            }
+        }
+        return null;
+    }
+
+    private Instant lastTimestamp(List<Message> messages) {
+        for (int index = messages.size() - 1; index >= 0; index--) {
+            if (messages.get(index).getTimestamp() != null) {
+                return messages.get(index).getTimestamp();
+            }
+        }
+        return null;
+    }
+
+    private Object lockFor(String sessionId) {
+        return sessionLocks.computeIfAbsent(sessionId, ignored -> new Object());
+    }
+
+    private String treePath(String sessionId) {
+        return sessionId + "/" + TREE_FILE;
+    }
+
+    private String segmentPath(String sessionId, String segmentId) {
+        return sessionId + "/" + SEGMENTS_DIR + "/" + segmentId + ".json";
+    }
+
+    private void writeJson(String path, Object value) {
+        storagePort.putTextAtomic(TREE_DIR, path, codec.encode(value), false).join();
+    }
+
+    private <T> Optional<T> readJson(String path, Function<String, T> decoder) {
+        try {
+            String json = storagePort.getText(TREE_DIR, path).join();
+            if (json == null || json.isBlank()) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(decoder.apply(json));
+        } catch (RuntimeException e) { // NOSONAR
+            log.warn("[Compaction] Failed to read {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * One level of detail below a segment.
+     */
+    public record SegmentExpansion(CompactionSummaryTree.Segment segment,
+            List<CompactionSummaryTree.Segment> children,
+            List<Message> messages) {
+    }
+}
@@ -0,0 +1,197 @@
+package me.golemcore.bot.domain.context.compaction;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.domain.model.AgentSession;
+import me.golemcore.bot.domain.model.CompactionPreparation;
+import me.golemcore.bot.domain.model.CompactionReason;
+import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pre-computes compaction summaries in the background while a session is still
+ * below its history threshold.
+ *
+ * <p>
+ * {@link me.golemcore.bot.domain.system.AutoCompactionSystem} calls
+ * {@link #speculate} once history crosses the speculative fraction of the
+ * budget. The service snapshots the messages the next compaction would drop,
+ * summarizes them off the turn thread and keeps the result per session.
+ * {@link CompactionOrchestrationService} later {@link #claim claims} the
+ * summary when the real threshold fires: if the snapshot is still a prefix of
+ * the messages being compacted, only the uncovered tail (if any) is summarized
+ * on the critical path.
+ * </p>
+ */
+@Slf4j
+public class SpeculativeCompactionService {
+
+    private static final int MIN_NEW_MESSAGES_FOR_REFRESH = 4;
+    private static final int MAX_READY_SUMMARIES = 256;
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    private final CompactionPreparationService preparationService;
+    private final CompactionService compactionService;
+    private final RuntimeConfigService runtimeConfigService;
+    private final Clock clock;
+
+    private final Map<String, PrecomputedSummary> readySummaries = new ConcurrentHashMap<>();
+    private final Set<String> inFlightSessions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "compaction-speculative-" + THREAD_IDS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SpeculativeCompactionService(CompactionPreparationService preparationService,
+            CompactionService compactionService,
+            RuntimeConfigService runtimeConfigService,
+            Clock clock) {
+        this.preparationService = preparationService;
+        this.compactionService = compactionService;
+        this.runtimeConfigService = runtimeConfigService;
+        this.clock = clock;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Schedule a background summary of the messages that a compaction keeping
+     * {@code keepLast} trailing messages would remove. Does nothing when a summary
+     * for the same session is already running or still covers almost everything
+     * that would be compacted.
+     *
+     * @return future completing when the scheduled summary is stored; already
+     *         complete when nothing was scheduled
+     */
+    public CompletableFuture<Void> speculate(AgentSession session, int keepLast) {
+        if (session == null || session.getId() == null || session.getMessages() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String sessionId = session.getId();
+        List<Message> snapshot = new ArrayList<>(session.getMessages());
+        CompactionPreparation preparation = preparationService.prepare(
+                sessionId,
+                snapshot,
+                keepLast,
+                CompactionReason.AUTO_THRESHOLD,
+                runtimeConfigService.isCompactionPreserveTurnBoundariesEnabled());
+        List<Message> candidates = preparation.messagesToCompact();
+        if (runtimeConfigService.isCompactionHierarchicalEnabled()) {
+            // Tree summaries are already summarized; the orchestrator claims only the new
+            // messages.
+            candidates = candidates.subList(
+                    HierarchicalSummaryService.countLeadingTreeSummaries(candidates), candidates.size());
+        }
+        if (candidates.isEmpty() || isFresh(readySummaries.get(sessionId), candidates)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!inFlightSessions.add(sessionId)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<Message> covered = new ArrayList<>(candidates);
+        log.debug("[Compaction] Speculatively summarizing {} messages for session {}", covered.size(), sessionId);
+        try {
+            return CompletableFuture.runAsync(() -> storeSummary(sessionId, covered), executor)
+                    .whenComplete((ignored, error) -> {
+                        inFlightSessions.remove(sessionId);
+                        if (error != null) {
+                            log.warn("[Compaction] Speculative summary failed for session {}: {}",
+                                    sessionId, error.getMessage());
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            inFlightSessions.remove(sessionId);
+            log.debug("[Compaction] Speculative summary rejected for session {}: {}", sessionId, e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Remove and return the pre-computed summary for the session when its snapshot
+     * is still a prefix of {@code messagesToCompact}. A summary whose snapshot no
+     * longer matches (history was rewritten or already compacted) is discarded.
+     */
+    public Optional<PrecomputedSummary> claim(String sessionId, List<Message> messagesToCompact) {
+        if (sessionId == null || messagesToCompact == null || messagesToCompact.isEmpty()) {
+            return Optional.empty();
+        }
+        PrecomputedSummary precomputed = readySummaries.remove(sessionId);
+        if (precomputed == null) {
+            return Optional.empty();
+        }
+        if (!isPrefix(precomputed.coveredMessages(), messagesToCompact)) {
+            log.debug("[Compaction] Discarding stale speculative summary for session {}", sessionId);
+            return Optional.empty();
+        }
+        return Optional.of(precomputed);
+    }
+
+    private void storeSummary(String sessionId, List<Message> covered) {
+        String summary = compactionService.summarize(covered);
+        if (summary == null || summary.isBlank()) {
+            return;
+        }
+        readySummaries.put(sessionId, new PrecomputedSummary(covered, summary, clock.instant()));
+        evictOverflow();
+        log.info("[Compaction] Speculative summary ready for session {} ({} messages, {} chars)",
+                sessionId, covered.size(), summary.length());
+    }
+
+    private void evictOverflow() {
+        while (readySummaries.size() > MAX_READY_SUMMARIES) {
+            Optional<Map.Entry<String, PrecomputedSummary>> oldest = readySummaries.entrySet().stream()
+                    .min(Comparator.comparing(entry -> entry.getValue().createdAt()));
+            if (oldest.isEmpty()) {
+                return;
+            }
+            readySummaries.remove(oldest.get().getKey(), oldest.get().getValue());
+        }
+    }
+
+    private boolean isFresh(PrecomputedSummary existing, List<Message> candidates) {
+        if (existing == null || !isPrefix(existing.coveredMessages(), candidates)) {
+            return false;
+        }
+        return candidates.size() - existing.coveredMessages().size() < MIN_NEW_MESSAGES_FOR_REFRESH;
+    }
+
+    private static boolean isPrefix(List<Message> prefix, List<Message> messages) {
+        if (prefix.size() > messages.size()) {
+            return false;
+        }
+        for (int index = 0; index < prefix.size(); index++) {
+            if (!Objects.equals(prefix.get(index), messages.get(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Summary computed ahead of time for the leading {@code coveredMessages} of a
+     * session.
+     */
+    public record PrecomputedSummary(List<Message> coveredMessages, String summary, Instant createdAt) {
+    }
+}
@@ -24,6 +24,7 @@ import me.golemcore.bot.domain.context.ContextLayerResult;
 import me.golemcore.bot.domain.model.AgentContext;
 import me.golemcore.bot.domain.model.ContextAttributes;
 import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.domain.rag.RagQueryCache;
 import me.golemcore.bot.port.outbound.RagPort;
 
 /**
@@ -33,16 +34,19 @@ import me.golemcore.bot.port.outbound.RagPort;
  * <p>
  * Only applies when the RAG port is available. Queries the index with the last
  * user message text and stores the result both in context attributes and in the
- * prompt.
+ * prompt. Repeated and paraphrased questions are answered from
+ * {@link RagQueryCache} without a round trip to the RAG backend.
  */
 @Slf4j
 public class RagLayer extends AbstractContextLayer {
 
     private final RagPort ragPort;
+    private final RagQueryCache queryCache;
 
-    public RagLayer(RagPort ragPort) {
+    public RagLayer(RagPort ragPort, RagQueryCache queryCache) {
         super("rag", 35, 60, ContextLayerLifecycle.ON_DEMAND, 2_500);
         this.ragPort = ragPort;
+        this.queryCache = queryCache;
     }
 
     @Override
@@ -58,7 +62,7 @@ public class RagLayer extends AbstractContextLayer {
         }
 
         try {
-            String ragContext = ragPort.query(userQuery).join();
+            String ragContext = queryCache.getOrLoad(userQuery, null, () -> ragPort.query(userQuery).join());
             if (ragContext == null || ragContext.isBlank()) {
                 return empty();
             }
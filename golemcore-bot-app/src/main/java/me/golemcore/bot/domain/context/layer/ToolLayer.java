@@ -231,6 +231,7 @@ public class ToolLayer extends AbstractContextLayer {
     private boolean isPrivilegedPlanModeNativeToolName(String toolName) {
         String normalized = toolName == null ? "" : toolName.trim().toLowerCase(Locale.ROOT);
         return ToolNames.FILESYSTEM.equals(normalized)
+                || ToolNames.CODE_SEARCH.equals(normalized)
                 || ToolNames.GOAL_MANAGEMENT.equals(normalized)
                 || ToolNames.PLAN_EXIT.equals(normalized);
     }
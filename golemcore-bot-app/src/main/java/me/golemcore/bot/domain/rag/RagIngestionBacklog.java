@@ -0,0 +1,261 @@
+package me.golemcore.bot.domain.rag;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.port.outbound.StoragePort;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Pattern;
+
+/**
+ * Durable, deduplicated backlog of documents waiting for
+ * {@link RagIngestionQueue}.
+ *
+ * <p>
+ * Every accepted document is written to {@code rag/queue/} and deleted only
+ * once its batch was acknowledged, so documents pending at shutdown are
+ * re-queued on the next start. Documents whose normalized text matches one of
+ * the last {@link #DEDUP_WINDOW} accepted documents are skipped.
+ * </p>
+ */
+@Slf4j
+final class RagIngestionBacklog {
+
+    static final int MAX_PENDING_DOCUMENTS = 5_000;
+    static final int DEDUP_WINDOW = 1_024;
+
+    private static final String QUEUE_DIR = "rag";
+    private static final String QUEUE_PREFIX = "queue/";
+    private static final String QUEUE_SUFFIX = ".txt";
+    private static final int KEY_LENGTH = 32;
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final StoragePort storagePort;
+    private final Clock clock;
+
+    private final Deque<PendingDocument> pending = new ArrayDeque<>();
+    private final Set<String> recentKeys = Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > DEDUP_WINDOW;
+        }
+    });
+    private int pendingChars;
+    private long sequence;
+    private long deduplicated;
+    private long dropped;
+
+    RagIngestionBacklog(StoragePort storagePort, Clock clock) {
+        this.storagePort = storagePort;
+        this.clock = clock;
+    }
+
+    /**
+     * Persist and append a document unless it is a recent duplicate or the backlog
+     * is full.
+     */
+    synchronized boolean add(String document, String dedupKey) {
+        String key = fingerprint(dedupKey != null ? dedupKey : document);
+        if (recentKeys.contains(key)) {
+            deduplicated++;
+            log.debug("[RagIngestion] Skipping near-duplicate exchange");
+            return false;
+        }
+        if (pending.size() >= MAX_PENDING_DOCUMENTS) {
+            dropped++;
+            log.warn("[RagIngestion] Queue full ({} documents), dropping exchange", pending.size());
+            return false;
+        }
+        recentKeys.add(key);
+        sequence++;
+        String path = QUEUE_PREFIX + String.format("%013d-%06d-%s", clock.millis(), sequence % 1_000_000, key)
+                + QUEUE_SUFFIX;
+        CompletableFuture<Void> persisted = storagePort.putText(QUEUE_DIR, path, document)
+                .exceptionally(error -> {
+                    log.warn("[RagIngestion] Failed to persist queued document {}: {}", path, rootMessage(error));
+                    return null;
+                });
+        pending.addLast(new PendingDocument(path, document, clock.instant(), persisted));
+        pendingChars += document.length();
+        return true;
+    }
+
+    /**
+     * Load documents left in {@code rag/queue/} by a previous run.
+     *
+     * @return number of re-queued documents
+     */
+    int recover() {
+        List<String> paths;
+        try {
+            paths = new ArrayList<>(storagePort.listObjects(QUEUE_DIR, QUEUE_PREFIX).join());
+        } catch (RuntimeException e) { // NOSONAR - an unreadable queue must not block startup
+            log.warn("[RagIngestion] Failed to list queued documents: {}", rootMessage(e));
+            return 0;
+        }
+        Collections.sort(paths);
+        int recovered = 0;
+        for (String path : paths) {
+            String normalizedPath = path.replace('\\', '/');
+            if (!normalizedPath.endsWith(QUEUE_SUFFIX)) {
+                continue;
+            }
+            try {
+                String document = storagePort.getText(QUEUE_DIR, normalizedPath).join();
+                if (document == null || document.isBlank()) {
+                    storagePort.deleteObject(QUEUE_DIR, normalizedPath);
+                    continue;
+                }
+                if (restore(normalizedPath, document)) {
+                    recovered++;
+                }
+            } catch (RuntimeException e) { // NOSONAR - skip one unreadable entry, keep the rest
+                log.warn("[RagIngestion] Failed to read queued document {}: {}", normalizedPath, rootMessage(e));
+            }
+        }
+        return recovered;
+    }
+
+    synchronized int size() {
+        return pending.size();
+    }
+
+    synchronized int chars() {
+        return pendingChars;
+    }
+
+    /**
+     * Enqueue time of the oldest pending document, or {@code null} when empty.
+     */
+    synchronized Instant oldestEnqueuedAt() {
+        PendingDocument oldest = pending.peekFirst();
+        return oldest != null ? oldest.enqueuedAt() : null;
+    }
+
+    /**
+     * Remove up to {@code maxDocuments} documents from the head, stopping before
+     * the batch would exceed {@code maxChars}; the first document is always taken.
+     */
+    synchronized List<PendingDocument> takeBatch(int maxDocuments, int maxChars) {
+        List<PendingDocument> batch = new ArrayList<>();
+        int batchChars = 0;
+        while (!pending.isEmpty() && batch.size() < maxDocuments) {
+            PendingDocument next = pending.peekFirst();
+            if (!batch.isEmpty() && batchChars + next.document().length() > maxChars) {
+                break;
+            }
+            pending.pollFirst();
+            pendingChars -= next.document().length();
+            batchChars += next.document().length();
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /**
+     * Put a failed batch back at the head, keeping its order.
+     */
+    synchronized void requeue(List<PendingDocument> batch) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            PendingDocument entry = batch.get(i);
+            pending.addFirst(entry);
+            pendingChars += entry.document().length();
+        }
+    }
+
+    /**
+     * Delete the persisted copies of an indexed batch.
+     */
+    void acknowledge(List<PendingDocument> batch) {
+        for (PendingDocument entry : batch) {
+            entry.persisted()
+                    .thenCompose(ignored -> storagePort.deleteObject(QUEUE_DIR, entry.path()))
+                    .exceptionally(error -> {
+                        log.debug("[RagIngestion] Failed to delete indexed document {}: {}", entry.path(),
+                                rootMessage(error));
+                        return null;
+                    });
+        }
+    }
+
+    synchronized long deduplicated() {
+        return deduplicated;
+    }
+
+    synchronized long dropped() {
+        return dropped;
+    }
+
+    static String rootMessage(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    private synchronized boolean restore(String path, String document) {
+        if (pending.stream().anyMatch(entry -> entry.path().equals(path))) {
+            return false;
+        }
+        recentKeys.add(keyOf(path));
+        pending.addLast(new PendingDocument(path, document, Instant.EPOCH, CompletableFuture.completedFuture(null)));
+        pendingChars += document.length();
+        return true;
+    }
+
+    private static String fingerprint(String text) {
+        String normalized = NON_WORD.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(normalized.getBytes(StandardCharsets.UTF_8));
+            StringBuilder builder = new StringBuilder(KEY_LENGTH);
+            for (int i = 0; i < KEY_LENGTH / 2; i++) {
+                builder.append(String.format("%02x", bytes[i] & 0xff));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String keyOf(String path) {
+        String name = path.substring(0, path.length() - QUEUE_SUFFIX.length());
+        return name.substring(name.lastIndexOf('-') + 1);
+    }
+
+    record PendingDocument(String path, String document, Instant enqueuedAt, CompletableFuture<Void> persisted) {
+    }
+}
@@ -0,0 +1,258 @@
+package me.golemcore.bot.domain.rag;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.domain.rag.RagIngestionBacklog.PendingDocument;
+import me.golemcore.bot.port.outbound.RagIngestionStatsPort;
+import me.golemcore.bot.port.outbound.RagPort;
+import me.golemcore.bot.port.outbound.StoragePort;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Batching queue between
+ * {@link me.golemcore.bot.domain.system.RagIndexingSystem} and
+ * {@link RagPort#index}.
+ *
+ * <p>
+ * Accepted exchanges are kept in a durable, deduplicated
+ * {@link RagIngestionBacklog}. They are coalesced into one ingest per batch (up
+ * to {@link #MAX_BATCH_DOCUMENTS} documents or {@link #MAX_BATCH_CHARS}
+ * characters, or whatever arrived within {@link #FLUSH_WINDOW}), at most
+ * {@link #MAX_IN_FLIGHT_BATCHES} batches are sent concurrently, and a failed
+ * batch goes back to the head of the backlog and is retried with capped
+ * exponential backoff. Every acknowledged batch invalidates the
+ * {@link RagQueryCache}.
+ * </p>
+ */
+@Slf4j
+public class RagIngestionQueue implements RagIngestionStatsPort {
+
+    static final int MAX_BATCH_DOCUMENTS = 8;
+    static final int MAX_BATCH_CHARS = 32_000;
+    static final Duration FLUSH_WINDOW = Duration.ofSeconds(5);
+    static final int MAX_IN_FLIGHT_BATCHES = 2;
+    static final Duration RETRY_BASE_DELAY = Duration.ofSeconds(5);
+    static final Duration RETRY_MAX_DELAY = Duration.ofMinutes(5);
+    static final String BATCH_SEPARATOR = "\n---\n\n";
+
+    private static final Duration TICK_INTERVAL = Duration.ofSeconds(1);
+
+    private final RagPort ragPort;
+    private final RagIngestionBacklog backlog;
+    private final RagQueryCache queryCache;
+    private final Clock clock;
+
+    private final Object lock = new Object();
+    private int inFlightBatches;
+    private int consecutiveFailures;
+    private Instant retryNotBefore = Instant.MIN;
+
+    private final AtomicLong indexedDocuments = new AtomicLong();
+    private final AtomicLong indexedBatches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rag-ingestion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RagIngestionQueue(RagPort ragPort, StoragePort storagePort, RagQueryCache queryCache, Clock clock) {
+        this.ragPort = ragPort;
+        this.backlog = new RagIngestionBacklog(storagePort, clock);
+        this.queryCache = queryCache;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void start() {
+        int recovered = recover();
+        if (recovered > 0) {
+            log.info("[RagIngestion] Re-queued {} documents pending from the previous run", recovered);
+        }
+        scheduler.scheduleWithFixedDelay(this::tick, TICK_INTERVAL.toMillis(), TICK_INTERVAL.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Accept a formatted exchange for indexing.
+     *
+     * @param document
+     *            the text sent to the RAG backend
+     * @param dedupKey
+     *            text identifying the exchange for deduplication, without volatile
+     *            parts such as timestamps; {@code null} uses the document itself
+     * @return {@code true} when the document was queued, {@code false} when it was
+     *         a duplicate or the queue is full
+     */
+    public boolean enqueue(String document, String dedupKey) {
+        if (document == null || document.isBlank()) {
+            return false;
+        }
+        if (!backlog.add(document, dedupKey)) {
+            return false;
+        }
+        tick();
+        return true;
+    }
+
+    /**
+     * Dispatch every pending document without waiting for the batching window.
+     * Backoff after failures and the in-flight limit still apply.
+     *
+     * @return future completing when the dispatched batches finished
+     */
+    public CompletableFuture<Void> flush() {
+        return CompletableFuture.allOf(drain(true).toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Dispatch the batches that are due: full batches immediately, partial ones
+     * once the oldest document waited for {@link #FLUSH_WINDOW}.
+     */
+    void tick() {
+        try {
+            drain(false);
+        } catch (RuntimeException e) { // NOSONAR - keep the scheduler alive
+            log.warn("[RagIngestion] Dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Load documents left in {@code rag/queue/} by a previous run.
+     *
+     * @return number of re-queued documents
+     */
+    int recover() {
+        return backlog.recover();
+    }
+
+    @Override
+    public Stats stats() {
+        synchronized (lock) {
+            return new Stats(backlog.size(), inFlightBatches, indexedDocuments.get(), indexedBatches.get(),
+                    backlog.deduplicated(), failedBatches.get(), backlog.dropped());
+        }
+    }
+
+    private List<CompletableFuture<Void>> drain(boolean force) {
+        List<CompletableFuture<Void>> dispatched = new ArrayList<>();
+        if (!ragPort.isAvailable()) {
+            return dispatched;
+        }
+        while (true) {
+            List<PendingDocument> batch;
+            synchronized (lock) {
+                if (!isBatchDue(clock.instant(), force)) {
+                    return dispatched;
+                }
+                batch = backlog.takeBatch(MAX_BATCH_DOCUMENTS, MAX_BATCH_CHARS);
+                if (batch.isEmpty()) {
+                    return dispatched;
+                }
+                inFlightBatches++;
+            }
+            dispatched.add(dispatch(batch));
+        }
+    }
+
+    private boolean isBatchDue(Instant now, boolean force) {
+        Instant oldest = backlog.oldestEnqueuedAt();
+        if (oldest == null || inFlightBatches >= MAX_IN_FLIGHT_BATCHES || now.isBefore(retryNotBefore)) {
+            return false;
+        }
+        return force
+                || backlog.size() >= MAX_BATCH_DOCUMENTS
+                || backlog.chars() >= MAX_BATCH_CHARS
+                || !oldest.plus(FLUSH_WINDOW).isAfter(now);
+    }
+
+    private CompletableFuture<Void> dispatch(List<PendingDocument> batch) {
+        String document = batch.stream().map(PendingDocument::document).reduce((left, right) -> left
+                + BATCH_SEPARATOR + right).orElse("");
+        CompletableFuture<Void> indexing;
+        try {
+            indexing = ragPort.index(document);
+        } catch (RuntimeException e) { // NOSONAR - treat a throwing provider like a failed ingest
+            indexing = CompletableFuture.failedFuture(e);
+        }
+        if (indexing == null) {
+            indexing = CompletableFuture.completedFuture(null);
+        }
+        return indexing.handle((ignored, error) -> {
+            if (error == null) {
+                onIndexed(batch, document.length());
+            } else {
+                onFailed(batch, error);
+            }
+            return null;
+        }).thenRun(this::tick);
+    }
+
+    private void onIndexed(List<PendingDocument> batch, int chars) {
+        synchronized (lock) {
+            inFlightBatches--;
+            consecutiveFailures = 0;
+            retryNotBefore = Instant.MIN;
+        }
+        indexedBatches.incrementAndGet();
+        indexedDocuments.addAndGet(batch.size());
+        queryCache.invalidateAll();
+        log.debug("[RagIngestion] Indexed batch of {} documents ({} chars)", batch.size(), chars);
+        backlog.acknowledge(batch);
+    }
+
+    private void onFailed(List<PendingDocument> batch, Throwable error) {
+        Duration delay;
+        synchronized (lock) {
+            inFlightBatches--;
+            consecutiveFailures++;
+            delay = retryDelay(consecutiveFailures);
+            retryNotBefore = clock.instant().plus(delay);
+            backlog.requeue(batch);
+        }
+        failedBatches.incrementAndGet();
+        log.warn("[RagIngestion] Failed to index batch of {} documents, retrying in {} ms: {}", batch.size(),
+                delay.toMillis(), RagIngestionBacklog.rootMessage(error));
+    }
+
+    private static Duration retryDelay(int failures) {
+        int exponent = Math.min(failures - 1, 16);
+        Duration delay = RETRY_BASE_DELAY.multipliedBy(1L << exponent);
+        return delay.compareTo(RETRY_MAX_DELAY) > 0 ? RETRY_MAX_DELAY : delay;
+    }
+}
@@ -0,0 +1,264 @@
+package me.golemcore.bot.domain.rag;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.port.outbound.EmbeddingClientResolverPort;
+import me.golemcore.bot.port.outbound.EmbeddingPort;
+import me.golemcore.bot.port.outbound.RagQueryCacheStatsPort;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Short-lived cache of RAG query results, keyed by query mode and normalized
+ * query text.
+ *
+ * <p>
+ * Queries that differ only in case, punctuation or whitespace share an entry.
+ * When an embedding provider is configured, a query without an exact entry is
+ * embedded and served from the most similar cached query of the same mode if
+ * the cosine similarity reaches the configured threshold. Entries expire after
+ * the TTL and are all dropped by {@link #invalidateAll()} once new documents
+ * were ingested, so answers never lag behind the knowledge graph longer than
+ * one ingest.
+ * </p>
+ */
+@Slf4j
+public class RagQueryCache implements RagQueryCacheStatsPort {
+
+    private static final String DEFAULT_MODE = "default";
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final RagQueryCacheSettings settings;
+    private final EmbeddingClientResolverPort embeddingClientResolver;
+    private final Clock clock;
+    private final LinkedHashMap<String, CachedResult> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong similarHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stores = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong embeddingFailures = new AtomicLong();
+
+    public RagQueryCache(RagQueryCacheSettings settings, EmbeddingClientResolverPort embeddingClientResolver,
+            Clock clock) {
+        this.settings = Objects.requireNonNull(settings);
+        this.embeddingClientResolver = embeddingClientResolver;
+        this.clock = Objects.requireNonNull(clock);
+        int maxEntries = settings.maxEntries();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public static RagQueryCache disabled() {
+        return new RagQueryCache(RagQueryCacheSettings.disabled(), null, Clock.systemUTC());
+    }
+
+    /**
+     * Return the cached result for {@code query}, or run {@code loader} and cache
+     * its non-blank result.
+     *
+     * @param mode
+     *            retrieval mode the result depends on; {@code null} for the
+     *            provider default
+     */
+    public String getOrLoad(String query, String mode, Supplier<String> loader) {
+        if (!settings.enabled() || query == null || query.isBlank()) {
+            return loader.get();
+        }
+        String modeKey = mode != null && !mode.isBlank() ? mode.trim().toLowerCase(Locale.ROOT) : DEFAULT_MODE;
+        String key = modeKey + "\n" + normalize(query);
+        long loadGeneration = generation.get();
+        Instant now = clock.instant();
+
+        CachedResult cached = getFresh(key, now);
+        if (cached != null) {
+            hits.incrementAndGet();
+            log.debug("[RagCache] Hit for {} query", modeKey);
+            return cached.result();
+        }
+
+        float[] embedding = settings.similarityEnabled() ? embed(query) : null;
+        if (embedding != null) {
+            CachedResult similar = findSimilar(modeKey, embedding, now);
+            if (similar != null) {
+                similarHits.incrementAndGet();
+                log.debug("[RagCache] Similarity hit for {} query", modeKey);
+                return similar.result();
+            }
+        }
+
+        misses.incrementAndGet();
+        String result = loader.get();
+        if (result != null && !result.isBlank()) {
+            store(key, new CachedResult(modeKey, embedding, result, now.plus(settings.ttl())), loadGeneration);
+        }
+        return result;
+    }
+
+    /**
+     * Drop every cached result, including results of queries still loading.
+     */
+    public void invalidateAll() {
+        if (!settings.enabled()) {
+            return;
+        }
+        generation.incrementAndGet();
+        int removed;
+        synchronized (entries) {
+            removed = entries.size();
+            entries.clear();
+        }
+        if (removed > 0) {
+            invalidations.addAndGet(removed);
+            log.debug("[RagCache] Invalidated {} cached results", removed);
+        }
+    }
+
+    @Override
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(settings.enabled(), hits.get(), similarHits.get(), misses.get(), stores.get(),
+                invalidations.get(), expirations.get(), embeddingFailures.get(), size);
+    }
+
+    private CachedResult getFresh(String key, Instant now) {
+        synchronized (entries) {
+            CachedResult cached = entries.get(key);
+            if (cached != null && !now.isBefore(cached.expiresAt())) {
+                entries.remove(key);
+                expirations.incrementAndGet();
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    private CachedResult findSimilar(String modeKey, float[] embedding, Instant now) {
+        CachedResult best = null;
+        double bestSimilarity = settings.similarityThreshold();
+        synchronized (entries) {
+            Iterator<CachedResult> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                CachedResult cached = iterator.next();
+                if (!now.isBefore(cached.expiresAt())) {
+                    iterator.remove();
+                    expirations.incrementAndGet();
+                    continue;
+                }
+                if (cached.embedding() == null || cached.embedding().length != embedding.length
+                        || !modeKey.equals(cached.mode())) {
+                    continue;
+                }
+                double similarity = dot(cached.embedding(), embedding);
+                if (similarity >= bestSimilarity) {
+                    best = cached;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+        return best;
+    }
+
+    private void store(String key, CachedResult result, long loadGeneration) {
+        synchronized (entries) {
+            // A result loaded across an ingest may predate the new documents.
+            if (generation.get() != loadGeneration) {
+                return;
+            }
+            entries.put(key, result);
+        }
+        stores.incrementAndGet();
+    }
+
+    private float[] embed(String query) {
+        try {
+            EmbeddingPort client = embeddingClientResolver.resolve(settings.embeddingProvider());
+            EmbeddingPort.EmbeddingResponse response = client.embed(new EmbeddingPort.EmbeddingRequest(
+                    settings.embeddingBaseUrl(),
+                    settings.embeddingApiKey(),
+                    settings.embeddingModel(),
+                    settings.embeddingDimensions(),
+                    settings.embeddingTimeoutMs(),
+                    List.of(query)));
+            if (response == null || response.vectors() == null || response.vectors().isEmpty()) {
+                return null;
+            }
+            return unitVector(response.vectors().getFirst());
+        } catch (RuntimeException e) { // NOSONAR - similarity matching is optional, fall back to exact keys
+            embeddingFailures.incrementAndGet();
+            log.debug("[RagCache] Query embedding failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static float[] unitVector(float[] values) {
+        if (values == null || values.length == 0) {
+            return null;
+        }
+        double norm = 0;
+        for (float value : values) {
+            norm += (double) value * value;
+        }
+        if (norm == 0) {
+            return null;
+        }
+        double scale = 1.0 / Math.sqrt(norm);
+        float[] vector = new float[values.length];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) (values[i] * scale);
+        }
+        return vector;
+    }
+
+    private static double dot(float[] left, float[] right) {
+        double sum = 0;
+        for (int i = 0; i < left.length; i++) {
+            sum += left[i] * right[i];
+        }
+        return sum;
+    }
+
+    private static String normalize(String query) {
+        return NON_WORD.matcher(query.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private record CachedResult(String mode, float[] embedding, String result, Instant expiresAt) {
+    }
+}
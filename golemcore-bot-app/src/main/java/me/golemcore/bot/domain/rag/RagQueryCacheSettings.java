@@ -0,0 +1,48 @@
+package me.golemcore.bot.domain.rag;
+
+import java.time.Duration;
+
+/**
+ * Policy knobs for the RAG query cache. Paraphrase matching is active only when
+ * an embedding provider and model are configured.
+ */
+// @formatter:off
+public record RagQueryCacheSettings(
+        boolean enabled,
+        Duration ttl,
+        int maxEntries,
+        double similarityThreshold,
+        String embeddingProvider,
+        String embeddingBaseUrl,
+        String embeddingApiKey,
+        String embeddingModel,
+        Integer embeddingDimensions,
+        Integer embeddingTimeoutMs) {
+
+    public RagQueryCacheSettings {
+        ttl = ttl != null && !ttl.isNegative() && !ttl.isZero()
+                ? ttl
+                : Duration.ofMinutes(10);
+        maxEntries = maxEntries > 0 ? maxEntries : 256;
+        similarityThreshold = similarityThreshold > 0 && similarityThreshold <= 1
+                ? similarityThreshold
+                : 0.92;
+    }
+
+    public static RagQueryCacheSettings defaults() {
+        return new RagQueryCacheSettings(true, Duration.ofMinutes(10), 256, 0.92,
+                null, null, null, null, null, null);
+    }
+
+    public static RagQueryCacheSettings disabled() {
+        return new RagQueryCacheSettings(false, Duration.ofMinutes(10), 256, 0.92,
+                null, null, null, null, null, null);
+    }
+
+    public boolean similarityEnabled() {
+        return enabled
+                && embeddingProvider != null && !embeddingProvider.isBlank()
+                && embeddingModel != null && !embeddingModel.isBlank();
+    }
+}
+// @formatter:on
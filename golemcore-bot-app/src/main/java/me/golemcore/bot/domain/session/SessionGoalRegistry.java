@@ -0,0 +1,248 @@
+package me.golemcore.bot.domain.session;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import me.golemcore.bot.domain.model.AutoTask;
+import me.golemcore.bot.domain.model.Goal;
+import me.golemcore.bot.port.outbound.SessionCleanupPort;
+
+/**
+ * Write-through in-memory registry of session-bound goals and tasks.
+ *
+ * <p>
+ * Each session's goals are loaded from {@link SessionGoalStorageService} once
+ * and kept as an immutable snapshot indexed by goal id, task id and goal
+ * status, with the next pending task precomputed. Goals in a snapshot carry
+ * their session id and tasks their goal id. Reads are served from the snapshot
+ * and never touch storage; saves are written to storage first and only then
+ * replace the snapshot, so a failed write leaves the registry unchanged. Goals
+ * and tasks are always handed out as copies, callers may mutate them freely and
+ * persist the result through {@link #saveGoals(String, List)}.
+ *
+ * <p>
+ * Storage is only touched under a per-session write lock, never inside map
+ * operations. Snapshots are dropped when their session is deleted and once they
+ * have not been read or written for {@link #IDLE_TTL}; the next read reloads
+ * them.
+ */
+public class SessionGoalRegistry implements SessionCleanupPort {
+
+    static final Duration IDLE_TTL = Duration.ofMinutes(30);
+
+    private static final Duration SWEEP_INTERVAL = Duration.ofMinutes(1);
+    private static final int WRITE_LOCK_STRIPES = 64;
+    private static final Comparator<Goal> GOAL_CREATION_ORDER = Comparator.comparing(Goal::getCreatedAt,
+            Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final SessionGoalStorageService sessionGoalStorageService;
+    private final Clock clock;
+    private final Map<String, CachedGoals> sessions = new ConcurrentHashMap<>();
+    private final Object[] writeLocks = new Object[WRITE_LOCK_STRIPES];
+    private final AtomicLong nextSweepAtMillis = new AtomicLong();
+
+    public SessionGoalRegistry(SessionGoalStorageService sessionGoalStorageService, Clock clock) {
+        this.sessionGoalStorageService = sessionGoalStorageService;
+        this.clock = clock;
+        for (int i = 0; i < writeLocks.length; i++) {
+            writeLocks[i] = new Object();
+        }
+    }
+
+    public List<Goal> getGoals(String sessionId) {
+        return copyGoals(snapshot(sessionId).goals());
+    }
+
+    public List<Goal> getGoalsByStatus(String sessionId, Goal.GoalStatus status) {
+        return copyGoals(snapshot(sessionId).goalsByStatus().getOrDefault(status, List.of()));
+    }
+
+    public Optional<Goal> getGoal(String sessionId, String goalId) {
+        return Optional.ofNullable(snapshot(sessionId).goalsById().get(goalId)).map(SessionGoalRegistry::copyGoal);
+    }
+
+    public Optional<Goal> findGoalForTask(String sessionId, String taskId) {
+        return Optional.ofNullable(snapshot(sessionId).goalsByTaskId().get(taskId))
+                .map(SessionGoalRegistry::copyGoal);
+    }
+
+    /**
+     * Returns the first pending task of the earliest created active goal, ordered
+     * by task order.
+     */
+    public Optional<AutoTask> getNextPendingTask(String sessionId) {
+        return Optional.ofNullable(snapshot(sessionId).nextPendingTask()).map(SessionGoalRegistry::copyTask);
+    }
+
+    public void saveGoals(String sessionId, List<Goal> goals) {
+        // The write lock serializes writers and loaders of one session so the
+        // snapshot always matches the last write that reached storage.
+        synchronized (writeLock(sessionId)) {
+            sessionGoalStorageService.saveGoals(sessionId, goals);
+            sessions.put(sessionId, new CachedGoals(SessionGoals.of(sessionId, goals), clock.millis()));
+        }
+    }
+
+    @Override
+    public void deleteSessionData(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        synchronized (writeLock(sessionId)) {
+            sessions.remove(sessionId);
+        }
+    }
+
+    private SessionGoals snapshot(String sessionId) {
+        long now = clock.millis();
+        evictIdleSessions(now);
+        CachedGoals cached = sessions.get(sessionId);
+        if (cached == null) {
+            synchronized (writeLock(sessionId)) {
+                cached = sessions.get(sessionId);
+                if (cached == null) {
+                    List<Goal> loaded = sessionGoalStorageService.loadGoals(sessionId);
+                    cached = new CachedGoals(SessionGoals.of(sessionId, loaded), now);
+                    sessions.put(sessionId, cached);
+                }
+            }
+        }
+        cached.touch(now);
+        return cached.goals();
+    }
+
+    private void evictIdleSessions(long now) {
+        long nextSweepAt = nextSweepAtMillis.get();
+        if (now < nextSweepAt || !nextSweepAtMillis.compareAndSet(nextSweepAt, now + SWEEP_INTERVAL.toMillis())) {
+            return;
+        }
+        long cutoff = now - IDLE_TTL.toMillis();
+        sessions.values().removeIf(cached -> cached.lastAccessMillis() < cutoff);
+    }
+
+    private Object writeLock(String sessionId) {
+        return writeLocks[Math.floorMod(sessionId.hashCode(), writeLocks.length)];
+    }
+
+    private static List<Goal> copyGoals(List<Goal> goals) {
+        List<Goal> copies = new ArrayList<>(goals.size());
+        for (Goal goal : goals) {
+            copies.add(copyGoal(goal));
+        }
+        return copies;
+    }
+
+    private static Goal copyGoal(Goal goal) {
+        if (goal == null) {
+            return null;
+        }
+        List<AutoTask> tasks = new ArrayList<>();
+        if (goal.getTasks() != null) {
+            for (AutoTask task : goal.getTasks()) {
+                tasks.add(copyTask(task));
+            }
+        }
+        return goal.toBuilder().tasks(tasks).build();
+    }
+
+    private static AutoTask copyTask(AutoTask task) {
+        return task != null ? task.toBuilder().build() : null;
+    }
+
+    private static final class CachedGoals {
+
+        private final SessionGoals goals;
+        private volatile long lastAccessMillis;
+
+        private CachedGoals(SessionGoals goals, long lastAccessMillis) {
+            this.goals = goals;
+            this.lastAccessMillis = lastAccessMillis;
+        }
+
+        private SessionGoals goals() {
+            return goals;
+        }
+
+        private long lastAccessMillis() {
+            return lastAccessMillis;
+        }
+
+        private void touch(long now) {
+            lastAccessMillis = now;
+        }
+    }
+
+    private record SessionGoals(
+            List<Goal> goals,
+            Map<String, Goal> goalsById,
+            Map<String, Goal> goalsByTaskId,
+            Map<Goal.GoalStatus, List<Goal>> goalsByStatus,
+            AutoTask nextPendingTask) {
+
+        private static SessionGoals of(String sessionId, List<Goal> loadedGoals) {
+            List<Goal> goals = copyGoals(loadedGoals != null ? loadedGoals : List.of());
+            Map<String, Goal> goalsById = new LinkedHashMap<>();
+            Map<String, Goal> goalsByTaskId = new LinkedHashMap<>();
+            Map<Goal.GoalStatus, List<Goal>> goalsByStatus = new EnumMap<>(Goal.GoalStatus.class);
+            for (Goal goal : goals) {
+                if (goal == null) {
+                    continue;
+                }
+                goal.setSessionId(sessionId);
+                if (goal.getId() != null) {
+                    goalsById.putIfAbsent(goal.getId(), goal);
+                }
+                if (goal.getStatus() != null) {
+                    goalsByStatus.computeIfAbsent(goal.getStatus(), status -> new ArrayList<>()).add(goal);
+                }
+                for (AutoTask task : goal.getTasks()) {
+                    if (task == null) {
+                        continue;
+                    }
+                    task.setGoalId(goal.getId());
+                    if (task.getId() != null) {
+                        goalsByTaskId.putIfAbsent(task.getId(), goal);
+                    }
+                }
+            }
+            return new SessionGoals(goals, goalsById, goalsByTaskId, goalsByStatus,
+                    findNextPendingTask(goalsByStatus.getOrDefault(Goal.GoalStatus.ACTIVE, List.of())));
+        }
+
+        private static AutoTask findNextPendingTask(List<Goal> activeGoals) {
+            return activeGoals.stream()
+                    .sorted(GOAL_CREATION_ORDER)
+                    .flatMap(goal -> goal.getTasks().stream()
+                            .filter(task -> task != null && task.getStatus() == AutoTask.TaskStatus.PENDING)
+                            .sorted(Comparator.comparingInt(AutoTask::getOrder)))
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+}
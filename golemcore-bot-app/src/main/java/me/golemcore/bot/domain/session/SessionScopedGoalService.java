@@ -57,15 +57,15 @@ public class SessionScopedGoalService {
     private static final int AUTO_CONTEXT_DIARY_MAX_CHARS = 320;
     private static final String AUTO_CONTEXT_TRUNCATED_SUFFIX = " ... [truncated]";
 
-    private final SessionGoalStorageService sessionGoalStorageService;
+    private final SessionGoalRegistry sessionGoalRegistry;
     private final AutoModeConfigView runtimeConfigService;
     private final SessionDiaryService sessionDiaryService;
 
     public SessionScopedGoalService(
-            SessionGoalStorageService sessionGoalStorageService,
+            SessionGoalRegistry sessionGoalRegistry,
             AutoModeConfigView runtimeConfigService,
             SessionDiaryService sessionDiaryService) {
-        this.sessionGoalStorageService = sessionGoalStorageService;
+        this.sessionGoalRegistry = sessionGoalRegistry;
         this.runtimeConfigService = runtimeConfigService;
         this.sessionDiaryService = sessionDiaryService;
     }
@@ -116,7 +116,7 @@ public class SessionScopedGoalService {
     }
 
     public List<Goal> getGoals(String sessionId) {
-        List<Goal> goals = sessionGoalStorageService.loadGoals(sessionId);
+        List<Goal> goals = sessionGoalRegistry.getGoals(sessionId);
         normalizeGoals(sessionId, goals);
         return goals;
     }
@@ -128,15 +128,13 @@ public class SessionScopedGoalService {
     }
 
     public List<Goal> getActiveGoals(String sessionId) {
-        return getGoals(sessionId).stream()
-                .filter(goal -> goal.getStatus() == Goal.GoalStatus.ACTIVE)
-                .toList();
+        List<Goal> goals = sessionGoalRegistry.getGoalsByStatus(sessionId, Goal.GoalStatus.ACTIVE);
+        normalizeGoals(sessionId, goals);
+        return List.copyOf(goals);
     }
 
     public Optional<Goal> getGoal(String sessionId, String goalId) {
-        return getGoals(sessionId).stream()
-                .filter(goal -> goalId.equals(goal.getId()))
-                .findFirst();
+        return sessionGoalRegistry.getGoal(sessionId, goalId).map(goal -> normalizeGoal(sessionId, goal));
     }
 
     public AutoTask addTask(String sessionId, String goalId, String title, String description, String prompt,
@@ -221,13 +219,13 @@ public class SessionScopedGoalService {
     }
 
     public Optional<Goal> findGoalForTask(String sessionId, String taskId) {
-        return getGoals(sessionId).stream()
-                .filter(goal -> goal.getTasks().stream().anyMatch(task -> taskId.equals(task.getId())))
-                .findFirst();
+        return sessionGoalRegistry.findGoalForTask(sessionId, taskId).map(goal -> normalizeGoal(sessionId, goal));
     }
 
     public Optional<AutoTask> getTask(String sessionId, String taskId) {
-        return findTaskLocation(getGoals(sessionId), taskId).map(TaskLocation::task);
+        return findGoalForTask(sessionId, taskId)
+                .flatMap(goal -> findTaskLocation(List.of(goal), taskId))
+                .map(TaskLocation::task);
     }
 
     public AutoTask updateTask(String sessionId, String taskId, String title, String description, String prompt,
@@ -268,12 +266,7 @@ public class SessionScopedGoalService {
     }
 
     public Optional<AutoTask> getNextPendingTask(String sessionId) {
-        return getActiveGoals(sessionId).stream()
-                .sorted(Comparator.comparing(Goal::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder())))
-                .flatMap(goal -> goal.getTasks().stream()
-                        .filter(task -> task.getStatus() == AutoTask.TaskStatus.PENDING)
-                        .sorted(Comparator.comparingInt(AutoTask::getOrder)))
-                .findFirst();
+        return sessionGoalRegistry.getNextPendingTask(sessionId);
     }
 
     public void updateTaskStatus(String sessionId, String goalId, String taskId, AutoTask.TaskStatus status,
@@ -792,7 +785,7 @@ public class SessionScopedGoalService {
 
     private void saveGoals(String sessionId, List<Goal> goals) {
         normalizeGoals(sessionId, goals);
-        sessionGoalStorageService.saveGoals(sessionId, goals);
+        sessionGoalRegistry.saveGoals(sessionId, goals);
     }
 
     private void normalizeGoals(String sessionId, List<Goal> goals) {
@@ -804,15 +797,16 @@ public class SessionScopedGoalService {
         }
     }
 
-    private void normalizeGoal(String sessionId, Goal goal) {
+    private Goal normalizeGoal(String sessionId, Goal goal) {
         if (goal == null) {
-            return;
+            return null;
         }
         goal.setSessionId(sessionId);
         if (INBOX_GOAL_ID.equals(goal.getId())) {
             normalizeInboxGoal(goal);
         }
         normalizeGoalTasks(goal);
+        return goal;
     }
 
     private void normalizeInboxGoal(Goal goal) {
@@ -55,6 +55,8 @@ public class DynamicSkillFactory {
                 .env(resolveEnvPlaceholders(entry.getEnv()))
                 .startupTimeoutSeconds(entry.getStartupTimeoutSeconds() != null ? entry.getStartupTimeoutSeconds() : 30)
                 .idleTimeoutMinutes(entry.getIdleTimeoutMinutes() != null ? entry.getIdleTimeoutMinutes() : 5)
+                .poolSize(entry.getPoolSize() != null ? entry.getPoolSize() : 1)
+                .prewarm(Boolean.TRUE.equals(entry.getPrewarm()))
                 .build();
 
         String skillName = toSkillName(entry.getName());
@@ -20,14 +20,19 @@ package me.golemcore.bot.domain.skills;
 
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
@@ -47,6 +52,11 @@ import org.springframework.stereotype.Service;
  * requirement checking, and MCP server configuration parsing. Skills are stored
  * in the skills/ directory and can be dynamically created or modified at
  * runtime.
+ *
+ * <p>
+ * Reloads are incremental: a SKILL.md whose modification time is unchanged is
+ * not read again, and one whose content hash is unchanged is not parsed again.
+ * The prompt summary is cached until the registry changes.
  */
 @Service
 @Slf4j
@@ -56,6 +66,10 @@ public class SkillService implements SkillComponent {
     private static final String SUPPRESS_UNCHECKED = "unchecked";
     private static final String UNKNOWN = "unknown";
     private static final int MIN_PATH_PARTS_FOR_SKILL_NAME = 2;
+    // A file rewritten within the timestamp granularity of the previous read can
+    // keep its modification time, so fresh timestamps are confirmed by content.
+    private static final long MODIFICATION_TIME_RACE_MILLIS = 2_000L;
+    private static final List<String> ENVIRONMENT_DEPENDENT_KEYS = List.of("vars", "requires", "mcp");
 
     private final StoragePort storagePort;
     private final SkillSettingsPort settingsPort;
@@ -64,6 +78,10 @@ public class SkillService implements SkillComponent {
     private final SkillDocumentService skillDocumentService;
 
     private final Map<String, Skill> skillRegistry = new ConcurrentHashMap<>();
+    private final Map<String, LoadedSkillFile> loadedFiles = new LinkedHashMap<>();
+    private final AtomicLong registryVersion = new AtomicLong();
+    private String loadedDirectory;
+    private volatile SkillsSummary cachedSummary;
 
     public SkillService(
             StoragePort storagePort,
@@ -125,6 +143,17 @@ public class SkillService implements SkillComponent {
         if (!runtimeConfigService.isSkillsEnabled() || !runtimeConfigService.isSkillsProgressiveLoadingEnabled()) {
             return "";
         }
+        long version = registryVersion.get();
+        SkillsSummary cached = cachedSummary;
+        if (cached != null && cached.version() == version) {
+            return cached.text();
+        }
+        String text = buildSkillsSummary();
+        cachedSummary = new SkillsSummary(version, text);
+        return text;
+    }
+
+    private String buildSkillsSummary() {
         List<Skill> available = getAvailableSkills();
         if (available.isEmpty()) {
             return "";
@@ -154,6 +183,7 @@ public class SkillService implements SkillComponent {
         }
         Skill existing = skillRegistry.putIfAbsent(skill.getName(), skill);
         if (existing == null) {
+            registryVersion.incrementAndGet();
             log.info("Registered dynamic skill: {}", skill.getName());
             return true;
         }
@@ -162,41 +192,125 @@ public class SkillService implements SkillComponent {
     }
 
     @Override
-    public void reload() {
+    public synchronized void reload() {
         if (!runtimeConfigService.isSkillsEnabled()) {
             skillRegistry.clear();
+            loadedFiles.clear();
+            registryVersion.incrementAndGet();
             log.info("Skills are disabled at runtime, registry cleared");
             return;
         }
 
-        Map<String, Skill> newRegistry = new ConcurrentHashMap<>();
         try {
-            List<String> keys = storagePort.listObjects(getSkillsDirectory(), "").join();
+            String directory = getSkillsDirectory();
+            if (!directory.equals(loadedDirectory)) {
+                loadedFiles.clear();
+                loadedDirectory = directory;
+            }
+            List<String> keys = storagePort.listObjects(directory, "").join();
+            Map<String, LoadedSkillFile> refreshed = new LinkedHashMap<>();
+            int parsed = 0;
             for (String key : keys) {
                 if (key.endsWith("/SKILL.md") || "SKILL.md".equals(key)) {
-                    loadSkillInto(key, newRegistry);
+                    LoadedSkillFile previous = loadedFiles.get(key);
+                    LoadedSkillFile current = refreshSkillFile(directory, key, previous);
+                    if (current == null) {
+                        continue;
+                    }
+                    refreshed.put(key, current);
+                    if (previous == null || previous.skill() != current.skill()) {
+                        parsed++;
+                    }
                 }
             }
-            skillRegistry.clear();
-            skillRegistry.putAll(newRegistry);
-            log.info("Loaded {} skills", skillRegistry.size());
+            loadedFiles.clear();
+            loadedFiles.putAll(refreshed);
+            boolean changed = applyToRegistry(refreshed);
+            log.info("Loaded {} skills ({} parsed, registry {})", skillRegistry.size(), parsed,
+                    changed ? "updated" : "unchanged");
         } catch (Exception ex) {
             log.warn("Failed to load skills from storage", ex);
         }
     }
 
-    private void loadSkillInto(String key, Map<String, Skill> target) {
+    private LoadedSkillFile refreshSkillFile(String directory, String key, LoadedSkillFile previous) {
         try {
-            String content = storagePort.getText(getSkillsDirectory(), key).join();
+            Long lastModified = readLastModified(directory, key);
+            if (previous != null && previous.isUnmodifiedAt(lastModified)) {
+                return previous.dependsOnEnvironment() ? previous.withSkill(parseSkill(previous.content(), key))
+                        : previous;
+            }
+
+            long readAtMillis = System.currentTimeMillis();
+            String content = storagePort.getText(directory, key).join();
             if (content == null || content.isBlank()) {
-                return;
+                return null;
+            }
+
+            String contentHash = sha256Hex(content);
+            if (previous != null && previous.contentHash().equals(contentHash) && !previous.dependsOnEnvironment()) {
+                return new LoadedSkillFile(lastModified, readAtMillis, contentHash, previous.content(),
+                        previous.skill(), false);
             }
 
             Skill skill = parseSkill(content, key);
-            target.put(skill.getName(), skill);
             log.debug("Loaded skill: {}", skill.getName());
+            return new LoadedSkillFile(lastModified, readAtMillis, contentHash, content, skill,
+                    dependsOnEnvironment(skill));
         } catch (Exception ex) {
             log.warn("Failed to load skill: {}", key, ex);
+            return null;
+        }
+    }
+
+    private Long readLastModified(String directory, String key) {
+        try {
+            return storagePort.getLastModified(directory, key).join();
+        } catch (RuntimeException ex) {
+            log.debug("Modification time unavailable for skill {}, falling back to content hash", key, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Updates the registry in place so readers never observe it half-empty.
+     * Later files win on a name clash, matching listing order. Dynamic skills
+     * are dropped, as a reload only keeps what is on storage.
+     */
+    private boolean applyToRegistry(Map<String, LoadedSkillFile> files) {
+        Map<String, Skill> loaded = new LinkedHashMap<>();
+        for (LoadedSkillFile file : files.values()) {
+            loaded.put(file.skill().getName(), file.skill());
+        }
+
+        boolean changed = skillRegistry.keySet().retainAll(loaded.keySet());
+        for (Map.Entry<String, Skill> entry : loaded.entrySet()) {
+            if (skillRegistry.put(entry.getKey(), entry.getValue()) != entry.getValue()) {
+                changed = true;
+            }
+        }
+        if (changed) {
+            registryVersion.incrementAndGet();
+        }
+        return changed;
+    }
+
+    /**
+     * Variables, environment requirements and MCP env placeholders are resolved
+     * at parse time from outside the SKILL.md, so such skills are re-parsed on
+     * every reload even when the file itself is unchanged.
+     */
+    private boolean dependsOnEnvironment(Skill skill) {
+        Map<String, Object> metadata = skill.getMetadata();
+        return metadata != null && ENVIRONMENT_DEPENDENT_KEYS.stream().anyMatch(metadata::containsKey);
+    }
+
+    private static String sha256Hex(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
         }
     }
 
@@ -326,6 +440,14 @@ public class SkillService implements SkillComponent {
             idleTimeout = ((Number) idleTimeoutObject).intValue();
         }
 
+        int poolSize = 1;
+        Object poolSizeObject = mcpMap.get("pool_size");
+        if (poolSizeObject instanceof Number) {
+            poolSize = ((Number) poolSizeObject).intValue();
+        }
+
+        boolean prewarm = Boolean.TRUE.equals(mcpMap.get("prewarm"));
+
         log.debug("Parsed MCP config: command='{}', env keys={}", command, env.keySet());
 
         return McpConfig.builder()
@@ -333,6 +455,8 @@ public class SkillService implements SkillComponent {
                 .env(env)
                 .startupTimeoutSeconds(startupTimeout)
                 .idleTimeoutMinutes(idleTimeout)
+                .poolSize(poolSize)
+                .prewarm(prewarm)
                 .build();
     }
 
@@ -423,4 +547,21 @@ public class SkillService implements SkillComponent {
         }
         return configured;
     }
+
+    private record LoadedSkillFile(Long lastModified, long readAtMillis, String contentHash, String content,
+            Skill skill, boolean dependsOnEnvironment) {
+
+        boolean isUnmodifiedAt(Long currentLastModified) {
+            return lastModified != null && lastModified.equals(currentLastModified)
+                    && lastModified + MODIFICATION_TIME_RACE_MILLIS < readAtMillis;
+        }
+
+        LoadedSkillFile withSkill(Skill reparsed) {
+            return new LoadedSkillFile(lastModified, readAtMillis, contentHash, content, reparsed,
+                    dependsOnEnvironment);
+        }
+    }
+
+    private record SkillsSummary(long version, String text) {
+    }
 }
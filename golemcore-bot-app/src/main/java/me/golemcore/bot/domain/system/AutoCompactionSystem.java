@@ -26,6 +26,7 @@ import me.golemcore.bot.domain.context.compaction.CompactionOrchestrationService
 import me.golemcore.bot.domain.context.compaction.CompactionPayloadMapper;
 import me.golemcore.bot.domain.context.compaction.ContextCompactionPolicy;
 import me.golemcore.bot.domain.context.compaction.ContextTokenEstimator;
+import me.golemcore.bot.domain.context.compaction.SpeculativeCompactionService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -38,7 +39,9 @@ import java.util.ArrayList;
  * compares it against either an absolute token threshold or a model-aware ratio
  * of the resolved model context window before invoking
  * {@link CompactionOrchestrationService} for split-safe compaction with
- * structured details.
+ * structured details. Below the threshold but above its speculative fraction,
+ * the summary is pre-computed in the background by
+ * {@link SpeculativeCompactionService}.
  */
 @Component
 @Slf4j
@@ -47,14 +50,17 @@ public class AutoCompactionSystem implements AgentSystem {
     private final CompactionOrchestrationService compactionOrchestrationService;
     private final ContextTokenEstimator contextTokenEstimator;
     private final ContextCompactionPolicy contextCompactionPolicy;
+    private final SpeculativeCompactionService speculativeCompactionService;
 
     public AutoCompactionSystem(
             CompactionOrchestrationService compactionOrchestrationService,
             ContextTokenEstimator contextTokenEstimator,
-            ContextCompactionPolicy contextCompactionPolicy) {
+            ContextCompactionPolicy contextCompactionPolicy,
+            SpeculativeCompactionService speculativeCompactionService) {
         this.compactionOrchestrationService = compactionOrchestrationService;
         this.contextTokenEstimator = contextTokenEstimator;
         this.contextCompactionPolicy = contextCompactionPolicy;
+        this.speculativeCompactionService = speculativeCompactionService;
     }
 
     @Override
@@ -85,6 +91,7 @@ public class AutoCompactionSystem implements AgentSystem {
         int threshold = contextCompactionPolicy.resolveHistoryThreshold(context);
 
         if (estimatedTokens <= threshold) {
+            speculateIfNearThreshold(context, estimatedTokens, threshold);
             return context;
         }
 
@@ -108,4 +115,17 @@ public class AutoCompactionSystem implements AgentSystem {
 
         return context;
     }
+
+    private void speculateIfNearThreshold(AgentContext context, int estimatedTokens, int threshold) {
+        if (!contextCompactionPolicy.isSpeculativeCompactionEnabled() || context.getSession() == null) {
+            return;
+        }
+        if (estimatedTokens < contextCompactionPolicy.resolveSpeculativeHistoryThreshold(threshold)) {
+            return;
+        }
+        log.debug("[AutoCompact] Context nearing threshold: ~{} tokens (threshold {}), pre-computing summary",
+                estimatedTokens, threshold);
+        speculativeCompactionService.speculate(context.getSession(),
+                contextCompactionPolicy.resolveCompactionKeepLast());
+    }
 }
@@ -23,6 +23,7 @@ import me.golemcore.bot.domain.model.ContextAttributes;
 import me.golemcore.bot.domain.model.LlmResponse;
 import me.golemcore.bot.domain.model.Message;
 import me.golemcore.bot.domain.model.TurnOutcome;
+import me.golemcore.bot.domain.rag.RagIngestionQueue;
 import me.golemcore.bot.port.outbound.RagPort;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -35,16 +36,17 @@ import java.util.Set;
 /**
  * System for indexing conversation exchanges into LightRAG for long-term
  * semantic memory (order=55). Runs after MemoryPersistSystem, before
- * ResponseRoutingSystem. Uses fire-and-forget async indexing to avoid blocking
- * the response pipeline. Filters trivial exchanges (greetings, short messages).
- * Integrates with external LightRAG REST API via
- * {@link me.golemcore.bot.port.outbound.RagPort}.
+ * ResponseRoutingSystem. Hands exchanges to {@link RagIngestionQueue}, which
+ * persists, deduplicates and batches them off the response pipeline. Filters
+ * trivial exchanges (greetings, short messages). Integrates with external
+ * LightRAG REST API via {@link me.golemcore.bot.port.outbound.RagPort}.
  */
 @Component
 @Slf4j
 public class RagIndexingSystem implements AgentSystem {
 
     private final RagPort ragPort;
+    private final RagIngestionQueue ingestionQueue;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
             .withZone(ZoneId.systemDefault());
@@ -54,8 +56,9 @@ public class RagIndexingSystem implements AgentSystem {
             "yes", "no", "\u043f\u0440\u0438\u0432\u0435\u0442", "\u043f\u043e\u043a\u0430",
             "\u0441\u043f\u0430\u0441\u0438\u0431\u043e", "\u0434\u0430", "\u043d\u0435\u0442");
 
-    public RagIndexingSystem(RagPort ragPort) {
+    public RagIndexingSystem(RagPort ragPort, RagIngestionQueue ingestionQueue) {
         this.ragPort = ragPort;
+        this.ingestionQueue = ingestionQueue;
     }
 
     @Override
@@ -111,15 +114,12 @@ public class RagIndexingSystem implements AgentSystem {
             return context;
         }
 
-        // Format and index (fire-and-forget)
+        // Format and queue; the ingestion queue batches and retries off the pipeline
         String document = formatDocument(userText, assistantText, context);
-        ragPort.index(document).whenComplete((v, ex) -> {
-            if (ex != null) {
-                log.warn("[RagIndexing] Failed to index: {}", ex.getMessage());
-            } else {
-                log.debug("[RagIndexing] Indexed {} chars", document.length());
-            }
-        });
+        String dedupKey = formatDedupKey(userText, assistantText, context);
+        if (ingestionQueue.enqueue(document, dedupKey)) {
+            log.debug("[RagIndexing] Queued {} chars", document.length());
+        }
 
         return context;
     }
@@ -148,6 +148,11 @@ public class RagIndexingSystem implements AgentSystem {
         return sb.toString();
     }
 
+    private String formatDedupKey(String userText, String assistantText, AgentContext context) {
+        String skill = context.getActiveSkill() != null ? context.getActiveSkill().getName() : "";
+        return skill + "\n" + userText + "\n" + assistantText;
+    }
+
     private Message getLastUserMessage(AgentContext context) {
         if (context.getMessages() == null || context.getMessages().isEmpty()) {
             return null;
@@ -35,6 +35,7 @@ import me.golemcore.bot.domain.progress.TurnProgressService;
 import me.golemcore.bot.domain.system.toolloop.repeat.AutonomyWorkKey;
 import me.golemcore.bot.domain.system.toolloop.repeat.ToolRepeatGuard;
 import me.golemcore.bot.domain.system.toolloop.repeat.ToolUseLedger;
+import me.golemcore.bot.domain.system.toolloop.repeat.ToolResultCache;
 import me.golemcore.bot.domain.system.toolloop.repeat.ToolUseLedgerStore;
 import me.golemcore.bot.domain.system.toolloop.view.ConversationViewBuilder;
 import me.golemcore.bot.port.outbound.LlmPort;
@@ -143,7 +144,8 @@ public class DefaultToolLoopSystem implements ToolLoopSystem {
                 builder.turnProgressService, builder.traceService,
                 builder.runtimeConfigService, builder.clock,
                 builder.planModeToolRestrictionService,
-                builder.repeatGuard);
+                builder.repeatGuard,
+                builder.resultCache);
     }
 
     /**
@@ -417,6 +419,7 @@ public class DefaultToolLoopSystem implements ToolLoopSystem {
         private ToolFailureRecoveryService toolFailureRecoveryService;
         private PlanModeToolRestrictionService planModeToolRestrictionService;
         private ToolRepeatGuard repeatGuard;
+        private ToolResultCache resultCache;
         private ToolUseLedgerStore toolUseLedgerStore;
         private me.golemcore.bot.domain.system.toolloop.resilience.LlmResilienceOrchestrator resilienceOrchestrator;
         private Clock clock;
@@ -539,6 +542,12 @@ public class DefaultToolLoopSystem implements ToolLoopSystem {
             return this;
         }
 
+        /** Sets the read-only tool result cache (optional, defaults to disabled). */
+        public Builder resultCache(ToolResultCache resultCache) {
+            this.resultCache = resultCache;
+            return this;
+        }
+
         /** Sets the durable ledger store used for autonomous repeat guard state. */
         public Builder toolUseLedgerStore(ToolUseLedgerStore toolUseLedgerStore) {
             this.toolUseLedgerStore = toolUseLedgerStore;
@@ -549,15 +549,19 @@ class LlmCallPhase {
                 // without ever finishing this span, leaving an orphan in the trace.
                 boolean succeeded = false;
                 Throwable failureCause = null;
+                LlmRequest request = null;
                 try {
                     appendRequestContextEvent(context, llmSpan, requestContextAttributes);
-                    LlmRequest request = buildRequestWithPreflight(context,
+                    request = buildRequestWithPreflight(context,
                             llmSpan != null ? llmSpan : context.getTraceContext(), selection, attempt);
                     emitContextHygieneEvent(context, selection, attempt, request);
-                    captureLlmSnapshot(context, llmSpan, tracingConfig, "request", request);
                     try (MdcSupport.Scope ignored = MdcSupport.withContext(buildTraceMdcContext(llmSpan, context))) {
                         LlmResponse response = llmPort.chat(request).get();
-                        captureLlmSnapshot(context, llmSpan, tracingConfig, "response", response);
+                        // Successful calls are sampled; the snapshots are serialized off this thread.
+                        if (shouldSampleLlmPayloads(llmSpan, tracingConfig)) {
+                            captureLlmSnapshot(context, llmSpan, tracingConfig, "request", request);
+                            captureLlmSnapshot(context, llmSpan, tracingConfig, "response", response);
+                        }
                         succeeded = true;
                         return response;
                     }
@@ -568,6 +572,9 @@ class LlmCallPhase {
                     if (succeeded) {
                         finishChildSpan(context, llmSpan, TraceStatusCode.OK, null);
                     } else {
+                        if (request != null) {
+                            captureLlmSnapshot(context, llmSpan, tracingConfig, "request", request);
+                        }
                         finishChildSpan(context, llmSpan, TraceStatusCode.ERROR,
                                 failureCause != null ? failureCause.getMessage() : null);
                     }
@@ -1343,8 +1350,19 @@ class LlmCallPhase {
                         || tracingConfig == null || !Boolean.TRUE.equals(tracingConfig.getCaptureLlmPayloads())) {
                     return;
                 }
-                traceService.captureSnapshot(context.getSession(), spanContext, tracingConfig,
-                        role, "application/json", serializeSnapshotPayload(payload));
+                // Hand the encoder a detached copy; serialization and compression both run off this thread.
+                Object detached = LlmTraceSnapshotPayloads.detach(payload);
+                traceService.captureSnapshotAsync(context.getSession(), spanContext, tracingConfig,
+                        role, "application/json", () -> serializeSnapshotPayload(detached));
+            }
+
+            private boolean shouldSampleLlmPayloads(TraceContext spanContext,
+                    RuntimeConfig.TracingConfig tracingConfig) {
+                Integer interval = tracingConfig != null ? tracingConfig.getLlmPayloadSampleInterval() : null;
+                if (interval == null || interval <= 1 || spanContext == null || spanContext.getSpanId() == null) {
+                    return true;
+                }
+                return Math.floorMod(spanContext.getSpanId().hashCode(), interval) == 0;
             }
 
             private Map<String, String> buildTraceMdcContext(TraceContext spanContext, AgentContext context) {
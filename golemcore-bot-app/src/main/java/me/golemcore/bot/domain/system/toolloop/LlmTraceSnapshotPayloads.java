@@ -0,0 +1,184 @@
+package me.golemcore.bot.domain.system.toolloop;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import me.golemcore.bot.domain.model.LlmRequest;
+import me.golemcore.bot.domain.model.LlmResponse;
+import me.golemcore.bot.domain.model.LlmUsage;
+import me.golemcore.bot.domain.model.Message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Detached copies of LLM requests and responses for trace snapshots that are
+ * serialized on the snapshot encoder thread.
+ *
+ * <p>
+ * A copy owns every list and map of the original and shares only strings and
+ * other leaf values, so the turn can keep editing its history while the encoder
+ * reads the copy. Copying walks messages and map entries but never encodes
+ * message content, which keeps the handoff cheap next to JSON serialization.
+ */
+final class LlmTraceSnapshotPayloads {
+
+    private LlmTraceSnapshotPayloads() {
+    }
+
+    static Object detach(Object payload) {
+        if (payload instanceof LlmRequest request) {
+            return copyOf(request);
+        }
+        if (payload instanceof LlmResponse response) {
+            return copyOf(response);
+        }
+        return payload;
+    }
+
+    static LlmRequest copyOf(LlmRequest request) {
+        return LlmRequest.builder()
+                .model(request.getModel())
+                .systemPrompt(request.getSystemPrompt())
+                .messages(copyMessages(request.getMessages()))
+                .tools(request.getTools() != null
+                        ? Collections.unmodifiableList(new ArrayList<>(request.getTools()))
+                        : null)
+                .toolResults(request.getToolResults() != null
+                        ? Collections.unmodifiableMap(new LinkedHashMap<>(request.getToolResults()))
+                        : null)
+                .temperature(request.getTemperature())
+                .maxTokens(request.getMaxTokens())
+                .stream(request.isStream())
+                .disableToolAttachmentHydration(request.isDisableToolAttachmentHydration())
+                .sessionId(request.getSessionId())
+                .traceId(request.getTraceId())
+                .traceSpanId(request.getTraceSpanId())
+                .traceParentSpanId(request.getTraceParentSpanId())
+                .traceRootKind(request.getTraceRootKind())
+                .modelTier(request.getModelTier())
+                .callerTag(request.getCallerTag())
+                .reasoningEffort(request.getReasoningEffort())
+                .build();
+    }
+
+    static LlmResponse copyOf(LlmResponse response) {
+        return LlmResponse.builder()
+                .content(response.getContent())
+                .toolCalls(copyToolCalls(response.getToolCalls()))
+                .usage(copyOf(response.getUsage()))
+                .model(response.getModel())
+                .finishReason(response.getFinishReason())
+                .providerMetadata(copyMap(response.getProviderMetadata()))
+                .compatibilityFlatteningApplied(response.isCompatibilityFlatteningApplied())
+                .build();
+    }
+
+    private static LlmUsage copyOf(LlmUsage usage) {
+        if (usage == null) {
+            return null;
+        }
+        return LlmUsage.builder()
+                .inputTokens(usage.getInputTokens())
+                .outputTokens(usage.getOutputTokens())
+                .totalTokens(usage.getTotalTokens())
+                .latency(usage.getLatency())
+                .timestamp(usage.getTimestamp())
+                .sessionId(usage.getSessionId())
+                .model(usage.getModel())
+                .providerId(usage.getProviderId())
+                .skillUsed(usage.getSkillUsed())
+                .routingReason(usage.getRoutingReason())
+                .build();
+    }
+
+    private static List<Message> copyMessages(List<Message> messages) {
+        if (messages == null) {
+            return null;
+        }
+        List<Message> copies = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            copies.add(message != null ? copyOf(message) : null);
+        }
+        return Collections.unmodifiableList(copies);
+    }
+
+    private static Message copyOf(Message message) {
+        return Message.builder()
+                .id(message.getId())
+                .role(message.getRole())
+                .content(message.getContent())
+                .channelType(message.getChannelType())
+                .chatId(message.getChatId())
+                .senderId(message.getSenderId())
+                .toolCalls(copyToolCalls(message.getToolCalls()))
+                .toolCallId(message.getToolCallId())
+                .toolName(message.getToolName())
+                .metadata(copyMap(message.getMetadata()))
+                .timestamp(message.getTimestamp())
+                .voiceData(message.getVoiceData())
+                .voiceTranscription(message.getVoiceTranscription())
+                .audioFormat(message.getAudioFormat())
+                .build();
+    }
+
+    private static List<Message.ToolCall> copyToolCalls(List<Message.ToolCall> toolCalls) {
+        if (toolCalls == null) {
+            return null;
+        }
+        List<Message.ToolCall> copies = new ArrayList<>(toolCalls.size());
+        for (Message.ToolCall toolCall : toolCalls) {
+            copies.add(toolCall != null
+                    ? new Message.ToolCall(toolCall.getId(), toolCall.getName(), copyMap(toolCall.getArguments()))
+                    : null);
+        }
+        return Collections.unmodifiableList(copies);
+    }
+
+    private static Map<String, Object> copyMap(Map<String, Object> map) {
+        if (map == null) {
+            return null;
+        }
+        Map<String, Object> copy = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            copy.put(entry.getKey(), copyValue(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                copy.put(entry.getKey(), copyValue(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object item : list) {
+                copy.add(copyValue(item));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+}
@@ -40,6 +40,7 @@ import me.golemcore.bot.domain.tracing.TraceService;
 import me.golemcore.bot.domain.progress.TurnProgressService;
 import me.golemcore.bot.domain.system.toolloop.repeat.ToolRepeatDecision;
 import me.golemcore.bot.domain.system.toolloop.repeat.ToolRepeatGuard;
+import me.golemcore.bot.domain.system.toolloop.repeat.ToolResultCache;
 import me.golemcore.bot.domain.system.toolloop.repeat.ToolStateDomain;
 import me.golemcore.bot.domain.system.toolloop.repeat.ToolUseFingerprint;
 import java.nio.charset.StandardCharsets;
@@ -51,6 +52,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Executes a batch of tool calls returned by the LLM and evaluates failure
@@ -87,6 +89,7 @@ class ToolExecutionPhase {
     private final RuntimeConfigService runtimeConfigService;
     private final PlanModeToolRestrictionService planModeToolRestrictionService;
     private final ToolRepeatGuard repeatGuard;
+    private final ToolResultCache resultCache;
     private final Clock clock;
     private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
@@ -125,6 +128,15 @@ class ToolExecutionPhase {
             RuntimeEventService runtimeEventService, TurnProgressService turnProgressService,
             TraceService traceService, RuntimeConfigService runtimeConfigService, Clock clock,
             PlanModeToolRestrictionService planModeToolRestrictionService, ToolRepeatGuard repeatGuard) {
+        this(toolExecutor, failurePolicy, runtimeEventService, turnProgressService, traceService,
+                runtimeConfigService, clock, planModeToolRestrictionService, repeatGuard, ToolResultCache.disabled());
+    }
+
+    ToolExecutionPhase(ToolExecutorPort toolExecutor, ToolFailurePolicy failurePolicy,
+            RuntimeEventService runtimeEventService, TurnProgressService turnProgressService,
+            TraceService traceService, RuntimeConfigService runtimeConfigService, Clock clock,
+            PlanModeToolRestrictionService planModeToolRestrictionService, ToolRepeatGuard repeatGuard,
+            ToolResultCache resultCache) {
         this.toolExecutor = toolExecutor;
         this.failurePolicy = failurePolicy;
         this.runtimeEventService = runtimeEventService;
@@ -134,6 +146,7 @@ class ToolExecutionPhase {
         this.clock = clock;
         this.planModeToolRestrictionService = planModeToolRestrictionService;
         this.repeatGuard = repeatGuard != null ? repeatGuard : ToolRepeatGuard.noop();
+        this.resultCache = resultCache != null ? resultCache : ToolResultCache.disabled();
     }
 
     /**
@@ -273,7 +286,7 @@ class ToolExecutionPhase {
             RepeatGuardExecution execution = planModeToolRestrictionService != null
                     ? planModeToolRestrictionService.denialReason(context, toolCall)
                             .map(reason -> new RepeatGuardExecution(ToolExecutionOutcome.synthetic(toolCall,
-                                    ToolFailureKind.POLICY_DENIED, reason), null, null))
+                                    ToolFailureKind.POLICY_DENIED, reason), null, null, false))
                             .orElseGet(() -> executeAfterRepeatGuard(context, toolCall, turnState))
                     : executeAfterRepeatGuard(context, toolCall, turnState);
             ToolExecutionOutcome outcome = execution.outcome();
@@ -285,6 +298,9 @@ class ToolExecutionPhase {
                     "success", outcome != null && outcome.toolResult() != null && outcome.toolResult().isSuccess(),
                     "durationMs", toolDuration);
             addRepeatGuardPayload(finishedPayload, execution.decision());
+            if (execution.cacheHit()) {
+                finishedPayload.put("cacheHit", true);
+            }
             emitRuntimeEvent(context, RuntimeEventType.TOOL_FINISHED, finishedPayload);
 
             if (outcome != null && outcome.toolResult() != null && outcome.toolResult().isSuccess()) {
@@ -338,11 +354,11 @@ class ToolExecutionPhase {
             ToolRepeatDecision decision = repeatGuard.beforeExecute(turnState, toolCall);
             if (decision instanceof ToolRepeatDecision.BlockAndHint block) {
                 return new RepeatGuardExecution(repeatGuardSyntheticOutcome(toolCall,
-                        ToolFailureKind.REPEATED_TOOL_USE_BLOCKED, block.hint(), block), null, decision);
+                        ToolFailureKind.REPEATED_TOOL_USE_BLOCKED, block.hint(), block), null, decision, false);
             }
             if (decision instanceof ToolRepeatDecision.StopTurn stop) {
                 return new RepeatGuardExecution(repeatGuardSyntheticOutcome(toolCall,
-                        ToolFailureKind.REPEAT_GUARD_STOP_TURN, stop.reason(), stop), null, decision);
+                        ToolFailureKind.REPEAT_GUARD_STOP_TURN, stop.reason(), stop), null, decision, false);
             }
             PendingWarningHint warningHint = decision instanceof ToolRepeatDecision.WarnAndAllow warn
                     ? new PendingWarningHint(
@@ -350,8 +366,16 @@ class ToolExecutionPhase {
                             warn.fingerprint(),
                             turnState.getToolUseLedger().environmentSnapshotFor(warn.fingerprint()))
                     : null;
-            return new RepeatGuardExecution(executeWithTracing(context, toolCall, turnState.getTracingConfig()),
-                    warningHint, decision);
+            String sessionId = context.getSession() != null ? context.getSession().getId() : null;
+            ToolUseFingerprint fingerprint = decisionFingerprint(decision);
+            Optional<ToolExecutionOutcome> cached = resultCache.lookup(sessionId, fingerprint, toolCall);
+            if (cached.isPresent()) {
+                return new RepeatGuardExecution(cached.get(), warningHint, decision, true);
+            }
+            ToolExecutionOutcome outcome = executeWithTracing(context, toolCall, turnState.getTracingConfig());
+            // Record every real execution so mutations invalidate their domains.
+            resultCache.record(sessionId, fingerprint, outcome);
+            return new RepeatGuardExecution(outcome, warningHint, decision, false);
         }
 
         private ToolExecutionOutcome repeatGuardSyntheticOutcome(
@@ -424,7 +448,8 @@ class ToolExecutionPhase {
         private record RepeatGuardExecution(
                 ToolExecutionOutcome outcome,
                 PendingWarningHint warningHint,
-                ToolRepeatDecision decision) {
+                ToolRepeatDecision decision,
+                boolean cacheHit) {
         }
 
     private record PendingWarningHint(
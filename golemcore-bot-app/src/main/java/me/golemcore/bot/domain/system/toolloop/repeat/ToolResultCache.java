@@ -0,0 +1,225 @@
+package me.golemcore.bot.domain.system.toolloop.repeat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.domain.system.toolloop.ToolExecutionOutcome;
+import me.golemcore.bot.port.outbound.ToolResultCacheStatsPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Short-lived cache of successful read-only tool results, keyed by
+ * {@link ToolUseFingerprint#stableKey()} within one session.
+ *
+ * <p>
+ * Only {@link ToolUseCategory#OBSERVE} calls whose observed domains are all
+ * local, tool-mutated state (workspace, memory, goals, plan, skills, schedules)
+ * are cached; remote, time-dependent and unknown domains always execute. Any
+ * mutating or unknown-effect call drops cached entries observing the domains it
+ * may touch, in every session, because those domains are shared.
+ */
+public class ToolResultCache implements ToolResultCacheStatsPort {
+
+    private static final Logger log = LoggerFactory.getLogger(ToolResultCache.class);
+    private static final Set<ToolStateDomain> CACHEABLE_DOMAINS = EnumSet.of(
+            ToolStateDomain.WORKSPACE,
+            ToolStateDomain.MEMORY,
+            ToolStateDomain.AUTONOMY_PROGRESS,
+            ToolStateDomain.PLAN,
+            ToolStateDomain.SKILLS,
+            ToolStateDomain.SCHEDULING);
+    private static final int MAX_ENTRIES_PER_SESSION = 128;
+    private static final int MAX_SESSIONS = 512;
+
+    private final Supplier<ToolResultCacheSettings> settingsSupplier;
+    private final Clock clock;
+    private final Map<String, SessionEntries> sessions = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stores = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    public ToolResultCache(Supplier<ToolResultCacheSettings> settingsSupplier, Clock clock) {
+        this.settingsSupplier = Objects.requireNonNull(settingsSupplier);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    public static ToolResultCache disabled() {
+        return new ToolResultCache(ToolResultCacheSettings::disabled, Clock.systemUTC());
+    }
+
+    /**
+     * Whether results of the fingerprinted call may be served from cache.
+     */
+    public static boolean isCacheable(ToolUseFingerprint fingerprint) {
+        return fingerprint != null
+                && fingerprint.category() == ToolUseCategory.OBSERVE
+                && !fingerprint.observedDomains().isEmpty()
+                && CACHEABLE_DOMAINS.containsAll(fingerprint.observedDomains());
+    }
+
+    /**
+     * Return the cached outcome for an identical read-only call, re-addressed to
+     * {@code toolCall}'s id.
+     */
+    public Optional<ToolExecutionOutcome> lookup(String sessionId, ToolUseFingerprint fingerprint,
+            Message.ToolCall toolCall) {
+        if (!settings().enabled() || sessionId == null || toolCall == null || !isCacheable(fingerprint)) {
+            return Optional.empty();
+        }
+        SessionEntries entries = sessions.get(sessionId);
+        CachedResult cached = entries != null ? entries.get(fingerprint.stableKey()) : null;
+        if (cached == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        if (!clock.instant().isBefore(cached.expiresAt())) {
+            entries.remove(fingerprint.stableKey());
+            expirations.incrementAndGet();
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        log.debug("[ToolCache] Hit for {} in session {}", fingerprint.toolName(), sessionId);
+        ToolExecutionOutcome outcome = cached.outcome();
+        return Optional.of(new ToolExecutionOutcome(
+                toolCall.getId(),
+                toolCall.getName(),
+                outcome.toolResult(),
+                outcome.messageContent(),
+                false,
+                null));
+    }
+
+    /**
+     * Record an executed outcome: cache it when it is a successful read-only
+     * result, or invalidate what the call may have changed.
+     */
+    public void record(String sessionId, ToolUseFingerprint fingerprint, ToolExecutionOutcome outcome) {
+        if (!settings().enabled() || fingerprint == null) {
+            return;
+        }
+        if (isCacheable(fingerprint)) {
+            store(sessionId, fingerprint, outcome);
+            return;
+        }
+        invalidate(affectedDomains(fingerprint));
+    }
+
+    @Override
+    public Stats stats() {
+        int entries = 0;
+        for (SessionEntries sessionEntries : sessions.values()) {
+            entries += sessionEntries.size();
+        }
+        return new Stats(settings().enabled(), hits.get(), misses.get(), stores.get(), invalidations.get(),
+                expirations.get(), entries);
+    }
+
+    private void store(String sessionId, ToolUseFingerprint fingerprint, ToolExecutionOutcome outcome) {
+        if (sessionId == null || outcome == null || outcome.synthetic() || outcome.attachment() != null
+                || outcome.toolResult() == null || !outcome.toolResult().isSuccess()) {
+            return;
+        }
+        if (!sessions.containsKey(sessionId) && sessions.size() >= MAX_SESSIONS) {
+            sessions.clear();
+        }
+        Instant expiresAt = clock.instant().plus(settings().ttl());
+        sessions.computeIfAbsent(sessionId, ignored -> new SessionEntries())
+                .put(fingerprint.stableKey(), new CachedResult(outcome, fingerprint.observedDomains(), expiresAt));
+        stores.incrementAndGet();
+    }
+
+    private Set<ToolStateDomain> affectedDomains(ToolUseFingerprint fingerprint) {
+        return switch (fingerprint.category()) {
+        case OBSERVE, POLL, CONTROL -> Set.of();
+        case MUTATE_IDEMPOTENT, MUTATE_NON_IDEMPOTENT -> fingerprint.invalidatedDomains();
+        case EXECUTE_UNKNOWN -> {
+            Set<ToolStateDomain> domains = EnumSet.noneOf(ToolStateDomain.class);
+            domains.addAll(fingerprint.observedDomains());
+            domains.addAll(fingerprint.invalidatedDomains());
+            yield domains;
+        }
+        };
+    }
+
+    private void invalidate(Set<ToolStateDomain> domains) {
+        if (domains.isEmpty() || sessions.isEmpty()) {
+            return;
+        }
+        boolean everything = domains.contains(ToolStateDomain.UNKNOWN);
+        int removed = 0;
+        for (SessionEntries entries : sessions.values()) {
+            removed += entries.removeObserving(domains, everything);
+        }
+        if (removed > 0) {
+            invalidations.addAndGet(removed);
+            log.debug("[ToolCache] Invalidated {} cached results for domains {}", removed, domains);
+        }
+    }
+
+    private ToolResultCacheSettings settings() {
+        ToolResultCacheSettings settings = settingsSupplier.get();
+        return settings != null ? settings : ToolResultCacheSettings.disabled();
+    }
+
+    private record CachedResult(ToolExecutionOutcome outcome, Set<ToolStateDomain> observedDomains,
+            Instant expiresAt) {
+    }
+
+    /**
+     * Per-session LRU map guarded by its own monitor.
+     */
+    private static final class SessionEntries {
+
+        private final LinkedHashMap<String, CachedResult> entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return size() > MAX_ENTRIES_PER_SESSION;
+            }
+        };
+
+        synchronized CachedResult get(String key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(String key, CachedResult value) {
+            entries.put(key, value);
+        }
+
+        synchronized void remove(String key) {
+            entries.remove(key);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized int removeObserving(Set<ToolStateDomain> domains, boolean everything) {
+            int removed = 0;
+            Iterator<CachedResult> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                CachedResult cached = iterator.next();
+                if (everything || !Collections.disjoint(cached.observedDomains(), domains)) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+            return removed;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package me.golemcore.bot.domain.system.toolloop.repeat;
+
+import java.time.Duration;
+import me.golemcore.bot.domain.runtimeconfig.ToolLoopRuntimeConfigView;
+
+/**
+ * Runtime policy knobs for the read-only tool result cache.
+ */
+// @formatter:off
+public record ToolResultCacheSettings(
+        boolean enabled,
+        Duration ttl) {
+
+    public ToolResultCacheSettings {
+        ttl = ttl != null && !ttl.isNegative() && !ttl.isZero()
+                ? ttl
+                : Duration.ofSeconds(60);
+    }
+
+    public static ToolResultCacheSettings disabled() {
+        return new ToolResultCacheSettings(false, Duration.ofSeconds(60));
+    }
+
+    public static ToolResultCacheSettings from(ToolLoopRuntimeConfigView view) {
+        if (view == null) {
+            return disabled();
+        }
+        return new ToolResultCacheSettings(
+                view.isToolResultCacheEnabled(),
+                Duration.ofSeconds(view.getToolResultCacheTtlSeconds()));
+    }
+}
+// @formatter:on
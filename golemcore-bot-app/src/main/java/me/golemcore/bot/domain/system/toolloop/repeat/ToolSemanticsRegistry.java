@@ -11,7 +11,8 @@ import me.golemcore.bot.domain.model.ToolNames;
 final class ToolSemanticsRegistry {
 
     private static final Set<String> READ_OPERATIONS = Set.of(
-            "read_file", "read", "list", "list_files", "list_directory", "search", "status", "stat", "file_info");
+            "read_file", "read", "list", "list_files", "list_directory", "search", "search_file", "status", "stat",
+            "file_info");
     private static final Set<String> IDEMPOTENT_FILESYSTEM_MUTATIONS = Set.of(
             "write_file", "delete", "create_directory", "mkdir");
     private static final Set<String> NON_IDEMPOTENT_FILESYSTEM_MUTATIONS = Set.of("append");
@@ -47,6 +48,9 @@ final class ToolSemanticsRegistry {
         if (ToolNames.PLAN_EXIT.equals(normalizedToolName)) {
             return control();
         }
+        if (ToolNames.CONVERSATION_HISTORY.equals(normalizedToolName)) {
+            return observe(ToolUseCategory.OBSERVE, ToolStateDomain.SESSION_CONTROL, true);
+        }
         if ("skill_transition".equals(normalizedToolName) || "set_tier".equals(normalizedToolName)) {
             return mutate(ToolUseCategory.MUTATE_IDEMPOTENT, ToolStateDomain.SESSION_CONTROL);
         }
@@ -84,6 +88,9 @@ final class ToolSemanticsRegistry {
         if (ToolNames.FILESYSTEM.equals(normalizedToolName)) {
             return filesystemSemantics(normalizedOperation);
         }
+        if (ToolNames.CODE_SEARCH.equals(normalizedToolName)) {
+            return observe(ToolUseCategory.OBSERVE, ToolStateDomain.WORKSPACE, true);
+        }
         if (FIRST_PARTY_WEB_OBSERVE_TOOLS.contains(normalizedToolName)) {
             return observe(ToolUseCategory.OBSERVE, ToolStateDomain.WEB_REMOTE, false);
         }
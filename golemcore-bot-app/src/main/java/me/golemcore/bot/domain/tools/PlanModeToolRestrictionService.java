@@ -48,6 +48,7 @@ public class PlanModeToolRestrictionService {
     private static final Set<String> ALLOWED_TOOL_NAMES = Set.of(
             ToolNames.GOAL_MANAGEMENT,
             ToolNames.FILESYSTEM,
+            ToolNames.CODE_SEARCH,
             ToolNames.PLAN_EXIT);
     private static final Set<String> DENIED_TOOL_NAMES = Set.of(
             ToolNames.SHELL,
@@ -134,7 +135,8 @@ public class PlanModeToolRestrictionService {
             return Optional.empty();
         }
         String toolName = normalizeToolName(toolCall.getName());
-        if (ToolNames.GOAL_MANAGEMENT.equals(toolName) || ToolNames.PLAN_EXIT.equals(toolName)) {
+        if (ToolNames.GOAL_MANAGEMENT.equals(toolName) || ToolNames.PLAN_EXIT.equals(toolName)
+                || ToolNames.CODE_SEARCH.equals(toolName)) {
             return Optional.empty();
         }
         if (DENIED_TOOL_NAMES.contains(toolName)) {
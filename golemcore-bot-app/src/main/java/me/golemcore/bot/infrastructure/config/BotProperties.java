@@ -63,6 +63,8 @@ public class BotProperties {
     private HttpProperties http = new HttpProperties();
     private ToolsProperties tools = new ToolsProperties();
     private PromptsProperties prompts = new PromptsProperties();
+    private RagProperties rag = new RagProperties();
+    private EmbeddingsProperties embeddings = new EmbeddingsProperties();
     private AutoCompactProperties autoCompact = new AutoCompactProperties();
     private TurnProperties turn = new TurnProperties();
     private ToolLoopProperties toolLoop = new ToolLoopProperties();
@@ -106,6 +108,26 @@ public class BotProperties {
     @Data
     public static class MemoryProperties {
         private String directory = "memory";
+        private MemoryVectorProperties vector = new MemoryVectorProperties();
+    }
+
+    @Data
+    public static class MemoryVectorProperties {
+        private boolean enabled = false;
+
+        /**
+         * Embedding provider ({@code ollama}, {@code openai}) for memory items. Blank
+         * keeps retrieval purely lexical.
+         */
+        private String embeddingProvider = "";
+        private String embeddingBaseUrl = "";
+        private String embeddingApiKey = "";
+        private String embeddingModel = "";
+        private Integer embeddingDimensions;
+        private Integer embeddingTimeoutMs = 2000;
+
+        /** Fused candidates handed to the reranker per retrieval. */
+        private int maxCandidates = 32;
     }
 
     @Data
@@ -174,6 +196,56 @@ public class BotProperties {
 
     // ==================== RAG (LightRAG) ====================
 
+    @Data
+    public static class RagProperties {
+        private RagQueryCacheProperties queryCache = new RagQueryCacheProperties();
+    }
+
+    @Data
+    public static class RagQueryCacheProperties {
+        private boolean enabled = true;
+        private java.time.Duration ttl = java.time.Duration.ofMinutes(10);
+        private int maxEntries = 256;
+
+        /**
+         * Embedding provider ({@code ollama}, {@code openai}) used to match paraphrased
+         * queries. Blank disables similarity matching; only exact normalized queries
+         * hit the cache.
+         */
+        private String embeddingProvider = "";
+        private String embeddingBaseUrl = "";
+        private String embeddingApiKey = "";
+        private String embeddingModel = "";
+        private Integer embeddingDimensions;
+        private Integer embeddingTimeoutMs = 2000;
+
+        /** Minimum cosine similarity for a paraphrase to reuse a cached result. */
+        private double similarityThreshold = 0.92;
+    }
+
+    // ==================== EMBEDDINGS ====================
+
+    @Data
+    public static class EmbeddingsProperties {
+        private EmbeddingCacheProperties cache = new EmbeddingCacheProperties();
+        private EmbeddingBatchProperties batch = new EmbeddingBatchProperties();
+    }
+
+    @Data
+    public static class EmbeddingCacheProperties {
+        private boolean enabled = true;
+
+        /** Upper bound for cached vectors, in memory and on disk after compaction. */
+        private int maxSizeMb = 64;
+    }
+
+    @Data
+    public static class EmbeddingBatchProperties {
+        private int maxInputs = 64;
+        private int maxTokens = 8000;
+        private int maxConcurrent = 4;
+    }
+
     // ==================== AUTO COMPACT ====================
 
     @Data
@@ -249,6 +321,9 @@ public class BotProperties {
         private int refreshExpirationDays = 7;
         private String corsAllowedOrigins = "";
         private int webSocketMaxFramePayloadLength = 80 * 1024 * 1024;
+        private boolean webSocketCompressionEnabled = true;
+        private int webSocketOutboundQueueCapacity = 1024;
+        private int webSocketOutboundBatchFrames = 64;
         private LogsProperties logs = new LogsProperties();
         private TerminalProperties terminal = new TerminalProperties();
     }
@@ -1,5 +1,6 @@
 package me.golemcore.bot.infrastructure.config;
 
+import java.time.Clock;
 import java.util.List;
 import me.golemcore.bot.domain.component.MemoryComponent;
 import me.golemcore.bot.domain.component.SkillComponent;
@@ -22,17 +23,25 @@ import me.golemcore.bot.domain.auto.AutoModeService;
 import me.golemcore.bot.domain.context.compaction.ContextCompactionPolicy;
 import me.golemcore.bot.domain.scheduling.DelayedActionPolicyService;
 import me.golemcore.bot.domain.memory.MemoryPresetService;
+import me.golemcore.bot.domain.memory.retrieval.MemoryCandidateFusion;
+import me.golemcore.bot.domain.memory.retrieval.MemoryVectorIndex;
 import me.golemcore.bot.domain.model.ModelSelectionService;
 import me.golemcore.bot.domain.tools.PlanModeToolRestrictionService;
 import me.golemcore.bot.domain.planning.PlanService;
 import me.golemcore.bot.domain.prompt.PromptSectionService;
+import me.golemcore.bot.domain.rag.RagIngestionQueue;
+import me.golemcore.bot.domain.rag.RagQueryCache;
+import me.golemcore.bot.domain.rag.RagQueryCacheSettings;
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.skills.SkillTemplateEngine;
 import me.golemcore.bot.domain.tools.registry.ToolRegistryService;
 import me.golemcore.bot.domain.runtimeconfig.UserPreferencesService;
 import me.golemcore.bot.domain.workspace.WorkspaceInstructionService;
+import me.golemcore.bot.port.outbound.EmbeddingClientResolverPort;
 import me.golemcore.bot.port.outbound.McpPort;
+import me.golemcore.bot.port.outbound.MemorySettingsPort;
 import me.golemcore.bot.port.outbound.RagPort;
+import me.golemcore.bot.port.outbound.StoragePort;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -78,8 +87,43 @@ public class ContextLayerConfiguration {
     }
 
     @Bean
-    RagLayer ragLayer(RagPort ragPort) {
-        return new RagLayer(ragPort);
+    MemoryVectorIndex memoryVectorIndex(StoragePort storagePort, MemorySettingsPort memorySettingsPort,
+            EmbeddingClientResolverPort embeddingClientResolver) {
+        return new MemoryVectorIndex(storagePort, memorySettingsPort, embeddingClientResolver);
+    }
+
+    @Bean
+    MemoryCandidateFusion memoryCandidateFusion(MemoryVectorIndex memoryVectorIndex,
+            MemorySettingsPort memorySettingsPort) {
+        return new MemoryCandidateFusion(memoryVectorIndex, memorySettingsPort);
+    }
+
+    @Bean
+    RagQueryCache ragQueryCache(BotProperties botProperties, EmbeddingClientResolverPort embeddingClientResolver,
+            Clock clock) {
+        BotProperties.RagQueryCacheProperties properties = botProperties.getRag().getQueryCache();
+        return new RagQueryCache(new RagQueryCacheSettings(
+                properties.isEnabled(),
+                properties.getTtl(),
+                properties.getMaxEntries(),
+                properties.getSimilarityThreshold(),
+                properties.getEmbeddingProvider(),
+                properties.getEmbeddingBaseUrl(),
+                properties.getEmbeddingApiKey(),
+                properties.getEmbeddingModel(),
+                properties.getEmbeddingDimensions(),
+                properties.getEmbeddingTimeoutMs()), embeddingClientResolver, clock);
+    }
+
+    @Bean
+    RagLayer ragLayer(RagPort ragPort, RagQueryCache ragQueryCache) {
+        return new RagLayer(ragPort, ragQueryCache);
+    }
+
+    @Bean
+    RagIngestionQueue ragIngestionQueue(RagPort ragPort, StoragePort storagePort, RagQueryCache ragQueryCache,
+            Clock clock) {
+        return new RagIngestionQueue(ragPort, storagePort, ragQueryCache, clock);
     }
 
     @Bean
@@ -8,7 +8,11 @@ import me.golemcore.bot.domain.loop.AgentLoop;
 import me.golemcore.bot.domain.loop.AgentLoopFactory;
 import me.golemcore.bot.domain.loop.AgentLoopFactory.AgentLoopPorts;
 import me.golemcore.bot.domain.loop.AgentLoopFactory.AgentLoopRuntimeServices;
+import me.golemcore.bot.domain.context.compaction.CompactionPreparationService;
+import me.golemcore.bot.domain.context.compaction.CompactionService;
 import me.golemcore.bot.domain.context.compaction.ContextCompactionPolicy;
+import me.golemcore.bot.domain.context.compaction.HierarchicalSummaryService;
+import me.golemcore.bot.domain.context.compaction.SpeculativeCompactionService;
 import me.golemcore.bot.domain.events.RuntimeEventService;
 import me.golemcore.bot.domain.context.hygiene.ContextHygieneService;
 import me.golemcore.bot.domain.context.compaction.ContextTokenEstimator;
@@ -18,19 +22,24 @@ import me.golemcore.bot.domain.tools.PlanModeToolRestrictionService;
 import me.golemcore.bot.domain.planning.PlanService;
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.scheduling.ScheduleService;
+import me.golemcore.bot.domain.session.SessionGoalRegistry;
+import me.golemcore.bot.domain.session.SessionGoalStorageService;
 import me.golemcore.bot.domain.tracing.TraceService;
+import me.golemcore.bot.domain.tracing.TraceSnapshotEncoder;
 import me.golemcore.bot.domain.update.UpdateActivityGate;
 import me.golemcore.bot.domain.update.UpdateMaintenanceWindow;
 import me.golemcore.bot.domain.runtimeconfig.UserPreferencesService;
 import me.golemcore.bot.domain.system.AgentSystem;
 import me.golemcore.bot.domain.system.PlanExecutionContextCleanupSystem;
 import me.golemcore.bot.port.outbound.ChannelRuntimePort;
+import me.golemcore.bot.port.outbound.CompactionSummaryCodecPort;
 import me.golemcore.bot.port.outbound.LlmPort;
 import me.golemcore.bot.port.outbound.RateLimitPort;
 import me.golemcore.bot.port.outbound.ReleaseSourcePort;
 import me.golemcore.bot.port.outbound.ScheduleCronPort;
 import me.golemcore.bot.port.outbound.SchedulePersistencePort;
 import me.golemcore.bot.port.outbound.SessionPort;
+import me.golemcore.bot.port.outbound.StoragePort;
 import me.golemcore.bot.port.outbound.TraceSnapshotCodecPort;
 import me.golemcore.bot.port.outbound.UpdateArtifactStorePort;
 import me.golemcore.bot.port.outbound.UpdateRestartPort;
@@ -55,6 +64,27 @@ public class CoreLayerConfiguration {
         return new ContextCompactionPolicy(runtimeConfigService, modelSelectionService);
     }
 
+    @Bean
+    SpeculativeCompactionService speculativeCompactionService(
+            CompactionPreparationService compactionPreparationService,
+            CompactionService compactionService,
+            RuntimeConfigService runtimeConfigService,
+            Clock clock) {
+        return new SpeculativeCompactionService(compactionPreparationService, compactionService, runtimeConfigService,
+                clock);
+    }
+
+    @Bean
+    HierarchicalSummaryService hierarchicalSummaryService(
+            StoragePort storagePort,
+            CompactionSummaryCodecPort compactionSummaryCodecPort,
+            CompactionService compactionService,
+            RuntimeConfigService runtimeConfigService,
+            Clock clock) {
+        return new HierarchicalSummaryService(storagePort, compactionSummaryCodecPort, compactionService,
+                runtimeConfigService, clock);
+    }
+
     @Bean
     ScheduleService scheduleService(
             SchedulePersistencePort schedulePersistencePort,
@@ -130,4 +160,14 @@ public class CoreLayerConfiguration {
     PlanExecutionContextCleanupSystem planExecutionContextCleanupSystem(PlanService planService) {
         return new PlanExecutionContextCleanupSystem(planService);
     }
+
+    @Bean
+    SessionGoalRegistry sessionGoalRegistry(SessionGoalStorageService sessionGoalStorageService, Clock clock) {
+        return new SessionGoalRegistry(sessionGoalStorageService, clock);
+    }
+
+    @Bean
+    TraceSnapshotEncoder traceSnapshotEncoder() {
+        return new TraceSnapshotEncoder();
+    }
 }
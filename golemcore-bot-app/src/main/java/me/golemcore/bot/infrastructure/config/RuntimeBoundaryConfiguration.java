@@ -16,6 +16,7 @@ import me.golemcore.bot.domain.tools.artifacts.ToolArtifactService;
 import me.golemcore.bot.domain.tools.execution.ToolAttachmentExtractor;
 import me.golemcore.bot.domain.tools.execution.ToolResultPostProcessor;
 import me.golemcore.bot.port.outbound.RuntimeConfigPersistencePort;
+import me.golemcore.bot.port.outbound.SessionCleanupPort;
 import me.golemcore.bot.port.outbound.SessionGoalCleanupPort;
 import me.golemcore.bot.port.outbound.SessionRecordCodecPort;
 import me.golemcore.bot.port.outbound.StoragePort;
@@ -82,8 +83,10 @@ public class RuntimeBoundaryConfiguration {
     SessionDeletionCoordinator sessionDeletionCoordinator(
             SessionCache sessionCache,
             SessionRepository sessionRepository,
-            List<SessionGoalCleanupPort> sessionGoalCleanupPorts) {
-        return new SessionDeletionCoordinator(sessionCache, sessionRepository, sessionGoalCleanupPorts);
+            List<SessionGoalCleanupPort> sessionGoalCleanupPorts,
+            List<SessionCleanupPort> sessionCleanupPorts) {
+        return new SessionDeletionCoordinator(sessionCache, sessionRepository, sessionGoalCleanupPorts,
+                sessionCleanupPorts);
     }
 
     @Bean
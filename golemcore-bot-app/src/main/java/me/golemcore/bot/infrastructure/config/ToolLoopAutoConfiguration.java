@@ -27,6 +27,8 @@ import me.golemcore.bot.domain.system.toolloop.ToolLoopSystem;
 import me.golemcore.bot.domain.system.toolloop.UsageTrackingLlmPortDecorator;
 import me.golemcore.bot.domain.system.toolloop.repeat.ToolRepeatGuard;
 import me.golemcore.bot.domain.system.toolloop.repeat.ToolRepeatGuardSettings;
+import me.golemcore.bot.domain.system.toolloop.repeat.ToolResultCache;
+import me.golemcore.bot.domain.system.toolloop.repeat.ToolResultCacheSettings;
 import me.golemcore.bot.domain.system.toolloop.repeat.ToolUseFingerprintService;
 import me.golemcore.bot.domain.system.toolloop.repeat.ToolUseLedgerStore;
 import me.golemcore.bot.domain.system.toolloop.view.ContextBudgetResolver;
@@ -85,6 +87,11 @@ public class ToolLoopAutoConfiguration {
                 clock);
     }
 
+    @Bean
+    public ToolResultCache toolResultCache(ToolLoopRuntimeConfigView runtimeConfigView, Clock clock) {
+        return new ToolResultCache(() -> ToolResultCacheSettings.from(runtimeConfigView), clock);
+    }
+
     @Bean
     public ToolUseLedgerStore toolUseLedgerStore(StoragePort storagePort, ObjectMapper objectMapper, Clock clock) {
         return new JsonToolUseLedgerStore(storagePort, objectMapper, clock);
@@ -137,6 +144,7 @@ public class ToolLoopAutoConfiguration {
             ToolFailureRecoveryService toolFailureRecoveryService,
             PlanModeToolRestrictionService planModeToolRestrictionService,
             ToolRepeatGuard repeatGuard,
+            ToolResultCache toolResultCache,
             ToolUseLedgerStore toolUseLedgerStore,
             LlmResilienceOrchestrator resilienceOrchestrator) {
         LlmPort tracked = new UsageTrackingLlmPortDecorator(llmPort, usageTracker, telemetryRollupPort);
@@ -159,6 +167,7 @@ public class ToolLoopAutoConfiguration {
                 .toolFailureRecoveryService(toolFailureRecoveryService)
                 .planModeToolRestrictionService(planModeToolRestrictionService)
                 .repeatGuard(repeatGuard)
+                .resultCache(toolResultCache)
                 .toolUseLedgerStore(toolUseLedgerStore)
                 .resilienceOrchestrator(resilienceOrchestrator)
                 .clock(Clock.systemUTC())
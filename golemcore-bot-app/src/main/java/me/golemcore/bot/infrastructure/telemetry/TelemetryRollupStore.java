@@ -8,21 +8,41 @@ import me.golemcore.bot.port.outbound.TelemetryRollupPort;
 import org.springframework.stereotype.Component;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Hourly telemetry counters.
+ *
+ * <p>
+ * Recording runs on request threads and never takes the store monitor while
+ * the current hour is open: counters live in concurrent maps of
+ * {@link LongAdder}s. Only rolling over to a new hour and collecting or
+ * restoring rollups synchronize. A finished hour is turned into a
+ * {@link BackendRollup} only after a short grace period, so writers that
+ * picked the bucket just before the boundary still land in it.
+ */
 @Component
 @Slf4j
 public class TelemetryRollupStore implements TelemetryRollupPort {
 
+    private static final int BUCKET_MINUTES = 60;
+    private static final Duration LATE_WRITE_GRACE = Duration.ofSeconds(5);
+
     private final RuntimeConfigService runtimeConfigService;
     private final Clock clock;
 
-    private BackendRollup currentBucket;
+    private volatile LiveBucket currentBucket;
+    private final List<LiveBucket> closedBuckets = new ArrayList<>();
     private final List<BackendRollup> readyBuckets = new ArrayList<>();
 
     public TelemetryRollupStore(RuntimeConfigService runtimeConfigService, Clock clock) {
@@ -32,46 +52,53 @@ public class TelemetryRollupStore implements TelemetryRollupPort {
     }
 
     @Override
-    public synchronized void recordModelUsage(String modelId, String tier, int inputTokens, int outputTokens,
+    public void recordModelUsage(String modelId, String tier, int inputTokens, int outputTokens,
             int totalTokens) {
         if (!runtimeConfigService.isTelemetryEnabled()) {
             return;
         }
-        rotateBuckets(clock.instant());
-
         String normalizedModelId = normalizeKey(modelId, "unknown-model");
         String normalizedTier = normalizeKey(tier, "balanced");
         String compositeKey = normalizedModelId + "|" + normalizedTier;
-        ModelUsageSummary summary = currentBucket.getModelUsage()
-                .computeIfAbsent(compositeKey, ignored -> new ModelUsageSummary());
-        summary.setRequestCount(summary.getRequestCount() + 1);
-        summary.setInputTokens(summary.getInputTokens() + Math.max(0, inputTokens));
-        summary.setOutputTokens(summary.getOutputTokens() + Math.max(0, outputTokens));
-        summary.setTotalTokens(summary.getTotalTokens() + Math.max(0, totalTokens));
+        currentBucket(clock.instant()).modelCounters(compositeKey).record(Math.max(0, inputTokens),
+                Math.max(0, outputTokens), Math.max(0, totalTokens));
     }
 
     @Override
-    public synchronized void recordPluginInstall(String pluginId) {
+    public void recordPluginInstall(String pluginId) {
         recordPluginCounter("install", pluginId);
     }
 
     @Override
-    public synchronized void recordPluginUninstall(String pluginId) {
+    public void recordPluginUninstall(String pluginId) {
         recordPluginCounter("uninstall", pluginId);
     }
 
     @Override
-    public synchronized void recordPluginAction(String routeKey, String actionId) {
+    public void recordPluginAction(String routeKey, String actionId) {
         recordPluginCounter("action", normalizeKey(routeKey, "unknown") + ":" + normalizeKey(actionId, "unknown"));
     }
 
     @Override
-    public synchronized void recordPluginSettingsSave(String routeKey) {
+    public void recordPluginSettingsSave(String routeKey) {
         recordPluginCounter("save", routeKey);
     }
 
     public synchronized List<BackendRollup> collectReadyRollups() {
-        rotateBuckets(clock.instant());
+        Instant now = clock.instant();
+        rotateBuckets(now);
+        Iterator<LiveBucket> closed = closedBuckets.iterator();
+        while (closed.hasNext()) {
+            LiveBucket bucket = closed.next();
+            if (now.isBefore(bucket.periodEnd.plus(LATE_WRITE_GRACE))) {
+                continue;
+            }
+            closed.remove();
+            BackendRollup rollup = bucket.toRollup();
+            if (rollup.hasData()) {
+                readyBuckets.add(rollup);
+            }
+        }
         List<BackendRollup> rollups = new ArrayList<>(readyBuckets);
         readyBuckets.clear();
         return rollups;
@@ -97,26 +124,32 @@ public class TelemetryRollupStore implements TelemetryRollupPort {
         if (!runtimeConfigService.isTelemetryEnabled()) {
             return;
         }
-        rotateBuckets(clock.instant());
         String normalizedCounterKey = kind + ":" + normalizeKey(key, "unknown");
-        currentBucket.getPluginUsage().merge(normalizedCounterKey, 1L, Long::sum);
+        currentBucket(clock.instant()).pluginCounter(normalizedCounterKey).increment();
+    }
+
+    private LiveBucket currentBucket(Instant reference) {
+        LiveBucket bucket = currentBucket;
+        if (reference.isBefore(bucket.periodEnd)) {
+            return bucket;
+        }
+        synchronized (this) {
+            rotateBuckets(reference);
+            return currentBucket;
+        }
     }
 
     private void rotateBuckets(Instant reference) {
-        Instant currentBucketEnd = currentBucket.getPeriodEnd();
-        while (!reference.isBefore(currentBucketEnd)) {
-            if (currentBucket.hasData()) {
-                readyBuckets.add(currentBucket.copy());
-            }
-            currentBucket = createEmptyBucket(currentBucketEnd);
-            currentBucketEnd = currentBucket.getPeriodEnd();
+        if (reference.isBefore(currentBucket.periodEnd)) {
+            return;
         }
+        closedBuckets.add(currentBucket);
+        currentBucket = createEmptyBucket(reference);
     }
 
-    private BackendRollup createEmptyBucket(Instant reference) {
+    private LiveBucket createEmptyBucket(Instant reference) {
         Instant start = reference.truncatedTo(ChronoUnit.HOURS);
-        Instant end = start.plus(1, ChronoUnit.HOURS);
-        return new BackendRollup(start, end, 60, new LinkedHashMap<>(), new LinkedHashMap<>());
+        return new LiveBucket(start, start.plus(BUCKET_MINUTES, ChronoUnit.MINUTES));
     }
 
     private String normalizeKey(String value, String fallback) {
@@ -126,6 +159,59 @@ public class TelemetryRollupStore implements TelemetryRollupPort {
         return value.trim();
     }
 
+    private static final class LiveBucket {
+        private final Instant periodStart;
+        private final Instant periodEnd;
+        private final Map<String, ModelUsageCounters> modelUsage = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> pluginUsage = new ConcurrentHashMap<>();
+
+        private LiveBucket(Instant periodStart, Instant periodEnd) {
+            this.periodStart = periodStart;
+            this.periodEnd = periodEnd;
+        }
+
+        private ModelUsageCounters modelCounters(String key) {
+            ModelUsageCounters counters = modelUsage.get(key);
+            return counters != null ? counters : modelUsage.computeIfAbsent(key, ignored -> new ModelUsageCounters());
+        }
+
+        private LongAdder pluginCounter(String key) {
+            LongAdder counter = pluginUsage.get(key);
+            return counter != null ? counter : pluginUsage.computeIfAbsent(key, ignored -> new LongAdder());
+        }
+
+        private BackendRollup toRollup() {
+            Map<String, ModelUsageSummary> modelSummaries = new LinkedHashMap<>();
+            new TreeMap<>(modelUsage).forEach((key, counters) -> modelSummaries.put(key, counters.toSummary()));
+            Map<String, Long> pluginCounts = new LinkedHashMap<>();
+            new TreeMap<>(pluginUsage).forEach((key, counter) -> pluginCounts.put(key, counter.sum()));
+            return new BackendRollup(periodStart, periodEnd, BUCKET_MINUTES, modelSummaries, pluginCounts);
+        }
+    }
+
+    private static final class ModelUsageCounters {
+        private final LongAdder requestCount = new LongAdder();
+        private final LongAdder inputTokens = new LongAdder();
+        private final LongAdder outputTokens = new LongAdder();
+        private final LongAdder totalTokens = new LongAdder();
+
+        private void record(int input, int output, int total) {
+            requestCount.increment();
+            inputTokens.add(input);
+            outputTokens.add(output);
+            totalTokens.add(total);
+        }
+
+        private ModelUsageSummary toSummary() {
+            ModelUsageSummary summary = new ModelUsageSummary();
+            summary.setRequestCount(requestCount.sum());
+            summary.setInputTokens(inputTokens.sum());
+            summary.setOutputTokens(outputTokens.sum());
+            summary.setTotalTokens(totalTokens.sum());
+            return summary;
+        }
+    }
+
     @Data
     @AllArgsConstructor
     public static class BackendRollup {
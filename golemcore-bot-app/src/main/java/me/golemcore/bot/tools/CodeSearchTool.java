@@ -0,0 +1,183 @@
+package me.golemcore.bot.tools;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.PatternSyntaxException;
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.domain.component.ToolComponent;
+import me.golemcore.bot.domain.model.ToolDefinition;
+import me.golemcore.bot.domain.model.ToolNames;
+import me.golemcore.bot.domain.model.ToolResult;
+import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tool that searches workspace file contents through
+ * {@link WorkspaceCodeIndex}.
+ *
+ * <p>
+ * Supports literal and regex queries, a directory prefix and a glob filter, and
+ * returns files ranked by match count, file-name match and declaration lines,
+ * with a few matching lines per file. Enabled together with the filesystem
+ * tool, since it reads the same workspace.
+ */
+@Component
+@Slf4j
+public class CodeSearchTool implements ToolComponent {
+
+    private static final String PARAM_QUERY = "query";
+    private static final String PARAM_MODE = "mode";
+    private static final String PARAM_IGNORE_CASE = "ignore_case";
+    private static final String PARAM_PATH = "path";
+    private static final String PARAM_GLOB = "glob";
+    private static final String PARAM_MAX_RESULTS = "max_results";
+    private static final String MODE_LITERAL = "literal";
+    private static final String MODE_REGEX = "regex";
+    private static final int DEFAULT_MAX_RESULTS = 10;
+    private static final int MAX_RESULTS = 50;
+
+    private final WorkspaceCodeIndex workspaceCodeIndex;
+    private final RuntimeConfigService runtimeConfigService;
+
+    public CodeSearchTool(WorkspaceCodeIndex workspaceCodeIndex, RuntimeConfigService runtimeConfigService) {
+        this.workspaceCodeIndex = workspaceCodeIndex;
+        this.runtimeConfigService = runtimeConfigService;
+    }
+
+    @Override
+    public ToolDefinition getDefinition() {
+        return ToolDefinition.builder()
+                .name(ToolNames.CODE_SEARCH)
+                .description("""
+                        Search file contents across the whole workspace using a trigram index.
+                        Returns the best matching files with line numbers and matching lines.
+                        Use it to locate symbols, strings or log messages before reading files.
+                        """)
+                .inputSchema(Map.of(
+                        "type", "object",
+                        "properties", Map.of(
+                                PARAM_QUERY, Map.of(
+                                        "type", "string",
+                                        "description", "Text or Java regular expression to search for"),
+                                PARAM_MODE, Map.of(
+                                        "type", "string",
+                                        "enum", List.of(MODE_LITERAL, MODE_REGEX),
+                                        "description", "How to interpret query (default: literal)"),
+                                PARAM_IGNORE_CASE, Map.of(
+                                        "type", "boolean",
+                                        "description", "Case-insensitive matching (default: false)"),
+                                PARAM_PATH, Map.of(
+                                        "type", "string",
+                                        "description", "Only search under this directory, relative to workspace"),
+                                PARAM_GLOB, Map.of(
+                                        "type", "string",
+                                        "description", "File glob filter, e.g. *.java or src/**/*.ts"),
+                                PARAM_MAX_RESULTS, Map.of(
+                                        "type", "integer",
+                                        "description", "Maximum files to return (default " + DEFAULT_MAX_RESULTS
+                                                + ", max " + MAX_RESULTS + ")")),
+                        "required", List.of(PARAM_QUERY)))
+                .build();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return runtimeConfigService.isFilesystemEnabled();
+    }
+
+    @Override
+    public CompletableFuture<ToolResult> execute(Map<String, Object> parameters) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (!isEnabled()) {
+                return ToolResult.failure("Code search is disabled");
+            }
+            Map<String, Object> safeParameters = parameters != null ? parameters : Map.of();
+            Object queryValue = safeParameters.get(PARAM_QUERY);
+            if (!(queryValue instanceof String query) || query.isEmpty()) {
+                return ToolResult.failure(PARAM_QUERY + " is required");
+            }
+            String mode = stringParam(safeParameters, PARAM_MODE);
+            if (mode != null && !MODE_LITERAL.equals(mode) && !MODE_REGEX.equals(mode)) {
+                return ToolResult.failure("Unknown mode: " + mode);
+            }
+            String path = stringParam(safeParameters, PARAM_PATH);
+            if (path != null && (path.startsWith("/") || path.startsWith("\\") || path.contains(".."))) {
+                return ToolResult.failure("Invalid path: must be relative to the workspace");
+            }
+            WorkspaceCodeIndex.SearchRequest request = new WorkspaceCodeIndex.SearchRequest(
+                    query,
+                    MODE_REGEX.equals(mode),
+                    Boolean.TRUE.equals(safeParameters.get(PARAM_IGNORE_CASE)),
+                    path,
+                    stringParam(safeParameters, PARAM_GLOB),
+                    maxResults(safeParameters.get(PARAM_MAX_RESULTS)));
+            try {
+                WorkspaceCodeIndex.SearchResults results = workspaceCodeIndex.search(request);
+                log.debug("[CodeSearch] '{}' matched {} files in {} ms", query, results.matchedFiles(),
+                        results.elapsedMillis());
+                return ToolResult.success(format(query, results), data(results));
+            } catch (PatternSyntaxException e) {
+                return ToolResult.failure("Invalid pattern: " + e.getDescription());
+            } catch (RuntimeException e) { // NOSONAR - surface index failures as tool errors
+                log.warn("[CodeSearch] Search failed: {}", e.getMessage(), e);
+                return ToolResult.failure("Search failed: " + e.getMessage());
+            }
+        });
+    }
+
+    private String format(String query, WorkspaceCodeIndex.SearchResults results) {
+        StringBuilder output = new StringBuilder();
+        output.append("Found ").append(results.matchedFiles()).append(results.matchedFiles() == 1 ? " file" : " files")
+                .append(" matching \"").append(query).append("\" (")
+                .append(results.verifiedFiles()).append(" candidates of ")
+                .append(results.indexedFiles()).append(" indexed files, ")
+                .append(results.elapsedMillis()).append(" ms)");
+        if (results.truncated()) {
+            output.append("; showing top ").append(results.hits().size())
+                    .append(", narrow with path or glob for more");
+        }
+        output.append('\n');
+        for (WorkspaceCodeIndex.FileHit hit : results.hits()) {
+            output.append('\n').append(hit.path()).append(" (").append(hit.matchCount())
+                    .append(hit.moreMatches() ? "+" : "").append(hit.matchCount() == 1 ? " match)" : " matches)")
+                    .append('\n');
+            for (WorkspaceCodeIndex.Snippet snippet : hit.snippets()) {
+                output.append("  ").append(snippet.line()).append(": ").append(snippet.text()).append('\n');
+            }
+        }
+        return output.toString();
+    }
+
+    private Map<String, Object> data(WorkspaceCodeIndex.SearchResults results) {
+        List<Map<String, Object>> files = new ArrayList<>(results.hits().size());
+        for (WorkspaceCodeIndex.FileHit hit : results.hits()) {
+            List<Map<String, Object>> snippets = new ArrayList<>(hit.snippets().size());
+            for (WorkspaceCodeIndex.Snippet snippet : hit.snippets()) {
+                snippets.add(Map.of("line", snippet.line(), "text", snippet.text()));
+            }
+            files.add(Map.of("path", hit.path(), "matches", hit.matchCount(), "snippets", snippets));
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("files", files);
+        data.put("matchedFiles", results.matchedFiles());
+        data.put("indexedFiles", results.indexedFiles());
+        data.put("truncated", results.truncated());
+        return data;
+    }
+
+    private static int maxResults(Object value) {
+        int requested = value instanceof Number number ? number.intValue() : DEFAULT_MAX_RESULTS;
+        if (requested < 1) {
+            return DEFAULT_MAX_RESULTS;
+        }
+        return Math.min(requested, MAX_RESULTS);
+    }
+
+    private static String stringParam(Map<String, Object> parameters, String name) {
+        Object value = parameters.get(name);
+        return value instanceof String stringValue && !stringValue.isBlank() ? stringValue.trim() : null;
+    }
+}
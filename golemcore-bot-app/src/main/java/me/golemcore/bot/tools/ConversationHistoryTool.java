@@ -0,0 +1,114 @@
+package me.golemcore.bot.tools;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import me.golemcore.bot.domain.component.ToolComponent;
+import me.golemcore.bot.domain.context.compaction.CompactionSummaryTree;
+import me.golemcore.bot.domain.context.compaction.HierarchicalSummaryService;
+import me.golemcore.bot.domain.loop.AgentContextHolder;
+import me.golemcore.bot.domain.model.AgentContext;
+import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.domain.model.ToolDefinition;
+import me.golemcore.bot.domain.model.ToolNames;
+import me.golemcore.bot.domain.model.ToolResult;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tool that re-expands a compacted history segment of the current session.
+ *
+ * <p>
+ * Merged segments expand to their child summaries; leaf segments expand to the
+ * archived messages they summarize. Output is capped so one expansion cannot
+ * flood the context it was meant to save.
+ */
+@Component
+public class ConversationHistoryTool implements ToolComponent {
+
+    private static final String PARAM_SEGMENT_ID = "segment_id";
+    private static final int MAX_MESSAGE_CHARS = 2000;
+    private static final int MAX_OUTPUT_CHARS = 16000;
+
+    private final HierarchicalSummaryService hierarchicalSummaryService;
+
+    public ConversationHistoryTool(HierarchicalSummaryService hierarchicalSummaryService) {
+        this.hierarchicalSummaryService = hierarchicalSummaryService;
+    }
+
+    @Override
+    public ToolDefinition getDefinition() {
+        return ToolDefinition.builder()
+                .name(ToolNames.CONVERSATION_HISTORY)
+                .description("Re-expand a compacted conversation segment referenced in the conversation summary. "
+                        + "Merged segments return their child segment summaries; leaf segments return the "
+                        + "original messages.")
+                .inputSchema(Map.of(
+                        "type", "object",
+                        "properties", Map.of(
+                                PARAM_SEGMENT_ID, Map.of(
+                                        "type", "string",
+                                        "description", "Segment id from the conversation summary, e.g. seg-3.")),
+                        "required", List.of(PARAM_SEGMENT_ID)))
+                .build();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return hierarchicalSummaryService.isEnabled();
+    }
+
+    @Override
+    public CompletableFuture<ToolResult> execute(Map<String, Object> parameters) {
+        AgentContext context = AgentContextHolder.get();
+        if (context == null || context.getSession() == null || context.getSession().getId() == null) {
+            return CompletableFuture.completedFuture(ToolResult.failure("No active session"));
+        }
+        Object segmentValue = parameters != null ? parameters.get(PARAM_SEGMENT_ID) : null;
+        if (!(segmentValue instanceof String segmentId) || segmentId.isBlank()) {
+            return CompletableFuture.completedFuture(ToolResult.failure(PARAM_SEGMENT_ID + " is required"));
+        }
+
+        String sessionId = context.getSession().getId();
+        Optional<HierarchicalSummaryService.SegmentExpansion> expansion = hierarchicalSummaryService
+                .expand(sessionId, segmentId.trim());
+        if (expansion.isEmpty()) {
+            return CompletableFuture.completedFuture(ToolResult.failure("Unknown segment: " + segmentId));
+        }
+        return CompletableFuture.completedFuture(ToolResult.success(format(expansion.get())));
+    }
+
+    private String format(HierarchicalSummaryService.SegmentExpansion expansion) {
+        CompactionSummaryTree.Segment segment = expansion.segment();
+        StringBuilder output = new StringBuilder();
+        output.append("Segment ").append(segment.getId())
+                .append(" (level ").append(segment.getLevel())
+                .append(", ").append(segment.getMessageCount()).append(" messages)\n");
+        if (!expansion.children().isEmpty()) {
+            for (CompactionSummaryTree.Segment child : expansion.children()) {
+                output.append("\n[Segment ").append(child.getId())
+                        .append(", level ").append(child.getLevel())
+                        .append(", ").append(child.getMessageCount()).append(" messages]\n")
+                        .append(child.getSummary()).append('\n');
+            }
+        } else if (expansion.messages().isEmpty()) {
+            output.append("\nArchived messages are no longer available.\n");
+        } else {
+            for (Message message : expansion.messages()) {
+                output.append('\n').append(message.getRole()).append(": ")
+                        .append(truncate(message.getContent(), MAX_MESSAGE_CHARS));
+            }
+        }
+        return truncate(output.toString(), MAX_OUTPUT_CHARS);
+    }
+
+    private String truncate(String text, int maxLength) {
+        if (text == null) {
+            return "";
+        }
+        if (text.length() <= maxLength) {
+            return text;
+        }
+        return text.substring(0, maxLength) + "... [truncated]";
+    }
+}
@@ -36,9 +36,12 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -52,7 +55,9 @@ import java.util.stream.Stream;
  * <p>
  * Operations:
  * <ul>
- * <li>read_file - Read text file content (max 10MB)
+ * <li>read_file - Read text file content (max 10MB), or a line/byte range of a
+ * file of any size
+ * <li>search_file - Find lines matching a regex, streamed over the mapped file
  * <li>write_file - Write text content to file
  * <li>list_directory - List files and directories
  * <li>create_directory - Create directory
@@ -66,7 +71,8 @@ import java.util.stream.Stream;
  * <ul>
  * <li>All operations sandboxed to workspace directory
  * <li>Path traversal blocked (../, absolute paths)
- * <li>File size limits (10MB read, 50MB send)
+ * <li>File size limits (10MB whole-file read, 50MB send); ranged reads and
+ * searches are bounded by output size instead
  * <li>List operations limited to 100 files
  * </ul>
  *
@@ -83,12 +89,18 @@ public class FileSystemTool implements ToolComponent {
     private static final long MAX_SEND_FILE_SIZE = 50 * 1024 * 1024; // 50 MB (Telegram limit)
     private static final int MAX_FILES_LIST = 100;
     private static final int BYTES_PER_KB = 1024;
+    private static final int MAX_RANGE_LINES = 2000;
+    private static final int MAX_RANGE_BYTES = 64 * 1024;
+    private static final int DEFAULT_MAX_MATCHES = 50;
+    private static final int MAX_MATCHES = 500;
+    private static final int MAX_MATCH_LINE_CHARS = 300;
 
     // JSON Schema constants
     private static final String SCHEMA_TYPE = "type";
     private static final String SCHEMA_OBJECT = "object";
     private static final String SCHEMA_STRING = "string";
     private static final String SCHEMA_BOOLEAN = "boolean";
+    private static final String SCHEMA_INTEGER = "integer";
     private static final String SCHEMA_PROPERTIES = "properties";
     private static final String SCHEMA_DESCRIPTION = "description";
     private static final String SCHEMA_ENUM = "enum";
@@ -99,6 +111,13 @@ public class FileSystemTool implements ToolComponent {
     private static final String PARAM_PATH = "path";
     private static final String PARAM_CONTENT = "content";
     private static final String PARAM_APPEND = "append";
+    private static final String PARAM_START_LINE = "start_line";
+    private static final String PARAM_END_LINE = "end_line";
+    private static final String PARAM_OFFSET = "offset";
+    private static final String PARAM_LENGTH = "length";
+    private static final String PARAM_PATTERN = "pattern";
+    private static final String PARAM_MAX_MATCHES = "max_matches";
+    private static final String PARAM_IGNORE_CASE = "ignore_case";
 
     // Data field names
     private static final String FIELD_NAME = "name";
@@ -165,29 +184,57 @@ public class FileSystemTool implements ToolComponent {
                 .description(
                         """
                                 File system operations in the workspace directory.
-                                Operations: read_file, write_file, list_directory, create_directory, delete, file_info, send_file.
+                                Operations: read_file, write_file, list_directory, create_directory, delete, file_info, send_file, search_file.
+                                For large files, pass start_line/end_line or offset/length to read_file, or use search_file
+                                to find matching lines instead of reading the whole file.
                                 send_file sends a file to the user (images and documents up to 50MB).
                                 All paths are relative to the workspace root.
                                 """)
                 .inputSchema(Map.of(
                         SCHEMA_TYPE, SCHEMA_OBJECT,
-                        SCHEMA_PROPERTIES, Map.of(
-                                PARAM_OPERATION, Map.of(
+                        SCHEMA_PROPERTIES, Map.ofEntries(
+                                Map.entry(PARAM_OPERATION, Map.of(
                                         SCHEMA_TYPE, SCHEMA_STRING,
                                         SCHEMA_ENUM,
                                         List.of("read_file", "write_file", "list_directory", "create_directory",
-                                                "delete", "file_info", "send_file"),
-                                        SCHEMA_DESCRIPTION, "Operation to perform"),
-                                PARAM_PATH, Map.of(
+                                                "delete", "file_info", "send_file", "search_file"),
+                                        SCHEMA_DESCRIPTION, "Operation to perform")),
+                                Map.entry(PARAM_PATH, Map.of(
                                         SCHEMA_TYPE, SCHEMA_STRING,
-                                        SCHEMA_DESCRIPTION, "File or directory path (relative to workspace)"),
-                                PARAM_CONTENT, Map.of(
+                                        SCHEMA_DESCRIPTION, "File or directory path (relative to workspace)")),
+                                Map.entry(PARAM_CONTENT, Map.of(
                                         SCHEMA_TYPE, SCHEMA_STRING,
-                                        SCHEMA_DESCRIPTION, "Content to write (for write_file operation)"),
-                                PARAM_APPEND, Map.of(
+                                        SCHEMA_DESCRIPTION, "Content to write (for write_file operation)")),
+                                Map.entry(PARAM_APPEND, Map.of(
                                         SCHEMA_TYPE, SCHEMA_BOOLEAN,
                                         SCHEMA_DESCRIPTION,
                                         "Append to file instead of overwriting (for write_file, default: false)")),
+                                Map.entry(PARAM_START_LINE, Map.of(
+                                        SCHEMA_TYPE, SCHEMA_INTEGER,
+                                        SCHEMA_DESCRIPTION, "First line to read, 1-based (for read_file)")),
+                                Map.entry(PARAM_END_LINE, Map.of(
+                                        SCHEMA_TYPE, SCHEMA_INTEGER,
+                                        SCHEMA_DESCRIPTION, "Last line to read, inclusive (for read_file, max "
+                                                + MAX_RANGE_LINES + " lines per call)")),
+                                Map.entry(PARAM_OFFSET, Map.of(
+                                        SCHEMA_TYPE, SCHEMA_INTEGER,
+                                        SCHEMA_DESCRIPTION, "Byte offset to start reading at (for read_file)")),
+                                Map.entry(PARAM_LENGTH, Map.of(
+                                        SCHEMA_TYPE, SCHEMA_INTEGER,
+                                        SCHEMA_DESCRIPTION, "Number of bytes to read (for read_file, max "
+                                                + MAX_RANGE_BYTES + ")")),
+                                Map.entry(PARAM_PATTERN, Map.of(
+                                        SCHEMA_TYPE, SCHEMA_STRING,
+                                        SCHEMA_DESCRIPTION, "Java regular expression (for search_file)")),
+                                Map.entry(PARAM_MAX_MATCHES, Map.of(
+                                        SCHEMA_TYPE, SCHEMA_INTEGER,
+                                        SCHEMA_DESCRIPTION,
+                                        "Maximum matching lines to return (for search_file, default "
+                                                + DEFAULT_MAX_MATCHES + ", max " + MAX_MATCHES + ")")),
+                                Map.entry(PARAM_IGNORE_CASE, Map.of(
+                                        SCHEMA_TYPE, SCHEMA_BOOLEAN,
+                                        SCHEMA_DESCRIPTION,
+                                        "Case-insensitive matching (for search_file, default: false)"))),
                         SCHEMA_REQUIRED, List.of(PARAM_OPERATION, PARAM_PATH)))
                 .build();
     }
@@ -233,13 +280,14 @@ public class FileSystemTool implements ToolComponent {
                 log.debug("[FileSystem] Resolved path: {}", resolvedPath);
 
                 ToolResult result = switch (operation) {
-                case "read_file" -> readFile(resolvedPath);
+                case "read_file" -> readFile(resolvedPath, safeParameters);
                 case "write_file" -> writeFile(resolvedPath, safeParameters);
                 case "list_directory" -> listDirectory(resolvedPath);
                 case "create_directory" -> createDirectory(resolvedPath);
                 case "delete" -> delete(resolvedPath);
                 case "file_info" -> fileInfo(resolvedPath);
                 case "send_file" -> sendFile(resolvedPath);
+                case "search_file" -> searchFile(resolvedPath, safeParameters);
                 default -> ToolResult.failure("Unknown operation: " + operation);
                 };
 
@@ -263,6 +311,21 @@ public class FileSystemTool implements ToolComponent {
         return value instanceof Boolean booleanValue && booleanValue;
     }
 
+    private static Long longParam(Map<String, Object> params, String name) {
+        Object value = params.get(name);
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String stringValue && !stringValue.isBlank()) {
+            try {
+                return Long.parseLong(stringValue.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(name + " must be an integer", e);
+            }
+        }
+        return null;
+    }
+
     private Path resolveSafePath(String pathStr) {
         try {
             // Normalize and resolve relative to workspace
@@ -292,7 +355,7 @@ public class FileSystemTool implements ToolComponent {
         }
     }
 
-    private ToolResult readFile(Path path) {
+    private ToolResult readFile(Path path, Map<String, Object> params) {
         if (!Files.exists(path)) {
             return ToolResult.failure("File not found: " + relativePath(path));
         }
@@ -301,10 +364,27 @@ public class FileSystemTool implements ToolComponent {
             return ToolResult.failure("Not a file: " + relativePath(path));
         }
 
+        Long startLine = longParam(params, PARAM_START_LINE);
+        Long endLine = longParam(params, PARAM_END_LINE);
+        Long offset = longParam(params, PARAM_OFFSET);
+        Long length = longParam(params, PARAM_LENGTH);
+        boolean lineRange = startLine != null || endLine != null;
+        boolean byteRange = offset != null || length != null;
+        if (lineRange && byteRange) {
+            return ToolResult.failure("Use either start_line/end_line or offset/length, not both");
+        }
+        if (lineRange) {
+            return readLineRange(path, startLine, endLine);
+        }
+        if (byteRange) {
+            return readByteRange(path, offset, length);
+        }
+
         try {
             long size = Files.size(path);
             if (size > MAX_FILE_SIZE) {
-                return ToolResult.failure("File too large (max " + (MAX_FILE_SIZE / 1024 / 1024) + " MB)");
+                return ToolResult.failure("File too large (max " + (MAX_FILE_SIZE / 1024 / 1024)
+                        + " MB); read a range with start_line/end_line or offset/length, or use search_file");
             }
 
             String content = Files.readString(path, StandardCharsets.UTF_8);
@@ -318,6 +398,119 @@ public class FileSystemTool implements ToolComponent {
         }
     }
 
+    private ToolResult readLineRange(Path path, Long startLineParam, Long endLineParam) {
+        long startLine = startLineParam != null ? startLineParam : 1L;
+        if (startLine < 1) {
+            return ToolResult.failure("start_line must be >= 1");
+        }
+        long maxEndLine = startLine + MAX_RANGE_LINES - 1;
+        long endLine = endLineParam != null ? Math.min(endLineParam, maxEndLine) : maxEndLine;
+        if (endLine < startLine) {
+            return ToolResult.failure("end_line must be >= start_line");
+        }
+
+        try {
+            MappedTextReader.LineRange range = MappedTextReader.readLines(path, startLine, endLine, MAX_RANGE_BYTES);
+            if (range.endLine() < range.startLine()) {
+                return ToolResult.failure("start_line " + startLine + " is beyond the end of file: "
+                        + relativePath(path));
+            }
+            StringBuilder output = new StringBuilder(range.content());
+            boolean capped = endLineParam == null || endLineParam > endLine;
+            if (range.truncated() || (capped && !range.reachedEnd())) {
+                output.append("[... more lines; continue with start_line=").append(range.endLine() + 1).append(']');
+            }
+            return ToolResult.success(output.toString(), Map.of(
+                    PARAM_PATH, relativePath(path),
+                    FIELD_SIZE, Files.size(path),
+                    PARAM_START_LINE, range.startLine(),
+                    PARAM_END_LINE, range.endLine(),
+                    "eof", range.reachedEnd()));
+        } catch (IOException e) {
+            return ToolResult.failure("Failed to read file: " + e.getMessage());
+        }
+    }
+
+    private ToolResult readByteRange(Path path, Long offsetParam, Long lengthParam) {
+        long offset = offsetParam != null ? offsetParam : 0L;
+        long length = lengthParam != null ? lengthParam : MAX_RANGE_BYTES;
+        if (offset < 0) {
+            return ToolResult.failure("offset must be >= 0");
+        }
+        if (length < 1) {
+            return ToolResult.failure("length must be >= 1");
+        }
+        int boundedLength = (int) Math.min(length, MAX_RANGE_BYTES);
+
+        try {
+            long size = Files.size(path);
+            if (offset > size) {
+                return ToolResult.failure("offset " + offset + " is beyond the end of file (" + size + " bytes)");
+            }
+            String content = MappedTextReader.readBytes(path, offset, boundedLength);
+            long bytesRead = Math.min(boundedLength, size - offset);
+            return ToolResult.success(content, Map.of(
+                    PARAM_PATH, relativePath(path),
+                    FIELD_SIZE, size,
+                    PARAM_OFFSET, offset,
+                    PARAM_LENGTH, bytesRead,
+                    "eof", offset + bytesRead >= size));
+        } catch (IOException e) {
+            return ToolResult.failure("Failed to read file: " + e.getMessage());
+        }
+    }
+
+    private ToolResult searchFile(Path path, Map<String, Object> params) {
+        if (!Files.exists(path)) {
+            return ToolResult.failure("File not found: " + relativePath(path));
+        }
+
+        if (!Files.isRegularFile(path)) {
+            return ToolResult.failure("Not a file: " + relativePath(path));
+        }
+
+        String patternText = stringParam(params, PARAM_PATTERN);
+        if (patternText == null || patternText.isEmpty()) {
+            return ToolResult.failure("Missing pattern for search_file operation");
+        }
+        Pattern pattern;
+        try {
+            pattern = booleanParam(params, PARAM_IGNORE_CASE)
+                    ? Pattern.compile(patternText, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE)
+                    : Pattern.compile(patternText);
+        } catch (PatternSyntaxException e) {
+            return ToolResult.failure("Invalid pattern: " + e.getDescription());
+        }
+        Long maxMatchesParam = longParam(params, PARAM_MAX_MATCHES);
+        int maxMatches = maxMatchesParam != null && maxMatchesParam > 0
+                ? (int) Math.min(maxMatchesParam, MAX_MATCHES)
+                : DEFAULT_MAX_MATCHES;
+
+        try {
+            MappedTextReader.SearchResult result = MappedTextReader.search(path, pattern, maxMatches,
+                    MAX_MATCH_LINE_CHARS);
+            StringBuilder sb = new StringBuilder();
+            sb.append("File: ").append(relativePath(path)).append("\n");
+            sb.append("Matches: ").append(result.matches().size());
+            if (result.truncated()) {
+                sb.append(" (limit reached at line ").append(result.linesScanned())
+                        .append("; narrow the pattern or read a range)");
+            }
+            sb.append("\n\n");
+            List<Map<String, Object>> matches = new ArrayList<>(result.matches().size());
+            for (MappedTextReader.SearchMatch match : result.matches()) {
+                sb.append(match.line()).append(": ").append(match.text()).append("\n");
+                matches.add(Map.of("line", match.line(), "text", match.text()));
+            }
+            return ToolResult.success(sb.toString(), Map.of(
+                    PARAM_PATH, relativePath(path),
+                    "matches", matches,
+                    "truncated", result.truncated()));
+        } catch (IOException e) {
+            return ToolResult.failure("Failed to search file: " + e.getMessage());
+        }
+    }
+
     private ToolResult writeFile(Path path, Map<String, Object> params) {
         String content = stringParam(params, PARAM_CONTENT);
         if (content == null) {
@@ -0,0 +1,171 @@
+package me.golemcore.bot.tools;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Constant-memory line, byte-range and regex access to workspace files.
+ *
+ * <p>
+ * Files are memory-mapped in fixed windows and scanned byte by byte, so only
+ * the current line (capped at {@link #MAX_LINE_BYTES}) and the bounded output
+ * are held on the heap regardless of file size. Lines longer than the cap are
+ * clipped for matching and output.
+ */
+final class MappedTextReader {
+
+    static final int MAX_LINE_BYTES = 64 * 1024;
+    private static final long MAP_WINDOW_BYTES = 64L * 1024 * 1024;
+    private static final String CLIPPED_SUFFIX = " ...[line clipped]";
+
+    private MappedTextReader() {
+    }
+
+    /**
+     * Read lines {@code startLine..endLine} (1-based, inclusive), stopping early
+     * once the output would exceed {@code maxBytes}.
+     */
+    static LineRange readLines(Path path, long startLine, long endLine, int maxBytes) throws IOException {
+        StringBuilder output = new StringBuilder();
+        long[] lastLine = { startLine - 1 };
+        int[] outputBytes = { 0 };
+        boolean[] truncated = { false };
+        ScanSummary summary = scanLines(path, startLine, (lineNumber, buffer, length, clipped) -> {
+            int lineBytes = length + 1;
+            if (outputBytes[0] > 0 && outputBytes[0] + lineBytes > maxBytes) {
+                truncated[0] = true;
+                return false;
+            }
+            output.append(decode(buffer, length, clipped)).append('\n');
+            outputBytes[0] += lineBytes;
+            lastLine[0] = lineNumber;
+            return lineNumber < endLine;
+        });
+        boolean reachedEnd = summary.reachedEnd() && !truncated[0];
+        return new LineRange(output.toString(), startLine, lastLine[0], reachedEnd, truncated[0]);
+    }
+
+    /**
+     * Read at most {@code length} bytes starting at {@code offset}, decoded as
+     * UTF-8 with malformed edge sequences replaced.
+     */
+    static String readBytes(Path path, long offset, int length) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (offset >= size || length <= 0) {
+                return "";
+            }
+            int count = (int) Math.min(length, size - offset);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, offset, count);
+            byte[] bytes = new byte[count];
+            window.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Find lines matching {@code pattern}, keeping at most {@code maxMatches}
+     * matches with each line clipped to {@code maxLineChars}.
+     */
+    static SearchResult search(Path path, Pattern pattern, int maxMatches, int maxLineChars) throws IOException {
+        List<SearchMatch> matches = new ArrayList<>();
+        boolean[] truncated = { false };
+        Matcher matcher = pattern.matcher("");
+        ScanSummary summary = scanLines(path, 1, (lineNumber, buffer, length, clipped) -> {
+            String line = new String(buffer, 0, length, StandardCharsets.UTF_8);
+            if (!matcher.reset(line).find()) {
+                return true;
+            }
+            if (matches.size() >= maxMatches) {
+                truncated[0] = true;
+                return false;
+            }
+            matches.add(new SearchMatch(lineNumber, clip(line, maxLineChars)));
+            return true;
+        });
+        return new SearchResult(List.copyOf(matches), summary.lastLine(), truncated[0]);
+    }
+
+    private static ScanSummary scanLines(Path path, long firstLine, LineVisitor visitor) throws IOException {
+        byte[] line = new byte[MAX_LINE_BYTES];
+        int length = 0;
+        boolean clipped = false;
+        long lineNumber = 1;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long windowSize = Math.min(MAP_WINDOW_BYTES, size - position);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+                while (window.hasRemaining()) {
+                    byte value = window.get();
+                    if (value == '\n') {
+                        if (lineNumber >= firstLine
+                                && !visitor.visit(lineNumber, line, withoutCarriageReturn(line, length), clipped)) {
+                            return new ScanSummary(lineNumber, false);
+                        }
+                        lineNumber++;
+                        length = 0;
+                        clipped = false;
+                    } else if (lineNumber >= firstLine) {
+                        if (length < line.length) {
+                            line[length++] = value;
+                        } else {
+                            clipped = true;
+                        }
+                    }
+                }
+                position += windowSize;
+            }
+        }
+        if (length == 0 && !clipped) {
+            return new ScanSummary(lineNumber - 1, true);
+        }
+        if (lineNumber >= firstLine) {
+            visitor.visit(lineNumber, line, withoutCarriageReturn(line, length), clipped);
+        }
+        return new ScanSummary(lineNumber, true);
+    }
+
+    private static int withoutCarriageReturn(byte[] line, int length) {
+        return length > 0 && line[length - 1] == '\r' ? length - 1 : length;
+    }
+
+    private static String decode(byte[] buffer, int length, boolean clipped) {
+        String line = new String(buffer, 0, length, StandardCharsets.UTF_8);
+        return clipped ? line + CLIPPED_SUFFIX : line;
+    }
+
+    private static String clip(String line, int maxChars) {
+        return line.length() <= maxChars ? line : line.substring(0, maxChars) + "...";
+    }
+
+    @FunctionalInterface
+    private interface LineVisitor {
+
+        /**
+         * @return {@code false} to stop scanning
+         */
+        boolean visit(long lineNumber, byte[] buffer, int length, boolean clipped);
+    }
+
+    private record ScanSummary(long lastLine, boolean reachedEnd) {
+    }
+
+    record LineRange(String content, long startLine, long endLine, boolean reachedEnd, boolean truncated) {
+    }
+
+    record SearchMatch(long line, String text) {
+    }
+
+    record SearchResult(List<SearchMatch> matches, long linesScanned, boolean truncated) {
+    }
+}
@@ -0,0 +1,335 @@
+package me.golemcore.bot.tools;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory trigram posting index over workspace text files.
+ *
+ * <p>
+ * Trigrams are taken from UTF-8 bytes with ASCII letters folded to lower case,
+ * so one index serves case-sensitive and case-insensitive queries; callers
+ * always verify candidates against the real pattern. File ids only grow, which
+ * keeps every posting list sorted and lets it be stored as delta-encoded
+ * varints. Changed files get a fresh id and their old id becomes dead until
+ * {@link #compactIfNeeded()} rewrites the postings. Not thread-safe.
+ */
+final class TrigramIndex {
+
+    private static final int FORMAT_MAGIC = 0x47545249;
+    private static final int FORMAT_VERSION = 1;
+    private static final int BINARY_PROBE_BYTES = 8 * 1024;
+    private static final int MIN_DEAD_FOR_COMPACTION = 1024;
+
+    private final List<FileEntry> files = new ArrayList<>();
+    private final Map<String, FileEntry> filesByPath = new HashMap<>();
+    private final Map<Integer, PostingList> postings = new HashMap<>();
+    private int deadCount;
+
+    /**
+     * Index {@code content} under {@code path}, replacing any previous version.
+     *
+     * @return {@code false} when the content looks binary and was not indexed
+     */
+    boolean put(String path, long size, long modifiedMillis, byte[] content) {
+        remove(path);
+        if (isBinary(content)) {
+            return false;
+        }
+        int id = files.size();
+        FileEntry entry = new FileEntry(id, path, size, modifiedMillis);
+        files.add(entry);
+        filesByPath.put(path, entry);
+        for (int key : distinctTrigrams(content)) {
+            postings.computeIfAbsent(key, ignored -> new PostingList()).add(id);
+        }
+        return true;
+    }
+
+    void remove(String path) {
+        FileEntry previous = filesByPath.remove(path);
+        if (previous != null) {
+            files.set(previous.id(), null);
+            deadCount++;
+        }
+    }
+
+    Optional<FileEntry> find(String path) {
+        return Optional.ofNullable(filesByPath.get(path));
+    }
+
+    Collection<FileEntry> liveFiles() {
+        return filesByPath.values();
+    }
+
+    int size() {
+        return filesByPath.size();
+    }
+
+    /**
+     * Files whose content may contain every literal, in id order. An empty literal
+     * list, or literals shorter than three bytes, select all files.
+     */
+    List<FileEntry> candidates(List<String> literals) {
+        List<Integer> keys = new ArrayList<>();
+        for (String literal : literals) {
+            for (int key : distinctTrigrams(literal.getBytes(StandardCharsets.UTF_8))) {
+                keys.add(key);
+            }
+        }
+        if (keys.isEmpty()) {
+            List<FileEntry> all = new ArrayList<>(filesByPath.values());
+            all.sort((left, right) -> Integer.compare(left.id(), right.id()));
+            return all;
+        }
+        List<PostingList> lists = new ArrayList<>(keys.size());
+        for (int key : keys) {
+            PostingList list = postings.get(key);
+            if (list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort((left, right) -> Integer.compare(left.count, right.count));
+        int[] ids = lists.getFirst().decode();
+        int idCount = ids.length;
+        for (int index = 1; index < lists.size() && idCount > 0; index++) {
+            idCount = intersect(ids, idCount, lists.get(index).decode());
+        }
+        List<FileEntry> result = new ArrayList<>(idCount);
+        for (int index = 0; index < idCount; index++) {
+            FileEntry entry = files.get(ids[index]);
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Drop dead ids from all postings once they outnumber live files.
+     */
+    void compactIfNeeded() {
+        if (deadCount < MIN_DEAD_FOR_COMPACTION || deadCount < filesByPath.size()) {
+            return;
+        }
+        int[] remap = new int[files.size()];
+        List<FileEntry> compacted = new ArrayList<>(filesByPath.size());
+        for (int id = 0; id < files.size(); id++) {
+            FileEntry entry = files.get(id);
+            if (entry == null) {
+                remap[id] = -1;
+                continue;
+            }
+            remap[id] = compacted.size();
+            FileEntry moved = new FileEntry(compacted.size(), entry.path(), entry.size(), entry.modifiedMillis());
+            compacted.add(moved);
+            filesByPath.put(moved.path(), moved);
+        }
+        postings.replaceAll((key, list) -> list.remap(remap));
+        postings.values().removeIf(list -> list.count == 0);
+        files.clear();
+        files.addAll(compacted);
+        deadCount = 0;
+    }
+
+    byte[] serialize(String root) throws IOException {
+        compactIfNeeded();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(buffer)) {
+            output.writeInt(FORMAT_MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeUTF(root);
+            output.writeInt(files.size());
+            for (FileEntry entry : files) {
+                output.writeBoolean(entry != null);
+                if (entry != null) {
+                    output.writeUTF(entry.path());
+                    output.writeLong(entry.size());
+                    output.writeLong(entry.modifiedMillis());
+                }
+            }
+            output.writeInt(postings.size());
+            for (Map.Entry<Integer, PostingList> posting : postings.entrySet()) {
+                PostingList list = posting.getValue();
+                output.writeInt(posting.getKey());
+                output.writeInt(list.count);
+                output.writeInt(list.last);
+                output.writeInt(list.length);
+                output.write(list.bytes, 0, list.length);
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Restore an index written for the same workspace root; anything else,
+     * including truncated or foreign data, yields empty.
+     */
+    static Optional<TrigramIndex> deserialize(byte[] data, String root) {
+        if (data == null || data.length == 0) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (input.readInt() != FORMAT_MAGIC || input.readInt() != FORMAT_VERSION
+                    || !root.equals(input.readUTF())) {
+                return Optional.empty();
+            }
+            TrigramIndex index = new TrigramIndex();
+            int fileCount = input.readInt();
+            for (int id = 0; id < fileCount; id++) {
+                if (!input.readBoolean()) {
+                    index.files.add(null);
+                    index.deadCount++;
+                    continue;
+                }
+                FileEntry entry = new FileEntry(id, input.readUTF(), input.readLong(), input.readLong());
+                index.files.add(entry);
+                index.filesByPath.put(entry.path(), entry);
+            }
+            int postingCount = input.readInt();
+            for (int postingIndex = 0; postingIndex < postingCount; postingIndex++) {
+                int key = input.readInt();
+                PostingList list = new PostingList();
+                list.count = input.readInt();
+                list.last = input.readInt();
+                list.length = input.readInt();
+                list.bytes = new byte[Math.max(list.length, 8)];
+                input.readFully(list.bytes, 0, list.length);
+                index.postings.put(key, list);
+            }
+            return Optional.of(index);
+        } catch (IOException | RuntimeException e) { // NOSONAR - corrupt index is rebuilt
+            return Optional.empty();
+        }
+    }
+
+    static boolean isBinary(byte[] content) {
+        int limit = Math.min(content.length, BINARY_PROBE_BYTES);
+        for (int index = 0; index < limit; index++) {
+            if (content[index] == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] distinctTrigrams(byte[] content) {
+        if (content.length < 3) {
+            return new int[0];
+        }
+        int[] keys = new int[content.length - 2];
+        int count = 0;
+        int b0 = fold(content[0]);
+        int b1 = fold(content[1]);
+        for (int index = 2; index < content.length; index++) {
+            int b2 = fold(content[index]);
+            if (b0 != '\n' && b1 != '\n' && b2 != '\n') {
+                keys[count++] = (b0 << 16) | (b1 << 8) | b2;
+            }
+            b0 = b1;
+            b1 = b2;
+        }
+        Arrays.sort(keys, 0, count);
+        int distinct = 0;
+        for (int index = 0; index < count; index++) {
+            if (distinct == 0 || keys[distinct - 1] != keys[index]) {
+                keys[distinct++] = keys[index];
+            }
+        }
+        return Arrays.copyOf(keys, distinct);
+    }
+
+    private static int fold(byte value) {
+        int unsigned = value & 0xFF;
+        return unsigned >= 'A' && unsigned <= 'Z' ? unsigned + ('a' - 'A') : unsigned;
+    }
+
+    private static int intersect(int[] target, int targetCount, int[] other) {
+        int kept = 0;
+        int otherIndex = 0;
+        for (int index = 0; index < targetCount && otherIndex < other.length; index++) {
+            int id = target[index];
+            while (otherIndex < other.length && other[otherIndex] < id) {
+                otherIndex++;
+            }
+            if (otherIndex < other.length && other[otherIndex] == id) {
+                target[kept++] = id;
+            }
+        }
+        return kept;
+    }
+
+    record FileEntry(int id, String path, long size, long modifiedMillis) {
+    }
+
+    /**
+     * Sorted file ids stored as delta-encoded unsigned varints.
+     */
+    private static final class PostingList {
+
+        private byte[] bytes = new byte[8];
+        private int length;
+        private int count;
+        private int last = -1;
+
+        void add(int id) {
+            int delta = last < 0 ? id : id - last;
+            ensureCapacity(5);
+            while ((delta & ~0x7F) != 0) {
+                bytes[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            bytes[length++] = (byte) delta;
+            last = id;
+            count++;
+        }
+
+        int[] decode() {
+            int[] ids = new int[count];
+            int position = 0;
+            int previous = 0;
+            for (int index = 0; index < count; index++) {
+                int value = 0;
+                int shift = 0;
+                byte current;
+                do {
+                    current = bytes[position++];
+                    value |= (current & 0x7F) << shift;
+                    shift += 7;
+                } while ((current & 0x80) != 0);
+                previous = index == 0 ? value : previous + value;
+                ids[index] = previous;
+            }
+            return ids;
+        }
+
+        PostingList remap(int[] remap) {
+            PostingList remapped = new PostingList();
+            for (int id : decode()) {
+                int target = remap[id];
+                if (target >= 0) {
+                    remapped.add(target);
+                }
+            }
+            return remapped;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package me.golemcore.bot.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Derives literal substrings every match of a query must contain, for trigram
+ * candidate selection.
+ *
+ * <p>
+ * The regex analysis is deliberately conservative: it only keeps literal runs
+ * at the top level of a pattern without alternation, drops characters made
+ * optional by a quantifier, and ignores groups and character classes; patterns
+ * with inline flags or special groups select every file. Literals with
+ * non-ASCII characters are dropped for case-insensitive queries because the
+ * index only folds ASCII case. An empty result means "scan every indexed file",
+ * never a missed match.
+ */
+final class TrigramQuery {
+
+    private static final String SIMPLE_ESCAPES = "\\.[]{}()*+?^$|/-";
+
+    private TrigramQuery() {
+    }
+
+    static List<String> requiredLiterals(String query, boolean regex, boolean ignoreCase) {
+        List<String> literals = regex ? regexLiterals(query) : literal(query);
+        if (!ignoreCase) {
+            return literals;
+        }
+        return literals.stream().filter(TrigramQuery::isAscii).toList();
+    }
+
+    private static List<String> literal(String query) {
+        return query == null || query.isEmpty() ? List.of() : List.of(query);
+    }
+
+    private static List<String> regexLiterals(String query) {
+        if (query == null || query.isEmpty() || query.contains("(?") || hasTopLevelAlternation(query)) {
+            return List.of();
+        }
+        List<String> literals = new ArrayList<>();
+        StringBuilder run = new StringBuilder();
+        int index = 0;
+        while (index < query.length()) {
+            char current = query.charAt(index);
+            switch (current) {
+            case '\\' -> {
+                if (index + 1 < query.length() && SIMPLE_ESCAPES.indexOf(query.charAt(index + 1)) >= 0) {
+                    run.append(query.charAt(index + 1));
+                    index += 2;
+                } else {
+                    flush(run, literals);
+                    index = skipEscape(query, index);
+                }
+            }
+            case '*', '?' -> {
+                dropLast(run);
+                flush(run, literals);
+                index++;
+            }
+            case '{' -> {
+                if (index + 1 < query.length() && query.charAt(index + 1) == '0') {
+                    dropLast(run);
+                }
+                flush(run, literals);
+                index = skipPast(query, index, '}');
+            }
+            case '+', '.', '^', '$' -> {
+                flush(run, literals);
+                index++;
+            }
+            case '[' -> {
+                flush(run, literals);
+                index = skipCharacterClass(query, index);
+            }
+            case '(' -> {
+                flush(run, literals);
+                index = skipGroup(query, index);
+            }
+            default -> {
+                run.append(current);
+                index++;
+            }
+            }
+        }
+        flush(run, literals);
+        return literals;
+    }
+
+    private static void flush(StringBuilder run, List<String> literals) {
+        if (run.length() >= 3) {
+            literals.add(run.toString());
+        }
+        run.setLength(0);
+    }
+
+    private static void dropLast(StringBuilder run) {
+        if (!run.isEmpty()) {
+            run.setLength(run.length() - 1);
+        }
+    }
+
+    private static boolean isAscii(String literal) {
+        return literal.chars().allMatch(character -> character < 0x80);
+    }
+
+    private static int skipEscape(String query, int start) {
+        int index = start + 2;
+        if (index > query.length()) {
+            return query.length();
+        }
+        char kind = query.charAt(start + 1);
+        switch (kind) {
+        case 'x', 'p', 'P', 'N' -> {
+            if (index < query.length() && query.charAt(index) == '{') {
+                return skipPast(query, index, '}');
+            }
+            return Math.min(query.length(), index + (kind == 'x' ? 2 : 1));
+        }
+        case 'u' -> {
+            return Math.min(query.length(), index + 4);
+        }
+        case 'c' -> {
+            return Math.min(query.length(), index + 1);
+        }
+        case 'k' -> {
+            return skipPast(query, index, '>');
+        }
+        case '0' -> {
+            int end = index;
+            while (end < query.length() && end < index + 3 && query.charAt(end) >= '0' && query.charAt(end) <= '7') {
+                end++;
+            }
+            return end;
+        }
+        default -> {
+            return index;
+        }
+        }
+    }
+
+    private static boolean hasTopLevelAlternation(String query) {
+        int depth = 0;
+        boolean inClass = false;
+        for (int index = 0; index < query.length(); index++) {
+            char current = query.charAt(index);
+            if (current == '\\') {
+                index++;
+            } else if (inClass) {
+                inClass = current != ']';
+            } else if (current == '[') {
+                inClass = true;
+            } else if (current == '(') {
+                depth++;
+            } else if (current == ')') {
+                depth = Math.max(0, depth - 1);
+            } else if (current == '|' && depth == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int skipPast(String query, int start, char terminator) {
+        int end = query.indexOf(terminator, start);
+        return end < 0 ? query.length() : end + 1;
+    }
+
+    private static int skipCharacterClass(String query, int start) {
+        int index = start + 1;
+        if (index < query.length() && query.charAt(index) == '^') {
+            index++;
+        }
+        if (index < query.length() && query.charAt(index) == ']') {
+            index++;
+        }
+        while (index < query.length()) {
+            char current = query.charAt(index);
+            if (current == '\\') {
+                index += 2;
+            } else if (current == ']') {
+                return skipQuantifier(query, index + 1);
+            } else {
+                index++;
+            }
+        }
+        return query.length();
+    }
+
+    private static int skipGroup(String query, int start) {
+        int depth = 0;
+        int index = start;
+        while (index < query.length()) {
+            char current = query.charAt(index);
+            if (current == '\\') {
+                index += 2;
+                continue;
+            }
+            if (current == '[') {
+                index = skipCharacterClass(query, index);
+                continue;
+            }
+            if (current == '(') {
+                depth++;
+            } else if (current == ')') {
+                depth--;
+                if (depth == 0) {
+                    return skipQuantifier(query, index + 1);
+                }
+            }
+            index++;
+        }
+        return query.length();
+    }
+
+    private static int skipQuantifier(String query, int index) {
+        if (index >= query.length()) {
+            return index;
+        }
+        char next = query.charAt(index);
+        if (next == '*' || next == '+' || next == '?') {
+            return index + 1;
+        }
+        if (next == '{') {
+            return skipPast(query, index, '}');
+        }
+        return index;
+    }
+}
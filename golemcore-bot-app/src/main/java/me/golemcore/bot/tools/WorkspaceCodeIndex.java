@@ -0,0 +1,542 @@
+package me.golemcore.bot.tools;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.domain.tools.workspace.WorkspacePathService;
+import me.golemcore.bot.port.outbound.StoragePort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Persistent trigram index over the tool workspace, backing
+ * {@link CodeSearchTool}.
+ *
+ * <p>
+ * The index is built lazily on the first search, persisted through
+ * {@link StoragePort} and reconciled against file sizes and modification times
+ * on the next start. While running, a {@link WatchService} marks changed paths
+ * dirty so each search only re-reads what changed; a periodic full reconcile
+ * covers missed or overflowed events, and becomes the only mechanism when the
+ * platform cannot watch the tree. Candidates from the index are always verified
+ * against the current file content.
+ */
+@Component
+@Slf4j
+public class WorkspaceCodeIndex {
+
+    static final int MAX_INDEXED_FILES = 100_000;
+    static final long MAX_INDEXED_FILE_BYTES = 512L * 1024;
+    static final Duration RECONCILE_INTERVAL = Duration.ofMinutes(5);
+    static final Duration UNWATCHED_RECONCILE_INTERVAL = Duration.ofSeconds(5);
+
+    private static final Set<String> IGNORED_DIRECTORY_NAMES = Set.of(
+            ".git", "node_modules", "target", "build", "dist", "out",
+            ".idea", ".vscode", ".gradle", ".mvn", ".venv", "venv", "__pycache__");
+    private static final Duration PERSIST_INTERVAL = Duration.ofMinutes(1);
+    private static final String STORAGE_DIRECTORY = "workspace-index";
+    private static final String STORAGE_FILE = "trigram.idx";
+    private static final int MAX_WATCHED_DIRECTORIES = 20_000;
+    private static final int MAX_VERIFIED_FILES = 5_000;
+    private static final int MAX_MATCHES_PER_FILE = 20;
+    private static final int MAX_SNIPPETS_PER_FILE = 3;
+    private static final int MAX_SNIPPET_CHARS = 200;
+    private static final Pattern DECLARATION = Pattern.compile(
+            "\\b(class|interface|enum|record|def|function|func|fn|struct|trait|type|module)\\b");
+
+    private final WorkspacePathService workspacePathService;
+    private final StoragePort storagePort;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Set<Path> dirtyPaths = ConcurrentHashMap.newKeySet();
+    private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+    private final Set<Path> watchedPaths = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean fullReconcileRequested = new AtomicBoolean();
+
+    private TrigramIndex index;
+    private Path root;
+    private WatchService watchService;
+    private Thread watchThread;
+    private volatile boolean watching;
+    private Instant lastReconcile = Instant.EPOCH;
+    private Instant lastPersist = Instant.EPOCH;
+    private boolean persistPending;
+    private boolean fileLimitLogged;
+
+    public WorkspaceCodeIndex(WorkspacePathService workspacePathService, StoragePort storagePort, Clock clock) {
+        this.workspacePathService = workspacePathService;
+        this.storagePort = storagePort;
+        this.clock = clock;
+    }
+
+    /**
+     * Search indexed workspace files, returning ranked per-file hits.
+     */
+    public SearchResults search(SearchRequest request) {
+        Pattern pattern = request.toPattern();
+        List<String> literals = TrigramQuery.requiredLiterals(request.query(), request.regex(), request.ignoreCase());
+        long startedAt = System.nanoTime();
+        lock.lock();
+        try {
+            ensureFresh();
+            List<TrigramIndex.FileEntry> candidates = index.candidates(literals);
+            PathMatcher globMatcher = globMatcher(request.glob());
+            String prefix = normalizePrefix(request.pathPrefix());
+            List<FileHit> hits = new ArrayList<>();
+            int verified = 0;
+            boolean truncated = false;
+            for (TrigramIndex.FileEntry entry : candidates) {
+                if (!matchesFilters(entry.path(), prefix, globMatcher)) {
+                    continue;
+                }
+                if (verified >= MAX_VERIFIED_FILES) {
+                    truncated = true;
+                    break;
+                }
+                verified++;
+                verify(entry, pattern, literals).ifPresent(hits::add);
+            }
+            hits.sort(Comparator.comparingDouble(FileHit::score).reversed().thenComparing(FileHit::path));
+            int maxResults = Math.max(1, request.maxResults());
+            if (hits.size() > maxResults) {
+                truncated = true;
+            }
+            List<FileHit> top = List.copyOf(hits.subList(0, Math.min(maxResults, hits.size())));
+            persistIfDue();
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000L;
+            return new SearchResults(top, hits.size(), verified, index.size(), truncated, elapsedMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        lock.lock();
+        try {
+            stopWatching();
+            if (persistPending) {
+                persist();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureFresh() {
+        Path currentRoot = workspacePathService.getWorkspaceRoot();
+        if (index == null || !currentRoot.equals(root)) {
+            stopWatching();
+            root = currentRoot;
+            index = loadPersisted().orElseGet(TrigramIndex::new);
+            dirtyPaths.clear();
+            startWatching();
+            reconcile();
+            return;
+        }
+        Duration interval = watching ? RECONCILE_INTERVAL : UNWATCHED_RECONCILE_INTERVAL;
+        if (fullReconcileRequested.getAndSet(false)
+                || !clock.instant().isBefore(lastReconcile.plus(interval))) {
+            reconcile();
+        }
+        applyDirtyPaths();
+    }
+
+    private void reconcile() {
+        Set<String> seen = new HashSet<>();
+        boolean changed = walk(root, seen, false);
+        List<String> removed = new ArrayList<>();
+        for (TrigramIndex.FileEntry entry : index.liveFiles()) {
+            if (!seen.contains(entry.path())) {
+                removed.add(entry.path());
+            }
+        }
+        removed.forEach(index::remove);
+        index.compactIfNeeded();
+        lastReconcile = clock.instant();
+        persistPending |= changed || !removed.isEmpty();
+        log.debug("[CodeSearch] Reconciled {} files under {} ({} removed)", index.size(), root, removed.size());
+    }
+
+    private void applyDirtyPaths() {
+        if (dirtyPaths.isEmpty()) {
+            return;
+        }
+        List<Path> snapshot = new ArrayList<>(dirtyPaths);
+        dirtyPaths.removeAll(snapshot);
+        for (Path path : snapshot) {
+            refreshSubtree(path);
+        }
+        index.compactIfNeeded();
+        persistPending = true;
+    }
+
+    private void refreshSubtree(Path path) {
+        if (!path.startsWith(root)) {
+            return;
+        }
+        String relative = relative(path);
+        if (isIgnored(relative)) {
+            return;
+        }
+        Set<String> seen = new HashSet<>();
+        if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+            walk(path, seen, true);
+        } else if (Files.isRegularFile(path, LinkOption.NOFOLLOW_LINKS)) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class,
+                        LinkOption.NOFOLLOW_LINKS);
+                indexFile(path, relative, attributes, true);
+                seen.add(relative);
+            } catch (IOException e) {
+                log.debug("[CodeSearch] Failed to stat {}: {}", relative, e.getMessage());
+            }
+        }
+        String directoryPrefix = relative + "/";
+        List<String> removed = new ArrayList<>();
+        for (TrigramIndex.FileEntry entry : index.liveFiles()) {
+            String entryPath = entry.path();
+            if ((entryPath.equals(relative) || entryPath.startsWith(directoryPrefix)) && !seen.contains(entryPath)) {
+                removed.add(entryPath);
+            }
+        }
+        removed.forEach(index::remove);
+    }
+
+    private boolean walk(Path start, Set<String> seen, boolean force) {
+        boolean[] changed = { false };
+        try {
+            Files.walkFileTree(start, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+                    Path name = directory.getFileName();
+                    if (!directory.equals(root) && name != null
+                            && IGNORED_DIRECTORY_NAMES.contains(name.toString())) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    register(directory);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (attributes.isRegularFile()) {
+                        String relative = relative(file);
+                        if (indexFile(file, relative, attributes, force)) {
+                            changed[0] = true;
+                        }
+                        if (index.find(relative).isPresent()) {
+                            seen.add(relative);
+                        }
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exception) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.warn("[CodeSearch] Failed to scan {}: {}", start, e.getMessage());
+        }
+        return changed[0];
+    }
+
+    private boolean indexFile(Path file, String relative, BasicFileAttributes attributes, boolean force) {
+        long size = attributes.size();
+        long modifiedMillis = attributes.lastModifiedTime().toMillis();
+        Optional<TrigramIndex.FileEntry> existing = index.find(relative);
+        if (size > MAX_INDEXED_FILE_BYTES) {
+            existing.ifPresent(entry -> index.remove(relative));
+            return existing.isPresent();
+        }
+        if (!force && existing.isPresent() && existing.get().size() == size
+                && existing.get().modifiedMillis() == modifiedMillis) {
+            return false;
+        }
+        if (existing.isEmpty() && index.size() >= MAX_INDEXED_FILES) {
+            if (!fileLimitLogged) {
+                log.warn("[CodeSearch] File limit {} reached; remaining workspace files are not indexed",
+                        MAX_INDEXED_FILES);
+                fileLimitLogged = true;
+            }
+            return false;
+        }
+        try {
+            byte[] content = Files.readAllBytes(file);
+            if (!index.put(relative, size, modifiedMillis, content)) {
+                return existing.isPresent();
+            }
+            return true;
+        } catch (IOException e) {
+            log.debug("[CodeSearch] Failed to index {}: {}", relative, e.getMessage());
+            return false;
+        }
+    }
+
+    private Optional<FileHit> verify(TrigramIndex.FileEntry entry, Pattern pattern, List<String> literals) {
+        Path file = root.resolve(entry.path());
+        if (!Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)) {
+            dirtyPaths.add(file);
+            return Optional.empty();
+        }
+        try {
+            MappedTextReader.SearchResult result = MappedTextReader.search(file, pattern, MAX_MATCHES_PER_FILE,
+                    MAX_SNIPPET_CHARS);
+            if (result.matches().isEmpty()) {
+                return Optional.empty();
+            }
+            List<Snippet> snippets = new ArrayList<>();
+            boolean declaration = false;
+            for (MappedTextReader.SearchMatch match : result.matches()) {
+                boolean declares = DECLARATION.matcher(match.text()).find();
+                declaration |= declares;
+                if (snippets.size() < MAX_SNIPPETS_PER_FILE) {
+                    snippets.add(new Snippet(match.line(), match.text().strip()));
+                } else if (declares && snippets.stream().noneMatch(Snippet::declaration)) {
+                    snippets.set(MAX_SNIPPETS_PER_FILE - 1, new Snippet(match.line(), match.text().strip()));
+                }
+            }
+            double score = score(entry.path(), result, declaration, literals);
+            return Optional.of(new FileHit(entry.path(), score, result.matches().size(), result.truncated(),
+                    List.copyOf(snippets)));
+        } catch (IOException e) {
+            log.debug("[CodeSearch] Failed to read {}: {}", entry.path(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private double score(String path, MappedTextReader.SearchResult result, boolean declaration,
+            List<String> literals) {
+        double score = Math.min(result.matches().size(), 10);
+        String lowerPath = path.toLowerCase(Locale.ROOT);
+        int nameStart = lowerPath.lastIndexOf('/') + 1;
+        for (String literal : literals) {
+            if (lowerPath.indexOf(literal.toLowerCase(Locale.ROOT), nameStart) >= 0) {
+                score += 5;
+                break;
+            }
+        }
+        if (declaration) {
+            score += 3;
+        }
+        long depth = path.chars().filter(character -> character == '/').count();
+        return score - depth * 0.1;
+    }
+
+    private boolean matchesFilters(String path, String prefix, PathMatcher globMatcher) {
+        if (prefix != null && !path.equals(prefix) && !path.startsWith(prefix + "/")) {
+            return false;
+        }
+        if (globMatcher == null) {
+            return true;
+        }
+        Path relativePath = Path.of(path);
+        Path fileName = relativePath.getFileName();
+        return globMatcher.matches(relativePath) || fileName != null && globMatcher.matches(fileName);
+    }
+
+    private PathMatcher globMatcher(String glob) {
+        if (glob == null || glob.isBlank()) {
+            return null;
+        }
+        return FileSystems.getDefault().getPathMatcher("glob:" + glob.trim());
+    }
+
+    private String normalizePrefix(String pathPrefix) {
+        if (pathPrefix == null) {
+            return null;
+        }
+        String normalized = pathPrefix.trim().replace('\\', '/');
+        while (normalized.startsWith("./")) {
+            normalized = normalized.substring(2);
+        }
+        while (normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized.isEmpty() || ".".equals(normalized) ? null : normalized;
+    }
+
+    private boolean isIgnored(String relative) {
+        for (String segment : relative.split("/")) {
+            if (IGNORED_DIRECTORY_NAMES.contains(segment)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String relative(Path path) {
+        return root.relativize(path).toString().replace('\\', '/');
+    }
+
+    private void startWatching() {
+        try {
+            watchService = root.getFileSystem().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            log.info("[CodeSearch] File watching unavailable, using periodic rescans: {}", e.getMessage());
+            return;
+        }
+        watching = true;
+        WatchService service = watchService;
+        watchThread = new Thread(() -> watchLoop(service), "workspace-code-index-watch");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    private void stopWatching() {
+        watching = false;
+        watchedDirectories.clear();
+        watchedPaths.clear();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("[CodeSearch] Failed to close watch service: {}", e.getMessage());
+            }
+            watchService = null;
+        }
+        if (watchThread != null) {
+            watchThread.interrupt();
+            watchThread = null;
+        }
+    }
+
+    private void register(Path directory) {
+        if (!watching || watchedPaths.contains(directory)) {
+            return;
+        }
+        if (watchedPaths.size() >= MAX_WATCHED_DIRECTORIES) {
+            log.info("[CodeSearch] More than {} directories, falling back to periodic rescans",
+                    MAX_WATCHED_DIRECTORIES);
+            stopWatching();
+            return;
+        }
+        try {
+            WatchKey key = directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            watchedDirectories.put(key, directory);
+            watchedPaths.add(directory);
+        } catch (IOException | RuntimeException e) { // NOSONAR - watch limits fall back to rescans
+            log.info("[CodeSearch] Cannot watch {}, falling back to periodic rescans: {}", directory,
+                    e.getMessage());
+            stopWatching();
+        }
+    }
+
+    private void watchLoop(WatchService service) {
+        while (watching) {
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+            Path directory = watchedDirectories.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW || directory == null) {
+                    fullReconcileRequested.set(true);
+                } else if (event.context() instanceof Path child) {
+                    dirtyPaths.add(directory.resolve(child));
+                }
+            }
+            if (!key.reset() && directory != null) {
+                watchedDirectories.remove(key);
+                watchedPaths.remove(directory);
+            }
+        }
+    }
+
+    private Optional<TrigramIndex> loadPersisted() {
+        try {
+            byte[] data = storagePort.getObject(STORAGE_DIRECTORY, STORAGE_FILE).join();
+            Optional<TrigramIndex> loaded = TrigramIndex.deserialize(data, root.toString());
+            loaded.ifPresent(restored -> log.info("[CodeSearch] Loaded index with {} files", restored.size()));
+            return loaded;
+        } catch (RuntimeException e) { // NOSONAR - a missing or unreadable index is rebuilt
+            log.debug("[CodeSearch] No persisted index: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void persistIfDue() {
+        if (persistPending && !clock.instant().isBefore(lastPersist.plus(PERSIST_INTERVAL))) {
+            persist();
+        }
+    }
+
+    private void persist() {
+        try {
+            byte[] data = index.serialize(root.toString());
+            persistPending = false;
+            lastPersist = clock.instant();
+            storagePort.putObject(STORAGE_DIRECTORY, STORAGE_FILE, data)
+                    .whenComplete((ignored, failure) -> {
+                        if (failure != null) {
+                            log.warn("[CodeSearch] Failed to persist index: {}", failure.getMessage());
+                        }
+                    });
+        } catch (IOException | RuntimeException e) { // NOSONAR - persistence is best effort
+            log.warn("[CodeSearch] Failed to serialize index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Search parameters; {@code regex=false} treats the query as a literal.
+     */
+    public record SearchRequest(String query, boolean regex, boolean ignoreCase, String pathPrefix, String glob,
+            int maxResults) {
+
+        Pattern toPattern() {
+            int flags = ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0;
+            return regex ? Pattern.compile(query, flags) : Pattern.compile(Pattern.quote(query), flags);
+        }
+    }
+
+    public record Snippet(long line, String text) {
+
+        boolean declaration() {
+            return DECLARATION.matcher(text).find();
+        }
+    }
+
+    public record FileHit(String path, double score, int matchCount, boolean moreMatches, List<Snippet> snippets) {
+    }
+
+    public record SearchResults(List<FileHit> hits, int matchedFiles, int verifiedFiles, int indexedFiles,
+            boolean truncated, long elapsedMillis) {
+    }
+}
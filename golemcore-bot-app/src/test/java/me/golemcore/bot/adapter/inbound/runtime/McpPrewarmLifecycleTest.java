@@ -0,0 +1,83 @@
+package me.golemcore.bot.adapter.inbound.runtime;
+
+import me.golemcore.bot.domain.component.SkillComponent;
+import me.golemcore.bot.domain.model.McpConfig;
+import me.golemcore.bot.domain.model.RuntimeConfig;
+import me.golemcore.bot.domain.model.Skill;
+import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
+import me.golemcore.bot.domain.skills.DynamicSkillFactory;
+import me.golemcore.bot.port.outbound.McpPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class McpPrewarmLifecycleTest {
+
+    private RuntimeConfigService runtimeConfigService;
+    private SkillComponent skillComponent;
+    private McpPort mcpPort;
+    private McpPrewarmLifecycle lifecycle;
+
+    @BeforeEach
+    void setUp() {
+        runtimeConfigService = mock(RuntimeConfigService.class);
+        skillComponent = mock(SkillComponent.class);
+        mcpPort = mock(McpPort.class);
+        when(runtimeConfigService.isMcpEnabled()).thenReturn(true);
+        lifecycle = new McpPrewarmLifecycle(runtimeConfigService, skillComponent, new DynamicSkillFactory(),
+                mcpPort);
+    }
+
+    @Test
+    void shouldPrewarmMarkedSkillsAndCatalogEntries() {
+        when(skillComponent.getAvailableSkills()).thenReturn(List.of(
+                mcpSkill("github", true),
+                mcpSkill("slack", false),
+                Skill.builder().name("plain").build()));
+        when(runtimeConfigService.getMcpCatalog()).thenReturn(List.of(
+                catalogEntry("postgres", true, true),
+                catalogEntry("disabled", true, false),
+                catalogEntry("lazy", false, true)));
+
+        lifecycle.onApplicationReady();
+
+        ArgumentCaptor<Skill> skills = ArgumentCaptor.forClass(Skill.class);
+        verify(mcpPort, times(2)).prewarm(skills.capture());
+        assertEquals(List.of("github", "mcp-postgres"), skills.getAllValues().stream().map(Skill::getName).toList());
+    }
+
+    @Test
+    void shouldSkipPrewarmWhenMcpDisabled() {
+        when(runtimeConfigService.isMcpEnabled()).thenReturn(false);
+
+        lifecycle.onApplicationReady();
+
+        verify(mcpPort, never()).prewarm(any());
+    }
+
+    private static Skill mcpSkill(String name, boolean prewarm) {
+        return Skill.builder()
+                .name(name)
+                .mcpConfig(McpConfig.builder().command("server-" + name).prewarm(prewarm).build())
+                .build();
+    }
+
+    private static RuntimeConfig.McpCatalogEntry catalogEntry(String name, boolean prewarm, boolean enabled) {
+        return RuntimeConfig.McpCatalogEntry.builder()
+                .name(name)
+                .command("server-" + name)
+                .prewarm(prewarm)
+                .enabled(enabled)
+                .build();
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import me.golemcore.bot.domain.model.RuntimeEvent;
 import me.golemcore.bot.domain.model.RuntimeEventType;
 import me.golemcore.bot.domain.model.hive.HiveRuntimeContracts;
+import me.golemcore.bot.infrastructure.config.BotProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ApplicationEventPublisher;
@@ -31,7 +32,7 @@ class WebChannelAdapterRuntimeEventTest {
     void setUp() {
         objectMapper = new ObjectMapper();
         ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
-        adapter = new WebChannelAdapter(objectMapper, eventPublisher);
+        adapter = new WebChannelAdapter(objectMapper, eventPublisher, new BotProperties());
     }
 
     @Test
@@ -5,6 +5,7 @@ import me.golemcore.bot.domain.loop.AgentLoop;
 import me.golemcore.bot.domain.model.Message;
 import me.golemcore.bot.domain.model.ProgressUpdate;
 import me.golemcore.bot.domain.model.ProgressUpdateType;
+import me.golemcore.bot.infrastructure.config.BotProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -37,7 +38,7 @@ class WebChannelAdapterTest {
     void setUp() {
         objectMapper = new ObjectMapper();
         eventPublisher = mock(ApplicationEventPublisher.class);
-        adapter = new WebChannelAdapter(objectMapper, eventPublisher);
+        adapter = new WebChannelAdapter(objectMapper, eventPublisher, new BotProperties());
     }
 
     @Test
@@ -68,7 +68,7 @@ class WebSocketChatHandlerTest {
 
         objectMapper = new ObjectMapper();
         eventPublisher = mock(ApplicationEventPublisher.class);
-        webChannelAdapter = new WebChannelAdapter(objectMapper, eventPublisher);
+        webChannelAdapter = new WebChannelAdapter(objectMapper, eventPublisher, new BotProperties());
         pointerService = mock(ActiveSessionPointerService.class);
         preferencesService = mock(UserPreferencesService.class);
         memoryPresetService = new MemoryPresetService();
@@ -0,0 +1,127 @@
+package me.golemcore.bot.adapter.inbound.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebSocketOutboundQueueTest {
+
+    private WebSocketSession session;
+    private final List<List<String>> sentBatches = new ArrayList<>();
+    private final List<Sinks.Empty<Void>> inFlight = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("conn-1");
+        when(session.close(any(CloseStatus.class))).thenReturn(Mono.empty());
+        when(session.textMessage(anyString())).thenAnswer(invocation -> {
+            WebSocketMessage message = mock(WebSocketMessage.class);
+            when(message.getPayloadAsText()).thenReturn(invocation.getArgument(0));
+            return message;
+        });
+        when(session.send(any())).thenAnswer(invocation -> {
+            Publisher<WebSocketMessage> publisher = invocation.getArgument(0);
+            sentBatches.add(Flux.from(publisher).map(WebSocketMessage::getPayloadAsText).collectList().block());
+            Sinks.Empty<Void> completion = Sinks.empty();
+            inFlight.add(completion);
+            return completion.asMono();
+        });
+    }
+
+    @Test
+    void shouldFlushFramesQueuedDuringSendAsOneOrderedBatch() {
+        WebSocketOutboundQueue queue = new WebSocketOutboundQueue(session, 16, 64);
+
+        queue.enqueue("m1", null);
+        queue.enqueue("m2", null);
+        queue.enqueue("m3", null);
+        assertEquals(List.of(List.of("m1")), sentBatches);
+        assertEquals(2, queue.pendingFrames());
+
+        completeLastSend();
+        completeLastSend();
+
+        assertEquals(List.of(List.of("m1"), List.of("m2", "m3")), sentBatches);
+        assertEquals(0, queue.pendingFrames());
+    }
+
+    @Test
+    void shouldCoalesceSupersededProgressFramesWithoutReordering() {
+        WebSocketOutboundQueue queue = new WebSocketOutboundQueue(session, 16, 64);
+
+        queue.enqueue("first", null);
+        queue.enqueue("progress-1", "progress_update:chat-1");
+        queue.enqueue("chunk", null);
+        queue.enqueue("progress-2", "progress_update:chat-1");
+        queue.enqueue("progress-other", "progress_update:chat-2");
+        completeLastSend();
+
+        assertEquals(List.of("chunk", "progress-2", "progress-other"), sentBatches.get(1));
+        assertEquals(1, queue.coalescedFrames());
+    }
+
+    @Test
+    void shouldSplitPendingFramesIntoBoundedBatches() {
+        WebSocketOutboundQueue queue = new WebSocketOutboundQueue(session, 16, 2);
+
+        for (int index = 0; index < 5; index++) {
+            queue.enqueue("m" + index, null);
+        }
+        completeLastSend();
+        completeLastSend();
+        completeLastSend();
+
+        assertEquals(List.of(List.of("m0"), List.of("m1", "m2"), List.of("m3", "m4")), sentBatches);
+    }
+
+    @Test
+    void shouldEvictCoalescibleFramesBeforeClosingOverloadedConnection() {
+        WebSocketOutboundQueue queue = new WebSocketOutboundQueue(session, 2, 64);
+
+        queue.enqueue("in-flight", null);
+        queue.enqueue("typing", "typing:chat-1");
+        queue.enqueue("m1", null);
+        assertTrue(queue.enqueue("m2", null));
+        assertEquals(2, queue.pendingFrames());
+
+        assertFalse(queue.enqueue("m3", null));
+        verify(session).close(CloseStatus.SERVICE_OVERLOAD);
+        assertFalse(queue.enqueue("m4", null));
+        assertEquals(0, queue.pendingFrames());
+    }
+
+    @Test
+    void shouldKeepDrainingAfterSendFailure() {
+        WebSocketOutboundQueue queue = new WebSocketOutboundQueue(session, 16, 64);
+
+        queue.enqueue("m1", null);
+        queue.enqueue("m2", null);
+        inFlight.getLast().tryEmitError(new IllegalStateException("write failed"));
+
+        assertEquals(List.of(List.of("m1"), List.of("m2")), sentBatches);
+    }
+
+    private void completeLastSend() {
+        inFlight.getLast().tryEmitEmpty();
+    }
+}
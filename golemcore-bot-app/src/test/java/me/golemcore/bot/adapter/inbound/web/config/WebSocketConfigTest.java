@@ -15,7 +15,9 @@ import reactor.netty.http.server.WebsocketServerSpec;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class WebSocketConfigTest {
@@ -58,6 +60,24 @@ class WebSocketConfigTest {
                 .getUpgradeStrategy();
         WebsocketServerSpec spec = upgradeStrategy.getWebsocketServerSpec();
         assertEquals(expectedLimit, spec.maxFramePayloadLength());
+        assertTrue(spec.compress());
+    }
+
+    @Test
+    void shouldDisablePermessageDeflateWhenConfigured() {
+        BotProperties properties = createBotProperties(80 * 1024 * 1024);
+        properties.getDashboard().setWebSocketCompressionEnabled(false);
+        WebSocketConfig config = new WebSocketConfig(mock(WebSocketChatHandler.class),
+                mock(WebSocketLogsHandler.class),
+                mock(TerminalWebSocketHandler.class),
+                properties);
+
+        HandshakeWebSocketService service = (HandshakeWebSocketService) config.webSocketHandlerAdapter()
+                .getWebSocketService();
+        ReactorNettyRequestUpgradeStrategy upgradeStrategy = (ReactorNettyRequestUpgradeStrategy) service
+                .getUpgradeStrategy();
+
+        assertFalse(upgradeStrategy.getWebsocketServerSpec().compress());
     }
 
     private static BotProperties createBotProperties(int webSocketMaxFramePayloadLength) {
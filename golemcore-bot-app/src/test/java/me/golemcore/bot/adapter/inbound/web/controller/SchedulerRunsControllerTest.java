@@ -1,6 +1,7 @@
 package me.golemcore.bot.adapter.inbound.web.controller;
 
 import me.golemcore.bot.domain.auto.AutoRunHistoryService;
+import me.golemcore.bot.port.outbound.AutoRunHistoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -29,7 +30,7 @@ class SchedulerRunsControllerTest {
 
     @Test
     void shouldListRuns() {
-        AutoRunHistoryService.RunSummary summary = new AutoRunHistoryService.RunSummary(
+        AutoRunHistoryPort.RunSummary summary = new AutoRunHistoryPort.RunSummary(
                 "run-1",
                 "web:conv-1",
                 "web",
@@ -63,7 +64,7 @@ class SchedulerRunsControllerTest {
 
     @Test
     void shouldReturnRunDetail() {
-        AutoRunHistoryService.RunDetail detail = new AutoRunHistoryService.RunDetail(
+        AutoRunHistoryPort.RunDetail detail = new AutoRunHistoryPort.RunDetail(
                 "run-1",
                 "web:conv-1",
                 "web",
@@ -82,7 +83,7 @@ class SchedulerRunsControllerTest {
                 "COMPLETED",
                 Instant.parse("2026-03-11T10:00:00Z"),
                 Instant.parse("2026-03-11T10:00:03Z"),
-                List.of(new AutoRunHistoryService.RunMessage(
+                List.of(new AutoRunHistoryPort.RunMessage(
                         "m1",
                         "assistant",
                         "done",
@@ -110,4 +111,16 @@ class SchedulerRunsControllerTest {
                 () -> controller.getRun(" "));
         assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
     }
+
+    @Test
+    void shouldRebuildRunIndex() {
+        when(autoRunHistoryService.rebuildIndex()).thenReturn(7);
+
+        StepVerifier.create(controller.reindexRuns())
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.getStatusCode());
+                    assertEquals(7, response.getBody().indexedRuns());
+                })
+                .verifyComplete();
+    }
 }
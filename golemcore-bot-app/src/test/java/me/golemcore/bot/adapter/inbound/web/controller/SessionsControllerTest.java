@@ -800,6 +800,8 @@ class SessionsControllerTest {
                 .messages(List.of(visibleUser, internalUser, assistant))
                 .build();
         when(sessionPort.get("s-hidden")).thenReturn(Optional.of(session));
+        when(sessionPort.getVisibleMessagesPage("s-hidden", 10, null))
+                .thenReturn(Optional.of(new SessionPort.MessagePage(List.of(visibleUser, assistant), false)));
         when(sessionPort.listAll()).thenReturn(List.of(session));
 
         StepVerifier.create(controller.getSession("s-hidden"))
@@ -855,14 +857,10 @@ class SessionsControllerTest {
                 .content("Final answer")
                 .timestamp(Instant.now())
                 .build();
-        AgentSession session = AgentSession.builder()
-                .id("s-page")
-                .channelType("web")
-                .chatId("chat-page")
-                .createdAt(Instant.now())
-                .messages(List.of(attachmentOnly, assistant, finalAssistant))
-                .build();
-        when(sessionPort.get("s-page")).thenReturn(Optional.of(session));
+        when(sessionPort.getVisibleMessagesPage("s-page", 2, null))
+                .thenReturn(Optional.of(new SessionPort.MessagePage(List.of(assistant, finalAssistant), true)));
+        when(sessionPort.getVisibleMessagesPage("s-page", 2, "m-2"))
+                .thenReturn(Optional.of(new SessionPort.MessagePage(List.of(attachmentOnly), false)));
 
         StepVerifier.create(controller.getSessionMessages("s-page", 2, null))
                 .assertNext(response -> {
@@ -889,19 +887,8 @@ class SessionsControllerTest {
 
     @Test
     void shouldRejectUnknownBeforeMessageIdWhenPagingMessages() {
-        AgentSession session = AgentSession.builder()
-                .id("s-page")
-                .channelType("web")
-                .chatId("chat-page")
-                .createdAt(Instant.now())
-                .messages(List.of(Message.builder()
-                        .id("m-1")
-                        .role("user")
-                        .content("hello")
-                        .timestamp(Instant.now())
-                        .build()))
-                .build();
-        when(sessionPort.get("s-page")).thenReturn(Optional.of(session));
+        when(sessionPort.getVisibleMessagesPage("s-page", 50, "missing-message"))
+                .thenThrow(new IllegalArgumentException("beforeMessageId not found"));
 
         ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                 () -> controller.getSessionMessages("s-page", 50, "missing-message"));
@@ -513,6 +513,7 @@ class SettingsControllerTest {
                 .captureOutboundPayloads(false)
                 .captureToolPayloads(true)
                 .captureLlmPayloads(true)
+                .llmPayloadSampleInterval(4)
                 .build();
 
         StepVerifier.create(controller.updateTracingConfig(tracingConfig))
@@ -532,6 +533,7 @@ class SettingsControllerTest {
         assertFalse(saved.getCaptureOutboundPayloads());
         assertTrue(saved.getCaptureToolPayloads());
         assertTrue(saved.getCaptureLlmPayloads());
+        assertEquals(4, saved.getLlmPayloadSampleInterval());
     }
 
     @Test
@@ -9,6 +9,10 @@ import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.infrastructure.config.BotProperties;
 import me.golemcore.bot.plugin.runtime.ChannelRegistry;
 import me.golemcore.bot.port.channel.ChannelPort;
+import me.golemcore.bot.port.outbound.EmbeddingCacheStatsPort;
+import me.golemcore.bot.port.outbound.RagIngestionStatsPort;
+import me.golemcore.bot.port.outbound.RagQueryCacheStatsPort;
+import me.golemcore.bot.port.outbound.ToolResultCacheStatsPort;
 import me.golemcore.bot.port.outbound.RagPort;
 import me.golemcore.bot.port.outbound.StoragePort;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,6 +49,10 @@ class SystemControllerTest {
     private RagPort ragPort;
     private DashboardLogService dashboardLogService;
     private SelfEvolvingTacticSearchStatusPort tacticSearchStatusPort;
+    private EmbeddingCacheStatsPort embeddingCacheStatsPort;
+    private ToolResultCacheStatsPort toolResultCacheStatsPort;
+    private RagIngestionStatsPort ragIngestionStatsPort;
+    private RagQueryCacheStatsPort ragQueryCacheStatsPort;
     private ObjectProvider<BuildProperties> buildPropertiesProvider;
     private ObjectProvider<GitProperties> gitPropertiesProvider;
     private SystemController controller;
@@ -65,6 +73,18 @@ class SystemControllerTest {
         ragPort = mock(RagPort.class);
         dashboardLogService = mock(DashboardLogService.class);
         tacticSearchStatusPort = mock(SelfEvolvingTacticSearchStatusPort.class);
+        embeddingCacheStatsPort = mock(EmbeddingCacheStatsPort.class);
+        when(embeddingCacheStatsPort.stats())
+                .thenReturn(new EmbeddingCacheStatsPort.Stats(true, 3, 1, 1, 0, 1, 4096));
+        toolResultCacheStatsPort = mock(ToolResultCacheStatsPort.class);
+        when(toolResultCacheStatsPort.stats())
+                .thenReturn(new ToolResultCacheStatsPort.Stats(true, 1, 3, 2, 1, 0, 1));
+        ragIngestionStatsPort = mock(RagIngestionStatsPort.class);
+        when(ragIngestionStatsPort.stats())
+                .thenReturn(new RagIngestionStatsPort.Stats(4, 1, 20, 3, 2, 1, 0));
+        ragQueryCacheStatsPort = mock(RagQueryCacheStatsPort.class);
+        when(ragQueryCacheStatsPort.stats())
+                .thenReturn(new RagQueryCacheStatsPort.Stats(true, 2, 1, 1, 3, 1, 0, 0, 2));
         buildPropertiesProvider = mockObjectProvider();
         gitPropertiesProvider = mockObjectProvider();
 
@@ -87,7 +107,11 @@ class SystemControllerTest {
                 buildPropertiesProvider,
                 gitPropertiesProvider,
                 dashboardLogService,
-                tacticSearchStatusPort);
+                tacticSearchStatusPort,
+                embeddingCacheStatsPort,
+                toolResultCacheStatsPort,
+                ragIngestionStatsPort,
+                ragQueryCacheStatsPort);
     }
 
     @Test
@@ -260,6 +284,18 @@ class SystemControllerTest {
                     assertTrue(body.containsKey("storage"));
                     assertTrue(body.containsKey("environment"));
                     assertTrue(body.containsKey("runtime"));
+                    Map<String, Object> embeddingCache = requireObjectMap(body, "embeddingCache");
+                    assertEquals(3L, embeddingCache.get("hits"));
+                    assertEquals(0.75, embeddingCache.get("hitRate"));
+                    Map<String, Object> toolResultCache = requireObjectMap(body, "toolResultCache");
+                    assertEquals(1L, toolResultCache.get("hits"));
+                    assertEquals(0.25, toolResultCache.get("hitRate"));
+                    Map<String, Object> ragIngestion = requireObjectMap(body, "ragIngestion");
+                    assertEquals(4, ragIngestion.get("pending"));
+                    assertEquals(20L, ragIngestion.get("indexedDocuments"));
+                    Map<String, Object> ragQueryCache = requireObjectMap(body, "ragQueryCache");
+                    assertEquals(1L, ragQueryCache.get("similarHits"));
+                    assertEquals(0.75, ragQueryCache.get("hitRate"));
                 })
                 .verifyComplete();
     }
@@ -275,10 +311,10 @@ class SystemControllerTest {
                         .thread("main")
                         .message("hello")
                         .build());
-        when(dashboardLogService.getLogsPage(null, null))
+        when(dashboardLogService.getLogsPage(null, null, null, null))
                 .thenReturn(new DashboardLogService.LogsSlice(items, 1L, 1L, false));
 
-        StepVerifier.create(controller.getLogs(null, null))
+        StepVerifier.create(controller.getLogs(null, null, null, null))
                 .assertNext(response -> {
                     assertEquals(HttpStatus.OK, response.getStatusCode());
                     assertNotNull(response.getBody());
@@ -291,14 +327,14 @@ class SystemControllerTest {
 
     @Test
     void shouldForwardLogsPagingParametersToService() {
-        when(dashboardLogService.getLogsPage(10L, 25))
+        when(dashboardLogService.getLogsPage(10L, 25, "WARN", "me.golemcore.bot.tools"))
                 .thenReturn(new DashboardLogService.LogsSlice(List.of(), null, null, false));
 
-        StepVerifier.create(controller.getLogs(10L, 25))
+        StepVerifier.create(controller.getLogs(10L, 25, "WARN", "me.golemcore.bot.tools"))
                 .assertNext(response -> assertEquals(HttpStatus.OK, response.getStatusCode()))
                 .verifyComplete();
 
-        verify(dashboardLogService).getLogsPage(10L, 25);
+        verify(dashboardLogService).getLogsPage(10L, 25, "WARN", "me.golemcore.bot.tools");
     }
 
     @Test
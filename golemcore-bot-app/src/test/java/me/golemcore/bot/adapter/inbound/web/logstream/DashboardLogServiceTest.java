@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -178,6 +179,70 @@ class DashboardLogServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    void shouldFilterPagesByMinimumLevelAndLoggerPrefix() {
+        DashboardLogService service = new DashboardLogService(baseProperties());
+
+        service.append(loggingEvent("me.golemcore.bot.tools.ShellTool", "shell-info", null, Level.INFO));
+        service.append(loggingEvent("me.golemcore.bot.tools.ShellTool", "shell-warn", null, Level.WARN));
+        service.append(loggingEvent("me.golemcore.bot.domain.Agent", "agent-error", null, Level.ERROR));
+        service.append(loggingEvent("me.golemcore.bot.tools.BrowserTool", "browser-error", null, Level.ERROR));
+
+        DashboardLogService.LogsSlice warnings = service.getLogsPage(null, 10, "WARN", null);
+        assertEquals(List.of("shell-warn", "agent-error", "browser-error"),
+                warnings.items().stream().map(LogEntryDto::getMessage).toList());
+
+        DashboardLogService.LogsSlice toolErrors = service.getLogsPage(null, 1, "error", "me.golemcore.bot.tools");
+        assertEquals(List.of("browser-error"), toolErrors.items().stream().map(LogEntryDto::getMessage).toList());
+        assertTrue(toolErrors.hasMore());
+
+        DashboardLogService.LogsSlice olderToolErrors = service.getLogsPage(4L, 1, "ERROR", "me.golemcore.bot.tools");
+        assertTrue(olderToolErrors.items().isEmpty());
+        assertFalse(olderToolErrors.hasMore());
+    }
+
+    @Test
+    void shouldMaskSecretCutByTruncation() {
+        BotProperties props = baseProperties();
+        props.getDashboard().getLogs().setMaxMessageChars(40);
+        DashboardLogService service = new DashboardLogService(props);
+
+        service.append(
+                loggingEvent("me.golemcore.bot.Test", "{\"token\": \"abcdefghijklmnopqrstuvwxyz0123456789\"}", null));
+
+        String message = service.getLogsPage(null, 10).items().get(0).getMessage();
+        assertFalse(message.contains("abcdef"));
+        assertTrue(message.contains("\"token\": \"***"));
+    }
+
+    @Test
+    void shouldReplayRingHistoryThenStreamNewEntries() {
+        BotProperties props = baseProperties();
+        props.getDashboard().getLogs().setMaxEntries(3);
+        DashboardLogService service = new DashboardLogService(props);
+        for (int i = 1; i <= 5; i++) {
+            service.append(loggingEvent("me.golemcore.bot.Test", "message-" + i, null));
+        }
+
+        StepVerifier.create(service.streamAfter(0).map(LogEntryDto::getSeq).take(4))
+                .expectNext(3L, 4L, 5L)
+                .then(() -> service.append(loggingEvent("me.golemcore.bot.Test", "message-6", null)))
+                .expectNext(6L)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReuseRenderedEntryAcrossReads() {
+        DashboardLogService service = new DashboardLogService(baseProperties());
+        service.append(loggingEvent("me.golemcore.bot.Test", "token=secret", null));
+
+        LogEntryDto first = service.getLogsPage(null, 10).items().get(0);
+        LogEntryDto second = service.getLogsPage(null, 10).items().get(0);
+
+        assertSame(first, second);
+        assertEquals("token=***", first.getMessage());
+    }
+
     private BotProperties baseProperties() {
         BotProperties props = new BotProperties();
         props.getDashboard().getLogs().setEnabled(true);
@@ -190,11 +255,15 @@ class DashboardLogServiceTest {
     }
 
     private ILoggingEvent loggingEvent(String loggerName, String message, Throwable throwable) {
+        return loggingEvent(loggerName, message, throwable, Level.INFO);
+    }
+
+    private ILoggingEvent loggingEvent(String loggerName, String message, Throwable throwable, Level level) {
         ILoggingEvent event = mock(ILoggingEvent.class);
         when(event.getLoggerName()).thenReturn(loggerName);
         when(event.getFormattedMessage()).thenReturn(message);
         when(event.getThreadName()).thenReturn("main");
-        when(event.getLevel()).thenReturn(Level.INFO);
+        when(event.getLevel()).thenReturn(level);
         when(event.getTimeStamp()).thenReturn(Instant.parse("2026-01-01T00:00:00Z").toEpochMilli());
         if (throwable != null) {
             when(event.getThrowableProxy()).thenReturn(new ThrowableProxy(throwable));
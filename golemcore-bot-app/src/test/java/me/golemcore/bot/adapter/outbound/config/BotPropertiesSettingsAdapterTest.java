@@ -18,6 +18,10 @@ class BotPropertiesSettingsAdapterTest {
     void shouldMapConfiguredSectionsIntoDomainSettings() {
         BotProperties properties = new BotProperties();
         properties.getMemory().setDirectory("mem-store");
+        properties.getMemory().getVector().setEnabled(true);
+        properties.getMemory().getVector().setEmbeddingProvider("ollama");
+        properties.getMemory().getVector().setEmbeddingModel("nomic-embed");
+        properties.getMemory().getVector().setMaxCandidates(20);
         properties.getSkills().setDirectory("skills-dir");
         properties.getSkills().setMarketplaceEnabled(true);
         properties.getSkills().setMarketplaceRepositoryDirectory("/tmp/registry");
@@ -82,6 +86,10 @@ class BotPropertiesSettingsAdapterTest {
         BotPropertiesSettingsAdapter settings = new BotPropertiesSettingsAdapter(properties);
 
         assertEquals("mem-store", settings.memory().directory());
+        assertTrue(settings.vector().active());
+        assertEquals("ollama", settings.vector().embeddingProvider());
+        assertEquals("nomic-embed", settings.vector().embeddingModel());
+        assertEquals(20, settings.vector().maxCandidates());
         assertEquals("skills-dir", settings.skills().directory());
         assertTrue(settings.skills().marketplace().enabled());
         assertEquals("/tmp/registry", settings.skills().marketplace().repositoryDirectory());
@@ -179,5 +187,6 @@ class BotPropertiesSettingsAdapterTest {
                 settings.selfEvolvingBootstrap());
         assertEquals(HiveBootstrapSettings.empty(), settings.hiveBootstrapSettings());
         assertEquals(10000L, settings.http().connectTimeoutMillis());
+        assertFalse(settings.vector().active());
     }
 }
@@ -0,0 +1,115 @@
+package me.golemcore.bot.adapter.outbound.embedding;
+
+import me.golemcore.bot.port.outbound.EmbeddingPort;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmbeddingBatchExecutorTest {
+
+    @Test
+    void shouldSplitInputsByCount() {
+        try (EmbeddingBatchExecutor executor = new EmbeddingBatchExecutor("test-embed", 2, 1000, 2)) {
+            List<List<String>> batches = executor.partition(List.of("a", "b", "c", "d", "e"));
+
+            assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")), batches);
+        }
+    }
+
+    @Test
+    void shouldSplitInputsByEstimatedTokensAndKeepOversizedInputAlone() {
+        try (EmbeddingBatchExecutor executor = new EmbeddingBatchExecutor("test-embed", 10, 10, 2)) {
+            String small = "x".repeat(14);
+            String large = "y".repeat(70);
+
+            List<List<String>> batches = executor.partition(List.of(small, small, small, large, small));
+
+            assertEquals(List.of(List.of(small, small), List.of(small), List.of(large), List.of(small)), batches);
+        }
+    }
+
+    @Test
+    void shouldRunSingleBatchOnCallerThread() throws Exception {
+        try (EmbeddingBatchExecutor executor = new EmbeddingBatchExecutor("test-embed", 4, 1000, 2)) {
+            Thread caller = Thread.currentThread();
+            List<Thread> threads = new ArrayList<>();
+
+            executor.execute(List.of("1", "2"), inputs -> {
+                threads.add(Thread.currentThread());
+                return response(inputs);
+            });
+
+            assertEquals(List.of(caller), threads);
+        }
+    }
+
+    @Test
+    void shouldReassembleVectorsInInputOrderWhenBatchesFinishOutOfOrder() throws Exception {
+        try (EmbeddingBatchExecutor executor = new EmbeddingBatchExecutor("test-embed", 1, 1000, 3)) {
+            AtomicInteger calls = new AtomicInteger();
+
+            EmbeddingPort.EmbeddingResponse response = executor.execute(List.of("0", "1", "2"), inputs -> {
+                calls.incrementAndGet();
+                if ("0".equals(inputs.getFirst())) {
+                    sleep(50);
+                }
+                return response(inputs);
+            });
+
+            assertEquals(3, calls.get());
+            assertEquals("test-model", response.model());
+            assertEquals(3, response.vectors().size());
+            for (int i = 0; i < 3; i++) {
+                assertEquals((float) i, response.vectors().get(i)[0]);
+            }
+        }
+    }
+
+    @Test
+    void shouldRejectSubBatchWithWrongVectorCount() {
+        try (EmbeddingBatchExecutor executor = new EmbeddingBatchExecutor("test-embed", 1, 1000, 2)) {
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> executor.execute(List.of("0", "1"),
+                            inputs -> new EmbeddingPort.EmbeddingResponse("test-model", List.of())));
+
+            assertEquals("Embedding response size mismatch", exception.getMessage());
+        }
+    }
+
+    @Test
+    void shouldPropagateSubBatchFailure() {
+        try (EmbeddingBatchExecutor executor = new EmbeddingBatchExecutor("test-embed", 1, 1000, 2)) {
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> executor.execute(List.of("0", "1"), inputs -> {
+                        if ("1".equals(inputs.getFirst())) {
+                            throw new IllegalStateException("Embedding request failed with status 503");
+                        }
+                        return response(inputs);
+                    }));
+
+            assertTrue(exception.getMessage().contains("503"));
+        }
+    }
+
+    private static EmbeddingPort.EmbeddingResponse response(List<String> inputs) {
+        List<float[]> vectors = new ArrayList<>();
+        for (String input : inputs) {
+            vectors.add(new float[] { Float.parseFloat(input) });
+        }
+        return new EmbeddingPort.EmbeddingResponse("test-model", vectors);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package me.golemcore.bot.adapter.outbound.embedding;
+
+import me.golemcore.bot.infrastructure.config.BotProperties;
+import me.golemcore.bot.port.outbound.EmbeddingCacheStatsPort;
+import me.golemcore.bot.port.outbound.EmbeddingPort;
+import me.golemcore.bot.port.outbound.StoragePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmbeddingCacheTest {
+
+    private Map<String, String> files;
+    private StoragePort storagePort;
+    private BotProperties botProperties;
+    private List<List<String>> calls;
+
+    @BeforeEach
+    void setUp() {
+        files = new HashMap<>();
+        storagePort = mock(StoragePort.class);
+        when(storagePort.getText(anyString(), anyString())).thenAnswer(invocation -> CompletableFuture
+                .completedFuture(files.get(invocation.getArgument(1))));
+        when(storagePort.appendText(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            files.merge(invocation.getArgument(1), invocation.getArgument(2), String::concat);
+            return CompletableFuture.completedFuture(null);
+        });
+        when(storagePort.putTextAtomic(anyString(), anyString(), anyString(), anyBoolean())).thenAnswer(invocation -> {
+            files.put(invocation.getArgument(1), invocation.getArgument(2));
+            return CompletableFuture.completedFuture(null);
+        });
+        botProperties = new BotProperties();
+        calls = new ArrayList<>();
+    }
+
+    @Test
+    void shouldEmbedOnlyMissesAndKeepInputOrder() throws IOException {
+        EmbeddingCache cache = new EmbeddingCache(storagePort, botProperties);
+        cache.embed("openai", request("model-a", "alpha"), this::embed);
+
+        EmbeddingPort.EmbeddingResponse response = cache.embed("openai",
+                request("model-a", "beta", "alpha", "beta"), this::embed);
+
+        assertEquals(List.of(List.of("alpha"), List.of("beta")), calls);
+        assertArrayEquals(vector("beta"), response.vectors().get(0));
+        assertArrayEquals(vector("alpha"), response.vectors().get(1));
+        assertArrayEquals(vector("beta"), response.vectors().get(2));
+        EmbeddingCacheStatsPort.Stats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(3, stats.misses());
+        assertEquals(2, stats.stores());
+        assertEquals(2, stats.entries());
+    }
+
+    @Test
+    void shouldServeUnchangedTextFromDiskAfterRestart() throws IOException {
+        new EmbeddingCache(storagePort, botProperties).embed("ollama", request("model-a", "alpha", "beta"),
+                this::embed);
+        calls.clear();
+
+        EmbeddingCache restarted = new EmbeddingCache(storagePort, botProperties);
+        EmbeddingPort.EmbeddingResponse response = restarted.embed("ollama",
+                request("model-a", "alpha", "beta", "gamma"), this::embed);
+
+        assertEquals(List.of(List.of("gamma")), calls);
+        assertArrayEquals(vector("alpha"), response.vectors().get(0));
+        assertEquals(2, restarted.stats().hits());
+        assertEquals(1, restarted.stats().misses());
+    }
+
+    @Test
+    void shouldSeparateEntriesByProviderAndModel() throws IOException {
+        EmbeddingCache cache = new EmbeddingCache(storagePort, botProperties);
+
+        cache.embed("ollama", request("model-a", "alpha"), this::embed);
+        cache.embed("ollama", request("model-b", "alpha"), this::embed);
+        cache.embed("openai", request("model-a", "alpha"), this::embed);
+
+        assertEquals(3, calls.size());
+        assertEquals(0, cache.stats().hits());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntriesOverSizeLimit() throws IOException {
+        botProperties.getEmbeddings().getCache().setMaxSizeMb(1);
+        EmbeddingCache cache = new EmbeddingCache(storagePort, botProperties);
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            inputs.add("input-" + i);
+        }
+
+        cache.embed("openai", new EmbeddingPort.EmbeddingRequest(null, null, "model-a", null, null, inputs),
+                this::embedLarge);
+
+        EmbeddingCacheStatsPort.Stats stats = cache.stats();
+        assertTrue(stats.evictions() > 0);
+        assertTrue(stats.bytes() <= 1024L * 1024L);
+        assertEquals(200 - stats.evictions(), stats.entries());
+    }
+
+    @Test
+    void shouldBypassCacheWhenDisabled() throws IOException {
+        botProperties.getEmbeddings().getCache().setEnabled(false);
+        EmbeddingCache cache = new EmbeddingCache(storagePort, botProperties);
+
+        cache.embed("openai", request("model-a", "alpha"), this::embed);
+        cache.embed("openai", request("model-a", "alpha"), this::embed);
+
+        assertEquals(2, calls.size());
+        assertFalse(cache.stats().enabled());
+        assertTrue(files.isEmpty());
+    }
+
+    @Test
+    void shouldRejectResponsesWithWrongVectorCount() {
+        EmbeddingCache cache = new EmbeddingCache(storagePort, botProperties);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> cache.embed("openai", request("model-a", "alpha", "beta"),
+                        inputs -> new EmbeddingPort.EmbeddingResponse("model-a", List.of(vector("alpha")))));
+
+        assertEquals("Embedding response size mismatch", exception.getMessage());
+    }
+
+    private EmbeddingPort.EmbeddingResponse embed(List<String> inputs) {
+        calls.add(List.copyOf(inputs));
+        return new EmbeddingPort.EmbeddingResponse("model-a", inputs.stream().map(EmbeddingCacheTest::vector)
+                .toList());
+    }
+
+    private EmbeddingPort.EmbeddingResponse embedLarge(List<String> inputs) {
+        calls.add(List.copyOf(inputs));
+        return new EmbeddingPort.EmbeddingResponse("model-a", inputs.stream().map(input -> new float[1536])
+                .toList());
+    }
+
+    private static EmbeddingPort.EmbeddingRequest request(String model, String... inputs) {
+        return new EmbeddingPort.EmbeddingRequest("http://localhost", null, model, null, 1000, List.of(inputs));
+    }
+
+    private static float[] vector(String input) {
+        return new float[] { input.length(), input.charAt(0) };
+    }
+}
@@ -0,0 +1,116 @@
+package me.golemcore.bot.adapter.outbound.embedding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.golemcore.bot.infrastructure.config.BotProperties;
+import me.golemcore.bot.port.outbound.EmbeddingPort;
+import me.golemcore.bot.port.outbound.StoragePort;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Throughput benchmark for the OpenAI-compatible embedding client against a
+ * local stub server. Run with {@code EMBEDDING_BENCHMARK_ENABLED=true}.
+ */
+@EnabledIfEnvironmentVariable(named = "EMBEDDING_BENCHMARK_ENABLED", matches = "true")
+class EmbeddingClientThroughputBenchmarkTest {
+
+    private static final int DIMENSIONS = 1536;
+    private static final int BATCH_SIZE = 32;
+    private static final int BATCHES_PER_ROUND = 16;
+    private static final int ROUNDS = 5;
+
+    private MockWebServer server;
+    private String responseBody;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        responseBody = openAiResponse(BATCH_SIZE, DIMENSIONS);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void shouldReportThroughputForSerialAndConcurrentSubBatches() {
+        double serial = measure(1);
+        double concurrent = measure(EmbeddingBatchExecutor.DEFAULT_MAX_CONCURRENT_BATCHES);
+
+        System.out.printf(Locale.ROOT, "embedding throughput: serial=%.0f vectors/s, concurrent=%.0f vectors/s%n",
+                serial, concurrent);
+    }
+
+    private double measure(int concurrency) {
+        BotProperties botProperties = new BotProperties();
+        botProperties.getEmbeddings().getCache().setEnabled(false);
+        botProperties.getEmbeddings().getBatch().setMaxInputs(BATCH_SIZE);
+        botProperties.getEmbeddings().getBatch().setMaxTokens(Integer.MAX_VALUE);
+        botProperties.getEmbeddings().getBatch().setMaxConcurrent(concurrency);
+        OpenAiCompatibleEmbeddingClient client = new OpenAiCompatibleEmbeddingClient(new OkHttpClient(),
+                new ObjectMapper(), botProperties, new EmbeddingCache(mock(StoragePort.class), botProperties));
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE * BATCHES_PER_ROUND; i++) {
+            inputs.add("benchmark input " + i);
+        }
+        try {
+            runRound(client, inputs);
+            long started = System.nanoTime();
+            for (int round = 0; round < ROUNDS; round++) {
+                runRound(client, inputs);
+            }
+            double seconds = (System.nanoTime() - started) / 1_000_000_000.0d;
+            return inputs.size() * ROUNDS / seconds;
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private void runRound(OpenAiCompatibleEmbeddingClient client, List<String> inputs) {
+        for (int i = 0; i < BATCHES_PER_ROUND; i++) {
+            server.enqueue(new MockResponse.Builder().code(200).body(responseBody).build());
+        }
+        EmbeddingPort.EmbeddingResponse response = client.embed(new EmbeddingPort.EmbeddingRequest(
+                server.url("/").toString(),
+                null,
+                "bench-model",
+                DIMENSIONS,
+                5000,
+                inputs));
+        assertEquals(inputs.size(), response.vectors().size());
+        assertEquals(DIMENSIONS, response.vectors().getFirst().length);
+    }
+
+    private static String openAiResponse(int vectors, int dimensions) {
+        StringBuilder body = new StringBuilder("{\"model\":\"bench-model\",\"data\":[");
+        for (int i = 0; i < vectors; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"index\":").append(i).append(",\"embedding\":[");
+            for (int d = 0; d < dimensions; d++) {
+                if (d > 0) {
+                    body.append(',');
+                }
+                body.append(String.format(Locale.ROOT, "%.6f", Math.sin(i * 31 + d) * 0.05d));
+            }
+            body.append("]}");
+        }
+        return body.append("]}").toString();
+    }
+}
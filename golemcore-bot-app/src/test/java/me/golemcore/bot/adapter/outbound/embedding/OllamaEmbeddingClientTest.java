@@ -1,6 +1,8 @@
 package me.golemcore.bot.adapter.outbound.embedding;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import me.golemcore.bot.infrastructure.config.BotProperties;
+import me.golemcore.bot.port.outbound.StoragePort;
 import mockwebserver3.MockResponse;
 import mockwebserver3.MockWebServer;
 import mockwebserver3.RecordedRequest;
@@ -14,6 +16,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
 
 class OllamaEmbeddingClientTest {
 
@@ -24,7 +27,10 @@ class OllamaEmbeddingClientTest {
     void setUp() throws IOException {
         server = new MockWebServer();
         server.start();
-        client = new OllamaEmbeddingClient(new OkHttpClient(), new ObjectMapper());
+        BotProperties botProperties = new BotProperties();
+        botProperties.getEmbeddings().getCache().setEnabled(false);
+        client = new OllamaEmbeddingClient(new OkHttpClient(), new ObjectMapper(), botProperties,
+                new EmbeddingCache(mock(StoragePort.class), botProperties));
     }
 
     @AfterEach
@@ -57,7 +63,7 @@ class OllamaEmbeddingClientTest {
         RecordedRequest recordedRequest = server.takeRequest();
         assertEquals("/api/embed", recordedRequest.getTarget());
         assertEquals(1, response.vectors().size());
-        assertEquals(3, response.vectors().getFirst().size());
+        assertEquals(3, response.vectors().getFirst().length);
     }
 
     @Test
@@ -1,6 +1,8 @@
 package me.golemcore.bot.adapter.outbound.embedding;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import me.golemcore.bot.infrastructure.config.BotProperties;
+import me.golemcore.bot.port.outbound.StoragePort;
 import mockwebserver3.MockResponse;
 import mockwebserver3.MockWebServer;
 import mockwebserver3.RecordedRequest;
@@ -11,21 +13,29 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class OpenAiCompatibleEmbeddingClientTest {
 
     private MockWebServer server;
+    private BotProperties botProperties;
     private OpenAiCompatibleEmbeddingClient client;
 
     @BeforeEach
     void setUp() throws IOException {
         server = new MockWebServer();
         server.start();
-        client = new OpenAiCompatibleEmbeddingClient(new OkHttpClient(), new ObjectMapper());
+        botProperties = new BotProperties();
+        botProperties.getEmbeddings().getCache().setEnabled(false);
+        client = newClient();
     }
 
     @AfterEach
@@ -59,7 +69,7 @@ class OpenAiCompatibleEmbeddingClientTest {
         assertEquals("/embeddings", recordedRequest.getTarget());
         assertEquals("Bearer test-key", recordedRequest.getHeaders().get("Authorization"));
         assertEquals(1, response.vectors().size());
-        assertEquals(3, response.vectors().getFirst().size());
+        assertEquals(3, response.vectors().getFirst().length);
     }
 
     @Test
@@ -123,4 +133,102 @@ class OpenAiCompatibleEmbeddingClientTest {
         assertEquals("/embeddings", recordedRequest.getTarget());
         assertNull(recordedRequest.getHeaders().get("Authorization"));
     }
+
+    @Test
+    void shouldOrderVectorsByResponseIndex() {
+        server.enqueue(new MockResponse.Builder()
+                .code(200)
+                .body("""
+                        {
+                          "data": [
+                            {"object": "embedding", "index": 1, "embedding": [2.0, 2.5]},
+                            {"object": "embedding", "index": 0, "embedding": [1.0, 1.5]}
+                          ],
+                          "model": "text-embedding-3-small",
+                          "usage": {"prompt_tokens": 4, "total_tokens": 4}
+                        }
+                        """)
+                .build());
+
+        var response = client.embed(new me.golemcore.bot.port.outbound.EmbeddingPort.EmbeddingRequest(
+                server.url("/").toString(),
+                "test-key",
+                "text-embedding-3-small",
+                null,
+                5000,
+                List.of("first", "second")));
+
+        assertEquals("text-embedding-3-small", response.model());
+        assertArrayEquals(new float[] { 1.0f, 1.5f }, response.vectors().get(0));
+        assertArrayEquals(new float[] { 2.0f, 2.5f }, response.vectors().get(1));
+    }
+
+    @Test
+    void shouldSplitLargeInputsIntoSubBatches() throws Exception {
+        botProperties.getEmbeddings().getBatch().setMaxInputs(2);
+        botProperties.getEmbeddings().getBatch().setMaxConcurrent(1);
+        client = newClient();
+        for (int i = 0; i < 2; i++) {
+            server.enqueue(new MockResponse.Builder()
+                    .code(200)
+                    .body("""
+                            {"model": "text-embedding-3-small", "data": [
+                              {"index": 0, "embedding": [%d.0]},
+                              {"index": 1, "embedding": [%d.5]}
+                            ]}
+                            """.formatted(i, i))
+                    .build());
+        }
+
+        var response = client.embed(new me.golemcore.bot.port.outbound.EmbeddingPort.EmbeddingRequest(
+                server.url("/").toString(),
+                "test-key",
+                "text-embedding-3-small",
+                null,
+                5000,
+                List.of("a", "b", "c", "d")));
+
+        assertEquals(2, server.getRequestCount());
+        assertEquals(4, response.vectors().size());
+        assertArrayEquals(new float[] { 0.0f }, response.vectors().get(0));
+        assertArrayEquals(new float[] { 0.5f }, response.vectors().get(1));
+        assertArrayEquals(new float[] { 1.0f }, response.vectors().get(2));
+        assertArrayEquals(new float[] { 1.5f }, response.vectors().get(3));
+    }
+
+    @Test
+    void shouldServeRepeatedInputsFromCacheWithoutCallingServer() {
+        botProperties.getEmbeddings().getCache().setEnabled(true);
+        client = newClient();
+        server.enqueue(new MockResponse.Builder()
+                .code(200)
+                .body("""
+                        {"model": "text-embedding-3-small", "data": [
+                          {"index": 0, "embedding": [1.0, 1.5]}
+                        ]}
+                        """)
+                .build());
+        var request = new me.golemcore.bot.port.outbound.EmbeddingPort.EmbeddingRequest(
+                server.url("/").toString(),
+                "test-key",
+                "text-embedding-3-small",
+                null,
+                5000,
+                List.of("planner tactic"));
+
+        client.embed(request);
+        var cached = client.embed(request);
+
+        assertEquals(1, server.getRequestCount());
+        assertArrayEquals(new float[] { 1.0f, 1.5f }, cached.vectors().getFirst());
+    }
+
+    private OpenAiCompatibleEmbeddingClient newClient() {
+        StoragePort storagePort = mock(StoragePort.class);
+        when(storagePort.getText(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        when(storagePort.appendText(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        return new OpenAiCompatibleEmbeddingClient(new OkHttpClient(), new ObjectMapper(), botProperties,
+                new EmbeddingCache(storagePort, botProperties));
+    }
 }
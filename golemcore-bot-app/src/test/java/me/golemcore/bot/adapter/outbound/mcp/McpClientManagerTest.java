@@ -2,9 +2,12 @@ package me.golemcore.bot.adapter.outbound.mcp;
 
 import me.golemcore.bot.domain.component.ToolComponent;
 import me.golemcore.bot.domain.model.McpConfig;
+import me.golemcore.bot.domain.model.McpServerStatus;
 import me.golemcore.bot.domain.model.Skill;
 import me.golemcore.bot.domain.model.ToolDefinition;
+import me.golemcore.bot.domain.model.ToolResult;
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
+import me.golemcore.bot.port.outbound.StoragePort;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,14 +15,22 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 /**
- * Tests for McpClientManager caching, stop/cleanup, and handling of skills
- * without MCP.
+ * Tests for McpClientManager caching, stop/cleanup, handling of skills without
+ * MCP, instance pools and startup metrics.
  */
 class McpClientManagerTest {
 
@@ -32,7 +43,7 @@ class McpClientManagerTest {
         when(runtimeConfigService.isMcpEnabled()).thenReturn(true);
         when(runtimeConfigService.getMcpDefaultStartupTimeout()).thenReturn(30);
         when(runtimeConfigService.getMcpDefaultIdleTimeout()).thenReturn(5);
-        manager = new McpClientManager(runtimeConfigService, new ObjectMapper());
+        manager = new McpClientManager(runtimeConfigService, new ObjectMapper(), toolListCache());
     }
 
     @AfterEach
@@ -40,6 +51,14 @@ class McpClientManagerTest {
         manager.shutdown();
     }
 
+    private static McpToolListCache toolListCache() {
+        StoragePort storagePort = mock(StoragePort.class);
+        when(storagePort.getText(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        when(storagePort.putTextAtomic(anyString(), anyString(), anyString(), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        return new McpToolListCache(storagePort, new ObjectMapper());
+    }
+
     // ===== getOrStartClient - disabled =====
 
     @Test
@@ -197,7 +216,7 @@ class McpClientManagerTest {
         when(runtimeConfigService.getMcpDefaultStartupTimeout()).thenReturn(60);
         when(runtimeConfigService.getMcpDefaultIdleTimeout()).thenReturn(30);
 
-        McpClientManager freshManager = new McpClientManager(runtimeConfigService, new ObjectMapper());
+        McpClientManager freshManager = new McpClientManager(runtimeConfigService, new ObjectMapper(), toolListCache());
         assertNotNull(freshManager);
         freshManager.shutdown();
     }
@@ -318,4 +337,210 @@ class McpClientManagerTest {
         List<ToolDefinition> tools = manager.getOrStartClient(skill);
         assertTrue(tools.isEmpty());
     }
+
+    // ===== Pooling, tool list cache and startup metrics =====
+
+    @Test
+    void shouldShareOneStartBetweenConcurrentActivations() {
+        FakeServers servers = new FakeServers();
+        McpClientManager pooled = servers.manager(runtimeConfigService, toolListCache());
+        Skill skill = fakeSkill("shared", 1);
+
+        pooled.prewarm(skill);
+        pooled.prewarm(skill);
+        servers.startGate.countDown();
+        List<ToolDefinition> tools = pooled.getOrStartClient(skill);
+
+        assertEquals(List.of("lookup"), tools.stream().map(ToolDefinition::getName).toList());
+        assertEquals(1, servers.created.size());
+        pooled.shutdown();
+    }
+
+    @Test
+    void shouldActivateFromCachedToolListWhileServerStarts() throws Exception {
+        FakeServers servers = new FakeServers();
+        McpToolListCache cache = toolListCache();
+        McpClientManager pooled = servers.manager(runtimeConfigService, cache);
+        Skill skill = fakeSkill("cached", 1);
+        cache.put(cache.fingerprint(skill.getMcpConfig()), List.of(ToolDefinition.simple("lookup", "Lookup")));
+
+        List<ToolDefinition> tools = pooled.getOrStartClient(skill);
+        ToolComponent adapter = pooled.createToolAdapter("cached", tools.getFirst());
+        CompletableFuture<ToolResult> call = adapter.execute(Map.of());
+
+        assertEquals(List.of("lookup"), pooled.getToolNames("cached"));
+        assertTrue(adapter.isEnabled());
+        assertFalse(call.isDone());
+
+        servers.startGate.countDown();
+        assertTrue(call.get(5, TimeUnit.SECONDS).isSuccess());
+        McpServerStatus status = pooled.getServerStatus("cached").orElseThrow();
+        assertEquals(1, status.toolListCacheHits());
+        assertEquals(1, status.starts());
+        assertTrue(status.running());
+        pooled.shutdown();
+    }
+
+    @Test
+    void shouldGrowPoolWhileEveryInstanceIsBusy() {
+        FakeServers servers = new FakeServers();
+        servers.startGate.countDown();
+        McpClientManager pooled = servers.manager(runtimeConfigService, toolListCache());
+        pooled.getOrStartClient(fakeSkill("busy", 2));
+        FakeMcpClient first = servers.created.getFirst();
+        first.inFlight.set(3);
+
+        assertSame(first, pooled.getClient("busy").orElseThrow());
+        awaitCondition(() -> pooled.getServerStatus("busy").orElseThrow().instances() == 2);
+
+        assertSame(servers.created.get(1), pooled.getClient("busy").orElseThrow());
+        assertEquals(2, servers.created.size());
+        assertEquals(2, pooled.getServerStatus("busy").orElseThrow().starts());
+        pooled.shutdown();
+    }
+
+    @Test
+    void shouldRecordFailedStartsInServerStatus() {
+        FakeServers servers = new FakeServers();
+        servers.startGate.countDown();
+        servers.failStarts = true;
+        McpClientManager pooled = servers.manager(runtimeConfigService, toolListCache());
+
+        assertTrue(pooled.getOrStartClient(fakeSkill("broken", 1)).isEmpty());
+
+        McpServerStatus status = pooled.getServerStatus("broken").orElseThrow();
+        assertFalse(status.running());
+        assertEquals(0, status.starts());
+        assertEquals(1, status.startFailures());
+        assertTrue(pooled.getToolNames("broken").isEmpty());
+        pooled.shutdown();
+    }
+
+    @Test
+    void shouldDiscardPoolOfSkillStoppedWhileStarting() {
+        FakeServers servers = new FakeServers();
+        McpClientManager pooled = servers.manager(runtimeConfigService, toolListCache());
+        Skill skill = fakeSkill("stopped", 1);
+
+        pooled.prewarm(skill);
+        awaitCondition(() -> servers.created.size() == 1);
+        pooled.stopClient("stopped");
+        servers.startGate.countDown();
+
+        FakeMcpClient client = servers.created.getFirst();
+        awaitCondition(() -> client.closed);
+        assertFalse(client.isRunning());
+        assertTrue(pooled.getClient("stopped").isEmpty());
+        assertTrue(pooled.getToolNames("stopped").isEmpty());
+        assertFalse(pooled.getServerStatus("stopped").orElseThrow().running());
+        pooled.shutdown();
+    }
+
+    @Test
+    void shouldKeepPrewarmedServersWhenIdle() {
+        when(runtimeConfigService.getMcpDefaultIdleTimeout()).thenReturn(0);
+        FakeServers servers = new FakeServers();
+        servers.startGate.countDown();
+        McpClientManager pooled = servers.manager(runtimeConfigService, toolListCache());
+        pooled.getOrStartClient(fakeSkill("lazy", 1, false));
+        pooled.getOrStartClient(fakeSkill("warm", 1, true));
+
+        awaitCondition(() -> {
+            pooled.checkIdleClients();
+            return pooled.getServerStatus("lazy").map(status -> !status.running()).orElse(true);
+        });
+
+        assertTrue(pooled.getServerStatus("warm").orElseThrow().running());
+        assertEquals(List.of("lookup"), pooled.getToolNames("warm"));
+        pooled.shutdown();
+    }
+
+    private static Skill fakeSkill(String name, int poolSize) {
+        return fakeSkill(name, poolSize, false);
+    }
+
+    private static Skill fakeSkill(String name, int poolSize, boolean prewarm) {
+        return Skill.builder()
+                .name(name)
+                .description("Fake MCP server")
+                .mcpConfig(McpConfig.builder()
+                        .command("fake-server --" + name)
+                        .poolSize(poolSize)
+                        .prewarm(prewarm)
+                        .build())
+                .build();
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5 seconds");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static final class FakeServers {
+        private final CountDownLatch startGate = new CountDownLatch(1);
+        private final List<FakeMcpClient> created = new CopyOnWriteArrayList<>();
+        private volatile boolean failStarts;
+
+        McpClientManager manager(RuntimeConfigService runtimeConfigService, McpToolListCache cache) {
+            return new McpClientManager(runtimeConfigService, new ObjectMapper(), cache) {
+                @Override
+                McpClient createClient(String skillName, McpConfig config) {
+                    FakeMcpClient client = new FakeMcpClient(skillName, config, FakeServers.this);
+                    created.add(client);
+                    return client;
+                }
+            };
+        }
+    }
+
+    private static final class FakeMcpClient extends McpClient {
+        private final FakeServers servers;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile boolean started;
+        private volatile boolean closed;
+
+        FakeMcpClient(String skillName, McpConfig config, FakeServers servers) {
+            super(skillName, config, new ObjectMapper());
+            this.servers = servers;
+        }
+
+        @Override
+        public List<ToolDefinition> start() throws Exception {
+            assertTrue(servers.startGate.await(5, TimeUnit.SECONDS));
+            if (servers.failStarts) {
+                throw new IllegalStateException("handshake failed");
+            }
+            started = true;
+            return getCachedTools();
+        }
+
+        @Override
+        public CompletableFuture<ToolResult> callTool(String name, Map<String, Object> arguments) {
+            return CompletableFuture.completedFuture(ToolResult.success(getSkillName() + ":" + name));
+        }
+
+        @Override
+        public List<ToolDefinition> getCachedTools() {
+            return List.of(ToolDefinition.simple("lookup", "Lookup"));
+        }
+
+        @Override
+        public int getInFlightRequests() {
+            return inFlight.get();
+        }
+
+        @Override
+        public boolean isRunning() {
+            return started;
+        }
+
+        @Override
+        public void close() {
+            started = false;
+            closed = true;
+        }
+    }
 }
@@ -3,6 +3,7 @@ package me.golemcore.bot.adapter.outbound.mcp;
 import me.golemcore.bot.domain.model.ToolDefinition;
 import me.golemcore.bot.domain.model.ToolResult;
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
+import me.golemcore.bot.port.outbound.StoragePort;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,8 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -28,7 +31,7 @@ class McpToolAdapterTest {
         when(runtimeConfigService.isMcpEnabled()).thenReturn(true);
         when(runtimeConfigService.getMcpDefaultStartupTimeout()).thenReturn(30);
         when(runtimeConfigService.getMcpDefaultIdleTimeout()).thenReturn(5);
-        manager = new McpClientManager(runtimeConfigService, new ObjectMapper());
+        manager = new McpClientManager(runtimeConfigService, new ObjectMapper(), toolListCache());
     }
 
     @AfterEach
@@ -36,6 +39,14 @@ class McpToolAdapterTest {
         manager.shutdown();
     }
 
+    private static McpToolListCache toolListCache() {
+        StoragePort storagePort = mock(StoragePort.class);
+        when(storagePort.getText(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        when(storagePort.putTextAtomic(anyString(), anyString(), anyString(), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        return new McpToolListCache(storagePort, new ObjectMapper());
+    }
+
     @Test
     void testIsEnabledReturnsFalseWhenNoClient() {
         ToolDefinition def = ToolDefinition.simple("test_tool", "Test");
@@ -0,0 +1,89 @@
+package me.golemcore.bot.adapter.outbound.mcp;
+
+import me.golemcore.bot.domain.model.McpConfig;
+import me.golemcore.bot.domain.model.ToolDefinition;
+import me.golemcore.bot.port.outbound.StoragePort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class McpToolListCacheTest {
+
+    private final Map<String, String> files = new ConcurrentHashMap<>();
+    private StoragePort storagePort;
+
+    @BeforeEach
+    void setUp() {
+        storagePort = mock(StoragePort.class);
+        when(storagePort.getText(anyString(), anyString())).thenAnswer(invocation -> CompletableFuture
+                .completedFuture(files.get(invocation.getArgument(0) + "/" + invocation.getArgument(1))));
+        when(storagePort.putTextAtomic(anyString(), anyString(), anyString(), anyBoolean())).thenAnswer(invocation -> {
+            files.put(invocation.getArgument(0) + "/" + invocation.getArgument(1), invocation.getArgument(2));
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    @Test
+    void shouldFingerprintCommandAndEnvironment() {
+        McpToolListCache cache = new McpToolListCache(storagePort, new ObjectMapper());
+        McpConfig config = config("npx server-github", Map.of("TOKEN", "a", "ORG", "x"));
+
+        assertEquals(cache.fingerprint(config),
+                cache.fingerprint(config("npx server-github", Map.of("ORG", "x", "TOKEN", "a"))));
+        assertNotEquals(cache.fingerprint(config),
+                cache.fingerprint(config("npx server-github", Map.of("TOKEN", "b", "ORG", "x"))));
+        assertNotEquals(cache.fingerprint(config),
+                cache.fingerprint(config("npx server-github@2", Map.of("TOKEN", "a", "ORG", "x"))));
+    }
+
+    @Test
+    void shouldRestoreToolListAfterRestartWithoutStoringSecrets() {
+        McpConfig config = config("npx server-github", Map.of("GITHUB_TOKEN", "ghp_secret"));
+        McpToolListCache cache = new McpToolListCache(storagePort, new ObjectMapper());
+        String fingerprint = cache.fingerprint(config);
+        cache.put(fingerprint, List.of(ToolDefinition.builder()
+                .name("create_issue")
+                .description("Create an issue")
+                .inputSchema(Map.of("type", "object", "required", List.of("title")))
+                .build()));
+
+        List<ToolDefinition> restored = new McpToolListCache(storagePort, new ObjectMapper())
+                .get(fingerprint)
+                .orElseThrow();
+
+        assertEquals("create_issue", restored.getFirst().getName());
+        assertEquals(List.of("title"), restored.getFirst().getInputSchema().get("required"));
+        String stored = files.values().iterator().next();
+        assertFalse(stored.contains("ghp_secret"));
+        assertFalse(stored.contains("server-github"));
+    }
+
+    @Test
+    void shouldMissOnUnknownOrUnreadableEntries() {
+        McpToolListCache cache = new McpToolListCache(storagePort, new ObjectMapper());
+        String fingerprint = cache.fingerprint(config("server", Map.of()));
+
+        assertTrue(cache.get(fingerprint).isEmpty());
+
+        files.put("cache/mcp-tools/" + fingerprint + ".json", "{not json");
+        assertTrue(cache.get(fingerprint).isEmpty());
+    }
+
+    private static McpConfig config(String command, Map<String, String> env) {
+        return McpConfig.builder().command(command).env(env).build();
+    }
+}
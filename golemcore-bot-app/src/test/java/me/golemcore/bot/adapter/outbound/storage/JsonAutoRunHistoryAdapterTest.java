@@ -0,0 +1,142 @@
+package me.golemcore.bot.adapter.outbound.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import me.golemcore.bot.port.outbound.AutoRunHistoryPort.RunDetail;
+import me.golemcore.bot.port.outbound.AutoRunHistoryPort.RunMessage;
+import me.golemcore.bot.port.outbound.AutoRunHistoryPort.RunSummary;
+import me.golemcore.bot.port.outbound.StoragePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JsonAutoRunHistoryAdapterTest {
+
+    private static final String LOG_FILE = "auto/run-history/adapter.jsonl";
+    private static final Instant BASE_TIME = Instant.parse("2026-03-11T10:00:00Z");
+
+    private StoragePort storagePort;
+    private Map<String, String> files;
+    private JsonAutoRunHistoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        files = new ConcurrentHashMap<>();
+        storagePort = mock(StoragePort.class);
+        when(storagePort.putTextAtomic(anyString(), anyString(), anyString(), anyBoolean())).thenAnswer(invocation -> {
+            files.put(invocation.getArgument(0) + "/" + invocation.getArgument(1), invocation.getArgument(2));
+            return CompletableFuture.completedFuture(null);
+        });
+        when(storagePort.appendText(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            files.merge(invocation.getArgument(0) + "/" + invocation.getArgument(1), invocation.getArgument(2),
+                    String::concat);
+            return CompletableFuture.completedFuture(null);
+        });
+        when(storagePort.getText(anyString(), anyString())).thenAnswer(invocation -> CompletableFuture
+                .completedFuture(files.get(invocation.getArgument(0) + "/" + invocation.getArgument(1))));
+        when(storagePort.deleteObject(anyString(), anyString())).thenAnswer(invocation -> {
+            files.remove(invocation.getArgument(0) + "/" + invocation.getArgument(1));
+            return CompletableFuture.completedFuture(null);
+        });
+        adapter = createAdapter();
+    }
+
+    private JsonAutoRunHistoryAdapter createAdapter() {
+        return new JsonAutoRunHistoryAdapter(storagePort, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    void shouldReportMissingIndexSoThatCallerRebuilds() {
+        assertFalse(adapter.load());
+
+        adapter.replaceAll(List.of());
+
+        assertTrue(createAdapter().load());
+    }
+
+    @Test
+    void shouldAppendRunUpdatesInsteadOfRewritingIndex() {
+        adapter.replaceAll(List.of(run("run-1", "web:conv-1", "STARTED", 1)));
+
+        adapter.put(run("run-1", "web:conv-1", "COMPLETED", 2));
+        adapter.put(run("run-2", "web:conv-1", "STARTED", 1));
+
+        verify(storagePort, times(1)).putTextAtomic(eq("auto"), eq("run-history/adapter.jsonl"), anyString(),
+                anyBoolean());
+        assertEquals(3, files.get(LOG_FILE).lines().count());
+        List<RunSummary> replayed = createAdapter().list(run -> true, 10);
+        assertEquals(List.of("run-2", "run-1"), replayed.stream().map(RunSummary::runId)
+                .toList());
+        assertEquals("COMPLETED", replayed.get(1).status());
+        assertEquals(2, replayed.get(1).messageCount());
+    }
+
+    @Test
+    void shouldKeepFinishedRunWhenStartIsRecordedLate() {
+        adapter.replaceAll(List.of());
+        adapter.put(run("run-1", "web:conv-1", "COMPLETED", 2));
+
+        adapter.putIfAbsent(run("run-1", "web:conv-1", "STARTED", 1));
+
+        assertEquals("COMPLETED", adapter.list(run -> true, 10).getFirst().status());
+    }
+
+    @Test
+    void shouldRemoveRunsOfDeletedSession() {
+        adapter.replaceAll(List.of(
+                run("run-1", "web:conv-1", "COMPLETED", 2),
+                run("run-2", "web:conv-2", "COMPLETED", 2)));
+
+        adapter.deleteSessionData("web:conv-1");
+
+        assertEquals(List.of("run-2"), adapter.list(run -> true, 10).stream()
+                .map(RunSummary::runId)
+                .toList());
+        assertFalse(files.containsKey("auto/run-history/runs/run-1.json"));
+        assertTrue(adapter.find("run-1").isEmpty());
+        assertEquals(List.of("run-2"), createAdapter().list(run -> true, 10).stream()
+                .map(RunSummary::runId)
+                .toList());
+    }
+
+    @Test
+    void shouldSkipTornTrailingEntryOnReplay() {
+        adapter.replaceAll(List.of(run("run-1", "web:conv-1", "COMPLETED", 2)));
+        files.merge(LOG_FILE, "{\"run\":{\"runId\":\"run-", String::concat);
+
+        List<RunSummary> replayed = createAdapter().list(run -> true, 10);
+
+        assertEquals(1, replayed.size());
+        assertEquals("run-1", replayed.getFirst().runId());
+    }
+
+    private static RunDetail run(String runId, String sessionId, String status,
+            int messageCount) {
+        Instant startedAt = BASE_TIME.plus(Duration.ofMinutes(Long.parseLong(runId.substring("run-".length()))));
+        List<RunMessage> messages = IntStream.range(0, messageCount)
+                .mapToObj(i -> new RunMessage("m" + i, i == 0 ? "user" : "assistant",
+                        "text", startedAt.plusSeconds(i), false, false, null, null, null, null))
+                .toList();
+        return new RunDetail(runId, sessionId, "web", "conv", "conv", "sched-1", null, null,
+                null, null, null, null, null, null, null, status, startedAt,
+                startedAt.plusSeconds(messageCount), messages);
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 
@@ -72,6 +73,27 @@ class LocalStorageAdapterTest {
         assertArrayEquals(content, retrieved);
     }
 
+    @Test
+    void getObjectRangeReadsOnlyRequestedBytes() throws ExecutionException, InterruptedException {
+        String path = "range.bin";
+        storageAdapter.putObject(TEST_DIR, path, new byte[] { 1, 2, 3, 4, 5 }).get();
+
+        assertArrayEquals(new byte[] { 2, 3, 4 }, storageAdapter.getObjectRange(TEST_DIR, path, 1, 3).get());
+        assertNull(storageAdapter.getObjectRange(TEST_DIR, "missing.bin", 0, 1).get());
+        assertThrows(ExecutionException.class, () -> storageAdapter.getObjectRange(TEST_DIR, path, 3, 4).get());
+    }
+
+    @Test
+    void getLastModifiedReturnsFileTimeOrNullWhenMissing() throws Exception {
+        String path = "stamped.txt";
+        storageAdapter.putText(TEST_DIR, path, CONTENT_DEFAULT).get();
+        Path file = tempDir.resolve(TEST_DIR).resolve(path);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_700_000_000_000L));
+
+        assertEquals(1_700_000_000_000L, storageAdapter.getLastModified(TEST_DIR, path).get());
+        assertNull(storageAdapter.getLastModified(TEST_DIR, "missing.txt").get());
+    }
+
     @Test
     void exists_returnsTrueForExistingFile() throws ExecutionException, InterruptedException {
         String directory = TEST_DIR;
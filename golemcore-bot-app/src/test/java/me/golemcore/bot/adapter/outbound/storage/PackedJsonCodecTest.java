@@ -0,0 +1,106 @@
+package me.golemcore.bot.adapter.outbound.storage;
+
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PackedJsonCodecTest {
+
+    @Test
+    void shouldRoundTripValuesWithJsonValueTypeMapping() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("flag", true);
+        values.put("count", 42);
+        values.put("negative", -7L);
+        values.put("ratio", 0.5f);
+        values.put("decimal", new BigDecimal("2.5"));
+        values.put("fits", BigInteger.valueOf(123L));
+        values.put("huge", BigInteger.ONE.shiftLeft(64));
+        values.put("text", "héllo");
+        values.put("missing", null);
+        values.put("custom", new StringBuilder("fallback"));
+        values.put("nested", Map.of("inner", List.of(1, "two", false)));
+
+        Map<String, Object> restored = PackedJsonCodec.decode(PackedJsonCodec.encode(values));
+
+        assertEquals(new ArrayList<>(values.keySet()), new ArrayList<>(restored.keySet()));
+        assertEquals(true, restored.get("flag"));
+        assertEquals(42L, restored.get("count"));
+        assertEquals(-7L, restored.get("negative"));
+        assertEquals(0.5d, restored.get("ratio"));
+        assertEquals(2.5d, restored.get("decimal"));
+        assertEquals(123L, restored.get("fits"));
+        assertEquals(BigInteger.ONE.shiftLeft(64).toString(), restored.get("huge"));
+        assertEquals("héllo", restored.get("text"));
+        assertNull(restored.get("missing"));
+        assertEquals("fallback", restored.get("custom"));
+        assertEquals(Map.of("inner", List.of(1L, "two", false)), restored.get("nested"));
+    }
+
+    @Test
+    void shouldWriteRepeatedKeysOnce() {
+        List<Object> edits = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            edits.add(Map.of("replacementTextWithLongName", "x", "originalTextWithLongName", "y"));
+        }
+
+        ByteString encoded = PackedJsonCodec.encode(Map.of("edits", edits));
+
+        String raw = encoded.toString(StandardCharsets.ISO_8859_1);
+        assertEquals(raw.indexOf("replacementTextWithLongName"), raw.lastIndexOf("replacementTextWithLongName"));
+        assertEquals(edits, PackedJsonCodec.decode(encoded).get("edits"));
+    }
+
+    @Test
+    void shouldSkipNonStringKeys() {
+        Map<Object, Object> nested = new LinkedHashMap<>();
+        nested.put(1, "ignored");
+        nested.put("kept", "value");
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("nested", nested);
+
+        Map<String, Object> restored = PackedJsonCodec.decode(PackedJsonCodec.encode(values));
+
+        assertEquals(Map.of("kept", "value"), restored.get("nested"));
+    }
+
+    @Test
+    void shouldRejectCorruptPayloads() {
+        ByteString encoded = PackedJsonCodec.encode(Map.of("key", "value"));
+
+        assertThrows(IllegalStateException.class,
+                () -> PackedJsonCodec.decode(encoded.substring(0, encoded.size() - 2)));
+        assertThrows(IllegalStateException.class, () -> PackedJsonCodec.decode(ByteString.copyFrom(new byte[] { 9 })));
+        assertThrows(IllegalStateException.class,
+                () -> PackedJsonCodec.decode(ByteString.copyFrom(new byte[] { 1, 6, 1, 1, 0 })));
+    }
+
+    @Test
+    void shouldRejectExcessiveNesting() {
+        Map<String, Object> root = new LinkedHashMap<>();
+        Map<String, Object> current = root;
+        for (int i = 0; i < 150; i++) {
+            Map<String, Object> child = new LinkedHashMap<>();
+            current.put("child", child);
+            current = child;
+        }
+        ByteString encoded = PackedJsonCodec.encode(root);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> PackedJsonCodec.decode(encoded));
+
+        assertTrue(error.getMessage().contains("nested too deeply"));
+    }
+}
@@ -0,0 +1,71 @@
+package me.golemcore.bot.adapter.outbound.storage;
+
+import me.golemcore.bot.domain.model.AgentSession;
+import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.domain.model.trace.TraceRecord;
+import me.golemcore.bot.port.outbound.SessionRecordCodecPort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProtoSessionRecordCodecAdapterTest {
+
+    private final ProtoSessionRecordCodecAdapter codec = new ProtoSessionRecordCodecAdapter();
+
+    @Test
+    void shouldLocateAndDecodeSingleMessagesWithoutDecodingSession() {
+        AgentSession session = AgentSession.builder()
+                .id("web:conv-1")
+                .channelType("web")
+                .chatId("conv-1")
+                .metadata(Map.of("title", "Long chat"))
+                .messages(List.of(
+                        message("m-1", "user", "first question"),
+                        message("m-2", "assistant", "x".repeat(500)),
+                        message("m-3", "user", "follow-up")))
+                .traces(List.of(TraceRecord.builder().traceId("trace-1").traceName("turn").build()))
+                .createdAt(Instant.parse("2026-03-20T10:00:00Z"))
+                .build();
+        byte[] bytes = codec.encode(session);
+
+        List<SessionRecordCodecPort.MessageSlice> slices = codec.indexMessages(bytes).orElseThrow();
+
+        assertEquals(3, slices.size());
+        for (int i = 0; i < slices.size(); i++) {
+            SessionRecordCodecPort.MessageSlice slice = slices.get(i);
+            Message decoded = codec.decodeMessage(
+                    Arrays.copyOfRange(bytes, slice.offset(), slice.offset() + slice.length()));
+            assertEquals(session.getMessages().get(i).getId(), decoded.getId());
+            assertEquals(session.getMessages().get(i).getContent(), decoded.getContent());
+            assertEquals(session.getMessages().get(i).getTimestamp(), decoded.getTimestamp());
+        }
+    }
+
+    @Test
+    void shouldReturnNoSlicesForSessionWithoutMessages() {
+        byte[] bytes = codec.encode(AgentSession.builder().id("web:empty").channelType("web").build());
+
+        assertTrue(codec.indexMessages(bytes).orElseThrow().isEmpty());
+    }
+
+    @Test
+    void shouldRejectTruncatedRecordWhenIndexing() {
+        byte[] bytes = codec.encode(AgentSession.builder().id("web:conv-1")
+                .messages(List.of(message("m-1", "user", "hello there"))).build());
+
+        assertThrows(IllegalStateException.class,
+                () -> codec.indexMessages(Arrays.copyOf(bytes, bytes.length - 3)));
+    }
+
+    private static Message message(String id, String role, String content) {
+        return Message.builder().id(id).role(role).content(content)
+                .timestamp(Instant.parse("2026-03-20T10:01:00Z")).build();
+    }
+}
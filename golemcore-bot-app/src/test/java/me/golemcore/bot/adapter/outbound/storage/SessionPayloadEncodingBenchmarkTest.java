@@ -0,0 +1,135 @@
+package me.golemcore.bot.adapter.outbound.storage;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import me.golemcore.bot.domain.model.AgentSession;
+import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.proto.session.v1.AgentSessionRecord;
+import me.golemcore.bot.proto.session.v1.MessageRecord;
+import me.golemcore.bot.proto.session.v1.ToolCallRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares record size and decode time of packed message metadata and tool
+ * arguments against the legacy {@code JsonValue} maps on a tool-heavy session,
+ * and of the dual-written records that carry both.
+ * Run with {@code SESSION_ENCODING_BENCHMARK_ENABLED=true}.
+ */
+@EnabledIfEnvironmentVariable(named = "SESSION_ENCODING_BENCHMARK_ENABLED", matches = "true")
+class SessionPayloadEncodingBenchmarkTest {
+
+    private static final int TURNS = 150;
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int ROUNDS = 200;
+
+    private final SessionProtoMapperSupport mapper = new SessionProtoMapperSupport();
+
+    @Test
+    void shouldReportSizeAndDecodeTimeForPackedAndLegacyPayloads() throws InvalidProtocolBufferException {
+        AgentSessionRecord written = mapper.toProto(realisticSession());
+        byte[] writtenBytes = written.toByteArray();
+        byte[] packedBytes = withoutLegacy(written).toByteArray();
+        byte[] legacyBytes = withoutPacked(written).toByteArray();
+        Message legacyAssistant = mapper.fromProto(AgentSessionRecord.parseFrom(legacyBytes)).getMessages().get(1);
+        Message packedAssistant = mapper.fromProto(AgentSessionRecord.parseFrom(packedBytes)).getMessages().get(1);
+        assertEquals(legacyAssistant.getMetadata(), packedAssistant.getMetadata());
+        assertEquals(legacyAssistant.getToolCalls().get(0).getArguments(),
+                packedAssistant.getToolCalls().get(0).getArguments());
+
+        double legacyMicros = measureDecode(legacyBytes);
+        double packedMicros = measureDecode(packedBytes);
+
+        double writtenMicros = measureDecode(writtenBytes);
+
+        System.out.printf(Locale.ROOT,
+                "session encoding: legacy=%d bytes %.0f us/decode, packed=%d bytes %.0f us/decode, "
+                        + "dual-written=%d bytes %.0f us/decode%n",
+                legacyBytes.length, legacyMicros, packedBytes.length, packedMicros, writtenBytes.length,
+                writtenMicros);
+    }
+
+    private double measureDecode(byte[] bytes) throws InvalidProtocolBufferException {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            mapper.fromProto(AgentSessionRecord.parseFrom(bytes));
+        }
+        long started = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            mapper.fromProto(AgentSessionRecord.parseFrom(bytes));
+        }
+        return (System.nanoTime() - started) / 1_000.0d / ROUNDS;
+    }
+
+    private static AgentSession realisticSession() {
+        List<Message> messages = new ArrayList<>();
+        Instant timestamp = Instant.parse("2026-03-20T10:00:00Z");
+        for (int turn = 0; turn < TURNS; turn++) {
+            Map<String, Object> userMetadata = new LinkedHashMap<>();
+            userMetadata.put("clientMessageId", "client-" + turn);
+            userMetadata.put("attachments", List.of(Map.of("type", "image", "name", "screen-" + turn + ".png",
+                    "mimeType", "image/png", "internalFilePath", "uploads/screen-" + turn + ".png")));
+            messages.add(Message.builder().id("u-" + turn).role("user").content("Please fix failing test " + turn)
+                    .metadata(userMetadata).timestamp(timestamp).build());
+
+            List<Object> edits = new ArrayList<>();
+            for (int edit = 0; edit < 6; edit++) {
+                edits.add(Map.of("oldText", "assertEquals(" + edit + ", result);", "newText",
+                        "assertEquals(" + (edit + 1) + ", result);", "startLine", 40 + edit, "replaceAll", false));
+            }
+            Map<String, Object> arguments = new LinkedHashMap<>();
+            arguments.put("path", "src/test/java/example/Case" + turn + "Test.java");
+            arguments.put("edits", edits);
+            arguments.put("dryRun", false);
+            Map<String, Object> assistantMetadata = new LinkedHashMap<>();
+            assistantMetadata.put("model", "openai/gpt-5.4");
+            assistantMetadata.put("modelTier", "coding");
+            assistantMetadata.put("reasoning", "high");
+            assistantMetadata.put("inputTokens", 12_000 + turn);
+            assistantMetadata.put("outputTokens", 800 + turn);
+            assistantMetadata.put("latencyMs", 2_350.5d);
+            messages.add(Message.builder().id("a-" + turn).role("assistant").content("Applying the fix.")
+                    .metadata(assistantMetadata)
+                    .toolCalls(List.of(Message.ToolCall.builder().id("call-" + turn).name("filesystem.edit")
+                            .arguments(arguments).build()))
+                    .timestamp(timestamp).build());
+            messages.add(Message.builder().id("t-" + turn).role("tool").toolCallId("call-" + turn)
+                    .toolName("filesystem.edit").content("Applied 6 edits")
+                    .metadata(new LinkedHashMap<>(Map.of("exitCode", 0, "durationMs", 14)))
+                    .timestamp(timestamp).build());
+        }
+        return AgentSession.builder().id("web:benchmark").channelType("web").chatId("benchmark")
+                .messages(messages).metadata(new LinkedHashMap<>()).build();
+    }
+
+    private static AgentSessionRecord withoutPacked(AgentSessionRecord written) {
+        AgentSessionRecord.Builder builder = written.toBuilder().clearMessages();
+        for (MessageRecord message : written.getMessagesList()) {
+            MessageRecord.Builder messageBuilder = message.toBuilder().clearPackedMetadata().clearToolCalls();
+            for (ToolCallRecord toolCall : message.getToolCallsList()) {
+                messageBuilder.addToolCalls(toolCall.toBuilder().clearPackedArguments());
+            }
+            builder.addMessages(messageBuilder);
+        }
+        return builder.build();
+    }
+
+    private static AgentSessionRecord withoutLegacy(AgentSessionRecord written) {
+        AgentSessionRecord.Builder builder = written.toBuilder().clearMessages();
+        for (MessageRecord message : written.getMessagesList()) {
+            MessageRecord.Builder messageBuilder = message.toBuilder().clearMetadata().clearToolCalls();
+            for (ToolCallRecord toolCall : message.getToolCallsList()) {
+                messageBuilder.addToolCalls(toolCall.toBuilder().clearArguments());
+            }
+            builder.addMessages(messageBuilder);
+        }
+        return builder.build();
+    }
+}
@@ -11,8 +11,11 @@ import me.golemcore.bot.domain.model.trace.TraceSpanRecord;
 import me.golemcore.bot.domain.model.trace.TraceStatusCode;
 import me.golemcore.bot.domain.model.trace.TraceStorageStats;
 import me.golemcore.bot.proto.session.v1.AgentSessionRecord;
+import me.golemcore.bot.proto.session.v1.JsonObject;
 import me.golemcore.bot.proto.session.v1.JsonValue;
+import me.golemcore.bot.proto.session.v1.MessageRecord;
 import me.golemcore.bot.proto.session.v1.SessionState;
+import me.golemcore.bot.proto.session.v1.ToolCallRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -29,6 +32,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -594,6 +598,84 @@ class SessionProtoMapperTest {
         assertEquals(150L, restoredMeta.get("tokens"));
     }
 
+    @Test
+    void shouldWriteMessageMetadataAndToolArgumentsInPackedAndLegacyForm() {
+        Message message = Message.builder()
+                .role("assistant")
+                .metadata(new LinkedHashMap<>(Map.of("model", "gpt-5")))
+                .toolCalls(new ArrayList<>(List.of(Message.ToolCall.builder()
+                        .id("call-1")
+                        .name("shell")
+                        .arguments(new LinkedHashMap<>(Map.of("command", "ls")))
+                        .build())))
+                .build();
+        AgentSession session = AgentSession.builder()
+                .messages(new ArrayList<>(List.of(message)))
+                .metadata(new LinkedHashMap<>())
+                .build();
+
+        MessageRecord record = mapper.toProto(session).getMessages(0);
+
+        assertFalse(record.getPackedMetadata().isEmpty());
+        assertFalse(record.getToolCalls(0).getPackedArguments().isEmpty());
+        assertEquals("gpt-5", record.getMetadataMap().get("model").getStringValue());
+        assertEquals("ls", record.getToolCalls(0).getArgumentsMap().get("command").getStringValue());
+    }
+
+    @Test
+    void shouldKeepMetadataAndToolArgumentsReadableWithoutPackedFields() {
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        arguments.put("command", "ls");
+        arguments.put("edits", List.of(Map.of("path", "a.txt", "line", 3L)));
+        Message message = Message.builder()
+                .role("assistant")
+                .metadata(new LinkedHashMap<>(Map.of("model", "gpt-5", "tokens", 150L)))
+                .toolCalls(new ArrayList<>(List.of(Message.ToolCall.builder()
+                        .id("call-1")
+                        .name("shell")
+                        .arguments(arguments)
+                        .build())))
+                .build();
+        AgentSession session = AgentSession.builder()
+                .messages(new ArrayList<>(List.of(message)))
+                .metadata(new LinkedHashMap<>())
+                .build();
+        AgentSessionRecord written = mapper.toProto(session);
+        // What a build without the packed fields sees after a rollback
+        MessageRecord withoutPacked = written.getMessages(0).toBuilder()
+                .clearPackedMetadata()
+                .setToolCalls(0, written.getMessages(0).getToolCalls(0).toBuilder().clearPackedArguments())
+                .build();
+
+        Message restored = mapper.fromProto(written.toBuilder().setMessages(0, withoutPacked).build())
+                .getMessages().get(0);
+
+        assertEquals(Map.of("model", "gpt-5", "tokens", 150L), restored.getMetadata());
+        assertEquals(arguments, restored.getToolCalls().get(0).getArguments());
+    }
+
+    @Test
+    void shouldReadLegacyJsonValueMetadataAndToolArguments() {
+        JsonValue nested = JsonValue.newBuilder()
+                .setObjectValue(JsonObject.newBuilder()
+                        .putFields("path", JsonValue.newBuilder().setStringValue("a.txt").build()))
+                .build();
+        AgentSessionRecord proto = AgentSessionRecord.newBuilder()
+                .addMessages(MessageRecord.newBuilder()
+                        .setRole("assistant")
+                        .putMetadata("tokens", JsonValue.newBuilder().setIntValue(150).build())
+                        .addToolCalls(ToolCallRecord.newBuilder()
+                                .setId("call-1")
+                                .setName("filesystem")
+                                .putArguments("target", nested)))
+                .build();
+
+        Message restored = mapper.fromProto(proto).getMessages().get(0);
+
+        assertEquals(150L, restored.getMetadata().get("tokens"));
+        assertEquals(Map.of("path", "a.txt"), restored.getToolCalls().get(0).getArguments().get("target"));
+    }
+
     // ── Float serialization ───────────────────────────────────────────
 
     @Test
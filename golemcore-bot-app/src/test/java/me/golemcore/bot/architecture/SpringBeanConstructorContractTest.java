@@ -0,0 +1,48 @@
+package me.golemcore.bot.architecture;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaConstructor;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ImportOption;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+class SpringBeanConstructorContractTest {
+
+    private static final String ROOT_PACKAGE = "me.golemcore.bot";
+
+    @Test
+    void component_scanned_beans_should_have_one_injectable_constructor() {
+        Collection<JavaClass> importedClasses = new ClassFileImporter()
+                .withImportOption(new ImportOption.DoNotIncludeTests())
+                .importPackages(ROOT_PACKAGE);
+
+        Set<String> violations = importedClasses.stream()
+                .filter(javaClass -> !javaClass.getModifiers().contains(JavaModifier.ABSTRACT))
+                .filter(javaClass -> javaClass.isAnnotatedWith(Component.class)
+                        || javaClass.isMetaAnnotatedWith(Component.class))
+                .filter(this::hasAmbiguousConstructors)
+                .map(JavaClass::getFullName)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        assertTrue(violations.isEmpty(), () -> "Spring beans with several constructors, none @Autowired "
+                + "and no default one:\n"
+                + String.join("\n", violations)
+                + "\nKeep a single constructor so Spring can pick it without annotations.");
+    }
+
+    private boolean hasAmbiguousConstructors(JavaClass javaClass) {
+        Set<JavaConstructor> constructors = javaClass.getConstructors();
+        return constructors.size() > 1
+                && constructors.stream().noneMatch(constructor -> constructor.isAnnotatedWith(Autowired.class))
+                && constructors.stream().noneMatch(constructor -> constructor.getRawParameterTypes().isEmpty());
+    }
+}
@@ -12,6 +12,7 @@ import me.golemcore.bot.domain.model.ScheduleReportConfig;
 import me.golemcore.bot.domain.model.ScheduledTask;
 import me.golemcore.bot.domain.model.Skill;
 import me.golemcore.bot.domain.auto.AutoModeService;
+import me.golemcore.bot.domain.auto.AutoRunHistoryService;
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.scheduling.ScheduleService;
 import me.golemcore.bot.domain.session.SessionRunCoordinator;
@@ -66,6 +67,7 @@ class AutoModeSchedulerTest {
     private SkillComponent skillComponent;
     private ScheduleReportSender reportSender;
     private ScheduledTaskShellRunner scheduledTaskShellRunner;
+    private AutoRunHistoryService autoRunHistoryService;
     private AutoModeScheduler scheduler;
 
     private AutoModeScheduler createScheduler() {
@@ -80,7 +82,8 @@ class AutoModeSchedulerTest {
                 sessionPort,
                 scheduledRunMessageFactory,
                 reportSender,
-                scheduledTaskShellRunner);
+                scheduledTaskShellRunner,
+                autoRunHistoryService);
         return new AutoModeScheduler(
                 autoModeService,
                 scheduleService,
@@ -125,6 +128,7 @@ class AutoModeSchedulerTest {
 
         reportSender = mock(ScheduleReportSender.class);
         scheduledTaskShellRunner = mock(ScheduledTaskShellRunner.class);
+        autoRunHistoryService = mock(AutoRunHistoryService.class);
 
         scheduler = createScheduler();
     }
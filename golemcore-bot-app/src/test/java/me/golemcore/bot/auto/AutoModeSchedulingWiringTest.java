@@ -3,6 +3,7 @@ package me.golemcore.bot.auto;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import me.golemcore.bot.domain.component.SkillComponent;
 import me.golemcore.bot.domain.auto.AutoModeService;
+import me.golemcore.bot.domain.auto.AutoRunHistoryService;
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.scheduling.ScheduleService;
 import me.golemcore.bot.domain.session.SessionRunCoordinator;
@@ -25,6 +26,7 @@ class AutoModeSchedulingWiringTest {
     private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
             .withBean(AutoModeService.class, () -> mock(AutoModeService.class))
             .withBean(ScheduleService.class, () -> mock(ScheduleService.class))
+            .withBean(AutoRunHistoryService.class, () -> mock(AutoRunHistoryService.class))
             .withBean(SessionRunCoordinator.class, () -> mock(SessionRunCoordinator.class))
             .withBean(RuntimeConfigService.class, () -> {
                 RuntimeConfigService runtimeConfigService = mock(RuntimeConfigService.class);
@@ -8,6 +8,7 @@ import me.golemcore.bot.domain.model.Message;
 import me.golemcore.bot.domain.model.ScheduleEntry;
 import me.golemcore.bot.domain.model.ScheduledTask;
 import me.golemcore.bot.domain.auto.AutoModeService;
+import me.golemcore.bot.domain.auto.AutoRunHistoryService;
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.session.SessionRunCoordinator;
 import me.golemcore.bot.port.outbound.SessionPort;
@@ -44,6 +45,7 @@ class ScheduledRunExecutorTest {
     private ScheduledRunMessageFactory scheduledRunMessageFactory;
     private ScheduleReportSender reportSender;
     private ScheduledTaskShellRunner scheduledTaskShellRunner;
+    private AutoRunHistoryService autoRunHistoryService;
     private ScheduledRunExecutor executor;
 
     private static final String GOAL_ID = "goal-1";
@@ -59,6 +61,7 @@ class ScheduledRunExecutorTest {
         scheduledRunMessageFactory = mock(ScheduledRunMessageFactory.class);
         reportSender = mock(ScheduleReportSender.class);
         scheduledTaskShellRunner = mock(ScheduledTaskShellRunner.class);
+        autoRunHistoryService = mock(AutoRunHistoryService.class);
 
         executor = new ScheduledRunExecutor(
                 autoModeService,
@@ -67,7 +70,8 @@ class ScheduledRunExecutorTest {
                 sessionPort,
                 scheduledRunMessageFactory,
                 reportSender,
-                scheduledTaskShellRunner);
+                scheduledTaskShellRunner,
+                autoRunHistoryService);
     }
 
     @Test
@@ -109,6 +113,8 @@ class ScheduledRunExecutorTest {
 
         verify(reportSender).sendReport(eq(schedule), eq("header"), eq("summary text"), eq(ctx));
         verify(autoModeService).recordAutoRunSuccess(eq(GOAL_ID), eq(TASK_ID), isNull());
+        verify(autoRunHistoryService).recordRunStarted(syntheticMessage);
+        verify(autoRunHistoryService).recordRun(syntheticMessage);
     }
 
     @Test
@@ -146,6 +152,8 @@ class ScheduledRunExecutorTest {
         verify(autoModeService).recordAutoRunFailure(
                 eq(GOAL_ID), eq(TASK_ID),
                 eq("Run timed out after 5 minutes"), eq("timeout"), isNull());
+        verify(autoRunHistoryService).recordRunStarted(syntheticMessage);
+        verify(autoRunHistoryService, never()).recordRun(any(Message.class));
     }
 
     @Test
@@ -422,6 +430,7 @@ class ScheduledRunExecutorTest {
                 assistantMessage.getMetadata().get(ContextAttributes.AUTO_RUN_ID));
         assertEquals("COMPLETED", assistantMessage.getMetadata().get(ContextAttributes.AUTO_RUN_STATUS));
         verify(sessionPort).save(session);
+        verify(autoRunHistoryService).recordRun(any(Message.class));
     }
 
     @Test
@@ -1,6 +1,7 @@
 package me.golemcore.bot.domain.auto;
 
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
+import me.golemcore.bot.domain.session.SessionGoalRegistry;
 import me.golemcore.bot.domain.session.SessionScopedGoalService;
 import me.golemcore.bot.domain.session.SessionDiaryService;
 import me.golemcore.bot.domain.scheduling.PersistentScheduledTaskService;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -88,7 +90,8 @@ class AutoModeServiceTest {
                 objectMapper,
                 runtimeConfigService,
                 new SessionScopedGoalService(
-                        new LegacyGoalStorageService(storagePort, objectMapper),
+                        new SessionGoalRegistry(new LegacyGoalStorageService(storagePort, objectMapper),
+                                Clock.systemUTC()),
                         runtimeConfigService,
                         diaryService),
                 diaryService,
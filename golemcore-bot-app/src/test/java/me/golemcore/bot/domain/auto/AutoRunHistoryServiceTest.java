@@ -1,5 +1,7 @@
 package me.golemcore.bot.domain.auto;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import me.golemcore.bot.domain.scheduling.ScheduleService;
 import me.golemcore.bot.domain.model.AgentSession;
 import me.golemcore.bot.domain.model.AutoTask;
@@ -8,19 +10,31 @@ import me.golemcore.bot.domain.model.Goal;
 import me.golemcore.bot.domain.model.Message;
 import me.golemcore.bot.domain.model.ScheduleEntry;
 import me.golemcore.bot.domain.model.ScheduledTask;
+import me.golemcore.bot.adapter.outbound.storage.JsonAutoRunHistoryAdapter;
+import me.golemcore.bot.port.outbound.AutoRunHistoryPort.RunDetail;
+import me.golemcore.bot.port.outbound.AutoRunHistoryPort.RunSummary;
 import me.golemcore.bot.port.outbound.SessionPort;
+import me.golemcore.bot.port.outbound.StoragePort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AutoRunHistoryServiceTest {
@@ -28,6 +42,8 @@ class AutoRunHistoryServiceTest {
     private SessionPort sessionPort;
     private ScheduleService scheduleService;
     private AutoModeService autoModeService;
+    private StoragePort storagePort;
+    private Map<String, String> files;
     private AutoRunHistoryService service;
 
     @BeforeEach
@@ -35,7 +51,32 @@ class AutoRunHistoryServiceTest {
         sessionPort = mock(SessionPort.class);
         scheduleService = mock(ScheduleService.class);
         autoModeService = mock(AutoModeService.class);
-        service = new AutoRunHistoryService(sessionPort, scheduleService, autoModeService);
+        files = new ConcurrentHashMap<>();
+        storagePort = mock(StoragePort.class);
+        when(storagePort.putTextAtomic(anyString(), anyString(), anyString(), anyBoolean())).thenAnswer(invocation -> {
+            files.put(invocation.getArgument(0) + "/" + invocation.getArgument(1), invocation.getArgument(2));
+            return CompletableFuture.completedFuture(null);
+        });
+        when(storagePort.appendText(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            files.merge(invocation.getArgument(0) + "/" + invocation.getArgument(1), invocation.getArgument(2),
+                    String::concat);
+            return CompletableFuture.completedFuture(null);
+        });
+        when(storagePort.getText(anyString(), anyString())).thenAnswer(invocation -> CompletableFuture
+                .completedFuture(files.get(invocation.getArgument(0) + "/" + invocation.getArgument(1))));
+        when(storagePort.deleteObject(anyString(), anyString())).thenAnswer(invocation -> {
+            files.remove(invocation.getArgument(0) + "/" + invocation.getArgument(1));
+            return CompletableFuture.completedFuture(null);
+        });
+        service = createService();
+    }
+
+    private AutoRunHistoryService createService() {
+        return new AutoRunHistoryService(sessionPort, scheduleService, autoModeService, createRunHistoryAdapter());
+    }
+
+    private JsonAutoRunHistoryAdapter createRunHistoryAdapter() {
+        return new JsonAutoRunHistoryAdapter(storagePort, new ObjectMapper().registerModule(new JavaTimeModule()));
     }
 
     @Test
@@ -99,10 +140,10 @@ class AutoRunHistoryServiceTest {
         when(scheduleService.getSchedules()).thenReturn(List.of(schedule));
         when(sessionPort.listAll()).thenReturn(List.of(session));
 
-        List<AutoRunHistoryService.RunSummary> runs = service.listRuns("sched-1", null, null, 10);
+        List<RunSummary> runs = service.listRuns("sched-1", null, null, 10);
 
         assertEquals(1, runs.size());
-        AutoRunHistoryService.RunSummary run = runs.get(0);
+        RunSummary run = runs.get(0);
         assertEquals("run-1", run.runId());
         assertEquals("sched-1", run.scheduleId());
         assertEquals("task-1", run.taskId());
@@ -110,7 +151,7 @@ class AutoRunHistoryServiceTest {
         assertEquals("COMPLETED", run.status());
         assertEquals(2, run.messageCount());
 
-        Optional<AutoRunHistoryService.RunDetail> detail = service.getRun("run-1");
+        Optional<RunDetail> detail = service.getRun("run-1");
         assertTrue(detail.isPresent());
         assertEquals(2, detail.get().messages().size());
         assertNull(detail.get().messages().get(0).modelTier());
@@ -166,7 +207,7 @@ class AutoRunHistoryServiceTest {
         when(scheduleService.getSchedules()).thenReturn(List.of(schedule));
         when(sessionPort.listAll()).thenReturn(List.of(session));
 
-        List<AutoRunHistoryService.RunSummary> runs = service.listRuns("sched-1", null, null, 10);
+        List<RunSummary> runs = service.listRuns("sched-1", null, null, 10);
 
         assertEquals(1, runs.size());
         assertEquals("FAILED", runs.get(0).status());
@@ -208,7 +249,7 @@ class AutoRunHistoryServiceTest {
         when(scheduleService.getSchedules()).thenReturn(List.of(schedule));
         when(sessionPort.listAll()).thenReturn(List.of(session));
 
-        AutoRunHistoryService.RunSummary summary = service
+        RunSummary summary = service
                 .listRuns("sched-scheduled-task", null, null, 10)
                 .getFirst();
 
@@ -217,7 +258,7 @@ class AutoRunHistoryServiceTest {
         assertEquals("SCHEDULED_TASK", summary.scheduleTargetType());
         assertEquals("Daily summary", summary.scheduleTargetLabel());
 
-        AutoRunHistoryService.RunDetail detail = service.getRun("run-scheduled-task").orElseThrow();
+        RunDetail detail = service.getRun("run-scheduled-task").orElseThrow();
         assertEquals("scheduled-task-1", detail.scheduledTaskId());
         assertEquals("Daily summary", detail.scheduledTaskLabel());
     }
@@ -278,15 +319,15 @@ class AutoRunHistoryServiceTest {
         when(scheduleService.getSchedules()).thenReturn(List.of(schedule));
         when(sessionPort.listAll()).thenReturn(List.of(session));
 
-        List<AutoRunHistoryService.RunSummary> runs = service.listRuns("sched-goal", null, null, 10);
+        List<RunSummary> runs = service.listRuns("sched-goal", null, null, 10);
 
         assertEquals(1, runs.size());
-        AutoRunHistoryService.RunSummary run = runs.get(0);
+        RunSummary run = runs.get(0);
         assertEquals("TOOL_OUTPUT", run.status());
         assertEquals("GOAL", run.scheduleTargetType());
         assertEquals("Launch", run.scheduleTargetLabel());
 
-        AutoRunHistoryService.RunDetail detail = service.getRun("run-tool").orElseThrow();
+        RunDetail detail = service.getRun("run-tool").orElseThrow();
         assertEquals(2, detail.messages().size());
         assertNull(detail.messages().get(0).model());
         assertNull(detail.messages().get(0).modelTier());
@@ -296,4 +337,128 @@ class AutoRunHistoryServiceTest {
         assertEquals("tool-skill", detail.messages().get(1).skill());
     }
 
+    @Test
+    void shouldServeListingsAndLookupsFromPersistedIndexWithoutLoadingSessions() {
+        AgentSession session = runSession("web:conv-1", "conv-1", new ArrayList<>(List.of(
+                runMessage("m1", "user", "run-1", "sched-1", Instant.parse("2026-03-11T10:00:00Z")),
+                runMessage("m2", "assistant", "run-1", "sched-1", Instant.parse("2026-03-11T10:00:05Z")),
+                runMessage("m3", "user", "run-2", "sched-2", Instant.parse("2026-03-11T11:00:00Z")))));
+        when(sessionPort.listAll()).thenReturn(List.of(session));
+        assertEquals(2, service.rebuildIndex());
+
+        SessionPort restartedSessionPort = mock(SessionPort.class);
+        AutoRunHistoryService restarted = new AutoRunHistoryService(restartedSessionPort, scheduleService,
+                autoModeService, createRunHistoryAdapter());
+
+        List<RunSummary> all = restarted.listRuns(null, null, null, 10);
+        List<RunSummary> filtered = restarted.listRuns("sched-1", null, null, 10);
+        Optional<RunDetail> detail = restarted.getRun("run-1");
+
+        assertEquals(List.of("run-2", "run-1"), all.stream().map(RunSummary::runId).toList());
+        assertEquals(1, filtered.size());
+        assertEquals(2, filtered.get(0).messageCount());
+        assertTrue(detail.isPresent());
+        assertEquals(2, detail.get().messages().size());
+        assertFalse(restarted.getRun("missing").isPresent());
+        verify(restartedSessionPort, never()).listAll();
+        verify(restartedSessionPort, never()).get(anyString());
+    }
+
+    @Test
+    void shouldIndexRecordedRunFromItsSessionOnly() {
+        when(sessionPort.listAll()).thenReturn(List.of());
+        assertTrue(service.listRuns(null, null, null, 10).isEmpty());
+
+        Message trigger = runMessage("m1", "user", "run-1", "sched-1", Instant.parse("2026-03-11T10:00:00Z"));
+        AgentSession session = runSession("web:conv-1", "conv-1", new ArrayList<>(List.of(
+                trigger,
+                runMessage("m2", "assistant", "run-1", "sched-1", Instant.parse("2026-03-11T10:00:05Z")),
+                runMessage("m3", "user", "run-0", "sched-1", Instant.parse("2026-03-11T09:00:00Z")))));
+        when(sessionPort.get("web:conv-1")).thenReturn(Optional.of(session));
+
+        service.recordRun(trigger);
+
+        List<RunSummary> runs = service.listRuns(null, null, null, 10);
+        assertEquals(1, runs.size());
+        assertEquals("run-1", runs.get(0).runId());
+        assertEquals(2, runs.get(0).messageCount());
+        assertEquals(2, createService().getRun("run-1").orElseThrow().messages().size());
+        verify(sessionPort).listAll();
+        verify(sessionPort, never()).getOrCreate(anyString(), anyString());
+    }
+
+    @Test
+    void shouldListSubmittedRunUntilItCompletes() {
+        when(sessionPort.listAll()).thenReturn(List.of());
+        when(sessionPort.get("web:conv-1")).thenReturn(Optional.empty());
+        Message trigger = runMessage("m1", "user", "run-1", "sched-1", Instant.parse("2026-03-11T10:00:00Z"));
+
+        service.recordRunStarted(trigger);
+
+        RunSummary started = service.listRuns(null, null, null, 10).getFirst();
+        assertEquals("run-1", started.runId());
+        assertEquals("STARTED", started.status());
+        assertEquals("web:conv-1", started.sessionId());
+
+        AgentSession session = runSession("web:conv-1", "conv-1", new ArrayList<>(List.of(
+                trigger,
+                runMessage("m2", "assistant", "run-1", "sched-1", Instant.parse("2026-03-11T10:00:05Z")))));
+        when(sessionPort.get("web:conv-1")).thenReturn(Optional.of(session));
+        service.recordRun(trigger);
+        service.recordRunStarted(trigger);
+
+        RunSummary completed = createService().listRuns(null, null, null, 10).getFirst();
+        assertEquals("COMPLETED", completed.status());
+        assertEquals(2, completed.messageCount());
+    }
+
+    @Test
+    void shouldSkipRecordedRunWhenSessionNoLongerExists() {
+        when(sessionPort.listAll()).thenReturn(List.of());
+        when(sessionPort.get("web:conv-1")).thenReturn(Optional.empty());
+
+        service.recordRun(runMessage("m1", "user", "run-1", "sched-1", Instant.parse("2026-03-11T10:00:00Z")));
+
+        assertTrue(service.listRuns(null, null, null, 10).isEmpty());
+        verify(sessionPort, never()).getOrCreate(anyString(), anyString());
+    }
+
+    @Test
+    void shouldDropRunsMissingFromSessionsOnRebuild() {
+        AgentSession session = runSession("web:conv-1", "conv-1", new ArrayList<>(List.of(
+                runMessage("m1", "user", "run-1", "sched-1", Instant.parse("2026-03-11T10:00:00Z")))));
+        when(sessionPort.listAll()).thenReturn(List.of(session));
+        assertEquals(1, service.rebuildIndex());
+
+        when(sessionPort.listAll()).thenReturn(List.of());
+
+        assertEquals(0, service.rebuildIndex());
+        assertTrue(service.listRuns(null, null, null, 10).isEmpty());
+        assertFalse(service.getRun("run-1").isPresent());
+        assertFalse(files.containsKey("auto/run-history/runs/run-1.json"));
+    }
+
+    private static AgentSession runSession(String sessionId, String chatId, List<Message> messages) {
+        return AgentSession.builder()
+                .id(sessionId)
+                .channelType("web")
+                .chatId(chatId)
+                .messages(messages)
+                .build();
+    }
+
+    private static Message runMessage(String id, String role, String runId, String scheduleId, Instant timestamp) {
+        return Message.builder()
+                .id(id)
+                .role(role)
+                .content(role + " " + runId)
+                .channelType("web")
+                .chatId("conv-1")
+                .timestamp(timestamp)
+                .metadata(Map.of(
+                        ContextAttributes.AUTO_MODE, true,
+                        ContextAttributes.AUTO_RUN_ID, runId,
+                        ContextAttributes.AUTO_SCHEDULE_ID, scheduleId))
+                .build();
+    }
 }
@@ -51,6 +51,12 @@ class CompactionOrchestrationServiceTest {
     @Mock
     private CompactionService compactionService;
 
+    @Mock
+    private SpeculativeCompactionService speculativeCompactionService;
+
+    @Mock
+    private HierarchicalSummaryService hierarchicalSummaryService;
+
     @Mock
     private RuntimeConfigService runtimeConfigService;
 
@@ -64,6 +70,8 @@ class CompactionOrchestrationServiceTest {
                 preparationService,
                 detailsExtractor,
                 compactionService,
+                speculativeCompactionService,
+                hierarchicalSummaryService,
                 runtimeConfigService,
                 clock);
     }
@@ -250,6 +258,179 @@ class CompactionOrchestrationServiceTest {
         assertEquals("s2", sessionCaptor.getValue().getId());
     }
 
+    @Test
+    void shouldReuseSpeculativeSummaryAndSummarizeOnlyUncoveredTail() {
+        Message m1 = user("u1");
+        Message m2 = assistant("a1");
+        Message m3 = user("u2");
+        Message m4 = assistant("a2");
+        Message m5 = user("u3");
+        AgentSession session = sessionWithMessages("s-spec", List.of(m1, m2, m3, m4, m5));
+        when(sessionPort.get("s-spec")).thenReturn(Optional.of(session));
+        when(runtimeConfigService.isCompactionPreserveTurnBoundariesEnabled()).thenReturn(true);
+        when(runtimeConfigService.getCompactionDetailsMaxItemsPerCategory()).thenReturn(10);
+        when(runtimeConfigService.isCompactionDetailsEnabled()).thenReturn(false);
+
+        CompactionPreparation preparation = CompactionPreparation.builder()
+                .sessionId("s-spec")
+                .reason(CompactionReason.AUTO_THRESHOLD)
+                .messagesToCompact(List.of(m1, m2, m3, m4))
+                .messagesToKeep(List.of(m5))
+                .splitTurnDetected(false)
+                .build();
+        when(preparationService.prepare("s-spec", session.getMessages(), 1, CompactionReason.AUTO_THRESHOLD, true))
+                .thenReturn(preparation);
+        when(speculativeCompactionService.claim("s-spec", List.of(m1, m2, m3, m4)))
+                .thenReturn(Optional.of(new SpeculativeCompactionService.PrecomputedSummary(
+                        List.of(m1, m2), "early", Instant.parse("2026-03-01T00:00:00Z"))));
+        when(compactionService.summarize(List.of(m3, m4))).thenReturn("tail");
+        Message summaryMessage = Message.builder()
+                .role("system")
+                .content("[Conversation summary]\nearly\n\ntail")
+                .build();
+        when(compactionService.createSummaryMessage("early\n\ntail")).thenReturn(summaryMessage);
+        when(detailsExtractor.extract(eq(CompactionReason.AUTO_THRESHOLD), eq(List.of(m1, m2, m3, m4)), eq(4),
+                eq(1), eq(true), eq(11), eq(false), eq(false), eq(0L), eq(10)))
+                .thenReturn(CompactionDetails.builder().reason(CompactionReason.AUTO_THRESHOLD).build());
+
+        CompactionResult result = service.compact("s-spec", CompactionReason.AUTO_THRESHOLD, 1);
+
+        assertEquals(4, result.removed());
+        assertTrue(result.usedSummary());
+        assertEquals(List.of(summaryMessage, m5), session.getMessages());
+        verify(compactionService, never()).summarize(List.of(m1, m2, m3, m4));
+    }
+
+    @Test
+    void shouldSummarizeOnlyNewMessagesIntoSummaryTreeWhenHierarchical() {
+        Message previousSummary = Message.builder()
+                .role("system")
+                .content("[Conversation summary]\nolder")
+                .metadata(new LinkedHashMap<>(Map.of(HierarchicalSummaryService.SUMMARY_TREE_METADATA_KEY, true)))
+                .build();
+        Message m1 = user("u1");
+        Message m2 = assistant("a1");
+        Message m3 = user("u2");
+        AgentSession session = sessionWithMessages("s-tree", List.of(previousSummary, m1, m2, m3));
+        when(sessionPort.get("s-tree")).thenReturn(Optional.of(session));
+        when(hierarchicalSummaryService.isEnabled()).thenReturn(true);
+        when(runtimeConfigService.isCompactionPreserveTurnBoundariesEnabled()).thenReturn(true);
+        when(runtimeConfigService.getCompactionDetailsMaxItemsPerCategory()).thenReturn(10);
+        when(runtimeConfigService.isCompactionDetailsEnabled()).thenReturn(false);
+
+        CompactionPreparation preparation = CompactionPreparation.builder()
+                .sessionId("s-tree")
+                .reason(CompactionReason.AUTO_THRESHOLD)
+                .messagesToCompact(List.of(previousSummary, m1, m2))
+                .messagesToKeep(List.of(m3))
+                .splitTurnDetected(false)
+                .build();
+        when(preparationService.prepare("s-tree", session.getMessages(), 1, CompactionReason.AUTO_THRESHOLD, true))
+                .thenReturn(preparation);
+        when(speculativeCompactionService.claim("s-tree", List.of(m1, m2))).thenReturn(Optional.empty());
+        when(compactionService.summarize(List.of(m1, m2))).thenReturn("leaf");
+        when(hierarchicalSummaryService.appendSegment("s-tree", List.of(m1, m2), "leaf"))
+                .thenReturn("[Segment seg-1]\nolder\n\n[Segment seg-2]\nleaf");
+        Message summaryMessage = Message.builder()
+                .role("system")
+                .content("[Conversation summary]\n[Segment seg-1]\nolder\n\n[Segment seg-2]\nleaf")
+                .build();
+        when(compactionService.createSummaryMessage("[Segment seg-1]\nolder\n\n[Segment seg-2]\nleaf"))
+                .thenReturn(summaryMessage);
+        when(detailsExtractor.extract(any(), any(), eq(3), eq(1), eq(true), any(Integer.class), eq(false),
+                eq(false), eq(0L), eq(10)))
+                .thenReturn(CompactionDetails.builder().reason(CompactionReason.AUTO_THRESHOLD).build());
+
+        CompactionResult result = service.compact("s-tree", CompactionReason.AUTO_THRESHOLD, 1);
+
+        assertTrue(result.usedSummary());
+        assertEquals(List.of(summaryMessage, m3), session.getMessages());
+        assertTrue(HierarchicalSummaryService.isTreeSummaryMessage(summaryMessage));
+        verify(compactionService, never()).summarize(List.of(previousSummary, m1, m2));
+    }
+
+    @Test
+    void shouldFallBackToFlatSummaryWhenSummaryTreeCannotBeStored() {
+        Message m1 = user("u1");
+        Message m2 = assistant("a1");
+        Message m3 = user("u2");
+        AgentSession session = sessionWithMessages("s-tree-fail", List.of(m1, m2, m3));
+        when(sessionPort.get("s-tree-fail")).thenReturn(Optional.of(session));
+        when(hierarchicalSummaryService.isEnabled()).thenReturn(true);
+        when(runtimeConfigService.isCompactionPreserveTurnBoundariesEnabled()).thenReturn(true);
+        when(runtimeConfigService.getCompactionDetailsMaxItemsPerCategory()).thenReturn(10);
+        when(runtimeConfigService.isCompactionDetailsEnabled()).thenReturn(false);
+
+        CompactionPreparation preparation = CompactionPreparation.builder()
+                .sessionId("s-tree-fail")
+                .reason(CompactionReason.AUTO_THRESHOLD)
+                .messagesToCompact(List.of(m1, m2))
+                .messagesToKeep(List.of(m3))
+                .splitTurnDetected(false)
+                .build();
+        when(preparationService.prepare("s-tree-fail", session.getMessages(), 1, CompactionReason.AUTO_THRESHOLD,
+                true)).thenReturn(preparation);
+        when(speculativeCompactionService.claim("s-tree-fail", List.of(m1, m2))).thenReturn(Optional.empty());
+        when(compactionService.summarize(List.of(m1, m2))).thenReturn("leaf");
+        when(hierarchicalSummaryService.appendSegment("s-tree-fail", List.of(m1, m2), "leaf"))
+                .thenThrow(new IllegalStateException("disk full"));
+        Message summaryMessage = Message.builder().role("system").content("[Conversation summary]\nleaf").build();
+        when(compactionService.createSummaryMessage("leaf")).thenReturn(summaryMessage);
+        when(detailsExtractor.extract(any(), any(), eq(2), eq(1), eq(true), eq(4), eq(false), eq(false), eq(0L),
+                eq(10))).thenReturn(CompactionDetails.builder().reason(CompactionReason.AUTO_THRESHOLD).build());
+
+        CompactionResult result = service.compact("s-tree-fail", CompactionReason.AUTO_THRESHOLD, 1);
+
+        assertTrue(result.usedSummary());
+        assertEquals(List.of(summaryMessage, m3), session.getMessages());
+        assertFalse(HierarchicalSummaryService.isTreeSummaryMessage(summaryMessage));
+    }
+
+    @Test
+    void shouldKeepPriorTreeSummaryWhenSummaryTreeCannotBeStored() {
+        Message previousSummary = Message.builder()
+                .role("system")
+                .content("[Conversation summary]\nolder")
+                .metadata(new LinkedHashMap<>(Map.of(HierarchicalSummaryService.SUMMARY_TREE_METADATA_KEY, true)))
+                .build();
+        Message m1 = user("u1");
+        Message m2 = assistant("a1");
+        Message m3 = user("u2");
+        AgentSession session = sessionWithMessages("s-tree-keep", List.of(previousSummary, m1, m2, m3));
+        when(sessionPort.get("s-tree-keep")).thenReturn(Optional.of(session));
+        when(hierarchicalSummaryService.isEnabled()).thenReturn(true);
+        when(runtimeConfigService.isCompactionPreserveTurnBoundariesEnabled()).thenReturn(true);
+        when(runtimeConfigService.getCompactionDetailsMaxItemsPerCategory()).thenReturn(10);
+        when(runtimeConfigService.isCompactionDetailsEnabled()).thenReturn(false);
+
+        CompactionPreparation preparation = CompactionPreparation.builder()
+                .sessionId("s-tree-keep")
+                .reason(CompactionReason.AUTO_THRESHOLD)
+                .messagesToCompact(List.of(previousSummary, m1, m2))
+                .messagesToKeep(List.of(m3))
+                .splitTurnDetected(false)
+                .build();
+        when(preparationService.prepare("s-tree-keep", session.getMessages(), 1, CompactionReason.AUTO_THRESHOLD,
+                true)).thenReturn(preparation);
+        when(speculativeCompactionService.claim("s-tree-keep", List.of(m1, m2))).thenReturn(Optional.empty());
+        when(compactionService.summarize(List.of(m1, m2))).thenReturn("leaf");
+        when(compactionService.extractSummaryText(previousSummary)).thenReturn("older");
+        when(hierarchicalSummaryService.appendSegment("s-tree-keep", List.of(m1, m2), "leaf"))
+                .thenThrow(new IllegalStateException("disk full"));
+        Message summaryMessage = Message.builder().role("system").content("[Conversation summary]\nolder\n\nleaf")
+                .build();
+        when(compactionService.createSummaryMessage("older\n\nleaf")).thenReturn(summaryMessage);
+        when(detailsExtractor.extract(any(), any(), eq(3), eq(1), eq(true), any(Integer.class), eq(false),
+                eq(false), eq(0L), eq(10)))
+                .thenReturn(CompactionDetails.builder().reason(CompactionReason.AUTO_THRESHOLD).build());
+
+        CompactionResult result = service.compact("s-tree-keep", CompactionReason.AUTO_THRESHOLD, 1);
+
+        assertTrue(result.usedSummary());
+        assertEquals(List.of(summaryMessage, m3), session.getMessages());
+        assertFalse(HierarchicalSummaryService.isTreeSummaryMessage(summaryMessage));
+    }
+
     @Test
     void shouldCompactWhenSessionHistoryListIsImmutable() {
         Message m1 = user("u1");
@@ -0,0 +1,239 @@
+package me.golemcore.bot.domain.context.compaction;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import me.golemcore.bot.adapter.outbound.compaction.JacksonCompactionSummaryCodecAdapter;
+import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
+import me.golemcore.bot.port.outbound.StoragePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HierarchicalSummaryServiceTest {
+
+    private final Map<String, String> files = new ConcurrentHashMap<>();
+    private CompactionService compactionService;
+    private HierarchicalSummaryService service;
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        StoragePort storagePort = mock(StoragePort.class);
+        when(storagePort.putTextAtomic(anyString(), anyString(), anyString(), anyBoolean())).thenAnswer(invocation -> {
+            files.put(invocation.getArgument(0) + "/" + invocation.getArgument(1), invocation.getArgument(2));
+            return CompletableFuture.completedFuture(null);
+        });
+        when(storagePort.getText(anyString(), anyString())).thenAnswer(invocation -> CompletableFuture
+                .completedFuture(files.get(invocation.getArgument(0) + "/" + invocation.getArgument(1))));
+        when(storagePort.listObjects(anyString(), anyString())).thenAnswer(invocation -> {
+            String prefix = invocation.getArgument(0) + "/";
+            String sessionPrefix = prefix + invocation.getArgument(1) + "/";
+            return CompletableFuture.completedFuture(files.keySet().stream()
+                    .filter(key -> key.startsWith(sessionPrefix))
+                    .map(key -> key.substring(prefix.length()))
+                    .toList());
+        });
+        when(storagePort.deleteObject(anyString(), anyString())).thenAnswer(invocation -> {
+            files.remove(invocation.getArgument(0) + "/" + invocation.getArgument(1));
+            return CompletableFuture.completedFuture(null);
+        });
+        compactionService = mock(CompactionService.class);
+        RuntimeConfigService runtimeConfigService = mock(RuntimeConfigService.class);
+        when(runtimeConfigService.getCompactionHierarchyFanout()).thenReturn(2);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        service = new HierarchicalSummaryService(storagePort, new JacksonCompactionSummaryCodecAdapter(objectMapper),
+                compactionService, runtimeConfigService,
+                Clock.fixed(Instant.parse("2026-03-01T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldArchiveLeafAndRenderItAsRoot() {
+        String rendered = service.appendSegment("web:1", List.of(user("u1"), assistant("a1")), "first");
+
+        assertTrue(rendered.contains("[Segment seg-1, 2 messages]\nfirst"));
+        CompactionSummaryTree tree = service.loadTree("web:1").orElseThrow();
+        assertEquals(1, tree.roots().size());
+        verify(compactionService, never()).mergeSummaries(any());
+    }
+
+    @Test
+    void shouldMergeRootsOnceLevelReachesFanout() {
+        when(compactionService.mergeSummaries(List.of("first", "second"))).thenReturn("merged");
+
+        service.appendSegment("web:1", List.of(user("u1")), "first");
+        String beforeMerge = service.appendSegment("web:1", List.of(user("u2"), assistant("a2")), "second");
+        service.pendingMerge("web:1").join();
+        String rendered = service.renderCurrent("web:1").orElseThrow();
+
+        assertTrue(beforeMerge.contains("first"));
+        assertTrue(beforeMerge.contains("second"));
+        CompactionSummaryTree tree = service.loadTree("web:1").orElseThrow();
+        assertEquals(1, tree.roots().size());
+        CompactionSummaryTree.Segment root = tree.roots().getFirst();
+        assertEquals(1, root.getLevel());
+        assertEquals(3, root.getMessageCount());
+        assertEquals(List.of("seg-1", "seg-2"), root.getChildIds());
+        assertTrue(rendered.contains("merged"));
+        assertFalse(rendered.contains("first"));
+    }
+
+    @Test
+    void shouldCascadeMergesAndKeepRootsInConversationOrder() {
+        when(compactionService.mergeSummaries(any())).thenAnswer(invocation -> {
+            List<String> summaries = invocation.getArgument(0);
+            return String.join("+", summaries);
+        });
+
+        for (int index = 1; index <= 5; index++) {
+            service.appendSegment("web:1", List.of(user("u" + index)), "s" + index);
+            service.pendingMerge("web:1").join();
+        }
+        String rendered = service.renderCurrent("web:1").orElseThrow();
+
+        CompactionSummaryTree tree = service.loadTree("web:1").orElseThrow();
+        List<CompactionSummaryTree.Segment> roots = tree.roots();
+        assertEquals(2, roots.size());
+        assertTrue(rendered.indexOf("s1+s2+s3+s4") < rendered.indexOf("s5"));
+        verify(compactionService, times(3)).mergeSummaries(any());
+    }
+
+    @Test
+    void shouldKeepRootsWhenMergeFails() {
+        when(compactionService.mergeSummaries(any())).thenReturn(null);
+
+        service.appendSegment("web:1", List.of(user("u1")), "first");
+        String rendered = service.appendSegment("web:1", List.of(user("u2")), "second");
+        service.pendingMerge("web:1").join();
+
+        assertEquals(2, service.loadTree("web:1").orElseThrow().roots().size());
+        assertTrue(rendered.contains("first"));
+        assertTrue(rendered.contains("second"));
+    }
+
+    @Test
+    void shouldExpandLeafToArchivedMessagesAndParentToChildren() {
+        when(compactionService.mergeSummaries(any())).thenReturn("merged");
+        service.appendSegment("web:1", List.of(user("u1"), assistant("a1")), "first");
+        service.appendSegment("web:1", List.of(user("u2")), "second");
+        service.pendingMerge("web:1").join();
+
+        Optional<HierarchicalSummaryService.SegmentExpansion> leaf = service.expand("web:1", "seg-1");
+        Optional<HierarchicalSummaryService.SegmentExpansion> parent = service.expand("web:1", "seg-3");
+
+        assertTrue(leaf.isPresent());
+        assertEquals(List.of("u1", "a1"), leaf.get().messages().stream().map(Message::getContent).toList());
+        assertTrue(parent.isPresent());
+        assertEquals(List.of("first", "second"),
+                parent.get().children().stream().map(CompactionSummaryTree.Segment::getSummary).toList());
+        assertTrue(service.expand("web:1", "seg-9").isEmpty());
+        assertTrue(service.expand("web:2", "seg-1").isEmpty());
+    }
+
+    @Test
+    void shouldNotHoldSessionLockWhileMerging() throws InterruptedException {
+        CountDownLatch mergeStarted = new CountDownLatch(1);
+        CountDownLatch releaseMerge = new CountDownLatch(1);
+        when(compactionService.mergeSummaries(any())).thenAnswer(invocation -> {
+            mergeStarted.countDown();
+            releaseMerge.await(5, TimeUnit.SECONDS);
+            return "merged";
+        });
+
+        service.appendSegment("web:1", List.of(user("u1")), "first");
+        service.appendSegment("web:1", List.of(user("u2")), "second");
+        assertTrue(mergeStarted.await(5, TimeUnit.SECONDS));
+        String rendered = service.appendSegment("web:1", List.of(user("u3")), "third");
+        releaseMerge.countDown();
+        service.pendingMerge("web:1").join();
+
+        assertTrue(rendered.contains("third"));
+        CompactionSummaryTree tree = service.loadTree("web:1").orElseThrow();
+        assertEquals(List.of("seg-3", "seg-4"),
+                tree.roots().stream().map(CompactionSummaryTree.Segment::getId).toList());
+    }
+
+    @Test
+    void shouldDeleteTreeAndArchivedSegmentsWithSession() {
+        service.appendSegment("web:1", List.of(user("u1")), "first");
+        service.appendSegment("web:2", List.of(user("u2")), "other");
+
+        service.deleteSessionData("web:1");
+
+        assertTrue(service.loadTree("web:1").isEmpty());
+        assertTrue(service.expand("web:1", "seg-1").isEmpty());
+        assertTrue(files.keySet().stream().noneMatch(key -> key.startsWith("compaction-summaries/web:1/")));
+        assertTrue(service.loadTree("web:2").isPresent());
+    }
+
+    @Test
+    void shouldClearTreeWhenSessionHistoryIsClearedAndStartOver() {
+        service.appendSegment("web:1", List.of(user("u1")), "before reset");
+
+        service.clearSessionHistory("web:1");
+
+        assertTrue(service.loadTree("web:1").isEmpty());
+        assertTrue(service.renderCurrent("web:1").isEmpty());
+        String rendered = service.appendSegment("web:1", List.of(user("u2")), "after reset");
+        assertTrue(rendered.contains("after reset"));
+        assertFalse(rendered.contains("before reset"));
+    }
+
+    @Test
+    void shouldDetectLeadingTreeSummaryMessages() {
+        Message treeSummary = Message.builder()
+                .role("system")
+                .content("[Conversation summary]\nx")
+                .metadata(Map.of(HierarchicalSummaryService.SUMMARY_TREE_METADATA_KEY, true))
+                .build();
+
+        assertEquals(1, HierarchicalSummaryService.countLeadingTreeSummaries(List.of(treeSummary, user("u1"))));
+        assertEquals(0, HierarchicalSummaryService.countLeadingTreeSummaries(List.of(user("u1"), treeSummary)));
+    }
+
+    private Message user(String content) {
+        return Message.builder()
+                .role("user")
+                .content(content)
+                .timestamp(Instant.parse("2026-03-01T00:00:00Z"))
+                .build();
+    }
+
+    private Message assistant(String content) {
+        return Message.builder()
+                .role("assistant")
+                .content(content)
+                .timestamp(Instant.parse("2026-03-01T00:00:00Z"))
+                .build();
+    }
+}
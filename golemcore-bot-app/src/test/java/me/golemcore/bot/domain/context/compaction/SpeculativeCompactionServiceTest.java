@@ -0,0 +1,134 @@
+package me.golemcore.bot.domain.context.compaction;
+
+import me.golemcore.bot.domain.model.AgentSession;
+import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SpeculativeCompactionServiceTest {
+
+    private CompactionService compactionService;
+    private SpeculativeCompactionService service;
+
+    @BeforeEach
+    void setUp() {
+        compactionService = mock(CompactionService.class);
+        RuntimeConfigService runtimeConfigService = mock(RuntimeConfigService.class);
+        when(runtimeConfigService.isCompactionPreserveTurnBoundariesEnabled()).thenReturn(true);
+        service = new SpeculativeCompactionService(
+                new CompactionPreparationService(),
+                compactionService,
+                runtimeConfigService,
+                Clock.fixed(Instant.parse("2026-03-01T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void shouldPrecomputeSummaryForMessagesOutsideKeepWindow() {
+        AgentSession session = sessionWithMessages("s1", 6);
+        List<Message> expectedCovered = new ArrayList<>(session.getMessages().subList(0, 4));
+        when(compactionService.summarize(expectedCovered)).thenReturn("early summary");
+
+        service.speculate(session, 2).join();
+        Optional<SpeculativeCompactionService.PrecomputedSummary> claimed = service.claim("s1", expectedCovered);
+
+        assertTrue(claimed.isPresent());
+        assertEquals("early summary", claimed.get().summary());
+        assertEquals(expectedCovered, claimed.get().coveredMessages());
+    }
+
+    @Test
+    void shouldClaimSummaryOnlyOnce() {
+        AgentSession session = sessionWithMessages("s1", 6);
+        when(compactionService.summarize(any())).thenReturn("early summary");
+        service.speculate(session, 2).join();
+        List<Message> toCompact = session.getMessages().subList(0, 4);
+
+        assertTrue(service.claim("s1", toCompact).isPresent());
+        assertTrue(service.claim("s1", toCompact).isEmpty());
+    }
+
+    @Test
+    void shouldDiscardSummaryWhenHistoryNoLongerStartsWithSnapshot() {
+        AgentSession session = sessionWithMessages("s1", 6);
+        when(compactionService.summarize(any())).thenReturn("early summary");
+        service.speculate(session, 2).join();
+
+        List<Message> rewritten = List.of(message("system", "[Conversation summary]\nolder"), message("user", "u9"));
+
+        assertTrue(service.claim("s1", rewritten).isEmpty());
+    }
+
+    @Test
+    void shouldNotRefreshWhenExistingSummaryIsStillFresh() {
+        AgentSession session = sessionWithMessages("s1", 6);
+        when(compactionService.summarize(any())).thenReturn("early summary");
+        service.speculate(session, 2).join();
+
+        session.addMessage(message("user", "u-extra"));
+        service.speculate(session, 2).join();
+
+        verify(compactionService, times(1)).summarize(any());
+    }
+
+    @Test
+    void shouldSkipWhenNothingWouldBeCompacted() {
+        AgentSession session = sessionWithMessages("s1", 2);
+
+        service.speculate(session, 5).join();
+
+        verify(compactionService, never()).summarize(any());
+        assertTrue(service.claim("s1", session.getMessages()).isEmpty());
+    }
+
+    @Test
+    void shouldNotStoreBlankSummary() {
+        AgentSession session = sessionWithMessages("s1", 6);
+        when(compactionService.summarize(any())).thenReturn(" ");
+
+        service.speculate(session, 2).join();
+
+        assertTrue(service.claim("s1", session.getMessages().subList(0, 4)).isEmpty());
+    }
+
+    private AgentSession sessionWithMessages(String id, int count) {
+        List<Message> messages = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            messages.add(message(index % 2 == 0 ? "user" : "assistant", "m" + index));
+        }
+        return AgentSession.builder()
+                .id(id)
+                .messages(messages)
+                .build();
+    }
+
+    private Message message(String role, String content) {
+        return Message.builder()
+                .role(role)
+                .content(content)
+                .timestamp(Instant.parse("2026-03-01T00:00:00Z"))
+                .build();
+    }
+}
@@ -4,10 +4,13 @@ import me.golemcore.bot.domain.context.ContextLayerResult;
 import me.golemcore.bot.domain.model.AgentContext;
 import me.golemcore.bot.domain.model.ContextAttributes;
 import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.domain.rag.RagQueryCache;
+import me.golemcore.bot.domain.rag.RagQueryCacheSettings;
 import me.golemcore.bot.port.outbound.RagPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -16,6 +19,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class RagLayerTest {
@@ -26,7 +31,7 @@ class RagLayerTest {
     @BeforeEach
     void setUp() {
         ragPort = mock(RagPort.class);
-        layer = new RagLayer(ragPort);
+        layer = new RagLayer(ragPort, RagQueryCache.disabled());
     }
 
     @Test
@@ -79,6 +84,26 @@ class RagLayerTest {
         assertFalse(result.hasContent());
     }
 
+    @Test
+    void shouldServeRepeatedQuestionFromCache() {
+        RagLayer cachedLayer = new RagLayer(ragPort,
+                new RagQueryCache(RagQueryCacheSettings.defaults(), null, Clock.systemUTC()));
+        when(ragPort.isAvailable()).thenReturn(true);
+        when(ragPort.query(any())).thenReturn(CompletableFuture.completedFuture("rag content"));
+
+        cachedLayer.assemble(AgentContext.builder()
+                .messages(List.of(Message.builder().role("user").content("How do I use streams?").build()))
+                .build());
+        AgentContext repeated = AgentContext.builder()
+                .messages(List.of(Message.builder().role("user").content("how do I use streams").build()))
+                .build();
+        ContextLayerResult result = cachedLayer.assemble(repeated);
+
+        assertTrue(result.getContent().contains("rag content"));
+        assertEquals("rag content", repeated.getAttribute(ContextAttributes.RAG_CONTEXT));
+        verify(ragPort, times(1)).query(any());
+    }
+
     @Test
     void shouldHaveCorrectNameAndOrder() {
         assertEquals("rag", layer.getName());
@@ -0,0 +1,208 @@
+package me.golemcore.bot.domain.rag;
+
+import me.golemcore.bot.port.outbound.RagPort;
+import me.golemcore.bot.port.outbound.StoragePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RagIngestionQueueTest {
+
+    private final Map<String, String> files = new ConcurrentHashMap<>();
+    private final List<CompletableFuture<Void>> ingests = new CopyOnWriteArrayList<>();
+    private RagPort ragPort;
+    private StoragePort storagePort;
+    private RagQueryCache queryCache;
+    private MutableClock clock;
+    private RagIngestionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        ragPort = mock(RagPort.class);
+        when(ragPort.isAvailable()).thenReturn(true);
+        when(ragPort.index(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+
+        storagePort = mock(StoragePort.class);
+        when(storagePort.putText(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            files.put(invocation.getArgument(0) + "/" + invocation.getArgument(1), invocation.getArgument(2));
+            return CompletableFuture.completedFuture(null);
+        });
+        when(storagePort.getText(anyString(), anyString())).thenAnswer(invocation -> CompletableFuture
+                .completedFuture(files.get(invocation.getArgument(0) + "/" + invocation.getArgument(1))));
+        when(storagePort.deleteObject(anyString(), anyString())).thenAnswer(invocation -> {
+            files.remove(invocation.getArgument(0) + "/" + invocation.getArgument(1));
+            return CompletableFuture.completedFuture(null);
+        });
+        when(storagePort.listObjects(anyString(), anyString())).thenAnswer(invocation -> {
+            String prefix = invocation.getArgument(0) + "/" + invocation.getArgument(1);
+            List<String> paths = new ArrayList<>();
+            for (String key : files.keySet()) {
+                if (key.startsWith(prefix)) {
+                    paths.add(key.substring(((String) invocation.getArgument(0)).length() + 1));
+                }
+            }
+            return CompletableFuture.completedFuture(paths);
+        });
+
+        queryCache = mock(RagQueryCache.class);
+        clock = new MutableClock(Instant.parse("2026-03-01T10:00:00Z"));
+        queue = new RagIngestionQueue(ragPort, storagePort, queryCache, clock);
+    }
+
+    @Test
+    void shouldHoldPartialBatchUntilFlushWindowElapses() {
+        queue.enqueue("User: first question\nAssistant: first answer\n", null);
+        queue.enqueue("User: second question\nAssistant: second answer\n", null);
+
+        queue.tick();
+        verify(ragPort, never()).index(anyString());
+
+        clock.advance(RagIngestionQueue.FLUSH_WINDOW);
+        queue.tick();
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(ragPort).index(captor.capture());
+        assertEquals("User: first question\nAssistant: first answer\n" + RagIngestionQueue.BATCH_SEPARATOR
+                + "User: second question\nAssistant: second answer\n", captor.getValue());
+        assertEquals(2, queue.stats().indexedDocuments());
+        assertTrue(files.isEmpty());
+        verify(queryCache).invalidateAll();
+    }
+
+    @Test
+    void shouldSendFullBatchImmediately() {
+        for (int i = 0; i < RagIngestionQueue.MAX_BATCH_DOCUMENTS; i++) {
+            queue.enqueue("User: question " + i + "\nAssistant: answer " + i + "\n", null);
+        }
+
+        verify(ragPort, times(1)).index(anyString());
+        assertEquals(1, queue.stats().indexedBatches());
+        assertEquals(0, queue.stats().pending());
+    }
+
+    @Test
+    void shouldSkipNearDuplicateExchanges() {
+        assertTrue(queue.enqueue("Date: 2026-03-01 10:00\nUser: Deploy it\n", "Deploy it, please!"));
+        assertFalse(queue.enqueue("Date: 2026-03-01 10:05\nUser: Deploy it\n", "deploy   it please"));
+
+        queue.flush().join();
+
+        verify(ragPort, times(1)).index(anyString());
+        assertEquals(1, queue.stats().deduplicated());
+    }
+
+    @Test
+    void shouldBoundConcurrentBatches() {
+        when(ragPort.index(anyString())).thenAnswer(invocation -> {
+            CompletableFuture<Void> ingest = new CompletableFuture<>();
+            ingests.add(ingest);
+            return ingest;
+        });
+        int documents = RagIngestionQueue.MAX_BATCH_DOCUMENTS * (RagIngestionQueue.MAX_IN_FLIGHT_BATCHES + 1);
+        for (int i = 0; i < documents; i++) {
+            queue.enqueue("User: question " + i + "\nAssistant: answer " + i + "\n", null);
+        }
+
+        assertEquals(RagIngestionQueue.MAX_IN_FLIGHT_BATCHES, ingests.size());
+        assertEquals(RagIngestionQueue.MAX_IN_FLIGHT_BATCHES, queue.stats().inFlightBatches());
+
+        ingests.getFirst().complete(null);
+
+        assertEquals(RagIngestionQueue.MAX_IN_FLIGHT_BATCHES + 1, ingests.size());
+    }
+
+    @Test
+    void shouldKeepFailedBatchAndRetryAfterBackoff() {
+        when(ragPort.index(anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("HTTP 503")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        queue.enqueue("User: question about backups\nAssistant: use snapshots\n", null);
+
+        queue.flush().join();
+        assertEquals(1, queue.stats().pending());
+        assertEquals(1, queue.stats().failedBatches());
+        assertEquals(1, files.size());
+        verify(queryCache, never()).invalidateAll();
+
+        queue.flush().join();
+        verify(ragPort, times(1)).index(anyString());
+
+        clock.advance(RagIngestionQueue.RETRY_BASE_DELAY);
+        queue.flush().join();
+
+        verify(ragPort, times(2)).index(anyString());
+        assertEquals(0, queue.stats().pending());
+        assertTrue(files.isEmpty());
+    }
+
+    @Test
+    void shouldRecoverPendingDocumentsAfterRestart() {
+        when(ragPort.isAvailable()).thenReturn(false);
+        queue.enqueue("User: first question\nAssistant: first answer\n", "first");
+        clock.advance(Duration.ofMillis(1));
+        queue.enqueue("User: second question\nAssistant: second answer\n", "second");
+        assertEquals(2, files.size());
+
+        when(ragPort.isAvailable()).thenReturn(true);
+        RagIngestionQueue restarted = new RagIngestionQueue(ragPort, storagePort, queryCache, clock);
+        assertEquals(2, restarted.recover());
+        assertFalse(restarted.enqueue("User: first question again\nAssistant: first answer\n", "first"));
+
+        restarted.tick();
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(ragPort).index(captor.capture());
+        assertTrue(captor.getValue().indexOf("first question") < captor.getValue().indexOf("second question"));
+        assertTrue(files.isEmpty());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package me.golemcore.bot.domain.rag;
+
+import me.golemcore.bot.port.outbound.EmbeddingClientResolverPort;
+import me.golemcore.bot.port.outbound.EmbeddingPort;
+import me.golemcore.bot.port.outbound.RagQueryCacheStatsPort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RagQueryCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-01T10:00:00Z"));
+
+    @Test
+    void shouldServeNormalizedRepeatFromCache() {
+        RagQueryCache cache = new RagQueryCache(RagQueryCacheSettings.defaults(), null, clock);
+
+        assertEquals("answer 1", cache.getOrLoad("How do I rotate logs?", null, this::load));
+        assertEquals("answer 1", cache.getOrLoad("  how do i ROTATE logs ", null, this::load));
+
+        assertEquals(1, loads.get());
+        RagQueryCacheStatsPort.Stats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.entries());
+    }
+
+    @Test
+    void shouldKeySeparateEntriesByMode() {
+        RagQueryCache cache = new RagQueryCache(RagQueryCacheSettings.defaults(), null, clock);
+
+        cache.getOrLoad("How do I rotate logs?", "local", this::load);
+        assertEquals("answer 2", cache.getOrLoad("How do I rotate logs?", "global", this::load));
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        RagQueryCache cache = new RagQueryCache(RagQueryCacheSettings.defaults(), null, clock);
+        cache.getOrLoad("How do I rotate logs?", null, this::load);
+
+        clock.advance(Duration.ofMinutes(10));
+
+        assertEquals("answer 2", cache.getOrLoad("How do I rotate logs?", null, this::load));
+        assertEquals(1, cache.stats().expirations());
+    }
+
+    @Test
+    void shouldDropEntriesOnInvalidation() {
+        RagQueryCache cache = new RagQueryCache(RagQueryCacheSettings.defaults(), null, clock);
+        cache.getOrLoad("How do I rotate logs?", null, this::load);
+
+        cache.invalidateAll();
+
+        assertEquals("answer 2", cache.getOrLoad("How do I rotate logs?", null, this::load));
+        assertEquals(1, cache.stats().invalidations());
+    }
+
+    @Test
+    void shouldNotStoreResultLoadedAcrossInvalidation() {
+        RagQueryCache cache = new RagQueryCache(RagQueryCacheSettings.defaults(), null, clock);
+
+        cache.getOrLoad("How do I rotate logs?", null, () -> {
+            cache.invalidateAll();
+            return load();
+        });
+
+        assertEquals(0, cache.stats().entries());
+    }
+
+    @Test
+    void shouldNotCacheBlankResults() {
+        RagQueryCache cache = new RagQueryCache(RagQueryCacheSettings.defaults(), null, clock);
+
+        cache.getOrLoad("How do I rotate logs?", null, () -> "");
+        cache.getOrLoad("How do I rotate logs?", null, this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.stats().misses());
+    }
+
+    @Test
+    void shouldServeParaphraseWhenEmbeddingsAreSimilar() {
+        RagQueryCache cache = new RagQueryCache(similaritySettings(), provider -> new TopicEmbeddingClient(), clock);
+
+        assertEquals("answer 1", cache.getOrLoad("How do I rotate logs?", null, this::load));
+        assertEquals("answer 1", cache.getOrLoad("What is the way to rotate the log files", null, this::load));
+        assertEquals("answer 2", cache.getOrLoad("How do I deploy with docker?", null, this::load));
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.stats().similarHits());
+    }
+
+    @Test
+    void shouldFallBackToExactKeysWhenEmbeddingFails() {
+        EmbeddingClientResolverPort failing = provider -> request -> {
+            throw new IllegalStateException("embedding backend down");
+        };
+        RagQueryCache cache = new RagQueryCache(similaritySettings(), failing, clock);
+
+        cache.getOrLoad("How do I rotate logs?", null, this::load);
+        assertEquals("answer 1", cache.getOrLoad("How do I rotate logs?", null, this::load));
+        assertEquals("answer 2", cache.getOrLoad("What is the way to rotate the log files", null, this::load));
+
+        assertEquals(2, cache.stats().embeddingFailures());
+    }
+
+    @Test
+    void shouldBypassCacheWhenDisabled() {
+        RagQueryCache cache = RagQueryCache.disabled();
+
+        cache.getOrLoad("How do I rotate logs?", null, this::load);
+        cache.getOrLoad("How do I rotate logs?", null, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    private String load() {
+        return "answer " + loads.incrementAndGet();
+    }
+
+    private static RagQueryCacheSettings similaritySettings() {
+        return new RagQueryCacheSettings(true, Duration.ofMinutes(10), 256, 0.9,
+                "ollama", "http://localhost:11434", null, "test-embed", null, 1000);
+    }
+
+    /**
+     * Deterministic embeddings: one dimension per topic keyword.
+     */
+    private static final class TopicEmbeddingClient implements EmbeddingPort {
+
+        private static final List<String> TOPICS = List.of("rotate", "log", "deploy", "docker");
+
+        @Override
+        public EmbeddingResponse embed(EmbeddingRequest request) {
+            String text = request.inputs().getFirst().toLowerCase(java.util.Locale.ROOT);
+            float[] vector = new float[TOPICS.size()];
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] = text.contains(TOPICS.get(i)) ? 1.0f : 0.0f;
+            }
+            return new EmbeddingResponse(request.model(), List.of(vector));
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
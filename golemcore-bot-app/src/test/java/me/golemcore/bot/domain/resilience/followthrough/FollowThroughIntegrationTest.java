@@ -19,6 +19,7 @@ import me.golemcore.bot.domain.scheduling.InternalTurnService;
 import me.golemcore.bot.domain.tracing.TraceBudgetService;
 import me.golemcore.bot.domain.tracing.TraceService;
 import me.golemcore.bot.domain.tracing.TraceSnapshotCompressionService;
+import me.golemcore.bot.domain.tracing.TraceSnapshotEncoder;
 import me.golemcore.bot.domain.model.ModelSelectionService;
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.system.FollowThroughSystem;
@@ -88,7 +89,8 @@ class FollowThroughIntegrationTest {
         modelSelectionService = mock(ModelSelectionService.class);
         runtimeConfigService = mock(RuntimeConfigService.class);
         inboundMessageDispatchPort = mock(InboundMessageDispatchPort.class);
-        traceService = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService());
+        traceService = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                new TraceSnapshotEncoder(Runnable::run));
 
         when(modelSelectionService.resolveExplicitTier(MODEL_TIER))
                 .thenReturn(new ModelSelectionService.ModelSelection(MODEL_ID, null));
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.when;
 import me.golemcore.bot.domain.selfevolving.artifact.ArtifactBundleService;
 import me.golemcore.bot.domain.selfevolving.artifact.EvolutionArtifactIdentityService;
 import me.golemcore.bot.domain.selfevolving.tactic.TacticRecordService;
+import me.golemcore.bot.domain.selfevolving.artifact.ArtifactProjectionChangeTracker;
 import me.golemcore.bot.adapter.outbound.selfevolving.JsonArtifactRepositoryAdapter;
 
 class EvolutionCandidateArtifactIdentityTest {
@@ -43,7 +44,8 @@ class EvolutionCandidateArtifactIdentityTest {
         service = new EvolutionCandidateService(
                 mock(TacticRecordService.class),
                 mock(ArtifactBundleService.class),
-                new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(storagePort), clock),
+                new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(storagePort), clock,
+                        new ArtifactProjectionChangeTracker()),
                 new EvolutionCandidateDerivationService(clock),
                 new EvolutionCandidateTacticMaterializer(clock));
     }
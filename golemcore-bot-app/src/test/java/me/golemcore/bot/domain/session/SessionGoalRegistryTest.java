@@ -0,0 +1,206 @@
+package me.golemcore.bot.domain.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import me.golemcore.bot.domain.model.AutoTask;
+import me.golemcore.bot.domain.model.Goal;
+import me.golemcore.bot.port.outbound.StoragePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SessionGoalRegistryTest {
+
+    private static final String SESSION_ID = "session-1";
+    private static final String GOALS_PATH = "session-goals/session-1.json";
+
+    private StoragePort storagePort;
+    private ObjectMapper objectMapper;
+    private MutableClock clock;
+    private SessionGoalRegistry registry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storagePort = mock(StoragePort.class);
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        when(storagePort.getText(eq("auto"), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        when(storagePort.getText("auto", GOALS_PATH)).thenReturn(CompletableFuture.completedFuture(
+                objectMapper.writeValueAsString(List.of(
+                        goal("goal-late", Goal.GoalStatus.ACTIVE, "2026-01-02T00:00:00Z",
+                                task("task-late", AutoTask.TaskStatus.PENDING, 1)),
+                        goal("goal-early", Goal.GoalStatus.ACTIVE, "2026-01-01T00:00:00Z",
+                                task("task-done", AutoTask.TaskStatus.COMPLETED, 1),
+                                task("task-next", AutoTask.TaskStatus.PENDING, 3),
+                                task("task-after", AutoTask.TaskStatus.PENDING, 4)),
+                        goal("goal-done", Goal.GoalStatus.COMPLETED, "2025-12-01T00:00:00Z",
+                                task("task-old", AutoTask.TaskStatus.PENDING, 1))))));
+        when(storagePort.putTextAtomic(eq("auto"), anyString(), anyString(), eq(true)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(storagePort.deleteObject(eq("auto"), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        clock = new MutableClock(Instant.parse("2026-03-01T00:00:00Z"));
+        registry = new SessionGoalRegistry(new SessionGoalStorageService(storagePort, objectMapper), clock);
+    }
+
+    @Test
+    void shouldServeReadsWithoutStorageIoAfterFirstLoad() {
+        assertEquals(3, registry.getGoals(SESSION_ID).size());
+        verify(storagePort).getText("auto", GOALS_PATH);
+        clearInvocations(storagePort);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(3, registry.getGoals(SESSION_ID).size());
+            assertEquals(2, registry.getGoalsByStatus(SESSION_ID, Goal.GoalStatus.ACTIVE).size());
+            assertEquals("goal-early", registry.getGoal(SESSION_ID, "goal-early").orElseThrow().getId());
+            assertEquals("goal-late", registry.findGoalForTask(SESSION_ID, "task-late").orElseThrow().getId());
+            assertEquals("task-next", registry.getNextPendingTask(SESSION_ID).orElseThrow().getId());
+        }
+
+        verifyNoInteractions(storagePort);
+    }
+
+    @Test
+    void shouldIndexGoalsAndTasksWithOwnership() {
+        AutoTask nextTask = registry.getNextPendingTask(SESSION_ID).orElseThrow();
+        Goal completedGoal = registry.getGoalsByStatus(SESSION_ID, Goal.GoalStatus.COMPLETED).getFirst();
+
+        assertEquals("goal-early", nextTask.getGoalId());
+        assertEquals("goal-done", completedGoal.getId());
+        assertEquals(SESSION_ID, completedGoal.getSessionId());
+        assertTrue(registry.getGoal(SESSION_ID, "missing").isEmpty());
+        assertTrue(registry.findGoalForTask(SESSION_ID, "missing").isEmpty());
+        assertTrue(registry.getGoals("empty-session").isEmpty());
+        assertTrue(registry.getNextPendingTask("empty-session").isEmpty());
+    }
+
+    @Test
+    void shouldWriteThroughSavesAndServeThemWithoutReloading() {
+        List<Goal> goals = registry.getGoals(SESSION_ID);
+        goals.removeIf(goal -> "goal-early".equals(goal.getId()));
+        clearInvocations(storagePort);
+
+        registry.saveGoals(SESSION_ID, goals);
+
+        verify(storagePort).putTextAtomic(eq("auto"), eq(GOALS_PATH), anyString(), eq(true));
+        assertEquals(2, registry.getGoals(SESSION_ID).size());
+        assertTrue(registry.getGoal(SESSION_ID, "goal-early").isEmpty());
+        assertEquals("task-late", registry.getNextPendingTask(SESSION_ID).orElseThrow().getId());
+        verifyNoMoreInteractions(storagePort);
+    }
+
+    @Test
+    void shouldKeepSnapshotIsolatedFromCallerMutations() {
+        Goal goal = registry.getGoal(SESSION_ID, "goal-early").orElseThrow();
+        goal.setTitle("changed");
+        goal.getTasks().clear();
+        registry.getNextPendingTask(SESSION_ID).orElseThrow().setStatus(AutoTask.TaskStatus.COMPLETED);
+
+        Goal reloaded = registry.getGoal(SESSION_ID, "goal-early").orElseThrow();
+        assertEquals("Goal goal-early", reloaded.getTitle());
+        assertEquals(3, reloaded.getTasks().size());
+        assertEquals("task-next", registry.getNextPendingTask(SESSION_ID).orElseThrow().getId());
+    }
+
+    @Test
+    void shouldKeepPreviousSnapshotWhenSaveFails() {
+        List<Goal> goals = registry.getGoals(SESSION_ID);
+        goals.clear();
+        when(storagePort.deleteObject("auto", GOALS_PATH))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("disk full")));
+
+        assertThrows(IllegalStateException.class, () -> registry.saveGoals(SESSION_ID, goals));
+
+        assertEquals(3, registry.getGoals(SESSION_ID).size());
+        verify(storagePort, times(1)).getText("auto", GOALS_PATH);
+    }
+
+    @Test
+    void shouldReloadGoalsAfterSessionIsDeleted() {
+        assertEquals(3, registry.getGoals(SESSION_ID).size());
+
+        registry.deleteSessionData(SESSION_ID);
+        registry.getGoals(SESSION_ID);
+
+        verify(storagePort, times(2)).getText("auto", GOALS_PATH);
+    }
+
+    @Test
+    void shouldEvictSnapshotsIdleLongerThanTtl() {
+        registry.getGoals(SESSION_ID);
+        registry.getGoals("other-session");
+        clock.advance(SessionGoalRegistry.IDLE_TTL.minusMinutes(1));
+        registry.getGoals("other-session");
+        clock.advance(SessionGoalRegistry.IDLE_TTL.minusMinutes(1));
+
+        registry.getGoals("other-session");
+        registry.getGoals(SESSION_ID);
+
+        verify(storagePort, times(2)).getText("auto", GOALS_PATH);
+        verify(storagePort, times(1)).getText("auto", "session-goals/other-session.json");
+    }
+
+    private static Goal goal(String id, Goal.GoalStatus status, String createdAt, AutoTask... tasks) {
+        return Goal.builder()
+                .id(id)
+                .title("Goal " + id)
+                .status(status)
+                .tasks(new ArrayList<>(List.of(tasks)))
+                .createdAt(Instant.parse(createdAt))
+                .build();
+    }
+
+    private static AutoTask task(String id, AutoTask.TaskStatus status, int order) {
+        return AutoTask.builder()
+                .id(id)
+                .title("Task " + id)
+                .status(status)
+                .order(order)
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant currentInstant;
+
+        private MutableClock(Instant instant) {
+            this.currentInstant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return currentInstant;
+        }
+
+        void advance(Duration duration) {
+            currentInstant = currentInstant.plus(duration);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -37,7 +38,8 @@ class SessionScopedGoalServiceTest {
         runtimeConfigService = mock(RuntimeConfigService.class);
         diaryService = mock(SessionDiaryService.class);
         when(runtimeConfigService.getAutoReflectionFailureThreshold()).thenReturn(2);
-        service = new SessionScopedGoalService(goalStorageService, runtimeConfigService, diaryService);
+        service = new SessionScopedGoalService(new SessionGoalRegistry(goalStorageService, Clock.systemUTC()),
+                runtimeConfigService, diaryService);
     }
 
     @Test
@@ -128,29 +130,29 @@ class SessionScopedGoalServiceTest {
 
         service.recordAutoRunFailure(SESSION_ID, "goal-1", null, " goal failure ", null, "planner");
         service.recordAutoRunFailure(SESSION_ID, "goal-1", null, " another failure ", " explicit ", "planner");
-        assertTrue(goal.isReflectionRequired());
-        assertEquals("explicit", goal.getLastFailureFingerprint());
+        assertTrue(storedGoal().isReflectionRequired());
+        assertEquals("explicit", storedGoal().getLastFailureFingerprint());
 
         service.applyReflectionResult(SESSION_ID, "goal-1", null, " Use narrower scope ");
-        assertFalse(goal.isReflectionRequired());
-        assertEquals("Use narrower scope", goal.getReflectionStrategy());
+        assertFalse(storedGoal().isReflectionRequired());
+        assertEquals("Use narrower scope", storedGoal().getReflectionStrategy());
 
         service.recordAutoRunFailure(SESSION_ID, "goal-1", "task-1", " task failed ", null, "builder");
         service.recordAutoRunFailure(SESSION_ID, "goal-1", "task-1", " task failed again ", " task-explicit ",
                 "builder");
-        assertEquals(AutoTask.TaskStatus.FAILED, task.getStatus());
-        assertTrue(task.isReflectionRequired());
-        assertEquals("task-explicit", task.getLastFailureFingerprint());
+        assertEquals(AutoTask.TaskStatus.FAILED, storedTask().getStatus());
+        assertTrue(storedTask().isReflectionRequired());
+        assertEquals("task-explicit", storedTask().getLastFailureFingerprint());
 
         service.recordAutoRunSuccess(SESSION_ID, "goal-1", "task-1", "builder");
-        assertEquals(AutoTask.TaskStatus.IN_PROGRESS, task.getStatus());
-        assertFalse(task.isReflectionRequired());
-        assertEquals("builder", task.getLastUsedSkillName());
+        assertEquals(AutoTask.TaskStatus.IN_PROGRESS, storedTask().getStatus());
+        assertFalse(storedTask().isReflectionRequired());
+        assertEquals("builder", storedTask().getLastUsedSkillName());
 
         service.updateTaskStatus(SESSION_ID, "goal-1", "task-1", AutoTask.TaskStatus.COMPLETED,
                 "verified in staging");
-        assertEquals(AutoTask.TaskStatus.COMPLETED, task.getStatus());
-        assertEquals("verified in staging", task.getResult());
+        assertEquals(AutoTask.TaskStatus.COMPLETED, storedTask().getStatus());
+        assertEquals("verified in staging", storedTask().getResult());
 
         service.deleteGoal(SESSION_ID, "goal-1");
 
@@ -175,7 +177,7 @@ class SessionScopedGoalServiceTest {
         Goal created = service.createGoal(SESSION_ID, "Goal 6", null, null, null, false);
 
         assertEquals("Goal 6", created.getTitle());
-        assertEquals(6, goals.size());
+        assertEquals(6, service.getGoals(SESSION_ID).size());
         verify(goalStorageService).saveGoals(eq(SESSION_ID), any());
     }
 
@@ -197,11 +199,19 @@ class SessionScopedGoalServiceTest {
                 AutoTask.TaskStatus.PENDING);
 
         assertEquals("Task 21", created.getTitle());
-        assertEquals(21, goal.getTasks().size());
+        assertEquals(21, storedGoal().getTasks().size());
         assertEquals(21, created.getOrder());
         verify(goalStorageService).saveGoals(eq(SESSION_ID), any());
     }
 
+    private Goal storedGoal() {
+        return service.getGoal(SESSION_ID, "goal-1").orElseThrow();
+    }
+
+    private AutoTask storedTask() {
+        return service.getTask(SESSION_ID, "task-1").orElseThrow();
+    }
+
     private static Goal goal(String id, String title, Instant createdAt) {
         return Goal.builder()
                 .id(id)
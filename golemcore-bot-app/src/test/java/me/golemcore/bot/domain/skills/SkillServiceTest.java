@@ -63,6 +63,11 @@ class SkillServiceTest {
                 .thenReturn(CompletableFuture.completedFuture(content));
     }
 
+    private void stubLastModified(String key, Long lastModified) {
+        when(storagePort.getLastModified(SKILLS_DIR, key))
+                .thenReturn(CompletableFuture.completedFuture(lastModified));
+    }
+
     private Optional<Skill> loadSkillAndFind(String name, String content) {
         String key = name + "/" + SKILL_FILE;
         loadSkills(key);
@@ -738,4 +743,151 @@ class SkillServiceTest {
         assertFalse(summary.isEmpty());
         assertTrue(summary.contains("s1"));
     }
+
+    // ==================== incremental reload ====================
+
+    @Test
+    void reloadSkipsReadingSkillWithUnchangedModificationTime() {
+        String key = GREETING_PREFIX + SKILL_FILE;
+        loadSkills(key);
+        stubLastModified(key, 1_000L);
+        stubSkillContent(key, """
+                ---
+                name: greeting
+                description: Handle greetings
+                ---
+                Hello
+                """);
+
+        service.reload();
+        Skill first = service.findByName("greeting").orElseThrow();
+        service.reload();
+
+        verify(storagePort, times(1)).getText(SKILLS_DIR, key);
+        assertSame(first, service.findByName("greeting").orElseThrow());
+    }
+
+    @Test
+    void reloadRereadsSkillWhenModificationTimeChanges() {
+        String key = GREETING_PREFIX + SKILL_FILE;
+        loadSkills(key);
+        stubLastModified(key, 1_000L);
+        stubSkillContent(key, """
+                ---
+                name: greeting
+                description: Old
+                ---
+                Hello
+                """);
+        service.reload();
+
+        stubLastModified(key, 2_000L);
+        stubSkillContent(key, """
+                ---
+                name: greeting
+                description: New
+                ---
+                Hello again
+                """);
+        service.reload();
+
+        assertEquals("New", service.findByName("greeting").orElseThrow().getDescription());
+    }
+
+    @Test
+    void reloadReusesParsedSkillWhenContentHashIsUnchanged() {
+        String unchangedKey = "stable/" + SKILL_FILE;
+        String changedKey = "edited/" + SKILL_FILE;
+        loadSkills(unchangedKey, changedKey);
+        stubSkillContent(unchangedKey, """
+                ---
+                name: stable
+                description: Stable
+                ---
+                Same
+                """);
+        stubSkillContent(changedKey, """
+                ---
+                name: edited
+                description: Before
+                ---
+                Body
+                """);
+        service.reload();
+        Skill stable = service.findByName("stable").orElseThrow();
+
+        stubSkillContent(changedKey, """
+                ---
+                name: edited
+                description: After
+                ---
+                Body
+                """);
+        service.reload();
+
+        assertSame(stable, service.findByName("stable").orElseThrow());
+        assertEquals("After", service.findByName("edited").orElseThrow().getDescription());
+    }
+
+    @Test
+    void reloadReparsesUnchangedSkillWithVariables() {
+        String key = "vars/" + SKILL_FILE;
+        loadSkills(key);
+        stubLastModified(key, 1_000L);
+        stubSkillContent(key, """
+                ---
+                name: with-vars
+                description: Uses variables
+                vars:
+                  API_KEY:
+                    required: true
+                ---
+                Content
+                """);
+
+        service.reload();
+        service.reload();
+
+        verify(storagePort, times(1)).getText(SKILLS_DIR, key);
+        verify(variableResolver, times(2)).resolveVariables(eq("with-vars"), any());
+    }
+
+    @Test
+    void reloadDropsRemovedSkills() {
+        loadSkillAndFind("gone", """
+                ---
+                name: gone
+                description: Temporary
+                ---
+                Content
+                """);
+
+        loadSkills();
+        service.reload();
+
+        assertTrue(service.getAllSkills().isEmpty());
+        assertEquals("", service.getSkillsSummary());
+    }
+
+    @Test
+    void getSkillsSummaryIsCachedUntilRegistryChanges() {
+        loadSkillAndFind("s1", """
+                ---
+                name: s1
+                description: First skill
+                ---
+                Content
+                """);
+
+        String summary = service.getSkillsSummary();
+        service.reload();
+        assertSame(summary, service.getSkillsSummary());
+
+        service.registerDynamicSkill(Skill.builder().name("dynamic").description("Dynamic skill")
+                .available(true).build());
+
+        String updated = service.getSkillsSummary();
+        assertNotSame(summary, updated);
+        assertTrue(updated.contains("dynamic"));
+    }
 }
@@ -10,6 +10,7 @@ import me.golemcore.bot.domain.model.Message;
 import me.golemcore.bot.domain.context.compaction.CompactionOrchestrationService;
 import me.golemcore.bot.domain.context.compaction.ContextCompactionPolicy;
 import me.golemcore.bot.domain.context.compaction.ContextTokenEstimator;
+import me.golemcore.bot.domain.context.compaction.SpeculativeCompactionService;
 import me.golemcore.bot.domain.model.ModelSelectionService;
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,11 +43,13 @@ class AutoCompactionSystemTest {
     private ModelSelectionService modelSelectionService;
     private ContextTokenEstimator contextTokenEstimator;
     private ContextCompactionPolicy contextCompactionPolicy;
+    private SpeculativeCompactionService speculativeCompactionService;
     private AutoCompactionSystem system;
 
     @BeforeEach
     void setUp() {
         compactionOrchestrationService = mock(CompactionOrchestrationService.class);
+        speculativeCompactionService = mock(SpeculativeCompactionService.class);
         modelSelectionService = mock(ModelSelectionService.class);
         contextTokenEstimator = new ContextTokenEstimator();
         runtimeConfigService = mock(RuntimeConfigService.class);
@@ -60,7 +63,7 @@ class AutoCompactionSystemTest {
 
         contextCompactionPolicy = new ContextCompactionPolicy(runtimeConfigService, modelSelectionService);
         system = new AutoCompactionSystem(compactionOrchestrationService, contextTokenEstimator,
-                contextCompactionPolicy);
+                contextCompactionPolicy, speculativeCompactionService);
     }
 
     @Test
@@ -299,6 +302,33 @@ class AutoCompactionSystemTest {
         assertThrows(RuntimeException.class, () -> system.process(context));
     }
 
+    @Test
+    void shouldSpeculateWhenHistoryCrossesSpeculativeFraction() {
+        when(runtimeConfigService.getCompactionTriggerMode()).thenReturn("token_threshold");
+        when(runtimeConfigService.getCompactionMaxContextTokens()).thenReturn(1000);
+        when(runtimeConfigService.isCompactionSpeculativeEnabled()).thenReturn(true);
+        when(runtimeConfigService.getCompactionSpeculativeTriggerRatio()).thenReturn(0.5d);
+        List<Message> messages = buildLargeMessageList(10, 250);
+        AgentContext context = buildContext(messages);
+
+        system.process(context);
+
+        verify(speculativeCompactionService).speculate(context.getSession(), 5);
+        verifyNoInteractions(compactionOrchestrationService);
+    }
+
+    @Test
+    void shouldNotSpeculateWhenDisabled() {
+        when(runtimeConfigService.getCompactionTriggerMode()).thenReturn("token_threshold");
+        when(runtimeConfigService.getCompactionMaxContextTokens()).thenReturn(1000);
+        when(runtimeConfigService.isCompactionSpeculativeEnabled()).thenReturn(false);
+        AgentContext context = buildContext(buildLargeMessageList(10, 250));
+
+        system.process(context);
+
+        verifyNoInteractions(speculativeCompactionService);
+    }
+
     @Test
     void shouldProcessWithSufficientMessages() {
         List<Message> messages = List.of(
@@ -11,6 +11,7 @@ import me.golemcore.bot.domain.context.layer.IdentityLayer;
 import me.golemcore.bot.domain.context.layer.MemoryLayer;
 import me.golemcore.bot.domain.context.layer.PlanModeLayer;
 import me.golemcore.bot.domain.context.layer.RagLayer;
+import me.golemcore.bot.domain.rag.RagQueryCache;
 import me.golemcore.bot.domain.context.layer.SkillLayer;
 import me.golemcore.bot.domain.context.layer.TierAwarenessLayer;
 import me.golemcore.bot.domain.context.layer.ToolLayer;
@@ -133,7 +134,7 @@ class ContextBuildingSystemPromptTest {
                 new IdentityLayer(promptSectionService, userPreferencesService),
                 new WorkspaceInstructionsLayer(workspaceInstructionService),
                 new MemoryLayer(memoryComponent, runtimeConfigService, new MemoryPresetService()),
-                new RagLayer(ragPort),
+                new RagLayer(ragPort, RagQueryCache.disabled()),
                 new SkillLayer(skillComponent, templateEngine),
                 new ToolLayer(toolRegistryService, mcpPort, delayedActionPolicyService),
                 new TierAwarenessLayer(userPreferencesService),
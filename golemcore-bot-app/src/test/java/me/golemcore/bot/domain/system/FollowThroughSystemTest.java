@@ -27,6 +27,7 @@ import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.tracing.TraceBudgetService;
 import me.golemcore.bot.domain.tracing.TraceService;
 import me.golemcore.bot.domain.tracing.TraceSnapshotCompressionService;
+import me.golemcore.bot.domain.tracing.TraceSnapshotEncoder;
 import me.golemcore.bot.port.outbound.InboundMessageDispatchPort;
 import me.golemcore.bot.port.outbound.TraceSnapshotCodecPort;
 import org.junit.jupiter.api.BeforeEach;
@@ -78,7 +79,8 @@ class FollowThroughSystemTest {
         classifier = mock(FollowThroughClassifier.class);
         internalTurnService = mock(InternalTurnService.class);
         runtimeConfigService = mock(RuntimeConfigService.class);
-        traceService = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService());
+        traceService = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                new TraceSnapshotEncoder(Runnable::run));
         traceSnapshotCodecPort = new SimpleTraceSnapshotCodecPort();
         clock = Clock.fixed(Instant.parse("2026-04-22T01:37:00Z"), ZoneOffset.UTC);
         when(runtimeConfigService.isFollowThroughEnabled()).thenReturn(true);
@@ -13,7 +13,6 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import me.golemcore.bot.domain.model.AgentContext;
 import me.golemcore.bot.domain.model.ContextAttributes;
 import me.golemcore.bot.domain.model.FinishReason;
@@ -21,6 +20,7 @@ import me.golemcore.bot.domain.model.LlmResponse;
 import me.golemcore.bot.domain.model.Message;
 import me.golemcore.bot.domain.model.Skill;
 import me.golemcore.bot.domain.model.TurnOutcome;
+import me.golemcore.bot.domain.rag.RagIngestionQueue;
 import me.golemcore.bot.port.outbound.RagPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,16 +29,18 @@ import org.mockito.ArgumentCaptor;
 class RagIndexingSystemTest {
 
     private RagPort ragPort;
+    private RagIngestionQueue ingestionQueue;
     private RagIndexingSystem system;
 
     @BeforeEach
     void setUp() {
         ragPort = mock(RagPort.class);
         when(ragPort.isAvailable()).thenReturn(true);
-        when(ragPort.index(anyString())).thenReturn(CompletableFuture.completedFuture(null));
         when(ragPort.getIndexMinLength()).thenReturn(50);
+        ingestionQueue = mock(RagIngestionQueue.class);
+        when(ingestionQueue.enqueue(anyString(), anyString())).thenReturn(true);
 
-        system = new RagIndexingSystem(ragPort);
+        system = new RagIndexingSystem(ragPort, ingestionQueue);
     }
 
     @Test
@@ -64,7 +66,7 @@ class RagIndexingSystemTest {
         system.process(context);
 
         ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        verify(ragPort).index(captor.capture());
+        verify(ingestionQueue).enqueue(captor.capture(), anyString());
         String document = captor.getValue();
         assertTrue(document.contains("User: What is the capital of France?"));
         assertTrue(document.contains("Assistant: The capital of France is Paris"));
@@ -80,29 +82,43 @@ class RagIndexingSystemTest {
         system.process(context);
 
         ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        verify(ragPort).index(captor.capture());
+        verify(ingestionQueue).enqueue(captor.capture(), anyString());
         assertTrue(captor.getValue().contains("Skill: coding-help"));
     }
 
+    @Test
+    void passesDedupKeyWithoutDate() {
+        AgentContext context = buildContext("Explain recursion",
+                "Recursion is when a function calls itself to solve smaller subproblems.");
+        context.setActiveSkill(Skill.builder().name("coding-help").build());
+
+        system.process(context);
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(ingestionQueue).enqueue(anyString(), captor.capture());
+        assertEquals("coding-help\nExplain recursion\n"
+                + "Recursion is when a function calls itself to solve smaller subproblems.", captor.getValue());
+    }
+
     @Test
     void skipsTrivialGreetings() {
         AgentContext context = buildContext("hello", "Hi there! How can I help?");
         system.process(context);
-        verify(ragPort, never()).index(anyString());
+        verify(ingestionQueue, never()).enqueue(anyString(), anyString());
     }
 
     @Test
     void skipsTrivialGreetingsWithPunctuation() {
         AgentContext context = buildContext("Hello!", "Hi! How can I help?");
         system.process(context);
-        verify(ragPort, never()).index(anyString());
+        verify(ingestionQueue, never()).enqueue(anyString(), anyString());
     }
 
     @Test
     void skipsShortExchanges() {
         AgentContext context = buildContext("yes", "ok");
         system.process(context);
-        verify(ragPort, never()).index(anyString());
+        verify(ingestionQueue, never()).enqueue(anyString(), anyString());
     }
 
     @Test
@@ -113,7 +129,7 @@ class RagIndexingSystemTest {
         context.setAttribute(ContextAttributes.LLM_RESPONSE, LlmResponse.builder().content("response").build());
 
         system.process(context);
-        verify(ragPort, never()).index(anyString());
+        verify(ingestionQueue, never()).enqueue(anyString(), anyString());
     }
 
     @Test
@@ -124,7 +140,7 @@ class RagIndexingSystemTest {
                 .build();
 
         system.process(context);
-        verify(ragPort, never()).index(anyString());
+        verify(ingestionQueue, never()).enqueue(anyString(), anyString());
     }
 
     @Test
@@ -134,7 +150,7 @@ class RagIndexingSystemTest {
         context.setAttribute(ContextAttributes.LLM_RESPONSE, LlmResponse.builder().content("").build());
 
         system.process(context);
-        verify(ragPort, never()).index(anyString());
+        verify(ingestionQueue, never()).enqueue(anyString(), anyString());
     }
 
     @Test
@@ -244,7 +260,7 @@ class RagIndexingSystemTest {
         system.process(context);
 
         ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        verify(ragPort).index(captor.capture());
+        verify(ingestionQueue).enqueue(captor.capture(), anyString());
         assertTrue(captor.getValue().contains("Assistant: The capital of France is Paris"));
         assertFalse(captor.getValue().contains("LEGACY"));
     }
@@ -257,7 +273,7 @@ class RagIndexingSystemTest {
         system.process(context);
 
         ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        verify(ragPort).index(captor.capture());
+        verify(ingestionQueue).enqueue(captor.capture(), anyString());
         assertTrue(captor.getValue().contains("Assistant: The capital of France is Paris"));
     }
 
@@ -277,7 +293,7 @@ class RagIndexingSystemTest {
         system.process(context);
 
         ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        verify(ragPort).index(captor.capture());
+        verify(ingestionQueue).enqueue(captor.capture(), anyString());
         assertTrue(captor.getValue().contains("User: visible question"));
         assertFalse(captor.getValue().contains("internal continue"));
     }
@@ -16,6 +16,7 @@ import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.tracing.TraceBudgetService;
 import me.golemcore.bot.domain.tracing.TraceService;
 import me.golemcore.bot.domain.tracing.TraceSnapshotCompressionService;
+import me.golemcore.bot.domain.tracing.TraceSnapshotEncoder;
 import me.golemcore.bot.domain.runtimeconfig.UserPreferencesService;
 import me.golemcore.bot.domain.voice.VoiceResponseHandler;
 import me.golemcore.bot.domain.voice.VoiceResponseHandler.VoiceSendResult;
@@ -80,7 +81,8 @@ class ResponseRoutingSystemTest {
         when(voiceHandler.isAvailable()).thenReturn(false);
 
         runtimeConfigService = mock(RuntimeConfigService.class);
-        traceService = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService());
+        traceService = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                new TraceSnapshotEncoder(Runnable::run));
         system = responseRoutingSystem(
                 List.of(channelPort),
                 preferencesService,
@@ -5,6 +5,7 @@ import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.tracing.TraceBudgetService;
 import me.golemcore.bot.domain.tracing.TraceService;
 import me.golemcore.bot.domain.tracing.TraceSnapshotCompressionService;
+import me.golemcore.bot.domain.tracing.TraceSnapshotEncoder;
 import me.golemcore.bot.domain.runtimeconfig.UserPreferencesService;
 import me.golemcore.bot.domain.voice.VoiceResponseHandler;
 import me.golemcore.bot.plugin.runtime.ChannelRegistry;
@@ -31,7 +32,8 @@ class ResponseRoutingSystemWiringTest {
             .withBean(VoiceResponseHandler.class, () -> mock(VoiceResponseHandler.class))
             .withBean(RuntimeConfigService.class, () -> mock(RuntimeConfigService.class))
             .withBean(TraceService.class,
-                    () -> new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService()))
+                    () -> new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                            new TraceSnapshotEncoder(Runnable::run)))
             .withBean(ResponseRoutingSystem.class);
 
     @Test
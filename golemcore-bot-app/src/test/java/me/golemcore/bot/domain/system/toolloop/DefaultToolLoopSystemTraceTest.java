@@ -15,6 +15,7 @@ import me.golemcore.bot.domain.model.ModelSelectionService;
 import me.golemcore.bot.domain.tracing.TraceBudgetService;
 import me.golemcore.bot.domain.tracing.TraceService;
 import me.golemcore.bot.domain.tracing.TraceSnapshotCompressionService;
+import me.golemcore.bot.domain.tracing.TraceSnapshotEncoder;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
@@ -57,7 +58,8 @@ class DefaultToolLoopSystemTraceTest extends DefaultToolLoopSystemFixture {
         AgentContext context = buildContext();
         context.setAttribute(ContextAttributes.SELF_EVOLVING_RUN_ID, "run-1");
         context.setAttribute(ContextAttributes.SELF_EVOLVING_ARTIFACT_BUNDLE_ID, "bundle-1");
-        TraceService traceService = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService());
+        TraceService traceService = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                new TraceSnapshotEncoder(Runnable::run));
         TraceContext rootTrace = traceService.startRootTrace(
                 context.getSession(),
                 TraceContext.builder()
@@ -135,7 +137,8 @@ class DefaultToolLoopSystemTraceTest extends DefaultToolLoopSystemFixture {
         context.setAttribute(ContextAttributes.SELF_EVOLVING_RUN_ID, "run-1");
         context.setAttribute(ContextAttributes.SELF_EVOLVING_ARTIFACT_BUNDLE_ID, "bundle-1");
 
-        TraceService traceService = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService());
+        TraceService traceService = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                new TraceSnapshotEncoder(Runnable::run));
         TraceContext rootTrace = traceService.startRootTrace(
                 context.getSession(),
                 TraceContext.builder()
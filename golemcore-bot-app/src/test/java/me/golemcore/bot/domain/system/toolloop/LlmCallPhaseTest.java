@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.doAnswer;
@@ -32,6 +33,7 @@ import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.tracing.TraceBudgetService;
 import me.golemcore.bot.domain.tracing.TraceService;
 import me.golemcore.bot.domain.tracing.TraceSnapshotCompressionService;
+import me.golemcore.bot.domain.tracing.TraceSnapshotEncoder;
 import me.golemcore.bot.domain.progress.TurnProgressService;
 import me.golemcore.bot.domain.model.ContextAttributes;
 import me.golemcore.bot.domain.model.LlmRequest;
@@ -199,6 +201,37 @@ class LlmCallPhaseTest {
         assertInstanceOf(LlmCallPhase.LlmCallOutcome.Failed.class, outcome);
     }
 
+    @Test
+    void execute_shouldSkipLlmSnapshotsForUnsampledSuccessfulCall() {
+        LlmPort llmPort = mock(LlmPort.class);
+        when(llmPort.chat(any(LlmRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(LlmResponse.builder()
+                        .content("ok")
+                        .finishReason("stop")
+                        .build()));
+        TraceService traceService = mock(TraceService.class);
+
+        LlmCallPhase.LlmCallOutcome outcome = buildSampledPhase(llmPort, traceService)
+                .execute(buildSampledTurnState(), historyWriter);
+
+        assertInstanceOf(LlmCallPhase.LlmCallOutcome.Success.class, outcome);
+        verify(traceService, never()).captureSnapshotAsync(any(), any(), any(), any(), any(), any());
+        verify(traceService, never()).captureSnapshot(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void execute_shouldAlwaysCaptureLlmRequestSnapshotWhenCallFails() {
+        LlmPort llmPort = mock(LlmPort.class);
+        when(llmPort.chat(any(LlmRequest.class))).thenThrow(new IllegalStateException("provider down"));
+        TraceService traceService = mock(TraceService.class);
+
+        buildSampledPhase(llmPort, traceService).execute(buildSampledTurnState(), historyWriter);
+
+        verify(traceService, atLeastOnce()).captureSnapshotAsync(any(AgentSession.class), any(TraceContext.class),
+                any(RuntimeConfig.TracingConfig.class), eq("request"), eq("application/json"), any());
+        verify(traceService, never()).captureSnapshotAsync(any(), any(), any(), eq("response"), any(), any());
+    }
+
     @Test
     void execute_shouldUseForcedRouterFallbackSelection() {
         LlmPort llmPort = mock(LlmPort.class);
@@ -396,7 +429,8 @@ class LlmCallPhaseTest {
                 new RuntimeConfigRouterFallbackSelector(runtimeConfigService),
                 List.of(new OneShotRecoveryStrategy()),
                 new SuspendedTurnManager(delayedActionService, clock));
-        TraceService traceService = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService());
+        TraceService traceService = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                new TraceSnapshotEncoder(Runnable::run));
         LlmCallPhase resilientPhase = new LlmCallPhase(
                 llmPort,
                 viewBuilder,
@@ -624,7 +658,8 @@ class LlmCallPhaseTest {
         ProviderCircuitBreaker circuitBreaker = new ProviderCircuitBreaker(clock, 1, 60, 120);
         LlmResilienceOrchestrator orchestrator = new LlmResilienceOrchestrator(
                 new ImmediateRetryPolicy(), circuitBreaker, List.of(), null);
-        TraceService traceService = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService());
+        TraceService traceService = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                new TraceSnapshotEncoder(Runnable::run));
         LlmCallPhase resilientPhase = new LlmCallPhase(
                 llmPort,
                 viewBuilder,
@@ -696,6 +731,78 @@ class LlmCallPhaseTest {
         verify(orchestrator).recordTurnSuccess(turnState.getContext());
     }
 
+    @SuppressWarnings("unchecked")
+    private LlmCallPhase buildSampledPhase(LlmPort llmPort, TraceService traceService) {
+        ConversationViewBuilder viewBuilder = mock(ConversationViewBuilder.class);
+        when(viewBuilder.buildView(any(), any())).thenReturn(ConversationView.ofMessages(List.of()));
+        ModelSelectionService modelSelectionService = mock(ModelSelectionService.class);
+        when(modelSelectionService.resolveForTier(any()))
+                .thenReturn(new ModelSelectionService.ModelSelection("test-model", null));
+        when(modelSelectionService.resolveMaxInputTokensForContext(any())).thenReturn(1_000_000);
+        RuntimeConfigService runtimeConfigService = mock(RuntimeConfigService.class);
+        when(runtimeConfigService.isTracingEnabled()).thenReturn(true);
+        LlmRequestPreflightPhase preflightPhase = mock(LlmRequestPreflightPhase.class);
+        when(preflightPhase.preflight(any(AgentContext.class), any(), anyInt()))
+                .thenAnswer(invocation -> ((java.util.function.Supplier<LlmRequest>) invocation.getArgument(1)).get());
+        // "span-llm" falls outside the 1-in-3 sample used by buildSampledTurnState.
+        when(traceService.startSpan(any(AgentSession.class), any(TraceContext.class), eq("llm.chat"),
+                any(), any(), any()))
+                .thenReturn(TraceContext.builder()
+                        .traceId("trace-1")
+                        .spanId("span-llm")
+                        .parentSpanId("span-root")
+                        .rootKind("USER")
+                        .build());
+        return new LlmCallPhase(
+                llmPort,
+                viewBuilder,
+                modelSelectionService,
+                runtimeConfigService,
+                preflightPhase,
+                mock(ContextCompactionCoordinator.class),
+                null,
+                null,
+                traceService,
+                null,
+                clock);
+    }
+
+    private TurnState buildSampledTurnState() {
+        AgentSession session = AgentSession.builder()
+                .id("sess-1")
+                .chatId("chat-1")
+                .messages(new ArrayList<>())
+                .build();
+        AgentContext context = AgentContext.builder()
+                .session(session)
+                .messages(new ArrayList<>())
+                .maxIterations(1)
+                .currentIteration(0)
+                .build();
+        context.setTraceContext(TraceContext.builder()
+                .traceId("trace-1")
+                .spanId("span-root")
+                .rootKind("USER")
+                .build());
+        RuntimeConfig.TracingConfig tracingConfig = RuntimeConfig.TracingConfig.builder()
+                .payloadSnapshotsEnabled(true)
+                .captureLlmPayloads(true)
+                .llmPayloadSampleInterval(3)
+                .build();
+        return new TurnState(
+                context,
+                tracingConfig,
+                4,
+                4,
+                clock.instant().plusSeconds(60),
+                false,
+                true,
+                false,
+                1,
+                10L,
+                false);
+    }
+
     private TurnState buildTurnState() {
         AgentSession session = AgentSession.builder()
                 .id("sess-1")
@@ -0,0 +1,101 @@
+package me.golemcore.bot.domain.system.toolloop;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.golemcore.bot.domain.model.LlmRequest;
+import me.golemcore.bot.domain.model.LlmResponse;
+import me.golemcore.bot.domain.model.LlmUsage;
+import me.golemcore.bot.domain.model.Message;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LlmTraceSnapshotPayloadsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldSerializeRequestCopyLikeTheOriginal() throws Exception {
+        LlmRequest request = request();
+
+        Object copy = LlmTraceSnapshotPayloads.detach(request);
+
+        assertNotSame(request, copy);
+        assertEquals(objectMapper.writeValueAsString(request), objectMapper.writeValueAsString(copy));
+    }
+
+    @Test
+    void shouldKeepRequestCopyUnchangedWhenHistoryIsEditedLater() throws Exception {
+        LlmRequest request = request();
+        String before = objectMapper.writeValueAsString(request);
+
+        Object copy = LlmTraceSnapshotPayloads.detach(request);
+        Message assistant = request.getMessages().get(1);
+        assistant.setContent("compacted");
+        assistant.getMetadata().put("compacted", true);
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> edits = (List<Map<String, Object>>) assistant.getToolCalls().get(0)
+                .getArguments().get("edits");
+        edits.get(0).put("path", "b.txt");
+        request.getMessages().add(Message.builder().role("user").content("next").build());
+
+        assertEquals(before, objectMapper.writeValueAsString(copy));
+    }
+
+    @Test
+    void shouldKeepResponseCopyUnchangedWhenResponseIsEditedLater() throws Exception {
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        arguments.put("command", "ls");
+        LlmResponse response = LlmResponse.builder()
+                .content("Listing files")
+                .toolCalls(new ArrayList<>(List.of(new Message.ToolCall("call-1", "shell", arguments))))
+                .usage(LlmUsage.builder().inputTokens(10).outputTokens(5).totalTokens(15).model("gpt-5").build())
+                .model("gpt-5")
+                .finishReason("tool_calls")
+                .providerMetadata(new LinkedHashMap<>(Map.of("id", "resp-1")))
+                .build();
+        String before = objectMapper.writeValueAsString(response);
+
+        Object copy = LlmTraceSnapshotPayloads.detach(response);
+        arguments.put("command", "rm -rf build");
+        response.getUsage().setTotalTokens(99);
+        response.getToolCalls().clear();
+
+        assertEquals(before, objectMapper.writeValueAsString(copy));
+    }
+
+    @Test
+    void shouldPassOtherPayloadsThrough() {
+        Map<String, Object> payload = Map.of("error", "timeout");
+
+        assertSame(payload, LlmTraceSnapshotPayloads.detach(payload));
+    }
+
+    private static LlmRequest request() {
+        Map<String, Object> edit = new LinkedHashMap<>();
+        edit.put("path", "a.txt");
+        edit.put("line", 3);
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        arguments.put("edits", new ArrayList<>(List.of(edit)));
+        List<Message> messages = new ArrayList<>();
+        messages.add(Message.builder().id("u-1").role("user").content("Fix the test").build());
+        messages.add(Message.builder().id("a-1").role("assistant").content("Editing")
+                .metadata(new LinkedHashMap<>(Map.of("model", "gpt-5")))
+                .toolCalls(new ArrayList<>(List.of(new Message.ToolCall("call-1", "filesystem.edit", arguments))))
+                .build());
+        return LlmRequest.builder()
+                .model("gpt-5")
+                .systemPrompt("You are helpful")
+                .messages(messages)
+                .maxTokens(1024)
+                .sessionId("web:chat-1")
+                .callerTag("toolloop")
+                .build();
+    }
+}
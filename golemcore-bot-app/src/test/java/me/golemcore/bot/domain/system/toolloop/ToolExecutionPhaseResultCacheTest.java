@@ -0,0 +1,151 @@
+package me.golemcore.bot.domain.system.toolloop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import me.golemcore.bot.domain.model.AgentContext;
+import me.golemcore.bot.domain.model.AgentSession;
+import me.golemcore.bot.domain.model.ContextAttributes;
+import me.golemcore.bot.domain.model.LlmResponse;
+import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.domain.model.ModelSelectionService;
+import me.golemcore.bot.domain.model.ToolResult;
+import me.golemcore.bot.domain.system.toolloop.repeat.ToolRepeatGuard;
+import me.golemcore.bot.domain.system.toolloop.repeat.ToolRepeatGuardSettings;
+import me.golemcore.bot.domain.system.toolloop.repeat.ToolResultCache;
+import me.golemcore.bot.domain.system.toolloop.repeat.ToolResultCacheSettings;
+import me.golemcore.bot.domain.system.toolloop.repeat.ToolUseFingerprintService;
+import me.golemcore.bot.domain.system.toolloop.view.ConversationViewBuilder;
+import me.golemcore.bot.port.outbound.LlmPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ToolExecutionPhaseResultCacheTest {
+
+    private Clock clock;
+    private ToolExecutorPort toolExecutor;
+    private ToolFailurePolicy failurePolicy;
+    private HistoryWriter historyWriter;
+    private LlmCallPhase llmCallPhase;
+    private ToolResultCache resultCache;
+    private ToolExecutionPhase phase;
+
+    @BeforeEach
+    void setUp() {
+        clock = Clock.fixed(Instant.parse("2026-04-28T12:00:00Z"), ZoneOffset.UTC);
+        toolExecutor = mock(ToolExecutorPort.class);
+        failurePolicy = mock(ToolFailurePolicy.class);
+        historyWriter = mock(HistoryWriter.class);
+        when(failurePolicy.evaluate(any(), any(), any())).thenReturn(new ToolFailurePolicy.Verdict.Ok());
+        ModelSelectionService modelSelectionService = mock(ModelSelectionService.class);
+        when(modelSelectionService.resolveMaxInputTokensForContext(any())).thenReturn(2_000_000_000);
+        llmCallPhase = new LlmCallPhase(
+                mock(LlmPort.class),
+                mock(ConversationViewBuilder.class),
+                modelSelectionService,
+                null,
+                mock(LlmRequestPreflightPhase.class),
+                mock(ContextCompactionCoordinator.class),
+                null,
+                null,
+                null,
+                null,
+                clock);
+        ToolRepeatGuard repeatGuard = new ToolRepeatGuard(new ToolUseFingerprintService(),
+                ToolRepeatGuardSettings.defaults(), clock);
+        resultCache = new ToolResultCache(() -> new ToolResultCacheSettings(true, Duration.ofSeconds(60)), clock);
+        phase = new ToolExecutionPhase(toolExecutor, failurePolicy, null, null, null, null, clock, null,
+                repeatGuard, resultCache);
+    }
+
+    @Test
+    void servesRepeatedReadAcrossTurnsWithoutCallingExecutor() {
+        Message.ToolCall first = readCall("tc-1", "README.md");
+        Message.ToolCall second = readCall("tc-2", "README.md");
+        when(toolExecutor.execute(any(), any())).thenAnswer(invocation -> {
+            Message.ToolCall call = invocation.getArgument(1);
+            return success(call, "readme body");
+        });
+
+        phase.execute(buildTurnState(), response(first), historyWriter, llmCallPhase);
+        TurnState secondTurn = buildTurnState();
+        phase.execute(secondTurn, response(second), historyWriter, llmCallPhase);
+
+        verify(toolExecutor, times(1)).execute(any(), any());
+        ToolResult cached = secondTurn.getContext().getToolResults().get("tc-2");
+        assertTrue(cached.isSuccess());
+        assertEquals("readme body", cached.getOutput());
+        verify(historyWriter).appendToolResult(any(), argThat(outcome -> "tc-2".equals(outcome.toolCallId())));
+        assertEquals(1, resultCache.stats().hits());
+    }
+
+    @Test
+    void reExecutesReadAfterWorkspaceWrite() {
+        Message.ToolCall read = readCall("tc-1", "README.md");
+        Message.ToolCall write = Message.ToolCall.builder()
+                .id("tc-2")
+                .name("filesystem")
+                .arguments(Map.of("operation", "write_file", "path", "README.md", "content", "updated"))
+                .build();
+        Message.ToolCall reread = readCall("tc-3", "README.md");
+        when(toolExecutor.execute(any(), any())).thenAnswer(invocation -> {
+            Message.ToolCall call = invocation.getArgument(1);
+            return success(call, "ok");
+        });
+
+        phase.execute(buildTurnState(), response(read), historyWriter, llmCallPhase);
+        phase.execute(buildTurnState(), response(write), historyWriter, llmCallPhase);
+        phase.execute(buildTurnState(), response(reread), historyWriter, llmCallPhase);
+
+        verify(toolExecutor, times(3)).execute(any(), any());
+        assertEquals(0, resultCache.stats().hits());
+    }
+
+    private TurnState buildTurnState() {
+        AgentSession session = AgentSession.builder()
+                .id("sess-1")
+                .channelType("web")
+                .chatId("chat-1")
+                .messages(new ArrayList<>())
+                .build();
+        AgentContext context = AgentContext.builder()
+                .session(session)
+                .messages(new ArrayList<>())
+                .maxIterations(1)
+                .currentIteration(0)
+                .build();
+        context.setAttribute(ContextAttributes.LLM_RESPONSE, LlmResponse.builder().build());
+        return new TurnState(context, null, 4, 4, clock.instant().plusSeconds(60), false, true, false, 1, 10L,
+                true);
+    }
+
+    private LlmResponse response(Message.ToolCall toolCall) {
+        return LlmResponse.builder().toolCalls(List.of(toolCall)).build();
+    }
+
+    private Message.ToolCall readCall(String id, String path) {
+        return Message.ToolCall.builder()
+                .id(id)
+                .name("filesystem")
+                .arguments(Map.of("operation", "read_file", "path", path))
+                .build();
+    }
+
+    private ToolExecutionOutcome success(Message.ToolCall toolCall, String content) {
+        return new ToolExecutionOutcome(toolCall.getId(), toolCall.getName(), ToolResult.success(content), content,
+                false, null);
+    }
+}
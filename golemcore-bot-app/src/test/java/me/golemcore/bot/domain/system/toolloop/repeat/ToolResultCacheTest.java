@@ -0,0 +1,190 @@
+package me.golemcore.bot.domain.system.toolloop.repeat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.domain.model.ToolFailureKind;
+import me.golemcore.bot.domain.model.ToolResult;
+import me.golemcore.bot.domain.system.toolloop.ToolExecutionOutcome;
+import org.junit.jupiter.api.Test;
+
+class ToolResultCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-28T12:00:00Z");
+
+    private final ToolUseFingerprintService fingerprintService = new ToolUseFingerprintService();
+    private final MutableClock clock = new MutableClock(NOW);
+    private final AtomicReference<ToolResultCacheSettings> settings = new AtomicReference<>(
+            new ToolResultCacheSettings(true, Duration.ofSeconds(60)));
+    private final ToolResultCache cache = new ToolResultCache(settings::get, clock);
+
+    @Test
+    void servesRepeatedReadFromCacheUnderNewCallId() {
+        Message.ToolCall first = readCall("call-1", "README.md");
+        record("session-1", first, success(first, "readme body"));
+
+        Message.ToolCall second = readCall("call-2", "README.md");
+        Optional<ToolExecutionOutcome> cached = lookup("session-1", second);
+
+        assertTrue(cached.isPresent());
+        assertEquals("call-2", cached.get().toolCallId());
+        assertEquals("readme body", cached.get().messageContent());
+        assertFalse(cached.get().synthetic());
+        assertEquals(1, cache.stats().hits());
+    }
+
+    @Test
+    void doesNotShareEntriesBetweenSessions() {
+        Message.ToolCall read = readCall("call-1", "README.md");
+        record("session-1", read, success(read, "readme body"));
+
+        assertTrue(lookup("session-2", read).isEmpty());
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() {
+        Message.ToolCall read = readCall("call-1", "README.md");
+        record("session-1", read, success(read, "readme body"));
+
+        clock.advance(Duration.ofSeconds(61));
+
+        assertTrue(lookup("session-1", read).isEmpty());
+        assertEquals(1, cache.stats().expirations());
+        assertEquals(0, cache.stats().entries());
+    }
+
+    @Test
+    void filesystemWriteInvalidatesWorkspaceReadsInEverySession() {
+        Message.ToolCall read = readCall("call-1", "README.md");
+        Message.ToolCall memoryRead = toolCall("call-2", "memory", Map.of("operation", "memory_read", "id", "m1"));
+        Message.ToolCall write = toolCall("call-3", "filesystem",
+                Map.of("operation", "write_file", "path", "docs/other.md", "content", "x"));
+        record("session-1", read, success(read, "readme body"));
+        record("session-2", read, success(read, "readme body"));
+        record("session-1", memoryRead, success(memoryRead, "memory"));
+
+        record("session-2", write, success(write, "written"));
+
+        assertTrue(lookup("session-1", read).isEmpty());
+        assertTrue(lookup("session-2", read).isEmpty());
+        assertTrue(lookup("session-1", memoryRead).isPresent());
+        assertEquals(2, cache.stats().invalidations());
+    }
+
+    @Test
+    void shellExecutionInvalidatesWorkspaceReadsAndIsNeverCached() {
+        Message.ToolCall read = readCall("call-1", "README.md");
+        Message.ToolCall shell = toolCall("call-2", "shell", Map.of("command", "ls"));
+        record("session-1", read, success(read, "readme body"));
+
+        record("session-1", shell, success(shell, "README.md"));
+
+        assertTrue(lookup("session-1", read).isEmpty());
+        assertTrue(lookup("session-1", shell).isEmpty());
+    }
+
+    @Test
+    void doesNotCacheTimeDependentOrRemoteObservations() {
+        Message.ToolCall datetime = toolCall("call-1", "datetime", Map.of());
+        Message.ToolCall browse = toolCall("call-2", "browse", Map.of("url", "https://example.test"));
+        record("session-1", datetime, success(datetime, "12:00"));
+        record("session-1", browse, success(browse, "page"));
+
+        assertTrue(lookup("session-1", datetime).isEmpty());
+        assertTrue(lookup("session-1", browse).isEmpty());
+        assertEquals(0, cache.stats().stores());
+    }
+
+    @Test
+    void doesNotCacheFailedOrSyntheticOutcomes() {
+        Message.ToolCall read = readCall("call-1", "README.md");
+        record("session-1", read, new ToolExecutionOutcome(read.getId(), read.getName(),
+                ToolResult.failure(ToolFailureKind.EXECUTION_FAILED, "missing"), "missing", false, null));
+        record("session-1", read, new ToolExecutionOutcome(read.getId(), read.getName(),
+                ToolResult.success("blocked"), "blocked", true, null));
+
+        assertTrue(lookup("session-1", read).isEmpty());
+        assertEquals(0, cache.stats().stores());
+    }
+
+    @Test
+    void disabledSettingsBypassCache() {
+        settings.set(ToolResultCacheSettings.disabled());
+        Message.ToolCall read = readCall("call-1", "README.md");
+        record("session-1", read, success(read, "readme body"));
+
+        assertTrue(lookup("session-1", read).isEmpty());
+        assertEquals(0, cache.stats().stores());
+        assertEquals(0, cache.stats().misses());
+    }
+
+    @Test
+    void cacheIsOffWithoutRuntimeConfig() {
+        assertFalse(ToolResultCacheSettings.from(null).enabled());
+    }
+
+    @Test
+    void settingsFallBackToDefaultTtlForInvalidValues() {
+        assertEquals(Duration.ofSeconds(60), new ToolResultCacheSettings(true, Duration.ZERO).ttl());
+        assertEquals(Duration.ofSeconds(60), new ToolResultCacheSettings(true, null).ttl());
+    }
+
+    private void record(String sessionId, Message.ToolCall toolCall, ToolExecutionOutcome outcome) {
+        cache.record(sessionId, fingerprintService.fingerprint(toolCall), outcome);
+    }
+
+    private Optional<ToolExecutionOutcome> lookup(String sessionId, Message.ToolCall toolCall) {
+        return cache.lookup(sessionId, fingerprintService.fingerprint(toolCall), toolCall);
+    }
+
+    private Message.ToolCall readCall(String id, String path) {
+        return toolCall(id, "filesystem", Map.of("operation", "read_file", "path", path));
+    }
+
+    private Message.ToolCall toolCall(String id, String name, Map<String, Object> arguments) {
+        return Message.ToolCall.builder().id(id).name(name).arguments(arguments).build();
+    }
+
+    private ToolExecutionOutcome success(Message.ToolCall toolCall, String content) {
+        return new ToolExecutionOutcome(toolCall.getId(), toolCall.getName(), ToolResult.success(content),
+                content, false, null);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
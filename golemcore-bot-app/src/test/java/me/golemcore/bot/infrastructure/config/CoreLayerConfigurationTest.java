@@ -16,7 +16,10 @@ import me.golemcore.bot.domain.context.resolution.TierResolver;
 import me.golemcore.bot.domain.events.RuntimeEventService;
 import me.golemcore.bot.domain.loop.AgentLoop;
 import me.golemcore.bot.domain.auto.AutoModeService;
+import me.golemcore.bot.domain.context.compaction.CompactionPreparationService;
+import me.golemcore.bot.domain.context.compaction.CompactionService;
 import me.golemcore.bot.domain.context.compaction.ContextCompactionPolicy;
+import me.golemcore.bot.domain.context.compaction.SpeculativeCompactionService;
 import me.golemcore.bot.domain.context.hygiene.ContextHygieneService;
 import me.golemcore.bot.domain.context.compaction.ContextTokenEstimator;
 import me.golemcore.bot.domain.scheduling.DelayedActionPolicyService;
@@ -25,6 +28,7 @@ import me.golemcore.bot.domain.model.ModelSelectionService;
 import me.golemcore.bot.domain.tools.PlanModeToolRestrictionService;
 import me.golemcore.bot.domain.planning.PlanService;
 import me.golemcore.bot.domain.prompt.PromptSectionService;
+import me.golemcore.bot.domain.rag.RagQueryCache;
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.scheduling.ScheduleService;
 import me.golemcore.bot.domain.skills.SkillTemplateEngine;
@@ -36,6 +40,7 @@ import me.golemcore.bot.domain.runtimeconfig.UserPreferencesService;
 import me.golemcore.bot.domain.workspace.WorkspaceInstructionService;
 import me.golemcore.bot.domain.system.AgentSystem;
 import me.golemcore.bot.port.outbound.ChannelRuntimePort;
+import me.golemcore.bot.port.outbound.EmbeddingClientResolverPort;
 import me.golemcore.bot.port.outbound.LlmPort;
 import me.golemcore.bot.port.outbound.McpPort;
 import me.golemcore.bot.port.outbound.RagPort;
@@ -106,10 +111,15 @@ class CoreLayerConfigurationTest {
                 modelSelectionService);
         PlanModeToolRestrictionService planModeToolRestrictionService = configuration
                 .planModeToolRestrictionService(mock(PlanService.class));
+        SpeculativeCompactionService speculativeCompactionService = configuration.speculativeCompactionService(
+                mock(CompactionPreparationService.class), mock(CompactionService.class), runtimeConfigService,
+                Clock.systemUTC());
 
         assertNotNull(estimator);
         assertNotNull(policy);
         assertNotNull(planModeToolRestrictionService);
+        assertNotNull(speculativeCompactionService);
+        speculativeCompactionService.shutdown();
     }
 
     @Test
@@ -132,7 +142,12 @@ class CoreLayerConfigurationTest {
                 mock(MemoryComponent.class),
                 mock(RuntimeConfigService.class),
                 mock(MemoryPresetService.class)));
-        assertNotNull(contextLayerConfiguration.ragLayer(mock(RagPort.class)));
+        RagQueryCache ragQueryCache = contextLayerConfiguration.ragQueryCache(
+                new BotProperties(),
+                mock(EmbeddingClientResolverPort.class),
+                Clock.systemUTC());
+        assertNotNull(ragQueryCache);
+        assertNotNull(contextLayerConfiguration.ragLayer(mock(RagPort.class), ragQueryCache));
         assertNotNull(contextLayerConfiguration.skillLayer(
                 mock(SkillComponent.class),
                 mock(SkillTemplateEngine.class)));
@@ -22,6 +22,7 @@ import me.golemcore.bot.domain.system.toolloop.ToolFailureRecoveryService;
 import me.golemcore.bot.domain.system.toolloop.ToolLoopSystem;
 import me.golemcore.bot.domain.system.toolloop.ToolCallExecutionServiceToolExecutorAdapter;
 import me.golemcore.bot.domain.system.toolloop.repeat.ToolRepeatGuard;
+import me.golemcore.bot.domain.system.toolloop.repeat.ToolResultCache;
 import me.golemcore.bot.domain.system.toolloop.repeat.ToolUseLedgerStore;
 import me.golemcore.bot.domain.system.toolloop.view.ContextBudgetResolver;
 import me.golemcore.bot.domain.system.toolloop.view.ContextWindowProjector;
@@ -122,6 +123,7 @@ class ToolLoopAutoConfigurationTest {
                 toolFailureRecoveryService,
                 mock(PlanModeToolRestrictionService.class),
                 mock(ToolRepeatGuard.class),
+                ToolResultCache.disabled(),
                 mock(ToolUseLedgerStore.class),
                 null);
 
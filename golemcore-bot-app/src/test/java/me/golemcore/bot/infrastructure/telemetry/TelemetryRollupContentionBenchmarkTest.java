@@ -0,0 +1,94 @@
+package me.golemcore.bot.infrastructure.telemetry;
+
+import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Compares multi-threaded recording throughput of the store against the same
+ * calls funnelled through one shared monitor, which is how every record call
+ * used to run. Run with {@code TELEMETRY_ROLLUP_BENCHMARK_ENABLED=true}.
+ */
+@EnabledIfEnvironmentVariable(named = "TELEMETRY_ROLLUP_BENCHMARK_ENABLED", matches = "true")
+class TelemetryRollupContentionBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int RECORDS_PER_THREAD = 200_000;
+    private static final String[] MODELS = { "gpt-5|smart", "claude|coding", "gemini|balanced", "local|fast" };
+
+    @Test
+    void shouldReportRecordingThroughputWithAndWithoutSharedMonitor() throws Exception {
+        // stubOnly: a regular mock records every invocation under its own lock.
+        RuntimeConfigService runtimeConfigService = mock(RuntimeConfigService.class, withSettings().stubOnly());
+        when(runtimeConfigService.isTelemetryEnabled()).thenReturn(true);
+        Clock clock = Clock.fixed(Instant.parse("2026-04-06T10:05:00Z"), ZoneOffset.UTC);
+        Object sharedMonitor = new Object();
+
+        TelemetryRollupStore warmupStore = new TelemetryRollupStore(runtimeConfigService, clock);
+        run(warmupStore, null);
+        run(warmupStore, sharedMonitor);
+
+        double monitorMillis = run(new TelemetryRollupStore(runtimeConfigService, clock), sharedMonitor);
+        double lockFreeMillis = run(new TelemetryRollupStore(runtimeConfigService, clock), null);
+
+        long records = (long) THREADS * RECORDS_PER_THREAD * 2;
+        System.out.printf(Locale.ROOT,
+                "telemetry rollup (%d threads, %d records): shared monitor=%.0f ms (%.1f M/s), "
+                        + "lock-free=%.0f ms (%.1f M/s)%n",
+                THREADS, records, monitorMillis, records / monitorMillis / 1_000.0d, lockFreeMillis,
+                records / lockFreeMillis / 1_000.0d);
+    }
+
+    private double run(TelemetryRollupStore store, Object sharedMonitor) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < RECORDS_PER_THREAD; i++) {
+                        record(store, sharedMonitor, MODELS[(i + offset) % MODELS.length]);
+                    }
+                    return null;
+                }));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return (System.nanoTime() - started) / 1_000_000.0d;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void record(TelemetryRollupStore store, Object sharedMonitor, String model) {
+        if (sharedMonitor == null) {
+            store.recordModelUsage(model, null, 1200, 300, 1500);
+            store.recordPluginAction("browser", "open");
+            return;
+        }
+        synchronized (sharedMonitor) {
+            store.recordModelUsage(model, null, 1200, 300, 1500);
+            store.recordPluginAction("browser", "open");
+        }
+    }
+}
@@ -8,8 +8,13 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -81,6 +86,58 @@ class TelemetryRollupStoreTest {
         assertNotEquals(99L, restored.getFirst().getModelUsage().get("gpt-5|smart").getRequestCount());
     }
 
+    @Test
+    void shouldCountEveryRecordFromConcurrentThreads() throws Exception {
+        TelemetryRollupStore store = new TelemetryRollupStore(runtimeConfigService, clock);
+        int threads = 8;
+        int recordsPerThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < recordsPerThread; i++) {
+                        store.recordModelUsage("gpt-5", "smart", 3, 2, 5);
+                        store.recordPluginAction("browser", "open");
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        clock.advanceSeconds(3600);
+        TelemetryRollupStore.BackendRollup rollup = store.collectReadyRollups().getFirst();
+
+        long expected = (long) threads * recordsPerThread;
+        TelemetryRollupStore.ModelUsageSummary summary = rollup.getModelUsage().get("gpt-5|smart");
+        assertEquals(expected, summary.getRequestCount());
+        assertEquals(expected * 3, summary.getInputTokens());
+        assertEquals(expected * 2, summary.getOutputTokens());
+        assertEquals(expected * 5, summary.getTotalTokens());
+        assertEquals(expected, rollup.getPluginUsage().get("action:browser:open"));
+    }
+
+    @Test
+    void shouldHoldJustClosedBucketUntilLateWritesSettle() {
+        TelemetryRollupStore store = new TelemetryRollupStore(runtimeConfigService, clock);
+        store.recordPluginInstall("browser");
+
+        clock.advanceSeconds(3300);
+        assertTrue(store.collectReadyRollups().isEmpty());
+
+        clock.advanceSeconds(5);
+        assertEquals(1, store.collectReadyRollups().size());
+        assertTrue(store.collectReadyRollups().isEmpty());
+    }
+
     private static final class MutableClock extends Clock {
         private Instant currentInstant;
 
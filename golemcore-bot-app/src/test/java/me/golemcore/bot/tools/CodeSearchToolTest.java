@@ -0,0 +1,94 @@
+package me.golemcore.bot.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.PatternSyntaxException;
+import me.golemcore.bot.domain.model.ToolResult;
+import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class CodeSearchToolTest {
+
+    private WorkspaceCodeIndex workspaceCodeIndex;
+    private RuntimeConfigService runtimeConfigService;
+    private CodeSearchTool tool;
+
+    @BeforeEach
+    void setUp() {
+        workspaceCodeIndex = mock(WorkspaceCodeIndex.class);
+        runtimeConfigService = mock(RuntimeConfigService.class);
+        when(runtimeConfigService.isFilesystemEnabled()).thenReturn(true);
+        tool = new CodeSearchTool(workspaceCodeIndex, runtimeConfigService);
+    }
+
+    @Test
+    void shouldFormatRankedHitsWithSnippets() throws Exception {
+        WorkspaceCodeIndex.FileHit hit = new WorkspaceCodeIndex.FileHit("src/Main.java", 8.9, 2, false,
+                List.of(new WorkspaceCodeIndex.Snippet(3, "class Main {"),
+                        new WorkspaceCodeIndex.Snippet(7, "Main.run();")));
+        when(workspaceCodeIndex.search(any()))
+                .thenReturn(new WorkspaceCodeIndex.SearchResults(List.of(hit), 1, 4, 120, false, 3));
+
+        ToolResult result = tool.execute(Map.of("query", "Main")).get();
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.getOutput().startsWith("Found 1 file matching \"Main\" (4 candidates of 120 indexed"));
+        assertTrue(result.getOutput().contains("src/Main.java (2 matches)\n  3: class Main {\n  7: Main.run();"));
+    }
+
+    @Test
+    void shouldMapParametersToSearchRequest() throws Exception {
+        when(workspaceCodeIndex.search(any()))
+                .thenReturn(new WorkspaceCodeIndex.SearchResults(List.of(), 0, 0, 0, false, 0));
+
+        tool.execute(Map.of("query", "get\\w+", "mode", "regex", "ignore_case", true, "path", "src/",
+                "glob", "*.java", "max_results", 500)).get();
+
+        ArgumentCaptor<WorkspaceCodeIndex.SearchRequest> captor = ArgumentCaptor
+                .forClass(WorkspaceCodeIndex.SearchRequest.class);
+        verify(workspaceCodeIndex).search(captor.capture());
+        WorkspaceCodeIndex.SearchRequest request = captor.getValue();
+        assertTrue(request.regex());
+        assertTrue(request.ignoreCase());
+        assertEquals("src/", request.pathPrefix());
+        assertEquals("*.java", request.glob());
+        assertEquals(50, request.maxResults());
+    }
+
+    @Test
+    void shouldRejectMissingQueryAndEscapingPath() throws Exception {
+        assertFalse(tool.execute(Map.of()).get().isSuccess());
+        assertFalse(tool.execute(Map.of("query", "x", "path", "../etc")).get().isSuccess());
+        assertFalse(tool.execute(Map.of("query", "x", "mode", "fuzzy")).get().isSuccess());
+        verify(workspaceCodeIndex, never()).search(any());
+    }
+
+    @Test
+    void shouldReportInvalidPattern() throws Exception {
+        when(workspaceCodeIndex.search(any())).thenThrow(new PatternSyntaxException("Unclosed group", "foo(", 4));
+
+        ToolResult result = tool.execute(Map.of("query", "foo(", "mode", "regex")).get();
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getError().startsWith("Invalid pattern: Unclosed group"));
+    }
+
+    @Test
+    void shouldFollowFilesystemToggle() throws Exception {
+        when(runtimeConfigService.isFilesystemEnabled()).thenReturn(false);
+
+        assertFalse(tool.isEnabled());
+        assertFalse(tool.execute(Map.of("query", "x")).get().isSuccess());
+    }
+}
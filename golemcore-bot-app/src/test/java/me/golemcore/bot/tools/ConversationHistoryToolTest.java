@@ -0,0 +1,103 @@
+package me.golemcore.bot.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import me.golemcore.bot.domain.context.compaction.CompactionSummaryTree;
+import me.golemcore.bot.domain.context.compaction.HierarchicalSummaryService;
+import me.golemcore.bot.domain.loop.AgentContextHolder;
+import me.golemcore.bot.domain.model.AgentContext;
+import me.golemcore.bot.domain.model.AgentSession;
+import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.domain.model.ToolNames;
+import me.golemcore.bot.domain.model.ToolResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConversationHistoryToolTest {
+
+    private HierarchicalSummaryService hierarchicalSummaryService;
+    private ConversationHistoryTool tool;
+
+    @BeforeEach
+    void setUp() {
+        hierarchicalSummaryService = mock(HierarchicalSummaryService.class);
+        tool = new ConversationHistoryTool(hierarchicalSummaryService);
+        AgentContextHolder.set(AgentContext.builder()
+                .session(AgentSession.builder().id("web:chat-1").build())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        AgentContextHolder.clear();
+    }
+
+    @Test
+    void shouldExposeDefinitionAndFollowHierarchicalToggle() {
+        when(hierarchicalSummaryService.isEnabled()).thenReturn(false);
+
+        assertEquals(ToolNames.CONVERSATION_HISTORY, tool.getDefinition().getName());
+        assertTrue(tool.getDefinition().getInputSchema().toString().contains("segment_id"));
+        assertFalse(tool.isEnabled());
+    }
+
+    @Test
+    void shouldReturnArchivedMessagesForLeafSegment() {
+        CompactionSummaryTree.Segment leaf = CompactionSummaryTree.Segment.builder()
+                .id("seg-1")
+                .level(0)
+                .messageCount(2)
+                .summary("first")
+                .build();
+        when(hierarchicalSummaryService.expand("web:chat-1", "seg-1"))
+                .thenReturn(Optional.of(new HierarchicalSummaryService.SegmentExpansion(leaf, List.of(), List.of(
+                        Message.builder().role("user").content("deploy to staging").build(),
+                        Message.builder().role("assistant").content("done").build()))));
+
+        ToolResult result = tool.execute(Map.of("segment_id", "seg-1")).join();
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.getOutput().contains("user: deploy to staging"));
+        assertTrue(result.getOutput().contains("assistant: done"));
+    }
+
+    @Test
+    void shouldReturnChildSummariesForMergedSegment() {
+        CompactionSummaryTree.Segment parent = CompactionSummaryTree.Segment.builder()
+                .id("seg-3")
+                .level(1)
+                .messageCount(5)
+                .summary("merged")
+                .build();
+        CompactionSummaryTree.Segment child = CompactionSummaryTree.Segment.builder()
+                .id("seg-1")
+                .level(0)
+                .messageCount(2)
+                .summary("first")
+                .build();
+        when(hierarchicalSummaryService.expand("web:chat-1", "seg-3"))
+                .thenReturn(Optional.of(new HierarchicalSummaryService.SegmentExpansion(parent, List.of(child),
+                        List.of())));
+
+        ToolResult result = tool.execute(Map.of("segment_id", "seg-3")).join();
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.getOutput().contains("[Segment seg-1, level 0, 2 messages]\nfirst"));
+    }
+
+    @Test
+    void shouldFailForUnknownOrMissingSegment() {
+        when(hierarchicalSummaryService.expand("web:chat-1", "seg-9")).thenReturn(Optional.empty());
+
+        assertFalse(tool.execute(Map.of("segment_id", "seg-9")).join().isSuccess());
+        assertFalse(tool.execute(Map.of()).join().isSuccess());
+    }
+}
@@ -552,4 +552,129 @@ class FileSystemToolTest {
         java.util.List<String> enumValues = (java.util.List<String>) opProp.get("enum");
         assertTrue(enumValues.contains("send_file"));
     }
+
+    // ===== Ranged reads and search =====
+
+    @Test
+    void shouldReadLineRange() throws Exception {
+        Files.writeString(tempDir.resolve("log.txt"), "one\ntwo\r\nthree\nfour\n");
+
+        ToolResult result = tool.execute(Map.of(
+                OPERATION, READ_FILE,
+                PATH, "log.txt",
+                "start_line", 2,
+                "end_line", 3)).get();
+
+        assertTrue(result.isSuccess());
+        assertEquals("two\nthree\n", result.getOutput());
+        @SuppressWarnings(SUPPRESS_UNCHECKED)
+        Map<String, Object> data = (Map<String, Object>) result.getData();
+        assertEquals(3L, data.get("end_line"));
+    }
+
+    @Test
+    void shouldHintNextStartLineWhenLineReadIsCapped() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int line = 1; line <= 2500; line++) {
+            content.append("line ").append(line).append('\n');
+        }
+        Files.writeString(tempDir.resolve("big.log"), content.toString());
+
+        ToolResult result = tool.execute(Map.of(
+                OPERATION, READ_FILE,
+                PATH, "big.log",
+                "start_line", "1")).get();
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.getOutput().startsWith("line 1\n"));
+        assertTrue(result.getOutput().contains("line 2000\n"));
+        assertFalse(result.getOutput().contains("line 2001\n"));
+        assertTrue(result.getOutput().endsWith("continue with start_line=2001]"));
+    }
+
+    @Test
+    void shouldFailWhenStartLineIsBeyondEndOfFile() throws Exception {
+        Files.writeString(tempDir.resolve("short.txt"), "only\n");
+
+        ToolResult result = tool.execute(Map.of(
+                OPERATION, READ_FILE,
+                PATH, "short.txt",
+                "start_line", 5)).get();
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getError().contains("beyond the end of file"));
+    }
+
+    @Test
+    void shouldReadByteRange() throws Exception {
+        Files.writeString(tempDir.resolve("bytes.txt"), "0123456789");
+
+        ToolResult result = tool.execute(Map.of(
+                OPERATION, READ_FILE,
+                PATH, "bytes.txt",
+                "offset", 3,
+                "length", 4)).get();
+
+        assertTrue(result.isSuccess());
+        assertEquals("3456", result.getOutput());
+    }
+
+    @Test
+    void shouldRejectMixedLineAndByteRanges() throws Exception {
+        Files.writeString(tempDir.resolve("bytes.txt"), "0123456789");
+
+        ToolResult result = tool.execute(Map.of(
+                OPERATION, READ_FILE,
+                PATH, "bytes.txt",
+                "start_line", 1,
+                "offset", 0)).get();
+
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    void shouldSearchFileForMatchingLines() throws Exception {
+        Files.writeString(tempDir.resolve("app.log"), "INFO start\nERROR disk full\nINFO retry\nerror again\n");
+
+        ToolResult result = tool.execute(Map.of(
+                OPERATION, "search_file",
+                PATH, "app.log",
+                "pattern", "error",
+                "ignore_case", true)).get();
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.getOutput().contains("Matches: 2"));
+        assertTrue(result.getOutput().contains("2: ERROR disk full"));
+        assertTrue(result.getOutput().contains("4: error again"));
+    }
+
+    @Test
+    void shouldStopSearchAtMaxMatches() throws Exception {
+        Files.writeString(tempDir.resolve("app.log"), "hit\nhit\nhit\n");
+
+        ToolResult result = tool.execute(Map.of(
+                OPERATION, "search_file",
+                PATH, "app.log",
+                "pattern", "hit",
+                "max_matches", 2)).get();
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.getOutput().contains("Matches: 2 (limit reached"));
+        @SuppressWarnings(SUPPRESS_UNCHECKED)
+        Map<String, Object> data = (Map<String, Object>) result.getData();
+        assertEquals(Boolean.TRUE, data.get("truncated"));
+    }
+
+    @Test
+    void shouldFailSearchOnInvalidPattern() throws Exception {
+        Files.writeString(tempDir.resolve("app.log"), "x\n");
+
+        ToolResult result = tool.execute(Map.of(
+                OPERATION, "search_file",
+                PATH, "app.log",
+                "pattern", "(unclosed")).get();
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getError().startsWith("Invalid pattern"));
+    }
 }
@@ -0,0 +1,80 @@
+package me.golemcore.bot.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedTextReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReadLastLineWithoutTrailingNewline() throws Exception {
+        Path file = write("a\nb\nc");
+
+        MappedTextReader.LineRange range = MappedTextReader.readLines(file, 2, 10, 1024);
+
+        assertEquals("b\nc\n", range.content());
+        assertEquals(3, range.endLine());
+        assertTrue(range.reachedEnd());
+        assertFalse(range.truncated());
+    }
+
+    @Test
+    void shouldStopLineReadAtByteBudget() throws Exception {
+        Path file = write("aaaa\nbbbb\ncccc\n");
+
+        MappedTextReader.LineRange range = MappedTextReader.readLines(file, 1, 10, 8);
+
+        assertEquals("aaaa\n", range.content());
+        assertEquals(1, range.endLine());
+        assertTrue(range.truncated());
+        assertFalse(range.reachedEnd());
+    }
+
+    @Test
+    void shouldClipOverlongLines() throws Exception {
+        Path file = write("x".repeat(MappedTextReader.MAX_LINE_BYTES + 10) + "\nnext\n");
+
+        MappedTextReader.LineRange range = MappedTextReader.readLines(file, 1, 2, 1024 * 1024);
+
+        assertTrue(range.content().contains("[line clipped]"));
+        assertTrue(range.content().endsWith("next\n"));
+    }
+
+    @Test
+    void shouldReportSearchLineNumbersAndScannedLines() throws Exception {
+        Path file = write("alpha\nbeta\ngamma\nalphabet\n");
+
+        MappedTextReader.SearchResult result = MappedTextReader.search(file, Pattern.compile("^alpha"), 10, 4);
+
+        assertEquals(2, result.matches().size());
+        assertEquals(1, result.matches().get(0).line());
+        assertEquals(4, result.matches().get(1).line());
+        assertEquals("alph...", result.matches().get(1).text());
+        assertEquals(4, result.linesScanned());
+        assertFalse(result.truncated());
+    }
+
+    @Test
+    void shouldReturnEmptyForByteOffsetAtEndOfFile() throws Exception {
+        Path file = write("abc");
+
+        assertEquals("", MappedTextReader.readBytes(file, 3, 10));
+        assertEquals("bc", MappedTextReader.readBytes(file, 1, 10));
+    }
+
+    private Path write(String content) throws Exception {
+        Path file = tempDir.resolve("file.txt");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
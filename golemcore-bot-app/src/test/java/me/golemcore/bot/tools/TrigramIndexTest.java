@@ -0,0 +1,95 @@
+package me.golemcore.bot.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class TrigramIndexTest {
+
+    @Test
+    void shouldReturnOnlyFilesContainingAllTrigrams() {
+        TrigramIndex index = new TrigramIndex();
+        put(index, "a.txt", "hello world");
+        put(index, "b.txt", "hello there");
+        put(index, "c.txt", "nothing here");
+
+        assertEquals(List.of("a.txt"), paths(index.candidates(List.of("world"))));
+        assertEquals(List.of("a.txt", "b.txt"), paths(index.candidates(List.of("hello"))));
+        assertTrue(index.candidates(List.of("missing")).isEmpty());
+    }
+
+    @Test
+    void shouldFoldAsciiCase() {
+        TrigramIndex index = new TrigramIndex();
+        put(index, "a.txt", "UserService");
+
+        assertEquals(List.of("a.txt"), paths(index.candidates(List.of("userservice"))));
+    }
+
+    @Test
+    void shouldSelectAllFilesForShortLiterals() {
+        TrigramIndex index = new TrigramIndex();
+        put(index, "a.txt", "abc");
+        put(index, "b.txt", "xyz");
+
+        assertEquals(List.of("a.txt", "b.txt"), paths(index.candidates(List.of("ab"))));
+    }
+
+    @Test
+    void shouldReplaceChangedFileAndSkipBinaryContent() {
+        TrigramIndex index = new TrigramIndex();
+        put(index, "a.txt", "first version");
+        put(index, "a.txt", "second version");
+
+        assertTrue(index.candidates(List.of("first")).isEmpty());
+        assertEquals(List.of("a.txt"), paths(index.candidates(List.of("second"))));
+        assertFalse(index.put("bin.dat", 4, 0, new byte[] { 'a', 0, 'b', 'c' }));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void shouldCompactDeadEntriesWithoutLosingLiveFiles() {
+        TrigramIndex index = new TrigramIndex();
+        for (int round = 0; round < 1100; round++) {
+            put(index, "churn.txt", "round " + round);
+        }
+        put(index, "stable.txt", "stable content");
+
+        index.compactIfNeeded();
+
+        assertEquals(List.of("churn.txt"), paths(index.candidates(List.of("round 1099"))));
+        assertEquals(List.of("stable.txt"), paths(index.candidates(List.of("stable"))));
+        assertEquals(0, index.find("churn.txt").orElseThrow().id());
+    }
+
+    @Test
+    void shouldRoundTripThroughSerializationForSameRoot() throws Exception {
+        TrigramIndex index = new TrigramIndex();
+        put(index, "src/Main.java", "public class Main {}");
+        put(index, "README.md", "documentation");
+        index.remove("README.md");
+
+        byte[] data = index.serialize("/workspace");
+        Optional<TrigramIndex> restored = TrigramIndex.deserialize(data, "/workspace");
+
+        assertTrue(restored.isPresent());
+        assertEquals(1, restored.get().size());
+        assertEquals(List.of("src/Main.java"), paths(restored.get().candidates(List.of("class Main"))));
+        assertTrue(TrigramIndex.deserialize(data, "/other").isEmpty());
+        assertTrue(TrigramIndex.deserialize(new byte[] { 1, 2, 3 }, "/workspace").isEmpty());
+    }
+
+    private static void put(TrigramIndex index, String path, String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        index.put(path, bytes.length, 0, bytes);
+    }
+
+    private static List<String> paths(List<TrigramIndex.FileEntry> entries) {
+        return entries.stream().map(TrigramIndex.FileEntry::path).toList();
+    }
+}
@@ -0,0 +1,54 @@
+package me.golemcore.bot.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TrigramQueryTest {
+
+    @Test
+    void shouldUseWholeQueryInLiteralMode() {
+        assertEquals(List.of("foo(bar|baz)"), TrigramQuery.requiredLiterals("foo(bar|baz)", false, false));
+    }
+
+    @Test
+    void shouldExtractTopLevelRegexLiterals() {
+        assertEquals(List.of("class ", "Service"),
+                TrigramQuery.requiredLiterals("class \\w+Service", true, false));
+    }
+
+    @Test
+    void shouldDropCharactersMadeOptionalByQuantifier() {
+        assertEquals(List.of("colo"), TrigramQuery.requiredLiterals("colou?r", true, false));
+        assertEquals(List.of("abc"), TrigramQuery.requiredLiterals("abcd{0,2}", true, false));
+    }
+
+    @Test
+    void shouldKeepEscapedMetacharactersInLiterals() {
+        assertEquals(List.of("a.b()"), TrigramQuery.requiredLiterals("a\\.b\\(\\)", true, false));
+    }
+
+    @Test
+    void shouldNotTreatEscapeArgumentsAsLiterals() {
+        assertEquals(List.of("zzz"), TrigramQuery.requiredLiterals("\\x41\\u0042zzz", true, false));
+    }
+
+    @Test
+    void shouldSkipGroupsAndCharacterClasses() {
+        assertEquals(List.of("get", "Name"), TrigramQuery.requiredLiterals("get(Full)?[A-Z]Name", true, false));
+    }
+
+    @Test
+    void shouldSelectEverythingForAlternationAndInlineFlags() {
+        assertTrue(TrigramQuery.requiredLiterals("alpha|beta", true, false).isEmpty());
+        assertTrue(TrigramQuery.requiredLiterals("(?x) a b c", true, false).isEmpty());
+    }
+
+    @Test
+    void shouldDropNonAsciiLiteralsWhenIgnoringCase() {
+        assertTrue(TrigramQuery.requiredLiterals("Ärger", false, true).isEmpty());
+        assertEquals(List.of("Ärger"), TrigramQuery.requiredLiterals("Ärger", false, false));
+    }
+}
@@ -0,0 +1,187 @@
+package me.golemcore.bot.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.PatternSyntaxException;
+import me.golemcore.bot.domain.tools.workspace.WorkspacePathService;
+import me.golemcore.bot.port.outbound.StoragePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WorkspaceCodeIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MutableClock clock;
+    private StoragePort storagePort;
+    private WorkspacePathService workspacePathService;
+    private AtomicReference<byte[]> persisted;
+    private WorkspaceCodeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        persisted = new AtomicReference<>();
+        storagePort = mock(StoragePort.class);
+        when(storagePort.getObject(anyString(), anyString()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(persisted.get()));
+        when(storagePort.putObject(anyString(), anyString(), any(byte[].class))).thenAnswer(invocation -> {
+            persisted.set(invocation.getArgument(2));
+            return CompletableFuture.completedFuture(null);
+        });
+        workspacePathService = mock(WorkspacePathService.class);
+        when(workspacePathService.getWorkspaceRoot()).thenReturn(tempDir);
+        index = new WorkspaceCodeIndex(workspacePathService, storagePort, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void shouldFindLiteralMatchesWithLineSnippets() throws Exception {
+        write("src/Main.java", "package demo;\n\nclass Main {\n    String greeting = \"hello\";\n}\n");
+        write("src/Other.java", "class Other {}\n");
+
+        WorkspaceCodeIndex.SearchResults results = index.search(request("greeting", false));
+
+        assertEquals(1, results.matchedFiles());
+        WorkspaceCodeIndex.FileHit hit = results.hits().getFirst();
+        assertEquals("src/Main.java", hit.path());
+        assertEquals(4, hit.snippets().getFirst().line());
+        assertEquals("String greeting = \"hello\";", hit.snippets().getFirst().text());
+    }
+
+    @Test
+    void shouldRankFileNameAndDeclarationMatchesFirst() throws Exception {
+        write("docs/notes.md", "UserService is used here\nUserService again\n");
+        write("src/UserService.java", "public class UserService {\n}\n");
+
+        WorkspaceCodeIndex.SearchResults results = index.search(request("UserService", false));
+
+        assertEquals(List.of("src/UserService.java", "docs/notes.md"),
+                results.hits().stream().map(WorkspaceCodeIndex.FileHit::path).toList());
+    }
+
+    @Test
+    void shouldApplyRegexPathPrefixAndGlobFilters() throws Exception {
+        write("app/Service.java", "void handleOrder() {}\n");
+        write("app/service.ts", "function handleOrder() {}\n");
+        write("lib/Service.java", "void handleOrder() {}\n");
+
+        WorkspaceCodeIndex.SearchResults results = index.search(new WorkspaceCodeIndex.SearchRequest(
+                "handle\\w+\\(", true, false, "app", "*.java", 10));
+
+        assertEquals(List.of("app/Service.java"),
+                results.hits().stream().map(WorkspaceCodeIndex.FileHit::path).toList());
+    }
+
+    @Test
+    void shouldSkipIgnoredDirectoriesAndBinaryFiles() throws Exception {
+        write("node_modules/pkg/index.js", "needle\n");
+        write("src/app.js", "needle\n");
+        Files.write(tempDir.resolve("data.bin"), new byte[] { 'n', 'e', 'e', 'd', 'l', 'e', 0 });
+
+        WorkspaceCodeIndex.SearchResults results = index.search(request("needle", false));
+
+        assertEquals(List.of("src/app.js"),
+                results.hits().stream().map(WorkspaceCodeIndex.FileHit::path).toList());
+        assertEquals(1, results.indexedFiles());
+    }
+
+    @Test
+    void shouldPickUpChangedAndDeletedFilesOnReconcile() throws Exception {
+        write("a.txt", "alpha\n");
+        write("b.txt", "beta\n");
+        assertEquals(1, index.search(request("alpha", false)).matchedFiles());
+
+        write("a.txt", "gamma gamma\n");
+        Files.delete(tempDir.resolve("b.txt"));
+        clock.advance(WorkspaceCodeIndex.RECONCILE_INTERVAL.plusSeconds(1));
+
+        assertEquals(0, index.search(request("alpha", false)).matchedFiles());
+        WorkspaceCodeIndex.SearchResults results = index.search(request("gamma", false));
+        assertEquals(1, results.matchedFiles());
+        assertEquals(1, results.indexedFiles());
+    }
+
+    @Test
+    void shouldRestorePersistedIndexOnRestart() throws Exception {
+        write("src/Main.java", "class Main {}\n");
+        index.search(request("Main", false));
+        index.shutdown();
+        assertTrue(persisted.get() != null && persisted.get().length > 0);
+
+        WorkspaceCodeIndex restarted = new WorkspaceCodeIndex(workspacePathService, storagePort, clock);
+        try {
+            WorkspaceCodeIndex.SearchResults results = restarted.search(request("class Main", false));
+            assertEquals(1, results.matchedFiles());
+        } finally {
+            restarted.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidRegex() {
+        assertThrows(PatternSyntaxException.class, () -> index.search(request("foo(", true)));
+    }
+
+    private static WorkspaceCodeIndex.SearchRequest request(String query, boolean regex) {
+        return new WorkspaceCodeIndex.SearchRequest(query, regex, false, null, null, 10);
+    }
+
+    private void write(String relative, String content) throws Exception {
+        Path file = tempDir.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
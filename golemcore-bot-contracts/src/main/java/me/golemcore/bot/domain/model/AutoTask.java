@@ -31,7 +31,7 @@ import java.time.Instant;
  * progress toward goal completion with status, results, and ordering.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class AutoTask {
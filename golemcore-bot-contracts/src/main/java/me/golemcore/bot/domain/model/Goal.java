@@ -33,7 +33,7 @@ import java.util.List;
  * tasks and track overall progress and status.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Goal {
@@ -27,7 +27,8 @@ import java.util.Map;
 /**
  * Configuration for an MCP (Model Context Protocol) server declared in a
  * skill's YAML frontmatter. Specifies the command to start the server,
- * environment variables, and timeout settings.
+ * environment variables, timeout settings, how many server instances may serve
+ * concurrent tool calls, and whether the server starts with the application.
  */
 @Data
 @Builder
@@ -43,4 +44,10 @@ public class McpConfig {
 
     @Builder.Default
     private int idleTimeoutMinutes = 5;
+
+    @Builder.Default
+    private int poolSize = 1;
+
+    @Builder.Default
+    private boolean prewarm = false;
 }
@@ -0,0 +1,46 @@
+package me.golemcore.bot.domain.model;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+/**
+ * Snapshot of an MCP server's instance pool and startup metrics.
+ *
+ * @param running
+ *            whether at least one server instance is alive
+ * @param starting
+ *            whether a server start is in progress
+ * @param instances
+ *            number of running server instances
+ * @param poolSize
+ *            maximum number of server instances
+ * @param inFlightRequests
+ *            requests awaiting a response across all instances
+ * @param starts
+ *            successful instance starts since application startup
+ * @param startFailures
+ *            failed instance starts since application startup
+ * @param toolListCacheHits
+ *            activations served from the persisted {@code tools/list} cache
+ * @param lastStartupMillis
+ *            duration of the latest successful start, including the
+ *            {@code initialize} and {@code tools/list} handshake
+ * @param averageStartupMillis
+ *            average duration of successful starts
+ */
+public record McpServerStatus(boolean running,boolean starting,int instances,int poolSize,int inFlightRequests,long starts,long startFailures,long toolListCacheHits,long lastStartupMillis,long averageStartupMillis){}
@@ -711,6 +711,8 @@ public class RuntimeConfig {
         @Builder.Default
         private Boolean captureLlmPayloads = true;
         @Builder.Default
+        private Integer llmPayloadSampleInterval = 1;
+        @Builder.Default
         private Double resiliencePayloadSampleRate = 0.0d;
     }
 
@@ -761,6 +763,14 @@ public class RuntimeConfig {
         private Integer detailsMaxItemsPerCategory = 50;
         @Builder.Default
         private Integer summaryTimeoutMs = 15000;
+        @Builder.Default
+        private Boolean speculativeEnabled = false;
+        @Builder.Default
+        private Double speculativeTriggerRatio = 0.8d;
+        @Builder.Default
+        private Boolean hierarchicalEnabled = false;
+        @Builder.Default
+        private Integer hierarchyFanout = 4;
     }
 
     @Data
@@ -831,6 +841,10 @@ public class RuntimeConfig {
         private Long repeatGuardMinPollIntervalSeconds = 60L;
         @Builder.Default
         private Long repeatGuardAutoLedgerTtlMinutes = 120L;
+        @Builder.Default
+        private Boolean resultCacheEnabled = false;
+        @Builder.Default
+        private Long resultCacheTtlSeconds = 60L;
     }
 
     @Data
@@ -1059,6 +1073,10 @@ public class RuntimeConfig {
         @Builder.Default
         private Integer idleTimeoutMinutes = 5;
         @Builder.Default
+        private Integer poolSize = 1;
+        @Builder.Default
+        private Boolean prewarm = false;
+        @Builder.Default
         private Boolean enabled = true;
     }
 
@@ -26,8 +26,10 @@ public final class ToolNames {
     public static final String MEMORY = "memory";
     public static final String SHELL = "shell";
     public static final String FILESYSTEM = "filesystem";
+    public static final String CODE_SEARCH = "code_search";
     public static final String GOAL_MANAGEMENT = "goal_management";
     public static final String PLAN_EXIT = "plan_exit";
+    public static final String CONVERSATION_HISTORY = "conversation_history";
 
     private ToolNames() {
     }
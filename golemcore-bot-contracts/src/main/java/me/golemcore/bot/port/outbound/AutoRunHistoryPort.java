@@ -0,0 +1,120 @@
+package me.golemcore.bot.port.outbound;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Persistent index of autonomous scheduler runs: one summary per run for
+ * filtered listings plus one detail record per run.
+ */
+public interface AutoRunHistoryPort {
+
+    /**
+     * Load the persisted index unless it is already in memory.
+     *
+     * @return {@code false} when no readable index exists and it has to be rebuilt
+     */
+    boolean load();
+
+    /**
+     * Matching runs, most recently active first.
+     */
+    List<RunSummary> list(Predicate<RunSummary> filter, int limit);
+
+    Optional<RunDetail> find(String runId);
+
+    /**
+     * Store a run, replacing an earlier version of it.
+     */
+    void put(RunDetail run);
+
+    /**
+     * Store a run only if it is not indexed yet, so that a run which already
+     * finished is never reset to its submitted state.
+     */
+    void putIfAbsent(RunDetail run);
+
+    /**
+     * Replace the whole index with the given runs.
+     *
+     * @return number of indexed runs
+     */
+    int replaceAll(List<RunDetail> runs);
+
+    record RunSummary(
+            String runId,
+            String sessionId,
+            String channelType,
+            String conversationKey,
+            String transportChatId,
+            String scheduleId,
+            String scheduleTargetType,
+            String scheduleTargetId,
+            String scheduleTargetLabel,
+            String scheduledTaskId,
+            String scheduledTaskLabel,
+            String goalId,
+            String goalLabel,
+            String taskId,
+            String taskLabel,
+            String status,
+            int messageCount,
+            Instant startedAt,
+            Instant lastActivityAt) {
+    }
+
+    record RunDetail(
+            String runId,
+            String sessionId,
+            String channelType,
+            String conversationKey,
+            String transportChatId,
+            String scheduleId,
+            String scheduleTargetType,
+            String scheduleTargetId,
+            String scheduleTargetLabel,
+            String scheduledTaskId,
+            String scheduledTaskLabel,
+            String goalId,
+            String goalLabel,
+            String taskId,
+            String taskLabel,
+            String status,
+            Instant startedAt,
+            Instant lastActivityAt,
+            List<RunMessage> messages) {
+    }
+
+    record RunMessage(
+            String id,
+            String role,
+            String content,
+            Instant timestamp,
+            boolean hasToolCalls,
+            boolean hasVoice,
+            String model,
+            String modelTier,
+            String skill,
+            String status) {
+    }
+}
@@ -0,0 +1,18 @@
+package me.golemcore.bot.port.outbound;
+
+import me.golemcore.bot.domain.model.Message;
+
+import java.util.List;
+
+/**
+ * Serializes compaction summary trees and the archived messages of their
+ * segments.
+ */
+public interface CompactionSummaryCodecPort {
+
+    String encode(Object value);
+
+    <T> T decode(String payload, Class<T> targetType);
+
+    List<Message> decodeMessages(String payload);
+}
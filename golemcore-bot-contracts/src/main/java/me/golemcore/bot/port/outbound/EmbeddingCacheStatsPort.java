@@ -0,0 +1,28 @@
+package me.golemcore.bot.port.outbound;
+
+/**
+ * Outbound contract for reading hit/miss counters of the shared embedding
+ * cache.
+ */
+public interface EmbeddingCacheStatsPort {
+
+    Stats stats();
+
+    /**
+     * Counters since startup plus the current resident size.
+     */
+    record Stats(
+            boolean enabled,
+            long hits,
+            long misses,
+            long stores,
+            long evictions,
+            int entries,
+            long bytes) {
+
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+}
@@ -36,6 +36,9 @@ public interface EmbeddingPort {
             List<String> inputs) {
     }
 
-    record EmbeddingResponse(String model, List<List<Double>> vectors) {
+    /**
+     * Embedding vectors in input order.
+     */
+    record EmbeddingResponse(String model, List<float[]> vectors) {
     }
 }
@@ -19,10 +19,12 @@ package me.golemcore.bot.port.outbound;
  */
 
 import me.golemcore.bot.domain.component.ToolComponent;
+import me.golemcore.bot.domain.model.McpServerStatus;
 import me.golemcore.bot.domain.model.Skill;
 import me.golemcore.bot.domain.model.ToolDefinition;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Port for managing MCP (Model Context Protocol) server clients. Abstracts the
@@ -50,4 +52,19 @@ public interface McpPort {
      * Get the tool names belonging to a skill's MCP server.
      */
     List<String> getToolNames(String skillName);
+
+    /**
+     * Start the MCP server for the given skill in the background, so that its first
+     * activation does not wait for process startup.
+     */
+    default void prewarm(Skill skill) {
+    }
+
+    /**
+     * Get startup and pool metrics of a skill's MCP server, if it has been started
+     * at least once.
+     */
+    default Optional<McpServerStatus> getServerStatus(String skillName) {
+        return Optional.empty();
+    }
 }
@@ -7,6 +7,38 @@ public interface MemorySettingsPort {
 
     MemorySettings memory();
 
+    default VectorSettings vector() {
+        return VectorSettings.disabled();
+    }
+
     record MemorySettings(String directory) {
     }
+
+    /**
+     * Optional embedding channel fused with lexical memory retrieval.
+     */
+    record VectorSettings(
+            boolean enabled,
+            String embeddingProvider,
+            String embeddingBaseUrl,
+            String embeddingApiKey,
+            String embeddingModel,
+            Integer embeddingDimensions,
+            Integer embeddingTimeoutMs,
+            int maxCandidates) {
+
+        public VectorSettings {
+            maxCandidates = maxCandidates > 0 ? maxCandidates : 32;
+        }
+
+        public static VectorSettings disabled() {
+            return new VectorSettings(false, null, null, null, null, null, null, 32);
+        }
+
+        public boolean active() {
+            return enabled
+                    && embeddingProvider != null && !embeddingProvider.isBlank()
+                    && embeddingModel != null && !embeddingModel.isBlank();
+        }
+    }
 }
@@ -0,0 +1,23 @@
+package me.golemcore.bot.port.outbound;
+
+/**
+ * Outbound contract for reading backlog and throughput counters of the RAG
+ * ingestion queue.
+ */
+public interface RagIngestionStatsPort {
+
+    Stats stats();
+
+    /**
+     * Current backlog plus counters since startup.
+     */
+    record Stats(
+            int pending,
+            int inFlightBatches,
+            long indexedDocuments,
+            long indexedBatches,
+            long deduplicated,
+            long failedBatches,
+            long dropped) {
+    }
+}
@@ -0,0 +1,32 @@
+package me.golemcore.bot.port.outbound;
+
+/**
+ * Outbound contract for reading hit/miss counters of the RAG query result
+ * cache.
+ */
+public interface RagQueryCacheStatsPort {
+
+    Stats stats();
+
+    /**
+     * Counters since startup plus the current entry count. Similar hits are
+     * lookups served from a cached query with a close enough embedding.
+     */
+    record Stats(
+            boolean enabled,
+            long hits,
+            long similarHits,
+            long misses,
+            long stores,
+            long invalidations,
+            long expirations,
+            long embeddingFailures,
+            int entries) {
+
+        public double hitRate() {
+            long served = hits + similarHits;
+            long lookups = served + misses;
+            return lookups == 0 ? 0.0 : (double) served / lookups;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package me.golemcore.bot.port.outbound;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+/**
+ * Removes state that other components derive from a session, such as summary
+ * trees or indexes, once the session itself has been deleted or its messages
+ * have been cleared.
+ */
+public interface SessionCleanupPort {
+
+    void deleteSessionData(String sessionId);
+
+    /**
+     * Drop state derived from the message history after the session's messages
+     * were cleared while the session itself is kept.
+     */
+    default void clearSessionHistory(String sessionId) {
+    }
+}
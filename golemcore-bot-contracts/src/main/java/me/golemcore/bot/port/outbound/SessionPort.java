@@ -50,6 +50,19 @@ public interface SessionPort {
 
     int getMessageCount(String sessionId);
 
+    /**
+     * Returns one page of user and assistant messages that are visible in
+     * history, oldest first, ending right before {@code beforeMessageId} or at the
+     * newest message when it is blank. Stored sessions are read through a
+     * per-session message index, so the cost follows the page size rather than
+     * the session length.
+     *
+     * @throws IllegalArgumentException
+     *             if {@code beforeMessageId} is not a visible message of the
+     *             session
+     */
+    Optional<MessagePage> getVisibleMessagesPage(String sessionId, int limit, String beforeMessageId);
+
     List<AgentSession> listAll();
 
     List<AgentSession> listByChannelType(String channelType);
@@ -57,4 +70,7 @@ public interface SessionPort {
     List<AgentSession> listByChannelTypeAndTransportChatId(String channelType, String transportChatId);
 
     int cleanupExpiredSessions(Instant cutoff, Predicate<AgentSession> shouldRetain);
+
+    record MessagePage(List<Message> messages, boolean hasMore) {
+    }
 }
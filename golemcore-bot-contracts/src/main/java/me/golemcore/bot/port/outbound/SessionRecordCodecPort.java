@@ -1,6 +1,10 @@
 package me.golemcore.bot.port.outbound;
 
 import me.golemcore.bot.domain.model.AgentSession;
+import me.golemcore.bot.domain.model.Message;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Serializes and deserializes persisted session records.
@@ -10,4 +14,25 @@ public interface SessionRecordCodecPort {
     byte[] encode(AgentSession session);
 
     AgentSession decode(byte[] bytes);
+
+    /**
+     * Locates every message inside an encoded session record, in message order.
+     * Codecs that cannot address single messages return empty.
+     */
+    default Optional<List<MessageSlice>> indexMessages(byte[] bytes) {
+        return Optional.empty();
+    }
+
+    /**
+     * Decodes one message located by {@link #indexMessages(byte[])}.
+     */
+    default Message decodeMessage(byte[] bytes) {
+        throw new UnsupportedOperationException("Message-level decoding is not supported");
+    }
+
+    /**
+     * Byte range of one encoded message within a session record.
+     */
+    record MessageSlice(int offset, int length) {
+    }
 }
@@ -18,6 +18,7 @@ package me.golemcore.bot.port.outbound;
  * Contact: alex@kuleshov.tech
  */
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -50,11 +51,37 @@ public interface StoragePort {
      */
     CompletableFuture<byte[]> getObject(String directory, String path);
 
+    /**
+     * Read {@code length} bytes starting at {@code offset}. Completes with
+     * {@code null} when the file does not exist.
+     */
+    default CompletableFuture<byte[]> getObjectRange(String directory, String path, long offset, int length) {
+        return getObject(directory, path).thenApply(bytes -> {
+            if (bytes == null) {
+                return null;
+            }
+            if (offset < 0 || length < 0 || offset + length > bytes.length) {
+                throw new IllegalArgumentException("Range outside of file: " + directory + "/" + path);
+            }
+            return Arrays.copyOfRange(bytes, (int) offset, (int) offset + length);
+        });
+    }
+
     /**
      * Read text content from file.
      */
     CompletableFuture<String> getText(String directory, String path);
 
+    /**
+     * Last modification time of a file in epoch milliseconds. Completes with
+     * {@code null} when the file does not exist or the storage does not track
+     * modification times, in which case callers must read the content to detect
+     * changes.
+     */
+    default CompletableFuture<Long> getLastModified(String directory, String path) {
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Check if file exists.
      */
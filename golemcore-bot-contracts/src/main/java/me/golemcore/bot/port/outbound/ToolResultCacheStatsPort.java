@@ -0,0 +1,28 @@
+package me.golemcore.bot.port.outbound;
+
+/**
+ * Outbound contract for reading hit/miss counters of the read-only tool result
+ * cache.
+ */
+public interface ToolResultCacheStatsPort {
+
+    Stats stats();
+
+    /**
+     * Counters since startup plus the current entry count.
+     */
+    record Stats(
+            boolean enabled,
+            long hits,
+            long misses,
+            long stores,
+            long invalidations,
+            long expirations,
+            int entries) {
+
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+}
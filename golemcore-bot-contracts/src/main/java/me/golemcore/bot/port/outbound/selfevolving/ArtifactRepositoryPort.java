@@ -38,4 +38,8 @@ public interface ArtifactRepositoryPort {
     void saveRevisions(List<ArtifactRevisionRecord> revisions);
 
     void writeWorkspaceProjection(String relativePath, Object payload);
+
+    List<String> listWorkspaceProjections(String relativeDirectory);
+
+    void deleteWorkspaceProjection(String relativePath);
 }
@@ -34,9 +34,25 @@ public interface RunJournalPort {
 
     void saveRuns(List<RunRecord> runs);
 
+    /**
+     * Persist a single new or changed run. {@code runs} is the full journal
+     * including {@code run}, for implementations that can only rewrite all.
+     */
+    default void saveRun(RunRecord run, List<RunRecord> runs) {
+        saveRuns(runs);
+    }
+
     Map<String, RunVerdict> loadVerdicts();
 
     void saveVerdicts(Map<String, RunVerdict> verdicts);
 
+    /**
+     * Persist a single verdict for {@code runId}. {@code verdicts} is the full
+     * verdict map including the new entry.
+     */
+    default void saveVerdict(String runId, RunVerdict verdict, Map<String, RunVerdict> verdicts) {
+        saveVerdicts(verdicts);
+    }
+
     String exportRunsAsJson(List<RunRecord> runs);
 }
@@ -0,0 +1,196 @@
+package me.golemcore.bot.plugin.runtime;
+
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.plugin.runtime.config.PluginRuntimeProperties.EventOverflowPolicy;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers host events to plugin child contexts off the publisher's thread.
+ *
+ * <p>
+ * Every plugin gets its own bounded FIFO queue drained by at most one worker at
+ * a time, so events reach each plugin in publish order while a slow listener
+ * only delays its own plugin. When a queue is full the configured
+ * {@link EventOverflowPolicy} drops either the oldest queued event or the new
+ * one; drops, failures and delivery latency are tracked per plugin.
+ */
+@Slf4j
+class PluginEventBus {
+
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    private final int queueCapacity;
+    private final EventOverflowPolicy overflowPolicy;
+    private final Duration slowDeliveryThreshold;
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "plugin-events-" + THREAD_IDS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    PluginEventBus(int queueCapacity, EventOverflowPolicy overflowPolicy, Duration slowDeliveryThreshold) {
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.overflowPolicy = overflowPolicy != null ? overflowPolicy : EventOverflowPolicy.DROP_OLDEST;
+        this.slowDeliveryThreshold = slowDeliveryThreshold != null ? slowDeliveryThreshold : Duration.ofSeconds(1);
+    }
+
+    /**
+     * Start delivering events to {@code target} under {@code pluginId}. A previous
+     * subscription of the same plugin is closed and its queued events discarded.
+     */
+    void register(String pluginId, ApplicationEventPublisher target) {
+        Subscriber previous = subscribers.put(pluginId, new Subscriber(pluginId, target));
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    void unregister(String pluginId) {
+        Subscriber removed = subscribers.remove(pluginId);
+        if (removed != null) {
+            removed.close();
+        }
+    }
+
+    /**
+     * Queue {@code event} for every registered plugin and return immediately.
+     */
+    void publish(Object event) {
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.offer(event);
+        }
+    }
+
+    Optional<PluginEventStats> stats(String pluginId) {
+        Subscriber subscriber = subscribers.get(pluginId);
+        return subscriber != null ? Optional.of(subscriber.stats()) : Optional.empty();
+    }
+
+    void shutdown() {
+        subscribers.values().forEach(Subscriber::close);
+        subscribers.clear();
+        executor.shutdownNow();
+    }
+
+    private final class Subscriber {
+
+        private final String pluginId;
+        private final ApplicationEventPublisher target;
+        private final Deque<QueuedEvent> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong totalLatencyNanos = new AtomicLong();
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+        private Subscriber(String pluginId, ApplicationEventPublisher target) {
+            this.pluginId = pluginId;
+            this.target = target;
+        }
+
+        private void offer(Object event) {
+            boolean startDrain;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (queue.size() >= queueCapacity) {
+                    dropped.incrementAndGet();
+                    if (overflowPolicy == EventOverflowPolicy.DROP_NEWEST) {
+                        log.warn("[Plugins] Event queue of plugin {} is full, dropping {}", pluginId,
+                                event.getClass().getSimpleName());
+                        return;
+                    }
+                    QueuedEvent oldest = queue.pollFirst();
+                    log.warn("[Plugins] Event queue of plugin {} is full, dropping oldest {}", pluginId,
+                            oldest.event().getClass().getSimpleName());
+                }
+                queue.addLast(new QueuedEvent(event, System.nanoTime()));
+                startDrain = !draining;
+                draining = true;
+            }
+            if (startDrain) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    synchronized (this) {
+                        draining = false;
+                        queue.clear();
+                    }
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                QueuedEvent next;
+                synchronized (this) {
+                    next = closed ? null : queue.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                deliver(next);
+            }
+        }
+
+        private void deliver(QueuedEvent queued) {
+            long startedAt = System.nanoTime();
+            try {
+                target.publishEvent(queued.event());
+                delivered.incrementAndGet();
+            } catch (RuntimeException ex) { // NOSONAR - a failing plugin listener must not stop delivery
+                failed.incrementAndGet();
+                log.warn("[Plugins] Failed to republish event {} to plugin {}: {}",
+                        queued.event().getClass().getName(), pluginId, ex.getMessage());
+            }
+            long finishedAt = System.nanoTime();
+            long latency = finishedAt - queued.enqueuedAtNanos();
+            totalLatencyNanos.addAndGet(latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+            long handling = finishedAt - startedAt;
+            if (handling > slowDeliveryThreshold.toNanos()) {
+                log.warn("[Plugins] Plugin {} took {} ms to handle {}", pluginId,
+                        Duration.ofNanos(handling).toMillis(), queued.event().getClass().getSimpleName());
+            }
+        }
+
+        private synchronized void close() {
+            closed = true;
+            queue.clear();
+        }
+
+        private PluginEventStats stats() {
+            int queued;
+            synchronized (this) {
+                queued = queue.size();
+            }
+            long deliveredCount = delivered.get();
+            long attempts = deliveredCount + failed.get();
+            double averageLatencyMillis = attempts > 0 ? totalLatencyNanos.get() / (double) attempts / 1_000_000.0
+                    : 0.0;
+            return new PluginEventStats(queued, queueCapacity, deliveredCount, dropped.get(), failed.get(),
+                    averageLatencyMillis, maxLatencyNanos.get() / 1_000_000.0);
+        }
+    }
+
+    private record QueuedEvent(Object event, long enqueuedAtNanos) {
+    }
+}
@@ -0,0 +1,15 @@
+package me.golemcore.bot.plugin.runtime;
+
+/**
+ * Event delivery counters for one loaded plugin.
+ *
+ * @param queued
+ *            events waiting for delivery
+ * @param queueCapacity
+ *            maximum number of queued events before the overflow policy applies
+ * @param averageLatencyMillis
+ *            mean time from publish to the end of delivery
+ * @param maxLatencyMillis
+ *            longest time from publish to the end of delivery
+ */
+public record PluginEventStats(int queued,int queueCapacity,long delivered,long dropped,long failed,double averageLatencyMillis,double maxLatencyMillis){}
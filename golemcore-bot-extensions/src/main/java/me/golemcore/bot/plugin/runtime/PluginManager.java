@@ -32,10 +32,17 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -43,14 +50,28 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.jar.JarFile;
 
 /**
  * Loads plugin JARs into isolated child Spring contexts and registers exposed
  * extension beans into host registries.
+ *
+ * <p>
+ * With auto-reload enabled the plugin directory is watched for changes and
+ * rescanned once the changes settle; jars whose size and modification time did
+ * not change are not reopened. Changed plugins are probed and started in
+ * parallel and then registered in artifact order.
  */
 @Component
 @Slf4j
@@ -59,6 +80,7 @@ public class PluginManager {
     private static final ObjectMapper PLUGIN_MANIFEST_MAPPER = new ObjectMapper(new YAMLFactory());
     private static final String PLUGIN_MANIFEST_PATH = "META-INF/golemcore/plugin.yaml";
     private static final int HOST_PLUGIN_API_VERSION = 1;
+    private static final AtomicInteger LOADER_THREAD_IDS = new AtomicInteger();
 
     private final PluginRuntimeProperties pluginRuntimeProperties;
     private final ConfigurableApplicationContext applicationContext;
@@ -77,8 +99,14 @@ public class PluginManager {
     private final Map<Path, LoadedPlugin> pluginsByJar = new LinkedHashMap<>();
     private final Map<String, LoadedPlugin> pluginsById = new LinkedHashMap<>();
     private final Map<Path, JarFingerprint> fingerprintsByJar = new LinkedHashMap<>();
+    private final Map<Path, ProbedArtifact> probedArtifacts = new ConcurrentHashMap<>();
+    private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+    private final AtomicReference<ScheduledFuture<?>> pendingReload = new AtomicReference<>();
+    private final PluginEventBus eventBus;
 
-    private ScheduledExecutorService pollExecutor;
+    private ScheduledExecutorService reloadExecutor;
+    private WatchService watchService;
+    private Thread watcherThread;
 
     public PluginManager(
             PluginRuntimeProperties pluginRuntimeProperties,
@@ -107,35 +135,53 @@ public class PluginManager {
         this.telegramWebhookUpdateConsumerRegistry = telegramWebhookUpdateConsumerRegistry;
         this.toolRegistryPort = toolRegistryPort;
         this.pluginApiMapper = pluginApiMapper;
+        PluginRuntimeProperties.EventsProperties events = pluginRuntimeProperties.getEvents();
+        this.eventBus = new PluginEventBus(events.getQueueCapacity(), events.getOverflowPolicy(),
+                events.getSlowListenerThreshold());
     }
 
     @PostConstruct
-    public synchronized void startPolling() {
+    public synchronized void startWatching() {
         if (!pluginRuntimeProperties.isEnabled() || !pluginRuntimeProperties.isAutoReload()) {
             return;
         }
-        Duration interval = pluginRuntimeProperties.getPollInterval();
-        pollExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "plugin-runtime-poller");
+        reloadExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "plugin-runtime-reloader");
             t.setDaemon(true);
             return t;
         });
-        pollExecutor.scheduleWithFixedDelay(this::safeReloadAll,
-                interval.toSeconds(),
-                interval.toSeconds(),
-                TimeUnit.SECONDS);
+        Path pluginsRoot = resolvePluginsRoot();
+        try {
+            Files.createDirectories(pluginsRoot);
+            watchService = pluginsRoot.getFileSystem().newWatchService();
+            registerWatchTree(watchService, pluginsRoot);
+        } catch (IOException | UnsupportedOperationException ex) {
+            closeWatchService();
+            startPolling(pluginsRoot, ex);
+            return;
+        }
+        watcherThread = new Thread(this::watchPluginDirectory, "plugin-runtime-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        log.info("[Plugins] Watching {} for plugin changes", pluginsRoot);
     }
 
     @PreDestroy
     public synchronized void shutdown() {
-        if (pollExecutor != null) {
-            pollExecutor.shutdownNow();
+        closeWatchService();
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+        }
+        if (reloadExecutor != null) {
+            reloadExecutor.shutdownNow();
         }
         List<LoadedPlugin> loaded = List.copyOf(pluginsByJar.values());
         loaded.forEach(this::unloadPlugin);
         pluginsByJar.clear();
         pluginsById.clear();
         fingerprintsByJar.clear();
+        probedArtifacts.clear();
+        eventBus.shutdown();
     }
 
     public synchronized void reloadAll() {
@@ -178,20 +224,19 @@ public class PluginManager {
                         .engineVersion(plugin.descriptor().getEngineVersion())
                         .jarPath(plugin.jarPath().toString())
                         .loaded(true)
+                        .events(eventBus.stats(plugin.descriptor().getId()).orElse(null))
                         .build())
                 .sorted(java.util.Comparator.comparing(PluginRuntimeInfo::getId))
                 .toList();
     }
 
-    public synchronized void publishToPlugins(Object event) {
-        for (LoadedPlugin plugin : pluginsByJar.values()) {
-            try {
-                plugin.applicationContext().publishEvent(event);
-            } catch (RuntimeException ex) {
-                log.warn("[Plugins] Failed to republish event {} to plugin {}: {}",
-                        event.getClass().getName(), plugin.descriptor().getId(), ex.getMessage());
-            }
-        }
+    /**
+     * Queue {@code event} for every loaded plugin. Delivery happens on plugin event
+     * workers, so the caller never waits for plugin listeners or for reloads
+     * holding the manager lock.
+     */
+    public void publishToPlugins(Object event) {
+        eventBus.publish(event);
     }
 
     private void safeReloadAll() {
@@ -202,6 +247,96 @@ public class PluginManager {
         }
     }
 
+    private void startPolling(Path pluginsRoot, Exception cause) {
+        Duration interval = pluginRuntimeProperties.getPollInterval();
+        log.warn("[Plugins] Cannot watch {} ({}), polling every {} instead", pluginsRoot, cause.getMessage(),
+                interval);
+        reloadExecutor.scheduleWithFixedDelay(this::safeReloadAll,
+                interval.toSeconds(),
+                interval.toSeconds(),
+                TimeUnit.SECONDS);
+    }
+
+    private void watchPluginDirectory() {
+        WatchService service = watchService;
+        while (!Thread.currentThread().isInterrupted()) {
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException ex) {
+                return;
+            }
+            Path directory = watchedDirectories.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (directory != null && event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+                        && event.context() instanceof Path name) {
+                    watchNewDirectory(service, directory.resolve(name));
+                }
+            }
+            if (!key.reset()) {
+                watchedDirectories.remove(key);
+            }
+            scheduleReload();
+        }
+    }
+
+    private void watchNewDirectory(WatchService service, Path path) {
+        if (!Files.isDirectory(path)) {
+            return;
+        }
+        try {
+            registerWatchTree(service, path);
+        } catch (IOException | ClosedWatchServiceException ex) {
+            log.warn("[Plugins] Failed to watch plugin directory {}: {}", path, ex.getMessage());
+        }
+    }
+
+    private void registerWatchTree(WatchService service, Path root) throws IOException {
+        try (java.util.stream.Stream<Path> stream = Files.walk(root)) {
+            for (Path directory : stream.filter(Files::isDirectory).toList()) {
+                WatchKey key = directory.register(service,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                watchedDirectories.put(key, directory);
+            }
+        }
+    }
+
+    /**
+     * Restart the debounce window: a jar being copied in produces a burst of
+     * events, and only the last one should trigger a rescan.
+     */
+    private void scheduleReload() {
+        Duration debounce = pluginRuntimeProperties.getReloadDebounce();
+        try {
+            ScheduledFuture<?> next = reloadExecutor.schedule(this::safeReloadAll, debounce.toMillis(),
+                    TimeUnit.MILLISECONDS);
+            ScheduledFuture<?> previous = pendingReload.getAndSet(next);
+            if (previous != null) {
+                previous.cancel(false);
+            }
+        } catch (RejectedExecutionException ex) {
+            log.debug("[Plugins] Reload executor is shut down, ignoring plugin change");
+        }
+    }
+
+    private void closeWatchService() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException ex) {
+            log.warn("[Plugins] Failed to close plugin directory watcher: {}", ex.getMessage());
+        }
+        watchService = null;
+        watchedDirectories.clear();
+    }
+
     private void synchronizeActiveArtifacts(Map<String, PluginArtifactCandidate> activeArtifacts) {
         for (LoadedPlugin loadedPlugin : List.copyOf(pluginsById.values())) {
             PluginArtifactCandidate candidate = activeArtifacts.get(loadedPlugin.descriptor().getId());
@@ -210,19 +345,30 @@ public class PluginManager {
             }
         }
 
+        List<PluginArtifactCandidate> changed = new ArrayList<>();
         for (PluginArtifactCandidate candidate : activeArtifacts.values()) {
             LoadedPlugin current = pluginsById.get(candidate.descriptor().getId());
             JarFingerprint currentFingerprint = current != null ? fingerprintsByJar.get(current.jarPath()) : null;
             if (current == null
                     || !candidate.jarPath().equals(current.jarPath())
                     || !candidate.fingerprint().equals(currentFingerprint)) {
-                reloadCandidate(candidate);
+                changed.add(candidate);
             }
         }
+
+        // Plugin contexts are independent, so they can start concurrently; the
+        // registries are only touched afterwards, one plugin at a time.
+        List<LoadedPlugin> replacements = inParallel(changed, this::loadPlugin);
+        for (int i = 0; i < changed.size(); i++) {
+            installPlugin(changed.get(i), replacements.get(i));
+        }
     }
 
     private void reloadCandidate(PluginArtifactCandidate candidate) {
-        LoadedPlugin replacement = loadPlugin(candidate);
+        installPlugin(candidate, loadPlugin(candidate));
+    }
+
+    private void installPlugin(PluginArtifactCandidate candidate, LoadedPlugin replacement) {
         if (replacement == null) {
             return;
         }
@@ -343,6 +489,7 @@ public class PluginManager {
         telegramWebhookUpdateConsumerRegistry.replaceConsumers(pluginId, plugin.telegramWebhookUpdateConsumers());
         plugin.tools().forEach(toolRegistryPort::registerTool);
         pluginSettingsRegistry.replaceContributors(plugin.descriptor(), plugin.settingsContributors());
+        eventBus.register(pluginId, plugin.applicationContext());
         if (pluginRuntimeProperties.isAutoStart()) {
             plugin.channels().forEach(this::safeStartChannel);
         }
@@ -353,6 +500,7 @@ public class PluginManager {
             return;
         }
         String pluginId = plugin.descriptor().getId();
+        eventBus.unregister(pluginId);
         plugin.channels().forEach(this::safeStopChannel);
         channelRegistry.removePluginChannels(pluginId);
         confirmationPort.removePluginPorts(pluginId);
@@ -390,57 +538,118 @@ public class PluginManager {
 
     private Map<String, PluginArtifactCandidate> discoverActiveArtifacts() {
         Map<String, PluginArtifactCandidate> result = new LinkedHashMap<>();
-        Path pluginsRoot = Path.of(pluginRuntimeProperties.getDirectory()).toAbsolutePath().normalize();
+        Path pluginsRoot = resolvePluginsRoot();
         if (!Files.isDirectory(pluginsRoot)) {
+            probedArtifacts.clear();
             return result;
         }
+        List<Path> jarPaths;
         try (java.util.stream.Stream<Path> stream = Files.walk(pluginsRoot)) {
-            stream.filter(Files::isRegularFile)
+            jarPaths = stream.filter(Files::isRegularFile)
                     .filter(path -> {
                         Path fileName = path.getFileName();
                         return fileName != null && fileName.toString().endsWith(".jar");
                     })
+                    .map(path -> path.toAbsolutePath().normalize())
                     .sorted()
-                    .forEach(path -> registerCandidate(result, path.toAbsolutePath().normalize()));
+                    .toList();
         } catch (IOException ex) {
             throw new IllegalStateException("Failed to scan plugin directory " + pluginsRoot, ex);
         }
+        probedArtifacts.keySet().retainAll(new HashSet<>(jarPaths));
+        for (PluginArtifactCandidate candidate : inParallel(jarPaths, this::probeCandidate)) {
+            if (candidate != null) {
+                registerCandidate(result, candidate);
+            }
+        }
         return result;
     }
 
-    private void registerCandidate(Map<String, PluginArtifactCandidate> selectedByPluginId, Path jarPath) {
+    private PluginArtifactCandidate probeCandidate(Path jarPath) {
         try {
-            PluginDescriptor descriptor = probeDescriptor(jarPath);
-            validateDescriptor(descriptor);
-            validateCompatibility(descriptor);
-            PluginArtifactCandidate candidate = new PluginArtifactCandidate(descriptor, jarPath, fingerprint(jarPath));
-            PluginArtifactCandidate existing = selectedByPluginId.get(descriptor.getId());
-            if (existing == null) {
-                selectedByPluginId.put(descriptor.getId(), candidate);
-                return;
+            JarFingerprint fingerprint = fingerprint(jarPath);
+            ProbedArtifact probed = probedArtifacts.get(jarPath);
+            PluginDescriptor descriptor;
+            if (probed != null && probed.fingerprint().equals(fingerprint)) {
+                descriptor = probed.descriptor();
+            } else {
+                descriptor = probeDescriptor(jarPath);
+                validateDescriptor(descriptor);
+                probedArtifacts.put(jarPath, new ProbedArtifact(fingerprint, descriptor));
             }
+            validateCompatibility(descriptor);
+            return new PluginArtifactCandidate(descriptor, jarPath, fingerprint);
+        } catch (RuntimeException ex) {
+            log.warn("[Plugins] Skipping plugin artifact {}: {}", jarPath, ex.getMessage());
+            return null;
+        }
+    }
 
-            int versionComparison = PluginVersionSupport.compareVersions(
-                    descriptor.getVersion(),
-                    existing.descriptor().getVersion());
-            if (versionComparison > 0) {
-                log.debug("[Plugins] Selecting newer artifact for {}: {} -> {}",
-                        descriptor.getId(), existing.jarPath(), jarPath);
-                selectedByPluginId.put(descriptor.getId(), candidate);
-                return;
+    private void registerCandidate(Map<String, PluginArtifactCandidate> selectedByPluginId,
+            PluginArtifactCandidate candidate) {
+        PluginDescriptor descriptor = candidate.descriptor();
+        Path jarPath = candidate.jarPath();
+        PluginArtifactCandidate existing = selectedByPluginId.get(descriptor.getId());
+        if (existing == null) {
+            selectedByPluginId.put(descriptor.getId(), candidate);
+            return;
+        }
+
+        int versionComparison = PluginVersionSupport.compareVersions(
+                descriptor.getVersion(),
+                existing.descriptor().getVersion());
+        if (versionComparison > 0) {
+            log.debug("[Plugins] Selecting newer artifact for {}: {} -> {}",
+                    descriptor.getId(), existing.jarPath(), jarPath);
+            selectedByPluginId.put(descriptor.getId(), candidate);
+            return;
+        }
+        if (versionComparison == 0 && !existing.jarPath().equals(jarPath)) {
+            log.error("[Plugins] Duplicate plugin artifact for {} v{} in {} and {}. Keeping {}.",
+                    descriptor.getId(), descriptor.getVersion(), existing.jarPath(), jarPath, existing.jarPath());
+            return;
+        }
+        log.debug("[Plugins] Ignoring older plugin artifact for {}: {} (active={})",
+                descriptor.getId(), jarPath, existing.jarPath());
+    }
+
+    /**
+     * Apply {@code task} to every item on a short-lived worker pool and return the
+     * results in item order. Tasks are expected to handle their own failures.
+     */
+    private <T, R> List<R> inParallel(List<T> items, Function<T, R> task) {
+        int parallelism = Math.min(items.size(), Runtime.getRuntime().availableProcessors());
+        if (parallelism <= 1) {
+            List<R> results = new ArrayList<>(items.size());
+            for (T item : items) {
+                results.add(task.apply(item));
             }
-            if (versionComparison == 0 && !existing.jarPath().equals(jarPath)) {
-                log.error("[Plugins] Duplicate plugin artifact for {} v{} in {} and {}. Keeping {}.",
-                        descriptor.getId(), descriptor.getVersion(), existing.jarPath(), jarPath, existing.jarPath());
-                return;
+            return results;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "plugin-runtime-loader-" + LOADER_THREAD_IDS.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+            for (T item : items) {
+                futures.add(CompletableFuture.supplyAsync(() -> task.apply(item), executor));
             }
-            log.debug("[Plugins] Ignoring older plugin artifact for {}: {} (active={})",
-                    descriptor.getId(), jarPath, existing.jarPath());
-        } catch (RuntimeException ex) {
-            log.warn("[Plugins] Skipping plugin artifact {}: {}", jarPath, ex.getMessage());
+            List<R> results = new ArrayList<>(items.size());
+            for (CompletableFuture<R> future : futures) {
+                results.add(future.join());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
         }
     }
 
+    private Path resolvePluginsRoot() {
+        return Path.of(pluginRuntimeProperties.getDirectory()).toAbsolutePath().normalize();
+    }
+
     private PluginDescriptor probeDescriptor(Path jarPath) {
         PluginDescriptor descriptor = readDescriptorFromManifest(jarPath);
         if (descriptor != null) {
@@ -643,6 +852,9 @@ public class PluginManager {
     private record JarFingerprint(long lastModifiedMillis, long sizeBytes) {
     }
 
+    private record ProbedArtifact(JarFingerprint fingerprint, PluginDescriptor descriptor) {
+    }
+
     private record PluginArtifactCandidate(
             PluginDescriptor descriptor,
             Path jarPath,
@@ -22,4 +22,5 @@ public class PluginRuntimeInfo {
     private String engineVersion;
     private String jarPath;
     private boolean loaded;
+    private PluginEventStats events;
 }
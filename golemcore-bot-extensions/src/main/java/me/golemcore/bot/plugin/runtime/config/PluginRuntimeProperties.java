@@ -17,8 +17,34 @@ public class PluginRuntimeProperties {
     private boolean autoStart = true;
     private boolean autoReload = true;
     private String directory = "${bot.storage.local.base-path}/plugins";
+    /**
+     * Rescan interval used only when the plugin directory cannot be watched for
+     * changes.
+     */
     private Duration pollInterval = Duration.ofSeconds(5);
+    /**
+     * Quiet period after the last plugin directory change before plugins are
+     * rescanned.
+     */
+    private Duration reloadDebounce = Duration.ofMillis(500);
     private MarketplaceProperties marketplace = new MarketplaceProperties();
+    private EventsProperties events = new EventsProperties();
+
+    /**
+     * Delivery of host events to plugin contexts. Each plugin has its own queue of
+     * {@code queueCapacity} events; {@code overflowPolicy} decides which event is
+     * dropped when it is full.
+     */
+    @Data
+    public static class EventsProperties {
+        private int queueCapacity = 256;
+        private EventOverflowPolicy overflowPolicy = EventOverflowPolicy.DROP_OLDEST;
+        private Duration slowListenerThreshold = Duration.ofSeconds(1);
+    }
+
+    public enum EventOverflowPolicy {
+        DROP_OLDEST, DROP_NEWEST
+    }
 
     @Data
     public static class MarketplaceProperties {
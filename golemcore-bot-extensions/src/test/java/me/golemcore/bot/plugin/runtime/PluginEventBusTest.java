@@ -0,0 +1,190 @@
+package me.golemcore.bot.plugin.runtime;
+
+import me.golemcore.bot.plugin.runtime.config.PluginRuntimeProperties.EventOverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PluginEventBusTest {
+
+    private PluginEventBus eventBus;
+
+    @AfterEach
+    void tearDown() {
+        if (eventBus != null) {
+            eventBus.shutdown();
+        }
+    }
+
+    @Test
+    void shouldReturnBeforeSlowPluginHandlesEvent() throws InterruptedException {
+        eventBus = new PluginEventBus(16, EventOverflowPolicy.DROP_OLDEST, Duration.ofSeconds(1));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch handled = new CountDownLatch(1);
+        eventBus.register("slow", event -> {
+            await(release);
+            handled.countDown();
+        });
+
+        eventBus.publish("event");
+
+        assertEquals(1, handled.getCount());
+        release.countDown();
+        assertTrue(handled.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldDeliverEventsInPublishOrder() throws InterruptedException {
+        eventBus = new PluginEventBus(256, EventOverflowPolicy.DROP_OLDEST, Duration.ofSeconds(1));
+        List<Object> received = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(100);
+        eventBus.register("ordered", event -> {
+            received.add(event);
+            done.countDown();
+        });
+
+        for (int i = 0; i < 100; i++) {
+            eventBus.publish(i);
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, received.get(i));
+        }
+    }
+
+    @Test
+    void shouldKeepDeliveringToOtherPluginsWhileOneIsBlocked() throws InterruptedException {
+        eventBus = new PluginEventBus(16, EventOverflowPolicy.DROP_OLDEST, Duration.ofSeconds(1));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fastHandled = new CountDownLatch(3);
+        eventBus.register("slow", event -> await(release));
+        eventBus.register("fast", event -> fastHandled.countDown());
+
+        eventBus.publish("a");
+        eventBus.publish("b");
+        eventBus.publish("c");
+
+        assertTrue(fastHandled.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    void shouldDropOldestEventsWhenQueueIsFull() throws InterruptedException {
+        eventBus = new PluginEventBus(2, EventOverflowPolicy.DROP_OLDEST, Duration.ofSeconds(1));
+        BlockingPublisher publisher = new BlockingPublisher(3);
+        eventBus.register("plugin", publisher);
+
+        eventBus.publish("first");
+        assertTrue(publisher.started.await(5, TimeUnit.SECONDS));
+        eventBus.publish("second");
+        eventBus.publish("third");
+        eventBus.publish("fourth");
+        publisher.release.countDown();
+
+        assertTrue(publisher.done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "third", "fourth"), publisher.received);
+        assertEquals(1, eventBus.stats("plugin").orElseThrow().dropped());
+    }
+
+    @Test
+    void shouldDropNewestEventsWhenQueueIsFull() throws InterruptedException {
+        eventBus = new PluginEventBus(2, EventOverflowPolicy.DROP_NEWEST, Duration.ofSeconds(1));
+        BlockingPublisher publisher = new BlockingPublisher(3);
+        eventBus.register("plugin", publisher);
+
+        eventBus.publish("first");
+        assertTrue(publisher.started.await(5, TimeUnit.SECONDS));
+        eventBus.publish("second");
+        eventBus.publish("third");
+        eventBus.publish("fourth");
+        publisher.release.countDown();
+
+        assertTrue(publisher.done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "second", "third"), publisher.received);
+        assertEquals(1, eventBus.stats("plugin").orElseThrow().dropped());
+    }
+
+    @Test
+    void shouldCountFailuresAndContinueDelivery() throws InterruptedException {
+        eventBus = new PluginEventBus(16, EventOverflowPolicy.DROP_OLDEST, Duration.ofSeconds(1));
+        CountDownLatch done = new CountDownLatch(2);
+        eventBus.register("plugin", event -> {
+            done.countDown();
+            if ("bad".equals(event)) {
+                throw new IllegalStateException("listener failed");
+            }
+        });
+
+        eventBus.publish("bad");
+        eventBus.publish("good");
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        PluginEventStats stats = awaitStats("plugin", 2);
+        assertEquals(1, stats.delivered());
+        assertEquals(1, stats.failed());
+        assertEquals(16, stats.queueCapacity());
+        assertTrue(stats.maxLatencyMillis() >= stats.averageLatencyMillis());
+    }
+
+    @Test
+    void shouldStopDeliveringAfterUnregister() throws InterruptedException {
+        eventBus = new PluginEventBus(16, EventOverflowPolicy.DROP_OLDEST, Duration.ofSeconds(1));
+        List<Object> received = new CopyOnWriteArrayList<>();
+        eventBus.register("plugin", received::add);
+
+        eventBus.unregister("plugin");
+        eventBus.publish("event");
+
+        Thread.sleep(50);
+        assertTrue(received.isEmpty());
+        assertTrue(eventBus.stats("plugin").isEmpty());
+    }
+
+    private PluginEventStats awaitStats(String pluginId, long attempts) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        PluginEventStats stats = eventBus.stats(pluginId).orElseThrow();
+        while (stats.delivered() + stats.failed() < attempts && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            stats = eventBus.stats(pluginId).orElseThrow();
+        }
+        return stats;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class BlockingPublisher implements ApplicationEventPublisher {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch done;
+        private final List<Object> received = new CopyOnWriteArrayList<>();
+
+        private BlockingPublisher(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void publishEvent(Object event) {
+            started.countDown();
+            await(release);
+            received.add(event);
+            done.countDown();
+        }
+    }
+}
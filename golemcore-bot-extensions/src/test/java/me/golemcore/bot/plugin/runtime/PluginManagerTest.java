@@ -21,6 +21,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
 import java.util.stream.Stream;
@@ -197,10 +198,49 @@ class PluginManagerTest {
         assertEquals("{\"update_id\":42}", Files.readString(captureFile));
     }
 
+    @Test
+    void shouldLoadPluginMovedIntoWatchedDirectory(@TempDir Path tempDir) throws Exception {
+        Path pluginsDir = tempDir.resolve("plugins");
+        Path stagedJar = createPluginJar(tempDir.resolve("staging"), "golemcore/browser", "1.0.0", ">=1.0.0 <2.0.0");
+        manager = createManager(pluginsDir, "1.0.0", true);
+        manager.startWatching();
+
+        Path vendorDir = Files.createDirectories(pluginsDir.resolve("golemcore"));
+        Thread.sleep(200);
+        Files.move(stagedJar, vendorDir.resolve(stagedJar.getFileName()));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (manager.listPlugins().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        List<PluginRuntimeInfo> plugins = manager.listPlugins();
+        assertEquals(1, plugins.size());
+        assertEquals("golemcore/browser", plugins.getFirst().getId());
+    }
+
+    @Test
+    void shouldLoadSeveralPluginsInOneReload(@TempDir Path tempDir) throws Exception {
+        Path pluginsDir = tempDir.resolve("plugins");
+        createPluginJar(pluginsDir, "golemcore/browser", "1.0.0", ">=1.0.0 <2.0.0");
+        createPluginJar(pluginsDir, "golemcore/weather", "1.0.0", ">=1.0.0 <2.0.0");
+        createPluginJar(pluginsDir, "golemcore/notes", "1.0.0", ">=1.0.0 <2.0.0");
+        manager = createManager(pluginsDir, "1.0.0");
+
+        manager.reloadAll();
+
+        assertEquals(List.of("golemcore/browser", "golemcore/notes", "golemcore/weather"),
+                manager.listPlugins().stream().map(PluginRuntimeInfo::getId).toList());
+    }
+
     private PluginManager createManager(Path pluginsDir, String hostVersion) {
+        return createManager(pluginsDir, hostVersion, false);
+    }
+
+    private PluginManager createManager(Path pluginsDir, String hostVersion, boolean autoReload) {
         PluginRuntimeProperties properties = new PluginRuntimeProperties();
         properties.setEnabled(true);
-        properties.setAutoReload(false);
+        properties.setAutoReload(autoReload);
+        properties.setReloadDebounce(java.time.Duration.ofMillis(100));
         properties.setAutoStart(false);
         properties.setDirectory(pluginsDir.toString());
 
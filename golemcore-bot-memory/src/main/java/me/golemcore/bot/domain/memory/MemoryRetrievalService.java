@@ -22,6 +22,7 @@ import me.golemcore.bot.domain.runtimeconfig.MemoryRuntimeConfigView;
 
 import me.golemcore.bot.domain.memory.model.MemoryRetrievalPlan;
 import me.golemcore.bot.domain.memory.retrieval.MemoryCandidateCollector;
+import me.golemcore.bot.domain.memory.retrieval.MemoryCandidateFusion;
 import me.golemcore.bot.domain.memory.retrieval.MemoryCandidateReranker;
 import me.golemcore.bot.domain.memory.retrieval.MemoryCandidateScorer;
 import me.golemcore.bot.domain.memory.retrieval.MemoryCandidateSelector;
@@ -42,17 +43,19 @@ public class MemoryRetrievalService {
     private final MemoryRetrievalPlanner memoryRetrievalPlanner;
     private final MemoryCandidateCollector memoryCandidateCollector;
     private final MemoryCandidateScorer memoryCandidateScorer;
+    private final MemoryCandidateFusion memoryCandidateFusion;
     private final MemoryCandidateReranker memoryCandidateReranker;
     private final MemoryCandidateSelector memoryCandidateSelector;
 
     public MemoryRetrievalService(MemoryRuntimeConfigView runtimeConfigService,
             MemoryRetrievalPlanner memoryRetrievalPlanner, MemoryCandidateCollector memoryCandidateCollector,
-            MemoryCandidateScorer memoryCandidateScorer, MemoryCandidateReranker memoryCandidateReranker,
-            MemoryCandidateSelector memoryCandidateSelector) {
+            MemoryCandidateScorer memoryCandidateScorer, MemoryCandidateFusion memoryCandidateFusion,
+            MemoryCandidateReranker memoryCandidateReranker, MemoryCandidateSelector memoryCandidateSelector) {
         this.runtimeConfigService = runtimeConfigService;
         this.memoryRetrievalPlanner = memoryRetrievalPlanner;
         this.memoryCandidateCollector = memoryCandidateCollector;
         this.memoryCandidateScorer = memoryCandidateScorer;
+        this.memoryCandidateFusion = memoryCandidateFusion;
         this.memoryCandidateReranker = memoryCandidateReranker;
         this.memoryCandidateSelector = memoryCandidateSelector;
     }
@@ -73,7 +76,8 @@ public class MemoryRetrievalService {
         MemoryRetrievalPlan plan = memoryRetrievalPlanner.plan(query);
         List<me.golemcore.bot.domain.model.MemoryItem> candidates = memoryCandidateCollector.collect(plan);
         List<MemoryScoredItem> scored = memoryCandidateScorer.score(plan, candidates);
-        List<MemoryScoredItem> reranked = memoryCandidateReranker.rerank(plan, scored);
+        List<MemoryScoredItem> fused = memoryCandidateFusion.fuse(plan, scored);
+        List<MemoryScoredItem> reranked = memoryCandidateReranker.rerank(plan, fused);
         return memoryCandidateSelector.select(plan, reranked);
     }
 }
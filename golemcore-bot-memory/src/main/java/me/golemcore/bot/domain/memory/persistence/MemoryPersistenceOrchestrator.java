@@ -25,10 +25,13 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import me.golemcore.bot.domain.model.MemoryItem;
 import me.golemcore.bot.domain.memory.MemoryScopeSupport;
+import me.golemcore.bot.domain.memory.retrieval.MemoryVectorIndex;
 import me.golemcore.bot.domain.runtimeconfig.MemoryRuntimeConfigView;
 import me.golemcore.bot.port.outbound.StoragePort;
 import me.golemcore.bot.port.outbound.MemorySettingsPort;
@@ -50,15 +53,17 @@ public class MemoryPersistenceOrchestrator {
     private final MemoryRuntimeConfigView runtimeConfigService;
     private final MemoryNormalizationService memoryNormalizationService;
     private final ObjectMapper objectMapper;
+    private final MemoryVectorIndex memoryVectorIndex;
 
     public MemoryPersistenceOrchestrator(StoragePort storagePort, MemorySettingsPort settingsPort,
             MemoryRuntimeConfigView runtimeConfigService, MemoryNormalizationService memoryNormalizationService,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper, MemoryVectorIndex memoryVectorIndex) {
         this.storagePort = storagePort;
         this.settingsPort = settingsPort;
         this.runtimeConfigService = runtimeConfigService;
         this.memoryNormalizationService = memoryNormalizationService;
         this.objectMapper = objectMapper;
+        this.memoryVectorIndex = memoryVectorIndex;
     }
 
     /**
@@ -105,7 +110,9 @@ public class MemoryPersistenceOrchestrator {
             log.debug("[MemoryPersistence] Appended {} episodic item(s) to {}", normalizedItems.size(), episodicPath);
         } catch (RuntimeException e) {
             log.warn("[MemoryPersistence] Failed to append episodic items to {}: {}", episodicPath, e.getMessage());
+            return;
         }
+        memoryVectorIndex.index(normalizedItems);
     }
 
     /**
@@ -141,26 +148,45 @@ public class MemoryPersistenceOrchestrator {
             List<MemoryItem> items = readJsonl(filePath, scope);
             MemoryItem normalized = memoryNormalizationService.normalizeForLayer(sourceItem, targetLayer, scope);
 
-            boolean updated = false;
+            MemoryItem persisted = null;
             for (MemoryItem existing : items) {
                 if (memoryNormalizationService.sameIdentity(existing, normalized)) {
                     memoryNormalizationService.merge(existing, normalized);
-                    updated = true;
+                    persisted = existing;
                     break;
                 }
             }
-            if (!updated) {
+            if (persisted == null) {
                 items.add(normalized);
+                persisted = normalized;
             }
 
+            List<MemoryItem> beforeDecay = new ArrayList<>(items);
             memoryNormalizationService.applyDecay(items);
             storagePort.putTextAtomic(getMemoryDirectory(), filePath, toJsonl(items), true).join();
             log.debug("[MemoryPersistence] Upserted {} item in {}", targetLayer, filePath);
+            memoryVectorIndex.remove(removedKeys(beforeDecay, items));
+            memoryVectorIndex.index(List.of(persisted));
         } catch (RuntimeException e) {
             log.warn("[MemoryPersistence] Failed upsert to {}: {}", filePath, e.getMessage());
         }
     }
 
+    private List<String> removedKeys(List<MemoryItem> before, List<MemoryItem> after) {
+        Set<String> kept = new HashSet<>();
+        for (MemoryItem item : after) {
+            kept.add(MemoryVectorIndex.key(item));
+        }
+        List<String> removed = new ArrayList<>();
+        for (MemoryItem item : before) {
+            String key = MemoryVectorIndex.key(item);
+            if (key != null && !kept.contains(key)) {
+                removed.add(key);
+            }
+        }
+        return removed;
+    }
+
     private List<MemoryItem> readJsonl(String filePath, String defaultScope) {
         List<MemoryItem> items = new ArrayList<>();
         try {
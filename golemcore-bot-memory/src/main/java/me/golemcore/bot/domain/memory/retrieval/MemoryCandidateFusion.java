@@ -0,0 +1,105 @@
+package me.golemcore.bot.domain.memory.retrieval;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import me.golemcore.bot.domain.memory.model.MemoryRetrievalPlan;
+import me.golemcore.bot.domain.model.MemoryItem;
+import me.golemcore.bot.domain.model.MemoryScoredItem;
+import me.golemcore.bot.port.outbound.MemorySettingsPort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fuses the lexical ranking with the optional vector channel before reranking.
+ * <p>
+ * Ranks are combined with reciprocal rank fusion, so a paraphrase that shares no tokens with the query can still reach
+ * the top of the list. Each fused candidate keeps its first-pass score plus a similarity boost, which keeps scores on
+ * the scale used by disclosure thresholds. With the vector channel active, only the top fused candidates move on to
+ * reranking and selection. Without it the lexical ranking passes through unchanged.
+ * </p>
+ */
+public class MemoryCandidateFusion {
+
+    static final int RRF_K = 60;
+    static final double SIMILARITY_BOOST = 0.20;
+
+    private final MemoryVectorIndex memoryVectorIndex;
+    private final MemorySettingsPort settingsPort;
+
+    public MemoryCandidateFusion(MemoryVectorIndex memoryVectorIndex, MemorySettingsPort settingsPort) {
+        this.memoryVectorIndex = memoryVectorIndex;
+        this.settingsPort = settingsPort;
+    }
+
+    /**
+     * Fuse lexical and vector ranks for the scored candidates.
+     *
+     * @param plan
+     *            normalized retrieval plan
+     * @param scored
+     *            first-pass candidates in lexical order
+     *
+     * @return candidates in fused order
+     */
+    public List<MemoryScoredItem> fuse(MemoryRetrievalPlan plan, List<MemoryScoredItem> scored) {
+        if (scored.isEmpty() || !memoryVectorIndex.isEnabled()) {
+            return scored;
+        }
+        List<MemoryItem> items = scored.stream().map(MemoryScoredItem::getItem).toList();
+        Map<String, Double> similarities = memoryVectorIndex.similarities(plan.getQuery().getQueryText(), items);
+        if (similarities.isEmpty()) {
+            return scored;
+        }
+
+        Map<String, Integer> vectorRanks = vectorRanks(similarities);
+        List<FusedCandidate> fused = new ArrayList<>(scored.size());
+        for (int i = 0; i < scored.size(); i++) {
+            MemoryScoredItem candidate = scored.get(i);
+            String key = MemoryVectorIndex.key(candidate.getItem());
+            Integer vectorRank = key != null ? vectorRanks.get(key) : null;
+            double similarity = key != null ? Math.max(0.0, similarities.getOrDefault(key, 0.0)) : 0.0;
+            double rrf = 1.0 / (RRF_K + i + 1) + (vectorRank != null ? 1.0 / (RRF_K + vectorRank) : 0.0);
+            MemoryScoredItem boosted = MemoryScoredItem.builder().item(candidate.getItem())
+                    .score(candidate.getScore() + similarity * SIMILARITY_BOOST).build();
+            fused.add(new FusedCandidate(boosted, rrf, i));
+        }
+        fused.sort(Comparator.comparingDouble(FusedCandidate::rrf).reversed()
+                .thenComparingInt(FusedCandidate::lexicalIndex));
+
+        int limit = settingsPort.vector().maxCandidates();
+        return fused.stream().limit(limit).map(FusedCandidate::candidate).toList();
+    }
+
+    private Map<String, Integer> vectorRanks(Map<String, Double> similarities) {
+        List<Map.Entry<String, Double>> ordered = new ArrayList<>(similarities.entrySet());
+        ordered.sort(Map.Entry.<String, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            ranks.put(ordered.get(i).getKey(), i + 1);
+        }
+        return ranks;
+    }
+
+    private record FusedCandidate(MemoryScoredItem candidate, double rrf, int lexicalIndex) {
+    }
+}
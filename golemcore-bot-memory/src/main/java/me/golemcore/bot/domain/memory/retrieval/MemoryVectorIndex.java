@@ -0,0 +1,470 @@
+package me.golemcore.bot.domain.memory.retrieval;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.domain.model.MemoryItem;
+import me.golemcore.bot.port.outbound.EmbeddingClientResolverPort;
+import me.golemcore.bot.port.outbound.EmbeddingPort;
+import me.golemcore.bot.port.outbound.MemorySettingsPort;
+import me.golemcore.bot.port.outbound.StoragePort;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Local vector index for memory items.
+ * <p>
+ * Items are embedded when they are written and kept as unit-length {@code float[]} vectors keyed by item id, so a
+ * query costs one embedding call plus a dot product per candidate. Items that predate the index are backfilled a few at
+ * a time alongside query embeddings, and vectors of deleted items are dropped through {@link #remove(Collection)}.
+ * </p>
+ * <p>
+ * The index is persisted as an append-only log under the memory directory: a header line naming the embedding model,
+ * then one line per stored or removed vector. Changes are appended on a background chain of storage writes, so the
+ * caller never waits for I/O, and the log is compacted into a fresh snapshot once it is mostly stale lines. The index
+ * is rebuilt from scratch when the embedding model or dimensions change.
+ * </p>
+ */
+@Slf4j
+public class MemoryVectorIndex {
+
+    static final String LOG_PATH = "vectors/index.log";
+    static final int MAX_ENTRIES = 20_000;
+    static final int BACKFILL_PER_QUERY = 16;
+    static final int MIN_COMPACTION_LINES = 1_024;
+
+    private static final String HEADER = "M";
+    private static final String PUT = "P";
+    private static final String DELETE = "D";
+
+    private final StoragePort storagePort;
+    private final MemorySettingsPort settingsPort;
+    private final EmbeddingClientResolverPort embeddingClientResolver;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private String indexedModel;
+    private int indexedDimensions;
+    private boolean loaded;
+    private int logLines;
+    private CompletableFuture<Void> pendingWrite = CompletableFuture.completedFuture(null);
+
+    public MemoryVectorIndex(StoragePort storagePort, MemorySettingsPort settingsPort,
+            EmbeddingClientResolverPort embeddingClientResolver) {
+        this.storagePort = storagePort;
+        this.settingsPort = settingsPort;
+        this.embeddingClientResolver = embeddingClientResolver;
+    }
+
+    /**
+     * Whether the vector channel is configured.
+     *
+     * @return {@code true} when an embedding provider and model are set
+     */
+    public boolean isEnabled() {
+        return settingsPort.vector().active();
+    }
+
+    /**
+     * Embed and store written items whose text is not indexed yet. Failures are logged and never propagate to the
+     * write path.
+     *
+     * @param items
+     *            items that were just persisted
+     */
+    public void index(Collection<MemoryItem> items) {
+        if (!isEnabled() || items == null || items.isEmpty()) {
+            return;
+        }
+        List<MemoryItem> pending = pendingItems(items, Integer.MAX_VALUE);
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            List<float[]> vectors = embed(pending.stream().map(MemoryVectorIndex::embeddingText).toList());
+            store(pending, vectors);
+        } catch (RuntimeException e) { // NOSONAR - vector indexing is optional, lexical retrieval still works
+            log.debug("[MemoryVectors] Failed to index {} item(s): {}", pending.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Drop the vectors of deleted items.
+     *
+     * @param keys
+     *            index keys of the deleted items, see {@link #key(MemoryItem)}
+     */
+    public synchronized void remove(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        ensureLoaded();
+        StringBuilder changes = new StringBuilder();
+        for (String key : keys) {
+            if (key != null && entries.remove(key) != null) {
+                appendDelete(changes, key);
+            }
+        }
+        persist(changes, false);
+    }
+
+    /**
+     * Wait until every queued index write reached storage.
+     */
+    @PreDestroy
+    public void flush() {
+        CompletableFuture<Void> pending;
+        synchronized (this) {
+            pending = pendingWrite;
+        }
+        pending.join();
+    }
+
+    /**
+     * Cosine similarity between the query and every indexed candidate.
+     *
+     * @param queryText
+     *            raw query text
+     * @param candidates
+     *            collected candidates
+     *
+     * @return similarity by item key; candidates without a vector are absent, and the map is empty when the channel is
+     *         disabled or the query cannot be embedded
+     */
+    public Map<String, Double> similarities(String queryText, Collection<MemoryItem> candidates) {
+        if (!isEnabled() || queryText == null || queryText.isBlank() || candidates == null
+                || candidates.isEmpty()) {
+            return Map.of();
+        }
+        List<MemoryItem> backfill = pendingItems(candidates, BACKFILL_PER_QUERY);
+        List<String> inputs = new ArrayList<>(backfill.size() + 1);
+        inputs.add(queryText);
+        backfill.forEach(item -> inputs.add(embeddingText(item)));
+        float[] query;
+        try {
+            List<float[]> vectors = embed(inputs);
+            query = vectors.getFirst();
+            if (!backfill.isEmpty()) {
+                store(backfill, vectors.subList(1, vectors.size()));
+            }
+        } catch (RuntimeException e) { // NOSONAR - fall back to lexical ranking
+            log.debug("[MemoryVectors] Query embedding failed: {}", e.getMessage());
+            return Map.of();
+        }
+
+        Map<String, Double> similarities = new HashMap<>();
+        synchronized (this) {
+            for (MemoryItem item : candidates) {
+                String key = key(item);
+                Entry entry = key != null ? entries.get(key) : null;
+                if (entry != null && entry.vector().length == query.length) {
+                    similarities.put(key, dot(query, entry.vector()));
+                }
+            }
+        }
+        return similarities;
+    }
+
+    /**
+     * Stable index key for an item.
+     *
+     * @param item
+     *            memory item
+     *
+     * @return item id, falling back to its fingerprint
+     */
+    public static String key(MemoryItem item) {
+        if (item == null) {
+            return null;
+        }
+        if (item.getId() != null && !item.getId().isBlank()) {
+            return item.getId();
+        }
+        if (item.getFingerprint() != null && !item.getFingerprint().isBlank()) {
+            return item.getFingerprint();
+        }
+        return null;
+    }
+
+    synchronized int size() {
+        ensureLoaded();
+        return entries.size();
+    }
+
+    private synchronized List<MemoryItem> pendingItems(Collection<MemoryItem> items, int limit) {
+        ensureLoaded();
+        boolean modelChanged = !settingsPort.vector().embeddingModel().equals(indexedModel);
+        List<MemoryItem> pending = new ArrayList<>();
+        for (MemoryItem item : items) {
+            if (pending.size() >= limit) {
+                break;
+            }
+            String key = key(item);
+            String text = embeddingText(item);
+            if (key == null || text.isBlank()) {
+                continue;
+            }
+            Entry entry = entries.get(key);
+            if (modelChanged || entry == null || entry.textHash() != hash(text)) {
+                pending.add(item);
+            }
+        }
+        return pending;
+    }
+
+    private List<float[]> embed(List<String> inputs) {
+        MemorySettingsPort.VectorSettings settings = settingsPort.vector();
+        EmbeddingPort client = embeddingClientResolver.resolve(settings.embeddingProvider());
+        EmbeddingPort.EmbeddingResponse response = client.embed(new EmbeddingPort.EmbeddingRequest(
+                settings.embeddingBaseUrl(),
+                settings.embeddingApiKey(),
+                settings.embeddingModel(),
+                settings.embeddingDimensions(),
+                settings.embeddingTimeoutMs(),
+                inputs));
+        if (response == null || response.vectors() == null || response.vectors().size() != inputs.size()) {
+            throw new IllegalStateException("Embedding response size mismatch");
+        }
+        return response.vectors();
+    }
+
+    private synchronized void store(List<MemoryItem> items, List<float[]> vectors) {
+        ensureLoaded();
+        String model = settingsPort.vector().embeddingModel();
+        int dimensions = vectors.isEmpty() ? indexedDimensions : vectors.getFirst().length;
+        boolean reset = !model.equals(indexedModel) || dimensions != indexedDimensions;
+        if (reset) {
+            entries.clear();
+            indexedModel = model;
+            indexedDimensions = dimensions;
+        }
+        StringBuilder changes = new StringBuilder();
+        for (int i = 0; i < items.size(); i++) {
+            float[] vector = normalize(vectors.get(i));
+            if (vector == null || vector.length != indexedDimensions) {
+                continue;
+            }
+            String key = key(items.get(i));
+            Entry entry = new Entry(hash(embeddingText(items.get(i))), vector);
+            entries.remove(key);
+            entries.put(key, entry);
+            appendPut(changes, key, entry);
+        }
+        while (entries.size() > MAX_ENTRIES) {
+            String eldest = entries.keySet().iterator().next();
+            entries.remove(eldest);
+            appendDelete(changes, eldest);
+        }
+        persist(changes, reset);
+    }
+
+    /**
+     * Queue the changed lines, or a compacted snapshot when the index was reset or the log is mostly stale.
+     */
+    private void persist(StringBuilder changes, boolean rewrite) {
+        String directory = getMemoryDirectory();
+        if (rewrite || logLines > Math.max(MIN_COMPACTION_LINES, entries.size() * 2)) {
+            Map<String, Entry> snapshot = new LinkedHashMap<>(entries);
+            String model = indexedModel;
+            int dimensions = indexedDimensions;
+            logLines = snapshot.size() + 1;
+            enqueue(() -> storagePort.putTextAtomic(directory, LOG_PATH, snapshot(model, dimensions, snapshot),
+                    false));
+        } else if (!changes.isEmpty()) {
+            String text = changes.toString();
+            enqueue(() -> storagePort.appendText(directory, LOG_PATH, text));
+        }
+    }
+
+    private void enqueue(Supplier<CompletableFuture<Void>> write) {
+        pendingWrite = pendingWrite
+                .thenComposeAsync(ignored -> write.get())
+                .exceptionally(error -> {
+                    log.warn("[MemoryVectors] Failed to persist vector index: {}", error.getMessage());
+                    return null;
+                });
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        String content;
+        try {
+            content = storagePort.getText(getMemoryDirectory(), LOG_PATH).join();
+        } catch (RuntimeException e) {
+            log.debug("[MemoryVectors] Ignoring unreadable vector index: {}", e.getMessage());
+            return;
+        }
+        if (content == null || content.isBlank()) {
+            return;
+        }
+        for (String line : content.split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            logLines++;
+            try {
+                replay(line);
+            } catch (RuntimeException e) { // NOSONAR - skip a torn line, keep the rest of the log
+                log.trace("[MemoryVectors] Skipping invalid vector index line: {}", e.getMessage());
+            }
+        }
+        while (entries.size() > MAX_ENTRIES) {
+            entries.remove(entries.keySet().iterator().next());
+        }
+    }
+
+    private void replay(String line) {
+        String[] parts = line.split("\t", -1);
+        switch (parts[0]) {
+            case HEADER -> {
+                entries.clear();
+                indexedModel = parts[1];
+                indexedDimensions = Integer.parseInt(parts[2]);
+            }
+            case PUT -> {
+                float[] vector = decode(parts[3]);
+                if (indexedModel != null && vector.length == indexedDimensions) {
+                    entries.remove(parts[1]);
+                    entries.put(parts[1], new Entry(Long.parseUnsignedLong(parts[2], 16), vector));
+                }
+            }
+            case DELETE -> entries.remove(parts[1]);
+            default -> throw new IllegalArgumentException("unknown record " + parts[0]);
+        }
+    }
+
+    private void appendPut(StringBuilder changes, String key, Entry entry) {
+        if (!isStorableKey(key)) {
+            return;
+        }
+        changes.append(PUT).append('\t').append(key).append('\t').append(Long.toHexString(entry.textHash()))
+                .append('\t').append(encode(entry.vector())).append('\n');
+        logLines++;
+    }
+
+    private void appendDelete(StringBuilder changes, String key) {
+        if (!isStorableKey(key)) {
+            return;
+        }
+        changes.append(DELETE).append('\t').append(key).append('\n');
+        logLines++;
+    }
+
+    private static String snapshot(String model, int dimensions, Map<String, Entry> snapshot) {
+        StringBuilder text = new StringBuilder(64 + snapshot.size() * (48 + dimensions * 6));
+        text.append(HEADER).append('\t').append(model).append('\t').append(dimensions).append('\n');
+        for (Map.Entry<String, Entry> entry : snapshot.entrySet()) {
+            if (isStorableKey(entry.getKey())) {
+                text.append(PUT).append('\t').append(entry.getKey()).append('\t')
+                        .append(Long.toHexString(entry.getValue().textHash())).append('\t')
+                        .append(encode(entry.getValue().vector())).append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    private static boolean isStorableKey(String key) {
+        return key.indexOf('\t') < 0 && key.indexOf('\n') < 0 && key.indexOf('\r') < 0;
+    }
+
+    private static String encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES);
+        buffer.asFloatBuffer().put(vector);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    private static float[] decode(String encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(encoded));
+        float[] vector = new float[buffer.remaining() / Float.BYTES];
+        buffer.asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    private static String embeddingText(MemoryItem item) {
+        StringBuilder text = new StringBuilder();
+        if (item.getTitle() != null && !item.getTitle().isBlank()) {
+            text.append(item.getTitle().trim()).append('\n');
+        }
+        if (item.getContent() != null) {
+            text.append(item.getContent().trim());
+        }
+        return text.toString().trim();
+    }
+
+    private static long hash(String text) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static float[] normalize(float[] values) {
+        if (values == null || values.length == 0) {
+            return null;
+        }
+        double norm = 0;
+        for (float value : values) {
+            norm += (double) value * value;
+        }
+        if (norm == 0) {
+            return null;
+        }
+        double scale = 1.0 / Math.sqrt(norm);
+        float[] vector = new float[values.length];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) (values[i] * scale);
+        }
+        return vector;
+    }
+
+    private static double dot(float[] query, float[] vector) {
+        double queryNorm = 0;
+        double dot = 0;
+        for (int i = 0; i < query.length; i++) {
+            dot += (double) query[i] * vector[i];
+            queryNorm += (double) query[i] * query[i];
+        }
+        return queryNorm == 0 ? 0.0 : dot / Math.sqrt(queryNorm);
+    }
+
+    private String getMemoryDirectory() {
+        String configured = settingsPort.memory().directory();
+        if (configured == null || configured.isBlank()) {
+            return "memory";
+        }
+        return configured;
+    }
+
+    private record Entry(long textHash, float[] vector) {
+    }
+}
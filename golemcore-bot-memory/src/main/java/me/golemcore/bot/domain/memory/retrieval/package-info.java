@@ -1,5 +1,5 @@
 /**
- * Retrieval planning, collection, scoring, and selection.
+ * Retrieval planning, collection, scoring, lexical/vector fusion, and selection.
  * <p>
  * This package is responsible for finding and ranking candidate memory items before any prompt-facing disclosure
  * decisions are made. It does not render prompt text or persist memory updates.
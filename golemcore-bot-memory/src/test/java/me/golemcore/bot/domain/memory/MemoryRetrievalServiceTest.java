@@ -3,14 +3,17 @@ package me.golemcore.bot.domain.memory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import me.golemcore.bot.domain.memory.retrieval.MemoryCandidateCollector;
+import me.golemcore.bot.domain.memory.retrieval.MemoryCandidateFusion;
 import me.golemcore.bot.domain.memory.retrieval.MemoryCandidateReranker;
 import me.golemcore.bot.domain.memory.retrieval.MemoryCandidateScorer;
 import me.golemcore.bot.domain.memory.retrieval.MemoryCandidateSelector;
 import me.golemcore.bot.domain.memory.retrieval.MemoryRetrievalPlanner;
+import me.golemcore.bot.domain.memory.retrieval.MemoryVectorIndex;
 import me.golemcore.bot.domain.model.MemoryItem;
 import me.golemcore.bot.domain.model.MemoryQuery;
 import me.golemcore.bot.domain.model.MemoryScoredItem;
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
+import me.golemcore.bot.port.outbound.EmbeddingClientResolverPort;
 import me.golemcore.bot.port.outbound.MemorySettingsPort;
 import me.golemcore.bot.port.outbound.StoragePort;
 import org.junit.jupiter.api.BeforeEach;
@@ -55,7 +58,11 @@ class MemoryRetrievalServiceTest {
         objectMapper.registerModule(new JavaTimeModule());
         service = new MemoryRetrievalService(runtimeConfigService, new MemoryRetrievalPlanner(runtimeConfigService),
                 new MemoryCandidateCollector(storagePort, settingsPort, runtimeConfigService, objectMapper),
-                new MemoryCandidateScorer(), new MemoryCandidateReranker(runtimeConfigService),
+                new MemoryCandidateScorer(),
+                new MemoryCandidateFusion(
+                        new MemoryVectorIndex(storagePort, settingsPort, mock(EmbeddingClientResolverPort.class)),
+                        settingsPort),
+                new MemoryCandidateReranker(runtimeConfigService),
                 new MemoryCandidateSelector());
 
         when(storagePort.getText(anyString(), anyString())).thenAnswer(invocation -> CompletableFuture
@@ -7,9 +7,11 @@ import me.golemcore.bot.domain.memory.persistence.MemoryNormalizationService;
 import me.golemcore.bot.domain.memory.persistence.MemoryPersistenceOrchestrator;
 import me.golemcore.bot.domain.memory.persistence.MemoryPromotionOrchestrator;
 import me.golemcore.bot.domain.memory.persistence.TurnMemoryExtractionOrchestrator;
+import me.golemcore.bot.domain.memory.retrieval.MemoryVectorIndex;
 import me.golemcore.bot.domain.model.MemoryItem;
 import me.golemcore.bot.domain.model.TurnMemoryEvent;
 import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
+import me.golemcore.bot.port.outbound.EmbeddingClientResolverPort;
 import me.golemcore.bot.port.outbound.MemorySettingsPort;
 import me.golemcore.bot.port.outbound.StoragePort;
 import org.junit.jupiter.api.BeforeEach;
@@ -59,7 +61,8 @@ class MemoryWriteServiceTest {
 
         MemoryNormalizationService memoryNormalizationService = new MemoryNormalizationService(runtimeConfigService);
         MemoryPersistenceOrchestrator memoryPersistenceOrchestrator = new MemoryPersistenceOrchestrator(storagePort,
-                settingsPort, runtimeConfigService, memoryNormalizationService, objectMapper);
+                settingsPort, runtimeConfigService, memoryNormalizationService, objectMapper,
+                new MemoryVectorIndex(storagePort, settingsPort, mock(EmbeddingClientResolverPort.class)));
         MemoryPromotionOrchestrator memoryPromotionOrchestrator = new MemoryPromotionOrchestrator(
                 memoryPromotionService, memoryPersistenceOrchestrator);
         MemoryLifecycleOrchestrator memoryLifecycleOrchestrator = new MemoryLifecycleOrchestrator(runtimeConfigService,
@@ -0,0 +1,271 @@
+package me.golemcore.bot.domain.memory.retrieval;
+
+import me.golemcore.bot.domain.memory.model.MemoryRetrievalPlan;
+import me.golemcore.bot.domain.model.MemoryItem;
+import me.golemcore.bot.domain.model.MemoryQuery;
+import me.golemcore.bot.domain.model.MemoryScoredItem;
+import me.golemcore.bot.port.outbound.EmbeddingPort;
+import me.golemcore.bot.port.outbound.MemorySettingsPort;
+import me.golemcore.bot.port.outbound.StoragePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemoryCandidateFusionTest {
+
+    private StoragePort storagePort;
+    private Map<String, String> files;
+    private ConceptEmbeddingClient embeddingClient;
+    private MemorySettingsPort.VectorSettings vectorSettings;
+    private MemorySettingsPort settingsPort;
+
+    @BeforeEach
+    void setUp() {
+        storagePort = mock(StoragePort.class);
+        files = new HashMap<>();
+        when(storagePort.getText(anyString(), anyString())).thenAnswer(invocation -> CompletableFuture
+                .completedFuture(files.get(invocation.getArgument(1))));
+        when(storagePort.appendText(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            files.merge(invocation.getArgument(1), invocation.getArgument(2), String::concat);
+            return CompletableFuture.completedFuture(null);
+        });
+        when(storagePort.putTextAtomic(anyString(), anyString(), anyString(), anyBoolean())).thenAnswer(invocation -> {
+            files.put(invocation.getArgument(1), invocation.getArgument(2));
+            return CompletableFuture.completedFuture(null);
+        });
+        embeddingClient = new ConceptEmbeddingClient();
+        vectorSettings = settings("concept-v1", 32);
+        settingsPort = new MemorySettingsPort() {
+            @Override
+            public MemorySettings memory() {
+                return new MemorySettings("memory");
+            }
+
+            @Override
+            public VectorSettings vector() {
+                return vectorSettings;
+            }
+        };
+    }
+
+    @Test
+    void shouldPromoteParaphrasedMatchAboveLexicalOnlyCandidates() {
+        MemoryCandidateFusion fusion = fusion(newIndex());
+        List<MemoryScoredItem> lexical = List.of(
+                scored("postgres-backup", "Nightly postgres backup", 0.62),
+                scored("deploy-checklist", "Rollout checklist before we deploy", 0.50),
+                scored("cache-flush", "Flush redis when keys go stale", 0.48));
+
+        List<MemoryScoredItem> fused = fusion.fuse(plan("how do we ship a new release"), lexical);
+
+        assertEquals(List.of("deploy-checklist", "postgres-backup", "cache-flush"), ids(fused));
+        assertEquals(0.70, fused.getFirst().getScore(), 1e-6);
+        assertEquals(0.62, fused.get(1).getScore(), 1e-6);
+    }
+
+    @Test
+    void shouldReuseVectorsIndexedAtWriteTime() {
+        MemoryVectorIndex index = newIndex();
+        MemoryCandidateFusion fusion = fusion(index);
+        MemoryItem deploy = item("deploy-checklist", "Rollout checklist before we deploy");
+        index.index(List.of(deploy));
+        embeddingClient.requests.clear();
+
+        fusion.fuse(plan("ship the release"), List.of(MemoryScoredItem.builder().item(deploy).score(0.4).build()));
+
+        assertEquals(List.of(List.of("ship the release")), embeddingClient.requests);
+    }
+
+    @Test
+    void shouldReloadPersistedIndexWithoutReembeddingItems() {
+        MemoryItem deploy = item("deploy-checklist", "Rollout checklist before we deploy");
+        MemoryVectorIndex index = newIndex();
+        index.index(List.of(deploy));
+        index.flush();
+        embeddingClient.requests.clear();
+
+        MemoryVectorIndex reloaded = newIndex();
+        Map<String, Double> similarities = reloaded.similarities("ship the release", List.of(deploy));
+
+        assertEquals(1, reloaded.size());
+        assertEquals(1.0, similarities.get("deploy-checklist"), 1e-6);
+        assertEquals(List.of(List.of("ship the release")), embeddingClient.requests);
+    }
+
+    @Test
+    void shouldAppendNewVectorsInsteadOfRewritingIndex() {
+        MemoryVectorIndex index = newIndex();
+        index.index(List.of(item("deploy-checklist", "Rollout checklist before we deploy")));
+        index.index(List.of(item("postgres-backup", "Nightly postgres backup")));
+        index.index(List.of(item("cache-flush", "Flush redis when keys go stale")));
+        index.flush();
+
+        verify(storagePort, times(1)).putTextAtomic(anyString(), eq(MemoryVectorIndex.LOG_PATH), anyString(),
+                anyBoolean());
+        verify(storagePort, times(2)).appendText(anyString(), eq(MemoryVectorIndex.LOG_PATH), anyString());
+        assertEquals(3, newIndex().size());
+    }
+
+    @Test
+    void shouldDropVectorsOfRemovedItems() {
+        MemoryItem deploy = item("deploy-checklist", "Rollout checklist before we deploy");
+        MemoryItem backup = item("postgres-backup", "Nightly postgres backup");
+        MemoryVectorIndex index = newIndex();
+        index.index(List.of(deploy, backup));
+
+        index.remove(List.of("deploy-checklist", "unknown-item"));
+        index.flush();
+
+        assertEquals(1, index.size());
+        assertEquals(1, newIndex().size());
+    }
+
+    @Test
+    void shouldSkipTornLinesWhenReplayingIndex() {
+        MemoryVectorIndex index = newIndex();
+        index.index(List.of(item("deploy-checklist", "Rollout checklist before we deploy")));
+        index.flush();
+        files.merge(MemoryVectorIndex.LOG_PATH, "P\tpostgres-backup\t1f", String::concat);
+
+        assertEquals(1, newIndex().size());
+    }
+
+    @Test
+    void shouldReembedItemsWhenContentOrModelChanges() {
+        MemoryItem deploy = item("deploy-checklist", "Rollout checklist before we deploy");
+        MemoryVectorIndex index = newIndex();
+        index.index(List.of(deploy));
+
+        deploy.setContent("Rollout checklist before we deploy to postgres hosts");
+        index.index(List.of(deploy));
+        vectorSettings = settings("concept-v2", 32);
+        index.index(List.of(deploy));
+
+        assertEquals(3, embeddingClient.requests.size());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void shouldCapFusedCandidatesWhenVectorChannelActive() {
+        vectorSettings = settings("concept-v1", 2);
+        MemoryCandidateFusion fusion = fusion(newIndex());
+        List<MemoryScoredItem> lexical = List.of(
+                scored("postgres-backup", "Nightly postgres backup", 0.62),
+                scored("deploy-checklist", "Rollout checklist before we deploy", 0.50),
+                scored("cache-flush", "Flush redis when keys go stale", 0.48));
+
+        List<MemoryScoredItem> fused = fusion.fuse(plan("ship a release"), lexical);
+
+        assertEquals(List.of("deploy-checklist", "postgres-backup"), ids(fused));
+    }
+
+    @Test
+    void shouldPassLexicalRankingThroughWhenVectorChannelDisabled() {
+        vectorSettings = MemorySettingsPort.VectorSettings.disabled();
+        MemoryCandidateFusion fusion = fusion(newIndex());
+        List<MemoryScoredItem> lexical = List.of(scored("postgres-backup", "Nightly postgres backup", 0.62));
+
+        List<MemoryScoredItem> fused = fusion.fuse(plan("ship a release"), lexical);
+
+        assertSame(lexical, fused);
+        assertTrue(embeddingClient.requests.isEmpty());
+    }
+
+    @Test
+    void shouldFallBackToLexicalRankingWhenEmbeddingFails() {
+        embeddingClient.failing = true;
+        MemoryCandidateFusion fusion = fusion(newIndex());
+        List<MemoryScoredItem> lexical = List.of(
+                scored("postgres-backup", "Nightly postgres backup", 0.62),
+                scored("deploy-checklist", "Rollout checklist before we deploy", 0.50));
+
+        List<MemoryScoredItem> fused = fusion.fuse(plan("ship a release"), lexical);
+
+        assertSame(lexical, fused);
+    }
+
+    private MemoryVectorIndex newIndex() {
+        return new MemoryVectorIndex(storagePort, settingsPort, provider -> embeddingClient);
+    }
+
+    private MemoryCandidateFusion fusion(MemoryVectorIndex index) {
+        return new MemoryCandidateFusion(index, settingsPort);
+    }
+
+    private static MemorySettingsPort.VectorSettings settings(String model, int maxCandidates) {
+        return new MemorySettingsPort.VectorSettings(true, "fake", "http://localhost", null, model, null, 1000,
+                maxCandidates);
+    }
+
+    private static MemoryRetrievalPlan plan(String queryText) {
+        return MemoryRetrievalPlan.builder().query(MemoryQuery.builder().queryText(queryText).build())
+                .requestedScope("global").requestedScopes(List.of("global")).episodicLookbackDays(1).build();
+    }
+
+    private static MemoryScoredItem scored(String id, String content, double score) {
+        return MemoryScoredItem.builder().item(item(id, content)).score(score).build();
+    }
+
+    private static MemoryItem item(String id, String content) {
+        return MemoryItem.builder().id(id).layer(MemoryItem.Layer.SEMANTIC).type(MemoryItem.Type.PROJECT_FACT)
+                .content(content).createdAt(Instant.now()).build();
+    }
+
+    private static List<String> ids(List<MemoryScoredItem> scored) {
+        return scored.stream().map(candidate -> candidate.getItem().getId()).toList();
+    }
+
+    /**
+     * Deterministic embeddings: one dimension per concept, set when any of its synonyms occurs in the text.
+     */
+    private static final class ConceptEmbeddingClient implements EmbeddingPort {
+
+        private static final List<List<String>> CONCEPTS = List.of(
+                List.of("deploy", "release", "rollout", "ship"),
+                List.of("postgres", "database", "backup"),
+                List.of("redis", "cache", "flush"));
+
+        private final List<List<String>> requests = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public EmbeddingResponse embed(EmbeddingRequest request) {
+            if (failing) {
+                throw new IllegalStateException("embedding provider unavailable");
+            }
+            requests.add(request.inputs());
+            List<float[]> vectors = new ArrayList<>();
+            for (String input : request.inputs()) {
+                String text = input.toLowerCase(Locale.ROOT);
+                float[] vector = new float[CONCEPTS.size()];
+                for (int i = 0; i < CONCEPTS.size(); i++) {
+                    for (String synonym : CONCEPTS.get(i)) {
+                        if (text.contains(synonym)) {
+                            vector[i] = 1.0f;
+                        }
+                    }
+                }
+                vectors.add(vector);
+            }
+            return new EmbeddingResponse(request.model(), vectors);
+        }
+    }
+}
@@ -52,6 +52,7 @@ final class RuntimeConfigDefaults {
     static final boolean DEFAULT_TRACING_CAPTURE_OUTBOUND_PAYLOADS = false;
     static final boolean DEFAULT_TRACING_CAPTURE_TOOL_PAYLOADS = false;
     static final boolean DEFAULT_TRACING_CAPTURE_LLM_PAYLOADS = false;
+    static final int DEFAULT_TRACING_LLM_PAYLOAD_SAMPLE_INTERVAL = 1;
     static final double DEFAULT_TRACING_RESILIENCE_PAYLOAD_SAMPLE_RATE = 0.0d;
     static final int DEFAULT_AUTO_COMPACT_MAX_TOKENS = 50000;
     static final int DEFAULT_AUTO_COMPACT_KEEP_LAST = 20;
@@ -62,6 +63,10 @@ final class RuntimeConfigDefaults {
     static final boolean DEFAULT_COMPACTION_DETAILS_ENABLED = true;
     static final int DEFAULT_COMPACTION_DETAILS_MAX_ITEMS = 50;
     static final int DEFAULT_COMPACTION_SUMMARY_TIMEOUT_MS = 15000;
+    static final boolean DEFAULT_COMPACTION_SPECULATIVE_ENABLED = false;
+    static final double DEFAULT_COMPACTION_SPECULATIVE_TRIGGER_RATIO = 0.8d;
+    static final boolean DEFAULT_COMPACTION_HIERARCHICAL_ENABLED = false;
+    static final int DEFAULT_COMPACTION_HIERARCHY_FANOUT = 4;
     static final int DEFAULT_MEMORY_SOFT_PROMPT_BUDGET_TOKENS = 1800;
     static final int DEFAULT_MEMORY_MAX_PROMPT_BUDGET_TOKENS = 3500;
     static final int DEFAULT_MEMORY_VERSION = 2;
@@ -93,6 +98,8 @@ final class RuntimeConfigDefaults {
     static final int DEFAULT_TOOL_REPEAT_GUARD_MAX_BLOCKED_REPEATS_PER_TURN = 4;
     static final long DEFAULT_TOOL_REPEAT_GUARD_MIN_POLL_INTERVAL_SECONDS = 60L;
     static final long DEFAULT_TOOL_REPEAT_GUARD_AUTO_LEDGER_TTL_MINUTES = 120L;
+    static final boolean DEFAULT_TOOL_RESULT_CACHE_ENABLED = false;
+    static final long DEFAULT_TOOL_RESULT_CACHE_TTL_SECONDS = 60L;
     static final boolean DEFAULT_SESSION_RETENTION_ENABLED = true;
     static final Duration DEFAULT_SESSION_RETENTION_MAX_AGE = Duration.ofDays(30);
     static final Duration DEFAULT_SESSION_RETENTION_CLEANUP_INTERVAL = Duration.ofHours(24);
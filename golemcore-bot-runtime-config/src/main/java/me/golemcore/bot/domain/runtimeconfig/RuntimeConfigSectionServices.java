@@ -6,8 +6,12 @@ import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAUL
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_CODING_REASONING;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_COMPACTION_DETAILS_ENABLED;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_COMPACTION_DETAILS_MAX_ITEMS;
+import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_COMPACTION_HIERARCHICAL_ENABLED;
+import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_COMPACTION_HIERARCHY_FANOUT;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_COMPACTION_MODEL_THRESHOLD_RATIO;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_COMPACTION_PRESERVE_TURN_BOUNDARIES;
+import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_COMPACTION_SPECULATIVE_ENABLED;
+import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_COMPACTION_SPECULATIVE_TRIGGER_RATIO;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_COMPACTION_SUMMARY_TIMEOUT_MS;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_DEEP_MODEL;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_DEEP_REASONING;
@@ -104,11 +108,14 @@ import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAUL
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TOOL_REPEAT_GUARD_MAX_SAME_UNKNOWN_PER_TURN;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TOOL_REPEAT_GUARD_MIN_POLL_INTERVAL_SECONDS;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TOOL_REPEAT_GUARD_SHADOW_MODE;
+import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TOOL_RESULT_CACHE_ENABLED;
+import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TOOL_RESULT_CACHE_TTL_SECONDS;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_CAPTURE_INBOUND_PAYLOADS;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_CAPTURE_LLM_PAYLOADS;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_CAPTURE_OUTBOUND_PAYLOADS;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_CAPTURE_TOOL_PAYLOADS;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_ENABLED;
+import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_LLM_PAYLOAD_SAMPLE_INTERVAL;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_MAX_SNAPSHOT_SIZE_KB;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_MAX_SNAPSHOTS_PER_SPAN;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_MAX_TRACES_PER_SESSION;
@@ -445,6 +452,10 @@ final class ObservabilityConfigService implements RuntimeConfigSectionService {
         if (tracing.getCaptureLlmPayloads() == null) {
             tracing.setCaptureLlmPayloads(DEFAULT_TRACING_CAPTURE_LLM_PAYLOADS);
         }
+        Integer llmPayloadSampleInterval = tracing.getLlmPayloadSampleInterval();
+        if (llmPayloadSampleInterval == null || llmPayloadSampleInterval < 1) {
+            tracing.setLlmPayloadSampleInterval(DEFAULT_TRACING_LLM_PAYLOAD_SAMPLE_INTERVAL);
+        }
         Double resiliencePayloadSampleRate = tracing.getResiliencePayloadSampleRate();
         if (resiliencePayloadSampleRate == null || resiliencePayloadSampleRate.isNaN()
                 || resiliencePayloadSampleRate < 0.0d || resiliencePayloadSampleRate > 1.0d) {
@@ -492,6 +503,19 @@ final class SessionRuntimeConfigService implements RuntimeConfigSectionService {
         if (compaction.getSummaryTimeoutMs() == null) {
             compaction.setSummaryTimeoutMs(DEFAULT_COMPACTION_SUMMARY_TIMEOUT_MS);
         }
+        if (compaction.getSpeculativeEnabled() == null) {
+            compaction.setSpeculativeEnabled(DEFAULT_COMPACTION_SPECULATIVE_ENABLED);
+        }
+        Double speculativeTriggerRatio = compaction.getSpeculativeTriggerRatio();
+        if (speculativeTriggerRatio == null || speculativeTriggerRatio <= 0.0d || speculativeTriggerRatio >= 1.0d) {
+            compaction.setSpeculativeTriggerRatio(DEFAULT_COMPACTION_SPECULATIVE_TRIGGER_RATIO);
+        }
+        if (compaction.getHierarchicalEnabled() == null) {
+            compaction.setHierarchicalEnabled(DEFAULT_COMPACTION_HIERARCHICAL_ENABLED);
+        }
+        if (compaction.getHierarchyFanout() == null || compaction.getHierarchyFanout() < 2) {
+            compaction.setHierarchyFanout(DEFAULT_COMPACTION_HIERARCHY_FANOUT);
+        }
     }
 
     private void normalizeTurn(RuntimeConfig.TurnConfig turn) {
@@ -562,6 +586,11 @@ final class SessionRuntimeConfigService implements RuntimeConfigSectionService {
                 DEFAULT_TOOL_REPEAT_GUARD_MIN_POLL_INTERVAL_SECONDS));
         toolLoop.setRepeatGuardAutoLedgerTtlMinutes(positiveOrDefault(toolLoop.getRepeatGuardAutoLedgerTtlMinutes(),
                 DEFAULT_TOOL_REPEAT_GUARD_AUTO_LEDGER_TTL_MINUTES));
+        if (toolLoop.getResultCacheEnabled() == null) {
+            toolLoop.setResultCacheEnabled(DEFAULT_TOOL_RESULT_CACHE_ENABLED);
+        }
+        toolLoop.setResultCacheTtlSeconds(
+                positiveOrDefault(toolLoop.getResultCacheTtlSeconds(), DEFAULT_TOOL_RESULT_CACHE_TTL_SECONDS));
     }
 
     private int positiveOrDefault(Integer value, int defaultValue) {
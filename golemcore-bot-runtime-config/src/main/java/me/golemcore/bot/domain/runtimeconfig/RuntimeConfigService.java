@@ -716,6 +716,29 @@ public class RuntimeConfigService
         return val != null ? val : DEFAULT_COMPACTION_SUMMARY_TIMEOUT_MS;
     }
 
+    public boolean isCompactionSpeculativeEnabled() {
+        Boolean val = getRuntimeConfig().getCompaction().getSpeculativeEnabled();
+        return val != null ? val : DEFAULT_COMPACTION_SPECULATIVE_ENABLED;
+    }
+
+    public double getCompactionSpeculativeTriggerRatio() {
+        Double val = getRuntimeConfig().getCompaction().getSpeculativeTriggerRatio();
+        if (val == null || val <= 0.0d || val >= 1.0d) {
+            return DEFAULT_COMPACTION_SPECULATIVE_TRIGGER_RATIO;
+        }
+        return val;
+    }
+
+    public boolean isCompactionHierarchicalEnabled() {
+        Boolean val = getRuntimeConfig().getCompaction().getHierarchicalEnabled();
+        return val != null ? val : DEFAULT_COMPACTION_HIERARCHICAL_ENABLED;
+    }
+
+    public int getCompactionHierarchyFanout() {
+        Integer val = getRuntimeConfig().getCompaction().getHierarchyFanout();
+        return val != null && val >= 2 ? val : DEFAULT_COMPACTION_HIERARCHY_FANOUT;
+    }
+
     public boolean isSessionRetentionEnabled() {
         return sessionRetentionBoolean(RuntimeConfig.SessionRetentionConfig::getEnabled,
                 DEFAULT_SESSION_RETENTION_ENABLED);
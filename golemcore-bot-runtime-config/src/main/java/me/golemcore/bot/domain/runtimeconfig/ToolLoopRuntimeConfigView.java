@@ -9,6 +9,8 @@ import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAUL
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TOOL_REPEAT_GUARD_MAX_SAME_UNKNOWN_PER_TURN;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TOOL_REPEAT_GUARD_MIN_POLL_INTERVAL_SECONDS;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TOOL_REPEAT_GUARD_SHADOW_MODE;
+import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TOOL_RESULT_CACHE_ENABLED;
+import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TOOL_RESULT_CACHE_TTL_SECONDS;
 
 import me.golemcore.bot.domain.model.RuntimeConfig;
 
@@ -73,6 +75,18 @@ public interface ToolLoopRuntimeConfigView extends TurnRuntimeConfigView {
         return val != null ? val : DEFAULT_TOOL_REPEAT_GUARD_AUTO_LEDGER_TTL_MINUTES;
     }
 
+    default boolean isToolResultCacheEnabled() {
+        RuntimeConfig.ToolLoopConfig toolLoopConfig = getToolLoopConfig();
+        Boolean val = toolLoopConfig != null ? toolLoopConfig.getResultCacheEnabled() : null;
+        return val != null ? val : DEFAULT_TOOL_RESULT_CACHE_ENABLED;
+    }
+
+    default long getToolResultCacheTtlSeconds() {
+        RuntimeConfig.ToolLoopConfig toolLoopConfig = getToolLoopConfig();
+        Long val = toolLoopConfig != null ? toolLoopConfig.getResultCacheTtlSeconds() : null;
+        return val != null ? val : DEFAULT_TOOL_RESULT_CACHE_TTL_SECONDS;
+    }
+
     private RuntimeConfig.ToolLoopConfig getToolLoopConfig() {
         RuntimeConfig runtimeConfig = getRuntimeConfig();
         return runtimeConfig != null ? runtimeConfig.getToolLoop() : null;
@@ -5,6 +5,7 @@ import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAUL
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_CAPTURE_OUTBOUND_PAYLOADS;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_CAPTURE_TOOL_PAYLOADS;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_ENABLED;
+import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_LLM_PAYLOAD_SAMPLE_INTERVAL;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_MAX_SNAPSHOT_SIZE_KB;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_MAX_SNAPSHOTS_PER_SPAN;
 import static me.golemcore.bot.domain.runtimeconfig.RuntimeConfigDefaults.DEFAULT_TRACING_MAX_TRACES_PER_SESSION;
@@ -105,6 +106,15 @@ public interface TracingConfigView extends RuntimeConfigSource {
         return value != null ? value : DEFAULT_TRACING_CAPTURE_LLM_PAYLOADS;
     }
 
+    default int getTraceLlmPayloadSampleInterval() {
+        RuntimeConfig.TracingConfig tracingConfig = getRuntimeConfig().getTracing();
+        if (tracingConfig == null || tracingConfig.getLlmPayloadSampleInterval() == null
+                || tracingConfig.getLlmPayloadSampleInterval() < 1) {
+            return DEFAULT_TRACING_LLM_PAYLOAD_SAMPLE_INTERVAL;
+        }
+        return tracingConfig.getLlmPayloadSampleInterval();
+    }
+
     default double getTraceResiliencePayloadSampleRate() {
         RuntimeConfig.TracingConfig tracingConfig = getRuntimeConfig().getTracing();
         if (tracingConfig == null || tracingConfig.getResiliencePayloadSampleRate() == null) {
@@ -116,7 +116,8 @@ class RuntimeConfigSectionServicesTest {
                 .maxDelay("bad").defaultMaxAttempts(0).leaseDuration("bad").retentionAfterCompletion("bad")
                 .allowRunLater(null).build());
         cfg.setTracing(RuntimeConfig.TracingConfig.builder().sessionTraceBudgetMb(0).maxSnapshotSizeKb(0)
-                .maxSnapshotsPerSpan(0).maxTracesPerSession(0).resiliencePayloadSampleRate(Double.NaN).build());
+                .maxSnapshotsPerSpan(0).maxTracesPerSession(0).llmPayloadSampleInterval(0)
+                .resiliencePayloadSampleRate(Double.NaN).build());
 
         new SessionRuntimeConfigService().normalize(cfg);
         new DelayedActionsConfigService().normalize(cfg);
@@ -136,6 +137,8 @@ class RuntimeConfigSectionServicesTest {
                 cfg.getSessionRetention().getMaxAge());
         assertEquals(RuntimeConfigDefaults.DEFAULT_DELAYED_ACTIONS_MAX_DELAY.toString(),
                 cfg.getDelayedActions().getMaxDelay());
+        assertEquals(RuntimeConfigDefaults.DEFAULT_TRACING_LLM_PAYLOAD_SAMPLE_INTERVAL,
+                cfg.getTracing().getLlmPayloadSampleInterval());
         assertEquals(RuntimeConfigDefaults.DEFAULT_TRACING_RESILIENCE_PAYLOAD_SAMPLE_RATE,
                 cfg.getTracing().getResiliencePayloadSampleRate());
     }
@@ -523,6 +523,7 @@ class RuntimeConfigServiceTest {
         tracing.setCaptureOutboundPayloads(null);
         tracing.setCaptureToolPayloads(null);
         tracing.setCaptureLlmPayloads(null);
+        tracing.setLlmPayloadSampleInterval(null);
         tracing.setResiliencePayloadSampleRate(null);
         config.setTracing(tracing);
         setCachedConfig(config);
@@ -537,6 +538,7 @@ class RuntimeConfigServiceTest {
         assertFalse(service.isTraceOutboundPayloadCaptureEnabled());
         assertFalse(service.isTraceToolPayloadCaptureEnabled());
         assertFalse(service.isTraceLlmPayloadCaptureEnabled());
+        assertEquals(1, service.getTraceLlmPayloadSampleInterval());
         assertEquals(0.0d, service.getTraceResiliencePayloadSampleRate());
     }
 
@@ -554,6 +556,7 @@ class RuntimeConfigServiceTest {
         tracing.setCaptureOutboundPayloads(true);
         tracing.setCaptureToolPayloads(true);
         tracing.setCaptureLlmPayloads(true);
+        tracing.setLlmPayloadSampleInterval(5);
         tracing.setResiliencePayloadSampleRate(0.25d);
         config.setTracing(tracing);
         setCachedConfig(config);
@@ -568,6 +571,7 @@ class RuntimeConfigServiceTest {
         assertTrue(service.isTraceOutboundPayloadCaptureEnabled());
         assertTrue(service.isTraceToolPayloadCaptureEnabled());
         assertTrue(service.isTraceLlmPayloadCaptureEnabled());
+        assertEquals(5, service.getTraceLlmPayloadSampleInterval());
         assertEquals(0.25d, service.getTraceResiliencePayloadSampleRate());
     }
 
@@ -692,6 +696,8 @@ class RuntimeConfigServiceTest {
         assertTrue(service.isCompactionDetailsEnabled());
         assertEquals(50, service.getCompactionDetailsMaxItemsPerCategory());
         assertEquals(15000, service.getCompactionSummaryTimeoutMs());
+        assertFalse(service.isCompactionSpeculativeEnabled());
+        assertFalse(service.isCompactionHierarchicalEnabled());
     }
 
     @Test
@@ -811,6 +817,7 @@ class RuntimeConfigServiceTest {
         assertEquals(4, service.getToolRepeatGuardMaxBlockedRepeatsPerTurn());
         assertEquals(60L, service.getToolRepeatGuardMinPollIntervalSeconds());
         assertEquals(120L, service.getToolRepeatGuardAutoLedgerTtlMinutes());
+        assertFalse(service.isToolResultCacheEnabled());
         assertEquals(java.time.Duration.ofHours(1), service.getTurnDeadline());
     }
 
@@ -63,6 +63,8 @@ class TurnPersistenceGuard {
     private PersistenceOutcome saveSessionWithTracing(AgentSession session, TraceContext parentTraceContext) {
         TraceContext saveSpan = startSessionSaveSpan(session, parentTraceContext);
         try {
+            // Picks up snapshots that finished encoding; never waits for ones still in flight
+            traceService.attachEncodedSnapshots(session);
             sessionService.save(session);
             finishSessionSaveSpan(session, saveSpan, TraceStatusCode.OK, null);
             return PersistenceOutcome.saved(session != null ? session.getId() : null);
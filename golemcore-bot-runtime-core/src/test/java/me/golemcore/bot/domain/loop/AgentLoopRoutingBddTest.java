@@ -29,6 +29,7 @@ import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.tracing.TraceBudgetService;
 import me.golemcore.bot.domain.tracing.TraceService;
 import me.golemcore.bot.domain.tracing.TraceSnapshotCompressionService;
+import me.golemcore.bot.domain.tracing.TraceSnapshotEncoder;
 import me.golemcore.bot.domain.runtimeconfig.UserPreferencesService;
 import me.golemcore.bot.domain.system.AgentSystem;
 import me.golemcore.bot.domain.system.ResponseRoutingAgentSystem;
@@ -154,7 +155,8 @@ class AgentLoopRoutingBddTest {
                 new AgentLoopFactory.AgentLoopPorts(sessionPort, rateLimitPort, runtime(channels), llmPort),
                 new AgentLoopFactory.AgentLoopRuntimeServices(runtimeConfigService, runtimeConfigService,
                         runtimeConfigService, preferencesService, clock,
-                        new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService()),
+                        new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                                new TraceSnapshotEncoder(Runnable::run)),
                         traceSnapshotCodec(), new DefaultContextHygieneService(), new RuntimeEventService(clock)),
                 systems);
     }
@@ -39,6 +39,7 @@ import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.tracing.TraceBudgetService;
 import me.golemcore.bot.domain.tracing.TraceService;
 import me.golemcore.bot.domain.tracing.TraceSnapshotCompressionService;
+import me.golemcore.bot.domain.tracing.TraceSnapshotEncoder;
 import me.golemcore.bot.domain.runtimeconfig.UserPreferencesService;
 import me.golemcore.bot.domain.system.AgentSystem;
 import me.golemcore.bot.domain.system.ResponseRoutingAgentSystem;
@@ -2136,7 +2137,8 @@ class AgentLoopTest {
         AgentPipelinePlan plan = new AgentPipelinePlanFactory().create(List.of());
         AgentPipelineRunner pipelineRunner = new AgentPipelineRunner(plan, mockRuntimeConfigService(1),
                 mockRuntimeConfigService(1), preferencesService, clock,
-                new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService()),
+                new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                        new TraceSnapshotEncoder(Runnable::run)),
                 new DefaultContextHygieneService());
 
         Object snapshot = ReflectionTestUtils.invokeMethod(pipelineRunner, "captureTraceState", (AgentContext) null);
@@ -2152,7 +2154,8 @@ class AgentLoopTest {
                 new AgentLoopFactory.AgentLoopPorts(sessionPort, rateLimitPort, runtime(channels), llmPort),
                 new AgentLoopFactory.AgentLoopRuntimeServices(runtimeConfigService, runtimeConfigService,
                         runtimeConfigService, preferencesService, clock,
-                        new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService()),
+                        new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                                new TraceSnapshotEncoder(Runnable::run)),
                         traceSnapshotCodec(), new DefaultContextHygieneService(), new RuntimeEventService(clock)),
                 systems);
     }
@@ -17,6 +17,7 @@ import me.golemcore.bot.domain.runtimeconfig.RuntimeConfigService;
 import me.golemcore.bot.domain.tracing.TraceService;
 import me.golemcore.bot.port.outbound.SessionPort;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -25,6 +26,7 @@ import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -54,6 +56,24 @@ class TurnPersistenceGuardTest {
         verify(sessionPort).save(session);
     }
 
+    @Test
+    void shouldAttachFinishedTraceSnapshotsBeforeSavingSession() {
+        SessionPort sessionPort = mock(SessionPort.class);
+        RuntimeConfigService runtimeConfigService = mock(RuntimeConfigService.class);
+        TraceService traceService = mock(TraceService.class);
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        TurnPersistenceGuard guard = new TurnPersistenceGuard(sessionPort, runtimeConfigService, traceService,
+                mock(ContextHygieneService.class), clock, new RuntimeEventService(clock));
+        AgentSession session = AgentSession.builder().id("session-1").build();
+
+        guard.persist(AgentContext.builder().session(session).build(), session,
+                TraceContext.builder().traceId("trace").spanId("root").build());
+
+        InOrder inOrder = inOrder(traceService, sessionPort);
+        inOrder.verify(traceService).attachEncodedSnapshots(session);
+        inOrder.verify(sessionPort).save(session);
+    }
+
     @Test
     void shouldTraceSessionSaveWhenTracingEnabled() {
         SessionPort sessionPort = mock(SessionPort.class);
@@ -30,13 +30,13 @@ import me.golemcore.bot.domain.model.selfevolving.artifact.ArtifactRevisionRecor
 import me.golemcore.bot.domain.support.StringValueSupport;
 import me.golemcore.bot.port.outbound.StoragePort;
 import me.golemcore.bot.port.outbound.selfevolving.ArtifactRepositoryPort;
-import org.springframework.stereotype.Component;
 
 /**
  * JSON-on-StoragePort adapter for the self-evolving artifact repository. Owns
- * directory layout, file names, and the atomic write policy for revisions.
+ * directory layout, file names, and the atomic write policy for revisions. Kept
+ * as the legacy format read by {@link SqliteArtifactRepositoryAdapter} on first
+ * start, and as the writer of workspace projections.
  */
-@Component
 @Slf4j
 public class JsonArtifactRepositoryAdapter implements ArtifactRepositoryPort {
 
@@ -116,4 +116,24 @@ public class JsonArtifactRepositoryAdapter implements ArtifactRepositoryPort {
             throw new IllegalStateException("Failed to rebuild artifact workspace projections at " + relativePath, e);
         }
     }
+
+    @Override
+    public List<String> listWorkspaceProjections(String relativeDirectory) {
+        try {
+            List<String> paths = storagePort.listObjects(SELF_EVOLVING_DIR, relativeDirectory).join();
+            return paths != null ? paths : List.of();
+        } catch (Exception e) { // NOSONAR - storage failure becomes runtime error
+            throw new IllegalStateException("Failed to list artifact workspace projections at " + relativeDirectory,
+                    e);
+        }
+    }
+
+    @Override
+    public void deleteWorkspaceProjection(String relativePath) {
+        try {
+            storagePort.deleteObject(SELF_EVOLVING_DIR, relativePath).join();
+        } catch (Exception e) { // NOSONAR - storage failure becomes runtime error
+            throw new IllegalStateException("Failed to delete artifact workspace projection at " + relativePath, e);
+        }
+    }
 }
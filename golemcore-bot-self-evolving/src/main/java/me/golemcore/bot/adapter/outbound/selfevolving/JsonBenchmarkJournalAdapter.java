@@ -32,13 +32,12 @@ import me.golemcore.bot.domain.model.selfevolving.BenchmarkSuite;
 import me.golemcore.bot.domain.support.StringValueSupport;
 import me.golemcore.bot.port.outbound.StoragePort;
 import me.golemcore.bot.port.outbound.selfevolving.BenchmarkJournalPort;
-import org.springframework.stereotype.Component;
 
 /**
  * JSON-on-StoragePort adapter for the self-evolving benchmark journal. Owns
- * directory layout, file names, and the Jackson mapper.
+ * directory layout, file names, and the Jackson mapper. Kept as the legacy
+ * format read by {@link SqliteBenchmarkJournalAdapter} on first start.
  */
-@Component
 @Slf4j
 public class JsonBenchmarkJournalAdapter implements BenchmarkJournalPort {
 
@@ -33,14 +33,13 @@ import me.golemcore.bot.domain.model.selfevolving.RunVerdict;
 import me.golemcore.bot.domain.support.StringValueSupport;
 import me.golemcore.bot.port.outbound.StoragePort;
 import me.golemcore.bot.port.outbound.selfevolving.RunJournalPort;
-import org.springframework.stereotype.Component;
 
 /**
  * JSON-on-StoragePort adapter for the self-evolving run journal. Owns the
  * directory layout, file names, and verdict wire-format (object or legacy
- * array).
+ * array). Kept as the legacy format read by {@link SqliteRunJournalAdapter} on
+ * first start.
  */
-@Component
 @Slf4j
 public class JsonRunJournalAdapter implements RunJournalPort {
 
@@ -0,0 +1,158 @@
+package me.golemcore.bot.adapter.outbound.selfevolving;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.domain.model.selfevolving.ArtifactBundleRecord;
+import me.golemcore.bot.domain.model.selfevolving.artifact.ArtifactRevisionRecord;
+import me.golemcore.bot.domain.support.StringValueSupport;
+import me.golemcore.bot.port.outbound.StoragePort;
+import me.golemcore.bot.port.outbound.selfevolving.ArtifactRepositoryPort;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQLite-backed artifact repository. Bundles and revisions are stored one row
+ * each in {@link SqliteSelfEvolvingJournalStore}, indexed by golem and artifact
+ * stream; workspace projections stay plain files on {@link StoragePort}. The
+ * legacy JSON files are imported on first use.
+ */
+@Component
+@Slf4j
+public class SqliteArtifactRepositoryAdapter implements ArtifactRepositoryPort {
+
+    private static final String BUNDLES_COLLECTION = "artifact-bundles";
+    private static final String REVISIONS_COLLECTION = "artifact-revisions";
+
+    private final SqliteSelfEvolvingJournalStore journalStore;
+    private final JsonArtifactRepositoryAdapter legacyRepository;
+    private final ObjectMapper objectMapper;
+
+    public SqliteArtifactRepositoryAdapter(SqliteSelfEvolvingJournalStore journalStore, StoragePort storagePort) {
+        this.journalStore = journalStore;
+        this.legacyRepository = new JsonArtifactRepositoryAdapter(storagePort);
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Override
+    public List<ArtifactBundleRecord> loadBundles() {
+        return readAll(BUNDLES_COLLECTION, journalStore.loadPayloads(BUNDLES_COLLECTION, this::legacyBundleRows),
+                ArtifactBundleRecord.class);
+    }
+
+    @Override
+    public void saveBundles(List<ArtifactBundleRecord> bundles) {
+        journalStore.replaceAll(BUNDLES_COLLECTION, bundleRows(bundles), this::legacyBundleRows);
+    }
+
+    @Override
+    public List<ArtifactRevisionRecord> loadRevisions() {
+        return readAll(REVISIONS_COLLECTION,
+                journalStore.loadPayloads(REVISIONS_COLLECTION, this::legacyRevisionRows),
+                ArtifactRevisionRecord.class);
+    }
+
+    @Override
+    public void saveRevisions(List<ArtifactRevisionRecord> revisions) {
+        journalStore.replaceAll(REVISIONS_COLLECTION, revisionRows(revisions), this::legacyRevisionRows);
+    }
+
+    @Override
+    public void writeWorkspaceProjection(String relativePath, Object payload) {
+        legacyRepository.writeWorkspaceProjection(relativePath, payload);
+    }
+
+    @Override
+    public List<String> listWorkspaceProjections(String relativeDirectory) {
+        return legacyRepository.listWorkspaceProjections(relativeDirectory);
+    }
+
+    @Override
+    public void deleteWorkspaceProjection(String relativePath) {
+        legacyRepository.deleteWorkspaceProjection(relativePath);
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> legacyBundleRows() {
+        return bundleRows(legacyRepository.loadBundles());
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> legacyRevisionRows() {
+        return revisionRows(legacyRepository.loadRevisions());
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> bundleRows(List<ArtifactBundleRecord> bundles) {
+        List<SqliteSelfEvolvingJournalStore.Row> rows = new ArrayList<>();
+        if (bundles == null) {
+            return rows;
+        }
+        for (int index = 0; index < bundles.size(); index++) {
+            ArtifactBundleRecord bundle = bundles.get(index);
+            if (bundle != null) {
+                String id = StringValueSupport.isBlank(bundle.getId()) ? "#" + index : bundle.getId();
+                rows.add(new SqliteSelfEvolvingJournalStore.Row(id, write(bundle)));
+            }
+        }
+        return rows;
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> revisionRows(List<ArtifactRevisionRecord> revisions) {
+        List<SqliteSelfEvolvingJournalStore.Row> rows = new ArrayList<>();
+        if (revisions == null) {
+            return rows;
+        }
+        for (int index = 0; index < revisions.size(); index++) {
+            ArtifactRevisionRecord revision = revisions.get(index);
+            if (revision != null) {
+                String id = StringValueSupport.isBlank(revision.getContentRevisionId())
+                        ? "#" + index
+                        : revision.getArtifactStreamId() + "/" + revision.getContentRevisionId();
+                rows.add(new SqliteSelfEvolvingJournalStore.Row(id, write(revision)));
+            }
+        }
+        return rows;
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize self-evolving artifact record", e);
+        }
+    }
+
+    private <T> List<T> readAll(String collection, Map<String, String> payloads, Class<T> type) {
+        List<T> records = new ArrayList<>(payloads.size());
+        for (Map.Entry<String, String> payload : payloads.entrySet()) {
+            try {
+                records.add(objectMapper.readValue(payload.getValue(), type));
+            } catch (JsonProcessingException e) {
+                log.warn("[SelfEvolving] Keeping unreadable {} row {} untouched: {}", collection, payload.getKey(),
+                        e.getMessage());
+                journalStore.markUnreadable(collection, payload.getKey());
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,182 @@
+package me.golemcore.bot.adapter.outbound.selfevolving;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.domain.model.selfevolving.BenchmarkCampaign;
+import me.golemcore.bot.domain.model.selfevolving.BenchmarkCampaignVerdict;
+import me.golemcore.bot.domain.model.selfevolving.BenchmarkCase;
+import me.golemcore.bot.domain.model.selfevolving.BenchmarkSuite;
+import me.golemcore.bot.domain.support.StringValueSupport;
+import me.golemcore.bot.port.outbound.StoragePort;
+import me.golemcore.bot.port.outbound.selfevolving.BenchmarkJournalPort;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQLite-backed benchmark journal. Cases, suites, campaigns and campaign
+ * verdicts are stored one row each in {@link SqliteSelfEvolvingJournalStore};
+ * whole-list saves only write the records that changed. The legacy JSON files
+ * are imported on first use.
+ */
+@Component
+@Slf4j
+public class SqliteBenchmarkJournalAdapter implements BenchmarkJournalPort {
+
+    private static final String CASES_COLLECTION = "benchmark-cases";
+    private static final String SUITES_COLLECTION = "benchmark-suites";
+    private static final String CAMPAIGNS_COLLECTION = "benchmark-campaigns";
+    private static final String CAMPAIGN_VERDICTS_COLLECTION = "benchmark-campaign-verdicts";
+
+    private final SqliteSelfEvolvingJournalStore journalStore;
+    private final JsonBenchmarkJournalAdapter legacyJournal;
+    private final ObjectMapper objectMapper;
+
+    public SqliteBenchmarkJournalAdapter(SqliteSelfEvolvingJournalStore journalStore, StoragePort storagePort) {
+        this.journalStore = journalStore;
+        this.legacyJournal = new JsonBenchmarkJournalAdapter(storagePort);
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Override
+    public List<BenchmarkCase> loadCases() {
+        return load(CASES_COLLECTION, BenchmarkCase.class, this::legacyCaseRows);
+    }
+
+    @Override
+    public void saveCases(List<BenchmarkCase> cases) {
+        journalStore.replaceAll(CASES_COLLECTION, caseRows(cases), this::legacyCaseRows);
+    }
+
+    @Override
+    public List<BenchmarkSuite> loadSuites() {
+        return load(SUITES_COLLECTION, BenchmarkSuite.class, this::legacySuiteRows);
+    }
+
+    @Override
+    public void saveSuites(List<BenchmarkSuite> suites) {
+        journalStore.replaceAll(SUITES_COLLECTION, suiteRows(suites), this::legacySuiteRows);
+    }
+
+    @Override
+    public List<BenchmarkCampaign> loadCampaigns() {
+        return load(CAMPAIGNS_COLLECTION, BenchmarkCampaign.class, this::legacyCampaignRows);
+    }
+
+    @Override
+    public void saveCampaigns(List<BenchmarkCampaign> campaigns) {
+        journalStore.replaceAll(CAMPAIGNS_COLLECTION, campaignRows(campaigns), this::legacyCampaignRows);
+    }
+
+    @Override
+    public List<BenchmarkCampaignVerdict> loadCampaignVerdicts() {
+        return load(CAMPAIGN_VERDICTS_COLLECTION, BenchmarkCampaignVerdict.class, this::legacyVerdictRows);
+    }
+
+    @Override
+    public void saveCampaignVerdicts(List<BenchmarkCampaignVerdict> verdicts) {
+        journalStore.replaceAll(CAMPAIGN_VERDICTS_COLLECTION, verdictRows(verdicts), this::legacyVerdictRows);
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> legacyCaseRows() {
+        return caseRows(legacyJournal.loadCases());
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> legacySuiteRows() {
+        return suiteRows(legacyJournal.loadSuites());
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> legacyCampaignRows() {
+        return campaignRows(legacyJournal.loadCampaigns());
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> legacyVerdictRows() {
+        return verdictRows(legacyJournal.loadCampaignVerdicts());
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> caseRows(List<BenchmarkCase> cases) {
+        return rows(cases, BenchmarkCase::getId);
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> suiteRows(List<BenchmarkSuite> suites) {
+        return rows(suites, BenchmarkSuite::getId);
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> campaignRows(List<BenchmarkCampaign> campaigns) {
+        return rows(campaigns, BenchmarkCampaign::getId);
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> verdictRows(List<BenchmarkCampaignVerdict> verdicts) {
+        return rows(verdicts, BenchmarkCampaignVerdict::getId);
+    }
+
+    private <T> List<SqliteSelfEvolvingJournalStore.Row> rows(List<T> items, Function<T, String> idOf) {
+        List<SqliteSelfEvolvingJournalStore.Row> rows = new ArrayList<>();
+        if (items == null) {
+            return rows;
+        }
+        for (int index = 0; index < items.size(); index++) {
+            T item = items.get(index);
+            if (item != null) {
+                String id = StringValueSupport.isBlank(idOf.apply(item)) ? "#" + index : idOf.apply(item);
+                rows.add(new SqliteSelfEvolvingJournalStore.Row(id, write(item)));
+            }
+        }
+        return rows;
+    }
+
+    private <T> List<T> load(String collection, Class<T> type,
+            Supplier<List<SqliteSelfEvolvingJournalStore.Row>> legacyRows) {
+        List<T> items = new ArrayList<>();
+        for (Map.Entry<String, String> payload : journalStore.loadPayloads(collection, legacyRows).entrySet()) {
+            T item = read(collection, payload.getKey(), payload.getValue(), type);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize benchmark journal record", e);
+        }
+    }
+
+    private <T> T read(String collection, String recordId, String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            log.warn("[SelfEvolving] Keeping unreadable {} row {} untouched: {}", collection, recordId,
+                    e.getMessage());
+            journalStore.markUnreadable(collection, recordId);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package me.golemcore.bot.adapter.outbound.selfevolving;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.domain.model.selfevolving.RunRecord;
+import me.golemcore.bot.domain.model.selfevolving.RunVerdict;
+import me.golemcore.bot.domain.support.StringValueSupport;
+import me.golemcore.bot.port.outbound.StoragePort;
+import me.golemcore.bot.port.outbound.selfevolving.RunJournalPort;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQLite-backed run journal. Runs and verdicts are stored one row each in
+ * {@link SqliteSelfEvolvingJournalStore}, so completing a run or recording a
+ * verdict writes a single row. The legacy JSON files are imported on first use.
+ */
+@Component
+@Slf4j
+public class SqliteRunJournalAdapter implements RunJournalPort {
+
+    private static final String RUNS_COLLECTION = "runs";
+    private static final String VERDICTS_COLLECTION = "run-verdicts";
+
+    private final SqliteSelfEvolvingJournalStore journalStore;
+    private final JsonRunJournalAdapter legacyJournal;
+    private final ObjectMapper objectMapper;
+
+    public SqliteRunJournalAdapter(SqliteSelfEvolvingJournalStore journalStore, StoragePort storagePort) {
+        this.journalStore = journalStore;
+        this.legacyJournal = new JsonRunJournalAdapter(storagePort);
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Override
+    public List<RunRecord> loadRuns() {
+        List<RunRecord> runs = new ArrayList<>();
+        Map<String, String> payloads = journalStore.loadPayloads(RUNS_COLLECTION, this::legacyRunRows);
+        for (Map.Entry<String, String> payload : payloads.entrySet()) {
+            RunRecord run = read(RUNS_COLLECTION, payload.getKey(), payload.getValue(), RunRecord.class);
+            if (run != null) {
+                runs.add(run);
+            }
+        }
+        return runs;
+    }
+
+    @Override
+    public void saveRuns(List<RunRecord> runs) {
+        journalStore.replaceAll(RUNS_COLLECTION, runRows(runs), this::legacyRunRows);
+    }
+
+    @Override
+    public void saveRun(RunRecord run, List<RunRecord> runs) {
+        if (run == null || StringValueSupport.isBlank(run.getId())) {
+            saveRuns(runs);
+            return;
+        }
+        journalStore.upsert(RUNS_COLLECTION, runRow(run.getId(), run), this::legacyRunRows);
+    }
+
+    @Override
+    public Map<String, RunVerdict> loadVerdicts() {
+        Map<String, RunVerdict> verdicts = new LinkedHashMap<>();
+        Map<String, String> payloads = journalStore.loadPayloads(VERDICTS_COLLECTION, this::legacyVerdictRows);
+        for (Map.Entry<String, String> payload : payloads.entrySet()) {
+            RunVerdict verdict = read(VERDICTS_COLLECTION, payload.getKey(), payload.getValue(),
+                    RunVerdict.class);
+            if (verdict != null) {
+                verdicts.put(payload.getKey(), verdict);
+            }
+        }
+        return verdicts;
+    }
+
+    @Override
+    public void saveVerdicts(Map<String, RunVerdict> verdicts) {
+        journalStore.replaceAll(VERDICTS_COLLECTION, verdictRows(verdicts), this::legacyVerdictRows);
+    }
+
+    @Override
+    public void saveVerdict(String runId, RunVerdict verdict, Map<String, RunVerdict> verdicts) {
+        if (StringValueSupport.isBlank(runId) || verdict == null) {
+            saveVerdicts(verdicts);
+            return;
+        }
+        journalStore.upsert(VERDICTS_COLLECTION, verdictRow(runId, verdict), this::legacyVerdictRows);
+    }
+
+    @Override
+    public String exportRunsAsJson(List<RunRecord> runs) {
+        return legacyJournal.exportRunsAsJson(runs);
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> legacyRunRows() {
+        return runRows(legacyJournal.loadRuns());
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> legacyVerdictRows() {
+        return verdictRows(legacyJournal.loadVerdicts());
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> runRows(List<RunRecord> runs) {
+        List<SqliteSelfEvolvingJournalStore.Row> rows = new ArrayList<>();
+        if (runs == null) {
+            return rows;
+        }
+        for (int index = 0; index < runs.size(); index++) {
+            RunRecord run = runs.get(index);
+            if (run != null) {
+                String id = StringValueSupport.isBlank(run.getId()) ? "#" + index : run.getId();
+                rows.add(runRow(id, run));
+            }
+        }
+        return rows;
+    }
+
+    private SqliteSelfEvolvingJournalStore.Row runRow(String id, RunRecord run) {
+        return new SqliteSelfEvolvingJournalStore.Row(id, write(run));
+    }
+
+    private List<SqliteSelfEvolvingJournalStore.Row> verdictRows(Map<String, RunVerdict> verdicts) {
+        List<SqliteSelfEvolvingJournalStore.Row> rows = new ArrayList<>();
+        if (verdicts == null) {
+            return rows;
+        }
+        for (Map.Entry<String, RunVerdict> entry : verdicts.entrySet()) {
+            if (!StringValueSupport.isBlank(entry.getKey()) && entry.getValue() != null) {
+                rows.add(verdictRow(entry.getKey(), entry.getValue()));
+            }
+        }
+        return rows;
+    }
+
+    private SqliteSelfEvolvingJournalStore.Row verdictRow(String runId, RunVerdict verdict) {
+        return new SqliteSelfEvolvingJournalStore.Row(runId, write(verdict));
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize self-evolving run journal record", e);
+        }
+    }
+
+    private <T> T read(String collection, String recordId, String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            log.warn("[SelfEvolving] Keeping unreadable {} row {} untouched: {}", collection, recordId,
+                    e.getMessage());
+            journalStore.markUnreadable(collection, recordId);
+            return null;
+        }
+    }
+}
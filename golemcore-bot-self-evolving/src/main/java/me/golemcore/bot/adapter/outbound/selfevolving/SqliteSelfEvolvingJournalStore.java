@@ -0,0 +1,368 @@
+package me.golemcore.bot.adapter.outbound.selfevolving;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.port.outbound.StorageSettingsPort;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Shared SQLite table behind the self-evolving run, artifact and benchmark
+ * journals.
+ *
+ * <p>
+ * Every journal collection is stored as one row per record, keyed by collection
+ * and record id. The journals only ever load whole collections, so the store
+ * keeps the last known position and payload of every row in memory: loads are
+ * served from it, and whole-list saves are diffed against it so only inserted,
+ * changed or removed records are written. Rows an adapter could not read are
+ * kept as they are until the same record id is written again. Collections are
+ * imported once from the legacy JSON files, which are left in place.
+ */
+@Component
+@Slf4j
+public class SqliteSelfEvolvingJournalStore {
+
+    private static final String DB_FILE_NAME = "journal.sqlite";
+    private static final String SELF_EVOLVING_DIR = "self-evolving";
+
+    private final StorageSettingsPort storageSettingsPort;
+    private final Map<String, Map<String, RowState>> rowStates = new HashMap<>();
+    private final Map<String, Set<String>> unreadableRows = new HashMap<>();
+
+    private Path databasePath;
+
+    public SqliteSelfEvolvingJournalStore(StorageSettingsPort storageSettingsPort) {
+        this.storageSettingsPort = storageSettingsPort;
+    }
+
+    /**
+     * Record payloads of a collection by record id, in stored order. The legacy
+     * rows are imported first when the collection has never been imported.
+     */
+    public synchronized Map<String, String> loadPayloads(String collection, Supplier<List<Row>> legacyRows) {
+        ensureImported(collection, legacyRows);
+        Map<String, String> payloads = new LinkedHashMap<>();
+        knownRows(collection).entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().position()))
+                .forEach(entry -> payloads.put(entry.getKey(), entry.getValue().payloadJson()));
+        return payloads;
+    }
+
+    /**
+     * Make the collection equal to {@code rows}, writing only rows whose content or
+     * position changed and deleting rows that are gone. Rows marked unreadable are
+     * never deleted here, since the caller could not have included them.
+     */
+    public synchronized void replaceAll(String collection, List<Row> rows, Supplier<List<Row>> legacyRows) {
+        ensureImported(collection, legacyRows);
+        Map<String, RowState> known = knownRows(collection);
+        Map<String, RowState> next = new LinkedHashMap<>();
+        List<Row> changed = new ArrayList<>();
+        long position = 0;
+        for (Row row : rows) {
+            if (next.containsKey(row.id())) {
+                continue;
+            }
+            RowState state = new RowState(position++, row.payloadJson());
+            next.put(row.id(), state);
+            if (!state.equals(known.get(row.id()))) {
+                changed.add(row);
+            }
+        }
+        Set<String> unreadable = unreadableRows.get(collection);
+        if (unreadable != null) {
+            unreadable.removeIf(next::containsKey);
+            for (String id : unreadable) {
+                if (known.containsKey(id)) {
+                    next.put(id, known.get(id));
+                }
+            }
+        }
+        List<String> removed = known.keySet().stream().filter(id -> !next.containsKey(id)).toList();
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        try (Connection connection = openConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                upsertRows(connection, collection, changed, next);
+                deleteRows(connection, collection, removed);
+                connection.commit();
+            } catch (SQLException | RuntimeException exception) {
+                connection.rollback();
+                rowStates.remove(collection);
+                throw new IllegalStateException("Failed to persist self-evolving " + collection, exception);
+            }
+        } catch (SQLException exception) {
+            rowStates.remove(collection);
+            throw new IllegalStateException("Failed to open self-evolving journal", exception);
+        }
+        rowStates.put(collection, next);
+        log.debug("[SelfEvolving] Saved {}: {} changed, {} removed", collection, changed.size(), removed.size());
+    }
+
+    /**
+     * Insert or update a single record, appending new records at the end of the
+     * collection.
+     */
+    public synchronized void upsert(String collection, Row row, Supplier<List<Row>> legacyRows) {
+        ensureImported(collection, legacyRows);
+        Map<String, RowState> known = knownRows(collection);
+        RowState existing = known.get(row.id());
+        long position = existing != null ? existing.position() : nextPosition(known);
+        RowState state = new RowState(position, row.payloadJson());
+        if (state.equals(existing)) {
+            return;
+        }
+        try (Connection connection = openConnection()) {
+            upsertRows(connection, collection, List.of(row), Map.of(row.id(), state));
+        } catch (SQLException exception) {
+            throw new IllegalStateException("Failed to persist self-evolving " + collection, exception);
+        }
+        known.put(row.id(), state);
+        Set<String> unreadable = unreadableRows.get(collection);
+        if (unreadable != null) {
+            unreadable.remove(row.id());
+        }
+    }
+
+    /**
+     * Keep a row the caller could not deserialize out of later whole-list saves,
+     * so a record written by a newer or broken build is not silently deleted.
+     */
+    public synchronized void markUnreadable(String collection, String recordId) {
+        unreadableRows.computeIfAbsent(collection, ignored -> new HashSet<>()).add(recordId);
+    }
+
+    public synchronized Path getDatabasePath() {
+        ensureInitialized();
+        return databasePath;
+    }
+
+    private void ensureImported(String collection, Supplier<List<Row>> legacyRows) {
+        ensureInitialized();
+        if (rowStates.containsKey(collection)) {
+            return;
+        }
+        try (Connection connection = openConnection()) {
+            if (!isImported(connection, collection)) {
+                importLegacyRows(connection, collection, legacyRows.get());
+            }
+        } catch (SQLException exception) {
+            throw new IllegalStateException("Failed to import self-evolving " + collection, exception);
+        }
+        rowStates.put(collection, readRowStates(collection));
+    }
+
+    private void importLegacyRows(Connection connection, String collection, List<Row> rows) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            Map<String, Row> latestById = new LinkedHashMap<>();
+            for (Row row : rows) {
+                latestById.put(row.id(), row);
+            }
+            Map<String, RowState> states = new LinkedHashMap<>();
+            long position = 0;
+            for (Row row : latestById.values()) {
+                states.put(row.id(), new RowState(position++, row.payloadJson()));
+            }
+            upsertRows(connection, collection, List.copyOf(latestById.values()), states);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT OR REPLACE INTO journal_meta (meta_key, meta_value) VALUES (?, ?)")) {
+                statement.setString(1, "imported:" + collection);
+                statement.setString(2, Instant.now().toString());
+                statement.executeUpdate();
+            }
+            connection.commit();
+            if (!rows.isEmpty()) {
+                log.info("[SelfEvolving] Imported {} {} records from JSON journal", states.size(), collection);
+            }
+        } catch (SQLException | RuntimeException exception) {
+            connection.rollback();
+            throw exception;
+        }
+    }
+
+    private boolean isImported(Connection connection, String collection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT 1 FROM journal_meta WHERE meta_key = ?")) {
+            statement.setString(1, "imported:" + collection);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private Map<String, RowState> knownRows(String collection) {
+        return rowStates.computeIfAbsent(collection, this::readRowStates);
+    }
+
+    private Map<String, RowState> readRowStates(String collection) {
+        Map<String, RowState> states = new LinkedHashMap<>();
+        String sql = "SELECT record_id, position, payload_json FROM journal_records WHERE collection = ?"
+                + " ORDER BY position, record_id";
+        try (Connection connection = openConnection();
+                PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, collection);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    states.put(resultSet.getString(1),
+                            new RowState(resultSet.getLong(2), resultSet.getString(3)));
+                }
+            }
+        } catch (SQLException exception) {
+            throw new IllegalStateException("Failed to load self-evolving " + collection, exception);
+        }
+        return states;
+    }
+
+    private void upsertRows(Connection connection, String collection, List<Row> rows, Map<String, RowState> states)
+            throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        String sql = """
+                INSERT INTO journal_records (
+                    collection,
+                    record_id,
+                    position,
+                    payload_json
+                ) VALUES (?, ?, ?, ?)
+                ON CONFLICT (collection, record_id) DO UPDATE SET
+                    position = excluded.position,
+                    payload_json = excluded.payload_json
+                """;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Row row : rows) {
+                statement.setString(1, collection);
+                statement.setString(2, row.id());
+                statement.setLong(3, states.get(row.id()).position());
+                statement.setString(4, row.payloadJson());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void deleteRows(Connection connection, String collection, List<String> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(
+                "DELETE FROM journal_records WHERE collection = ? AND record_id = ?")) {
+            for (String id : ids) {
+                statement.setString(1, collection);
+                statement.setString(2, id);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private long nextPosition(Map<String, RowState> known) {
+        long max = -1;
+        for (RowState state : known.values()) {
+            max = Math.max(max, state.position());
+        }
+        return max + 1;
+    }
+
+    private void ensureInitialized() {
+        if (databasePath != null) {
+            return;
+        }
+        String configuredBasePath = storageSettingsPort.storage().basePath();
+        Path storageRoot = Paths.get(configuredBasePath.replace("${user.home}", System.getProperty("user.home")))
+                .toAbsolutePath()
+                .normalize();
+        Path directory = storageRoot.resolve(SELF_EVOLVING_DIR);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Failed to initialize self-evolving journal directory", exception);
+        }
+        databasePath = directory.resolve(DB_FILE_NAME);
+        initializeSchema();
+    }
+
+    private void initializeSchema() {
+        String records = """
+                CREATE TABLE IF NOT EXISTS journal_records (
+                    collection TEXT NOT NULL,
+                    record_id TEXT NOT NULL,
+                    position INTEGER NOT NULL,
+                    payload_json TEXT NOT NULL,
+                    PRIMARY KEY (collection, record_id)
+                )
+                """;
+        String meta = """
+                CREATE TABLE IF NOT EXISTS journal_meta (
+                    meta_key TEXT PRIMARY KEY,
+                    meta_value TEXT
+                )
+                """;
+        try (Connection connection = openConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute(records);
+            statement.execute(meta);
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_journal_records_position"
+                    + " ON journal_records (collection, position)");
+        } catch (SQLException exception) {
+            throw new IllegalStateException("Failed to initialize self-evolving journal SQLite schema", exception);
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        if (databasePath == null) {
+            throw new IllegalStateException("Self-evolving journal database path is not initialized");
+        }
+        return DriverManager.getConnection("jdbc:sqlite:" + databasePath.toAbsolutePath());
+    }
+
+    /**
+     * One journal record: its id within the collection and its JSON payload.
+     */
+    public record Row(String id, String payloadJson) {
+    }
+
+    private record RowState(long position, String payloadJson) {
+    }
+}
@@ -81,7 +81,7 @@ public class TacticEmbeddingProbeService {
                     dimensions,
                     timeoutMs,
                     List.of(PROBE_INPUT)));
-            int vectorLength = response.vectors().isEmpty() ? 0 : response.vectors().getFirst().size();
+            int vectorLength = response.vectors().isEmpty() ? 0 : response.vectors().getFirst().length;
             return new EmbeddingProbeResult(
                     true,
                     response.model(),
@@ -49,14 +49,17 @@ public class ArtifactBundleService {
     private final ArtifactRepositoryPort artifactRepository;
     private final SelfEvolvingRuntimeConfigPort runtimeConfigPort;
     private final Clock clock;
+    private final ArtifactProjectionChangeTracker projectionChangeTracker;
     private final AtomicReference<List<ArtifactBundleRecord>> bundleCache = new AtomicReference<>();
 
     public ArtifactBundleService(ArtifactRepositoryPort artifactRepository,
             SelfEvolvingRuntimeConfigPort runtimeConfigPort,
-            Clock clock) {
+            Clock clock,
+            ArtifactProjectionChangeTracker projectionChangeTracker) {
         this.artifactRepository = artifactRepository;
         this.runtimeConfigPort = runtimeConfigPort;
         this.clock = clock;
+        this.projectionChangeTracker = projectionChangeTracker;
     }
 
     public ArtifactBundleRecord snapshot(AgentContext context) {
@@ -103,6 +106,7 @@ public class ArtifactBundleService {
         for (int index = 0; index < bundles.size(); index++) {
             ArtifactBundleRecord existing = bundles.get(index);
             if (existing != null && bundle.getId().equals(existing.getId())) {
+                markBoundStreams(existing);
                 bundles.set(index, bundle);
                 updated = true;
                 break;
@@ -112,6 +116,7 @@ public class ArtifactBundleService {
             bundles.add(bundle);
         }
         saveBundles(bundles);
+        markBoundStreams(bundle);
     }
 
     public void bindBaseRevisions(String bundleId, List<EvolutionCandidate> candidates) {
@@ -127,6 +132,9 @@ public class ArtifactBundleService {
         }
         if (updated) {
             saveBundles(bundles);
+            candidates.stream()
+                    .filter(candidate -> candidate != null && bundleId.equals(candidate.getBaseVersion()))
+                    .forEach(candidate -> projectionChangeTracker.markStream(candidate.getArtifactStreamId()));
         }
     }
 
@@ -246,6 +254,12 @@ public class ArtifactBundleService {
         bundleCache.set(new ArrayList<>(bundles));
     }
 
+    private void markBoundStreams(ArtifactBundleRecord bundle) {
+        if (bundle.getArtifactRevisionBindings() != null) {
+            bundle.getArtifactRevisionBindings().keySet().forEach(projectionChangeTracker::markStream);
+        }
+    }
+
     private List<String> resolveSkillVersions(AgentContext context) {
         List<String> skillVersions = new ArrayList<>();
         if (context.getActiveSkill() != null && !StringValueSupport.isBlank(context.getActiveSkill().getName())) {
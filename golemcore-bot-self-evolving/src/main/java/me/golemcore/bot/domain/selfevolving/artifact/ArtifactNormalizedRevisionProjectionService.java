@@ -28,21 +28,55 @@ import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import me.golemcore.bot.domain.support.StringValueSupport;
 
 /**
  * Builds normalized artifact revision projections for diffing.
+ *
+ * <p>
+ * Revisions are immutable per stream and content revision id, so projections
+ * are kept in a bounded LRU cache and diff/evidence views only normalize a
+ * revision once.
  */
 @Service
 public class ArtifactNormalizedRevisionProjectionService {
 
     private static final int NORMALIZATION_SCHEMA_VERSION = 1;
+    private static final int MAX_CACHED_REVISIONS = 512;
+
+    private final Map<String, ArtifactNormalizedRevisionProjection> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ArtifactNormalizedRevisionProjection> eldest) {
+            return size() > MAX_CACHED_REVISIONS;
+        }
+    };
 
     public ArtifactNormalizedRevisionProjection normalize(ArtifactRevisionRecord record) {
         if (record == null) {
             return null;
         }
+        if (StringValueSupport.isBlank(record.getArtifactStreamId())
+                || StringValueSupport.isBlank(record.getContentRevisionId())) {
+            return project(record);
+        }
+        String cacheKey = record.getArtifactStreamId() + "\n" + record.getContentRevisionId();
+        synchronized (cache) {
+            ArtifactNormalizedRevisionProjection cached = cache.get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        ArtifactNormalizedRevisionProjection projection = project(record);
+        synchronized (cache) {
+            cache.put(cacheKey, projection);
+        }
+        return projection;
+    }
+
+    private ArtifactNormalizedRevisionProjection project(ArtifactRevisionRecord record) {
         String normalizedContent = normalizeContent(record.getRawContent());
         return ArtifactNormalizedRevisionProjection.builder()
                 .artifactStreamId(record.getArtifactStreamId())
@@ -0,0 +1,73 @@
+package me.golemcore.bot.domain.selfevolving.artifact;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import me.golemcore.bot.domain.support.StringValueSupport;
+import org.springframework.stereotype.Service;
+
+/**
+ * Collects the artifact streams whose projection sources were saved since the
+ * last projection refresh.
+ *
+ * <p>
+ * Services mark a stream when they save one of its revisions, candidates,
+ * promotion decisions or bundle bindings, and mark a bundle when a benchmark
+ * campaign over it is saved. {@link ArtifactWorkspaceProjectionRebuildService}
+ * drains the marks and rewrites only the affected projections.
+ */
+@Service
+public class ArtifactProjectionChangeTracker {
+
+    private final Set<String> streamIds = new LinkedHashSet<>();
+    private final Set<String> bundleIds = new LinkedHashSet<>();
+
+    public synchronized void markStream(String artifactStreamId) {
+        if (!StringValueSupport.isBlank(artifactStreamId)) {
+            streamIds.add(artifactStreamId);
+        }
+    }
+
+    public synchronized void markBundle(String bundleId) {
+        if (!StringValueSupport.isBlank(bundleId)) {
+            bundleIds.add(bundleId);
+        }
+    }
+
+    /**
+     * Returns and clears everything marked so far.
+     */
+    public synchronized Changes drain() {
+        Changes changes = new Changes(new LinkedHashSet<>(streamIds), new LinkedHashSet<>(bundleIds));
+        streamIds.clear();
+        bundleIds.clear();
+        return changes;
+    }
+
+    /**
+     * Marked stream ids, and ids of bundles whose campaigns changed.
+     */
+    public record Changes(Set<String> streamIds, Set<String> bundleIds) {
+
+        public boolean isEmpty() {
+            return streamIds.isEmpty() && bundleIds.isEmpty();
+        }
+    }
+}
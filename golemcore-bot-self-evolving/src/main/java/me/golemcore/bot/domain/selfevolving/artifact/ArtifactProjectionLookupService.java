@@ -152,6 +152,37 @@ public class ArtifactProjectionLookupService {
         return campaignCount;
     }
 
+    /**
+     * Resolves the streams whose projections reference any of the given bundles:
+     * streams bound by the bundle, and streams whose candidates or promotion
+     * decisions start from it. Campaign counts and campaign ids in lineage are
+     * derived through these references.
+     */
+    public Set<String> streamIdsReferencingBundles(Set<String> bundleIds) {
+        Set<String> streamIds = new LinkedHashSet<>();
+        if (bundleIds == null || bundleIds.isEmpty()) {
+            return streamIds;
+        }
+        for (ArtifactBundleRecord bundle : artifactBundleService.getBundles()) {
+            if (bundle != null && bundle.getArtifactRevisionBindings() != null
+                    && bundleIds.contains(bundle.getId())) {
+                streamIds.addAll(bundle.getArtifactRevisionBindings().keySet());
+            }
+        }
+        for (EvolutionCandidate candidate : promotionWorkflowService.getCandidates()) {
+            if (candidate != null && bundleIds.contains(candidate.getBaseVersion())) {
+                streamIds.add(candidate.getArtifactStreamId());
+            }
+        }
+        for (PromotionDecision decision : promotionWorkflowService.getPromotionDecisions()) {
+            if (decision != null && bundleIds.contains(decision.getOriginBundleId())) {
+                streamIds.add(decision.getArtifactStreamId());
+            }
+        }
+        streamIds.removeIf(StringValueSupport::isBlank);
+        return streamIds;
+    }
+
     public Optional<ArtifactRevisionRecord> findRevision(String artifactStreamId, String revisionId) {
         return evolutionCandidateService.getArtifactRevisionRecords().stream()
                 .filter(revision -> revision != null && artifactStreamId.equals(revision.getArtifactStreamId()))
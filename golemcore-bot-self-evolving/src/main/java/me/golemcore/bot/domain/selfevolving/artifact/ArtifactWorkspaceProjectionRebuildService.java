@@ -18,41 +18,149 @@ package me.golemcore.bot.domain.selfevolving.artifact;
  * Contact: alex@kuleshov.tech
  */
 
+import lombok.extern.slf4j.Slf4j;
 import me.golemcore.bot.domain.model.selfevolving.artifact.ArtifactCatalogEntry;
 import me.golemcore.bot.domain.model.selfevolving.artifact.ArtifactLineageProjection;
 import me.golemcore.bot.port.outbound.selfevolving.ArtifactRepositoryPort;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import org.springframework.stereotype.Service;
 
 /**
  * Rebuilds materialized artifact workspace projections.
+ *
+ * <p>
+ * {@link #rebuildChanged()} keeps the projections current incrementally: it
+ * drains the streams marked in {@link ArtifactProjectionChangeTracker} when
+ * their revisions, promotion state, bundle bindings or campaigns were saved,
+ * and only recomputes and rewrites those catalog entries and lineage
+ * projections. Lineage files of streams that no longer exist are deleted.
  */
 @Service
+@Slf4j
 public class ArtifactWorkspaceProjectionRebuildService {
 
     private static final String ARTIFACT_WORKSPACE_DIR = "artifact-workspace";
+    private static final String CATALOG_PATH = ARTIFACT_WORKSPACE_DIR + "/catalog.json";
+    private static final String LINEAGE_DIR = ARTIFACT_WORKSPACE_DIR + "/lineage";
+    private static final String LINEAGE_SUFFIX = ".json";
 
     private final ArtifactWorkspaceProjectionService artifactWorkspaceProjectionService;
+    private final ArtifactProjectionLookupService artifactProjectionLookupService;
     private final ArtifactRepositoryPort artifactRepository;
+    private final ArtifactProjectionChangeTracker projectionChangeTracker;
+    private final Map<String, ArtifactCatalogEntry> catalogEntries = new TreeMap<>();
+    private boolean built;
 
     public ArtifactWorkspaceProjectionRebuildService(
             ArtifactWorkspaceProjectionService artifactWorkspaceProjectionService,
+            ArtifactProjectionLookupService artifactProjectionLookupService,
             ArtifactRepositoryPort artifactRepository,
+            ArtifactProjectionChangeTracker projectionChangeTracker,
             Clock clock) {
         this.artifactWorkspaceProjectionService = artifactWorkspaceProjectionService;
+        this.artifactProjectionLookupService = artifactProjectionLookupService;
         this.artifactRepository = artifactRepository;
+        this.projectionChangeTracker = projectionChangeTracker;
+    }
+
+    public synchronized void rebuildAll() {
+        projectionChangeTracker.drain();
+        List<ArtifactCatalogEntry> entries = artifactWorkspaceProjectionService.listCatalog();
+        artifactRepository.writeWorkspaceProjection(CATALOG_PATH, entries);
+        catalogEntries.clear();
+        for (ArtifactCatalogEntry catalogEntry : entries) {
+            catalogEntries.put(catalogEntry.getArtifactStreamId(), catalogEntry);
+            writeLineage(catalogEntry.getArtifactStreamId());
+        }
+        deleteStaleLineage();
+        built = true;
+    }
+
+    /**
+     * Rebuilds projections of streams whose sources changed since the last rebuild,
+     * falling back to {@link #rebuildAll()} on first use.
+     *
+     * @return ids of the streams whose projections were rewritten
+     */
+    public synchronized List<String> rebuildChanged() {
+        if (!built) {
+            rebuildAll();
+            return new ArrayList<>(catalogEntries.keySet());
+        }
+        ArtifactProjectionChangeTracker.Changes changes = projectionChangeTracker.drain();
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        Set<String> changedStreamIdSet = new TreeSet<>(changes.streamIds());
+        if (!changes.bundleIds().isEmpty()) {
+            changedStreamIdSet
+                    .addAll(artifactProjectionLookupService.streamIdsReferencingBundles(changes.bundleIds()));
+        }
+        if (changedStreamIdSet.isEmpty()) {
+            return List.of();
+        }
+        List<String> changedStreamIds = new ArrayList<>(changedStreamIdSet);
+        try {
+            rewrite(changedStreamIds);
+        } catch (RuntimeException exception) {
+            // Keep the drained streams dirty so the next refresh retries them.
+            changedStreamIds.forEach(projectionChangeTracker::markStream);
+            throw exception;
+        }
+        log.debug("[SelfEvolving] Rebuilt artifact workspace projections for {} of {} streams",
+                changedStreamIds.size(), catalogEntries.size());
+        return changedStreamIds;
     }
 
-    public void rebuildAll() {
-        List<ArtifactCatalogEntry> catalogEntries = artifactWorkspaceProjectionService.listCatalog();
-        artifactRepository.writeWorkspaceProjection(ARTIFACT_WORKSPACE_DIR + "/catalog.json", catalogEntries);
-        for (ArtifactCatalogEntry catalogEntry : catalogEntries) {
-            ArtifactLineageProjection lineageProjection = artifactWorkspaceProjectionService
-                    .getLineage(catalogEntry.getArtifactStreamId());
-            artifactRepository.writeWorkspaceProjection(
-                    ARTIFACT_WORKSPACE_DIR + "/lineage/" + catalogEntry.getArtifactStreamId() + ".json",
-                    lineageProjection);
+    private void rewrite(List<String> changedStreamIds) {
+        List<String> droppedStreamIds = new ArrayList<>();
+        for (String streamId : changedStreamIds) {
+            Optional<ArtifactCatalogEntry> catalogEntry = artifactWorkspaceProjectionService.getCatalogEntry(streamId);
+            if (catalogEntry.isPresent()) {
+                catalogEntries.put(streamId, catalogEntry.get());
+            } else if (catalogEntries.remove(streamId) != null) {
+                droppedStreamIds.add(streamId);
+            }
         }
+        artifactRepository.writeWorkspaceProjection(CATALOG_PATH, new ArrayList<>(catalogEntries.values()));
+        for (String streamId : changedStreamIds) {
+            if (catalogEntries.containsKey(streamId)) {
+                writeLineage(streamId);
+            }
+        }
+        droppedStreamIds.forEach(this::deleteLineage);
+    }
+
+    private void writeLineage(String artifactStreamId) {
+        ArtifactLineageProjection lineageProjection = artifactWorkspaceProjectionService.getLineage(artifactStreamId);
+        artifactRepository.writeWorkspaceProjection(lineagePath(artifactStreamId), lineageProjection);
+    }
+
+    private void deleteLineage(String artifactStreamId) {
+        artifactRepository.deleteWorkspaceProjection(lineagePath(artifactStreamId));
+    }
+
+    private void deleteStaleLineage() {
+        for (String path : artifactRepository.listWorkspaceProjections(LINEAGE_DIR)) {
+            String fileName = path.substring(Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\')) + 1);
+            if (!fileName.endsWith(LINEAGE_SUFFIX)) {
+                continue;
+            }
+            String artifactStreamId = fileName.substring(0, fileName.length() - LINEAGE_SUFFIX.length());
+            if (!catalogEntries.containsKey(artifactStreamId)) {
+                artifactRepository.deleteWorkspaceProjection(path);
+            }
+        }
+    }
+
+    private static String lineagePath(String artifactStreamId) {
+        return LINEAGE_DIR + "/" + artifactStreamId + LINEAGE_SUFFIX;
     }
 }
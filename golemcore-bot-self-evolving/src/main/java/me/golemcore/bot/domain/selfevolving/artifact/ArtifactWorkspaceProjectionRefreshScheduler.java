@@ -0,0 +1,92 @@
+package me.golemcore.bot.domain.selfevolving.artifact;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import me.golemcore.bot.port.outbound.SelfEvolvingRuntimeConfigPort;
+
+/**
+ * Periodically refreshes the materialized artifact workspace projections. Each
+ * tick only rewrites the projections of streams whose sources changed.
+ */
+@Slf4j
+public class ArtifactWorkspaceProjectionRefreshScheduler {
+
+    private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    private final ArtifactWorkspaceProjectionRebuildService rebuildService;
+    private final SelfEvolvingRuntimeConfigPort runtimeConfigPort;
+    private final AtomicBoolean ticking = new AtomicBoolean(false);
+
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> tickTask;
+
+    public ArtifactWorkspaceProjectionRefreshScheduler(
+            ArtifactWorkspaceProjectionRebuildService rebuildService,
+            SelfEvolvingRuntimeConfigPort runtimeConfigPort) {
+        this.rebuildService = rebuildService;
+        this.runtimeConfigPort = runtimeConfigPort;
+    }
+
+    @PostConstruct
+    public void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "artifact-projection-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalSeconds = REFRESH_INTERVAL.toSeconds();
+        tickTask = scheduler.scheduleWithFixedDelay(this::tick, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (tickTask != null) {
+            tickTask.cancel(false);
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    void tick() {
+        if (!runtimeConfigPort.isSelfEvolvingEnabled() || !ticking.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<String> rebuilt = rebuildService.rebuildChanged();
+            if (!rebuilt.isEmpty()) {
+                log.debug("[SelfEvolving] Refreshed artifact workspace projections for {} streams", rebuilt.size());
+            }
+        } catch (RuntimeException exception) { // NOSONAR - scheduler loop must stay alive
+            log.warn("[SelfEvolving] Artifact projection refresh failed: {}", exception.getMessage());
+        } finally {
+            ticking.set(false);
+        }
+    }
+}
@@ -36,6 +36,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import me.golemcore.bot.domain.selfevolving.benchmark.BenchmarkLabService;
 import me.golemcore.bot.domain.selfevolving.promotion.PromotionWorkflowService;
 
@@ -76,40 +77,54 @@ public class ArtifactWorkspaceProjectionService {
                 .revisionsByStream();
         List<ArtifactCatalogEntry> entries = new ArrayList<>();
         for (java.util.Map.Entry<String, List<ArtifactRevisionRecord>> entry : revisionsByStream.entrySet()) {
-            List<ArtifactRevisionRecord> revisions = artifactProjectionLookupService.sortRevisions(entry.getValue());
-            ArtifactRevisionRecord latestRevision = revisions.getLast();
-            EvolutionCandidate latestCandidate = artifactProjectionLookupService.findLatestCandidate(entry.getKey())
-                    .orElse(null);
-            String activeRevisionId = artifactProjectionLookupService.resolveActiveRevisionId(entry.getKey())
-                    .orElse(revisions.getFirst().getContentRevisionId());
-            entries.add(ArtifactCatalogEntry.builder()
-                    .artifactStreamId(entry.getKey())
-                    .originArtifactStreamId(latestRevision.getOriginArtifactStreamId())
-                    .artifactKey(latestRevision.getArtifactKey())
-                    .artifactAliases(latestCandidate != null && latestCandidate.getArtifactAliases() != null
-                            ? latestCandidate.getArtifactAliases()
-                            : List.of(latestRevision.getArtifactKey()))
-                    .artifactType(latestRevision.getArtifactType())
-                    .artifactSubtype(latestRevision.getArtifactSubtype())
-                    .displayName(latestRevision.getArtifactKey())
-                    .latestRevisionId(latestRevision.getContentRevisionId())
-                    .activeRevisionId(activeRevisionId)
-                    .latestCandidateRevisionId(latestCandidate != null ? latestCandidate.getContentRevisionId() : null)
-                    .currentLifecycleState(latestCandidate != null ? latestCandidate.getLifecycleState() : "active")
-                    .currentRolloutStage(latestCandidate != null ? latestCandidate.getRolloutStage() : "active")
-                    .hasRegression(Boolean.FALSE)
-                    .hasPendingApproval(
-                            latestCandidate != null && "approved_pending".equals(latestCandidate.getStatus()))
-                    .campaignCount(artifactProjectionLookupService.resolveCampaignCount(entry.getKey()))
-                    .projectionSchemaVersion(PROJECTION_SCHEMA_VERSION)
-                    .updatedAt(latestRevision.getCreatedAt())
-                    .projectedAt(Instant.now(clock))
-                    .build());
+            entries.add(buildCatalogEntry(entry.getKey(), entry.getValue()));
         }
         entries.sort(Comparator.comparing(ArtifactCatalogEntry::getArtifactStreamId));
         return entries;
     }
 
+    public Optional<ArtifactCatalogEntry> getCatalogEntry(String artifactStreamId) {
+        List<ArtifactRevisionRecord> revisions = artifactProjectionLookupService.revisionsByStream()
+                .get(artifactStreamId);
+        if (revisions == null || revisions.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(buildCatalogEntry(artifactStreamId, revisions));
+    }
+
+    private ArtifactCatalogEntry buildCatalogEntry(String artifactStreamId,
+            List<ArtifactRevisionRecord> streamRevisions) {
+        List<ArtifactRevisionRecord> revisions = artifactProjectionLookupService.sortRevisions(streamRevisions);
+        ArtifactRevisionRecord latestRevision = revisions.getLast();
+        EvolutionCandidate latestCandidate = artifactProjectionLookupService.findLatestCandidate(artifactStreamId)
+                .orElse(null);
+        String activeRevisionId = artifactProjectionLookupService.resolveActiveRevisionId(artifactStreamId)
+                .orElse(revisions.getFirst().getContentRevisionId());
+        return ArtifactCatalogEntry.builder()
+                .artifactStreamId(artifactStreamId)
+                .originArtifactStreamId(latestRevision.getOriginArtifactStreamId())
+                .artifactKey(latestRevision.getArtifactKey())
+                .artifactAliases(latestCandidate != null && latestCandidate.getArtifactAliases() != null
+                        ? latestCandidate.getArtifactAliases()
+                        : List.of(latestRevision.getArtifactKey()))
+                .artifactType(latestRevision.getArtifactType())
+                .artifactSubtype(latestRevision.getArtifactSubtype())
+                .displayName(latestRevision.getArtifactKey())
+                .latestRevisionId(latestRevision.getContentRevisionId())
+                .activeRevisionId(activeRevisionId)
+                .latestCandidateRevisionId(latestCandidate != null ? latestCandidate.getContentRevisionId() : null)
+                .currentLifecycleState(latestCandidate != null ? latestCandidate.getLifecycleState() : "active")
+                .currentRolloutStage(latestCandidate != null ? latestCandidate.getRolloutStage() : "active")
+                .hasRegression(Boolean.FALSE)
+                .hasPendingApproval(
+                        latestCandidate != null && "approved_pending".equals(latestCandidate.getStatus()))
+                .campaignCount(artifactProjectionLookupService.resolveCampaignCount(artifactStreamId))
+                .projectionSchemaVersion(PROJECTION_SCHEMA_VERSION)
+                .updatedAt(latestRevision.getCreatedAt())
+                .projectedAt(Instant.now(clock))
+                .build();
+    }
+
     public ArtifactLineageProjection getLineage(String artifactStreamId) {
         EvolutionCandidate candidate = artifactProjectionLookupService.findLatestCandidate(artifactStreamId)
                 .orElseThrow(() -> new IllegalArgumentException("Artifact stream not found: " + artifactStreamId));
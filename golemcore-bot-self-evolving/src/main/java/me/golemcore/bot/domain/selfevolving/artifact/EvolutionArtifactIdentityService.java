@@ -74,11 +74,14 @@ public class EvolutionArtifactIdentityService {
 
     private final ArtifactRepositoryPort artifactRepository;
     private final Clock clock;
+    private final ArtifactProjectionChangeTracker projectionChangeTracker;
     private final AtomicReference<List<ArtifactRevisionRecord>> artifactRevisionCache = new AtomicReference<>();
 
-    public EvolutionArtifactIdentityService(ArtifactRepositoryPort artifactRepository, Clock clock) {
+    public EvolutionArtifactIdentityService(ArtifactRepositoryPort artifactRepository, Clock clock,
+            ArtifactProjectionChangeTracker projectionChangeTracker) {
         this.artifactRepository = artifactRepository;
         this.clock = clock;
+        this.projectionChangeTracker = projectionChangeTracker;
     }
 
     public EvolutionCandidate ensureArtifactIdentity(EvolutionCandidate candidate) {
@@ -178,6 +181,7 @@ public class EvolutionArtifactIdentityService {
                 .build();
         records.add(record);
         saveArtifactRevisions(records);
+        projectionChangeTracker.markStream(record.getArtifactStreamId());
         return true;
     }
 
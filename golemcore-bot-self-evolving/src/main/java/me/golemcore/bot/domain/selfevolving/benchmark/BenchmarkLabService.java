@@ -37,6 +37,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
+import me.golemcore.bot.domain.selfevolving.artifact.ArtifactProjectionChangeTracker;
 import me.golemcore.bot.domain.selfevolving.promotion.PromotionWorkflowService;
 import me.golemcore.bot.domain.selfevolving.run.SelfEvolvingRunService;
 import me.golemcore.bot.domain.selfevolving.tactic.TacticQualityMetricsService;
@@ -53,6 +54,7 @@ public class BenchmarkLabService {
     private final PromotionWorkflowService promotionWorkflowService;
     private final ObjectProvider<TacticQualityMetricsService> qualityMetricsServiceProvider;
     private final Clock clock;
+    private final ArtifactProjectionChangeTracker projectionChangeTracker;
     private final AtomicReference<List<BenchmarkCase>> caseCache = new AtomicReference<>();
     private final AtomicReference<List<BenchmarkSuite>> suiteCache = new AtomicReference<>();
     private final AtomicReference<List<BenchmarkCampaign>> campaignCache = new AtomicReference<>();
@@ -62,12 +64,14 @@ public class BenchmarkLabService {
             SelfEvolvingRunService selfEvolvingRunService,
             PromotionWorkflowService promotionWorkflowService,
             ObjectProvider<TacticQualityMetricsService> qualityMetricsServiceProvider,
-            Clock clock) {
+            Clock clock,
+            ArtifactProjectionChangeTracker projectionChangeTracker) {
         this.benchmarkJournal = benchmarkJournal;
         this.selfEvolvingRunService = selfEvolvingRunService;
         this.promotionWorkflowService = promotionWorkflowService;
         this.qualityMetricsServiceProvider = qualityMetricsServiceProvider;
         this.clock = clock;
+        this.projectionChangeTracker = projectionChangeTracker;
     }
 
     public BenchmarkCampaign createRegressionCampaign(String runId) {
@@ -277,6 +281,8 @@ public class BenchmarkLabService {
         List<BenchmarkCampaign> campaigns = new ArrayList<>(getCampaigns());
         campaigns.add(benchmarkCampaign);
         saveCampaigns(campaigns);
+        projectionChangeTracker.markBundle(benchmarkCampaign.getBaselineBundleId());
+        projectionChangeTracker.markBundle(benchmarkCampaign.getCandidateBundleId());
     }
 
     private void saveCampaignVerdicts(List<BenchmarkCampaignVerdict> verdicts) {
@@ -25,6 +25,7 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import me.golemcore.bot.domain.selfevolving.artifact.ArtifactProjectionChangeTracker;
 import me.golemcore.bot.domain.selfevolving.candidate.EvolutionCandidateService;
 import me.golemcore.bot.domain.support.StringValueSupport;
 
@@ -37,14 +38,17 @@ public class PromotionWorkflowStateService {
     private final PromotionWorkflowStore promotionWorkflowStore;
     private final EvolutionCandidateService evolutionCandidateService;
     private final PromotionDecisionHydrationService promotionDecisionHydrationService;
+    private final ArtifactProjectionChangeTracker projectionChangeTracker;
 
     public PromotionWorkflowStateService(
             PromotionWorkflowStore promotionWorkflowStore,
             EvolutionCandidateService evolutionCandidateService,
-            PromotionDecisionHydrationService promotionDecisionHydrationService) {
+            PromotionDecisionHydrationService promotionDecisionHydrationService,
+            ArtifactProjectionChangeTracker projectionChangeTracker) {
         this.promotionWorkflowStore = promotionWorkflowStore;
         this.evolutionCandidateService = evolutionCandidateService;
         this.promotionDecisionHydrationService = promotionDecisionHydrationService;
+        this.projectionChangeTracker = projectionChangeTracker;
     }
 
     public List<EvolutionCandidate> registerCandidates(List<EvolutionCandidate> candidates) {
@@ -64,12 +68,14 @@ public class PromotionWorkflowStateService {
             normalizedResults.add(normalizedCandidate);
         }
         promotionWorkflowStore.saveCandidates(storedCandidates);
+        normalizedResults
+                .forEach(candidate -> projectionChangeTracker.markStream(candidate.getArtifactStreamId()));
         return normalizedResults;
     }
 
     public List<EvolutionCandidate> getCandidates() {
         List<EvolutionCandidate> normalizedCandidates = new ArrayList<>(promotionWorkflowStore.getCandidates());
-        boolean mutated = false;
+        List<EvolutionCandidate> mutatedCandidates = new ArrayList<>();
         for (EvolutionCandidate candidate : normalizedCandidates) {
             if (candidate == null) {
                 continue;
@@ -78,13 +84,15 @@ public class PromotionWorkflowStateService {
                     || StringValueSupport.isBlank(candidate.getContentRevisionId())
                     || StringValueSupport.isBlank(candidate.getLifecycleState())
                     || StringValueSupport.isBlank(candidate.getRolloutStage())) {
-                mutated = true;
+                mutatedCandidates.add(candidate);
             }
             evolutionCandidateService.ensureArtifactIdentity(candidate);
             evolutionCandidateService.syncTacticRecord(candidate);
         }
-        if (mutated) {
+        if (!mutatedCandidates.isEmpty()) {
             promotionWorkflowStore.saveCandidates(normalizedCandidates);
+            mutatedCandidates
+                    .forEach(candidate -> projectionChangeTracker.markStream(candidate.getArtifactStreamId()));
         }
         return normalizedCandidates;
     }
@@ -98,18 +106,19 @@ public class PromotionWorkflowStateService {
     public List<PromotionDecision> getPromotionDecisions() {
         List<PromotionDecision> normalizedDecisions = new ArrayList<>(promotionWorkflowStore.getPromotionDecisions());
         List<EvolutionCandidate> candidates = getCandidates();
-        boolean mutated = false;
+        List<PromotionDecision> mutatedDecisions = new ArrayList<>();
         for (PromotionDecision decision : normalizedDecisions) {
             if (decision == null) {
                 continue;
             }
             EvolutionCandidate candidate = findCandidate(candidates, decision.getCandidateId()).orElse(null);
             if (promotionDecisionHydrationService.hydrate(decision, candidate)) {
-                mutated = true;
+                mutatedDecisions.add(decision);
             }
         }
-        if (mutated) {
+        if (!mutatedDecisions.isEmpty()) {
             promotionWorkflowStore.savePromotionDecisions(normalizedDecisions);
+            mutatedDecisions.forEach(decision -> projectionChangeTracker.markStream(decision.getArtifactStreamId()));
         }
         return normalizedDecisions;
     }
@@ -118,6 +127,7 @@ public class PromotionWorkflowStateService {
         List<EvolutionCandidate> candidates = new ArrayList<>(getCandidates());
         upsertCandidate(candidates, candidate);
         promotionWorkflowStore.saveCandidates(candidates);
+        projectionChangeTracker.markStream(candidate.getArtifactStreamId());
         evolutionCandidateService.syncTacticRecord(candidate);
     }
 
@@ -125,6 +135,7 @@ public class PromotionWorkflowStateService {
         List<PromotionDecision> decisions = new ArrayList<>(getPromotionDecisions());
         decisions.add(decision);
         promotionWorkflowStore.savePromotionDecisions(decisions);
+        projectionChangeTracker.markStream(decision.getArtifactStreamId());
     }
 
     private Optional<EvolutionCandidate> findCandidate(List<EvolutionCandidate> candidates, String candidateId) {
@@ -124,7 +124,7 @@ public class SelfEvolvingRunService {
         verdict.setRunId(runId);
         Map<String, RunVerdict> verdicts = new LinkedHashMap<>(getVerdicts());
         verdicts.put(runId, verdict);
-        runJournal.saveVerdicts(verdicts);
+        runJournal.saveVerdict(runId, verdict, verdicts);
         verdictCache.set(new LinkedHashMap<>(verdicts));
     }
 
@@ -164,7 +164,7 @@ public class SelfEvolvingRunService {
         if (!updated) {
             runs.add(run);
         }
-        runJournal.saveRuns(runs);
+        runJournal.saveRun(run, runs);
         runCache.set(new ArrayList<>(runs));
     }
 
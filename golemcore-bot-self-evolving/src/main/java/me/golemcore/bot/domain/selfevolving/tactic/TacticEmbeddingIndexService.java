@@ -115,7 +115,7 @@ public class TacticEmbeddingIndexService {
             if (response.vectors().isEmpty()) {
                 return List.of();
             }
-            List<Double> queryVector = response.vectors().getFirst();
+            List<Double> queryVector = toVector(response.vectors().getFirst());
             metricsService.recordActiveMode("hybrid", null);
             return current.documents().values().stream()
                     .map(document -> vectorResult(document,
@@ -199,7 +199,7 @@ public class TacticEmbeddingIndexService {
                 TacticIndexDocument document = documents.get(i);
                 document.setEmbeddingStatus(EMBEDDING_STATUS_INDEXED);
                 documentMap.put(document.getTacticId(), document);
-                vectorMap.put(document.getTacticId(), response.vectors().get(i));
+                vectorMap.put(document.getTacticId(), toVector(response.vectors().get(i)));
             }
             indexStore.replaceAll(
                     config.getProvider(),
@@ -393,6 +393,14 @@ public class TacticEmbeddingIndexService {
                 .build();
     }
 
+    private List<Double> toVector(float[] values) {
+        List<Double> vector = new ArrayList<>(values.length);
+        for (float value : values) {
+            vector.add((double) value);
+        }
+        return vector;
+    }
+
     private double cosineSimilarity(List<Double> left, List<Double> right) {
         if (left == null || right == null || left.isEmpty() || right.isEmpty() || left.size() != right.size()) {
             return 0.0d;
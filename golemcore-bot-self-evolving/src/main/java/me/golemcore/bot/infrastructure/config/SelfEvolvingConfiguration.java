@@ -6,6 +6,8 @@ import me.golemcore.bot.adapter.outbound.embedding.OllamaRuntimeProbeAdapter;
 import me.golemcore.bot.application.selfevolving.tactic.TacticEmbeddingProbeService;
 import me.golemcore.bot.domain.model.RuntimeConfig;
 import me.golemcore.bot.domain.selfevolving.SelfEvolvingTacticSearchStatusProjectionService;
+import me.golemcore.bot.domain.selfevolving.artifact.ArtifactWorkspaceProjectionRebuildService;
+import me.golemcore.bot.domain.selfevolving.artifact.ArtifactWorkspaceProjectionRefreshScheduler;
 import me.golemcore.bot.domain.selfevolving.tactic.ManagedLocalOllamaSupervisor;
 import me.golemcore.bot.infrastructure.lifecycle.ManagedLocalOllamaLifecycleBridge;
 import me.golemcore.bot.port.outbound.EmbeddingClientResolverPort;
@@ -95,6 +97,13 @@ public class SelfEvolvingConfiguration {
         return new TacticEmbeddingProbeService(embeddingClientResolverPort, runtimeConfigPort);
     }
 
+    @Bean
+    public static ArtifactWorkspaceProjectionRefreshScheduler artifactWorkspaceProjectionRefreshScheduler(
+            ArtifactWorkspaceProjectionRebuildService rebuildService,
+            SelfEvolvingRuntimeConfigPort runtimeConfigPort) {
+        return new ArtifactWorkspaceProjectionRefreshScheduler(rebuildService, runtimeConfigPort);
+    }
+
     private static String resolveOllamaBaseUrl(String configuredBaseUrl) {
         String baseUrl = trimToNull(configuredBaseUrl);
         return baseUrl != null ? baseUrl : "http://127.0.0.1:11434";
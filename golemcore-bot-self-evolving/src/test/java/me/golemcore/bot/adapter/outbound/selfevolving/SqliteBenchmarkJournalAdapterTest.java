@@ -0,0 +1,69 @@
+package me.golemcore.bot.adapter.outbound.selfevolving;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import me.golemcore.bot.domain.model.selfevolving.BenchmarkCampaign;
+import me.golemcore.bot.port.outbound.StoragePort;
+import me.golemcore.bot.port.outbound.StorageSettingsPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SqliteBenchmarkJournalAdapterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRoundTripCampaigns() {
+        StoragePort storagePort = mock(StoragePort.class);
+        when(storagePort.getText(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        StorageSettingsPort settings = () -> new StorageSettingsPort.StorageSettings(tempDir.toString());
+        SqliteBenchmarkJournalAdapter adapter = new SqliteBenchmarkJournalAdapter(
+                new SqliteSelfEvolvingJournalStore(settings), storagePort);
+
+        adapter.saveCampaigns(List.of(
+                campaign("campaign-1", "completed", "2026-04-01T10:00:00Z"),
+                campaign("campaign-2", "running", "2026-04-01T11:00:00Z"),
+                campaign("campaign-3", "completed", "2026-04-01T12:00:00Z")));
+
+        SqliteBenchmarkJournalAdapter restarted = new SqliteBenchmarkJournalAdapter(
+                new SqliteSelfEvolvingJournalStore(settings), storagePort);
+        assertEquals(List.of("campaign-1", "campaign-2", "campaign-3"),
+                restarted.loadCampaigns().stream().map(BenchmarkCampaign::getId).toList());
+        assertEquals(List.of(), restarted.loadCases());
+    }
+
+    private static BenchmarkCampaign campaign(String id, String status, String startedAt) {
+        return BenchmarkCampaign.builder()
+                .id(id)
+                .status(status)
+                .startedAt(Instant.parse(startedAt))
+                .build();
+    }
+}
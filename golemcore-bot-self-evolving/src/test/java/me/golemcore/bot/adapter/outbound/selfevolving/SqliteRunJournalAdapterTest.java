@@ -0,0 +1,166 @@
+package me.golemcore.bot.adapter.outbound.selfevolving;
+
+/*
+ * Copyright 2026 Aleksei Kuleshov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contact: alex@kuleshov.tech
+ */
+
+import me.golemcore.bot.domain.model.selfevolving.RunRecord;
+import me.golemcore.bot.domain.model.selfevolving.RunVerdict;
+import me.golemcore.bot.port.outbound.StoragePort;
+import me.golemcore.bot.port.outbound.StorageSettingsPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SqliteRunJournalAdapterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private StoragePort storagePort;
+    private SqliteSelfEvolvingJournalStore journalStore;
+
+    @BeforeEach
+    void setUp() {
+        storagePort = mock(StoragePort.class);
+        when(storagePort.getText(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        journalStore = new SqliteSelfEvolvingJournalStore(storageSettingsPort(tempDir));
+    }
+
+    @Test
+    void shouldImportLegacyJsonJournalOnce() {
+        when(storagePort.getText("self-evolving", "runs.json")).thenReturn(CompletableFuture.completedFuture(
+                "[{\"id\":\"run-1\",\"golemId\":\"golem-a\",\"status\":\"COMPLETED\"},"
+                        + "{\"id\":\"run-2\",\"golemId\":\"golem-b\",\"status\":\"FAILED\"}]"));
+        when(storagePort.getText("self-evolving", "run-verdicts.json")).thenReturn(CompletableFuture.completedFuture(
+                "[{\"id\":\"verdict-1\",\"runId\":\"run-1\",\"outcomeStatus\":\"COMPLETED\"}]"));
+        SqliteRunJournalAdapter adapter = new SqliteRunJournalAdapter(journalStore, storagePort);
+
+        List<RunRecord> runs = adapter.loadRuns();
+        Map<String, RunVerdict> verdicts = adapter.loadVerdicts();
+
+        assertEquals(List.of("run-1", "run-2"), runs.stream().map(RunRecord::getId).toList());
+        assertEquals("verdict-1", verdicts.get("run-1").getId());
+
+        SqliteRunJournalAdapter restarted = new SqliteRunJournalAdapter(
+                new SqliteSelfEvolvingJournalStore(storageSettingsPort(tempDir)), storagePort);
+        assertEquals(2, restarted.loadRuns().size());
+        verify(storagePort, times(1)).getText("self-evolving", "runs.json");
+    }
+
+    @Test
+    void shouldUpsertSingleRunAndKeepOrder() {
+        SqliteRunJournalAdapter adapter = new SqliteRunJournalAdapter(journalStore, storagePort);
+        RunRecord first = run("run-1", "golem-a", "RUNNING", "2026-04-01T10:00:00Z");
+        RunRecord second = run("run-2", "golem-a", "RUNNING", "2026-04-01T11:00:00Z");
+        adapter.saveRun(first, List.of(first));
+        adapter.saveRun(second, List.of(first, second));
+
+        first.setStatus("COMPLETED");
+        adapter.saveRun(first, List.of(first, second));
+
+        List<RunRecord> runs = adapter.loadRuns();
+        assertEquals(List.of("run-1", "run-2"), runs.stream().map(RunRecord::getId).toList());
+        assertEquals("COMPLETED", runs.getFirst().getStatus());
+        verify(storagePort, never()).putTextAtomic(anyString(), anyString(), anyString(), eq(true));
+    }
+
+    @Test
+    void shouldApplyFullListSaveAsDiff() {
+        SqliteRunJournalAdapter adapter = new SqliteRunJournalAdapter(journalStore, storagePort);
+        List<RunRecord> runs = new ArrayList<>(List.of(
+                run("run-1", "golem-a", "COMPLETED", "2026-04-01T10:00:00Z"),
+                run("run-2", "golem-a", "COMPLETED", "2026-04-01T11:00:00Z"),
+                run("run-3", "golem-b", "FAILED", "2026-04-01T12:00:00Z")));
+        adapter.saveRuns(runs);
+
+        runs.remove(1);
+        adapter.saveRuns(runs);
+
+        assertEquals(List.of("run-1", "run-3"), adapter.loadRuns().stream().map(RunRecord::getId).toList());
+    }
+
+    @Test
+    void shouldKeepUnreadableRowsOnFullListSave() throws Exception {
+        SqliteRunJournalAdapter adapter = new SqliteRunJournalAdapter(journalStore, storagePort);
+        adapter.saveRuns(List.of(
+                run("run-1", "golem-a", "COMPLETED", "2026-04-01T10:00:00Z"),
+                run("run-2", "golem-a", "FAILED", "2026-04-01T11:00:00Z")));
+        try (Connection connection = DriverManager.getConnection(
+                "jdbc:sqlite:" + journalStore.getDatabasePath().toAbsolutePath());
+                Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE journal_records SET payload_json = '{broken'"
+                    + " WHERE collection = 'runs' AND record_id = 'run-2'");
+        }
+
+        SqliteSelfEvolvingJournalStore restartedStore = new SqliteSelfEvolvingJournalStore(
+                storageSettingsPort(tempDir));
+        SqliteRunJournalAdapter restarted = new SqliteRunJournalAdapter(restartedStore, storagePort);
+        List<RunRecord> runs = restarted.loadRuns();
+        assertEquals(List.of("run-1"), runs.stream().map(RunRecord::getId).toList());
+        restarted.saveRuns(runs);
+
+        assertTrue(restartedStore.loadPayloads("runs", List::of).containsKey("run-2"));
+    }
+
+    @Test
+    void shouldPersistVerdictsKeyedByRunId() {
+        SqliteRunJournalAdapter adapter = new SqliteRunJournalAdapter(journalStore, storagePort);
+        RunVerdict verdict = RunVerdict.builder().id("verdict-1").runId("run-1").outcomeStatus("COMPLETED").build();
+        Map<String, RunVerdict> verdicts = new LinkedHashMap<>(Map.of("run-1", verdict));
+
+        adapter.saveVerdict("run-1", verdict, verdicts);
+
+        Map<String, RunVerdict> loaded = adapter.loadVerdicts();
+        assertTrue(loaded.containsKey("run-1"));
+        assertEquals("COMPLETED", loaded.get("run-1").getOutcomeStatus());
+    }
+
+    private static RunRecord run(String id, String golemId, String status, String startedAt) {
+        return RunRecord.builder()
+                .id(id)
+                .golemId(golemId)
+                .status(status)
+                .startedAt(Instant.parse(startedAt))
+                .build();
+    }
+
+    private StorageSettingsPort storageSettingsPort(Path basePath) {
+        return () -> new StorageSettingsPort.StorageSettings(basePath.toString());
+    }
+}
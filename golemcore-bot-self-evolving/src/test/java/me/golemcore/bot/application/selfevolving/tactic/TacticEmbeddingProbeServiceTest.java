@@ -49,7 +49,7 @@ class TacticEmbeddingProbeServiceTest {
         when(runtimeConfigService.getSelfEvolvingConfig()).thenReturn(config);
         when(embeddingClientResolverPort.resolve(EmbeddingProviderIds.OPENAI_COMPATIBLE)).thenReturn(embeddingPort);
         when(embeddingPort.embed(org.mockito.ArgumentMatchers.any())).thenReturn(
-                new EmbeddingPort.EmbeddingResponse("text-embedding-3-large", List.of(List.of(0.1d, 0.2d, 0.3d))));
+                new EmbeddingPort.EmbeddingResponse("text-embedding-3-large", List.of(new float[] { 0.1f, 0.2f, 0.3f })));
 
         TacticEmbeddingProbeService.EmbeddingProbeResult result = service.probe(
                 new TacticEmbeddingProbeService.ProbeRequest(
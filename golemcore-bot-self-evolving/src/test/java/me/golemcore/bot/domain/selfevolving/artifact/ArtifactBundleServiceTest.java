@@ -17,6 +17,7 @@ import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -61,7 +62,7 @@ class ArtifactBundleServiceTest {
     void shouldSnapshotSkillAndPolicyBindingsForActiveContext() {
         ArtifactBundleService service = new ArtifactBundleService(new JsonArtifactRepositoryAdapter(storagePort),
                 runtimeConfigService,
-                Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC));
+                Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC), new ArtifactProjectionChangeTracker());
         AgentContext context = AgentContext.builder()
                 .session(AgentSession.builder().id("session-1").chatId("chat-1").metadata(Map.of()).build())
                 .activeSkill(Skill.builder().name("planner").build())
@@ -111,7 +112,7 @@ class ArtifactBundleServiceTest {
 
         ArtifactBundleService service = new ArtifactBundleService(new JsonArtifactRepositoryAdapter(storagePort),
                 runtimeConfigService,
-                Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC));
+                Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC), new ArtifactProjectionChangeTracker());
         AgentContext context = AgentContext.builder()
                 .session(AgentSession.builder().id("session-1")
                         .metadata(Map.of(ContextAttributes.HIVE_GOLEM_ID, "meta-golem")).build())
@@ -139,7 +140,7 @@ class ArtifactBundleServiceTest {
     void shouldFallbackToSnapshotAndLocalSessionGolemWhenBundleIdIsBlank() {
         ArtifactBundleService service = new ArtifactBundleService(new JsonArtifactRepositoryAdapter(storagePort),
                 runtimeConfigService,
-                Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC));
+                Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC), new ArtifactProjectionChangeTracker());
         AgentContext context = AgentContext.builder()
                 .session(AgentSession.builder().id("session-99").metadata(Map.of()).build())
                 .activeSkills(List.of())
@@ -161,7 +162,7 @@ class ArtifactBundleServiceTest {
                 .build();
         ArtifactBundleService service = new ArtifactBundleService(new JsonArtifactRepositoryAdapter(storagePort),
                 runtimeConfigService,
-                Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC));
+                Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC), new ArtifactProjectionChangeTracker());
         service.save(existing);
 
         service.bindBaseRevisions("bundle-1", List.of(
@@ -190,13 +191,33 @@ class ArtifactBundleServiceTest {
         assertFalse(updated.getArtifactRevisionBindings().containsKey("stream-3"));
     }
 
+    @Test
+    void shouldMarkPreviouslyAndNewlyBoundStreamsForProjectionRefresh() {
+        ArtifactProjectionChangeTracker tracker = new ArtifactProjectionChangeTracker();
+        ArtifactBundleService service = new ArtifactBundleService(new JsonArtifactRepositoryAdapter(storagePort),
+                runtimeConfigService,
+                Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC), tracker);
+        service.save(ArtifactBundleRecord.builder()
+                .id("bundle-1")
+                .artifactRevisionBindings(Map.of("stream-1", "rev-1"))
+                .build());
+        tracker.drain();
+
+        service.save(ArtifactBundleRecord.builder()
+                .id("bundle-1")
+                .artifactRevisionBindings(Map.of("stream-2", "rev-2"))
+                .build());
+
+        assertEquals(Set.of("stream-1", "stream-2"), tracker.drain().streamIds());
+    }
+
     @Test
     void shouldIgnoreBrokenStoragePayloads() {
         when(storagePort.getText("self-evolving", "artifact-bundles.json"))
                 .thenReturn(CompletableFuture.completedFuture("not-json"));
         ArtifactBundleService service = new ArtifactBundleService(new JsonArtifactRepositoryAdapter(storagePort),
                 runtimeConfigService,
-                Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC));
+                Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC), new ArtifactProjectionChangeTracker());
 
         List<ArtifactBundleRecord> bundles = service.getBundles();
 
@@ -10,7 +10,9 @@ import java.time.Instant;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ArtifactNormalizedRevisionProjectionServiceTest {
@@ -67,4 +69,24 @@ class ArtifactNormalizedRevisionProjectionServiceTest {
         assertNotNull(projection.getProjectedAt());
         assertNotEquals(Instant.EPOCH, projection.getProjectedAt());
     }
+
+    @Test
+    void shouldReuseCachedProjectionForSameStreamRevision() {
+        ArtifactNormalizedRevisionProjection first = service.normalize(revision("stream-1", "line one"));
+        ArtifactNormalizedRevisionProjection second = service.normalize(revision("stream-1", "line one"));
+        ArtifactNormalizedRevisionProjection other = service.normalize(revision("stream-2", "line two"));
+
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals("line two", other.getNormalizedContent());
+    }
+
+    private static ArtifactRevisionRecord revision(String artifactStreamId, String rawContent) {
+        return ArtifactRevisionRecord.builder()
+                .artifactStreamId(artifactStreamId)
+                .contentRevisionId("rev-1")
+                .rawContent(rawContent)
+                .createdAt(Instant.parse("2026-03-31T20:30:00Z"))
+                .build();
+    }
 }
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -127,4 +128,30 @@ class ArtifactProjectionLookupServiceTest {
         assertEquals("rev-from-decision", decisionBase);
         assertEquals("rev-from-candidate", candidateBase);
     }
+
+    @Test
+    void shouldResolveStreamsReferencingChangedBundles() {
+        when(artifactBundleService.getBundles()).thenReturn(List.of(
+                ArtifactBundleRecord.builder()
+                        .id("bundle-1")
+                        .artifactRevisionBindings(Map.of("stream-bound", "rev-1"))
+                        .build(),
+                ArtifactBundleRecord.builder()
+                        .id("bundle-2")
+                        .artifactRevisionBindings(Map.of("stream-other", "rev-2"))
+                        .build()));
+        when(promotionWorkflowService.getCandidates()).thenReturn(List.of(
+                EvolutionCandidate.builder().id("candidate-1").artifactStreamId("stream-candidate")
+                        .baseVersion("bundle-1").build(),
+                EvolutionCandidate.builder().id("candidate-2").artifactStreamId("stream-unrelated").build()));
+        when(promotionWorkflowService.getPromotionDecisions()).thenReturn(List.of(PromotionDecision.builder()
+                .id("decision-1")
+                .artifactStreamId("stream-decision")
+                .originBundleId("bundle-1")
+                .build()));
+
+        Set<String> streamIds = service.streamIdsReferencingBundles(Set.of("bundle-1"));
+
+        assertEquals(Set.of("stream-bound", "stream-candidate", "stream-decision"), streamIds);
+    }
 }
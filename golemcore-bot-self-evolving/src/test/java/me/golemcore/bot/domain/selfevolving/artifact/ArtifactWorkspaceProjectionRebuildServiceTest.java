@@ -10,12 +10,23 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import org.mockito.ArgumentCaptor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import me.golemcore.bot.adapter.outbound.selfevolving.JsonArtifactRepositoryAdapter;
 
@@ -23,16 +34,25 @@ class ArtifactWorkspaceProjectionRebuildServiceTest {
 
     private StoragePort storagePort;
     private ArtifactWorkspaceProjectionService artifactWorkspaceProjectionService;
+    private ArtifactProjectionLookupService artifactProjectionLookupService;
+    private ArtifactProjectionChangeTracker projectionChangeTracker;
     private ArtifactWorkspaceProjectionRebuildService service;
 
     @BeforeEach
     void setUp() {
         storagePort = mock(StoragePort.class);
         artifactWorkspaceProjectionService = mock(ArtifactWorkspaceProjectionService.class);
+        artifactProjectionLookupService = mock(ArtifactProjectionLookupService.class);
+        projectionChangeTracker = new ArtifactProjectionChangeTracker();
         when(storagePort.putTextAtomic(anyString(), anyString(), anyString(), eq(false)))
                 .thenReturn(CompletableFuture.completedFuture(null));
+        when(storagePort.listObjects(anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+        when(storagePort.deleteObject(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
         service = new ArtifactWorkspaceProjectionRebuildService(artifactWorkspaceProjectionService,
+                artifactProjectionLookupService,
                 new JsonArtifactRepositoryAdapter(storagePort),
+                projectionChangeTracker,
                 Clock.fixed(Instant.parse("2026-03-31T21:00:00Z"), ZoneOffset.UTC));
     }
 
@@ -56,4 +76,116 @@ class ArtifactWorkspaceProjectionRebuildServiceTest {
         verify(storagePort).putTextAtomic(eq("self-evolving"), eq("artifact-workspace/lineage/stream-1.json"),
                 anyString(), eq(false));
     }
+
+    @Test
+    void shouldRebuildOnlyMarkedStreams() {
+        when(artifactWorkspaceProjectionService.listCatalog()).thenReturn(List.of(
+                catalogEntry("stream-1"),
+                catalogEntry("stream-2")));
+        when(artifactWorkspaceProjectionService.getCatalogEntry("stream-2"))
+                .thenReturn(Optional.of(catalogEntry("stream-2")));
+        when(artifactWorkspaceProjectionService.getLineage(anyString())).thenReturn(ArtifactLineageProjection.builder()
+                .projectionSchemaVersion(1)
+                .build());
+
+        assertEquals(List.of("stream-1", "stream-2"), service.rebuildChanged());
+        projectionChangeTracker.markStream("stream-2");
+        List<String> rebuilt = service.rebuildChanged();
+
+        assertEquals(List.of("stream-2"), rebuilt);
+        verify(artifactWorkspaceProjectionService, times(1)).listCatalog();
+        verify(artifactWorkspaceProjectionService, never()).getCatalogEntry("stream-1");
+        verify(artifactWorkspaceProjectionService, times(1)).getLineage("stream-1");
+        verify(artifactWorkspaceProjectionService, times(2)).getLineage("stream-2");
+        verify(storagePort, times(2)).putTextAtomic(eq("self-evolving"), eq("artifact-workspace/catalog.json"),
+                anyString(), eq(false));
+    }
+
+    @Test
+    void shouldSkipWritesWhenNothingChangedAndDropRemovedStreamsFromCatalog() {
+        when(artifactWorkspaceProjectionService.listCatalog()).thenReturn(List.of(
+                catalogEntry("stream-1"),
+                catalogEntry("stream-2")));
+        when(artifactWorkspaceProjectionService.getCatalogEntry("stream-2")).thenReturn(Optional.empty());
+        when(artifactWorkspaceProjectionService.getLineage(anyString())).thenReturn(ArtifactLineageProjection.builder()
+                .projectionSchemaVersion(1)
+                .build());
+        ArgumentCaptor<String> catalogJson = ArgumentCaptor.forClass(String.class);
+
+        service.rebuildAll();
+        assertTrue(service.rebuildChanged().isEmpty());
+        projectionChangeTracker.markStream("stream-2");
+        assertEquals(List.of("stream-2"), service.rebuildChanged());
+        assertTrue(service.rebuildChanged().isEmpty());
+
+        verify(storagePort, times(2)).putTextAtomic(eq("self-evolving"), eq("artifact-workspace/catalog.json"),
+                catalogJson.capture(), eq(false));
+        assertTrue(catalogJson.getAllValues().getFirst().contains("stream-2"));
+        assertFalse(catalogJson.getAllValues().getLast().contains("stream-2"));
+        verify(artifactWorkspaceProjectionService, times(1)).getLineage("stream-1");
+        verify(storagePort).deleteObject("self-evolving", "artifact-workspace/lineage/stream-2.json");
+        verify(storagePort, never()).deleteObject("self-evolving", "artifact-workspace/lineage/stream-1.json");
+        verifyNoInteractions(artifactProjectionLookupService);
+    }
+
+    @Test
+    void shouldRebuildStreamsReferencingBundlesOfChangedCampaigns() {
+        when(artifactWorkspaceProjectionService.listCatalog()).thenReturn(List.of(
+                catalogEntry("stream-1"),
+                catalogEntry("stream-2")));
+        when(artifactWorkspaceProjectionService.getCatalogEntry("stream-1"))
+                .thenReturn(Optional.of(catalogEntry("stream-1")));
+        when(artifactWorkspaceProjectionService.getLineage(anyString())).thenReturn(ArtifactLineageProjection.builder()
+                .projectionSchemaVersion(1)
+                .build());
+        when(artifactProjectionLookupService.streamIdsReferencingBundles(Set.of("bundle-1")))
+                .thenReturn(Set.of("stream-1"));
+
+        service.rebuildAll();
+        projectionChangeTracker.markBundle("bundle-1");
+
+        assertEquals(List.of("stream-1"), service.rebuildChanged());
+        verify(artifactWorkspaceProjectionService, never()).getCatalogEntry("stream-2");
+    }
+
+    @Test
+    void shouldKeepStreamsMarkedWhenRefreshFails() {
+        when(artifactWorkspaceProjectionService.listCatalog()).thenReturn(List.of(catalogEntry("stream-1")));
+        when(artifactWorkspaceProjectionService.getLineage(anyString())).thenReturn(ArtifactLineageProjection.builder()
+                .projectionSchemaVersion(1)
+                .build());
+        doThrow(new IllegalStateException("boom"))
+                .doReturn(Optional.of(catalogEntry("stream-1")))
+                .when(artifactWorkspaceProjectionService).getCatalogEntry("stream-1");
+
+        service.rebuildAll();
+        projectionChangeTracker.markStream("stream-1");
+
+        assertThrows(IllegalStateException.class, service::rebuildChanged);
+        assertEquals(List.of("stream-1"), service.rebuildChanged());
+    }
+
+    @Test
+    void shouldDeleteLineageFilesOfMissingStreamsOnFullRebuild() {
+        when(storagePort.listObjects("self-evolving", "artifact-workspace/lineage"))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        "artifact-workspace/lineage/stream-1.json",
+                        "artifact-workspace/lineage/stream-gone.json")));
+        when(artifactWorkspaceProjectionService.listCatalog()).thenReturn(List.of(catalogEntry("stream-1")));
+        when(artifactWorkspaceProjectionService.getLineage("stream-1")).thenReturn(ArtifactLineageProjection.builder()
+                .projectionSchemaVersion(1)
+                .build());
+
+        service.rebuildAll();
+
+        verify(storagePort).deleteObject("self-evolving", "artifact-workspace/lineage/stream-gone.json");
+        verify(storagePort, never()).deleteObject("self-evolving", "artifact-workspace/lineage/stream-1.json");
+    }
+
+    private static ArtifactCatalogEntry catalogEntry(String artifactStreamId) {
+        return ArtifactCatalogEntry.builder()
+                .artifactStreamId(artifactStreamId)
+                .projectionSchemaVersion(1)
+                .build();
+    }
 }
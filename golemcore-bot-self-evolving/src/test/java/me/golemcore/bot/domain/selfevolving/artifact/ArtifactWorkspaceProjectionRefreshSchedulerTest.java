@@ -0,0 +1,59 @@
+package me.golemcore.bot.domain.selfevolving.artifact;
+
+import me.golemcore.bot.port.outbound.SelfEvolvingRuntimeConfigPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArtifactWorkspaceProjectionRefreshSchedulerTest {
+
+    private ArtifactWorkspaceProjectionRebuildService rebuildService;
+    private SelfEvolvingRuntimeConfigPort runtimeConfigPort;
+    private ArtifactWorkspaceProjectionRefreshScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        rebuildService = mock(ArtifactWorkspaceProjectionRebuildService.class);
+        runtimeConfigPort = mock(SelfEvolvingRuntimeConfigPort.class);
+        scheduler = new ArtifactWorkspaceProjectionRefreshScheduler(rebuildService, runtimeConfigPort);
+    }
+
+    @Test
+    void shouldRebuildChangedProjectionsWhenSelfEvolvingIsEnabled() {
+        when(runtimeConfigPort.isSelfEvolvingEnabled()).thenReturn(true);
+        when(rebuildService.rebuildChanged()).thenReturn(List.of("stream-1"));
+
+        scheduler.tick();
+
+        verify(rebuildService).rebuildChanged();
+    }
+
+    @Test
+    void shouldSkipRefreshWhenSelfEvolvingIsDisabled() {
+        when(runtimeConfigPort.isSelfEvolvingEnabled()).thenReturn(false);
+
+        scheduler.tick();
+
+        verify(rebuildService, never()).rebuildChanged();
+    }
+
+    @Test
+    void shouldKeepTickingAfterRefreshFailure() {
+        when(runtimeConfigPort.isSelfEvolvingEnabled()).thenReturn(true);
+        when(rebuildService.rebuildChanged())
+                .thenThrow(new IllegalStateException("storage down"))
+                .thenReturn(List.of());
+
+        scheduler.tick();
+        scheduler.tick();
+
+        verify(rebuildService, times(2)).rebuildChanged();
+    }
+}
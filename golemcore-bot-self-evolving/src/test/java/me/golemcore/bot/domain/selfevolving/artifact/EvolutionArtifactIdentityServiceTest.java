@@ -37,7 +37,8 @@ class EvolutionArtifactIdentityServiceTest {
         when(storagePort.putTextAtomic(anyString(), anyString(), anyString(), anyBoolean()))
                 .thenReturn(CompletableFuture.completedFuture(null));
         service = new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(storagePort),
-                Clock.fixed(Instant.parse("2026-04-05T18:00:00Z"), ZoneOffset.UTC));
+                Clock.fixed(Instant.parse("2026-04-05T18:00:00Z"), ZoneOffset.UTC),
+                new ArtifactProjectionChangeTracker());
     }
 
     @Test
@@ -30,6 +30,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import me.golemcore.bot.domain.selfevolving.promotion.PromotionWorkflowService;
 import me.golemcore.bot.domain.selfevolving.run.SelfEvolvingRunService;
+import me.golemcore.bot.domain.selfevolving.artifact.ArtifactProjectionChangeTracker;
 
 class BenchmarkLabServiceTest {
 
@@ -51,7 +52,8 @@ class BenchmarkLabServiceTest {
                 selfEvolvingRunService,
                 promotionWorkflowService,
                 null,
-                Clock.fixed(Instant.parse("2026-03-31T16:30:00Z"), ZoneOffset.UTC));
+                Clock.fixed(Instant.parse("2026-03-31T16:30:00Z"), ZoneOffset.UTC),
+                new ArtifactProjectionChangeTracker());
     }
 
     @Test
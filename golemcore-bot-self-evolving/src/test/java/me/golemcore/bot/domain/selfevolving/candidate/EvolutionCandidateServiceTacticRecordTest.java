@@ -54,6 +54,7 @@ import me.golemcore.bot.domain.selfevolving.artifact.ArtifactBundleService;
 import me.golemcore.bot.domain.selfevolving.artifact.EvolutionArtifactIdentityService;
 import me.golemcore.bot.domain.selfevolving.tactic.InMemoryTacticRecordStorePort;
 import me.golemcore.bot.domain.selfevolving.tactic.TacticRecordService;
+import me.golemcore.bot.domain.selfevolving.artifact.ArtifactProjectionChangeTracker;
 import me.golemcore.bot.port.outbound.SelfEvolvingRuntimeConfigPort;
 import me.golemcore.bot.adapter.outbound.selfevolving.JsonArtifactRepositoryAdapter;
 
@@ -108,7 +109,8 @@ class EvolutionCandidateServiceTacticRecordTest {
         evolutionCandidateService = new EvolutionCandidateService(
                 tacticRecordService,
                 artifactBundleService,
-                new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(storagePort), clock),
+                new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(storagePort), clock,
+                        new ArtifactProjectionChangeTracker()),
                 new EvolutionCandidateDerivationService(clock),
                 new EvolutionCandidateTacticMaterializer(clock));
     }
@@ -193,11 +195,13 @@ class EvolutionCandidateServiceTacticRecordTest {
         when(runtimeConfigPort.isSelfEvolvingTracePayloadOverrideEnabled()).thenReturn(false);
         when(runtimeConfigPort.getSelfEvolvingPromotionMode()).thenReturn("approval_gate");
         ArtifactBundleService realBundleService = new ArtifactBundleService(
-                new JsonArtifactRepositoryAdapter(storagePort), runtimeConfigPort, clock);
+                new JsonArtifactRepositoryAdapter(storagePort), runtimeConfigPort, clock,
+                new ArtifactProjectionChangeTracker());
         EvolutionCandidateService service = new EvolutionCandidateService(
                 tacticRecordService,
                 realBundleService,
-                new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(storagePort), clock),
+                new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(storagePort), clock,
+                        new ArtifactProjectionChangeTracker()),
                 new EvolutionCandidateDerivationService(clock),
                 new EvolutionCandidateTacticMaterializer(clock));
 
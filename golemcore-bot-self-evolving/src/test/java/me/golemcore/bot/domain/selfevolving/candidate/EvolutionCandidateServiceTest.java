@@ -33,6 +33,7 @@ import static org.mockito.Mockito.when;
 import me.golemcore.bot.domain.selfevolving.artifact.ArtifactBundleService;
 import me.golemcore.bot.domain.selfevolving.artifact.EvolutionArtifactIdentityService;
 import me.golemcore.bot.domain.selfevolving.tactic.TacticRecordService;
+import me.golemcore.bot.domain.selfevolving.artifact.ArtifactProjectionChangeTracker;
 import me.golemcore.bot.adapter.outbound.selfevolving.JsonArtifactRepositoryAdapter;
 
 class EvolutionCandidateServiceTest {
@@ -70,7 +71,8 @@ class EvolutionCandidateServiceTest {
         evolutionCandidateService = new EvolutionCandidateService(
                 mock(TacticRecordService.class),
                 mock(ArtifactBundleService.class),
-                new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(storagePort), clock),
+                new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(storagePort), clock,
+                        new ArtifactProjectionChangeTracker()),
                 new EvolutionCandidateDerivationService(clock),
                 new EvolutionCandidateTacticMaterializer(clock));
     }
@@ -334,7 +336,7 @@ class EvolutionCandidateServiceTest {
                 mock(TacticRecordService.class),
                 mock(ArtifactBundleService.class),
                 new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(mockReloadingStoragePort()),
-                        clock),
+                        clock, new ArtifactProjectionChangeTracker()),
                 new EvolutionCandidateDerivationService(clock),
                 new EvolutionCandidateTacticMaterializer(clock));
         assertTrue(reloadedService.getArtifactRevisionRecords().isEmpty());
@@ -27,6 +27,7 @@ import me.golemcore.bot.domain.selfevolving.candidate.EvolutionCandidateDerivati
 import me.golemcore.bot.domain.selfevolving.candidate.EvolutionCandidateService;
 import me.golemcore.bot.domain.selfevolving.candidate.EvolutionCandidateTacticMaterializer;
 import me.golemcore.bot.domain.selfevolving.tactic.TacticRecordService;
+import me.golemcore.bot.domain.selfevolving.artifact.ArtifactProjectionChangeTracker;
 import me.golemcore.bot.port.outbound.SelfEvolvingRuntimeConfigPort;
 import me.golemcore.bot.adapter.outbound.selfevolving.JsonArtifactRepositoryAdapter;
 
@@ -70,13 +71,14 @@ class PromotionWorkflowServiceArtifactLineageTest {
         evolutionCandidateService = new EvolutionCandidateService(
                 mock(TacticRecordService.class),
                 mock(ArtifactBundleService.class),
-                new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(storagePort), FIXED_CLOCK),
+                new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(storagePort), FIXED_CLOCK,
+                        new ArtifactProjectionChangeTracker()),
                 new EvolutionCandidateDerivationService(FIXED_CLOCK),
                 new EvolutionCandidateTacticMaterializer(FIXED_CLOCK));
         PromotionWorkflowStateService promotionWorkflowStateService = new PromotionWorkflowStateService(
                 new PromotionWorkflowStore(new JsonPromotionWorkflowStateAdapter(storagePort)),
                 evolutionCandidateService,
-                new PromotionDecisionHydrationService());
+                new PromotionDecisionHydrationService(), new ArtifactProjectionChangeTracker());
         service = new PromotionWorkflowService(runtimeConfigPort,
                 promotionWorkflowStateService,
                 new PromotionTargetResolver(runtimeConfigPort),
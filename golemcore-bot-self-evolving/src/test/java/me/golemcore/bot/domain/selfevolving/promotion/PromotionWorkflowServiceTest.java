@@ -38,6 +38,7 @@ import me.golemcore.bot.domain.selfevolving.candidate.EvolutionCandidateService;
 import me.golemcore.bot.domain.selfevolving.candidate.EvolutionCandidateTacticMaterializer;
 import me.golemcore.bot.domain.selfevolving.tactic.InMemoryTacticRecordStorePort;
 import me.golemcore.bot.domain.selfevolving.tactic.TacticRecordService;
+import me.golemcore.bot.domain.selfevolving.artifact.ArtifactProjectionChangeTracker;
 import me.golemcore.bot.port.outbound.SelfEvolvingRuntimeConfigPort;
 import me.golemcore.bot.adapter.outbound.selfevolving.JsonArtifactRepositoryAdapter;
 
@@ -94,18 +95,20 @@ class PromotionWorkflowServiceTest {
                 Clock.fixed(Instant.parse("2026-03-31T16:00:00Z"), ZoneOffset.UTC), null, null);
         artifactBundleService = new ArtifactBundleService(new JsonArtifactRepositoryAdapter(storagePort),
                 runtimeConfigPort,
-                Clock.fixed(Instant.parse("2026-03-31T16:00:00Z"), ZoneOffset.UTC));
+                Clock.fixed(Instant.parse("2026-03-31T16:00:00Z"), ZoneOffset.UTC),
+                new ArtifactProjectionChangeTracker());
         Clock clock = Clock.fixed(Instant.parse("2026-03-31T16:00:00Z"), ZoneOffset.UTC);
         evolutionCandidateService = new EvolutionCandidateService(
                 tacticRecordService,
                 artifactBundleService,
-                new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(storagePort), clock),
+                new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(storagePort), clock,
+                        new ArtifactProjectionChangeTracker()),
                 new EvolutionCandidateDerivationService(clock),
                 new EvolutionCandidateTacticMaterializer(clock));
         PromotionWorkflowStateService promotionWorkflowStateService = new PromotionWorkflowStateService(
                 new PromotionWorkflowStore(new JsonPromotionWorkflowStateAdapter(storagePort)),
                 evolutionCandidateService,
-                new PromotionDecisionHydrationService());
+                new PromotionDecisionHydrationService(), new ArtifactProjectionChangeTracker());
         promotionWorkflowService = new PromotionWorkflowService(
                 runtimeConfigPort,
                 promotionWorkflowStateService,
@@ -564,7 +567,7 @@ class PromotionWorkflowServiceTest {
         PromotionWorkflowStateService promotionWorkflowStateService = new PromotionWorkflowStateService(
                 new PromotionWorkflowStore(new InMemoryPromotionWorkflowStatePort()),
                 evolutionCandidateService,
-                new PromotionDecisionHydrationService());
+                new PromotionDecisionHydrationService(), new ArtifactProjectionChangeTracker());
         PromotionWorkflowService serviceWithBundleBinding = new PromotionWorkflowService(
                 runtimeConfigPort,
                 promotionWorkflowStateService,
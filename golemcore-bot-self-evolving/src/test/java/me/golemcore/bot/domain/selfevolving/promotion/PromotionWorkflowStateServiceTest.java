@@ -36,6 +36,7 @@ import me.golemcore.bot.domain.selfevolving.candidate.EvolutionCandidateService;
 import me.golemcore.bot.domain.selfevolving.candidate.EvolutionCandidateTacticMaterializer;
 import me.golemcore.bot.domain.selfevolving.tactic.InMemoryTacticRecordStorePort;
 import me.golemcore.bot.domain.selfevolving.tactic.TacticRecordService;
+import me.golemcore.bot.domain.selfevolving.artifact.ArtifactProjectionChangeTracker;
 import me.golemcore.bot.port.outbound.SelfEvolvingRuntimeConfigPort;
 import me.golemcore.bot.adapter.outbound.selfevolving.JsonArtifactRepositoryAdapter;
 
@@ -87,17 +88,18 @@ class PromotionWorkflowStateServiceTest {
                 null, null);
         ArtifactBundleService artifactBundleService = new ArtifactBundleService(
                 new JsonArtifactRepositoryAdapter(storagePort), runtimeConfigPort,
-                clock);
+                clock, new ArtifactProjectionChangeTracker());
         EvolutionCandidateService evolutionCandidateService = new EvolutionCandidateService(
                 tacticRecordService,
                 artifactBundleService,
-                new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(storagePort), clock),
+                new EvolutionArtifactIdentityService(new JsonArtifactRepositoryAdapter(storagePort), clock,
+                        new ArtifactProjectionChangeTracker()),
                 new EvolutionCandidateDerivationService(clock),
                 new EvolutionCandidateTacticMaterializer(clock));
         stateService = new PromotionWorkflowStateService(
                 new PromotionWorkflowStore(new JsonPromotionWorkflowStateAdapter(storagePort)),
                 evolutionCandidateService,
-                new PromotionDecisionHydrationService());
+                new PromotionDecisionHydrationService(), new ArtifactProjectionChangeTracker());
     }
 
     @Test
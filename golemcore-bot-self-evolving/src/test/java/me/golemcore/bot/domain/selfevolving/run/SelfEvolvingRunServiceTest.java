@@ -489,7 +489,8 @@ class SelfEvolvingRunServiceTest {
         RunRecord started = cachedService.startRun(context);
         cachedService.completeRun(started, context);
 
-        verify(mockJournal, org.mockito.Mockito.times(2)).saveRuns(org.mockito.ArgumentMatchers.any());
+        verify(mockJournal, org.mockito.Mockito.times(2)).saveRun(org.mockito.ArgumentMatchers.any(),
+                org.mockito.ArgumentMatchers.any());
     }
 
     @Test
@@ -74,10 +74,10 @@ class TacticEmbeddingIndexServiceTest {
         when(embeddingPort.embed(any()))
                 .thenReturn(new EmbeddingPort.EmbeddingResponse(
                         "text-embedding-3-large",
-                        List.of(List.of(1.0d, 0.0d), List.of(0.2d, 0.98d))))
+                        List.of(new float[] { 1.0f, 0.0f }, new float[] { 0.2f, 0.98f })))
                 .thenReturn(new EmbeddingPort.EmbeddingResponse(
                         "text-embedding-3-large",
-                        List.of(List.of(1.0d, 0.0d))));
+                        List.of(new float[] { 1.0f, 0.0f })));
 
         List<TacticSearchResult> results = service.search(query());
 
@@ -97,7 +97,7 @@ class TacticEmbeddingIndexServiceTest {
         when(embeddingClientResolver.resolve("openai_compatible")).thenReturn(embeddingPort);
         when(embeddingPort.embed(any())).thenReturn(new EmbeddingPort.EmbeddingResponse(
                 "text-embedding-3-large",
-                List.of(List.of(1.0d, 0.0d))));
+                List.of(new float[] { 1.0f, 0.0f })));
 
         service.rebuildAll();
 
@@ -115,7 +115,7 @@ class TacticEmbeddingIndexServiceTest {
         when(embeddingPort.embed(any()))
                 .thenReturn(new EmbeddingPort.EmbeddingResponse(
                         "text-embedding-3-large",
-                        List.of(List.of(1.0d, 0.0d))))
+                        List.of(new float[] { 1.0f, 0.0f })))
                 .thenThrow(new IllegalStateException("embedding query failed"));
 
         List<TacticSearchResult> results = service.search(query());
@@ -201,10 +201,10 @@ class TacticEmbeddingIndexServiceTest {
         when(embeddingPort.embed(any()))
                 .thenReturn(new EmbeddingPort.EmbeddingResponse(
                         "text-embedding-3-large",
-                        List.of(List.of(1.0d, 0.0d), List.of(0.2d, 0.98d))))
+                        List.of(new float[] { 1.0f, 0.0f }, new float[] { 0.2f, 0.98f })))
                 .thenReturn(new EmbeddingPort.EmbeddingResponse(
                         "text-embedding-3-large",
-                        List.of(List.of(1.0d, 0.0d))));
+                        List.of(new float[] { 1.0f, 0.0f })));
 
         service.rebuildAll();
 
@@ -330,10 +330,10 @@ class TacticEmbeddingIndexServiceTest {
         when(embeddingPort.embed(any()))
                 .thenReturn(new EmbeddingPort.EmbeddingResponse(
                         "text-embedding-3-large",
-                        List.of(List.of(1.0d, 0.0d, 0.0d), List.of(0.2d, 0.98d, 0.0d))))
+                        List.of(new float[] { 1.0f, 0.0f, 0.0f }, new float[] { 0.2f, 0.98f, 0.0f })))
                 .thenReturn(new EmbeddingPort.EmbeddingResponse(
                         "text-embedding-3-large",
-                        List.of(List.of(1.0d, 0.0d, 0.0d))));
+                        List.of(new float[] { 1.0f, 0.0f, 0.0f })));
 
         List<TacticSearchResult> results = service.search(query());
 
@@ -6,6 +6,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.function.Predicate;
 import me.golemcore.bot.domain.model.AgentSession;
+import me.golemcore.bot.port.outbound.SessionCleanupPort;
 import me.golemcore.bot.port.outbound.SessionGoalCleanupPort;
 
 public class SessionDeletionCoordinator {
@@ -13,24 +14,32 @@ public class SessionDeletionCoordinator {
     private final SessionCache sessionCache;
     private final SessionRepository sessionRepository;
     private final List<SessionGoalCleanupPort> sessionGoalCleanupPorts;
+    private final List<SessionCleanupPort> sessionCleanupPorts;
 
     public SessionDeletionCoordinator(SessionCache sessionCache, SessionRepository sessionRepository,
-            List<SessionGoalCleanupPort> sessionGoalCleanupPorts) {
+            List<SessionGoalCleanupPort> sessionGoalCleanupPorts, List<SessionCleanupPort> sessionCleanupPorts) {
         this.sessionCache = sessionCache;
         this.sessionRepository = sessionRepository;
         this.sessionGoalCleanupPorts = sessionGoalCleanupPorts != null ? List.copyOf(sessionGoalCleanupPorts)
                 : List.of();
+        this.sessionCleanupPorts = sessionCleanupPorts != null ? List.copyOf(sessionCleanupPorts) : List.of();
     }
 
     public void delete(String sessionId) {
         AgentSession removed = sessionCache.remove(sessionId);
         if (sessionRepository.delete(sessionId)) {
-            deleteSessionGoals(sessionId);
+            deleteSessionState(sessionId);
             return;
         }
         sessionCache.restore(sessionId, removed);
     }
 
+    public void clearHistory(String sessionId) {
+        for (SessionCleanupPort sessionCleanupPort : sessionCleanupPorts) {
+            sessionCleanupPort.clearSessionHistory(sessionId);
+        }
+    }
+
     public int cleanupExpiredSessions(Instant cutoff, Predicate<AgentSession> shouldRetain) {
         int deletedCount = 0;
         for (AgentSession session : List.copyOf(sessionCache.values())) {
@@ -46,7 +55,7 @@ public class SessionDeletionCoordinator {
             }
             sessionCache.remove(session.getId());
             if (sessionRepository.delete(session.getId())) {
-                deleteSessionGoals(session.getId());
+                deleteSessionState(session.getId());
                 deletedCount++;
                 continue;
             }
@@ -55,9 +64,12 @@ public class SessionDeletionCoordinator {
         return deletedCount;
     }
 
-    private void deleteSessionGoals(String sessionId) {
+    private void deleteSessionState(String sessionId) {
         for (SessionGoalCleanupPort sessionGoalCleanupPort : sessionGoalCleanupPorts) {
             sessionGoalCleanupPort.deleteSessionGoals(sessionId);
         }
+        for (SessionCleanupPort sessionCleanupPort : sessionCleanupPorts) {
+            sessionCleanupPort.deleteSessionData(sessionId);
+        }
     }
 }
@@ -11,6 +11,8 @@ public class SessionIdFactory {
     static final String PROTO_EXTENSION = ".pb";
     static final String SESSION_ID_SEPARATOR = ":";
     static final String SESSIONS_DIR = "sessions";
+    static final String MESSAGE_INDEX_DIR = "sessions-index";
+    static final String MESSAGE_INDEX_EXTENSION = ".idx";
 
     public String buildSessionId(String channelType, String chatId) {
         return channelType + SESSION_ID_SEPARATOR + chatId;
@@ -20,6 +22,10 @@ public class SessionIdFactory {
         return sessionId + PROTO_EXTENSION;
     }
 
+    public String messageIndexFileName(String sessionId) {
+        return sessionId + MESSAGE_INDEX_EXTENSION;
+    }
+
     public boolean isStoredFileForChannel(String path, String channelType) {
         if (StringValueSupport.isBlank(path) || StringValueSupport.isBlank(channelType)) {
             return false;
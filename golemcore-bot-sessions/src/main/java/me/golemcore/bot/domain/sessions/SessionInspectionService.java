@@ -91,17 +91,15 @@ public class SessionInspectionService implements SessionInspectionQueryPort {
     }
 
     public SessionMessagesPageView getSessionMessages(String sessionId, int limit, String beforeMessageId) {
-        AgentSession session = requireSession(sessionId);
         int normalizedLimit = Math.clamp(limit, 1, MAX_PAGE_LIMIT);
-        List<Message> visibleMessages = SessionPresentationSupport.getVisibleMessages(session);
-        int endExclusive = resolvePageEndExclusive(visibleMessages, beforeMessageId);
-        int startInclusive = Math.max(START_WITH_INDEX, endExclusive - normalizedLimit);
-        List<SessionDetailView.MessageView> page = visibleMessages.subList(startInclusive, endExclusive).stream()
-                .map(this::toMessageDto).toList();
+        SessionPort.MessagePage messagePage = sessionPort
+                .getVisibleMessagesPage(sessionId, normalizedLimit, beforeMessageId)
+                .orElseThrow(() -> new NoSuchElementException("Session not found"));
+        List<SessionDetailView.MessageView> page = messagePage.messages().stream().map(this::toMessageDto).toList();
         String oldestMessageId = page.isEmpty() ? null : page.get(START_WITH_INDEX).getId();
 
         return SessionMessagesPageView.builder().sessionId(sessionId).messages(page)
-                .hasMore(startInclusive > START_WITH_INDEX).oldestMessageId(oldestMessageId).build();
+                .hasMore(messagePage.hasMore()).oldestMessageId(oldestMessageId).build();
     }
 
     public SessionTraceSummaryView getSessionTraceSummary(String sessionId) {
@@ -484,23 +482,6 @@ public class SessionInspectionService implements SessionInspectionQueryPort {
         return "application/json".equalsIgnoreCase(baseType) || baseType.endsWith("+json");
     }
 
-    private int resolvePageEndExclusive(List<Message> messages, String beforeMessageId) {
-        if (messages == null || messages.isEmpty()) {
-            return START_WITH_INDEX;
-        }
-        if (StringValueSupport.isBlank(beforeMessageId)) {
-            return messages.size();
-        }
-        String normalizedBeforeMessageId = beforeMessageId.trim();
-        for (int index = START_WITH_INDEX; index < messages.size(); index++) {
-            Message message = messages.get(index);
-            if (message != null && normalizedBeforeMessageId.equals(message.getId())) {
-                return index;
-            }
-        }
-        throw new IllegalArgumentException("beforeMessageId not found");
-    }
-
     @SuppressWarnings("unchecked")
     private List<SessionDetailView.AttachmentView> resolveAttachments(Message message) {
         if (message == null || message.getMetadata() == null) {
@@ -0,0 +1,101 @@
+package me.golemcore.bot.domain.sessions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.port.outbound.SessionRecordCodecPort;
+
+/**
+ * Byte ranges of the history-visible messages inside a stored session record.
+ *
+ * <p>
+ * Written next to the session file on every save, so a page of messages costs
+ * one range read plus decoding the messages on that page. Each entry keeps the
+ * message id, which lets readers notice an index that no longer matches its
+ * session file.
+ */
+final class SessionMessageIndex {
+
+    private static final int MAGIC = 0x534D4958;
+    private static final int FORMAT_VERSION = 1;
+
+    private final List<Entry> entries;
+
+    private SessionMessageIndex(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    static SessionMessageIndex build(List<Message> messages, List<SessionRecordCodecPort.MessageSlice> slices) {
+        if (messages.size() != slices.size()) {
+            throw new IllegalArgumentException("Message slices do not match session messages");
+        }
+        List<Entry> entries = new ArrayList<>();
+        for (int index = 0; index < messages.size(); index++) {
+            Message message = messages.get(index);
+            if (SessionPresentationSupport.isVisibleConversationMessage(message)) {
+                SessionRecordCodecPort.MessageSlice slice = slices.get(index);
+                entries.add(new Entry(message.getId() != null ? message.getId() : "", slice.offset(),
+                        slice.length()));
+            }
+        }
+        return new SessionMessageIndex(entries);
+    }
+
+    static SessionMessageIndex fromBytes(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            int count = in.readInt();
+            List<Entry> entries = new ArrayList<>(count);
+            for (int index = 0; index < count; index++) {
+                entries.add(new Entry(in.readUTF(), in.readInt(), in.readInt()));
+            }
+            return new SessionMessageIndex(entries);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read session message index", e);
+        }
+    }
+
+    byte[] toBytes() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(12 + entries.size() * 32);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(entries.size());
+            for (Entry entry : entries) {
+                out.writeUTF(entry.messageId());
+                out.writeInt(entry.offset());
+                out.writeInt(entry.length());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write session message index", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    Entry get(int index) {
+        return entries.get(index);
+    }
+
+    int indexOf(String messageId) {
+        for (int index = 0; index < entries.size(); index++) {
+            if (entries.get(index).messageId().equals(messageId)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    record Entry(String messageId, int offset, int length) {
+    }
+}
@@ -35,13 +35,15 @@ public final class SessionPresentationSupport {
         if (session == null || session.getMessages() == null) {
             return List.of();
         }
-        return session.getMessages().stream()
-                .filter(message -> message != null
-                        && ("user".equals(message.getRole()) || ROLE_ASSISTANT.equals(message.getRole()))
-                        && isHistoryVisibleMessage(message))
+        return session.getMessages().stream().filter(SessionPresentationSupport::isVisibleConversationMessage)
                 .toList();
     }
 
+    public static boolean isVisibleConversationMessage(Message message) {
+        return message != null && ("user".equals(message.getRole()) || ROLE_ASSISTANT.equals(message.getRole()))
+                && isHistoryVisibleMessage(message);
+    }
+
     public static boolean isHistoryVisibleMessage(Message message) {
         if (message == null || message.isInternalMessage()) {
             return false;
@@ -1,10 +1,14 @@
 package me.golemcore.bot.domain.sessions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
 import me.golemcore.bot.domain.model.AgentSession;
+import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.port.outbound.SessionPort;
 import me.golemcore.bot.port.outbound.SessionRecordCodecPort;
 import me.golemcore.bot.port.outbound.StoragePort;
 
@@ -23,26 +27,54 @@ public class SessionRepository {
     }
 
     public Optional<AgentSession> load(String sessionId) {
+        return load(sessionId, false);
+    }
+
+    /**
+     * Loads the full session and writes its message index, so later page reads
+     * of a session saved before the index existed skip the full decode.
+     */
+    public Optional<AgentSession> loadAndIndexMessages(String sessionId) {
+        return load(sessionId, true);
+    }
+
+    /**
+     * Reads one page of history-visible messages through the message index.
+     *
+     * @return the page, or empty when the index is missing, stale or does not
+     *         contain {@code beforeMessageId}; callers then fall back to a full
+     *         load
+     */
+    public Optional<SessionPort.MessagePage> loadVisibleMessagesPage(String sessionId, int limit,
+            String beforeMessageId) {
         try {
-            byte[] bytes = storagePort
-                    .getObject(SessionIdFactory.SESSIONS_DIR, sessionIdFactory.storageFileName(sessionId)).join();
-            if (bytes != null && bytes.length > 0) {
-                AgentSession loaded = sessionRecordCodecPort.decode(bytes);
-                sessionIdFactory.enrichSessionFields(loaded, sessionIdFactory.storageFileName(sessionId));
-                return Optional.of(loaded);
+            byte[] indexBytes = storagePort.getObject(SessionIdFactory.MESSAGE_INDEX_DIR,
+                    sessionIdFactory.messageIndexFileName(sessionId)).join();
+            SessionMessageIndex index = indexBytes != null && indexBytes.length > 0
+                    ? SessionMessageIndex.fromBytes(indexBytes)
+                    : null;
+            if (index == null) {
+                return Optional.empty();
             }
-        } catch (IllegalStateException e) {
-            log.error("Failed to parse protobuf session {}: {}", sessionId, e.getMessage());
-            throw new IllegalStateException("Failed to parse protobuf session: " + sessionId, e);
-        } catch (RuntimeException e) { // NOSONAR - storage miss is represented as a failed future by adapters/tests
-            log.debug("Failed protobuf load for session {}: {}", sessionId, e.getMessage());
+            int endExclusive = beforeMessageId != null ? index.indexOf(beforeMessageId) : index.size();
+            if (endExclusive < 0) {
+                return Optional.empty();
+            }
+            int startInclusive = Math.max(0, endExclusive - limit);
+            List<Message> messages = readIndexedMessages(sessionId, index, startInclusive, endExclusive);
+            return messages != null ? Optional.of(new SessionPort.MessagePage(messages, startInclusive > 0))
+                    : Optional.empty();
+        } catch (RuntimeException e) { // NOSONAR - a broken index only costs a full decode
+            log.debug("Ignoring message index for session {}: {}", sessionId, e.getMessage());
+            return Optional.empty();
         }
-        return Optional.empty();
     }
 
     public void save(AgentSession session) {
+        byte[] proto;
         try {
-            byte[] proto = sessionRecordCodecPort.encode(session);
+            proto = sessionRecordCodecPort.encode(session);
+            deleteMessageIndex(session.getId());
             storagePort
                     .putObject(SessionIdFactory.SESSIONS_DIR, sessionIdFactory.storageFileName(session.getId()), proto)
                     .join();
@@ -51,11 +83,13 @@ public class SessionRepository {
             log.error("Failed to save session: {}", session.getId(), e);
             throw new IllegalStateException("Failed to save session: " + session.getId(), e);
         }
+        saveMessageIndex(session.getId(), session.getMessages(), proto);
     }
 
     public boolean delete(String sessionId) {
         try {
             storagePort.deleteObject(SessionIdFactory.SESSIONS_DIR, sessionIdFactory.storageFileName(sessionId)).join();
+            deleteMessageIndex(sessionId);
             log.info("Deleted session: {}", sessionId);
             return true;
         } catch (Exception e) {
@@ -95,4 +129,77 @@ public class SessionRepository {
             return Optional.empty();
         }
     }
+
+    private Optional<AgentSession> load(String sessionId, boolean indexMessages) {
+        try {
+            byte[] bytes = storagePort
+                    .getObject(SessionIdFactory.SESSIONS_DIR, sessionIdFactory.storageFileName(sessionId)).join();
+            if (bytes != null && bytes.length > 0) {
+                AgentSession loaded = sessionRecordCodecPort.decode(bytes);
+                sessionIdFactory.enrichSessionFields(loaded, sessionIdFactory.storageFileName(sessionId));
+                if (indexMessages) {
+                    saveMessageIndex(sessionId, loaded.getMessages(), bytes);
+                }
+                return Optional.of(loaded);
+            }
+        } catch (IllegalStateException e) {
+            log.error("Failed to parse protobuf session {}: {}", sessionId, e.getMessage());
+            throw new IllegalStateException("Failed to parse protobuf session: " + sessionId, e);
+        } catch (RuntimeException e) { // NOSONAR - storage miss is represented as a failed future by adapters/tests
+            log.debug("Failed protobuf load for session {}: {}", sessionId, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private List<Message> readIndexedMessages(String sessionId, SessionMessageIndex index, int startInclusive,
+            int endExclusive) {
+        if (startInclusive >= endExclusive) {
+            return List.of();
+        }
+        SessionMessageIndex.Entry first = index.get(startInclusive);
+        SessionMessageIndex.Entry last = index.get(endExclusive - 1);
+        int rangeLength = last.offset() + last.length() - first.offset();
+        byte[] range = storagePort.getObjectRange(SessionIdFactory.SESSIONS_DIR,
+                sessionIdFactory.storageFileName(sessionId), first.offset(), rangeLength).join();
+        if (range == null) {
+            return null;
+        }
+        List<Message> messages = new ArrayList<>(endExclusive - startInclusive);
+        for (int position = startInclusive; position < endExclusive; position++) {
+            SessionMessageIndex.Entry entry = index.get(position);
+            int from = entry.offset() - first.offset();
+            Message message = sessionRecordCodecPort.decodeMessage(
+                    Arrays.copyOfRange(range, from, from + entry.length()));
+            String messageId = message.getId() != null ? message.getId() : "";
+            if (!messageId.equals(entry.messageId())) {
+                return null;
+            }
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    private void saveMessageIndex(String sessionId, List<Message> messages, byte[] proto) {
+        try {
+            Optional<List<SessionRecordCodecPort.MessageSlice>> slices = sessionRecordCodecPort.indexMessages(proto);
+            if (slices.isEmpty()) {
+                return;
+            }
+            SessionMessageIndex index = SessionMessageIndex.build(messages != null ? messages : List.of(),
+                    slices.get());
+            storagePort.putObject(SessionIdFactory.MESSAGE_INDEX_DIR, sessionIdFactory.messageIndexFileName(sessionId),
+                    index.toBytes()).join();
+        } catch (RuntimeException e) { // NOSONAR - page reads fall back to decoding the full session
+            log.warn("Failed to write message index for session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    private void deleteMessageIndex(String sessionId) {
+        try {
+            storagePort.deleteObject(SessionIdFactory.MESSAGE_INDEX_DIR,
+                    sessionIdFactory.messageIndexFileName(sessionId)).join();
+        } catch (RuntimeException e) { // NOSONAR - a leftover index is detected as stale on read
+            log.debug("Failed to delete message index for session {}: {}", sessionId, e.getMessage());
+        }
+    }
 }
@@ -100,6 +100,7 @@ public class SessionService implements SessionPort {
                 session.mutableMessages().clear();
                 save(session);
             }
+            sessionDeletionCoordinator.clearHistory(sessionId);
             log.info("Cleared messages for session: {}", sessionId);
         });
     }
@@ -122,6 +123,24 @@ public class SessionService implements SessionPort {
         return sessionCompactionBoundary.getMessageCount(sessionCache.get(sessionId).orElse(null));
     }
 
+    @Override
+    public Optional<MessagePage> getVisibleMessagesPage(String sessionId, int limit, String beforeMessageId) {
+        int normalizedLimit = Math.max(1, limit);
+        String normalizedBeforeMessageId = StringValueSupport.isBlank(beforeMessageId) ? null
+                : beforeMessageId.trim();
+        Optional<AgentSession> cached = sessionCache.get(sessionId);
+        if (cached.isEmpty()) {
+            Optional<MessagePage> indexed = sessionRepository.loadVisibleMessagesPage(sessionId, normalizedLimit,
+                    normalizedBeforeMessageId);
+            if (indexed.isPresent()) {
+                return indexed;
+            }
+        }
+        return cached.or(() -> sessionRepository.loadAndIndexMessages(sessionId))
+                .map(session -> pageOf(SessionPresentationSupport.getVisibleMessages(session), normalizedLimit,
+                        normalizedBeforeMessageId));
+    }
+
     @Override
     public List<AgentSession> listAll() {
         hydrateCacheFromStorage(path -> true);
@@ -166,6 +185,25 @@ public class SessionService implements SessionPort {
         return sessionDeletionCoordinator.cleanupExpiredSessions(cutoff, shouldRetain);
     }
 
+    private MessagePage pageOf(List<Message> visibleMessages, int limit, String beforeMessageId) {
+        int endExclusive = visibleMessages.size();
+        if (beforeMessageId != null) {
+            endExclusive = -1;
+            for (int index = 0; index < visibleMessages.size(); index++) {
+                if (beforeMessageId.equals(visibleMessages.get(index).getId())) {
+                    endExclusive = index;
+                    break;
+                }
+            }
+            if (endExclusive < 0) {
+                throw new IllegalArgumentException("beforeMessageId not found");
+            }
+        }
+        int startInclusive = Math.max(0, endExclusive - limit);
+        return new MessagePage(List.copyOf(visibleMessages.subList(startInclusive, endExclusive)),
+                startInclusive > 0);
+    }
+
     private void hydrateCacheFromStorage(Predicate<String> pathFilter) {
         sessionRepository.loadStoredSessions(pathFilter).forEach(sessionCache::putIfAbsent);
     }
@@ -14,6 +14,7 @@ import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import me.golemcore.bot.domain.model.AgentSession;
 import me.golemcore.bot.domain.model.ContextAttributes;
@@ -160,22 +161,18 @@ class SessionInspectionServiceTest {
         assistantMetadata.put(ContextAttributes.AUTO_GOAL_ID, "goal-1");
         assistantMetadata.put(ContextAttributes.AUTO_TASK_ID, "task-1");
 
-        AgentSession session = AgentSession.builder().id("web:conv-1").channelType("web").chatId("legacy-chat")
-                .messages(List.of(
-                        Message.builder().id("hidden").role("user").content("internal")
-                                .metadata(Map.of(ContextAttributes.MESSAGE_INTERNAL, true))
-                                .timestamp(Instant.parse("2026-03-20T10:00:00Z")).build(),
-                        Message.builder().id("m-1").role("user").content("   ").metadata(attachmentOnlyMetadata)
-                                .timestamp(Instant.parse("2026-03-20T10:01:00Z")).build(),
-                        Message.builder().id("m-2").role("assistant").content("Rendered trace")
-                                .metadata(assistantMetadata).voiceData(new byte[] { 1 })
-                                .toolCalls(
-                                        List.of(Message.ToolCall.builder().id("tool-1").name("trace.search").build()))
-                                .timestamp(Instant.parse("2026-03-20T10:02:00Z")).build(),
-                        Message.builder().id("m-3").role("user").content("Latest question")
-                                .timestamp(Instant.parse("2026-03-20T10:03:00Z")).build()))
-                .build();
-        when(sessionPort.get("web:conv-1")).thenReturn(Optional.of(session));
+        Message attachmentOnly = Message.builder().id("m-1").role("user").content("   ")
+                .metadata(attachmentOnlyMetadata).timestamp(Instant.parse("2026-03-20T10:01:00Z")).build();
+        Message assistant = Message.builder().id("m-2").role("assistant").content("Rendered trace")
+                .metadata(assistantMetadata).voiceData(new byte[] { 1 })
+                .toolCalls(List.of(Message.ToolCall.builder().id("tool-1").name("trace.search").build()))
+                .timestamp(Instant.parse("2026-03-20T10:02:00Z")).build();
+        Message latest = Message.builder().id("m-3").role("user").content("Latest question")
+                .timestamp(Instant.parse("2026-03-20T10:03:00Z")).build();
+        when(sessionPort.getVisibleMessagesPage("web:conv-1", 2, null))
+                .thenReturn(Optional.of(new SessionPort.MessagePage(List.of(assistant, latest), true)));
+        when(sessionPort.getVisibleMessagesPage("web:conv-1", 2, "m-3"))
+                .thenReturn(Optional.of(new SessionPort.MessagePage(List.of(attachmentOnly, assistant), false)));
 
         SessionMessagesPageView latestPage = service.getSessionMessages("web:conv-1", 2, null);
         SessionMessagesPageView firstPage = service.getSessionMessages("web:conv-1", 2, "m-3");
@@ -212,17 +209,12 @@ class SessionInspectionServiceTest {
     }
 
     @Test
-    void shouldRejectUnknownBeforeMessageId() {
-        AgentSession session = AgentSession.builder().id("web:conv-1").channelType("web")
-                .messages(List.of(Message.builder().id("m-1").role("user").content("hello")
-                        .timestamp(Instant.parse("2026-03-20T10:00:00Z")).build()))
-                .build();
-        when(sessionPort.get("web:conv-1")).thenReturn(Optional.of(session));
-
-        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
-                () -> service.getSessionMessages("web:conv-1", 10, "missing"));
+    void shouldClampPageLimitAndRejectUnknownSession() {
+        NoSuchElementException error = assertThrows(NoSuchElementException.class,
+                () -> service.getSessionMessages("web:missing", 500, null));
 
-        assertEquals("beforeMessageId not found", error.getMessage());
+        assertEquals("Session not found", error.getMessage());
+        verify(sessionPort).getVisibleMessagesPage("web:missing", 100, null);
     }
 
     @Test
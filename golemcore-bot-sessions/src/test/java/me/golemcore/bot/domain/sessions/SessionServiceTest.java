@@ -4,6 +4,8 @@ import me.golemcore.bot.domain.identity.SessionIdentitySupport;
 import me.golemcore.bot.domain.model.AgentSession;
 import me.golemcore.bot.domain.model.ContextAttributes;
 import me.golemcore.bot.domain.model.Message;
+import me.golemcore.bot.port.outbound.SessionCleanupPort;
+import me.golemcore.bot.port.outbound.SessionPort;
 import me.golemcore.bot.port.outbound.SessionRecordCodecPort;
 import me.golemcore.bot.port.outbound.StoragePort;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -16,6 +18,8 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -34,6 +38,7 @@ class SessionServiceTest {
     private static final String CHAT_ID = "123";
     private static final String SESSION_ID = "telegram:123";
     private static final String SESSION_FILE = "telegram:123.pb";
+    private static final String INDEX_FILE = "sessions-index/telegram:123.idx";
     private static final String NOT_FOUND = "not found";
     private static final String ROLE_USER = "user";
     private static final String NONEXISTENT = "nonexistent";
@@ -41,6 +46,7 @@ class SessionServiceTest {
     private static final String SUMMARY_TEXT = "[Summary]";
 
     private StoragePort storagePort;
+    private SessionCleanupPort sessionCleanupPort;
     private ObjectMapper objectMapper;
     private Clock clock;
     private SessionService service;
@@ -49,22 +55,13 @@ class SessionServiceTest {
     @BeforeEach
     void setUp() {
         storagePort = mock(StoragePort.class);
+        sessionCleanupPort = mock(SessionCleanupPort.class);
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         clock = Clock.fixed(FIXED_TIME, ZoneOffset.UTC);
         sessionRecordCodecAdapter = new JsonSessionRecordCodec();
-        SessionIdFactory sessionIdFactory = new SessionIdFactory();
-        SessionCache sessionCache = new SessionCache();
-        SessionRepository sessionRepository = new SessionRepository(storagePort, sessionRecordCodecAdapter,
-                sessionIdFactory);
-        SessionCompactionBoundary sessionCompactionBoundary = new SessionCompactionBoundary();
-        SessionModelSettingsInheritancePolicy inheritancePolicy = new SessionModelSettingsInheritancePolicy(
-                sessionCache, sessionRepository);
-        SessionDeletionCoordinator deletionCoordinator = new SessionDeletionCoordinator(sessionCache, sessionRepository,
-                List.of());
-        service = new SessionService(sessionIdFactory, sessionCache, sessionRepository, sessionCompactionBoundary,
-                inheritancePolicy, deletionCoordinator, clock);
+        service = newService(sessionRecordCodecAdapter);
 
         when(storagePort.getObject(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
         when(storagePort.getText(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
@@ -225,6 +222,7 @@ class SessionServiceTest {
         service.delete(SESSION_ID);
 
         verify(storagePort).deleteObject(SESSIONS_DIR, SESSION_FILE);
+        verify(sessionCleanupPort).deleteSessionData(SESSION_ID);
     }
 
     @Test
@@ -248,6 +246,7 @@ class SessionServiceTest {
 
         assertTrue(service.get(SESSION_ID).isPresent());
         assertSame(session, service.get(SESSION_ID).orElseThrow());
+        verify(sessionCleanupPort, never()).deleteSessionData(anyString());
     }
 
     // ==================== clearMessages ====================
@@ -265,12 +264,15 @@ class SessionServiceTest {
 
         assertEquals(0, session.getMessages().size());
         verify(storagePort).putObject(eq(SESSIONS_DIR), eq(SESSION_FILE), any(byte[].class));
+        verify(sessionCleanupPort).clearSessionHistory(SESSION_ID);
+        verify(sessionCleanupPort, never()).deleteSessionData(anyString());
     }
 
     @Test
     void clearMessagesDoesNothingForUnknownSession() {
         service.clearMessages(NONEXISTENT);
         verify(storagePort, never()).putObject(anyString(), anyString(), any(byte[].class));
+        verify(sessionCleanupPort, never()).clearSessionHistory(anyString());
     }
 
     // ==================== compactMessages ====================
@@ -560,6 +562,104 @@ class SessionServiceTest {
         assertEquals(2, service.getMessageCount(SESSION_ID));
     }
 
+    // ==================== getVisibleMessagesPage ====================
+
+    @Test
+    void getVisibleMessagesPageSlicesCachedSessionBeforeMessageId() {
+        when(storagePort.getObject(SESSIONS_DIR, SESSION_FILE))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException(NOT_FOUND)));
+        AgentSession session = service.getOrCreate(CHANNEL_TELEGRAM, CHAT_ID);
+        addConversation(session);
+
+        SessionPort.MessagePage latest = service.getVisibleMessagesPage(SESSION_ID, 2, null).orElseThrow();
+        SessionPort.MessagePage older = service.getVisibleMessagesPage(SESSION_ID, 2, " m2 ").orElseThrow();
+
+        assertEquals(List.of("m2", "m3"), latest.messages().stream().map(Message::getId).toList());
+        assertTrue(latest.hasMore());
+        assertEquals(List.of("m1"), older.messages().stream().map(Message::getId).toList());
+        assertFalse(older.hasMore());
+    }
+
+    @Test
+    void getVisibleMessagesPageRejectsUnknownBeforeMessageId() {
+        when(storagePort.getObject(SESSIONS_DIR, SESSION_FILE))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException(NOT_FOUND)));
+        addConversation(service.getOrCreate(CHANNEL_TELEGRAM, CHAT_ID));
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> service.getVisibleMessagesPage(SESSION_ID, 2, "missing"));
+
+        assertEquals("beforeMessageId not found", error.getMessage());
+    }
+
+    @Test
+    void getVisibleMessagesPageReturnsEmptyForUnknownSession() {
+        assertTrue(service.getVisibleMessagesPage(NONEXISTENT, 10, null).isEmpty());
+    }
+
+    @Test
+    void getVisibleMessagesPageReadsStoredSessionThroughMessageIndex() {
+        Map<String, byte[]> files = useInMemoryStorage();
+        LineSessionRecordCodec codec = new LineSessionRecordCodec();
+        AgentSession session = AgentSession.builder().id(SESSION_ID).channelType(CHANNEL_TELEGRAM).chatId(CHAT_ID)
+                .build();
+        addConversation(session);
+        newService(codec).save(session);
+
+        SessionService restarted = newService(codec);
+        SessionPort.MessagePage latest = restarted.getVisibleMessagesPage(SESSION_ID, 2, null).orElseThrow();
+        SessionPort.MessagePage older = restarted.getVisibleMessagesPage(SESSION_ID, 2, "m2").orElseThrow();
+
+        assertTrue(files.containsKey(INDEX_FILE));
+        assertEquals(List.of("m2", "m3"), latest.messages().stream().map(Message::getId).toList());
+        assertEquals("third", latest.messages().get(1).getContent());
+        assertTrue(latest.hasMore());
+        assertEquals(List.of("m1"), older.messages().stream().map(Message::getId).toList());
+        assertFalse(older.hasMore());
+        assertEquals(0, codec.fullDecodes);
+    }
+
+    @Test
+    void getVisibleMessagesPageFallsBackToFullLoadAndBackfillsMissingIndex() {
+        Map<String, byte[]> files = useInMemoryStorage();
+        LineSessionRecordCodec codec = new LineSessionRecordCodec();
+        AgentSession session = AgentSession.builder().id(SESSION_ID).channelType(CHANNEL_TELEGRAM).chatId(CHAT_ID)
+                .build();
+        addConversation(session);
+        newService(codec).save(session);
+        files.remove(INDEX_FILE);
+
+        SessionPort.MessagePage fallback = newService(codec).getVisibleMessagesPage(SESSION_ID, 2, null)
+                .orElseThrow();
+        SessionPort.MessagePage indexed = newService(codec).getVisibleMessagesPage(SESSION_ID, 2, null)
+                .orElseThrow();
+
+        assertEquals(List.of("m2", "m3"), fallback.messages().stream().map(Message::getId).toList());
+        assertEquals(List.of("m2", "m3"), indexed.messages().stream().map(Message::getId).toList());
+        assertTrue(files.containsKey(INDEX_FILE));
+        assertEquals(1, codec.fullDecodes);
+    }
+
+    @Test
+    void getVisibleMessagesPageIgnoresIndexThatNoLongerMatchesSession() {
+        Map<String, byte[]> files = useInMemoryStorage();
+        LineSessionRecordCodec codec = new LineSessionRecordCodec();
+        AgentSession session = AgentSession.builder().id(SESSION_ID).channelType(CHANNEL_TELEGRAM).chatId(CHAT_ID)
+                .build();
+        addConversation(session);
+        newService(codec).save(session);
+        byte[] staleIndex = files.get(INDEX_FILE);
+        session.getMessages().add(0, Message.builder().id("m0").role(ROLE_USER).content("zero").timestamp(FIXED_TIME)
+                .build());
+        newService(codec).save(session);
+        files.put(INDEX_FILE, staleIndex);
+
+        SessionPort.MessagePage page = newService(codec).getVisibleMessagesPage(SESSION_ID, 10, null).orElseThrow();
+
+        assertEquals(List.of("m0", "m1", "m2", "m3"), page.messages().stream().map(Message::getId).toList());
+        assertEquals(1, codec.fullDecodes);
+    }
+
     // ==================== Message Jackson round-trip ====================
 
     @Test
@@ -594,6 +694,114 @@ class SessionServiceTest {
         assertEquals("file1.txt", deserialized.getContent());
     }
 
+    private SessionService newService(SessionRecordCodecPort codec) {
+        SessionIdFactory sessionIdFactory = new SessionIdFactory();
+        SessionCache sessionCache = new SessionCache();
+        SessionRepository sessionRepository = new SessionRepository(storagePort, codec, sessionIdFactory);
+        SessionCompactionBoundary sessionCompactionBoundary = new SessionCompactionBoundary();
+        SessionModelSettingsInheritancePolicy inheritancePolicy = new SessionModelSettingsInheritancePolicy(
+                sessionCache, sessionRepository);
+        SessionDeletionCoordinator deletionCoordinator = new SessionDeletionCoordinator(sessionCache, sessionRepository,
+                List.of(), List.of(sessionCleanupPort));
+        return new SessionService(sessionIdFactory, sessionCache, sessionRepository, sessionCompactionBoundary,
+                inheritancePolicy, deletionCoordinator, clock);
+    }
+
+    private Map<String, byte[]> useInMemoryStorage() {
+        Map<String, byte[]> files = new HashMap<>();
+        when(storagePort.getObject(anyString(), anyString())).thenAnswer(invocation -> CompletableFuture
+                .completedFuture(files.get(invocation.getArgument(0) + "/" + invocation.getArgument(1))));
+        when(storagePort.putObject(anyString(), anyString(), any(byte[].class))).thenAnswer(invocation -> {
+            files.put(invocation.getArgument(0) + "/" + invocation.getArgument(1), invocation.getArgument(2));
+            return CompletableFuture.completedFuture(null);
+        });
+        when(storagePort.deleteObject(anyString(), anyString())).thenAnswer(invocation -> {
+            files.remove(invocation.getArgument(0) + "/" + invocation.getArgument(1));
+            return CompletableFuture.completedFuture(null);
+        });
+        when(storagePort.getObjectRange(anyString(), anyString(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            byte[] bytes = files.get(invocation.getArgument(0) + "/" + invocation.getArgument(1));
+            int offset = Math.toIntExact(invocation.<Long>getArgument(2));
+            int length = invocation.getArgument(3);
+            return CompletableFuture
+                    .completedFuture(bytes != null ? Arrays.copyOfRange(bytes, offset, offset + length) : null);
+        });
+        return files;
+    }
+
+    private static void addConversation(AgentSession session) {
+        session.addMessage(Message.builder().id("m1").role(ROLE_USER).content("first").timestamp(FIXED_TIME).build());
+        session.addMessage(Message.builder().id("hidden").role(ROLE_USER).content("internal")
+                .metadata(new LinkedHashMap<>(Map.of(ContextAttributes.MESSAGE_INTERNAL, true)))
+                .timestamp(FIXED_TIME).build());
+        session.addMessage(Message.builder().id("m2").role("assistant").content("second").timestamp(FIXED_TIME)
+                .build());
+        session.addMessage(Message.builder().id("tool-result").role("tool").content("ls").timestamp(FIXED_TIME)
+                .build());
+        session.addMessage(Message.builder().id("m3").role(ROLE_USER).content("third").timestamp(FIXED_TIME).build());
+    }
+
+    /**
+     * Stores one message per line after a session id header, which is enough
+     * structure to exercise the range-read path.
+     */
+    private static final class LineSessionRecordCodec implements SessionRecordCodecPort {
+
+        private int fullDecodes;
+
+        @Override
+        public byte[] encode(AgentSession session) {
+            StringBuilder payload = new StringBuilder(session.getId()).append('\n');
+            for (Message message : session.getMessages()) {
+                payload.append(encodeMessage(message)).append('\n');
+            }
+            return payload.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public AgentSession decode(byte[] bytes) {
+            fullDecodes++;
+            String[] lines = new String(bytes, StandardCharsets.UTF_8).split("\n");
+            AgentSession session = AgentSession.builder().id(lines[0]).build();
+            for (int i = 1; i < lines.length; i++) {
+                session.addMessage(decodeMessage(lines[i].getBytes(StandardCharsets.UTF_8)));
+            }
+            return session;
+        }
+
+        @Override
+        public Optional<List<MessageSlice>> indexMessages(byte[] bytes) {
+            List<MessageSlice> slices = new ArrayList<>();
+            int start = -1;
+            for (int i = 0; i < bytes.length; i++) {
+                if (bytes[i] != '\n') {
+                    continue;
+                }
+                if (start >= 0) {
+                    slices.add(new MessageSlice(start, i - start));
+                }
+                start = i + 1;
+            }
+            return Optional.of(slices);
+        }
+
+        @Override
+        public Message decodeMessage(byte[] bytes) {
+            String[] fields = new String(bytes, StandardCharsets.UTF_8).split("\t", -1);
+            Map<String, Object> metadata = new LinkedHashMap<>();
+            if (Boolean.parseBoolean(fields[3])) {
+                metadata.put(ContextAttributes.MESSAGE_INTERNAL, true);
+            }
+            return Message.builder().id(fields[0]).role(fields[1]).content(fields[2]).metadata(metadata)
+                    .timestamp(FIXED_TIME).build();
+        }
+
+        private static String encodeMessage(Message message) {
+            return message.getId() + '\t' + message.getRole() + '\t' + message.getContent() + '\t'
+                    + message.isInternalMessage();
+        }
+    }
+
     private static final class JsonSessionRecordCodec implements SessionRecordCodecPort {
 
         private final Map<String, AgentSession> sessionsByPayload = new HashMap<>();
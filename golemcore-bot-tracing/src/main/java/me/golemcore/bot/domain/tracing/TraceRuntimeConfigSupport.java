@@ -27,6 +27,8 @@ public final class TraceRuntimeConfigSupport {
         tracingConfig
                 .setCaptureToolPayloads(tracingConfigView.isTraceToolPayloadCaptureEnabled() || forcePayloadCapture);
         tracingConfig.setCaptureLlmPayloads(tracingConfigView.isTraceLlmPayloadCaptureEnabled() || forcePayloadCapture);
+        tracingConfig.setLlmPayloadSampleInterval(
+                forcePayloadCapture ? 1 : tracingConfigView.getTraceLlmPayloadSampleInterval());
         tracingConfig.setResiliencePayloadSampleRate(tracingConfigView.getTraceResiliencePayloadSampleRate());
         return tracingConfig;
     }
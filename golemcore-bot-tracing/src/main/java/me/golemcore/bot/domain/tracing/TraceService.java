@@ -11,27 +11,41 @@ import me.golemcore.bot.domain.model.trace.TraceSpanRecord;
 import me.golemcore.bot.domain.model.trace.TraceStatusCode;
 import me.golemcore.bot.domain.model.trace.TraceStorageStats;
 import me.golemcore.bot.port.outbound.TraceOperationsPort;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 @Service
+@Slf4j
 public class TraceService implements TraceOperationsPort {
 
     private static final String ZSTD = "zstd";
     private static final long BYTES_PER_MB = 1024L * 1024L;
+    private static final int MAX_ENCODED_SNAPSHOTS = 256;
+    private static final long STALE_ENCODED_SNAPSHOT_NANOS = TimeUnit.MINUTES.toNanos(5);
 
     private final TraceSnapshotCompressionService compressionService;
     private final TraceBudgetService traceBudgetService;
+    private final TraceSnapshotEncoder snapshotEncoder;
+    private final Map<String, List<EncodedSnapshot>> encodedSnapshots = new ConcurrentHashMap<>();
+    private final AtomicInteger encodedSnapshotCount = new AtomicInteger();
 
-    public TraceService(TraceSnapshotCompressionService compressionService, TraceBudgetService traceBudgetService) {
+    public TraceService(TraceSnapshotCompressionService compressionService, TraceBudgetService traceBudgetService,
+            TraceSnapshotEncoder snapshotEncoder) {
         this.compressionService = compressionService;
         this.traceBudgetService = traceBudgetService;
+        this.snapshotEncoder = snapshotEncoder;
     }
 
     public TraceContext startRootTrace(AgentSession session, String traceName, TraceSpanKind kind, Instant startedAt,
@@ -52,6 +66,7 @@ public class TraceService implements TraceOperationsPort {
     public TraceContext startRootTrace(AgentSession session, TraceContext rootContext, String traceName,
             TraceSpanKind kind, Instant startedAt, Map<String, Object> attributes, Integer maxTracesPerSession) {
         ensureSessionTraceState(session);
+        attachEncodedSnapshots(session);
         String traceId = rootContext != null && rootContext.getTraceId() != null ? rootContext.getTraceId()
                 : UUID.randomUUID().toString();
         String spanId = rootContext != null && rootContext.getSpanId() != null ? rootContext.getSpanId()
@@ -80,6 +95,7 @@ public class TraceService implements TraceOperationsPort {
 
     public TraceContext startSpan(AgentSession session, TraceContext parentContext, String spanName, TraceSpanKind kind,
             Instant startedAt, Map<String, Object> attributes) {
+        attachEncodedSnapshots(session);
         TraceRecord trace = findTrace(session, parentContext.getTraceId());
         String spanId = UUID.randomUUID().toString();
         TraceSpanRecord spanRecord = TraceSpanRecord.builder().spanId(spanId).parentSpanId(parentContext.getSpanId())
@@ -92,48 +108,102 @@ public class TraceService implements TraceOperationsPort {
 
     public void captureSnapshot(AgentSession session, TraceContext spanContext,
             RuntimeConfig.TracingConfig tracingConfig, String role, String contentType, byte[] payload) {
-        if (session == null || spanContext == null || tracingConfig == null) {
+        if (!isSnapshotCaptureEnabled(session, spanContext, tracingConfig)) {
+            return;
+        }
+        attachEncodedSnapshots(session);
+        TraceRecord trace = findTrace(session, spanContext.getTraceId());
+        TraceSpanRecord span = findSpan(trace, spanContext.getSpanId());
+        if (span.getSnapshots().size() >= resolveMaxSnapshotsPerSpan(tracingConfig)) {
+            trace.setTruncated(true);
+            return;
+        }
+        TraceSnapshot snapshot = encodeSnapshot(role, contentType, payload, resolveMaxSnapshotBytes(tracingConfig));
+        appendSnapshot(session, trace, span, snapshot, resolveBudgetMb(tracingConfig));
+    }
+
+    /**
+     * Captures a snapshot without serializing or compressing it on the calling
+     * thread.
+     *
+     * <p>
+     * The payload supplier runs on the {@link TraceSnapshotEncoder} worker, so it
+     * must only read state the caller no longer mutates, such as a detached copy
+     * of the request. The finished snapshot is attached to its span on the next
+     * trace mutation of the same session, or by
+     * {@link #attachEncodedSnapshots(AgentSession)} before the session is saved,
+     * so session trace state is still only touched by the thread that owns the
+     * turn. Nothing waits for the encoder: a snapshot that is not finished by the
+     * save goes out with a later save. Snapshots are dropped and counted when the
+     * encoder is saturated, when too many finished snapshots are waiting to be
+     * attached, when they wait too long, or when their span has been evicted in
+     * the meantime.
+     */
+    public void captureSnapshotAsync(AgentSession session, TraceContext spanContext,
+            RuntimeConfig.TracingConfig tracingConfig, String role, String contentType,
+            Supplier<byte[]> payloadSupplier) {
+        if (!isSnapshotCaptureEnabled(session, spanContext, tracingConfig)) {
             return;
         }
-        if (!Boolean.TRUE.equals(tracingConfig.getEnabled())
-                || !Boolean.TRUE.equals(tracingConfig.getPayloadSnapshotsEnabled())) {
+        String sessionId = session.getId();
+        if (sessionId == null) {
+            captureSnapshot(session, spanContext, tracingConfig, role, contentType, payloadSupplier.get());
             return;
         }
+        attachEncodedSnapshots(session);
         TraceRecord trace = findTrace(session, spanContext.getTraceId());
         TraceSpanRecord span = findSpan(trace, spanContext.getSpanId());
-        int maxSnapshotsPerSpan = tracingConfig.getMaxSnapshotsPerSpan() != null
-                ? tracingConfig.getMaxSnapshotsPerSpan()
-                : 10;
+        int maxSnapshotsPerSpan = resolveMaxSnapshotsPerSpan(tracingConfig);
         if (span.getSnapshots().size() >= maxSnapshotsPerSpan) {
             trace.setTruncated(true);
             return;
         }
-
-        byte[] rawPayload = payload != null ? payload : new byte[0];
-        int originalSize = rawPayload.length;
-        int maxSnapshotBytes = (tracingConfig.getMaxSnapshotSizeKb() != null ? tracingConfig.getMaxSnapshotSizeKb()
-                : 256) * 1024;
-        boolean truncated = rawPayload.length > maxSnapshotBytes;
-        if (truncated) {
-            rawPayload = Arrays.copyOf(rawPayload, maxSnapshotBytes);
-            trace.setTruncated(true);
+        int maxSnapshotBytes = resolveMaxSnapshotBytes(tracingConfig);
+        int budgetMb = resolveBudgetMb(tracingConfig);
+        boolean submitted = snapshotEncoder.submit(() -> {
+            try {
+                TraceSnapshot snapshot = encodeSnapshot(role, contentType, payloadSupplier.get(), maxSnapshotBytes);
+                enqueueEncodedSnapshot(sessionId, new EncodedSnapshot(spanContext.getTraceId(),
+                        spanContext.getSpanId(), snapshot, maxSnapshotsPerSpan, budgetMb, System.nanoTime()));
+            } catch (RuntimeException e) { // NOSONAR - snapshot capture is best effort
+                snapshotEncoder.recordDropped(1);
+                log.debug("[Trace] Failed to encode {} snapshot: {}", role, e.getMessage());
+            }
+        });
+        if (!submitted) {
+            log.debug("[Trace] Snapshot encoder is saturated, dropped {} snapshot", role);
         }
-        byte[] compressedPayload = compressionService.compress(rawPayload);
-        TraceSnapshot snapshot = TraceSnapshot.builder().snapshotId(UUID.randomUUID().toString()).role(role)
-                .contentType(contentType).encoding(ZSTD).compressedPayload(compressedPayload)
-                .originalSize((long) originalSize).compressedSize((long) compressedPayload.length).truncated(truncated)
-                .build();
-
-        span.getSnapshots().add(snapshot);
-        trace.setCompressedSnapshotBytes(safeLong(trace.getCompressedSnapshotBytes()) + compressedPayload.length);
-        trace.setUncompressedSnapshotBytes(safeLong(trace.getUncompressedSnapshotBytes()) + originalSize);
-
-        TraceStorageStats stats = session.getTraceStorageStats();
-        stats.setCompressedSnapshotBytes(safeLong(stats.getCompressedSnapshotBytes()) + compressedPayload.length);
-        stats.setUncompressedSnapshotBytes(safeLong(stats.getUncompressedSnapshotBytes()) + originalSize);
+        attachEncodedSnapshots(session);
+    }
 
-        int budgetMb = tracingConfig.getSessionTraceBudgetMb() != null ? tracingConfig.getSessionTraceBudgetMb() : 128;
-        traceBudgetService.enforceBudget(session, budgetMb * BYTES_PER_MB);
+    /**
+     * Attaches snapshots finished by the background encoder to their spans. Called
+     * on every trace mutation and before the session is saved; it never waits for
+     * snapshots that are still being encoded.
+     */
+    public void attachEncodedSnapshots(AgentSession session) {
+        if (encodedSnapshotCount.get() == 0 || session == null || session.getId() == null
+                || session.getTraces() == null) {
+            return;
+        }
+        List<EncodedSnapshot> ready = encodedSnapshots.remove(session.getId());
+        if (ready == null) {
+            return;
+        }
+        encodedSnapshotCount.addAndGet(-ready.size());
+        for (EncodedSnapshot encoded : ready) {
+            TraceRecord trace = findTraceOrNull(session, encoded.traceId());
+            TraceSpanRecord span = findSpanOrNull(trace, encoded.spanId());
+            if (span == null) {
+                snapshotEncoder.recordDropped(1);
+                continue;
+            }
+            if (span.getSnapshots().size() >= encoded.maxSnapshotsPerSpan()) {
+                trace.setTruncated(true);
+                continue;
+            }
+            appendSnapshot(session, trace, span, encoded.snapshot(), encoded.budgetMb());
+        }
     }
 
     public void finishSpan(AgentSession session, TraceContext traceContext, TraceStatusCode statusCode,
@@ -141,6 +211,7 @@ public class TraceService implements TraceOperationsPort {
         if (session == null || traceContext == null) {
             return;
         }
+        attachEncodedSnapshots(session);
         TraceRecord trace = findTrace(session, traceContext.getTraceId());
         TraceSpanRecord span = findSpan(trace, traceContext.getSpanId());
         span.setStatusCode(statusCode);
@@ -156,6 +227,7 @@ public class TraceService implements TraceOperationsPort {
         if (session == null || spanContext == null || eventName == null || eventName.isBlank()) {
             return;
         }
+        attachEncodedSnapshots(session);
         TraceRecord trace = findTrace(session, spanContext.getTraceId());
         TraceSpanRecord span = findSpan(trace, spanContext.getSpanId());
         if (span.getEvents() == null) {
@@ -165,6 +237,90 @@ public class TraceService implements TraceOperationsPort {
                 .attributes(copyAttributes(attributes)).build());
     }
 
+    private boolean isSnapshotCaptureEnabled(AgentSession session, TraceContext spanContext,
+            RuntimeConfig.TracingConfig tracingConfig) {
+        if (session == null || spanContext == null || tracingConfig == null) {
+            return false;
+        }
+        return Boolean.TRUE.equals(tracingConfig.getEnabled())
+                && Boolean.TRUE.equals(tracingConfig.getPayloadSnapshotsEnabled());
+    }
+
+    private TraceSnapshot encodeSnapshot(String role, String contentType, byte[] payload, int maxSnapshotBytes) {
+        byte[] rawPayload = payload != null ? payload : new byte[0];
+        int originalSize = rawPayload.length;
+        boolean truncated = rawPayload.length > maxSnapshotBytes;
+        if (truncated) {
+            rawPayload = Arrays.copyOf(rawPayload, maxSnapshotBytes);
+        }
+        byte[] compressedPayload = compressionService.compress(rawPayload);
+        return TraceSnapshot.builder().snapshotId(UUID.randomUUID().toString()).role(role).contentType(contentType)
+                .encoding(ZSTD).compressedPayload(compressedPayload).originalSize((long) originalSize)
+                .compressedSize((long) compressedPayload.length).truncated(truncated).build();
+    }
+
+    private void appendSnapshot(AgentSession session, TraceRecord trace, TraceSpanRecord span,
+            TraceSnapshot snapshot, int budgetMb) {
+        if (snapshot.isTruncated()) {
+            trace.setTruncated(true);
+        }
+        long compressedSize = safeLong(snapshot.getCompressedSize());
+        long originalSize = safeLong(snapshot.getOriginalSize());
+        span.getSnapshots().add(snapshot);
+        trace.setCompressedSnapshotBytes(safeLong(trace.getCompressedSnapshotBytes()) + compressedSize);
+        trace.setUncompressedSnapshotBytes(safeLong(trace.getUncompressedSnapshotBytes()) + originalSize);
+
+        TraceStorageStats stats = session.getTraceStorageStats();
+        stats.setCompressedSnapshotBytes(safeLong(stats.getCompressedSnapshotBytes()) + compressedSize);
+        stats.setUncompressedSnapshotBytes(safeLong(stats.getUncompressedSnapshotBytes()) + originalSize);
+
+        traceBudgetService.enforceBudget(session, budgetMb * BYTES_PER_MB);
+    }
+
+    private void enqueueEncodedSnapshot(String sessionId, EncodedSnapshot encoded) {
+        if (encodedSnapshotCount.get() >= MAX_ENCODED_SNAPSHOTS) {
+            evictStaleEncodedSnapshots(encoded.encodedAtNanos());
+        }
+        if (encodedSnapshotCount.incrementAndGet() > MAX_ENCODED_SNAPSHOTS) {
+            encodedSnapshotCount.decrementAndGet();
+            snapshotEncoder.recordDropped(1);
+            return;
+        }
+        encodedSnapshots.compute(sessionId, (key, pending) -> {
+            List<EncodedSnapshot> snapshots = pending != null ? pending : new ArrayList<>();
+            snapshots.add(encoded);
+            return snapshots;
+        });
+    }
+
+    // Sessions that never see another trace mutation would otherwise keep their
+    // last snapshots forever and eventually starve every other session.
+    private void evictStaleEncodedSnapshots(long nowNanos) {
+        for (String sessionId : encodedSnapshots.keySet()) {
+            encodedSnapshots.computeIfPresent(sessionId, (key, pending) -> {
+                EncodedSnapshot newest = pending.get(pending.size() - 1);
+                if (nowNanos - newest.encodedAtNanos() < STALE_ENCODED_SNAPSHOT_NANOS) {
+                    return pending;
+                }
+                encodedSnapshotCount.addAndGet(-pending.size());
+                snapshotEncoder.recordDropped(pending.size());
+                return null;
+            });
+        }
+    }
+
+    private int resolveMaxSnapshotsPerSpan(RuntimeConfig.TracingConfig tracingConfig) {
+        return tracingConfig.getMaxSnapshotsPerSpan() != null ? tracingConfig.getMaxSnapshotsPerSpan() : 10;
+    }
+
+    private int resolveMaxSnapshotBytes(RuntimeConfig.TracingConfig tracingConfig) {
+        return (tracingConfig.getMaxSnapshotSizeKb() != null ? tracingConfig.getMaxSnapshotSizeKb() : 256) * 1024;
+    }
+
+    private int resolveBudgetMb(RuntimeConfig.TracingConfig tracingConfig) {
+        return tracingConfig.getSessionTraceBudgetMb() != null ? tracingConfig.getSessionTraceBudgetMb() : 128;
+    }
+
     private void ensureSessionTraceState(AgentSession session) {
         if (session.getTraces() == null) {
             session.setTraces(new ArrayList<>());
@@ -201,6 +357,15 @@ public class TraceService implements TraceOperationsPort {
                 .orElseThrow(() -> new IllegalArgumentException("Trace span not found: " + spanId));
     }
 
+    private TraceSpanRecord findSpanOrNull(TraceRecord trace, String spanId) {
+        if (trace == null || trace.getSpans() == null || spanId == null) {
+            return null;
+        }
+        return trace.getSpans().stream()
+                .filter(spanRecord -> spanRecord != null && spanId.equals(spanRecord.getSpanId())).findFirst()
+                .orElse(null);
+    }
+
     private Map<String, Object> copyAttributes(Map<String, Object> attributes) {
         return attributes != null ? new LinkedHashMap<>(attributes) : new LinkedHashMap<>();
     }
@@ -208,4 +373,8 @@ public class TraceService implements TraceOperationsPort {
     private long safeLong(Long value) {
         return value != null ? value : 0L;
     }
+
+    private record EncodedSnapshot(String traceId, String spanId, TraceSnapshot snapshot, int maxSnapshotsPerSpan,
+            int budgetMb, long encodedAtNanos) {
+    }
 }
@@ -0,0 +1,73 @@
+package me.golemcore.bot.domain.tracing;
+
+import jakarta.annotation.PreDestroy;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded background worker that serializes and compresses payload snapshots
+ * off the turn thread.
+ *
+ * <p>
+ * Callers hand over a task holding a detached copy of the payload. When the
+ * queue is full the task is dropped and counted instead of blocking, so
+ * snapshots can be lost under load but capture never slows a turn down.
+ */
+public class TraceSnapshotEncoder {
+
+    private static final int QUEUE_CAPACITY = 64;
+    private static final long KEEP_ALIVE_SECONDS = 30L;
+
+    private final Executor executor;
+    private final AtomicLong droppedSnapshots = new AtomicLong();
+
+    public TraceSnapshotEncoder() {
+        this(createExecutor());
+    }
+
+    public TraceSnapshotEncoder(Executor executor) {
+        this.executor = executor;
+    }
+
+    boolean submit(Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            droppedSnapshots.incrementAndGet();
+            return false;
+        }
+    }
+
+    void recordDropped(int count) {
+        droppedSnapshots.addAndGet(count);
+    }
+
+    public long getDroppedSnapshots() {
+        return droppedSnapshots.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static ExecutorService createExecutor() {
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "trace-snapshot-encoder");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        threadPool.allowCoreThreadTimeOut(true);
+        return threadPool;
+    }
+}
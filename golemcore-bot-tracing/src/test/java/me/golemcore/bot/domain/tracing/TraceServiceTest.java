@@ -12,7 +12,10 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -24,7 +27,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 class TraceServiceTest {
 
     private TraceService createService() {
-        return new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService());
+        return new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                new TraceSnapshotEncoder(Runnable::run));
     }
 
     private AgentSession createSessionWithTraceState() {
@@ -164,6 +168,117 @@ class TraceServiceTest {
         assertDoesNotThrow(() -> service.appendEvent(session, root, " ", Instant.now(), Map.of()));
     }
 
+    @Test
+    void shouldEncodeAsyncSnapshotOnEncoderAndAttachItOnNextMutation() {
+        List<Runnable> encoderTasks = new ArrayList<>();
+        TraceService service = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                new TraceSnapshotEncoder(encoderTasks::add));
+        AgentSession session = createSessionWithTraceState();
+        session.setId("sess-1");
+        RuntimeConfig.TracingConfig tracingConfig = RuntimeConfig.TracingConfig.builder().enabled(true)
+                .payloadSnapshotsEnabled(true).sessionTraceBudgetMb(128).maxSnapshotSizeKb(64).maxSnapshotsPerSpan(10)
+                .build();
+        AtomicInteger serializations = new AtomicInteger();
+        byte[] payload = "{\"messages\":[]}".getBytes(StandardCharsets.UTF_8);
+
+        TraceContext root = service.startRootTrace(session, "web.request", TraceSpanKind.INGRESS,
+                Instant.parse("2026-03-20T12:00:00Z"), Map.of());
+        TraceContext child = service.startSpan(session, root, "llm.chat", TraceSpanKind.LLM,
+                Instant.parse("2026-03-20T12:00:01Z"), Map.of());
+        service.captureSnapshotAsync(session, child, tracingConfig, "request", "application/json", () -> {
+            serializations.incrementAndGet();
+            return payload;
+        });
+
+        assertEquals(0, serializations.get());
+        assertEquals(1, encoderTasks.size());
+        encoderTasks.get(0).run();
+        assertEquals(1, serializations.get());
+        assertTrue(session.getTraces().get(0).getSpans().get(1).getSnapshots().isEmpty());
+
+        service.finishSpan(session, child, TraceStatusCode.OK, null, Instant.parse("2026-03-20T12:00:02Z"));
+
+        assertEquals(1, session.getTraces().get(0).getSpans().get(1).getSnapshots().size());
+        assertEquals("request", session.getTraces().get(0).getSpans().get(1).getSnapshots().get(0).getRole());
+        assertEquals(payload.length, session.getTraces().get(0).getUncompressedSnapshotBytes());
+        assertEquals(payload.length, session.getTraceStorageStats().getUncompressedSnapshotBytes());
+    }
+
+    @Test
+    void shouldAttachOnlyFinishedSnapshotsWithoutWaitingForTheEncoder() {
+        List<Runnable> encoderTasks = new ArrayList<>();
+        TraceService service = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                new TraceSnapshotEncoder(encoderTasks::add));
+        AgentSession session = createSessionWithTraceState();
+        session.setId("sess-1");
+        RuntimeConfig.TracingConfig tracingConfig = RuntimeConfig.TracingConfig.builder().enabled(true)
+                .payloadSnapshotsEnabled(true).build();
+        byte[] payload = "{\"choices\":[]}".getBytes(StandardCharsets.UTF_8);
+
+        TraceContext root = service.startRootTrace(session, "web.request", TraceSpanKind.INGRESS,
+                Instant.parse("2026-03-20T12:00:00Z"), Map.of());
+        service.captureSnapshotAsync(session, root, tracingConfig, "response", "application/json", () -> payload);
+        service.attachEncodedSnapshots(session);
+
+        assertTrue(session.getTraces().get(0).getSpans().get(0).getSnapshots().isEmpty());
+
+        encoderTasks.get(0).run();
+        service.attachEncodedSnapshots(session);
+
+        assertEquals(1, session.getTraces().get(0).getSpans().get(0).getSnapshots().size());
+        assertEquals(payload.length, session.getTraceStorageStats().getUncompressedSnapshotBytes());
+    }
+
+    @Test
+    void shouldDropAsyncSnapshotWhenEncoderIsSaturated() {
+        TraceSnapshotEncoder encoder = new TraceSnapshotEncoder(task -> {
+            throw new RejectedExecutionException("queue full");
+        });
+        TraceService service = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                encoder);
+        AgentSession session = createSessionWithTraceState();
+        session.setId("sess-1");
+        RuntimeConfig.TracingConfig tracingConfig = RuntimeConfig.TracingConfig.builder().enabled(true)
+                .payloadSnapshotsEnabled(true).build();
+
+        TraceContext root = service.startRootTrace(session, "web.request", TraceSpanKind.INGRESS,
+                Instant.parse("2026-03-20T12:00:00Z"), Map.of());
+        service.captureSnapshotAsync(session, root, tracingConfig, "response", "application/json",
+                () -> new byte[] { 1 });
+        service.attachEncodedSnapshots(session);
+        service.finishSpan(session, root, TraceStatusCode.OK, null, Instant.parse("2026-03-20T12:00:01Z"));
+
+        assertEquals(1L, encoder.getDroppedSnapshots());
+        assertTrue(session.getTraces().get(0).getSpans().get(0).getSnapshots().isEmpty());
+    }
+
+    @Test
+    void shouldDiscardEncodedSnapshotWhenItsTraceWasEvicted() {
+        List<Runnable> encoderTasks = new ArrayList<>();
+        TraceSnapshotEncoder encoder = new TraceSnapshotEncoder(encoderTasks::add);
+        TraceService service = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                encoder);
+        AgentSession session = createSessionWithTraceState();
+        session.setId("sess-1");
+        RuntimeConfig.TracingConfig tracingConfig = RuntimeConfig.TracingConfig.builder().enabled(true)
+                .payloadSnapshotsEnabled(true).build();
+
+        TraceContext first = service.startRootTrace(session, "web.request", TraceSpanKind.INGRESS,
+                Instant.parse("2026-03-20T12:00:00Z"), Map.of(), 1);
+        service.captureSnapshotAsync(session, first, tracingConfig, "request", "application/json",
+                () -> "late".getBytes(StandardCharsets.UTF_8));
+        encoderTasks.get(0).run();
+        session.getTraces().clear();
+        TraceContext second = service.startRootTrace(session, "web.request", TraceSpanKind.INGRESS,
+                Instant.parse("2026-03-20T12:01:00Z"), Map.of(), 1);
+
+        assertEquals(1, session.getTraces().size());
+        assertEquals(second.getTraceId(), session.getTraces().get(0).getTraceId());
+        assertTrue(session.getTraces().get(0).getSpans().get(0).getSnapshots().isEmpty());
+        assertEquals(0L, session.getTraceStorageStats().getUncompressedSnapshotBytes());
+        assertEquals(1L, encoder.getDroppedSnapshots());
+    }
+
     @Test
     void shouldFailFastWhenTraceOrSpanIsMissing() {
         TraceService service = createService();
@@ -0,0 +1,88 @@
+package me.golemcore.bot.domain.tracing;
+
+import me.golemcore.bot.domain.model.AgentSession;
+import me.golemcore.bot.domain.model.RuntimeConfig;
+import me.golemcore.bot.domain.model.trace.TraceContext;
+import me.golemcore.bot.domain.model.trace.TraceSpanKind;
+import me.golemcore.bot.domain.model.trace.TraceStorageStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Measures how long the calling thread spends capturing a large LLM payload
+ * snapshot inline versus handing it to the background encoder. Run with
+ * {@code TRACE_SNAPSHOT_BENCHMARK_ENABLED=true}.
+ */
+@EnabledIfEnvironmentVariable(named = "TRACE_SNAPSHOT_BENCHMARK_ENABLED", matches = "true")
+class TraceSnapshotCaptureBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int ROUNDS = 200;
+
+    private final RuntimeConfig.TracingConfig tracingConfig = RuntimeConfig.TracingConfig.builder().enabled(true)
+            .payloadSnapshotsEnabled(true).sessionTraceBudgetMb(1024).maxSnapshotSizeKb(1024).maxSnapshotsPerSpan(2)
+            .build();
+
+    @Test
+    void shouldReportCallerTimeForInlineAndBackgroundCapture() {
+        String payload = largeRequestPayload();
+        TraceSnapshotEncoder encoder = new TraceSnapshotEncoder();
+        try {
+            TraceService service = new TraceService(new TraceSnapshotCompressionService(), new TraceBudgetService(),
+                    encoder);
+
+            measure(service, payload, false, WARMUP_ROUNDS);
+            measure(service, payload, true, WARMUP_ROUNDS);
+            double inlineMicros = measure(service, payload, false, ROUNDS);
+            double backgroundMicros = measure(service, payload, true, ROUNDS);
+
+            System.out.printf(Locale.ROOT,
+                    "snapshot capture (%d KB): inline=%.0f us/call, background=%.0f us/call, dropped=%d%n",
+                    payload.length() / 1024, inlineMicros, backgroundMicros, encoder.getDroppedSnapshots());
+        } finally {
+            encoder.shutdown();
+        }
+    }
+
+    private double measure(TraceService service, String payload, boolean async, int rounds) {
+        long elapsed = 0L;
+        for (int round = 0; round < rounds; round++) {
+            AgentSession session = AgentSession.builder().id("bench-" + round).messages(new ArrayList<>())
+                    .metadata(new LinkedHashMap<>()).traces(new ArrayList<>())
+                    .traceStorageStats(TraceStorageStats.builder().build()).build();
+            TraceContext root = service.startRootTrace(session, "llm.chat", TraceSpanKind.LLM, Instant.now(),
+                    Map.of());
+            long started = System.nanoTime();
+            if (async) {
+                service.captureSnapshotAsync(session, root, tracingConfig, "request", "application/json",
+                        () -> payload.getBytes(StandardCharsets.UTF_8));
+            } else {
+                service.captureSnapshot(session, root, tracingConfig, "request", "application/json",
+                        payload.getBytes(StandardCharsets.UTF_8));
+            }
+            elapsed += System.nanoTime() - started;
+        }
+        return elapsed / 1_000.0d / rounds;
+    }
+
+    private static String largeRequestPayload() {
+        StringBuilder payload = new StringBuilder("{\"model\":\"openai/gpt-5.4\",\"messages\":[");
+        for (int i = 0; i < 400; i++) {
+            if (i > 0) {
+                payload.append(',');
+            }
+            payload.append("{\"role\":\"").append(i % 2 == 0 ? "user" : "assistant")
+                    .append("\",\"content\":\"Step ").append(i)
+                    .append(": inspect src/main/java/example/Service").append(i)
+                    .append(".java and report failing assertions with line numbers.\"}");
+        }
+        return payload.append("]}").toString();
+    }
+}
@@ -0,0 +1,69 @@
+package me.golemcore.bot.domain.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TraceSnapshotEncoderTest {
+
+    @Test
+    void shouldDropTasksInsteadOfBlockingWhenQueueIsFull() throws InterruptedException {
+        TraceSnapshotEncoder encoder = new TraceSnapshotEncoder();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            assertTrue(encoder.submit(() -> {
+                started.countDown();
+                awaitQuietly(release);
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            int accepted = 0;
+            while (encoder.submit(() -> {
+            })) {
+                accepted++;
+            }
+
+            assertTrue(accepted > 0);
+            assertEquals(1L, encoder.getDroppedSnapshots());
+            assertFalse(encoder.submit(() -> {
+            }));
+            assertEquals(2L, encoder.getDroppedSnapshots());
+        } finally {
+            release.countDown();
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRunTasksOnDaemonWorkerThread() throws InterruptedException {
+        TraceSnapshotEncoder encoder = new TraceSnapshotEncoder();
+        CountDownLatch done = new CountDownLatch(1);
+        Thread[] worker = new Thread[1];
+        try {
+            encoder.submit(() -> {
+                worker[0] = Thread.currentThread();
+                done.countDown();
+            });
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals("trace-snapshot-encoder", worker[0].getName());
+            assertTrue(worker[0].isDaemon());
+        } finally {
+            encoder.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}